@@ -5649,6 +5649,92 @@ TEST_F(DBTest2, RowCacheSnapshot) {
   db_->ReleaseSnapshot(s3);
 }
 
+TEST_F(DBTest2, RowCacheModePerColumnFamily) {
+  Options options = CurrentOptions();
+  options.statistics = ROCKSDB_NAMESPACE::CreateDBStatistics();
+  options.row_cache = NewLRUCache(8 * 8192);
+  options.disable_auto_compactions = true;
+  DestroyAndReopen(options);
+
+  Options misses_options = options;
+  misses_options.row_cache_mode = RowCacheMode::kCacheMisses;
+  Options disabled_options = options;
+  disabled_options.row_cache_mode = RowCacheMode::kDisabled;
+  Options dedicated_options = options;
+  dedicated_options.dedicated_row_cache = NewLRUCache(8 * 8192);
+  CreateColumnFamilies({"misses", "disabled", "dedicated"}, options);
+  ReopenWithColumnFamilies(
+      {kDefaultColumnFamilyName, "misses", "disabled", "dedicated"},
+      {options, misses_options, disabled_options, dedicated_options});
+
+  auto check_counts = [&](int cf, uint64_t hits, uint64_t misses) {
+    uint64_t value;
+    ASSERT_TRUE(db_->GetIntProperty(handles_[cf],
+                                    DB::Properties::kRowCacheHits, &value));
+    ASSERT_EQ(value, hits);
+    ASSERT_TRUE(db_->GetIntProperty(handles_[cf],
+                                    DB::Properties::kRowCacheMisses, &value));
+    ASSERT_EQ(value, misses);
+  };
+
+  for (int cf = 0; cf < 4; cf++) {
+    ASSERT_OK(Put(cf, "a", "v"));
+    ASSERT_OK(Put(cf, "foo", "bar"));
+    ASSERT_OK(Put(cf, "z", "v"));
+    ASSERT_OK(Flush(cf));
+  }
+
+  // misses are not cached by default
+  ASSERT_EQ(Get(0, "foo"), "bar");
+  ASSERT_EQ(Get(0, "foo"), "bar");
+  ASSERT_EQ(Get(0, "absent"), "NOT_FOUND");
+  ASSERT_EQ(Get(0, "absent"), "NOT_FOUND");
+  check_counts(0, 1, 3);
+
+  ASSERT_EQ(Get(1, "foo"), "bar");
+  ASSERT_EQ(Get(1, "foo"), "bar");
+  ASSERT_EQ(Get(1, "absent"), "NOT_FOUND");
+  ASSERT_EQ(Get(1, "absent"), "NOT_FOUND");
+  check_counts(1, 2, 2);
+  ASSERT_EQ(MultiGet({1, 1}, {"b1", "b2"}, nullptr, true),
+            std::vector<std::string>({"NOT_FOUND", "NOT_FOUND"}));
+  ASSERT_EQ(MultiGet({1, 1}, {"b1", "b2"}, nullptr, true),
+            std::vector<std::string>({"NOT_FOUND", "NOT_FOUND"}));
+  check_counts(1, 4, 4);
+
+  // a new write goes to a new file, so a cached miss does not hide it
+  ASSERT_OK(Put(1, "absent", "v"));
+  ASSERT_OK(Flush(1));
+  ASSERT_EQ(Get(1, "absent"), "v");
+  check_counts(1, 4, 5);
+  ASSERT_EQ(Get(1, "absent"), "v");
+  check_counts(1, 5, 5);
+
+  // misses are not cached for a file with range deletions
+  ASSERT_OK(db_->DeleteRange(WriteOptions(), handles_[1], "c", "d"));
+  ASSERT_OK(Put(1, "e", "v"));
+  ASSERT_OK(Flush(1));
+  ASSERT_EQ(Get(1, "dd"), "NOT_FOUND");
+  check_counts(1, 5, 7);
+  ASSERT_EQ(Get(1, "dd"), "NOT_FOUND");
+  check_counts(1, 6, 8);
+
+  const uint64_t hits = TestGetTickerCount(options, ROW_CACHE_HIT);
+  const uint64_t misses = TestGetTickerCount(options, ROW_CACHE_MISS);
+  ASSERT_EQ(Get(2, "foo"), "bar");
+  ASSERT_EQ(Get(2, "foo"), "bar");
+  check_counts(2, 0, 0);
+  ASSERT_EQ(TestGetTickerCount(options, ROW_CACHE_HIT), hits);
+  ASSERT_EQ(TestGetTickerCount(options, ROW_CACHE_MISS), misses);
+
+  const size_t usage = options.row_cache->GetUsage();
+  ASSERT_EQ(Get(3, "foo"), "bar");
+  ASSERT_EQ(Get(3, "foo"), "bar");
+  check_counts(3, 1, 1);
+  ASSERT_EQ(options.row_cache->GetUsage(), usage);
+  ASSERT_GT(dedicated_options.dedicated_row_cache->GetUsage(), 0);
+}
+
 // When DB is reopened with multiple column families, the manifest file
 // is written after the first CF is flushed, and it is written again
 // after each flush. If DB crashes between the flushes, the flushed CF
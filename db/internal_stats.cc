@@ -319,6 +319,8 @@ static const std::string live_blob_file_garbage_size =
 static const std::string blob_cache_capacity = "blob-cache-capacity";
 static const std::string blob_cache_usage = "blob-cache-usage";
 static const std::string blob_cache_pinned_usage = "blob-cache-pinned-usage";
+static const std::string row_cache_hits = "row-cache-hits";
+static const std::string row_cache_misses = "row-cache-misses";
 
 const std::string DB::Properties::kNumFilesAtLevelPrefix =
     rocksdb_prefix + num_files_at_level_prefix;
@@ -435,6 +437,10 @@ const std::string DB::Properties::kBlobCacheUsage =
     rocksdb_prefix + blob_cache_usage;
 const std::string DB::Properties::kBlobCachePinnedUsage =
     rocksdb_prefix + blob_cache_pinned_usage;
+const std::string DB::Properties::kRowCacheHits =
+    rocksdb_prefix + row_cache_hits;
+const std::string DB::Properties::kRowCacheMisses =
+    rocksdb_prefix + row_cache_misses;
 
 const std::string InternalStats::kPeriodicCFStats =
     DB::Properties::kCFStats + ".periodic";
@@ -624,6 +630,11 @@ const UnorderedMap<std::string, DBPropertyInfo>
         {DB::Properties::kBlobCachePinnedUsage,
          {false, nullptr, &InternalStats::HandleBlobCachePinnedUsage, nullptr,
           nullptr}},
+        {DB::Properties::kRowCacheHits,
+         {true, nullptr, &InternalStats::HandleRowCacheHits, nullptr, nullptr}},
+        {DB::Properties::kRowCacheMisses,
+         {true, nullptr, &InternalStats::HandleRowCacheMisses, nullptr,
+          nullptr}},
 };
 
 InternalStats::InternalStats(int num_levels, SystemClock* clock,
@@ -957,6 +968,18 @@ bool InternalStats::HandleBlobCachePinnedUsage(uint64_t* value, DBImpl* /*db*/,
   return false;
 }
 
+bool InternalStats::HandleRowCacheHits(uint64_t* value, DBImpl* /*db*/,
+                                       Version* /*version*/) {
+  *value = cfd_->table_cache()->GetRowCacheHits();
+  return true;
+}
+
+bool InternalStats::HandleRowCacheMisses(uint64_t* value, DBImpl* /*db*/,
+                                         Version* /*version*/) {
+  *value = cfd_->table_cache()->GetRowCacheMisses();
+  return true;
+}
+
 const DBPropertyInfo* GetPropertyInfo(const Slice& property) {
   std::string ppt_name = GetPropertyNameAndArg(property).first.ToString();
   auto ppt_info_iter = InternalStats::ppt_name_to_info.find(ppt_name);
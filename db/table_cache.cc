@@ -60,6 +60,14 @@ void AppendVarint64(IterKey* key, uint64_t v) {
   key->TrimAppend(key->Size(), buf, ptr - buf);
 }
 
+Cache* GetRowCache(const ImmutableOptions& ioptions) {
+  if (ioptions.row_cache_mode == RowCacheMode::kDisabled) {
+    return nullptr;
+  }
+  return ioptions.dedicated_row_cache ? ioptions.dedicated_row_cache.get()
+                                      : ioptions.row_cache.get();
+}
+
 
 }  // anonymous namespace
 
@@ -73,15 +81,16 @@ TableCache::TableCache(const ImmutableOptions& ioptions,
     : ioptions_(ioptions),
       file_options_(*file_options),
       cache_(cache),
+      row_cache_(GetRowCache(ioptions)),
       immortal_tables_(false),
       block_cache_tracer_(block_cache_tracer),
       loader_mutex_(kLoadConcurency),
       io_tracer_(io_tracer),
       db_session_id_(db_session_id) {
-  if (ioptions_.row_cache) {
+  if (row_cache_) {
     // If the same cache is shared by multiple instances, we need to
     // disambiguate its entries.
-    PutVarint64(&row_cache_id_, ioptions_.row_cache->NewId());
+    PutVarint64(&row_cache_id_, row_cache_->NewId());
   }
 }
 
@@ -399,7 +408,8 @@ bool TableCache::GetFromRowCache(const Slice& user_key, IterKey& row_cache_key,
   bool found = false;
 
   row_cache_key.TrimAppend(prefix_size, user_key.data(), user_key.size());
-  RowCacheInterface row_cache{ioptions_.row_cache.get()};
+  RowCacheInterface row_cache{row_cache_};
+  RowCacheStats* stats = row_cache_stats_.Access();
   if (auto row_handle = row_cache.Lookup(row_cache_key.GetUserKey())) {
     // Cleanable routine to release the cache entry
     Cleanable value_pinner;
@@ -417,13 +427,48 @@ bool TableCache::GetFromRowCache(const Slice& user_key, IterKey& row_cache_key,
     replayGetContextLog(*row_cache.Value(row_handle), user_key, get_context,
                         &value_pinner, seq_no);
     RecordTick(ioptions_.stats, ROW_CACHE_HIT);
+    stats->hits.fetch_add(1, std::memory_order_relaxed);
     found = true;
   } else {
     RecordTick(ioptions_.stats, ROW_CACHE_MISS);
+    stats->misses.fetch_add(1, std::memory_order_relaxed);
   }
   return found;
 }
 
+bool TableCache::ShouldCacheRowMiss(const ReadOptions& options, TableReader* t,
+                                    GetContext* get_context) const {
+  if (ioptions_.row_cache_mode != RowCacheMode::kCacheMisses ||
+      t == nullptr || options.read_tier == kBlockCacheTier ||
+      get_context->has_callback()) {
+    // A lookup without I/O may not have read the file, and the visibility
+    // of the entries of the file for a read callback may change
+    return false;
+  }
+  // A cached miss skips the range deletions of the file
+  std::unique_ptr<FragmentedRangeTombstoneIterator> range_del_iter(
+      t->NewRangeTombstoneIterator(options));
+  return range_del_iter == nullptr;
+}
+
+uint64_t TableCache::GetRowCacheHits() const {
+  uint64_t hits = 0;
+  for (size_t i = 0; i < row_cache_stats_.Size(); ++i) {
+    hits += row_cache_stats_.AccessAtCore(i)->hits.load(
+        std::memory_order_relaxed);
+  }
+  return hits;
+}
+
+uint64_t TableCache::GetRowCacheMisses() const {
+  uint64_t misses = 0;
+  for (size_t i = 0; i < row_cache_stats_.Size(); ++i) {
+    misses += row_cache_stats_.AccessAtCore(i)->misses.load(
+        std::memory_order_relaxed);
+  }
+  return misses;
+}
+
 Status TableCache::Get(
     const ReadOptions& options,
     const InternalKeyComparator& internal_comparator,
@@ -440,7 +485,7 @@ Status TableCache::Get(
 
   // Check row cache if enabled.
   // Reuse row_cache_key sequence number when row cache hits.
-  if (ioptions_.row_cache && !get_context->NeedToReadSequence()) {
+  if (row_cache_ && !get_context->NeedToReadSequence()) {
     auto user_key = ExtractUserKey(k);
     uint64_t cache_entry_seq_no =
         CreateRowCacheKeyPrefix(options, fd, k, get_context, row_cache_key);
@@ -496,9 +541,12 @@ Status TableCache::Get(
     }
   }
 
-  // Put the replay log in row cache only if something was found.
-  if (!done && s.ok() && row_cache_entry && !row_cache_entry->empty()) {
-    RowCacheInterface row_cache{ioptions_.row_cache.get()};
+  // Put the replay log in row cache only if something was found, or misses
+  // are cached.
+  if (!done && s.ok() && row_cache_entry &&
+      (!row_cache_entry->empty() ||
+       ShouldCacheRowMiss(options, t, get_context))) {
+    RowCacheInterface row_cache{row_cache_};
     size_t charge = row_cache_entry->capacity() + sizeof(std::string);
     auto row_ptr = new std::string(std::move(*row_cache_entry));
     Status rcs = row_cache.Insert(row_cache_key.GetUserKey(), row_ptr, charge);
@@ -553,7 +601,7 @@ Status TableCache::MultiGetFilter(
   // filtering here, since the filtering needs to happen after the row cache
   // lookup.
   KeyContext& first_key = *mget_range->begin();
-  if (ioptions_.row_cache && !first_key.get_context->NeedToReadSequence()) {
+  if (row_cache_ && !first_key.get_context->NeedToReadSequence()) {
     return Status::NotSupported();
   }
   Status s;
@@ -10,6 +10,7 @@
 // Thread-safe (provides internal synchronization)
 
 #pragma once
+#include <atomic>
 #include <cstdint>
 #include <string>
 #include <vector>
@@ -25,6 +26,7 @@
 #include "rocksdb/table.h"
 #include "table/table_reader.h"
 #include "trace_replay/block_cache_tracer.h"
+#include "util/core_local.h"
 #include "util/coro_utils.h"
 
 namespace ROCKSDB_NAMESPACE {
@@ -47,7 +49,8 @@ class HistogramImpl;
 // Another service provided by TableCache is managing the row cache - if the
 // DB is configured with a row cache, and the lookup key is present in the row
 // cache, lookup is very fast. The row cache is obtained from
-// ioptions.row_cache
+// ioptions.dedicated_row_cache or ioptions.row_cache, unless
+// ioptions.row_cache_mode is RowCacheMode::kDisabled
 class TableCache {
  public:
   TableCache(const ImmutableOptions& ioptions,
@@ -228,6 +231,11 @@ class TableCache {
 
   CacheInterface& get_cache() { return cache_; }
 
+  // Returns the number of lookups of a file in the row cache which found an
+  // entry, and which did not
+  uint64_t GetRowCacheHits() const;
+  uint64_t GetRowCacheMisses() const;
+
   // Capacity of the backing Cache that indicates infinite TableCache capacity.
   // For example when max_open_files is -1 we set the backing Cache to this.
   static const int kInfiniteCapacity = 0x400000;
@@ -275,10 +283,26 @@ class TableCache {
                        size_t prefix_size, GetContext* get_context,
                        SequenceNumber seq_no = kMaxSequenceNumber);
 
+  // Whether a lookup which did not find the key in table t can be cached, see
+  // RowCacheMode::kCacheMisses
+  bool ShouldCacheRowMiss(const ReadOptions& options, TableReader* t,
+                          GetContext* get_context) const;
+
+  struct ALIGN_AS(CACHE_LINE_SIZE) RowCacheStats {
+    std::atomic<uint64_t> hits{0};
+    std::atomic<uint64_t> misses{0};
+#ifndef HAVE_ALIGNED_NEW
+    char padding[CACHE_LINE_SIZE - 2 * sizeof(std::atomic<uint64_t>)];
+#endif
+  };
+
   const ImmutableOptions& ioptions_;
   const FileOptions& file_options_;
   CacheInterface cache_;
+  // nullptr if the row cache is not used
+  Cache* const row_cache_;
   std::string row_cache_id_;
+  CoreLocalArray<RowCacheStats> row_cache_stats_;
   bool immortal_tables_;
   BlockCacheTracer* const block_cache_tracer_;
   Striped<CacheAlignedWrapper<port::Mutex>> loader_mutex_;
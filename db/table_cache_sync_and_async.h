@@ -34,7 +34,7 @@ DEFINE_SYNC_AND_ASYNC(Status, TableCache::MultiGet)
   size_t row_cache_key_prefix_size = 0;
   KeyContext& first_key = *table_range.begin();
   bool lookup_row_cache =
-      ioptions_.row_cache && !first_key.get_context->NeedToReadSequence();
+      row_cache_ && !first_key.get_context->NeedToReadSequence();
 
   // Check row cache if enabled. Since row cache does not currently store
   // sequence numbers, we cannot use it if we need to fetch the sequence.
@@ -97,7 +97,9 @@ DEFINE_SYNC_AND_ASYNC(Status, TableCache::MultiGet)
 
   if (lookup_row_cache) {
     size_t row_idx = 0;
-    RowCacheInterface row_cache{ioptions_.row_cache.get()};
+    RowCacheInterface row_cache{row_cache_};
+    const bool cache_misses =
+        s.ok() && ShouldCacheRowMiss(options, t, first_key.get_context);
 
     for (auto miter = table_range.begin(); miter != table_range.end();
          ++miter) {
@@ -110,8 +112,10 @@ DEFINE_SYNC_AND_ASYNC(Status, TableCache::MultiGet)
       // Compute row cache key.
       row_cache_key.TrimAppend(row_cache_key_prefix_size, user_key.data(),
                                user_key.size());
-      // Put the replay log in row cache only if something was found.
-      if (s.ok() && !row_cache_entry.empty()) {
+      // Put the replay log in row cache only if something was found, or
+      // misses are cached.
+      if (s.ok() && (!row_cache_entry.empty() ||
+                     (cache_misses && miter->s->ok()))) {
         size_t charge = row_cache_entry.capacity() + sizeof(std::string);
         auto row_ptr = new std::string(std::move(row_cache_entry));
         // If row cache is full, it's OK.
@@ -290,6 +290,12 @@ enum class PrepopulateBlobCache : uint8_t {
   kFlushOnly = 0x1,  // Prepopulate blobs during flush only
 };
 
+enum class RowCacheMode : uint8_t {
+  kEnabled = 0x0,      // Cache the rows found in a file
+  kCacheMisses = 0x1,  // Also cache that a key is not found in a file
+  kDisabled = 0x2,     // Do not use the row cache
+};
+
 struct AdvancedColumnFamilyOptions {
   // The maximum number of write buffers that are built up in memory.
   // The default and the minimum number is 2, so that when 1 write buffer
@@ -1238,6 +1244,31 @@ struct AdvancedColumnFamilyOptions {
   // Dynamically changeable through the SetOptions() API.
   uint32_t bottommost_file_compaction_delay = 0;
 
+  // Controls how point lookups of this column family use the row cache, which
+  // is `dedicated_row_cache` if set, otherwise DBOptions::row_cache.
+  //
+  // kDisabled keeps column families which are mostly scanned from polluting a
+  // row cache shared with others. kCacheMisses also caches that a file does
+  // not contain a key, so that repeated lookups of absent keys do not probe
+  // the filters of the file again. As row cache entries are per file, and new
+  // writes go to new files, such entries never become stale. Misses are not
+  // cached for files with range deletions, or for reads with a read callback.
+  //
+  // The hits and misses of the column family are reported by the
+  // "rocksdb.row-cache-hits" and "rocksdb.row-cache-misses" properties.
+  //
+  // Default: kEnabled
+  // Not dynamically changeable, change it requires db restart.
+  RowCacheMode row_cache_mode = RowCacheMode::kEnabled;
+
+  // A row cache used by this column family instead of DBOptions::row_cache.
+  // Giving column families their own row caches bounds the share of the
+  // cached rows of each.
+  //
+  // Default: nullptr (use DBOptions::row_cache)
+  // Not dynamically changeable, change it requires db restart.
+  std::shared_ptr<RowCache> dedicated_row_cache = nullptr;
+
   // Create ColumnFamilyOptions with default values for all fields
   AdvancedColumnFamilyOptions();
   // Create ColumnFamilyOptions from Options
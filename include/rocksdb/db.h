@@ -1267,6 +1267,14 @@ class DB {
     // "rocksdb.blob-cache-pinned-usage" - returns the memory size for the
     //      entries being pinned in blob cache.
     static const std::string kBlobCachePinnedUsage;
+
+    // "rocksdb.row-cache-hits" - returns the number of lookups of a file of
+    //      the column family which found an entry in the row cache.
+    static const std::string kRowCacheHits;
+
+    // "rocksdb.row-cache-misses" - returns the number of lookups of a file of
+    //      the column family which did not find an entry in the row cache.
+    static const std::string kRowCacheMisses;
   };
 
   // DB implementations export properties about their state via this method.
@@ -426,6 +426,29 @@ class Transaction {
       const ReadOptions& options, const std::vector<Slice>& keys,
       std::vector<std::string>* values) = 0;
 
+  // Batched version of GetForUpdate() for keys of a single column family.
+  //
+  // The keys are locked in a single pass in the order of the comparator of
+  // the column family, so that transactions locking overlapping sets of keys
+  // acquire the locks in the same order. For a pessimistic transaction, the
+  // lock timeout of the transaction bounds the time taken to lock all of the
+  // keys rather than each of them. If a key cannot be locked, the statuses
+  // of all of the keys are set to the error and no key is read, while the
+  // keys which were locked stay locked, as with GetForUpdate().
+  //
+  // The keys are then read by a single MultiGet() from this transaction and
+  // the DB.
+  virtual void MultiGetForUpdate(const ReadOptions& /*options*/,
+                                 ColumnFamilyHandle* /*column_family*/,
+                                 const size_t num_keys, const Slice* /*keys*/,
+                                 PinnableSlice* /*values*/, Status* statuses,
+                                 bool /*exclusive*/ = true,
+                                 const bool /*do_validate*/ = true) {
+    for (size_t i = 0; i < num_keys; ++i) {
+      statuses[i] = Status::NotSupported("MultiGetForUpdate");
+    }
+  }
+
   // Returns an iterator that will iterate on all keys in the default
   // column family including both keys in the DB and uncommitted keys in this
   // transaction.
@@ -0,0 +1,65 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractEventListener */
+
+#ifndef _Included_org_rocksdb_AbstractEventListener
+#define _Included_org_rocksdb_AbstractEventListener
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_AbstractEventListener_DISPATCH_BATCH_SIZE
+#define org_rocksdb_AbstractEventListener_DISPATCH_BATCH_SIZE 1024L
+#undef org_rocksdb_AbstractEventListener_DISPATCH_WAIT_MILLIS
+#define org_rocksdb_AbstractEventListener_DISPATCH_WAIT_MILLIS 100LL
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    createNewEventListener
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractEventListener_createNewEventListener
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    createNewAsyncEventListener
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractEventListener_createNewAsyncEventListener
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    dispatchEvents
+ * Signature: (JIJ)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_AbstractEventListener_dispatchEvents
+  (JNIEnv *, jobject, jlong, jint, jlong);
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    stopDispatch
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractEventListener_stopDispatch
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    getDroppedEventCount
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractEventListener_getDroppedEventCount
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractEventListener_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
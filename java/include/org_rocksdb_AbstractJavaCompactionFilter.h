@@ -0,0 +1,31 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractJavaCompactionFilter */
+
+#ifndef _Included_org_rocksdb_AbstractJavaCompactionFilter
+#define _Included_org_rocksdb_AbstractJavaCompactionFilter
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_AbstractJavaCompactionFilter_INT_SIZE
+#define org_rocksdb_AbstractJavaCompactionFilter_INT_SIZE 4L
+/*
+ * Class:     org_rocksdb_AbstractJavaCompactionFilter
+ * Method:    newCompactionFilter0
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractJavaCompactionFilter_newCompactionFilter0
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_rocksdb_AbstractJavaCompactionFilter
+ * Method:    initialize
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractJavaCompactionFilter_initialize
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
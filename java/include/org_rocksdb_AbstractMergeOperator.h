@@ -0,0 +1,31 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractMergeOperator */
+
+#ifndef _Included_org_rocksdb_AbstractMergeOperator
+#define _Included_org_rocksdb_AbstractMergeOperator
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_AbstractMergeOperator_INT_SIZE
+#define org_rocksdb_AbstractMergeOperator_INT_SIZE 4L
+/*
+ * Class:     org_rocksdb_AbstractMergeOperator
+ * Method:    createNewMergeOperator
+ * Signature: (BI)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractMergeOperator_createNewMergeOperator
+  (JNIEnv *, jobject, jbyte, jint);
+
+/*
+ * Class:     org_rocksdb_AbstractMergeOperator
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractMergeOperator_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_AbstractTransactionNotifier */
+
+#ifndef _Included_org_rocksdb_AbstractTransactionNotifier
+#define _Included_org_rocksdb_AbstractTransactionNotifier
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_AbstractTransactionNotifier
+ * Method:    createNewTransactionNotifier
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_AbstractTransactionNotifier_createNewTransactionNotifier
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     org_rocksdb_AbstractTransactionNotifier
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_AbstractTransactionNotifier_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,61 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_Cache */
+
+#ifndef _Included_org_rocksdb_Cache
+#define _Included_org_rocksdb_Cache
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    getUsage
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Cache_getUsage
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    getPinnedUsage
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Cache_getPinnedUsage
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    insert
+ * Signature: (J[B[BIIJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_Cache_insert
+  (JNIEnv *, jclass, jlong, jbyteArray, jbyteArray, jint, jint, jlong);
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    insertDirect
+ * Signature: (J[BLjava/nio/ByteBuffer;IIJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_Cache_insertDirect
+  (JNIEnv *, jclass, jlong, jbyteArray, jobject, jint, jint, jlong);
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    lookup
+ * Signature: (J[B)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Cache_lookup
+  (JNIEnv *, jclass, jlong, jbyteArray);
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    erase
+ * Signature: (J[B)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_Cache_erase
+  (JNIEnv *, jclass, jlong, jbyteArray);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
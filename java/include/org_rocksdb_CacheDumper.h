@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CacheDumper */
+
+#ifndef _Included_org_rocksdb_CacheDumper
+#define _Included_org_rocksdb_CacheDumper
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_CacheDumper
+ * Method:    dump
+ * Signature: (J[JLjava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_CacheDumper_dump
+  (JNIEnv *, jclass, jlong, jlongArray, jstring);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
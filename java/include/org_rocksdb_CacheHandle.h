@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CacheHandle */
+
+#ifndef _Included_org_rocksdb_CacheHandle
+#define _Included_org_rocksdb_CacheHandle
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_CacheHandle
+ * Method:    newValueBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_org_rocksdb_CacheHandle_newValueBuffer
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_CacheHandle
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_CacheHandle_disposeInternalJni
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,21 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CacheLoader */
+
+#ifndef _Included_org_rocksdb_CacheLoader
+#define _Included_org_rocksdb_CacheLoader
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_CacheLoader
+ * Method:    load
+ * Signature: (JBLjava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_org_rocksdb_CacheLoader_load
+  (JNIEnv *, jclass, jlong, jbyte, jstring);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
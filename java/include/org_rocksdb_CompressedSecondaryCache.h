@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_CompressedSecondaryCache */
+
+#ifndef _Included_org_rocksdb_CompressedSecondaryCache
+#define _Included_org_rocksdb_CompressedSecondaryCache
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_CompressedSecondaryCache
+ * Method:    newCompressedSecondaryCache
+ * Signature: (JIZDDB)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_CompressedSecondaryCache_newCompressedSecondaryCache
+  (JNIEnv *, jclass, jlong, jint, jboolean, jdouble, jdouble, jbyte);
+
+/*
+ * Class:     org_rocksdb_CompressedSecondaryCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_CompressedSecondaryCache_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
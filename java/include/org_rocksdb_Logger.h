@@ -0,0 +1,101 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_Logger */
+
+#ifndef _Included_org_rocksdb_Logger
+#define _Included_org_rocksdb_Logger
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_Logger_WITH_OPTIONS
+#define org_rocksdb_Logger_WITH_OPTIONS 0LL
+#undef org_rocksdb_Logger_WITH_DBOPTIONS
+#define org_rocksdb_Logger_WITH_DBOPTIONS 1LL
+#undef org_rocksdb_Logger_DRAIN_BATCH_SIZE
+#define org_rocksdb_Logger_DRAIN_BATCH_SIZE 256L
+#undef org_rocksdb_Logger_DRAIN_WAIT_MILLIS
+#define org_rocksdb_Logger_DRAIN_WAIT_MILLIS 100LL
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    createNewLoggerOptions
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Logger_createNewLoggerOptions
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    createNewLoggerDbOptions
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Logger_createNewLoggerDbOptions
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    setInfoLogLevel
+ * Signature: (JB)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_Logger_setInfoLogLevel
+  (JNIEnv *, jobject, jlong, jbyte);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    infoLogLevel
+ * Signature: (J)B
+ */
+JNIEXPORT jbyte JNICALL Java_org_rocksdb_Logger_infoLogLevel
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    createNewBufferedLoggerOptions
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Logger_createNewBufferedLoggerOptions
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    createNewBufferedLoggerDbOptions
+ * Signature: (JJ)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Logger_createNewBufferedLoggerDbOptions
+  (JNIEnv *, jobject, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    drainMessages
+ * Signature: (J[B[Ljava/lang/String;J)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_Logger_drainMessages
+  (JNIEnv *, jobject, jlong, jbyteArray, jobjectArray, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    stopDrain
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_Logger_stopDrain
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    getDroppedMessageCount
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_Logger_getDroppedMessageCount
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_Logger_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
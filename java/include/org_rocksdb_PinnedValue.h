@@ -0,0 +1,29 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_PinnedValue */
+
+#ifndef _Included_org_rocksdb_PinnedValue
+#define _Included_org_rocksdb_PinnedValue
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_PinnedValue
+ * Method:    newValueBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_org_rocksdb_PinnedValue_newValueBuffer
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_PinnedValue
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_PinnedValue_disposeInternalJni
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
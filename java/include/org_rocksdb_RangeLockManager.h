@@ -0,0 +1,67 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_RangeLockManager */
+
+#ifndef _Included_org_rocksdb_RangeLockManager
+#define _Included_org_rocksdb_RangeLockManager
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_RangeLockManager_ESCALATION_COUNT
+#define org_rocksdb_RangeLockManager_ESCALATION_COUNT 0L
+#undef org_rocksdb_RangeLockManager_LOCK_WAIT_COUNT
+#define org_rocksdb_RangeLockManager_LOCK_WAIT_COUNT 1L
+#undef org_rocksdb_RangeLockManager_CURRENT_LOCK_MEMORY
+#define org_rocksdb_RangeLockManager_CURRENT_LOCK_MEMORY 2L
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    newRangeLockManager
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_RangeLockManager_newRangeLockManager
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_RangeLockManager_disposeInternalJni
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    setMaxLockMemory
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_RangeLockManager_setMaxLockMemory
+  (JNIEnv *, jclass, jlong, jlong);
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    getMaxLockMemory
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_RangeLockManager_getMaxLockMemory
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    getCounters
+ * Signature: (J)[J
+ */
+JNIEXPORT jlongArray JNICALL Java_org_rocksdb_RangeLockManager_getCounters
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    getRangeLockStatusData
+ * Signature: (J)[Lorg/rocksdb/TransactionDB/RangeLockInfo;
+ */
+JNIEXPORT jobjectArray JNICALL Java_org_rocksdb_RangeLockManager_getRangeLockStatusData
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
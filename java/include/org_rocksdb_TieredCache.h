@@ -0,0 +1,37 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_TieredCache */
+
+#ifndef _Included_org_rocksdb_TieredCache
+#define _Included_org_rocksdb_TieredCache
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     org_rocksdb_TieredCache
+ * Method:    newTieredCache
+ * Signature: (JDB)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_TieredCache_newTieredCache
+  (JNIEnv *, jclass, jlong, jdouble, jbyte);
+
+/*
+ * Class:     org_rocksdb_TieredCache
+ * Method:    updateTieredCache
+ * Signature: (JJD)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_TieredCache_updateTieredCache
+  (JNIEnv *, jclass, jlong, jlong, jdouble);
+
+/*
+ * Class:     org_rocksdb_TieredCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_TieredCache_disposeInternal
+  (JNIEnv *, jobject, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,57 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_WalChangeStream */
+
+#ifndef _Included_org_rocksdb_WalChangeStream
+#define _Included_org_rocksdb_WalChangeStream
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_WalChangeStream_TYPE_OFFSET
+#define org_rocksdb_WalChangeStream_TYPE_OFFSET 0L
+#undef org_rocksdb_WalChangeStream_COLUMN_FAMILY_ID_OFFSET
+#define org_rocksdb_WalChangeStream_COLUMN_FAMILY_ID_OFFSET 1L
+#undef org_rocksdb_WalChangeStream_SEQUENCE_NUMBER_OFFSET
+#define org_rocksdb_WalChangeStream_SEQUENCE_NUMBER_OFFSET 5L
+#undef org_rocksdb_WalChangeStream_KEY_LENGTH_OFFSET
+#define org_rocksdb_WalChangeStream_KEY_LENGTH_OFFSET 13L
+#undef org_rocksdb_WalChangeStream_VALUE_LENGTH_OFFSET
+#define org_rocksdb_WalChangeStream_VALUE_LENGTH_OFFSET 17L
+#undef org_rocksdb_WalChangeStream_HEADER_SIZE
+#define org_rocksdb_WalChangeStream_HEADER_SIZE 21L
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    newWalChangeStream
+ * Signature: (JJ[I)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_WalChangeStream_newWalChangeStream
+  (JNIEnv *, jclass, jlong, jlong, jintArray);
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    poll
+ * Signature: (JLjava/nio/ByteBuffer;I)I
+ */
+JNIEXPORT jint JNICALL Java_org_rocksdb_WalChangeStream_poll
+  (JNIEnv *, jclass, jlong, jobject, jint);
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    getNextSequenceNumber
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_org_rocksdb_WalChangeStream_getNextSequenceNumber
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_WalChangeStream_disposeInternalJni
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -0,0 +1,25 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class org_rocksdb_test_TestableEventListener */
+
+#ifndef _Included_org_rocksdb_test_TestableEventListener
+#define _Included_org_rocksdb_test_TestableEventListener
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef org_rocksdb_test_TestableEventListener_DISPATCH_BATCH_SIZE
+#define org_rocksdb_test_TestableEventListener_DISPATCH_BATCH_SIZE 1024L
+#undef org_rocksdb_test_TestableEventListener_DISPATCH_WAIT_MILLIS
+#define org_rocksdb_test_TestableEventListener_DISPATCH_WAIT_MILLIS 100LL
+/*
+ * Class:     org_rocksdb_test_TestableEventListener
+ * Method:    invokeAllCallbacks
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_rocksdb_test_TestableEventListener_invokeAllCallbacks
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
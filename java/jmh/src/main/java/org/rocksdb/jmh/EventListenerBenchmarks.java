@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import static org.rocksdb.util.KVUtils.ba;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.*;
+import org.rocksdb.*;
+import org.rocksdb.AbstractEventListener.EnabledEventCallback;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * The overhead of {@link AbstractEventListener} callbacks.
+ * <p>
+ * Reads bypass the block cache so that every {@link #get()} reads from a
+ * table file, notifying a listener of file I/O on each read.
+ */
+@State(Scope.Benchmark)
+public class EventListenerBenchmarks {
+  @Param({"none", "flush", "file_io"}) String listenerType;
+
+  @Param({"1000"}) int keyCount;
+
+  @Param({"64", "1024"}) int valueSize;
+
+  Path dbDir;
+  Options options;
+  AbstractEventListener listener;
+  FlushOptions flushOptions;
+  RocksDB db;
+  byte[] value;
+  private final AtomicInteger keyIndex = new AtomicInteger();
+  private final AtomicInteger flushIndex = new AtomicInteger();
+
+  /**
+   * The callbacks received by the listener, which have not yet been added to
+   * the {@link CallbackCounters} of a benchmark thread.
+   */
+  final AtomicLong callbacks = new AtomicLong();
+
+  /**
+   * Reports the callbacks received by the listener during each iteration,
+   * alongside the throughput.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class CallbackCounters {
+    /**
+     * The number of callbacks received by the listener.
+     */
+    public long callbacks;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      callbacks = 0;
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void resetCallbacks() {
+    callbacks.set(0);
+  }
+
+  /**
+   * Moves the callbacks received so far to the counters of the calling
+   * thread, as the callbacks are received on the dispatcher thread of the
+   * listener.
+   */
+  private void countCallbacks(final CallbackCounters counters) {
+    if (callbacks.get() != 0) {
+      counters.callbacks += callbacks.getAndSet(0);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    dbDir = Files.createTempDirectory("rocksjava-event-listener-benchmarks");
+
+    options = new Options()
+                  .setCreateIfMissing(true)
+                  .setTableFormatConfig(new BlockBasedTableConfig().setNoBlockCache(true));
+
+    if ("flush".equals(listenerType)) {
+      listener = new AbstractEventListener(EnabledEventCallback.ON_FLUSH_BEGIN,
+          EnabledEventCallback.ON_FLUSH_COMPLETED, EnabledEventCallback.ON_MEMTABLE_SEALED) {
+        @Override
+        public void onFlushBegin(final RocksDB db, final FlushJobInfo flushJobInfo) {
+          callbacks.incrementAndGet();
+        }
+
+        @Override
+        public void onFlushCompleted(final RocksDB db, final FlushJobInfo flushJobInfo) {
+          callbacks.incrementAndGet();
+        }
+
+        @Override
+        public void onMemTableSealed(final MemTableInfo memTableInfo) {
+          callbacks.incrementAndGet();
+        }
+      };
+    } else if ("file_io".equals(listenerType)) {
+      listener = new AbstractEventListener(EnabledEventCallback.SHOULD_BE_NOTIFIED_ON_FILE_IO,
+          EnabledEventCallback.ON_FILE_READ_FINISH, EnabledEventCallback.ON_FILE_WRITE_FINISH) {
+        @Override
+        public boolean shouldBeNotifiedOnFileIO() {
+          return true;
+        }
+
+        @Override
+        public void onFileReadFinish(final FileOperationInfo fileOperationInfo) {
+          callbacks.incrementAndGet();
+        }
+
+        @Override
+        public void onFileWriteFinish(final FileOperationInfo fileOperationInfo) {
+          callbacks.incrementAndGet();
+        }
+      };
+    }
+    if (listener != null) {
+      options.setListeners(Collections.<AbstractEventListener>singletonList(listener));
+    }
+
+    flushOptions = new FlushOptions().setWaitForFlush(true);
+    db = RocksDB.open(options, dbDir.toAbsolutePath().toString());
+
+    value = new byte[valueSize];
+    Arrays.fill(value, (byte) 0x30);
+    for (int i = 0; i < keyCount; i++) {
+      db.put(ba("key" + i), value);
+    }
+    db.flush(flushOptions);
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    db.close();
+    options.close();
+    flushOptions.close();
+    if (listener != null) {
+      listener.close();
+    }
+    FileUtils.delete(dbDir);
+  }
+
+  /**
+   * Takes the next position in the index.
+   */
+  private int next() {
+    int idx;
+    int nextIdx;
+    while (true) {
+      idx = keyIndex.get();
+      nextIdx = idx + 1;
+      if (nextIdx >= keyCount) {
+        nextIdx = 0;
+      }
+
+      if (keyIndex.compareAndSet(idx, nextIdx)) {
+        break;
+      }
+    }
+    return idx;
+  }
+
+  @Benchmark
+  public byte[] get(final CallbackCounters counters) throws RocksDBException {
+    final byte[] result = db.get(ba("key" + next()));
+    countCallbacks(counters);
+    return result;
+  }
+
+  @Benchmark
+  public void putAndFlush(final CallbackCounters counters) throws RocksDBException {
+    db.put(ba("flush" + flushIndex.getAndIncrement()), value);
+    db.flush(flushOptions);
+    countCallbacks(counters);
+  }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import static org.rocksdb.util.KVUtils.ba;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.rocksdb.*;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * Forward and reverse scans with {@link RocksIterator}, comparing the
+ * byte[] accessors with the ByteBuffer accessors.
+ */
+@State(Scope.Benchmark)
+public class IteratorBenchmarks {
+  @Param({"1000", "100000"}) int keyCount;
+
+  @Param({"16", "128"}) int keySize;
+
+  @Param({"64", "1024"}) int valueSize;
+
+  @Param({"10", "1000"}) int scanLength;
+
+  Path dbDir;
+  Options options;
+  ReadOptions readOptions;
+  RocksDB db;
+  private final AtomicInteger keyIndex = new AtomicInteger();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    dbDir = Files.createTempDirectory("rocksjava-iterator-benchmarks");
+
+    options = new Options().setCreateIfMissing(true);
+    readOptions = new ReadOptions();
+    db = RocksDB.open(options, dbDir.toAbsolutePath().toString());
+
+    final byte[] value = new byte[valueSize];
+    Arrays.fill(value, (byte) 0x30);
+    for (int i = 0; i < keyCount; i++) {
+      db.put(key(i), value);
+    }
+
+    try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions);
+    }
+    db.compactRange();
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    db.close();
+    options.close();
+    readOptions.close();
+    FileUtils.delete(dbDir);
+  }
+
+  /**
+   * A key of {@link #keySize} bytes, which sorts in the order of its index.
+   */
+  private byte[] key(final int index) {
+    final byte[] key = new byte[keySize];
+    Arrays.fill(key, (byte) 0x30);
+    final byte[] suffix = ba(String.format("%09d", index));
+    System.arraycopy(suffix, 0, key, keySize - suffix.length, suffix.length);
+    return key;
+  }
+
+  /**
+   * Takes the next start key of a scan.
+   */
+  private byte[] nextStartKey() {
+    int idx;
+    int nextIdx;
+    while (true) {
+      idx = keyIndex.get();
+      nextIdx = idx + scanLength;
+      if (nextIdx >= keyCount) {
+        nextIdx = 0;
+      }
+
+      if (keyIndex.compareAndSet(idx, nextIdx)) {
+        break;
+      }
+    }
+    return key(idx);
+  }
+
+  @State(Scope.Thread)
+  public static class Buffers {
+    ByteBuffer keyBuf;
+    ByteBuffer valueBuf;
+
+    @Setup
+    public void setup(final IteratorBenchmarks benchmarks) {
+      keyBuf = ByteBuffer.allocateDirect(benchmarks.keySize);
+      valueBuf = ByteBuffer.allocateDirect(benchmarks.valueSize);
+    }
+  }
+
+  @Benchmark
+  public void forwardScan(final Blackhole blackhole) {
+    try (final RocksIterator iterator = db.newIterator(readOptions)) {
+      int count = 0;
+      for (iterator.seek(nextStartKey()); iterator.isValid() && count < scanLength;
+           iterator.next()) {
+        blackhole.consume(iterator.key());
+        blackhole.consume(iterator.value());
+        count++;
+      }
+    }
+  }
+
+  @Benchmark
+  public void forwardScanByteBuffer(final Buffers buffers, final Blackhole blackhole) {
+    try (final RocksIterator iterator = db.newIterator(readOptions)) {
+      int count = 0;
+      for (iterator.seek(nextStartKey()); iterator.isValid() && count < scanLength;
+           iterator.next()) {
+        buffers.keyBuf.clear();
+        blackhole.consume(iterator.key(buffers.keyBuf));
+        buffers.valueBuf.clear();
+        blackhole.consume(iterator.value(buffers.valueBuf));
+        count++;
+      }
+    }
+  }
+
+  @Benchmark
+  public void reverseScan(final Blackhole blackhole) {
+    try (final RocksIterator iterator = db.newIterator(readOptions)) {
+      int count = 0;
+      for (iterator.seekForPrev(nextStartKey()); iterator.isValid() && count < scanLength;
+           iterator.prev()) {
+        blackhole.consume(iterator.key());
+        blackhole.consume(iterator.value());
+        count++;
+      }
+    }
+  }
+
+  @Benchmark
+  public void reverseScanByteBuffer(final Buffers buffers, final Blackhole blackhole) {
+    try (final RocksIterator iterator = db.newIterator(readOptions)) {
+      int count = 0;
+      for (iterator.seekForPrev(nextStartKey()); iterator.isValid() && count < scanLength;
+           iterator.prev()) {
+        buffers.keyBuf.clear();
+        blackhole.consume(iterator.key(buffers.keyBuf));
+        buffers.valueBuf.clear();
+        blackhole.consume(iterator.value(buffers.valueBuf));
+        count++;
+      }
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import static org.rocksdb.util.KVUtils.ba;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.*;
+import org.rocksdb.*;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * {@link RocksDB#keyMayExist} compared with {@link RocksDB#get}, for keys
+ * which are present and keys which are absent.
+ */
+@State(Scope.Benchmark)
+public class KeyMayExistBenchmarks {
+  @Param({"present", "absent"}) String keyType;
+
+  @Param({"1000", "100000"}) int keyCount;
+
+  @Param({"false", "true"}) boolean bloomFilter;
+
+  @Param({"64", "1024"}) int valueSize;
+
+  Path dbDir;
+  Options options;
+  ReadOptions readOptions;
+  RocksDB db;
+  private final AtomicInteger keyIndex = new AtomicInteger();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    dbDir = Files.createTempDirectory("rocksjava-keymayexist-benchmarks");
+
+    final BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+    if (bloomFilter) {
+      tableConfig.setFilterPolicy(new BloomFilter(10));
+    }
+    options = new Options().setCreateIfMissing(true).setTableFormatConfig(tableConfig);
+    readOptions = new ReadOptions();
+    db = RocksDB.open(options, dbDir.toAbsolutePath().toString());
+
+    final byte[] value = new byte[valueSize];
+    Arrays.fill(value, (byte) 0x30);
+    for (int i = 0; i < keyCount; i++) {
+      // absent keys are those with odd indexes
+      db.put(ba(String.format("key%09d", i * 2)), value);
+    }
+    try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    db.close();
+    options.close();
+    readOptions.close();
+    FileUtils.delete(dbDir);
+  }
+
+  /**
+   * Takes the next key.
+   */
+  private byte[] nextKey() {
+    int idx;
+    int nextIdx;
+    while (true) {
+      idx = keyIndex.get();
+      nextIdx = idx + 1;
+      if (nextIdx >= keyCount) {
+        nextIdx = 0;
+      }
+
+      if (keyIndex.compareAndSet(idx, nextIdx)) {
+        break;
+      }
+    }
+    return ba(String.format("key%09d", "present".equals(keyType) ? idx * 2 : idx * 2 + 1));
+  }
+
+  @State(Scope.Thread)
+  public static class Buffers {
+    ByteBuffer keyBuf;
+
+    @Setup
+    public void setup() {
+      keyBuf = ByteBuffer.allocateDirect(12);
+    }
+  }
+
+  @Benchmark
+  public boolean keyMayExist() {
+    return db.keyMayExist(nextKey(), null);
+  }
+
+  @Benchmark
+  public boolean keyMayExistWithValue() {
+    final Holder<byte[]> valueHolder = new Holder<>();
+    return db.keyMayExist(nextKey(), valueHolder);
+  }
+
+  @Benchmark
+  public boolean keyMayExistByteBuffer(final Buffers buffers) {
+    buffers.keyBuf.clear();
+    buffers.keyBuf.put(nextKey()).flip();
+    return db.keyMayExist(readOptions, buffers.keyBuf);
+  }
+
+  @Benchmark
+  public byte[] get() throws RocksDBException {
+    return db.get(readOptions, nextKey());
+  }
+}
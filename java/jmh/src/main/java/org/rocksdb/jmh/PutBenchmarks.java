@@ -11,6 +11,7 @@ import org.rocksdb.*;
 import org.rocksdb.util.FileUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -109,4 +110,31 @@ public class PutBenchmarks {
     final int i = counter.next();
     db.put(getColumnFamily(), ba("key" + i), ba("value" + i));
   }
+
+  /**
+   * The direct buffers which a benchmark thread puts from, filled with a
+   * fixed prefix followed by the counter, so that a put does not allocate.
+   */
+  @State(Scope.Thread)
+  public static class Buffers {
+    private static final byte[] KEY_PREFIX = ba("key");
+    private static final byte[] VALUE_PREFIX = ba("value");
+
+    final ByteBuffer keyBuf = ByteBuffer.allocateDirect(32);
+    final ByteBuffer valueBuf = ByteBuffer.allocateDirect(32);
+
+    void fill(final int i) {
+      keyBuf.clear();
+      keyBuf.put(KEY_PREFIX).putInt(i).flip();
+      valueBuf.clear();
+      valueBuf.put(VALUE_PREFIX).putInt(i).flip();
+    }
+  }
+
+  @Benchmark
+  public void putByteBuffer(final ComparatorBenchmarks.Counter counter, final Buffers buffers)
+      throws RocksDBException {
+    buffers.fill(counter.next());
+    db.put(getColumnFamily(), buffers.keyBuf, buffers.valueBuf);
+  }
 }
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import static org.rocksdb.util.KVUtils.ba;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.*;
+import org.rocksdb.*;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * {@link RocksDB#get} with each {@link RowCacheMode}, for skewed mixes of
+ * keys which are present and keys which are absent.
+ */
+@State(Scope.Benchmark)
+public class RowCacheBenchmarks {
+  @Param({"ENABLED", "CACHE_MISSES", "DISABLED"}) String rowCacheMode;
+
+  // the percentage of lookups of absent keys
+  @Param({"10", "50", "90"}) int missPercent;
+
+  // the percentage of lookups of the hottest 1% of the keys
+  @Param({"50", "90"}) int hotPercent;
+
+  @Param({"100000"}) int keyCount;
+
+  @Param({"64", "1024"}) int valueSize;
+
+  Path dbDir;
+  Cache rowCache;
+  Options options;
+  ReadOptions readOptions;
+  RocksDB db;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    dbDir = Files.createTempDirectory("rocksjava-rowcache-benchmarks");
+
+    rowCache = new LRUCache(64 * 1024 * 1024);
+    final BlockBasedTableConfig tableConfig =
+        new BlockBasedTableConfig().setFilterPolicy(new BloomFilter(10));
+    options = new Options()
+                  .setCreateIfMissing(true)
+                  .setTableFormatConfig(tableConfig)
+                  .setRowCache(rowCache)
+                  .setRowCacheMode(RowCacheMode.valueOf(rowCacheMode));
+    readOptions = new ReadOptions();
+    db = RocksDB.open(options, dbDir.toAbsolutePath().toString());
+
+    final byte[] value = new byte[valueSize];
+    Arrays.fill(value, (byte) 0x30);
+    for (int i = 0; i < keyCount; i++) {
+      // absent keys are those with odd indexes
+      db.put(ba(String.format("key%09d", i * 2)), value);
+    }
+    try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    db.close();
+    options.close();
+    readOptions.close();
+    rowCache.close();
+    FileUtils.delete(dbDir);
+  }
+
+  /**
+   * Takes a random key, from the hottest 1% of the keys with probability
+   * hotPercent, and absent with probability missPercent.
+   */
+  private byte[] nextKey() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int hotKeys = Math.max(1, keyCount / 100);
+    final int idx = random.nextInt(100) < hotPercent ? random.nextInt(hotKeys)
+                                                     : random.nextInt(keyCount);
+    final boolean absent = random.nextInt(100) < missPercent;
+    return ba(String.format("key%09d", absent ? idx * 2 + 1 : idx * 2));
+  }
+
+  @Benchmark
+  public byte[] get() throws RocksDBException {
+    return db.get(readOptions, nextKey());
+  }
+}
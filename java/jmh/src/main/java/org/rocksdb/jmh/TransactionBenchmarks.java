@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import static org.rocksdb.util.KVUtils.ba;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.*;
+import org.rocksdb.*;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * Read-modify-write transactions committed with a {@link TransactionDB} or an
+ * {@link OptimisticTransactionDB}, where the contention is controlled by the
+ * number of keys that the transactions choose from.
+ * <p>
+ * Run with several threads, e.g. {@code -t 4}, to measure the cost of
+ * conflicts.
+ */
+@State(Scope.Benchmark)
+public class TransactionBenchmarks {
+  @Param({"pessimistic", "optimistic"}) String transactionDbType;
+
+  @Param({"1", "16", "100000"}) int keyCount;
+
+  @Param({"64", "1024"}) int valueSize;
+
+  Path dbDir;
+  Options options;
+  TransactionDBOptions transactionDbOptions;
+  WriteOptions writeOptions;
+  ReadOptions readOptions;
+  TransactionDB transactionDb;
+  OptimisticTransactionDB optimisticTransactionDb;
+  byte[][] keys;
+  byte[] value;
+
+  /**
+   * Reports the transactions of each iteration which failed to commit,
+   * alongside the throughput.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ConflictCounters {
+    /**
+     * The number of transactions which failed to commit because of a
+     * conflict.
+     */
+    public long conflicts;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      conflicts = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    dbDir = Files.createTempDirectory("rocksjava-transaction-benchmarks");
+
+    options = new Options().setCreateIfMissing(true);
+    writeOptions = new WriteOptions();
+    readOptions = new ReadOptions();
+    if ("pessimistic".equals(transactionDbType)) {
+      transactionDbOptions = new TransactionDBOptions().setTransactionLockTimeout(10);
+      transactionDb =
+          TransactionDB.open(options, transactionDbOptions, dbDir.toAbsolutePath().toString());
+    } else {
+      optimisticTransactionDb =
+          OptimisticTransactionDB.open(options, dbDir.toAbsolutePath().toString());
+    }
+
+    keys = new byte[keyCount][];
+    value = new byte[valueSize];
+    Arrays.fill(value, (byte) 0x30);
+    final RocksDB db = db();
+    for (int i = 0; i < keyCount; i++) {
+      keys[i] = ba("key" + i);
+      db.put(keys[i], value);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    if (transactionDb != null) {
+      transactionDb.close();
+      transactionDbOptions.close();
+    } else {
+      optimisticTransactionDb.close();
+    }
+    options.close();
+    writeOptions.close();
+    readOptions.close();
+    FileUtils.delete(dbDir);
+  }
+
+  private RocksDB db() {
+    return transactionDb != null ? transactionDb : optimisticTransactionDb;
+  }
+
+  private Transaction beginTransaction() {
+    return transactionDb != null ? transactionDb.beginTransaction(writeOptions)
+                                 : optimisticTransactionDb.beginTransaction(writeOptions);
+  }
+
+  private static boolean isConflict(final RocksDBException e) {
+    if (e.getStatus() == null) {
+      return false;
+    }
+    final Status.Code code = e.getStatus().getCode();
+    return code == Status.Code.Busy || code == Status.Code.TimedOut
+        || code == Status.Code.TryAgain;
+  }
+
+  @Benchmark
+  public boolean readModifyWriteCommit(final ConflictCounters counters)
+      throws RocksDBException {
+    final byte[] key = keys[ThreadLocalRandom.current().nextInt(keyCount)];
+    try (final Transaction transaction = beginTransaction()) {
+      try {
+        final byte[] existing = transaction.getForUpdate(readOptions, key, true);
+        transaction.put(key, existing == null ? value : existing);
+        transaction.commit();
+        return true;
+      } catch (final RocksDBException e) {
+        if (!isConflict(e)) {
+          throw e;
+        }
+        counters.conflicts++;
+        transaction.rollback();
+        return false;
+      }
+    }
+  }
+
+  @Benchmark
+  public void writeOnlyCommit(final ConflictCounters counters) throws RocksDBException {
+    final byte[] key = keys[ThreadLocalRandom.current().nextInt(keyCount)];
+    try (final Transaction transaction = beginTransaction()) {
+      try {
+        transaction.put(key, value);
+        transaction.commit();
+      } catch (final RocksDBException e) {
+        if (!isConflict(e)) {
+          throw e;
+        }
+        counters.conflicts++;
+        transaction.rollback();
+      }
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import static org.rocksdb.util.KVUtils.ba;
+import static org.rocksdb.util.KVUtils.keys;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.*;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * Compares the throughput of {@link RocksDB#multiGetAsList(List)} when
+ * issued from a large number of virtual threads, with and without
+ * {@link VirtualThreadOffload} enabled.
+ * <p>
+ * Requires a JVM with virtual thread support (JDK 21 or later).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadOffloadBenchmarks {
+  /**
+   * The number of virtual threads, each of which issues one multiGet per
+   * benchmark invocation.
+   */
+  static final int VIRTUAL_THREADS = 10000;
+
+  @Param({"false", "true"}) boolean offload;
+
+  @Param({"100000"}) int keyCount;
+
+  @Param({"10"}) int multiGetSize;
+
+  @Param({"1000"}) int valueSize;
+
+  Path dbDir;
+  Options options;
+  RocksDB db;
+  ExecutorService virtualThreadExecutor;
+  List<Callable<Integer>> tasks;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+
+    dbDir = Files.createTempDirectory("rocksjava-virtual-thread-offload-benchmarks");
+    options = new Options().setCreateIfMissing(true);
+    db = RocksDB.open(options, dbDir.toAbsolutePath().toString());
+
+    for (int i = 0; i < keyCount; i++) {
+      db.put(ba("key" + i), Arrays.copyOf(ba("value" + i), valueSize));
+    }
+    try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions);
+    }
+
+    if (offload) {
+      VirtualThreadOffload.enable(Runtime.getRuntime().availableProcessors(), VIRTUAL_THREADS);
+    }
+
+    tasks = new ArrayList<>(VIRTUAL_THREADS);
+    for (int i = 0; i < VIRTUAL_THREADS; i++) {
+      tasks.add(new Callable<Integer>() {
+        @Override
+        public Integer call() throws RocksDBException {
+          final int fromKeyIdx = ThreadLocalRandom.current().nextInt(keyCount - multiGetSize);
+          final List<byte[]> values =
+              db.multiGetAsList(keys(fromKeyIdx, fromKeyIdx + multiGetSize));
+          return values.size();
+        }
+      });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    virtualThreadExecutor.shutdown();
+    VirtualThreadOffload.disable();
+    db.close();
+    options.close();
+    FileUtils.delete(dbDir);
+  }
+
+  /**
+   * Reports how the multiGets of each iteration were executed, alongside
+   * the throughput.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class OffloadCounters {
+    /**
+     * The number of multiGets which were offloaded.
+     */
+    public long offloaded;
+
+    /**
+     * The number of multiGets which were executed on their virtual thread
+     * because the offload queue was full.
+     */
+    public long inlineFallback;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      offloaded = 0;
+      inlineFallback = 0;
+    }
+  }
+
+  /**
+   * Runs one multiGet on each of {@link #VIRTUAL_THREADS} virtual threads
+   * concurrently, and waits for all of them to complete.
+   *
+   * @param counters the counters of how the multiGets were executed
+   *
+   * @return the total number of values retrieved
+   */
+  @Benchmark
+  @OperationsPerInvocation(VIRTUAL_THREADS)
+  public int multiGetFromVirtualThreads(final OffloadCounters counters)
+      throws InterruptedException, ExecutionException {
+    final long offloadedBefore = VirtualThreadOffload.offloadedCount();
+    final long inlineFallbackBefore = VirtualThreadOffload.inlineFallbackCount();
+    int total = 0;
+    for (final Future<Integer> result : virtualThreadExecutor.invokeAll(tasks)) {
+      total += result.get();
+    }
+    counters.offloaded += VirtualThreadOffload.offloadedCount() - offloadedBefore;
+    counters.inlineFallback += VirtualThreadOffload.inlineFallbackCount() - inlineFallbackBefore;
+    return total;
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "VirtualThreadOffloadBenchmarks requires a JVM with virtual thread support", e);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder()
+            .include(VirtualThreadOffloadBenchmarks.class.getSimpleName())
+            .forks(1)
+            .jvmArgs("-ea")
+            .warmupIterations(1)
+            .measurementIterations(3)
+            .output("jmh_output")
+            .build();
+
+    new Runner(opt).run();
+  }
+}
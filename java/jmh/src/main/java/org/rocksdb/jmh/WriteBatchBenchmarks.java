@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *  This source code is licensed under both the GPLv2 (found in the
+ *  COPYING file in the root directory) and Apache 2.0 License
+ *  (found in the LICENSE.Apache file in the root directory).
+ */
+package org.rocksdb.jmh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.*;
+import org.rocksdb.*;
+import org.rocksdb.util.FileUtils;
+
+/**
+ * Building a {@link WriteBatch} or {@link WriteBatchWithIndex} and writing it
+ * to the database.
+ */
+@State(Scope.Benchmark)
+public class WriteBatchBenchmarks {
+  @Param({"1", "100", "1000"}) int batchSize;
+
+  @Param({"16", "128"}) int keySize;
+
+  @Param({"64", "1024"}) int valueSize;
+
+  Path dbDir;
+  Options options;
+  WriteOptions writeOptions;
+  RocksDB db;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, RocksDBException {
+    RocksDB.loadLibrary();
+
+    dbDir = Files.createTempDirectory("rocksjava-writebatch-benchmarks");
+
+    options = new Options().setCreateIfMissing(true);
+    writeOptions = new WriteOptions().setDisableWAL(true);
+    db = RocksDB.open(options, dbDir.toAbsolutePath().toString());
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    db.close();
+    options.close();
+    writeOptions.close();
+    FileUtils.delete(dbDir);
+  }
+
+  @State(Scope.Thread)
+  public static class Entries {
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    byte[] key;
+    byte[] value;
+    ByteBuffer keyBuf;
+    ByteBuffer valueBuf;
+    private int threadId;
+    private int count;
+
+    @Setup
+    public void setup(final WriteBatchBenchmarks benchmarks) {
+      threadId = THREAD_IDS.getAndIncrement();
+      key = new byte[benchmarks.keySize];
+      value = new byte[benchmarks.valueSize];
+      Arrays.fill(value, (byte) 0x30);
+      keyBuf = ByteBuffer.allocateDirect(benchmarks.keySize);
+      valueBuf = ByteBuffer.allocateDirect(benchmarks.valueSize);
+      valueBuf.put(value).flip();
+    }
+
+    /**
+     * Updates {@link #key} and {@link #keyBuf} with the next key for this
+     * thread.
+     */
+    void next() {
+      count++;
+      Arrays.fill(key, (byte) 0x30);
+      for (int i = 0, n = count; i < 4; i++, n >>>= 8) {
+        key[key.length - 1 - i] = (byte) n;
+      }
+      key[0] = (byte) threadId;
+      keyBuf.clear();
+      keyBuf.put(key).flip();
+    }
+  }
+
+  @Benchmark
+  public void writeBatch(final Entries entries) throws RocksDBException {
+    try (final WriteBatch writeBatch = new WriteBatch()) {
+      for (int i = 0; i < batchSize; i++) {
+        entries.next();
+        writeBatch.put(entries.key, entries.value);
+      }
+      db.write(writeOptions, writeBatch);
+    }
+  }
+
+  @Benchmark
+  public void writeBatchByteBuffer(final Entries entries) throws RocksDBException {
+    try (final WriteBatch writeBatch = new WriteBatch()) {
+      for (int i = 0; i < batchSize; i++) {
+        entries.next();
+        entries.valueBuf.rewind();
+        writeBatch.put(entries.keyBuf, entries.valueBuf);
+      }
+      db.write(writeOptions, writeBatch);
+    }
+  }
+
+  @Benchmark
+  public void writeBatchWithIndex(final Entries entries) throws RocksDBException {
+    try (final WriteBatchWithIndex writeBatch = new WriteBatchWithIndex()) {
+      for (int i = 0; i < batchSize; i++) {
+        entries.next();
+        writeBatch.put(entries.key, entries.value);
+      }
+      db.write(writeOptions, writeBatch);
+    }
+  }
+
+  @Benchmark
+  public void writeBatchWithIndexOverwriteKey(final Entries entries) throws RocksDBException {
+    try (final WriteBatchWithIndex writeBatch = new WriteBatchWithIndex(true)) {
+      for (int i = 0; i < batchSize; i++) {
+        entries.next();
+        writeBatch.put(entries.key, entries.value);
+      }
+      db.write(writeOptions, writeBatch);
+    }
+  }
+}
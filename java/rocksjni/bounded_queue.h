@@ -0,0 +1,177 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements a bounded queue, which is used to hand over work from
+// RocksDB threads to a Java thread without calling into Java on the RocksDB
+// thread.
+
+#ifndef JAVA_ROCKSJNI_BOUNDED_QUEUE_H_
+#define JAVA_ROCKSJNI_BOUNDED_QUEUE_H_
+
+#include <atomic>
+#include <chrono>
+#include <condition_variable>
+#include <cstdint>
+#include <memory>
+#include <mutex>
+
+#include "rocksdb/rocksdb_namespace.h"
+
+namespace ROCKSDB_NAMESPACE {
+
+// A bounded lock-free queue for many producers and a single consumer, see
+// https://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue
+//
+// Producers never block: an item pushed while the queue is full is dropped
+// and counted. The consumer may wait for items to arrive, in which case the
+// producers take a lock to wake it.
+template <class T>
+class BoundedQueue {
+ public:
+  // capacity is rounded up to a power of two, of at least 2
+  explicit BoundedQueue(size_t capacity)
+      : m_mask(RoundUpCapacity(capacity) - 1),
+        m_cells(new Cell[m_mask + 1]),
+        m_enqueue_pos(0),
+        m_dequeue_pos(0),
+        m_dropped(0),
+        m_consumer_waiting(false),
+        m_stopped(false) {
+    for (size_t i = 0; i <= m_mask; i++) {
+      m_cells[i].sequence.store(i, std::memory_order_relaxed);
+    }
+  }
+
+  // Returns false, and counts the item as dropped, if the queue is full
+  bool Push(T&& item) {
+    Cell* cell;
+    size_t pos = m_enqueue_pos.load(std::memory_order_relaxed);
+    for (;;) {
+      cell = &m_cells[pos & m_mask];
+      const size_t seq = cell->sequence.load(std::memory_order_acquire);
+      const intptr_t diff =
+          static_cast<intptr_t>(seq) - static_cast<intptr_t>(pos);
+      if (diff == 0) {
+        if (m_enqueue_pos.compare_exchange_weak(pos, pos + 1,
+                                                std::memory_order_relaxed)) {
+          break;
+        }
+      } else if (diff < 0) {
+        // the queue is full
+        m_dropped.fetch_add(1, std::memory_order_relaxed);
+        return false;
+      } else {
+        pos = m_enqueue_pos.load(std::memory_order_relaxed);
+      }
+    }
+    cell->item = std::move(item);
+    cell->sequence.store(pos + 1, std::memory_order_release);
+
+    // pairs with the fence in Wait, so that either the consumer sees the new
+    // item, or the producer sees that the consumer is waiting
+    std::atomic_thread_fence(std::memory_order_seq_cst);
+    if (m_consumer_waiting.load(std::memory_order_relaxed)) {
+      std::lock_guard<std::mutex> lock(m_mutex);
+      m_cv.notify_one();
+    }
+    return true;
+  }
+
+  // Returns false if the queue is empty
+  bool Pop(T* item) {
+    Cell* cell;
+    size_t pos = m_dequeue_pos.load(std::memory_order_relaxed);
+    for (;;) {
+      cell = &m_cells[pos & m_mask];
+      const size_t seq = cell->sequence.load(std::memory_order_acquire);
+      const intptr_t diff =
+          static_cast<intptr_t>(seq) - static_cast<intptr_t>(pos + 1);
+      if (diff == 0) {
+        if (m_dequeue_pos.compare_exchange_weak(pos, pos + 1,
+                                                std::memory_order_relaxed)) {
+          break;
+        }
+      } else if (diff < 0) {
+        // the queue is empty
+        return false;
+      } else {
+        pos = m_dequeue_pos.load(std::memory_order_relaxed);
+      }
+    }
+    *item = std::move(cell->item);
+    cell->item = T();
+    cell->sequence.store(pos + m_mask + 1, std::memory_order_release);
+    return true;
+  }
+
+  // Waits up to timeout for the queue to be non-empty, or for Stop to be
+  // called
+  void Wait(std::chrono::milliseconds timeout) {
+    if (timeout.count() <= 0 || m_stopped.load(std::memory_order_acquire)) {
+      return;
+    }
+    std::unique_lock<std::mutex> lock(m_mutex);
+    m_consumer_waiting.store(true, std::memory_order_relaxed);
+    std::atomic_thread_fence(std::memory_order_seq_cst);
+    if (!HasItems() && !m_stopped.load(std::memory_order_acquire)) {
+      m_cv.wait_for(lock, timeout);
+    }
+    m_consumer_waiting.store(false, std::memory_order_relaxed);
+  }
+
+  // Wakes a consumer waiting in Wait, which will no longer wait
+  void Stop() {
+    m_stopped.store(true, std::memory_order_release);
+    std::lock_guard<std::mutex> lock(m_mutex);
+    m_cv.notify_all();
+  }
+
+  // Counts items which the consumer popped but could not deliver as dropped
+  void AddDropped(uint64_t count) {
+    m_dropped.fetch_add(count, std::memory_order_relaxed);
+  }
+
+  // Returns the number of items dropped because the queue was full, or
+  // because the consumer could not deliver them
+  uint64_t GetDroppedCount() const {
+    return m_dropped.load(std::memory_order_relaxed);
+  }
+
+ private:
+  struct Cell {
+    std::atomic<size_t> sequence;
+    T item;
+  };
+
+  static size_t RoundUpCapacity(size_t capacity) {
+    size_t rounded = 2;
+    while (rounded < capacity) {
+      rounded <<= 1;
+    }
+    return rounded;
+  }
+
+  bool HasItems() const {
+    const size_t pos = m_dequeue_pos.load(std::memory_order_relaxed);
+    return m_cells[pos & m_mask].sequence.load(std::memory_order_acquire) ==
+           pos + 1;
+  }
+
+  const size_t m_mask;
+  std::unique_ptr<Cell[]> m_cells;
+  std::atomic<size_t> m_enqueue_pos;
+  std::atomic<size_t> m_dequeue_pos;
+  std::atomic<uint64_t> m_dropped;
+
+  std::mutex m_mutex;
+  std::condition_variable m_cv;
+  std::atomic<bool> m_consumer_waiting;
+  std::atomic<bool> m_stopped;
+};
+
+}  // namespace ROCKSDB_NAMESPACE
+
+#endif  // JAVA_ROCKSJNI_BOUNDED_QUEUE_H_
@@ -8,8 +8,19 @@
 
 #include <jni.h>
 
+#include <array>
+#include <cstring>
+#include <memory>
+#include <string>
+
 #include "include/org_rocksdb_Cache.h"
+#include "include/org_rocksdb_CacheHandle.h"
 #include "rocksdb/advanced_cache.h"
+#include "rocksjni/cplusplus_to_java_convert.h"
+#include "rocksjni/portal.h"
+#include "util/coding.h"
+#include "util/hash.h"
+#include "util/mutexlock.h"
 
 /*
  * Class:     org_rocksdb_Cache
@@ -32,3 +43,244 @@ jlong Java_org_rocksdb_Cache_getPinnedUsage(JNIEnv*, jclass, jlong jhandle) {
       reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(jhandle);
   return static_cast<jlong>(sptr_cache->get()->GetPinnedUsage());
 }
+
+namespace {
+
+// An entry inserted from Java, which is a single allocation of this header,
+// followed by the value, followed by the Java key. The key of the entry in
+// the cache is a 128-bit hash of the Java key, so that Java keys of any
+// length can be used with caches which only support 16 byte keys, and the
+// Java key is compared on lookup to rule out hash collisions.
+struct JavaCacheEntry {
+  size_t value_size;
+  size_t key_size;
+
+  char* value() { return reinterpret_cast<char*>(this + 1); }
+  char* key() { return value() + value_size; }
+
+  static JavaCacheEntry* New(size_t key_size, size_t value_size) {
+    auto* entry = static_cast<JavaCacheEntry*>(
+        ::operator new(sizeof(JavaCacheEntry) + value_size + key_size));
+    entry->value_size = value_size;
+    entry->key_size = key_size;
+    return entry;
+  }
+};
+
+void DeleteJavaCacheEntry(ROCKSDB_NAMESPACE::Cache::ObjectPtr obj,
+                          ROCKSDB_NAMESPACE::MemoryAllocator* /*allocator*/) {
+  ::operator delete(obj);
+}
+
+const ROCKSDB_NAMESPACE::Cache::CacheItemHelper kJavaCacheItemHelper(
+    ROCKSDB_NAMESPACE::CacheEntryRole::kMisc, &DeleteJavaCacheEntry);
+
+constexpr size_t kJavaCacheKeySize = 16;
+
+void JavaCacheKey(const char* key, size_t key_size,
+                  char (&cache_key)[kJavaCacheKeySize]) {
+  uint64_t hi;
+  uint64_t lo;
+  ROCKSDB_NAMESPACE::Hash2x64(key, key_size, &hi, &lo);
+  ROCKSDB_NAMESPACE::EncodeFixed64(cache_key, hi);
+  ROCKSDB_NAMESPACE::EncodeFixed64(cache_key + 8, lo);
+}
+
+// A handle to an entry looked up from Java, which keeps the cache alive
+// until the handle is released, even if the Java Cache is closed first
+struct JavaCacheHandle {
+  std::shared_ptr<ROCKSDB_NAMESPACE::Cache> cache;
+  ROCKSDB_NAMESPACE::Cache::Handle* handle;
+
+  JavaCacheEntry* entry() const {
+    return static_cast<JavaCacheEntry*>(cache->Value(handle));
+  }
+};
+
+// Serializes the inserts from Java of the same cache key, as replacing an
+// entry of a cache which does not replace on insert is an erase followed by
+// an insert
+constexpr size_t kJavaCacheInsertStripes = 64;
+std::array<ROCKSDB_NAMESPACE::port::Mutex, kJavaCacheInsertStripes>
+    java_cache_insert_mutexes;
+
+ROCKSDB_NAMESPACE::port::Mutex* JavaCacheInsertMutex(
+    const char (&cache_key)[kJavaCacheKeySize]) {
+  return &java_cache_insert_mutexes[ROCKSDB_NAMESPACE::DecodeFixed64(
+                                        cache_key) %
+                                    kJavaCacheInsertStripes];
+}
+
+// Copies the Java key into the buffer, returns false if an exception
+// is pending
+bool GetJavaKey(JNIEnv* env, jbyteArray jkey, std::string* key) {
+  const jsize key_size = env->GetArrayLength(jkey);
+  key->resize(static_cast<size_t>(key_size));
+  env->GetByteArrayRegion(jkey, 0, key_size,
+                          reinterpret_cast<jbyte*>(&(*key)[0]));
+  return !env->ExceptionCheck();
+}
+
+// Takes ownership of the entry, whose value has been filled in
+void InsertJavaCacheEntry(JNIEnv* env, jlong jhandle, jbyteArray jkey,
+                          JavaCacheEntry* entry, jlong jcharge) {
+  env->GetByteArrayRegion(jkey, 0, static_cast<jsize>(entry->key_size),
+                          reinterpret_cast<jbyte*>(entry->key()));
+  if (env->ExceptionCheck()) {
+    DeleteJavaCacheEntry(entry, nullptr);
+    return;
+  }
+  char cache_key[kJavaCacheKeySize];
+  JavaCacheKey(entry->key(), entry->key_size, cache_key);
+
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(jhandle);
+  const ROCKSDB_NAMESPACE::Slice key(cache_key, kJavaCacheKeySize);
+  ROCKSDB_NAMESPACE::Status s;
+  if (strcmp((*sptr_cache)->Name(), "LRUCache") == 0) {
+    // LRUCache replaces an existing entry on insert
+    s = (*sptr_cache)->Insert(key, entry, &kJavaCacheItemHelper,
+                              static_cast<size_t>(jcharge));
+  } else {
+    // HyperClockCache keeps an existing entry on insert
+    ROCKSDB_NAMESPACE::MutexLock l(JavaCacheInsertMutex(cache_key));
+    (*sptr_cache)->Erase(key);
+    s = (*sptr_cache)->Insert(key, entry, &kJavaCacheItemHelper,
+                              static_cast<size_t>(jcharge));
+  }
+  if (!s.ok()) {
+    // the cache only takes ownership of the entry on success
+    DeleteJavaCacheEntry(entry, nullptr);
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+  }
+}
+
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    insert
+ * Signature: (J[B[BIIJ)V
+ */
+void Java_org_rocksdb_Cache_insert(JNIEnv* env, jclass, jlong jhandle,
+                                   jbyteArray jkey, jbyteArray jval,
+                                   jint jvalue_off, jint jvalue_len,
+                                   jlong jcharge) {
+  JavaCacheEntry* entry =
+      JavaCacheEntry::New(static_cast<size_t>(env->GetArrayLength(jkey)),
+                          static_cast<size_t>(jvalue_len));
+  env->GetByteArrayRegion(jval, jvalue_off, jvalue_len,
+                          reinterpret_cast<jbyte*>(entry->value()));
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    DeleteJavaCacheEntry(entry, nullptr);
+    return;
+  }
+  InsertJavaCacheEntry(env, jhandle, jkey, entry, jcharge);
+}
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    insertDirect
+ * Signature: (J[BLjava/nio/ByteBuffer;IIJ)V
+ */
+void Java_org_rocksdb_Cache_insertDirect(JNIEnv* env, jclass, jlong jhandle,
+                                         jbyteArray jkey, jobject jval,
+                                         jint jvalue_off, jint jvalue_len,
+                                         jlong jcharge) {
+  char* value = static_cast<char*>(env->GetDirectBufferAddress(jval));
+  if (value == nullptr) {
+    ROCKSDB_NAMESPACE::IllegalArgumentExceptionJni::ThrowNew(
+        env,
+        "Invalid value argument (argument is not a valid direct ByteBuffer)");
+    return;
+  }
+  JavaCacheEntry* entry =
+      JavaCacheEntry::New(static_cast<size_t>(env->GetArrayLength(jkey)),
+                          static_cast<size_t>(jvalue_len));
+  memcpy(entry->value(), value + jvalue_off, static_cast<size_t>(jvalue_len));
+  InsertJavaCacheEntry(env, jhandle, jkey, entry, jcharge);
+}
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    lookup
+ * Signature: (J[B)J
+ */
+jlong Java_org_rocksdb_Cache_lookup(JNIEnv* env, jclass, jlong jhandle,
+                                    jbyteArray jkey) {
+  std::string key;
+  if (!GetJavaKey(env, jkey, &key)) {
+    return 0;
+  }
+  char cache_key[kJavaCacheKeySize];
+  JavaCacheKey(key.data(), key.size(), cache_key);
+
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(jhandle);
+  ROCKSDB_NAMESPACE::Cache* cache = sptr_cache->get();
+  ROCKSDB_NAMESPACE::Cache::Handle* handle =
+      cache->BasicLookup(ROCKSDB_NAMESPACE::Slice(cache_key, kJavaCacheKeySize),
+                         nullptr /* stats */);
+  if (handle == nullptr) {
+    return 0;
+  }
+  // the cache key may also be the key of an entry of a database, or of
+  // another Java key with the same hash
+  if (cache->GetCacheItemHelper(handle) != &kJavaCacheItemHelper) {
+    cache->Release(handle);
+    return 0;
+  }
+  auto* entry = static_cast<JavaCacheEntry*>(cache->Value(handle));
+  if (entry->key_size != key.size() ||
+      memcmp(entry->key(), key.data(), key.size()) != 0) {
+    cache->Release(handle);
+    return 0;
+  }
+  auto* java_handle = new JavaCacheHandle{*sptr_cache, handle};
+  return GET_CPLUSPLUS_POINTER(java_handle);
+}
+
+/*
+ * Class:     org_rocksdb_Cache
+ * Method:    erase
+ * Signature: (J[B)V
+ */
+void Java_org_rocksdb_Cache_erase(JNIEnv* env, jclass, jlong jhandle,
+                                  jbyteArray jkey) {
+  std::string key;
+  if (!GetJavaKey(env, jkey, &key)) {
+    return;
+  }
+  char cache_key[kJavaCacheKeySize];
+  JavaCacheKey(key.data(), key.size(), cache_key);
+
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(jhandle);
+  (*sptr_cache)->Erase(ROCKSDB_NAMESPACE::Slice(cache_key, kJavaCacheKeySize));
+}
+
+/*
+ * Class:     org_rocksdb_CacheHandle
+ * Method:    newValueBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+jobject Java_org_rocksdb_CacheHandle_newValueBuffer(JNIEnv* env, jclass,
+                                                    jlong jhandle) {
+  JavaCacheEntry* entry =
+      reinterpret_cast<JavaCacheHandle*>(jhandle)->entry();
+  return env->NewDirectByteBuffer(entry->value(),
+                                  static_cast<jlong>(entry->value_size));
+}
+
+/*
+ * Class:     org_rocksdb_CacheHandle
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_CacheHandle_disposeInternalJni(JNIEnv*, jclass,
+                                                     jlong jhandle) {
+  auto* java_handle = reinterpret_cast<JavaCacheHandle*>(jhandle);
+  java_handle->cache->Release(java_handle->handle);
+  delete java_handle;
+}
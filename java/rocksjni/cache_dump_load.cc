@@ -0,0 +1,237 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::CacheDumper and ROCKSDB_NAMESPACE::CacheDumpedLoader.
+
+#include <jni.h>
+
+#include <memory>
+#include <string>
+#include <vector>
+
+#include "include/org_rocksdb_CacheDumper.h"
+#include "include/org_rocksdb_CacheLoader.h"
+#include "rocksdb/cache.h"
+#include "rocksdb/db.h"
+#include "rocksdb/file_system.h"
+#include "rocksdb/secondary_cache.h"
+#include "rocksdb/system_clock.h"
+#include "rocksdb/table.h"
+#include "rocksdb/utilities/cache_dump_load.h"
+#include "rocksjni/portal.h"
+#include "util/compression.h"
+
+namespace {
+
+// The loader inserts the uncompressed blocks of the dump with InsertSaved,
+// which CompressedSecondaryCache ignores for uncompressed data. So the blocks
+// are compressed here, and inserted as blocks of a lower tier, which the block
+// cache uncompresses when they are promoted to it.
+class CompressingSecondaryCache
+    : public ROCKSDB_NAMESPACE::SecondaryCacheWrapper {
+ public:
+  CompressingSecondaryCache(
+      std::shared_ptr<ROCKSDB_NAMESPACE::SecondaryCache> target,
+      ROCKSDB_NAMESPACE::CompressionType compression_type)
+      : SecondaryCacheWrapper(std::move(target)),
+        compression_type_(compression_type) {}
+
+  const char* Name() const override { return "CompressingSecondaryCache"; }
+
+  ROCKSDB_NAMESPACE::Status InsertSaved(
+      const ROCKSDB_NAMESPACE::Slice& key,
+      const ROCKSDB_NAMESPACE::Slice& saved,
+      ROCKSDB_NAMESPACE::CompressionType type,
+      ROCKSDB_NAMESPACE::CacheTier source) override {
+    if (type != ROCKSDB_NAMESPACE::kNoCompression) {
+      return target()->InsertSaved(key, saved, type, source);
+    }
+    ROCKSDB_NAMESPACE::CompressionOptions compression_opts;
+    ROCKSDB_NAMESPACE::CompressionContext compression_context(
+        compression_type_, compression_opts);
+    ROCKSDB_NAMESPACE::CompressionInfo compression_info(
+        compression_opts, compression_context,
+        ROCKSDB_NAMESPACE::CompressionDict::GetEmptyDict(), compression_type_,
+        0 /* sample_for_compression */);
+    std::string compressed;
+    // the compress format version of block based tables of format version 2
+    // or later
+    if (!ROCKSDB_NAMESPACE::CompressData(saved, compression_info,
+                                         2 /* compress_format_version */,
+                                         &compressed)) {
+      return ROCKSDB_NAMESPACE::Status::Corruption("Error compressing block");
+    }
+    // the secondary cache only admits a block on its second insert
+    for (int i = 0; i < 2; i++) {
+      ROCKSDB_NAMESPACE::Status s = target()->InsertSaved(
+          key, compressed, compression_type_,
+          ROCKSDB_NAMESPACE::CacheTier::kVolatileTier);
+      if (!s.ok()) {
+        return s;
+      }
+    }
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+ private:
+  const ROCKSDB_NAMESPACE::CompressionType compression_type_;
+};
+
+// Returns the compression type if it is supported, or else the first
+// supported compression type, or kNoCompression if there is none
+ROCKSDB_NAMESPACE::CompressionType SupportedCompressionType(
+    ROCKSDB_NAMESPACE::CompressionType compression_type) {
+  if (compression_type != ROCKSDB_NAMESPACE::kNoCompression &&
+      ROCKSDB_NAMESPACE::CompressionTypeSupported(compression_type)) {
+    return compression_type;
+  }
+  for (const ROCKSDB_NAMESPACE::CompressionType supported :
+       {ROCKSDB_NAMESPACE::kLZ4Compression,
+        ROCKSDB_NAMESPACE::kSnappyCompression,
+        ROCKSDB_NAMESPACE::kZSTD, ROCKSDB_NAMESPACE::kZlibCompression}) {
+    if (ROCKSDB_NAMESPACE::CompressionTypeSupported(supported)) {
+      return supported;
+    }
+  }
+  return ROCKSDB_NAMESPACE::kNoCompression;
+}
+
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_CacheDumper
+ * Method:    dump
+ * Signature: (J[JLjava/lang/String;)V
+ */
+void Java_org_rocksdb_CacheDumper_dump(JNIEnv* env, jclass, jlong jcache_handle,
+                                       jlongArray jdb_handles, jstring jpath) {
+  jboolean has_exception = JNI_FALSE;
+  const std::string path = ROCKSDB_NAMESPACE::JniUtil::copyStdString(
+      env, jpath, &has_exception);
+  if (has_exception == JNI_TRUE) {
+    // exception occurred
+    return;
+  }
+  const jsize num_dbs = env->GetArrayLength(jdb_handles);
+  std::vector<jlong> db_handles(static_cast<size_t>(num_dbs));
+  env->GetLongArrayRegion(jdb_handles, 0, num_dbs, db_handles.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return;
+  }
+  std::vector<ROCKSDB_NAMESPACE::DB*> dbs;
+  dbs.reserve(db_handles.size());
+  for (const jlong db_handle : db_handles) {
+    dbs.push_back(reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(db_handle));
+  }
+
+  // the dump is written to a temporary file, which then replaces the dump
+  // file, so that an incomplete dump is never loaded
+  const std::string tmp_path = path + ".tmp";
+  const std::shared_ptr<ROCKSDB_NAMESPACE::FileSystem>& fs =
+      ROCKSDB_NAMESPACE::FileSystem::Default();
+  std::unique_ptr<ROCKSDB_NAMESPACE::CacheDumpWriter> writer;
+  ROCKSDB_NAMESPACE::IOStatus io_s =
+      ROCKSDB_NAMESPACE::NewToFileCacheDumpWriter(
+          fs, ROCKSDB_NAMESPACE::FileOptions(), tmp_path, &writer);
+  if (!io_s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, io_s);
+    return;
+  }
+
+  ROCKSDB_NAMESPACE::CacheDumpOptions dump_options;
+  dump_options.clock = ROCKSDB_NAMESPACE::SystemClock::Default().get();
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(
+          jcache_handle);
+  std::unique_ptr<ROCKSDB_NAMESPACE::CacheDumper> dumper;
+  ROCKSDB_NAMESPACE::Status s = ROCKSDB_NAMESPACE::NewDefaultCacheDumper(
+      dump_options, *sptr_cache, std::move(writer), &dumper);
+  if (s.ok()) {
+    s = dumper->SetDumpFilter(dbs);
+  }
+  if (s.ok()) {
+    s = dumper->DumpCacheEntriesToWriter();
+  }
+  // close the temporary file before it is renamed or deleted
+  dumper.reset();
+  if (s.ok()) {
+    s = fs->RenameFile(tmp_path, path, ROCKSDB_NAMESPACE::IOOptions(),
+                       nullptr /* dbg */);
+  }
+  if (!s.ok()) {
+    fs->DeleteFile(tmp_path, ROCKSDB_NAMESPACE::IOOptions(), nullptr /* dbg */)
+        .PermitUncheckedError();
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+  }
+}
+
+/*
+ * Class:     org_rocksdb_CacheLoader
+ * Method:    load
+ * Signature: (JBLjava/lang/String;)Z
+ */
+jboolean Java_org_rocksdb_CacheLoader_load(JNIEnv* env, jclass,
+                                           jlong jsecondary_cache_handle,
+                                           jbyte jcompression_type,
+                                           jstring jpath) {
+  jboolean has_exception = JNI_FALSE;
+  const std::string path = ROCKSDB_NAMESPACE::JniUtil::copyStdString(
+      env, jpath, &has_exception);
+  if (has_exception == JNI_TRUE) {
+    // exception occurred
+    return JNI_FALSE;
+  }
+
+  const std::shared_ptr<ROCKSDB_NAMESPACE::FileSystem>& fs =
+      ROCKSDB_NAMESPACE::FileSystem::Default();
+  ROCKSDB_NAMESPACE::IOStatus io_s =
+      fs->FileExists(path, ROCKSDB_NAMESPACE::IOOptions(), nullptr /* dbg */);
+  if (io_s.IsNotFound()) {
+    return JNI_FALSE;
+  }
+  std::unique_ptr<ROCKSDB_NAMESPACE::CacheDumpReader> reader;
+  if (io_s.ok()) {
+    io_s = ROCKSDB_NAMESPACE::NewFromFileCacheDumpReader(
+        fs, ROCKSDB_NAMESPACE::FileOptions(), path, &reader);
+  }
+  if (!io_s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, io_s);
+    return JNI_FALSE;
+  }
+
+  const ROCKSDB_NAMESPACE::CompressionType compression_type =
+      SupportedCompressionType(
+          ROCKSDB_NAMESPACE::CompressionTypeJni::toCppCompressionType(
+              jcompression_type));
+  if (compression_type == ROCKSDB_NAMESPACE::kNoCompression) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+        env, ROCKSDB_NAMESPACE::Status::NotSupported(
+                 "Loading a cache dump requires a supported compression"));
+    return JNI_FALSE;
+  }
+
+  ROCKSDB_NAMESPACE::CacheDumpOptions dump_options;
+  dump_options.clock = ROCKSDB_NAMESPACE::SystemClock::Default().get();
+  auto* sptr_secondary_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::SecondaryCache>*>(
+          jsecondary_cache_handle);
+  std::unique_ptr<ROCKSDB_NAMESPACE::CacheDumpedLoader> loader;
+  ROCKSDB_NAMESPACE::Status s = ROCKSDB_NAMESPACE::NewDefaultCacheDumpedLoader(
+      dump_options, ROCKSDB_NAMESPACE::BlockBasedTableOptions(),
+      std::make_shared<CompressingSecondaryCache>(*sptr_secondary_cache,
+                                                  compression_type),
+      std::move(reader), &loader);
+  if (s.ok()) {
+    s = loader->RestoreCacheEntriesToSecondaryCache();
+  }
+  if (!s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+    return JNI_FALSE;
+  }
+  return JNI_TRUE;
+}
@@ -11,6 +11,9 @@
 #include <jni.h>
 
 #include "include/org_rocksdb_AbstractCompactionFilter.h"
+#include "include/org_rocksdb_AbstractJavaCompactionFilter.h"
+#include "rocksjni/compaction_filter_jnicallback.h"
+#include "rocksjni/cplusplus_to_java_convert.h"
 
 // <editor-fold desc="org.rocksdb.AbstractCompactionFilter">
 
@@ -27,3 +30,32 @@ void Java_org_rocksdb_AbstractCompactionFilter_disposeInternal(JNIEnv* /*env*/,
   delete cf;
 }
 // </editor-fold>
+
+// <editor-fold desc="org.rocksdb.AbstractJavaCompactionFilter">
+
+/*
+ * Class:     org_rocksdb_AbstractJavaCompactionFilter
+ * Method:    newCompactionFilter0
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_AbstractJavaCompactionFilter_newCompactionFilter0(
+    JNIEnv* /*env*/, jclass /*jcls*/) {
+  ROCKSDB_NAMESPACE::CompactionFilter* cf =
+      new ROCKSDB_NAMESPACE::CompactionFilterJniCallback();
+  return GET_CPLUSPLUS_POINTER(cf);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractJavaCompactionFilter
+ * Method:    initialize
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractJavaCompactionFilter_initialize(JNIEnv* env,
+                                                              jobject jobj,
+                                                              jlong handle) {
+  auto* cf = static_cast<ROCKSDB_NAMESPACE::CompactionFilterJniCallback*>(
+      reinterpret_cast<ROCKSDB_NAMESPACE::CompactionFilter*>(handle));
+  assert(cf != nullptr);
+  cf->Initialize(env, jobj);
+}
+// </editor-fold>
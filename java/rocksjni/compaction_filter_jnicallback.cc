@@ -0,0 +1,247 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::CompactionFilter.
+
+#include "rocksjni/compaction_filter_jnicallback.h"
+
+#include <cstring>
+
+#include "rocksjni/portal.h"
+
+namespace ROCKSDB_NAMESPACE {
+CompactionFilterJniCallback::CompactionFilterJniCallback()
+    : m_jvm(nullptr),
+      m_jcallback_obj(nullptr),
+      m_jfilter_mid(nullptr),
+      m_jreused_new_value_fid(nullptr),
+      m_jbytebuffer_clazz(nullptr),
+      m_tl_reused_buf(
+          new ThreadLocalPtr(&ReusedBufFactory::DeleteThreadLocal)) {}
+
+void CompactionFilterJniCallback::Initialize(JNIEnv* env,
+                                             jobject jcompaction_filter) {
+  // Note: jcompaction_filter may be accessed by multiple threads,
+  // so we ref the jvm not the env
+  const jint rs = env->GetJavaVM(&m_jvm);
+  if (rs != JNI_OK) {
+    // exception thrown
+    return;
+  }
+
+  // Note: The name of a CompactionFilter will not change during it's
+  // lifetime, so we cache it in a global var
+  jmethodID jname_mid = AbstractJavaCompactionFilterJni::getNameMethodId(env);
+  if (jname_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+  jstring js_name = (jstring)env->CallObjectMethod(jcompaction_filter, jname_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown
+    return;
+  }
+  jboolean has_exception = JNI_FALSE;
+  m_name = JniUtil::copyString(env, js_name,
+                               &has_exception);  // also releases js_name
+  if (has_exception == JNI_TRUE) {
+    // exception thrown
+    return;
+  }
+
+  m_jfilter_mid = AbstractJavaCompactionFilterJni::getFilterInternalMethodId(env);
+  if (m_jfilter_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  jmethodID jnew_reused_buffer_mid =
+      AbstractJavaCompactionFilterJni::getNewReusedBufferMethodId(env);
+  if (jnew_reused_buffer_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  jfieldID jreused_buffer_fid =
+      AbstractJavaCompactionFilterJni::getReusedBufferBufferFieldId(env);
+  if (jreused_buffer_fid == nullptr) {
+    // exception thrown: NoSuchFieldException or OutOfMemoryError
+    return;
+  }
+
+  m_jreused_new_value_fid =
+      AbstractJavaCompactionFilterJni::getReusedBufferNewValueFieldId(env);
+  if (m_jreused_new_value_fid == nullptr) {
+    // exception thrown: NoSuchFieldException or OutOfMemoryError
+    return;
+  }
+
+  // cache the ByteBuffer class as we may use it for new values from heap
+  // buffers
+  m_jbytebuffer_clazz =
+      static_cast<jclass>(env->NewGlobalRef(ByteBufferJni::getJClass(env)));
+  if (m_jbytebuffer_clazz == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return;
+  }
+
+  // Note: we access the Java filter across multiple method calls, so we
+  // create a global ref, this is done last so that a partially initialized
+  // filter keeps every entry
+  m_jcallback_obj = env->NewGlobalRef(jcompaction_filter);
+  m_reused_buf_factory.Initialize(m_jvm, m_jcallback_obj,
+                                  jnew_reused_buffer_mid, jreused_buffer_fid);
+}
+
+CompactionFilterJniCallback::~CompactionFilterJniCallback() {
+  // releases the reused buffers of all threads
+  m_tl_reused_buf.reset();
+
+  if (m_jvm == nullptr) {
+    // never initialized
+    return;
+  }
+
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = JniUtil::getJniEnv(m_jvm, &attached_thread);
+  assert(env != nullptr);
+
+  if (m_jbytebuffer_clazz != nullptr) {
+    env->DeleteGlobalRef(m_jbytebuffer_clazz);
+  }
+
+  if (m_jcallback_obj != nullptr) {
+    env->DeleteGlobalRef(m_jcallback_obj);
+  }
+
+  JniUtil::releaseJniEnv(m_jvm, attached_thread);
+}
+
+const char* CompactionFilterJniCallback::Name() const {
+  return m_name == nullptr ? "CompactionFilterJniCallback" : m_name.get();
+}
+
+CompactionFilter::Decision CompactionFilterJniCallback::FilterV2(
+    int level, const Slice& key, ValueType value_type,
+    const Slice& existing_value, std::string* new_value,
+    std::string* /*skip_until*/) const {
+  if (m_jcallback_obj == nullptr) {
+    // the Java filter could not be bound
+    return Decision::kKeep;
+  }
+  if (value_type == ValueType::kBlobIndex) {
+    // as the default FilterV2, blob references are not passed to the filter
+    return Decision::kKeep;
+  }
+
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = JniUtil::getJniEnv(m_jvm, &attached_thread);
+  assert(env != nullptr);
+
+  // header of native-order ints: key length and value length
+  const size_t header_size = sizeof(int32_t) * 2;
+  const size_t required = header_size + key.size() + existing_value.size();
+  const bool reuse = required <= kMaxReusedBufferSize;
+
+  ReusedBuf* reused_buf =
+      reuse ? m_reused_buf_factory.GetThreadLocal(
+                  env, m_tl_reused_buf.get(), required,
+                  kInitialReusedBufferSize, kMaxReusedBufferSize)
+            : m_reused_buf_factory.New(env, required, false);
+
+  Decision decision = Decision::kKeep;
+  if (reused_buf == nullptr) {
+    // exception occurred
+    env->ExceptionDescribe();  // print out exception to stderr
+  } else {
+    int32_t* header = reinterpret_cast<int32_t*>(reused_buf->buf);
+    header[0] = static_cast<int32_t>(key.size());
+    header[1] = static_cast<int32_t>(existing_value.size());
+    char* data = reused_buf->buf + header_size;
+    memcpy(data, key.data(), key.size());
+    memcpy(data + key.size(), existing_value.data(), existing_value.size());
+
+    // matches the byte values of org.rocksdb.AbstractCompactionFilter.ValueType
+    const jbyte jvalue_type =
+        value_type == ValueType::kMergeOperand ? 0x1 : 0x0;
+    const jbyte jdecision =
+        env->CallByteMethod(m_jcallback_obj, m_jfilter_mid, reused_buf->jreused,
+                            static_cast<jint>(level), jvalue_type);
+    if (env->ExceptionCheck()) {
+      // exception thrown from CallByteMethod
+      env->ExceptionDescribe();  // print out exception to stderr
+    } else {
+      // matches the byte values of org.rocksdb.AbstractCompactionFilter.Decision
+      switch (jdecision) {
+        case 0x1:
+          decision = Decision::kRemove;
+          break;
+        case 0x2:
+          if (CopyNewValue(env, reused_buf, new_value)) {
+            decision = Decision::kChangeValue;
+          }
+          break;
+        case 0x3:
+          decision = Decision::kPurge;
+          break;
+        default:
+          decision = Decision::kKeep;
+          break;
+      }
+    }
+
+    if (!reuse) {
+      ReusedBufFactory::Delete(env, reused_buf);
+    }
+  }
+
+  JniUtil::releaseJniEnv(m_jvm, attached_thread);
+
+  return decision;
+}
+
+bool CompactionFilterJniCallback::CopyNewValue(JNIEnv* env,
+                                               ReusedBuf* reused_buf,
+                                               std::string* new_value) const {
+  jobject jnew_value =
+      env->GetObjectField(reused_buf->jreused, m_jreused_new_value_fid);
+  if (jnew_value == nullptr) {
+    return false;
+  }
+
+  // the Java side records the position and length of the new value in the
+  // first two ints of the buffer
+  int32_t new_value_pos;
+  int32_t new_value_len;
+  memcpy(&new_value_pos, reused_buf->buf, sizeof(int32_t));
+  memcpy(&new_value_len, reused_buf->buf + sizeof(int32_t), sizeof(int32_t));
+
+  bool copied = false;
+  const char* new_value_buf =
+      static_cast<const char*>(env->GetDirectBufferAddress(jnew_value));
+  if (new_value_buf != nullptr) {
+    new_value->assign(new_value_buf + new_value_pos, new_value_len);
+    copied = true;
+  } else {
+    // the new value is a heap buffer
+    jbyteArray jarray = ByteBufferJni::array(env, jnew_value, m_jbytebuffer_clazz);
+    if (jarray != nullptr) {
+      new_value->resize(static_cast<size_t>(new_value_len));
+      env->GetByteArrayRegion(jarray, new_value_pos, new_value_len,
+                              reinterpret_cast<jbyte*>(&(*new_value)[0]));
+      copied = !env->ExceptionCheck();
+      env->DeleteLocalRef(jarray);
+    }
+    if (!copied) {
+      env->ExceptionDescribe();  // print out exception to stderr
+    }
+  }
+  env->DeleteLocalRef(jnew_value);
+  return copied;
+}
+
+}  // namespace ROCKSDB_NAMESPACE
@@ -0,0 +1,66 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::CompactionFilter.
+
+#ifndef JAVA_ROCKSJNI_COMPACTION_FILTER_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_COMPACTION_FILTER_JNICALLBACK_H_
+
+#include <jni.h>
+
+#include <memory>
+#include <string>
+
+#include "rocksdb/compaction_filter.h"
+#include "rocksjni/reused_buffer.h"
+#include "util/thread_local.h"
+
+namespace ROCKSDB_NAMESPACE {
+
+/**
+ * This class acts as a bridge between C++ and Java. The methods in this
+ * class will be called back from the RocksDB storage engine (C++) which
+ * then calls back to the appropriate Java method; this enables compaction
+ * filters to be implemented in Java.
+ *
+ * Unlike other callbacks this does not extend JniCallback, as the native
+ * object is created before the Java AbstractJavaCompactionFilter it is
+ * bound to by Initialize.
+ *
+ * Each entry is copied into a direct buffer owned by a Java
+ * AbstractJavaCompactionFilter.ReusedBuffer, which is reused per thread and
+ * grows as needed up to kMaxReusedBufferSize.
+ */
+class CompactionFilterJniCallback : public CompactionFilter {
+ public:
+  static constexpr size_t kInitialReusedBufferSize = 4 * 1024;
+  static constexpr size_t kMaxReusedBufferSize = 1024 * 1024;
+
+  CompactionFilterJniCallback();
+  ~CompactionFilterJniCallback() override;
+  void Initialize(JNIEnv* env, jobject jcompaction_filter);
+  const char* Name() const override;
+  Decision FilterV2(int level, const Slice& key, ValueType value_type,
+                    const Slice& existing_value, std::string* new_value,
+                    std::string* skip_until) const override;
+
+ private:
+  bool CopyNewValue(JNIEnv* env, ReusedBuf* reused_buf,
+                    std::string* new_value) const;
+  JavaVM* m_jvm;
+  jobject m_jcallback_obj;
+  std::unique_ptr<const char[]> m_name;
+  jmethodID m_jfilter_mid;
+  jfieldID m_jreused_new_value_fid;
+  jclass m_jbytebuffer_clazz;
+  ReusedBufFactory m_reused_buf_factory;
+  std::unique_ptr<ThreadLocalPtr> m_tl_reused_buf;
+};
+
+}  // namespace ROCKSDB_NAMESPACE
+
+#endif  // JAVA_ROCKSJNI_COMPACTION_FILTER_JNICALLBACK_H_
@@ -0,0 +1,52 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::CompressedSecondaryCache.
+
+#include <jni.h>
+
+#include "include/org_rocksdb_CompressedSecondaryCache.h"
+#include "rocksdb/cache.h"
+#include "rocksdb/secondary_cache.h"
+#include "rocksjni/cplusplus_to_java_convert.h"
+#include "rocksjni/portal.h"
+
+/*
+ * Class:     org_rocksdb_CompressedSecondaryCache
+ * Method:    newCompressedSecondaryCache
+ * Signature: (JIZDDB)J
+ */
+jlong Java_org_rocksdb_CompressedSecondaryCache_newCompressedSecondaryCache(
+    JNIEnv* /*env*/, jclass /*jcls*/, jlong jcapacity, jint jnum_shard_bits,
+    jboolean jstrict_capacity_limit, jdouble jhigh_pri_pool_ratio,
+    jdouble jlow_pri_pool_ratio, jbyte jcompression_type) {
+  ROCKSDB_NAMESPACE::CompressedSecondaryCacheOptions cache_options(
+      static_cast<size_t>(jcapacity), static_cast<int>(jnum_shard_bits),
+      static_cast<bool>(jstrict_capacity_limit),
+      static_cast<double>(jhigh_pri_pool_ratio),
+      static_cast<double>(jlow_pri_pool_ratio));
+  cache_options.compression_type =
+      ROCKSDB_NAMESPACE::CompressionTypeJni::toCppCompressionType(
+          jcompression_type);
+  auto* sptr_secondary_cache =
+      new std::shared_ptr<ROCKSDB_NAMESPACE::SecondaryCache>(
+          cache_options.MakeSharedSecondaryCache());
+  return GET_CPLUSPLUS_POINTER(sptr_secondary_cache);
+}
+
+/*
+ * Class:     org_rocksdb_CompressedSecondaryCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_CompressedSecondaryCache_disposeInternal(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle) {
+  auto* sptr_secondary_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::SecondaryCache>*>(
+          jhandle);
+  delete sptr_secondary_cache;  // delete std::shared_ptr
+}
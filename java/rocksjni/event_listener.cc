@@ -42,3 +42,71 @@ void Java_org_rocksdb_AbstractEventListener_disposeInternal(JNIEnv*, jobject,
   delete reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::EventListener>*>(
       jhandle);
 }
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    createNewAsyncEventListener
+ * Signature: (JJ)J
+ */
+jlong Java_org_rocksdb_AbstractEventListener_createNewAsyncEventListener(
+    JNIEnv* env, jobject jobj, jlong jenabled_event_callback_values,
+    jlong jqueue_capacity) {
+  auto enabled_event_callbacks =
+      ROCKSDB_NAMESPACE::EnabledEventCallbackJni::toCppEnabledEventCallbacks(
+          jenabled_event_callback_values);
+  auto* sptr_event_listener =
+      new std::shared_ptr<ROCKSDB_NAMESPACE::EventListener>(
+          new ROCKSDB_NAMESPACE::AsyncEventListenerJniCallback(
+              env, jobj, enabled_event_callbacks,
+              static_cast<size_t>(jqueue_capacity)));
+  return GET_CPLUSPLUS_POINTER(sptr_event_listener);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    dispatchEvents
+ * Signature: (JIJ)I
+ */
+jint Java_org_rocksdb_AbstractEventListener_dispatchEvents(
+    JNIEnv*, jobject, jlong jhandle, jint jmax_events, jlong jtimeout_millis) {
+  auto* sptr_event_listener =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::EventListener>*>(
+          jhandle);
+  auto* async_event_listener =
+      static_cast<ROCKSDB_NAMESPACE::AsyncEventListenerJniCallback*>(
+          sptr_event_listener->get());
+  return static_cast<jint>(async_event_listener->Dispatch(
+      static_cast<size_t>(jmax_events),
+      std::chrono::milliseconds(jtimeout_millis)));
+}
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    stopDispatch
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractEventListener_stopDispatch(JNIEnv*, jobject,
+                                                         jlong jhandle) {
+  auto* sptr_event_listener =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::EventListener>*>(
+          jhandle);
+  static_cast<ROCKSDB_NAMESPACE::AsyncEventListenerJniCallback*>(
+      sptr_event_listener->get())
+      ->StopDispatch();
+}
+
+/*
+ * Class:     org_rocksdb_AbstractEventListener
+ * Method:    getDroppedEventCount
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_AbstractEventListener_getDroppedEventCount(
+    JNIEnv*, jobject, jlong jhandle) {
+  auto* sptr_event_listener =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::EventListener>*>(
+          jhandle);
+  return static_cast<jlong>(
+      static_cast<ROCKSDB_NAMESPACE::AsyncEventListenerJniCallback*>(
+          sptr_event_listener->get())
+          ->GetDroppedEventCount());
+}
@@ -499,4 +499,223 @@ void EventListenerJniCallback::OnFileOperation(const jmethodID& mid,
 
   CleanupCallbackInvocation(env, attached_thread, {&jop_info});
 }
+
+AsyncEventListenerJniCallback::AsyncEventListenerJniCallback(
+    JNIEnv* env, jobject jevent_listener,
+    const std::set<EnabledEventCallback>& enabled_event_callbacks,
+    size_t queue_capacity)
+    : EventListenerJniCallback(env, jevent_listener, enabled_event_callbacks),
+      m_queue(queue_capacity),
+      m_notify_on_file_io(m_on_file_read_finish_mid != nullptr ||
+                          m_on_file_write_finish_mid != nullptr ||
+                          m_on_file_flush_finish_mid != nullptr ||
+                          m_on_file_sync_finish_mid != nullptr ||
+                          m_on_file_range_sync_finish_mid != nullptr ||
+                          m_on_file_truncate_finish_mid != nullptr ||
+                          m_on_file_close_finish_mid != nullptr) {}
+
+AsyncEventListenerJniCallback::~AsyncEventListenerJniCallback() {}
+
+void AsyncEventListenerJniCallback::OnFlushCompleted(
+    DB* db, const FlushJobInfo& flush_job_info) {
+  if (m_on_flush_completed_proxy_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, db, flush_job_info]() {
+    EventListenerJniCallback::OnFlushCompleted(db, flush_job_info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnFlushBegin(
+    DB* db, const FlushJobInfo& flush_job_info) {
+  if (m_on_flush_begin_proxy_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, db, flush_job_info]() {
+    EventListenerJniCallback::OnFlushBegin(db, flush_job_info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnTableFileDeleted(
+    const TableFileDeletionInfo& info) {
+  if (m_on_table_file_deleted_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, info]() {
+    EventListenerJniCallback::OnTableFileDeleted(info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnCompactionBegin(
+    DB* db, const CompactionJobInfo& ci) {
+  if (m_on_compaction_begin_proxy_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, db, ci]() {
+    EventListenerJniCallback::OnCompactionBegin(db, ci);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnCompactionCompleted(
+    DB* db, const CompactionJobInfo& ci) {
+  if (m_on_compaction_completed_proxy_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, db, ci]() {
+    EventListenerJniCallback::OnCompactionCompleted(db, ci);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnTableFileCreated(
+    const TableFileCreationInfo& info) {
+  if (m_on_table_file_created_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, info]() {
+    EventListenerJniCallback::OnTableFileCreated(info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnTableFileCreationStarted(
+    const TableFileCreationBriefInfo& info) {
+  if (m_on_table_file_creation_started_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, info]() {
+    EventListenerJniCallback::OnTableFileCreationStarted(info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnMemTableSealed(const MemTableInfo& info) {
+  if (m_on_mem_table_sealed_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, info]() { EventListenerJniCallback::OnMemTableSealed(info); });
+}
+
+void AsyncEventListenerJniCallback::OnExternalFileIngested(
+    DB* db, const ExternalFileIngestionInfo& info) {
+  if (m_on_external_file_ingested_proxy_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, db, info]() {
+    EventListenerJniCallback::OnExternalFileIngested(db, info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnStallConditionsChanged(
+    const WriteStallInfo& info) {
+  if (m_on_stall_conditions_changed_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, info]() {
+    EventListenerJniCallback::OnStallConditionsChanged(info);
+  });
+}
+
+void AsyncEventListenerJniCallback::OnFileReadFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_read_finish_mid, info);
+}
+
+void AsyncEventListenerJniCallback::OnFileWriteFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_write_finish_mid, info);
+}
+
+void AsyncEventListenerJniCallback::OnFileFlushFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_flush_finish_mid, info);
+}
+
+void AsyncEventListenerJniCallback::OnFileSyncFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_sync_finish_mid, info);
+}
+
+void AsyncEventListenerJniCallback::OnFileRangeSyncFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_range_sync_finish_mid, info);
+}
+
+void AsyncEventListenerJniCallback::OnFileTruncateFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_truncate_finish_mid, info);
+}
+
+void AsyncEventListenerJniCallback::OnFileCloseFinish(
+    const FileOperationInfo& info) {
+  EnqueueFileOperation(m_on_file_close_finish_mid, info);
+}
+
+bool AsyncEventListenerJniCallback::ShouldBeNotifiedOnFileIO() {
+  // answered without calling into Java, as this is called from the threads
+  // which open files
+  return m_notify_on_file_io;
+}
+
+void AsyncEventListenerJniCallback::OnErrorRecoveryCompleted(
+    Status old_bg_error) {
+  if (m_on_error_recovery_completed_mid == nullptr) {
+    return;
+  }
+  Enqueue([this, old_bg_error]() {
+    EventListenerJniCallback::OnErrorRecoveryCompleted(old_bg_error);
+  });
+}
+
+size_t AsyncEventListenerJniCallback::Dispatch(
+    size_t max_events, std::chrono::milliseconds timeout) {
+  size_t dispatched = 0;
+  Event event;
+  while (dispatched < max_events && m_queue.Pop(&event)) {
+    event();
+    event = nullptr;
+    dispatched++;
+  }
+  if (dispatched == 0) {
+    m_queue.Wait(timeout);
+  }
+  return dispatched;
+}
+
+void AsyncEventListenerJniCallback::StopDispatch() { m_queue.Stop(); }
+
+uint64_t AsyncEventListenerJniCallback::GetDroppedEventCount() const {
+  return m_queue.GetDroppedCount();
+}
+
+void AsyncEventListenerJniCallback::Enqueue(Event&& event) {
+  m_queue.Push(std::move(event));
+}
+
+void AsyncEventListenerJniCallback::EnqueueFileOperation(
+    const jmethodID& mid, const FileOperationInfo& info) {
+  if (mid == nullptr) {
+    return;
+  }
+
+  // FileOperationInfo refers to the path and start time, so copy them to be
+  // able to rebuild it when the event is dispatched
+  const jmethodID event_mid = mid;
+  const FileOperationType type = info.type;
+  const std::string path = info.path;
+  const Temperature temperature = info.temperature;
+  const uint64_t offset = info.offset;
+  const size_t length = info.length;
+  const FileOperationInfo::Duration duration = info.duration;
+  const FileOperationInfo::SystemTimePoint start_ts = info.start_ts;
+  const Status status = info.status;
+  Enqueue([this, event_mid, type, path, temperature, offset, length, duration,
+           start_ts, status]() {
+    const FileOperationInfo::StartTimePoint start(
+        start_ts, FileOperationInfo::SteadyTimePoint());
+    FileOperationInfo op_info(type, path, start,
+                              FileOperationInfo::FinishTimePoint(duration),
+                              status, temperature);
+    op_info.offset = offset;
+    op_info.length = length;
+    OnFileOperation(event_mid, op_info);
+  });
+}
 }  // namespace ROCKSDB_NAMESPACE
@@ -11,10 +11,13 @@
 
 #include <jni.h>
 
+#include <chrono>
+#include <functional>
 #include <memory>
 #include <set>
 
 #include "rocksdb/listener.h"
+#include "rocksjni/bounded_queue.h"
 #include "rocksjni/jnicallback.h"
 
 namespace ROCKSDB_NAMESPACE {
@@ -79,7 +82,7 @@ class EventListenerJniCallback : public JniCallback, public EventListener {
                                     Status bg_error, bool* auto_recovery);
   virtual void OnErrorRecoveryCompleted(Status old_bg_error);
 
- private:
+ protected:
   inline void InitCallbackMethodId(jmethodID& mid, EnabledEventCallback eec,
                                    JNIEnv* env,
                                    jmethodID (*get_id)(JNIEnv* env));
@@ -117,6 +120,64 @@ class EventListenerJniCallback : public JniCallback, public EventListener {
   jmethodID m_on_error_recovery_completed_mid;
 };
 
+// An EventListenerJniCallback which does not call into Java on the thread
+// which raised the event. Instead a copy of the event is added to a
+// BoundedQueue, and the events are later delivered to Java in batches by a
+// Java dispatcher thread calling Dispatch. Events which arrive when the queue
+// is full are dropped and counted.
+//
+// OnBackgroundError, OnColumnFamilyHandleDeletionStarted and
+// OnErrorRecoveryBegin are still delivered synchronously, as the C++ API
+// expects them to complete, or to return a result, before it continues.
+class AsyncEventListenerJniCallback : public EventListenerJniCallback {
+ public:
+  AsyncEventListenerJniCallback(
+      JNIEnv* env, jobject jevent_listener,
+      const std::set<EnabledEventCallback>& enabled_event_callbacks,
+      size_t queue_capacity);
+  virtual ~AsyncEventListenerJniCallback();
+  virtual void OnFlushCompleted(DB* db, const FlushJobInfo& flush_job_info);
+  virtual void OnFlushBegin(DB* db, const FlushJobInfo& flush_job_info);
+  virtual void OnTableFileDeleted(const TableFileDeletionInfo& info);
+  virtual void OnCompactionBegin(DB* db, const CompactionJobInfo& ci);
+  virtual void OnCompactionCompleted(DB* db, const CompactionJobInfo& ci);
+  virtual void OnTableFileCreated(const TableFileCreationInfo& info);
+  virtual void OnTableFileCreationStarted(
+      const TableFileCreationBriefInfo& info);
+  virtual void OnMemTableSealed(const MemTableInfo& info);
+  virtual void OnExternalFileIngested(DB* db,
+                                      const ExternalFileIngestionInfo& info);
+  virtual void OnStallConditionsChanged(const WriteStallInfo& info);
+  virtual void OnFileReadFinish(const FileOperationInfo& info);
+  virtual void OnFileWriteFinish(const FileOperationInfo& info);
+  virtual void OnFileFlushFinish(const FileOperationInfo& info);
+  virtual void OnFileSyncFinish(const FileOperationInfo& info);
+  virtual void OnFileRangeSyncFinish(const FileOperationInfo& info);
+  virtual void OnFileTruncateFinish(const FileOperationInfo& info);
+  virtual void OnFileCloseFinish(const FileOperationInfo& info);
+  virtual bool ShouldBeNotifiedOnFileIO();
+  virtual void OnErrorRecoveryCompleted(Status old_bg_error);
+
+  // Delivers up to max_events queued events to Java on the calling thread.
+  // If there are no queued events, waits up to timeout for one to arrive,
+  // or until StopDispatch is called. Returns the number of events delivered.
+  size_t Dispatch(size_t max_events, std::chrono::milliseconds timeout);
+  // Wakes a thread waiting in Dispatch, which will no longer wait
+  void StopDispatch();
+  // Returns the number of events dropped because the queue was full
+  uint64_t GetDroppedEventCount() const;
+
+ private:
+  using Event = std::function<void()>;
+
+  void Enqueue(Event&& event);
+  void EnqueueFileOperation(const jmethodID& mid,
+                            const FileOperationInfo& info);
+
+  BoundedQueue<Event> m_queue;
+  const bool m_notify_on_file_io;
+};
+
 }  // namespace ROCKSDB_NAMESPACE
 
 #endif  // JAVA_ROCKSJNI_EVENT_LISTENER_JNICALLBACK_H_
@@ -10,19 +10,26 @@
 
 #include "cache/clock_cache.h"
 #include "include/org_rocksdb_HyperClockCache.h"
+#include "rocksdb/secondary_cache.h"
 #include "rocksjni/cplusplus_to_java_convert.h"
 
 /*
  * Class:     org_rocksdb_HyperClockCache
  * Method:    newHyperClockCache
- * Signature: (JJIZ)J
+ * Signature: (JJIZJ)J
  */
 jlong Java_org_rocksdb_HyperClockCache_newHyperClockCache(
     JNIEnv*, jclass, jlong capacity, jlong estimatedEntryCharge,
-    jint numShardBits, jboolean strictCapacityLimit) {
+    jint numShardBits, jboolean strictCapacityLimit,
+    jlong secondaryCacheHandle) {
   ROCKSDB_NAMESPACE::HyperClockCacheOptions cacheOptions =
       ROCKSDB_NAMESPACE::HyperClockCacheOptions(
           capacity, estimatedEntryCharge, numShardBits, strictCapacityLimit);
+  if (secondaryCacheHandle != 0) {
+    cacheOptions.secondary_cache = *reinterpret_cast<
+        std::shared_ptr<ROCKSDB_NAMESPACE::SecondaryCache>*>(
+        secondaryCacheHandle);
+  }
 
   auto* cache = new std::shared_ptr<ROCKSDB_NAMESPACE::Cache>(
       cacheOptions.MakeSharedCache());
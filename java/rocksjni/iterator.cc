@@ -13,6 +13,7 @@
 #include <stdlib.h>
 
 #include <algorithm>
+#include <cstring>
 
 #include "include/org_rocksdb_RocksIterator.h"
 #include "rocksjni/portal.h"
@@ -338,3 +339,107 @@ jint Java_org_rocksdb_RocksIterator_valueByteArray0(
 
   return static_cast<jsize>(value_slice.size());
 }
+
+namespace {
+inline char* encode_big_endian_32(char* dst, uint32_t value) {
+  dst[0] = static_cast<char>((value >> 24) & 0xff);
+  dst[1] = static_cast<char>((value >> 16) & 0xff);
+  dst[2] = static_cast<char>((value >> 8) & 0xff);
+  dst[3] = static_cast<char>(value & 0xff);
+  return dst + 4;
+}
+
+/*
+ * Packs entries from the iterator's current position into the target
+ * buffer as [key length][key][value length][value], with big-endian 32-bit
+ * lengths, moving the iterator past each entry which is written.
+ *
+ * The result is encoded as:
+ *   bits 32-62: number of bytes written to the target
+ *   bit 31:     set if packing stopped because the next entry did not fit
+ *   bits 0-30:  number of entries written
+ *
+ * Throws a RocksDBException if the iterator has failed and no entry was
+ * written, so that the entries written before a failure are not lost, and
+ * the failure is thrown by the next call.
+ */
+jlong pack_batch(JNIEnv* env, ROCKSDB_NAMESPACE::Iterator* it, jobject jtarget,
+                 jint jtarget_off, jint jtarget_len, jint jmax_entries,
+                 bool forward) {
+  char* target = reinterpret_cast<char*>(env->GetDirectBufferAddress(jtarget));
+  if (target == nullptr ||
+      env->GetDirectBufferCapacity(jtarget) < (jtarget_off + jtarget_len)) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env,
+                                                     "Invalid target argument");
+    return 0;
+  }
+  target += jtarget_off;
+
+  const size_t capacity = static_cast<size_t>(jtarget_len);
+  size_t written = 0;
+  jint count = 0;
+  bool buffer_full = false;
+  while (count < jmax_entries && it->Valid()) {
+    const ROCKSDB_NAMESPACE::Slice key = it->key();
+    const ROCKSDB_NAMESPACE::Slice value = it->value();
+    const size_t entry_size = 2 * sizeof(uint32_t) + key.size() + value.size();
+    if (entry_size > capacity - written) {
+      buffer_full = true;
+      break;
+    }
+
+    char* dst = target + written;
+    dst = encode_big_endian_32(dst, static_cast<uint32_t>(key.size()));
+    memcpy(dst, key.data(), key.size());
+    dst += key.size();
+    dst = encode_big_endian_32(dst, static_cast<uint32_t>(value.size()));
+    memcpy(dst, value.data(), value.size());
+
+    written += entry_size;
+    count++;
+    if (forward) {
+      it->Next();
+    } else {
+      it->Prev();
+    }
+  }
+
+  if (count == 0 && !it->Valid()) {
+    ROCKSDB_NAMESPACE::Status s = it->status();
+    if (!s.ok()) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+      return 0;
+    }
+  }
+
+  return (static_cast<jlong>(written) << 32) |
+         (buffer_full ? static_cast<jlong>(0x80000000) : 0) |
+         static_cast<jlong>(count);
+}
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_RocksIterator
+ * Method:    nextBatchDirect0
+ * Signature: (JLjava/nio/ByteBuffer;III)J
+ */
+jlong Java_org_rocksdb_RocksIterator_nextBatchDirect0(
+    JNIEnv* env, jobject /*jobj*/, jlong handle, jobject jtarget,
+    jint jtarget_off, jint jtarget_len, jint jmax_entries) {
+  auto* it = reinterpret_cast<ROCKSDB_NAMESPACE::Iterator*>(handle);
+  return pack_batch(env, it, jtarget, jtarget_off, jtarget_len, jmax_entries,
+                    true);
+}
+
+/*
+ * Class:     org_rocksdb_RocksIterator
+ * Method:    prevBatchDirect0
+ * Signature: (JLjava/nio/ByteBuffer;III)J
+ */
+jlong Java_org_rocksdb_RocksIterator_prevBatchDirect0(
+    JNIEnv* env, jobject /*jobj*/, jlong handle, jobject jtarget,
+    jint jtarget_off, jint jtarget_len, jint jmax_entries) {
+  auto* it = reinterpret_cast<ROCKSDB_NAMESPACE::Iterator*>(handle);
+  return pack_batch(env, it, jtarget, jtarget_off, jtarget_len, jmax_entries,
+                    false);
+}
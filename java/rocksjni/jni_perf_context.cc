@@ -5,8 +5,11 @@
 
 #include <jni.h>
 
+#include <cassert>
+
 #include "include/org_rocksdb_PerfContext.h"
 #include "rocksdb/db.h"
+#include "rocksdb/iostats_context.h"
 #include "rocksdb/perf_context.h"
 
 void Java_org_rocksdb_PerfContext_reset(JNIEnv*, jobject, jlong jpc_handle) {
@@ -15,6 +18,160 @@ void Java_org_rocksdb_PerfContext_reset(JNIEnv*, jobject, jlong jpc_handle) {
   perf_context->Reset();
 }
 
+/*
+ * Class:     org_rocksdb_PerfContext
+ * Method:    resetIOStatsContext
+ * Signature: ()V
+ */
+void Java_org_rocksdb_PerfContext_resetIOStatsContext(JNIEnv*, jobject) {
+  ROCKSDB_NAMESPACE::get_iostats_context()->Reset();
+}
+
+// the number of counters in org.rocksdb.PerfContextMetric
+static const size_t kPerfContextMetricCount = 119;
+
+/*
+ * Class:     org_rocksdb_PerfContext
+ * Method:    exportValues
+ * Signature: (J[J)V
+ */
+void Java_org_rocksdb_PerfContext_exportValues(JNIEnv* env, jobject,
+                                               jlong jpc_handle,
+                                               jlongArray jvalues) {
+  ROCKSDB_NAMESPACE::PerfContext* perf_context =
+      reinterpret_cast<ROCKSDB_NAMESPACE::PerfContext*>(jpc_handle);
+  ROCKSDB_NAMESPACE::IOStatsContext* iostats_context =
+      ROCKSDB_NAMESPACE::get_iostats_context();
+
+  // must match the order of org.rocksdb.PerfContextMetric
+  jlong values[kPerfContextMetricCount];
+  size_t i = 0;
+  values[i++] = perf_context->user_key_comparison_count;
+  values[i++] = perf_context->block_cache_hit_count;
+  values[i++] = perf_context->block_read_count;
+  values[i++] = perf_context->block_read_byte;
+  values[i++] = perf_context->block_read_time;
+  values[i++] = perf_context->block_read_cpu_time;
+  values[i++] = perf_context->block_cache_index_hit_count;
+  values[i++] = perf_context->block_cache_standalone_handle_count;
+  values[i++] = perf_context->block_cache_real_handle_count;
+  values[i++] = perf_context->index_block_read_count;
+  values[i++] = perf_context->block_cache_filter_hit_count;
+  values[i++] = perf_context->filter_block_read_count;
+  values[i++] = perf_context->compression_dict_block_read_count;
+  values[i++] = perf_context->secondary_cache_hit_count;
+  values[i++] = perf_context->compressed_sec_cache_insert_real_count;
+  values[i++] = perf_context->compressed_sec_cache_insert_dummy_count;
+  values[i++] = perf_context->compressed_sec_cache_uncompressed_bytes;
+  values[i++] = perf_context->compressed_sec_cache_compressed_bytes;
+  values[i++] = perf_context->block_checksum_time;
+  values[i++] = perf_context->block_decompress_time;
+  values[i++] = perf_context->get_read_bytes;
+  values[i++] = perf_context->multiget_read_bytes;
+  values[i++] = perf_context->iter_read_bytes;
+  values[i++] = perf_context->blob_cache_hit_count;
+  values[i++] = perf_context->blob_read_count;
+  values[i++] = perf_context->blob_read_byte;
+  values[i++] = perf_context->blob_read_time;
+  values[i++] = perf_context->blob_checksum_time;
+  values[i++] = perf_context->blob_decompress_time;
+  values[i++] = perf_context->internal_key_skipped_count;
+  values[i++] = perf_context->internal_delete_skipped_count;
+  values[i++] = perf_context->internal_recent_skipped_count;
+  values[i++] = perf_context->internal_merge_count;
+  values[i++] = perf_context->internal_merge_point_lookup_count;
+  values[i++] = perf_context->internal_range_del_reseek_count;
+  values[i++] = perf_context->get_snapshot_time;
+  values[i++] = perf_context->get_from_memtable_time;
+  values[i++] = perf_context->get_from_memtable_count;
+  values[i++] = perf_context->get_post_process_time;
+  values[i++] = perf_context->get_from_output_files_time;
+  values[i++] = perf_context->seek_on_memtable_time;
+  values[i++] = perf_context->seek_on_memtable_count;
+  values[i++] = perf_context->next_on_memtable_count;
+  values[i++] = perf_context->prev_on_memtable_count;
+  values[i++] = perf_context->seek_child_seek_time;
+  values[i++] = perf_context->seek_child_seek_count;
+  values[i++] = perf_context->seek_min_heap_time;
+  values[i++] = perf_context->seek_max_heap_time;
+  values[i++] = perf_context->seek_internal_seek_time;
+  values[i++] = perf_context->find_next_user_entry_time;
+  values[i++] = perf_context->write_wal_time;
+  values[i++] = perf_context->write_memtable_time;
+  values[i++] = perf_context->write_delay_time;
+  values[i++] = perf_context->write_scheduling_flushes_compactions_time;
+  values[i++] = perf_context->write_pre_and_post_process_time;
+  values[i++] = perf_context->write_thread_wait_nanos;
+  values[i++] = perf_context->db_mutex_lock_nanos;
+  values[i++] = perf_context->db_condition_wait_nanos;
+  values[i++] = perf_context->merge_operator_time_nanos;
+  values[i++] = perf_context->read_index_block_nanos;
+  values[i++] = perf_context->read_filter_block_nanos;
+  values[i++] = perf_context->new_table_block_iter_nanos;
+  values[i++] = perf_context->new_table_iterator_nanos;
+  values[i++] = perf_context->block_seek_nanos;
+  values[i++] = perf_context->find_table_nanos;
+  values[i++] = perf_context->bloom_memtable_hit_count;
+  values[i++] = perf_context->bloom_memtable_miss_count;
+  values[i++] = perf_context->bloom_sst_hit_count;
+  values[i++] = perf_context->bloom_sst_miss_count;
+  values[i++] = perf_context->key_lock_wait_time;
+  values[i++] = perf_context->key_lock_wait_count;
+  values[i++] = perf_context->env_new_sequential_file_nanos;
+  values[i++] = perf_context->env_new_random_access_file_nanos;
+  values[i++] = perf_context->env_new_writable_file_nanos;
+  values[i++] = perf_context->env_reuse_writable_file_nanos;
+  values[i++] = perf_context->env_new_random_rw_file_nanos;
+  values[i++] = perf_context->env_new_directory_nanos;
+  values[i++] = perf_context->env_file_exists_nanos;
+  values[i++] = perf_context->env_get_children_nanos;
+  values[i++] = perf_context->env_get_children_file_attributes_nanos;
+  values[i++] = perf_context->env_delete_file_nanos;
+  values[i++] = perf_context->env_create_dir_nanos;
+  values[i++] = perf_context->env_create_dir_if_missing_nanos;
+  values[i++] = perf_context->env_delete_dir_nanos;
+  values[i++] = perf_context->env_get_file_size_nanos;
+  values[i++] = perf_context->env_get_file_modification_time_nanos;
+  values[i++] = perf_context->env_rename_file_nanos;
+  values[i++] = perf_context->env_link_file_nanos;
+  values[i++] = perf_context->env_lock_file_nanos;
+  values[i++] = perf_context->env_unlock_file_nanos;
+  values[i++] = perf_context->env_new_logger_nanos;
+  values[i++] = perf_context->get_cpu_nanos;
+  values[i++] = perf_context->iter_next_cpu_nanos;
+  values[i++] = perf_context->iter_prev_cpu_nanos;
+  values[i++] = perf_context->iter_seek_cpu_nanos;
+  values[i++] = perf_context->iter_next_count;
+  values[i++] = perf_context->iter_prev_count;
+  values[i++] = perf_context->iter_seek_count;
+  values[i++] = perf_context->encrypt_data_nanos;
+  values[i++] = perf_context->decrypt_data_nanos;
+  values[i++] = perf_context->number_async_seek;
+  values[i++] = iostats_context->bytes_written;
+  values[i++] = iostats_context->bytes_read;
+  values[i++] = iostats_context->open_nanos;
+  values[i++] = iostats_context->allocate_nanos;
+  values[i++] = iostats_context->write_nanos;
+  values[i++] = iostats_context->read_nanos;
+  values[i++] = iostats_context->range_sync_nanos;
+  values[i++] = iostats_context->fsync_nanos;
+  values[i++] = iostats_context->prepare_write_nanos;
+  values[i++] = iostats_context->logger_nanos;
+  values[i++] = iostats_context->cpu_write_nanos;
+  values[i++] = iostats_context->cpu_read_nanos;
+  const ROCKSDB_NAMESPACE::FileIOByTemperature& file_io_by_temperature =
+      iostats_context->file_io_stats_by_temperature;
+  values[i++] = file_io_by_temperature.hot_file_bytes_read;
+  values[i++] = file_io_by_temperature.warm_file_bytes_read;
+  values[i++] = file_io_by_temperature.cold_file_bytes_read;
+  values[i++] = file_io_by_temperature.hot_file_read_count;
+  values[i++] = file_io_by_temperature.warm_file_read_count;
+  values[i++] = file_io_by_temperature.cold_file_read_count;
+  assert(i == kPerfContextMetricCount);
+
+  env->SetLongArrayRegion(jvalues, 0, static_cast<jsize>(i), values);
+}
+
 /*
  * Class:     org_rocksdb_PerfContext
  * Method:    getUserKeyComparisonCount
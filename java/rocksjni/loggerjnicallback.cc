@@ -8,6 +8,7 @@
 
 #include "rocksjni/loggerjnicallback.h"
 
+#include <algorithm>
 #include <cstdarg>
 #include <cstdio>
 
@@ -220,6 +221,99 @@ LoggerJniCallback::~LoggerJniCallback() {
   releaseJniEnv(attached_thread);
 }
 
+BufferedLoggerJniCallback::BufferedLoggerJniCallback(JNIEnv* env,
+                                                     jobject jLogger,
+                                                     size_t capacity)
+    : LoggerJniCallback(env, jLogger), m_queue(capacity) {}
+
+BufferedLoggerJniCallback::~BufferedLoggerJniCallback() { m_queue.Stop(); }
+
+void BufferedLoggerJniCallback::Logv(const InfoLogLevel log_level,
+                                     const char* format, va_list ap) {
+  if (GetInfoLogLevel() > log_level) {
+    return;
+  }
+  assert(format != nullptr);
+
+  // format into a stack buffer, which is large enough for most messages
+  char buf[512];
+  va_list ap_copy;
+  va_copy(ap_copy, ap);
+  const int n = vsnprintf(buf, sizeof(buf), format, ap_copy);
+  va_end(ap_copy);
+  if (n < 0) {
+    return;
+  }
+
+  Message message;
+  message.level = log_level;
+  if (static_cast<size_t>(n) < sizeof(buf)) {
+    message.msg.assign(buf, static_cast<size_t>(n));
+  } else {
+    message.msg.resize(static_cast<size_t>(n));
+    va_copy(ap_copy, ap);
+    vsnprintf(&message.msg[0], static_cast<size_t>(n) + 1, format, ap_copy);
+    va_end(ap_copy);
+  }
+  m_queue.Push(std::move(message));
+}
+
+jint BufferedLoggerJniCallback::Drain(JNIEnv* env, jbyteArray jlevels,
+                                      jobjectArray jmessages,
+                                      std::chrono::milliseconds timeout) {
+  const jsize max_messages = std::min(env->GetArrayLength(jlevels),
+                                      env->GetArrayLength(jmessages));
+  std::unique_ptr<jbyte[]> levels(new jbyte[max_messages > 0 ? max_messages
+                                                             : 1]);
+  jsize count = 0;
+  Message message;
+  while (count < max_messages) {
+    if (!m_queue.Pop(&message)) {
+      if (count > 0) {
+        break;
+      }
+      // wait once for a message to arrive
+      m_queue.Wait(timeout);
+      timeout = std::chrono::milliseconds(0);
+      if (!m_queue.Pop(&message)) {
+        break;
+      }
+    }
+
+    jstring jmsg = env->NewStringUTF(message.msg.c_str());
+    if (jmsg != nullptr) {
+      env->SetObjectArrayElement(jmessages, count, jmsg);
+      env->DeleteLocalRef(jmsg);
+    }
+    if (env->ExceptionCheck()) {
+      // exception thrown: OutOfMemoryError, ArrayIndexOutOfBoundsException or
+      // ArrayStoreException. The message is lost, but the messages already
+      // moved are still delivered, and the rest remain queued.
+      env->ExceptionClear();
+      m_queue.AddDropped(1);
+      break;
+    }
+    levels[count++] = static_cast<jbyte>(message.level);
+  }
+
+  if (count > 0) {
+    env->SetByteArrayRegion(jlevels, 0, count, levels.get());
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      env->ExceptionClear();
+      m_queue.AddDropped(static_cast<uint64_t>(count));
+      return 0;
+    }
+  }
+  return static_cast<jint>(count);
+}
+
+void BufferedLoggerJniCallback::StopDrain() { m_queue.Stop(); }
+
+uint64_t BufferedLoggerJniCallback::GetDroppedMessageCount() const {
+  return m_queue.GetDroppedCount();
+}
+
 }  // namespace ROCKSDB_NAMESPACE
 
 /*
@@ -258,6 +352,91 @@ jlong Java_org_rocksdb_Logger_createNewLoggerDbOptions(JNIEnv* env,
   return GET_CPLUSPLUS_POINTER(sptr_logger);
 }
 
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    createNewBufferedLoggerOptions
+ * Signature: (JJ)J
+ */
+jlong Java_org_rocksdb_Logger_createNewBufferedLoggerOptions(
+    JNIEnv* env, jobject jobj, jlong joptions, jlong jcapacity) {
+  auto* sptr_logger = new std::shared_ptr<ROCKSDB_NAMESPACE::LoggerJniCallback>(
+      new ROCKSDB_NAMESPACE::BufferedLoggerJniCallback(
+          env, jobj, static_cast<size_t>(jcapacity)));
+
+  // set log level
+  auto* options = reinterpret_cast<ROCKSDB_NAMESPACE::Options*>(joptions);
+  sptr_logger->get()->SetInfoLogLevel(options->info_log_level);
+
+  return GET_CPLUSPLUS_POINTER(sptr_logger);
+}
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    createNewBufferedLoggerDbOptions
+ * Signature: (JJ)J
+ */
+jlong Java_org_rocksdb_Logger_createNewBufferedLoggerDbOptions(
+    JNIEnv* env, jobject jobj, jlong jdb_options, jlong jcapacity) {
+  auto* sptr_logger = new std::shared_ptr<ROCKSDB_NAMESPACE::LoggerJniCallback>(
+      new ROCKSDB_NAMESPACE::BufferedLoggerJniCallback(
+          env, jobj, static_cast<size_t>(jcapacity)));
+
+  // set log level
+  auto* db_options =
+      reinterpret_cast<ROCKSDB_NAMESPACE::DBOptions*>(jdb_options);
+  sptr_logger->get()->SetInfoLogLevel(db_options->info_log_level);
+
+  return GET_CPLUSPLUS_POINTER(sptr_logger);
+}
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    drainMessages
+ * Signature: (J[B[Ljava/lang/String;J)I
+ */
+jint Java_org_rocksdb_Logger_drainMessages(JNIEnv* env, jobject /*jobj*/,
+                                           jlong jhandle, jbyteArray jlevels,
+                                           jobjectArray jmessages,
+                                           jlong jtimeout_millis) {
+  auto* handle =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::LoggerJniCallback>*>(
+          jhandle);
+  return static_cast<ROCKSDB_NAMESPACE::BufferedLoggerJniCallback*>(
+             handle->get())
+      ->Drain(env, jlevels, jmessages,
+              std::chrono::milliseconds(jtimeout_millis));
+}
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    stopDrain
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_Logger_stopDrain(JNIEnv* /*env*/, jobject /*jobj*/,
+                                       jlong jhandle) {
+  auto* handle =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::LoggerJniCallback>*>(
+          jhandle);
+  static_cast<ROCKSDB_NAMESPACE::BufferedLoggerJniCallback*>(handle->get())
+      ->StopDrain();
+}
+
+/*
+ * Class:     org_rocksdb_Logger
+ * Method:    getDroppedMessageCount
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_Logger_getDroppedMessageCount(JNIEnv* /*env*/,
+                                                     jobject /*jobj*/,
+                                                     jlong jhandle) {
+  auto* handle =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::LoggerJniCallback>*>(
+          jhandle);
+  return static_cast<jlong>(
+      static_cast<ROCKSDB_NAMESPACE::BufferedLoggerJniCallback*>(handle->get())
+          ->GetDroppedMessageCount());
+}
+
 /*
  * Class:     org_rocksdb_Logger
  * Method:    setInfoLogLevel
@@ -11,11 +11,13 @@
 
 #include <jni.h>
 
+#include <chrono>
 #include <memory>
 #include <string>
 
 #include "port/port.h"
 #include "rocksdb/env.h"
+#include "rocksjni/bounded_queue.h"
 #include "rocksjni/jnicallback.h"
 
 namespace ROCKSDB_NAMESPACE {
@@ -46,6 +48,41 @@ class LoggerJniCallback : public JniCallback, public Logger {
   jobject m_jheader_level;
   std::unique_ptr<char[]> format_str(const char* format, va_list ap) const;
 };
+
+// A LoggerJniCallback which does not call into Java on the thread which logs.
+// Messages which pass the log level are formatted and added to a
+// BoundedQueue, without any JNI calls, and are later delivered to Java in
+// batches by a Java thread calling Drain. Messages which arrive when the
+// queue is full are dropped and counted.
+class BufferedLoggerJniCallback : public LoggerJniCallback {
+ public:
+  BufferedLoggerJniCallback(JNIEnv* env, jobject jLogger, size_t capacity);
+  ~BufferedLoggerJniCallback();
+
+  using LoggerJniCallback::Logv;
+  virtual void Logv(const InfoLogLevel log_level, const char* format,
+                    va_list ap);
+
+  // Moves up to the length of jlevels queued messages into jlevels and
+  // jmessages. If there are no queued messages, waits up to timeout for one
+  // to arrive, or until StopDrain is called. Returns the number of messages
+  // moved. A message which cannot be moved, e.g. because a Java string
+  // cannot be allocated, is counted as dropped.
+  jint Drain(JNIEnv* env, jbyteArray jlevels, jobjectArray jmessages,
+             std::chrono::milliseconds timeout);
+  // Wakes a thread waiting in Drain, which will no longer wait
+  void StopDrain();
+  // Returns the number of messages dropped because the queue was full
+  uint64_t GetDroppedMessageCount() const;
+
+ private:
+  struct Message {
+    InfoLogLevel level;
+    std::string msg;
+  };
+
+  BoundedQueue<Message> m_queue;
+};
 }  // namespace ROCKSDB_NAMESPACE
 
 #endif  // JAVA_ROCKSJNI_LOGGERJNICALLBACK_H_
@@ -11,27 +11,35 @@
 #include <jni.h>
 
 #include "include/org_rocksdb_LRUCache.h"
+#include "rocksdb/secondary_cache.h"
 #include "rocksjni/cplusplus_to_java_convert.h"
 
 /*
  * Class:     org_rocksdb_LRUCache
  * Method:    newLRUCache
- * Signature: (JIZD)J
+ * Signature: (JIZDDJ)J
  */
 jlong Java_org_rocksdb_LRUCache_newLRUCache(JNIEnv* /*env*/, jclass /*jcls*/,
                                             jlong jcapacity,
                                             jint jnum_shard_bits,
                                             jboolean jstrict_capacity_limit,
                                             jdouble jhigh_pri_pool_ratio,
-                                            jdouble jlow_pri_pool_ratio) {
+                                            jdouble jlow_pri_pool_ratio,
+                                            jlong jsecondary_cache_handle) {
+  ROCKSDB_NAMESPACE::LRUCacheOptions cache_options(
+      static_cast<size_t>(jcapacity), static_cast<int>(jnum_shard_bits),
+      static_cast<bool>(jstrict_capacity_limit),
+      static_cast<double>(jhigh_pri_pool_ratio),
+      nullptr /* memory_allocator */, rocksdb::kDefaultToAdaptiveMutex,
+      rocksdb::kDefaultCacheMetadataChargePolicy,
+      static_cast<double>(jlow_pri_pool_ratio));
+  if (jsecondary_cache_handle != 0) {
+    cache_options.secondary_cache = *reinterpret_cast<
+        std::shared_ptr<ROCKSDB_NAMESPACE::SecondaryCache>*>(
+        jsecondary_cache_handle);
+  }
   auto* sptr_lru_cache = new std::shared_ptr<ROCKSDB_NAMESPACE::Cache>(
-      ROCKSDB_NAMESPACE::NewLRUCache(
-          static_cast<size_t>(jcapacity), static_cast<int>(jnum_shard_bits),
-          static_cast<bool>(jstrict_capacity_limit),
-          static_cast<double>(jhigh_pri_pool_ratio),
-          nullptr /* memory_allocator */, rocksdb::kDefaultToAdaptiveMutex,
-          rocksdb::kDefaultCacheMetadataChargePolicy,
-          static_cast<double>(jlow_pri_pool_ratio)));
+      cache_options.MakeSharedCache());
   return GET_CPLUSPLUS_POINTER(sptr_lru_cache);
 }
 
@@ -7,12 +7,16 @@
 
 #include <jni.h>
 
+#include <cstdlib>
 #include <map>
 #include <string>
 #include <unordered_set>
 #include <vector>
 
 #include "include/org_rocksdb_MemoryUtil.h"
+#include "rocksdb/cache.h"
+#include "rocksdb/db.h"
+#include "rocksdb/write_buffer_manager.h"
 #include "rocksjni/portal.h"
 
 /*
@@ -98,3 +102,139 @@ jobject Java_org_rocksdb_MemoryUtil_getApproximateMemoryUsageByType(
 
   return jusage_by_type;
 }
+
+namespace {
+// The layout of the values of a org.rocksdb.MemoryUsageReport, which must
+// match java/src/main/java/org/rocksdb/MemoryUsageReport.java
+constexpr size_t kWriteBufferManagerBufferSize = 0;
+constexpr size_t kWriteBufferManagerMemoryUsage = 1;
+constexpr size_t kWriteBufferManagerMutableMemoryUsage = 2;
+constexpr size_t kDbValues = 3;
+
+constexpr size_t kActiveMemTable = 0;
+constexpr size_t kImmutableMemTables = 1;
+constexpr size_t kPinnedMemTables = 2;
+constexpr size_t kTableReaders = 3;
+constexpr size_t kBlockCacheCapacity = 4;
+constexpr size_t kBlockCacheUsage = 5;
+constexpr size_t kBlockCachePinnedUsage = 6;
+constexpr size_t kBlobCacheUsage = 7;
+constexpr size_t kBlobCachePinnedUsage = 8;
+constexpr size_t kBlockCacheCharges = 9;
+constexpr size_t kColumnFamilyValues =
+    kBlockCacheCharges + ROCKSDB_NAMESPACE::kNumCacheEntryRoles;
+
+// org.rocksdb.CacheEntryRole has a constant for each role
+static_assert(ROCKSDB_NAMESPACE::kNumCacheEntryRoles == 14,
+              "org.rocksdb.CacheEntryRole must be updated");
+
+uint64_t GetIntProperty(ROCKSDB_NAMESPACE::DB* db,
+                        ROCKSDB_NAMESPACE::ColumnFamilyHandle* cfh,
+                        const std::string& property) {
+  uint64_t value = 0;
+  if (!db->GetIntProperty(cfh, property, &value)) {
+    // e.g. the column family has no block cache
+    return 0;
+  }
+  return value;
+}
+
+void GetColumnFamilyMemoryUsage(ROCKSDB_NAMESPACE::DB* db,
+                                ROCKSDB_NAMESPACE::ColumnFamilyHandle* cfh,
+                                jlong* values) {
+  using ROCKSDB_NAMESPACE::DB;
+  const uint64_t active_mem_table =
+      GetIntProperty(db, cfh, DB::Properties::kCurSizeActiveMemTable);
+  const uint64_t unflushed_mem_tables =
+      GetIntProperty(db, cfh, DB::Properties::kCurSizeAllMemTables);
+  const uint64_t all_mem_tables =
+      GetIntProperty(db, cfh, DB::Properties::kSizeAllMemTables);
+  values[kActiveMemTable] = static_cast<jlong>(active_mem_table);
+  values[kImmutableMemTables] = static_cast<jlong>(
+      unflushed_mem_tables > active_mem_table
+          ? unflushed_mem_tables - active_mem_table
+          : 0);
+  values[kPinnedMemTables] = static_cast<jlong>(
+      all_mem_tables > unflushed_mem_tables
+          ? all_mem_tables - unflushed_mem_tables
+          : 0);
+  values[kTableReaders] = static_cast<jlong>(
+      GetIntProperty(db, cfh, DB::Properties::kEstimateTableReadersMem));
+  values[kBlockCacheCapacity] = static_cast<jlong>(
+      GetIntProperty(db, cfh, DB::Properties::kBlockCacheCapacity));
+  values[kBlockCacheUsage] = static_cast<jlong>(
+      GetIntProperty(db, cfh, DB::Properties::kBlockCacheUsage));
+  values[kBlockCachePinnedUsage] = static_cast<jlong>(
+      GetIntProperty(db, cfh, DB::Properties::kBlockCachePinnedUsage));
+  values[kBlobCacheUsage] = static_cast<jlong>(
+      GetIntProperty(db, cfh, DB::Properties::kBlobCacheUsage));
+  values[kBlobCachePinnedUsage] = static_cast<jlong>(
+      GetIntProperty(db, cfh, DB::Properties::kBlobCachePinnedUsage));
+
+  // the collection of the entry stats of a block cache is shared by the
+  // column families using it, and scans the cache at most every few seconds
+  std::map<std::string, std::string> entry_stats;
+  if (db->GetMapProperty(cfh, DB::Properties::kBlockCacheEntryStats,
+                         &entry_stats)) {
+    for (uint32_t i = 0; i < ROCKSDB_NAMESPACE::kNumCacheEntryRoles; i++) {
+      const auto it = entry_stats.find(
+          ROCKSDB_NAMESPACE::BlockCacheEntryStatsMapKeys::UsedBytes(
+              static_cast<ROCKSDB_NAMESPACE::CacheEntryRole>(i)));
+      if (it != entry_stats.end()) {
+        values[kBlockCacheCharges + i] =
+            static_cast<jlong>(std::strtoull(it->second.c_str(), nullptr, 10));
+      }
+    }
+  }
+}
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_MemoryUtil
+ * Method:    getMemoryUsageReport
+ * Signature: (J[J)[J
+ */
+jlongArray Java_org_rocksdb_MemoryUtil_getMemoryUsageReport(
+    JNIEnv *env, jclass, jlong jdb_handle, jlongArray jcf_handles) {
+  auto *db = reinterpret_cast<ROCKSDB_NAMESPACE::DB *>(jdb_handle);
+  jboolean has_exception = JNI_FALSE;
+  std::vector<ROCKSDB_NAMESPACE::ColumnFamilyHandle *> cf_handles =
+      ROCKSDB_NAMESPACE::JniUtil::fromJPointers<
+          ROCKSDB_NAMESPACE::ColumnFamilyHandle>(env, jcf_handles,
+                                                 &has_exception);
+  if (has_exception == JNI_TRUE) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  std::vector<jlong> values(kDbValues + cf_handles.size() * kColumnFamilyValues,
+                            0);
+  const std::shared_ptr<ROCKSDB_NAMESPACE::WriteBufferManager> wbm =
+      db->GetDBOptions().write_buffer_manager;
+  if (wbm != nullptr) {
+    values[kWriteBufferManagerBufferSize] =
+        static_cast<jlong>(wbm->buffer_size());
+    values[kWriteBufferManagerMemoryUsage] =
+        static_cast<jlong>(wbm->memory_usage());
+    values[kWriteBufferManagerMutableMemoryUsage] =
+        static_cast<jlong>(wbm->mutable_memtable_memory_usage());
+  }
+  for (size_t i = 0; i < cf_handles.size(); i++) {
+    GetColumnFamilyMemoryUsage(db, cf_handles[i],
+                               &values[kDbValues + i * kColumnFamilyValues]);
+  }
+
+  const jsize jlen = static_cast<jsize>(values.size());
+  jlongArray jvalues = env->NewLongArray(jlen);
+  if (jvalues == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+  env->SetLongArrayRegion(jvalues, 0, jlen, values.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    env->DeleteLocalRef(jvalues);
+    return nullptr;
+  }
+  return jvalues;
+}
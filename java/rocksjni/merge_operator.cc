@@ -16,6 +16,7 @@
 #include <memory>
 #include <string>
 
+#include "include/org_rocksdb_AbstractMergeOperator.h"
 #include "include/org_rocksdb_StringAppendOperator.h"
 #include "include/org_rocksdb_UInt64AddOperator.h"
 #include "rocksdb/db.h"
@@ -25,6 +26,7 @@
 #include "rocksdb/statistics.h"
 #include "rocksdb/table.h"
 #include "rocksjni/cplusplus_to_java_convert.h"
+#include "rocksjni/merge_operator_jnicallback.h"
 #include "rocksjni/portal.h"
 #include "utilities/merge_operators.h"
 
@@ -96,3 +98,35 @@ void Java_org_rocksdb_UInt64AddOperator_disposeInternal(JNIEnv* /*env*/,
           jhandle);
   delete sptr_uint64_add_op;  // delete std::shared_ptr
 }
+
+/*
+ * Class:     org_rocksdb_AbstractMergeOperator
+ * Method:    createNewMergeOperator
+ * Signature: (BI)J
+ */
+jlong Java_org_rocksdb_AbstractMergeOperator_createNewMergeOperator(
+    JNIEnv* env, jobject jobj, jbyte jreused_synchronisation_type,
+    jint jmax_reused_buffer_size) {
+  ROCKSDB_NAMESPACE::MergeOperatorJniCallbackOptions options;
+  options.reused_synchronisation_type =
+      ROCKSDB_NAMESPACE::ReusedSynchronisationTypeJni::
+          toCppReusedSynchronisationType(jreused_synchronisation_type);
+  options.max_reused_buffer_size = static_cast<int32_t>(jmax_reused_buffer_size);
+  auto* sptr_merge_op = new std::shared_ptr<ROCKSDB_NAMESPACE::MergeOperator>(
+      new ROCKSDB_NAMESPACE::MergeOperatorJniCallback(env, jobj, options));
+  return GET_CPLUSPLUS_POINTER(sptr_merge_op);
+}
+
+/*
+ * Class:     org_rocksdb_AbstractMergeOperator
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_AbstractMergeOperator_disposeInternal(JNIEnv* /*env*/,
+                                                            jobject /*jobj*/,
+                                                            jlong jhandle) {
+  auto* sptr_merge_op =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::MergeOperator>*>(
+          jhandle);
+  delete sptr_merge_op;  // delete std::shared_ptr
+}
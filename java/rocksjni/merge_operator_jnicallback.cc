@@ -0,0 +1,279 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::MergeOperator.
+
+#include "rocksjni/merge_operator_jnicallback.h"
+
+#include <cstring>
+
+#include "rocksjni/portal.h"
+
+namespace ROCKSDB_NAMESPACE {
+MergeOperatorJniCallback::MergeOperatorJniCallback(
+    JNIEnv* env, jobject jmerge_operator,
+    const MergeOperatorJniCallbackOptions& options)
+    : JniCallback(env, jmerge_operator),
+      m_options(options),
+      m_jbytebuffer_clazz(nullptr),
+      m_reused_buf(nullptr),
+      m_tl_reused_buf(nullptr) {
+  // Note: The name of a MergeOperator will not change during it's lifetime,
+  // so we cache it in a global var
+  jmethodID jname_mid = AbstractMergeOperatorJni::getNameMethodId(env);
+  if (jname_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+  jstring js_name = (jstring)env->CallObjectMethod(m_jcallback_obj, jname_mid);
+  if (env->ExceptionCheck()) {
+    // exception thrown
+    return;
+  }
+  jboolean has_exception = JNI_FALSE;
+  m_name = JniUtil::copyString(env, js_name,
+                               &has_exception);  // also releases js_name
+  if (has_exception == JNI_TRUE) {
+    // exception thrown
+    return;
+  }
+
+  m_jfull_merge_mid = AbstractMergeOperatorJni::getFullMergeInternalMethodId(env);
+  if (m_jfull_merge_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  m_jpartial_merge_mid =
+      AbstractMergeOperatorJni::getPartialMergeInternalMethodId(env);
+  if (m_jpartial_merge_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  jmethodID jnew_reused_buffer_mid =
+      AbstractMergeOperatorJni::getNewReusedBufferMethodId(env);
+  if (jnew_reused_buffer_mid == nullptr) {
+    // exception thrown: NoSuchMethodException or OutOfMemoryError
+    return;
+  }
+
+  jfieldID jreused_buffer_fid =
+      AbstractMergeOperatorJni::getReusedBufferBufferFieldId(env);
+  if (jreused_buffer_fid == nullptr) {
+    // exception thrown: NoSuchFieldException or OutOfMemoryError
+    return;
+  }
+  m_reused_buf_factory.Initialize(m_jvm, m_jcallback_obj,
+                                  jnew_reused_buffer_mid, jreused_buffer_fid);
+
+  // cache the ByteBuffer class as we may use it for results from heap buffers
+  m_jbytebuffer_clazz =
+      static_cast<jclass>(env->NewGlobalRef(ByteBufferJni::getJClass(env)));
+
+  // do we need reusable buffers?
+  if (m_options.max_reused_buffer_size > -1) {
+    if (m_options.reused_synchronisation_type ==
+        ReusedSynchronisationType::THREAD_LOCAL) {
+      // buffers reused per thread
+      m_tl_reused_buf =
+          new ThreadLocalPtr(&ReusedBufFactory::DeleteThreadLocal);
+
+    } else {
+      // buffer reused and shared across threads
+      const bool adaptive = m_options.reused_synchronisation_type ==
+                            ReusedSynchronisationType::ADAPTIVE_MUTEX;
+      m_mtx_reused = std::unique_ptr<port::Mutex>(new port::Mutex(adaptive));
+      m_reused_buf = m_reused_buf_factory.New(
+          env, static_cast<size_t>(m_options.max_reused_buffer_size), true);
+    }
+  }
+}
+
+MergeOperatorJniCallback::~MergeOperatorJniCallback() {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  assert(env != nullptr);
+
+  if (m_jbytebuffer_clazz != nullptr) {
+    env->DeleteGlobalRef(m_jbytebuffer_clazz);
+  }
+
+  if (m_reused_buf != nullptr) {
+    ReusedBufFactory::Delete(env, m_reused_buf);
+  }
+
+  releaseJniEnv(attached_thread);
+
+  if (m_tl_reused_buf != nullptr) {
+    delete m_tl_reused_buf;
+  }
+}
+
+const char* MergeOperatorJniCallback::Name() const { return m_name.get(); }
+
+bool MergeOperatorJniCallback::FullMergeV2(
+    const MergeOperationInput& merge_in,
+    MergeOperationOutput* merge_out) const {
+  const auto& operands = merge_in.operand_list;
+  const int32_t operand_count = static_cast<int32_t>(operands.size());
+
+  // header of native-order ints: key length, existing value length (or -1),
+  // operand count and then each operand length
+  const size_t header_size = sizeof(int32_t) * (3 + operands.size());
+  size_t required = header_size + merge_in.key.size();
+  if (merge_in.existing_value != nullptr) {
+    required += merge_in.existing_value->size();
+  }
+  for (const auto& operand : operands) {
+    required += operand.size();
+  }
+
+  auto fill = [&merge_in, &operands, operand_count, header_size](char* buf) {
+    int32_t* header = reinterpret_cast<int32_t*>(buf);
+    header[0] = static_cast<int32_t>(merge_in.key.size());
+    header[1] = merge_in.existing_value == nullptr
+                    ? -1
+                    : static_cast<int32_t>(merge_in.existing_value->size());
+    header[2] = operand_count;
+
+    char* data = buf + header_size;
+    memcpy(data, merge_in.key.data(), merge_in.key.size());
+    data += merge_in.key.size();
+    if (merge_in.existing_value != nullptr) {
+      memcpy(data, merge_in.existing_value->data(),
+             merge_in.existing_value->size());
+      data += merge_in.existing_value->size();
+    }
+    for (int32_t i = 0; i < operand_count; i++) {
+      header[3 + i] = static_cast<int32_t>(operands[i].size());
+      memcpy(data, operands[i].data(), operands[i].size());
+      data += operands[i].size();
+    }
+  };
+
+  return CallMerge(m_jfull_merge_mid, required, fill, &merge_out->new_value);
+}
+
+bool MergeOperatorJniCallback::PartialMerge(const Slice& key,
+                                            const Slice& left_operand,
+                                            const Slice& right_operand,
+                                            std::string* new_value,
+                                            Logger* /*logger*/) const {
+  // header of native-order ints: key length, left operand length and right
+  // operand length
+  const size_t header_size = sizeof(int32_t) * 3;
+  const size_t required =
+      header_size + key.size() + left_operand.size() + right_operand.size();
+
+  auto fill = [&key, &left_operand, &right_operand, header_size](char* buf) {
+    int32_t* header = reinterpret_cast<int32_t*>(buf);
+    header[0] = static_cast<int32_t>(key.size());
+    header[1] = static_cast<int32_t>(left_operand.size());
+    header[2] = static_cast<int32_t>(right_operand.size());
+
+    char* data = buf + header_size;
+    memcpy(data, key.data(), key.size());
+    data += key.size();
+    memcpy(data, left_operand.data(), left_operand.size());
+    data += left_operand.size();
+    memcpy(data, right_operand.data(), right_operand.size());
+  };
+
+  return CallMerge(m_jpartial_merge_mid, required, fill, new_value);
+}
+
+bool MergeOperatorJniCallback::CallMerge(
+    jmethodID jmerge_mid, size_t required,
+    const std::function<void(char*)>& fill, std::string* new_value) const {
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = getJniEnv(&attached_thread);
+  assert(env != nullptr);
+
+  const bool reuse =
+      m_options.max_reused_buffer_size > -1 &&
+      required <= static_cast<size_t>(m_options.max_reused_buffer_size);
+  // no need to lock if using thread_local
+  const bool lock = reuse && m_options.reused_synchronisation_type !=
+                                 ReusedSynchronisationType::THREAD_LOCAL;
+  if (lock) {
+    m_mtx_reused->Lock();
+  }
+
+  ReusedBuf* reused_buf;
+  if (!reuse) {
+    // new buffer just for this merge
+    reused_buf = m_reused_buf_factory.New(env, required, false);
+  } else if (m_tl_reused_buf != nullptr) {
+    // reuse thread-local buffer, which is created at the maximum size
+    const size_t max_size =
+        static_cast<size_t>(m_options.max_reused_buffer_size);
+    reused_buf = m_reused_buf_factory.GetThreadLocal(
+        env, m_tl_reused_buf, required, max_size, max_size);
+  } else {
+    // reuse class member buffer
+    reused_buf = m_reused_buf;
+  }
+
+  bool merged = false;
+  if (reused_buf == nullptr) {
+    // exception occurred
+    env->ExceptionDescribe();  // print out exception to stderr
+  } else {
+    fill(reused_buf->buf);
+
+    jobject jresult =
+        env->CallObjectMethod(m_jcallback_obj, jmerge_mid, reused_buf->jreused);
+    if (env->ExceptionCheck()) {
+      // exception thrown from CallObjectMethod
+      env->ExceptionDescribe();  // print out exception to stderr
+    } else if (jresult != nullptr) {
+      // the Java side records the position and length of the result in the
+      // first two ints of the buffer
+      int32_t result_pos;
+      int32_t result_len;
+      memcpy(&result_pos, reused_buf->buf, sizeof(int32_t));
+      memcpy(&result_len, reused_buf->buf + sizeof(int32_t), sizeof(int32_t));
+
+      const char* result_buf =
+          static_cast<const char*>(env->GetDirectBufferAddress(jresult));
+      if (result_buf != nullptr) {
+        new_value->assign(result_buf + result_pos, result_len);
+        merged = true;
+      } else {
+        // the result is a heap buffer
+        jbyteArray jarray =
+            ByteBufferJni::array(env, jresult, m_jbytebuffer_clazz);
+        if (jarray != nullptr) {
+          new_value->resize(static_cast<size_t>(result_len));
+          env->GetByteArrayRegion(jarray, result_pos, result_len,
+                                  reinterpret_cast<jbyte*>(&(*new_value)[0]));
+          merged = !env->ExceptionCheck();
+          env->DeleteLocalRef(jarray);
+        }
+        if (!merged) {
+          env->ExceptionDescribe();  // print out exception to stderr
+        }
+      }
+      env->DeleteLocalRef(jresult);
+    }
+
+    if (!reuse) {
+      ReusedBufFactory::Delete(env, reused_buf);
+    }
+  }
+
+  if (lock) {
+    m_mtx_reused->Unlock();
+  }
+
+  releaseJniEnv(attached_thread);
+
+  return merged;
+}
+
+}  // namespace ROCKSDB_NAMESPACE
@@ -0,0 +1,81 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the callback "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::MergeOperator.
+
+#ifndef JAVA_ROCKSJNI_MERGE_OPERATOR_JNICALLBACK_H_
+#define JAVA_ROCKSJNI_MERGE_OPERATOR_JNICALLBACK_H_
+
+#include <jni.h>
+
+#include <functional>
+#include <memory>
+#include <string>
+
+#include "port/port.h"
+#include "rocksdb/merge_operator.h"
+#include "rocksjni/comparatorjnicallback.h"
+#include "rocksjni/jnicallback.h"
+#include "rocksjni/reused_buffer.h"
+#include "util/thread_local.h"
+
+namespace ROCKSDB_NAMESPACE {
+
+struct MergeOperatorJniCallbackOptions {
+  // Set the synchronisation type used to guard the reused buffers.
+  // Only used if max_reused_buffer_size > 0.
+  ReusedSynchronisationType reused_synchronisation_type = THREAD_LOCAL;
+
+  // Maximum size of a buffer (in bytes) that will be reused.
+  // When a merge needs a buffer for transferring its key, existing value
+  // and operands to Java, if it requires no more than
+  // max_reused_buffer_size, then an existing buffer will be reused, else a
+  // new buffer will be allocated just for that merge. -1 to disable.
+  int32_t max_reused_buffer_size = 64 * 1024;
+};
+
+/**
+ * This class acts as a bridge between C++ and Java. The methods in this
+ * class will be called back from the RocksDB storage engine (C++) which
+ * then calls back to the appropriate Java method; this enables merge
+ * operators to be implemented in Java.
+ *
+ * The input of each merge is copied into a single direct buffer owned by a
+ * Java AbstractMergeOperator.ReusedBuffer, which also caches the Java views
+ * passed to the callbacks, so that no Java objects are allocated per merge.
+ */
+class MergeOperatorJniCallback : public JniCallback, public MergeOperator {
+ public:
+  MergeOperatorJniCallback(JNIEnv* env, jobject jmerge_operator,
+                           const MergeOperatorJniCallbackOptions& options);
+  ~MergeOperatorJniCallback() override;
+  const char* Name() const override;
+  bool FullMergeV2(const MergeOperationInput& merge_in,
+                   MergeOperationOutput* merge_out) const override;
+  bool PartialMerge(const Slice& key, const Slice& left_operand,
+                    const Slice& right_operand, std::string* new_value,
+                    Logger* logger) const override;
+
+ private:
+  bool CallMerge(jmethodID jmerge_mid, size_t required,
+                 const std::function<void(char*)>& fill,
+                 std::string* new_value) const;
+  const MergeOperatorJniCallbackOptions m_options;
+  std::unique_ptr<const char[]> m_name;
+  jmethodID m_jfull_merge_mid;
+  jmethodID m_jpartial_merge_mid;
+  jclass m_jbytebuffer_clazz;
+  ReusedBufFactory m_reused_buf_factory;
+  // used for synchronisation of m_reused_buf
+  std::unique_ptr<port::Mutex> m_mtx_reused;
+  ReusedBuf* m_reused_buf;
+  ThreadLocalPtr* m_tl_reused_buf;
+};
+
+}  // namespace ROCKSDB_NAMESPACE
+
+#endif  // JAVA_ROCKSJNI_MERGE_OPERATOR_JNICALLBACK_H_
@@ -245,7 +245,7 @@ void JNICALL Java_org_rocksdb_Options_setCompactionFilterFactoryHandle(
     JNIEnv*, jobject, jlong jopt_handle,
     jlong jcompactionfilterfactory_handle) {
   auto* cff_factory = reinterpret_cast<
-      std::shared_ptr<ROCKSDB_NAMESPACE::CompactionFilterFactory>*>(
+      std::shared_ptr<ROCKSDB_NAMESPACE::CompactionFilterFactoryJniCallback>*>(
       jcompactionfilterfactory_handle);
   reinterpret_cast<ROCKSDB_NAMESPACE::Options*>(jopt_handle)
       ->compaction_filter_factory = *cff_factory;
@@ -1278,6 +1278,43 @@ void Java_org_rocksdb_Options_setSstPartitionerFactory(JNIEnv*, jobject,
   options->sst_partitioner_factory = *factory;
 }
 
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setRowCacheMode
+ * Signature: (JB)V
+ */
+void Java_org_rocksdb_Options_setRowCacheMode(JNIEnv*, jobject, jlong jhandle,
+                                              jbyte jrow_cache_mode) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::Options*>(jhandle);
+  opt->row_cache_mode =
+      ROCKSDB_NAMESPACE::RowCacheModeJni::toCppRowCacheMode(jrow_cache_mode);
+}
+
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    rowCacheMode
+ * Signature: (J)B
+ */
+jbyte Java_org_rocksdb_Options_rowCacheMode(JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::Options*>(jhandle);
+  return ROCKSDB_NAMESPACE::RowCacheModeJni::toJavaRowCacheMode(
+      opt->row_cache_mode);
+}
+
+/*
+ * Class:     org_rocksdb_Options
+ * Method:    setDedicatedRowCache
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_Options_setDedicatedRowCache(
+    JNIEnv*, jobject, jlong jhandle, jlong jrow_cache_handle) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::Options*>(jhandle);
+  auto* row_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(
+          jrow_cache_handle);
+  opt->dedicated_row_cache = *row_cache;
+}
+
 /*
  * Class:     org_rocksdb_Options
  * Method:    setCompactionThreadLimiter
@@ -4358,6 +4395,47 @@ void Java_org_rocksdb_ColumnFamilyOptions_setSstPartitionerFactory(
   options->sst_partitioner_factory = *factory;
 }
 
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setRowCacheMode
+ * Signature: (JB)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setRowCacheMode(
+    JNIEnv*, jobject, jlong jhandle, jbyte jrow_cache_mode) {
+  auto* opts =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyOptions*>(jhandle);
+  opts->row_cache_mode =
+      ROCKSDB_NAMESPACE::RowCacheModeJni::toCppRowCacheMode(jrow_cache_mode);
+}
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    rowCacheMode
+ * Signature: (J)B
+ */
+jbyte Java_org_rocksdb_ColumnFamilyOptions_rowCacheMode(JNIEnv*, jobject,
+                                                        jlong jhandle) {
+  auto* opts =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyOptions*>(jhandle);
+  return ROCKSDB_NAMESPACE::RowCacheModeJni::toJavaRowCacheMode(
+      opts->row_cache_mode);
+}
+
+/*
+ * Class:     org_rocksdb_ColumnFamilyOptions
+ * Method:    setDedicatedRowCache
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_ColumnFamilyOptions_setDedicatedRowCache(
+    JNIEnv*, jobject, jlong jhandle, jlong jrow_cache_handle) {
+  auto* opts =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyOptions*>(jhandle);
+  auto* row_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(
+          jrow_cache_handle);
+  opts->dedicated_row_cache = *row_cache;
+}
+
 /*
  * Class:     org_rocksdb_ColumnFamilyOptions
  * Method:    setCompactionThreadLimiter
@@ -8565,6 +8643,49 @@ void Java_org_rocksdb_ReadOptions_setValueSizeSoftLimit(
   opt->value_size_soft_limit = static_cast<uint64_t>(jvalue_size_soft_limit);
 }
 
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    asyncIo
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_ReadOptions_asyncIo(JNIEnv*, jobject, jlong jhandle) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jhandle);
+  return static_cast<jboolean>(opt->async_io);
+}
+
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    setAsyncIo
+ * Signature: (JZ)V
+ */
+void Java_org_rocksdb_ReadOptions_setAsyncIo(JNIEnv*, jobject, jlong jhandle,
+                                             jboolean jasync_io) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jhandle);
+  opt->async_io = static_cast<bool>(jasync_io);
+}
+
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    optimizeMultigetForIo
+ * Signature: (J)Z
+ */
+jboolean Java_org_rocksdb_ReadOptions_optimizeMultigetForIo(JNIEnv*, jobject,
+                                                            jlong jhandle) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jhandle);
+  return static_cast<jboolean>(opt->optimize_multiget_for_io);
+}
+
+/*
+ * Class:     org_rocksdb_ReadOptions
+ * Method:    setOptimizeMultigetForIo
+ * Signature: (JZ)V
+ */
+void Java_org_rocksdb_ReadOptions_setOptimizeMultigetForIo(
+    JNIEnv*, jobject, jlong jhandle, jboolean joptimize_multiget_for_io) {
+  auto* opt = reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jhandle);
+  opt->optimize_multiget_for_io = static_cast<bool>(joptimize_multiget_for_io);
+}
+
 /////////////////////////////////////////////////////////////////////
 // ROCKSDB_NAMESPACE::ComparatorOptions
 
@@ -0,0 +1,46 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::PinnableSlice values returned by RocksDB#getPinned.
+
+#include <jni.h>
+
+#include "include/org_rocksdb_PinnedValue.h"
+#include "rocksdb/slice.h"
+
+/*
+ * Class:     org_rocksdb_PinnedValue
+ * Method:    newValueBuffer
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+jobject Java_org_rocksdb_PinnedValue_newValueBuffer(JNIEnv* env, jclass,
+                                                    jlong jhandle) {
+  auto* pinnable_value =
+      reinterpret_cast<ROCKSDB_NAMESPACE::PinnableSlice*>(jhandle);
+  // the buffer is read-only from Java, so casting away const is safe here
+  jobject jbuffer =
+      env->NewDirectByteBuffer(const_cast<char*>(pinnable_value->data()),
+                               static_cast<jlong>(pinnable_value->size()));
+  if (jbuffer == nullptr) {
+    // no PinnedValue will own the pinned value, so it is released here
+    delete pinnable_value;
+  }
+  return jbuffer;
+}
+
+/*
+ * Class:     org_rocksdb_PinnedValue
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_PinnedValue_disposeInternalJni(JNIEnv*, jclass,
+                                                     jlong jhandle) {
+  auto* pinnable_value =
+      reinterpret_cast<ROCKSDB_NAMESPACE::PinnableSlice*>(jhandle);
+  // releases the pinned block, if any
+  delete pinnable_value;
+}
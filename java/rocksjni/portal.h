@@ -36,10 +36,12 @@
 #include "rocksdb/utilities/transaction_db.h"
 #include "rocksdb/utilities/write_batch_with_index.h"
 #include "rocksjni/compaction_filter_factory_jnicallback.h"
+#include "rocksjni/compaction_filter_jnicallback.h"
 #include "rocksjni/comparatorjnicallback.h"
 #include "rocksjni/cplusplus_to_java_convert.h"
 #include "rocksjni/event_listener_jnicallback.h"
 #include "rocksjni/loggerjnicallback.h"
+#include "rocksjni/merge_operator_jnicallback.h"
 #include "rocksjni/table_filter_jnicallback.h"
 #include "rocksjni/trace_writer_jnicallback.h"
 #include "rocksjni/transaction_notifier_jnicallback.h"
@@ -2285,6 +2287,105 @@ class JniUtil {
     return nullptr;
   }
 
+  /*
+   * Helper for operations on a key which return a value, with the key read
+   * from and the value copied into direct ByteBuffers,
+   * for example WriteBatchWithIndex->GetFromBatchAndDB
+   *
+   * @return the size of the value, which may be larger than jval_len in
+   *     which case only jval_len bytes are copied, or -1 if the key was not
+   *     found. -2 is returned if an exception was thrown.
+   */
+  static jint v_op_direct(
+      std::function<ROCKSDB_NAMESPACE::Status(
+          const ROCKSDB_NAMESPACE::Slice&, ROCKSDB_NAMESPACE::PinnableSlice*)>
+          op,
+      JNIEnv* env, jobject jkey, jint jkey_off, jint jkey_len, jobject jval,
+      jint jval_off, jint jval_len) {
+    static const jint kNotFound = -1;
+    static const jint kError = -2;
+
+    char* key = reinterpret_cast<char*>(env->GetDirectBufferAddress(jkey));
+    if (key == nullptr ||
+        env->GetDirectBufferCapacity(jkey) < (jkey_off + jkey_len)) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env,
+                                                       "Invalid key argument");
+      return kError;
+    }
+    char* value = reinterpret_cast<char*>(env->GetDirectBufferAddress(jval));
+    if (value == nullptr ||
+        env->GetDirectBufferCapacity(jval) < (jval_off + jval_len)) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+          env, "Invalid value argument");
+      return kError;
+    }
+
+    ROCKSDB_NAMESPACE::Slice key_slice(key + jkey_off, jkey_len);
+    ROCKSDB_NAMESPACE::PinnableSlice pinnable_value;
+    ROCKSDB_NAMESPACE::Status s = op(key_slice, &pinnable_value);
+    if (s.IsNotFound()) {
+      return kNotFound;
+    }
+    if (!s.ok()) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+      return kError;
+    }
+
+    const jint pinnable_value_len = static_cast<jint>(pinnable_value.size());
+    memcpy(value + jval_off, pinnable_value.data(),
+           std::min(jval_len, pinnable_value_len));
+    return pinnable_value_len;
+  }
+
+  /*
+   * Helper for operations on a key which return a value, with the key read
+   * from and the value copied into regions of byte arrays,
+   * for example WriteBatchWithIndex->GetFromBatchAndDB
+   *
+   * @return the size of the value, which may be larger than jval_len in
+   *     which case only jval_len bytes are copied, or -1 if the key was not
+   *     found. -2 is returned if an exception was thrown.
+   */
+  static jint v_op_region(
+      std::function<ROCKSDB_NAMESPACE::Status(
+          const ROCKSDB_NAMESPACE::Slice&, ROCKSDB_NAMESPACE::PinnableSlice*)>
+          op,
+      JNIEnv* env, jbyteArray jkey, jint jkey_off, jint jkey_len,
+      jbyteArray jval, jint jval_off, jint jval_len) {
+    static const jint kNotFound = -1;
+    static const jint kError = -2;
+
+    std::unique_ptr<jbyte[]> key(new jbyte[jkey_len]);
+    env->GetByteArrayRegion(jkey, jkey_off, jkey_len, key.get());
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      return kError;
+    }
+
+    ROCKSDB_NAMESPACE::Slice key_slice(reinterpret_cast<char*>(key.get()),
+                                       jkey_len);
+    ROCKSDB_NAMESPACE::PinnableSlice pinnable_value;
+    ROCKSDB_NAMESPACE::Status s = op(key_slice, &pinnable_value);
+    if (s.IsNotFound()) {
+      return kNotFound;
+    }
+    if (!s.ok()) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+      return kError;
+    }
+
+    const jint pinnable_value_len = static_cast<jint>(pinnable_value.size());
+    env->SetByteArrayRegion(
+        jval, jval_off, std::min(jval_len, pinnable_value_len),
+        const_cast<jbyte*>(
+            reinterpret_cast<const jbyte*>(pinnable_value.data())));
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      return kError;
+    }
+    return pinnable_value_len;
+  }
+
   /**
    * Creates a vector<T*> of C++ pointers from
    *     a Java array of C++ pointer addresses.
@@ -3746,6 +3847,268 @@ class AbstractCompactionFilterFactoryJni
   }
 };
 
+// The portal class for org.rocksdb.AbstractJavaCompactionFilter
+class AbstractJavaCompactionFilterJni
+    : public RocksDBNativeClass<
+          const ROCKSDB_NAMESPACE::CompactionFilterJniCallback*,
+          AbstractJavaCompactionFilterJni> {
+ public:
+  /**
+   * Get the Java Class org.rocksdb.AbstractJavaCompactionFilter
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Class or nullptr if one of the
+   *     ClassFormatError, ClassCircularityError, NoClassDefFoundError,
+   *     OutOfMemoryError or ExceptionInInitializerError exceptions is thrown
+   */
+  static jclass getJClass(JNIEnv* env) {
+    return RocksDBNativeClass::getJClass(
+        env, "org/rocksdb/AbstractJavaCompactionFilter");
+  }
+
+  /**
+   * Get the Java Method: AbstractJavaCompactionFilter#name
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getNameMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid =
+        env->GetMethodID(jclazz, "name", "()Ljava/lang/String;");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Method: AbstractJavaCompactionFilter#newReusedBuffer
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getNewReusedBufferMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid = env->GetMethodID(
+        jclazz, "newReusedBuffer",
+        "(I)Lorg/rocksdb/AbstractJavaCompactionFilter$ReusedBuffer;");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Method: AbstractJavaCompactionFilter#filterInternal
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getFilterInternalMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid = env->GetMethodID(
+        jclazz, "filterInternal",
+        "(Lorg/rocksdb/AbstractJavaCompactionFilter$ReusedBuffer;IB)B");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Field: AbstractJavaCompactionFilter.ReusedBuffer#buffer
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Field ID or nullptr if the class or field id could not
+   *     be retrieved
+   */
+  static jfieldID getReusedBufferBufferFieldId(JNIEnv* env) {
+    jclass jclazz = JavaClass::getJClass(
+        env, "org/rocksdb/AbstractJavaCompactionFilter$ReusedBuffer");
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jfieldID fid =
+        env->GetFieldID(jclazz, "buffer", "Ljava/nio/ByteBuffer;");
+    assert(fid != nullptr);
+    return fid;
+  }
+
+  /**
+   * Get the Java Field: AbstractJavaCompactionFilter.ReusedBuffer#newValue
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Field ID or nullptr if the class or field id could not
+   *     be retrieved
+   */
+  static jfieldID getReusedBufferNewValueFieldId(JNIEnv* env) {
+    jclass jclazz = JavaClass::getJClass(
+        env, "org/rocksdb/AbstractJavaCompactionFilter$ReusedBuffer");
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jfieldID fid =
+        env->GetFieldID(jclazz, "newValue", "Ljava/nio/ByteBuffer;");
+    assert(fid != nullptr);
+    return fid;
+  }
+};
+
+// The portal class for org.rocksdb.AbstractMergeOperator
+class AbstractMergeOperatorJni
+    : public RocksDBNativeClass<
+          const ROCKSDB_NAMESPACE::MergeOperatorJniCallback*,
+          AbstractMergeOperatorJni> {
+ public:
+  /**
+   * Get the Java Class org.rocksdb.AbstractMergeOperator
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Class or nullptr if one of the
+   *     ClassFormatError, ClassCircularityError, NoClassDefFoundError,
+   *     OutOfMemoryError or ExceptionInInitializerError exceptions is thrown
+   */
+  static jclass getJClass(JNIEnv* env) {
+    return RocksDBNativeClass::getJClass(env,
+                                         "org/rocksdb/AbstractMergeOperator");
+  }
+
+  /**
+   * Get the Java Method: AbstractMergeOperator#name
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getNameMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid =
+        env->GetMethodID(jclazz, "name", "()Ljava/lang/String;");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Method: AbstractMergeOperator#newReusedBuffer
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getNewReusedBufferMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid =
+        env->GetMethodID(jclazz, "newReusedBuffer",
+                         "(I)Lorg/rocksdb/AbstractMergeOperator$ReusedBuffer;");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Method: AbstractMergeOperator#fullMergeInternal
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getFullMergeInternalMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid = env->GetMethodID(
+        jclazz, "fullMergeInternal",
+        "(Lorg/rocksdb/AbstractMergeOperator$ReusedBuffer;)Ljava/nio/"
+        "ByteBuffer;");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Method: AbstractMergeOperator#partialMergeInternal
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Method ID or nullptr if the class or method id could not
+   *     be retrieved
+   */
+  static jmethodID getPartialMergeInternalMethodId(JNIEnv* env) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jmethodID mid = env->GetMethodID(
+        jclazz, "partialMergeInternal",
+        "(Lorg/rocksdb/AbstractMergeOperator$ReusedBuffer;)Ljava/nio/"
+        "ByteBuffer;");
+    assert(mid != nullptr);
+    return mid;
+  }
+
+  /**
+   * Get the Java Field: AbstractMergeOperator.ReusedBuffer#buffer
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Field ID or nullptr if the class or field id could not
+   *     be retrieved
+   */
+  static jfieldID getReusedBufferBufferFieldId(JNIEnv* env) {
+    jclass jclazz = JavaClass::getJClass(
+        env, "org/rocksdb/AbstractMergeOperator$ReusedBuffer");
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    static jfieldID fid =
+        env->GetFieldID(jclazz, "buffer", "Ljava/nio/ByteBuffer;");
+    assert(fid != nullptr);
+    return fid;
+  }
+};
+
 // The portal class for org.rocksdb.AbstractTransactionNotifier
 class AbstractTransactionNotifierJni
     : public RocksDBNativeClass<
@@ -6276,6 +6639,102 @@ class KeyLockInfoJni : public JavaClass {
   }
 };
 
+// The portal class for org.rocksdb.TransactionDB.RangeLockInfo
+class RangeLockInfoJni : public JavaClass {
+ public:
+  /**
+   * Get the Java Class org.rocksdb.TransactionDB.RangeLockInfo
+   *
+   * @param env A pointer to the Java environment
+   *
+   * @return The Java Class or nullptr if one of the
+   *     ClassFormatError, ClassCircularityError, NoClassDefFoundError,
+   *     OutOfMemoryError or ExceptionInInitializerError exceptions is thrown
+   */
+  static jclass getJClass(JNIEnv* env) {
+    return JavaClass::getJClass(env,
+                                "org/rocksdb/TransactionDB$RangeLockInfo");
+  }
+
+  /**
+   * Create a new Java org.rocksdb.TransactionDB.RangeLockInfo object
+   * with the same properties as the provided C++
+   * ROCKSDB_NAMESPACE::RangeLockInfo object
+   *
+   * @param env A pointer to the Java environment
+   * @param column_family_id The id of the column family of the lock
+   * @param range_lock_info The ROCKSDB_NAMESPACE::RangeLockInfo object
+   *
+   * @return A reference to a Java
+   *     org.rocksdb.TransactionDB.RangeLockInfo object,
+   *     or nullptr if an an exception occurs
+   */
+  static jobject construct(
+      JNIEnv* env, const uint32_t column_family_id,
+      const ROCKSDB_NAMESPACE::RangeLockInfo& range_lock_info) {
+    jclass jclazz = getJClass(env);
+    if (jclazz == nullptr) {
+      // exception occurred accessing class
+      return nullptr;
+    }
+
+    jmethodID mid = env->GetMethodID(jclazz, "<init>", "(J[BZ[BZ[JZ)V");
+    if (mid == nullptr) {
+      // exception thrown: NoSuchMethodException or OutOfMemoryError
+      return nullptr;
+    }
+
+    jbyteArray jstart = JniUtil::copyBytes(env, range_lock_info.start.slice);
+    if (jstart == nullptr) {
+      // exception thrown: OutOfMemoryError
+      return nullptr;
+    }
+
+    jbyteArray jend = JniUtil::copyBytes(env, range_lock_info.end.slice);
+    if (jend == nullptr) {
+      // exception thrown: OutOfMemoryError
+      env->DeleteLocalRef(jstart);
+      return nullptr;
+    }
+
+    const jsize jtransaction_ids_len =
+        static_cast<jsize>(range_lock_info.ids.size());
+    jlongArray jtransaction_ids = env->NewLongArray(jtransaction_ids_len);
+    if (jtransaction_ids == nullptr) {
+      // exception thrown: OutOfMemoryError
+      env->DeleteLocalRef(jend);
+      env->DeleteLocalRef(jstart);
+      return nullptr;
+    }
+    const std::vector<jlong> transaction_ids(range_lock_info.ids.begin(),
+                                             range_lock_info.ids.end());
+    env->SetLongArrayRegion(jtransaction_ids, 0, jtransaction_ids_len,
+                            transaction_ids.data());
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      env->DeleteLocalRef(jtransaction_ids);
+      env->DeleteLocalRef(jend);
+      env->DeleteLocalRef(jstart);
+      return nullptr;
+    }
+
+    const jobject jrange_lock_info = env->NewObject(
+        jclazz, mid, static_cast<jlong>(column_family_id), jstart,
+        static_cast<jboolean>(range_lock_info.start.inf_suffix), jend,
+        static_cast<jboolean>(range_lock_info.end.inf_suffix),
+        jtransaction_ids, static_cast<jboolean>(range_lock_info.exclusive));
+    env->DeleteLocalRef(jtransaction_ids);
+    env->DeleteLocalRef(jend);
+    env->DeleteLocalRef(jstart);
+    if (jrange_lock_info == nullptr) {
+      // exception thrown: InstantiationException or OutOfMemoryError
+      return nullptr;
+    }
+
+    return jrange_lock_info;
+  }
+};
+
 // The portal class for org.rocksdb.TransactionDB.DeadlockInfo
 class DeadlockInfoJni : public JavaClass {
  public:
@@ -8073,6 +8532,42 @@ class PrepopulateBlobCacheJni {
   }
 };
 
+// The portal class for org.rocksdb.RowCacheMode
+class RowCacheModeJni {
+ public:
+  // Returns the equivalent org.rocksdb.RowCacheMode for the provided
+  // C++ ROCKSDB_NAMESPACE::RowCacheMode enum
+  static jbyte toJavaRowCacheMode(
+      ROCKSDB_NAMESPACE::RowCacheMode row_cache_mode) {
+    switch (row_cache_mode) {
+      case ROCKSDB_NAMESPACE::RowCacheMode::kEnabled:
+        return 0x0;
+      case ROCKSDB_NAMESPACE::RowCacheMode::kCacheMisses:
+        return 0x1;
+      case ROCKSDB_NAMESPACE::RowCacheMode::kDisabled:
+        return 0x2;
+      default:
+        return 0x7f;  // undefined
+    }
+  }
+
+  // Returns the equivalent C++ ROCKSDB_NAMESPACE::RowCacheMode enum for the
+  // provided Java org.rocksdb.RowCacheMode
+  static ROCKSDB_NAMESPACE::RowCacheMode toCppRowCacheMode(
+      jbyte jrow_cache_mode) {
+    switch (jrow_cache_mode) {
+      case 0x1:
+        return ROCKSDB_NAMESPACE::RowCacheMode::kCacheMisses;
+      case 0x2:
+        return ROCKSDB_NAMESPACE::RowCacheMode::kDisabled;
+      case 0x0:
+      default:
+        // undefined/default
+        return ROCKSDB_NAMESPACE::RowCacheMode::kEnabled;
+    }
+  }
+};
+
 // The portal class for org.rocksdb.AbstractListener.EnabledEventCallback
 class EnabledEventCallbackJni {
  public:
@@ -0,0 +1,161 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++
+// for ROCKSDB_NAMESPACE::RangeLockManagerHandle.
+
+#include <jni.h>
+
+#include <cerrno>
+#include <memory>
+
+#include "include/org_rocksdb_RangeLockManager.h"
+#include "rocksdb/utilities/transaction_db.h"
+#include "rocksjni/cplusplus_to_java_convert.h"
+#include "rocksjni/portal.h"
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    newRangeLockManager
+ * Signature: ()J
+ */
+jlong Java_org_rocksdb_RangeLockManager_newRangeLockManager(JNIEnv* env,
+                                                            jclass /*jcls*/) {
+#ifndef OS_WIN
+  (void)env;
+  auto* sptr_range_lock_mgr =
+      new std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>(
+          ROCKSDB_NAMESPACE::NewRangeLockManager(nullptr));
+  return GET_CPLUSPLUS_POINTER(sptr_range_lock_mgr);
+#else
+  ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+      env, ROCKSDB_NAMESPACE::Status::NotSupported(
+               "Range locking is not supported on Windows"));
+  return 0;
+#endif  // OS_WIN
+}
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_RangeLockManager_disposeInternalJni(JNIEnv* /*env*/,
+                                                          jclass /*jcls*/,
+                                                          jlong jhandle) {
+  delete reinterpret_cast<
+      std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>*>(jhandle);
+}
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    setMaxLockMemory
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_RangeLockManager_setMaxLockMemory(
+    JNIEnv* env, jclass /*jcls*/, jlong jhandle, jlong jmax_lock_memory) {
+  auto* range_lock_mgr = reinterpret_cast<
+      std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>*>(jhandle);
+  const int result = (*range_lock_mgr)
+                         ->SetMaxLockMemory(
+                             static_cast<size_t>(jmax_lock_memory));
+  if (result == EDOM) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+        env, ROCKSDB_NAMESPACE::Status::Incomplete(
+                 "The locks currently use more memory than the limit"));
+  } else if (result != 0) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+        env, ROCKSDB_NAMESPACE::Status::InvalidArgument(
+                 "Failed to set the maximum lock memory"));
+  }
+}
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    getMaxLockMemory
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_RangeLockManager_getMaxLockMemory(JNIEnv* /*env*/,
+                                                         jclass /*jcls*/,
+                                                         jlong jhandle) {
+  auto* range_lock_mgr = reinterpret_cast<
+      std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>*>(jhandle);
+  return static_cast<jlong>((*range_lock_mgr)->GetMaxLockMemory());
+}
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    getCounters
+ * Signature: (J)[J
+ */
+jlongArray Java_org_rocksdb_RangeLockManager_getCounters(JNIEnv* env,
+                                                         jclass /*jcls*/,
+                                                         jlong jhandle) {
+  auto* range_lock_mgr = reinterpret_cast<
+      std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>*>(jhandle);
+  const ROCKSDB_NAMESPACE::RangeLockManagerHandle::Counters counters =
+      (*range_lock_mgr)->GetStatus();
+  // the order must match the constants of org.rocksdb.RangeLockManager
+  const jlong values[] = {static_cast<jlong>(counters.escalation_count),
+                          static_cast<jlong>(counters.lock_wait_count),
+                          static_cast<jlong>(counters.current_lock_memory)};
+  const jsize len = static_cast<jsize>(sizeof(values) / sizeof(values[0]));
+  jlongArray jvalues = env->NewLongArray(len);
+  if (jvalues == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+  env->SetLongArrayRegion(jvalues, 0, len, values);
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    env->DeleteLocalRef(jvalues);
+    return nullptr;
+  }
+  return jvalues;
+}
+
+/*
+ * Class:     org_rocksdb_RangeLockManager
+ * Method:    getRangeLockStatusData
+ * Signature: (J)[Lorg/rocksdb/TransactionDB$RangeLockInfo;
+ */
+jobjectArray Java_org_rocksdb_RangeLockManager_getRangeLockStatusData(
+    JNIEnv* env, jclass /*jcls*/, jlong jhandle) {
+  auto* range_lock_mgr = reinterpret_cast<
+      std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>*>(jhandle);
+  const ROCKSDB_NAMESPACE::RangeLockManagerHandle::RangeLockStatus
+      range_lock_status = (*range_lock_mgr)->GetRangeLockStatusData();
+
+  jclass jclazz = ROCKSDB_NAMESPACE::RangeLockInfoJni::getJClass(env);
+  if (jclazz == nullptr) {
+    // exception occurred accessing class
+    return nullptr;
+  }
+  jobjectArray jrange_lock_infos = env->NewObjectArray(
+      static_cast<jsize>(range_lock_status.size()), jclazz, nullptr);
+  if (jrange_lock_infos == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  jsize i = 0;
+  for (const auto& entry : range_lock_status) {
+    jobject jrange_lock_info = ROCKSDB_NAMESPACE::RangeLockInfoJni::construct(
+        env, entry.first, entry.second);
+    if (jrange_lock_info == nullptr) {
+      // exception occurred
+      env->DeleteLocalRef(jrange_lock_infos);
+      return nullptr;
+    }
+    env->SetObjectArrayElement(jrange_lock_infos, i++, jrange_lock_info);
+    env->DeleteLocalRef(jrange_lock_info);
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      env->DeleteLocalRef(jrange_lock_infos);
+      return nullptr;
+    }
+  }
+  return jrange_lock_infos;
+}
@@ -0,0 +1,113 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the direct buffers which the Java callbacks copy
+// their input into.
+
+#include "rocksjni/reused_buffer.h"
+
+#include <algorithm>
+
+#include "rocksjni/portal.h"
+
+namespace ROCKSDB_NAMESPACE {
+ReusedBufFactory::ReusedBufFactory()
+    : m_jvm(nullptr),
+      m_jcallback_obj(nullptr),
+      m_jnew_reused_buffer_mid(nullptr),
+      m_jreused_buffer_fid(nullptr) {}
+
+void ReusedBufFactory::Initialize(JavaVM* jvm, jobject jcallback_obj,
+                                  jmethodID jnew_reused_buffer_mid,
+                                  jfieldID jreused_buffer_fid) {
+  m_jvm = jvm;
+  m_jcallback_obj = jcallback_obj;
+  m_jnew_reused_buffer_mid = jnew_reused_buffer_mid;
+  m_jreused_buffer_fid = jreused_buffer_fid;
+}
+
+ReusedBuf* ReusedBufFactory::New(JNIEnv* env, size_t capacity,
+                                 bool global) const {
+  jobject jreused = env->CallObjectMethod(
+      m_jcallback_obj, m_jnew_reused_buffer_mid, static_cast<jint>(capacity));
+  if (env->ExceptionCheck() || jreused == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  jobject jbuf = env->GetObjectField(jreused, m_jreused_buffer_fid);
+  char* buf = static_cast<char*>(env->GetDirectBufferAddress(jbuf));
+  env->DeleteLocalRef(jbuf);
+  if (buf == nullptr) {
+    RocksDBExceptionJni::ThrowNew(env, "Unable to get Direct Buffer Address");
+    env->DeleteLocalRef(jreused);
+    return nullptr;
+  }
+
+  if (global) {
+    jobject jglobal_reused = env->NewGlobalRef(jreused);
+    env->DeleteLocalRef(jreused);
+    if (jglobal_reused == nullptr) {
+      // exception thrown: OutOfMemoryError
+      return nullptr;
+    }
+    jreused = jglobal_reused;
+  }
+
+  return new ReusedBuf(m_jvm, jreused, buf, capacity, global);
+}
+
+ReusedBuf* ReusedBufFactory::GetThreadLocal(JNIEnv* env,
+                                            ThreadLocalPtr* tl_reused_buf,
+                                            size_t required,
+                                            size_t initial_capacity,
+                                            size_t max_capacity) const {
+  ReusedBuf* reused_buf = static_cast<ReusedBuf*>(tl_reused_buf->Get());
+  if (reused_buf != nullptr && reused_buf->capacity >= required) {
+    return reused_buf;
+  }
+
+  // the thread-local buffer has not yet been created, or is too small
+  size_t capacity =
+      reused_buf == nullptr ? initial_capacity : reused_buf->capacity;
+  while (capacity < required) {
+    capacity *= 2;
+  }
+  capacity = std::min(capacity, max_capacity);
+
+  ReusedBuf* new_reused_buf = New(env, capacity, true);
+  if (new_reused_buf == nullptr) {
+    // exception occurred
+    return nullptr;
+  }
+  tl_reused_buf->Reset(new_reused_buf);
+  if (reused_buf != nullptr) {
+    Delete(env, reused_buf);
+  }
+  return new_reused_buf;
+}
+
+void ReusedBufFactory::Delete(JNIEnv* env, ReusedBuf* reused_buf) {
+  if (reused_buf->global) {
+    env->DeleteGlobalRef(reused_buf->jreused);
+  } else {
+    env->DeleteLocalRef(reused_buf->jreused);
+  }
+  delete reused_buf;
+}
+
+void ReusedBufFactory::DeleteThreadLocal(void* ptr) {
+  ReusedBuf* reused_buf = static_cast<ReusedBuf*>(ptr);
+  jboolean attached_thread = JNI_FALSE;
+  JNIEnv* env = JniUtil::getJniEnv(reused_buf->jvm, &attached_thread);
+  if (env != nullptr) {
+    env->DeleteGlobalRef(reused_buf->jreused);
+    JniUtil::releaseJniEnv(reused_buf->jvm, attached_thread);
+  }
+  delete reused_buf;
+}
+
+}  // namespace ROCKSDB_NAMESPACE
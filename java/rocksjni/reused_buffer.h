@@ -0,0 +1,80 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the direct buffers which the Java callbacks copy
+// their input into, so that a buffer, and the Java views of it, can be
+// reused across calls rather than allocated per call.
+
+#ifndef JAVA_ROCKSJNI_REUSED_BUFFER_H_
+#define JAVA_ROCKSJNI_REUSED_BUFFER_H_
+
+#include <jni.h>
+
+#include <cstddef>
+
+#include "rocksdb/rocksdb_namespace.h"
+#include "util/thread_local.h"
+
+namespace ROCKSDB_NAMESPACE {
+
+// A Java ReusedBuffer object, and the address of its direct ByteBuffer
+struct ReusedBuf {
+  ReusedBuf(JavaVM* _jvm, jobject _jreused, char* _buf, size_t _capacity,
+            bool _global)
+      : jvm(_jvm),
+        jreused(_jreused),
+        buf(_buf),
+        capacity(_capacity),
+        global(_global) {}
+  JavaVM* jvm;
+  jobject jreused;
+  char* buf;
+  size_t capacity;
+  // true if jreused is a global ref, as the buffer outlives the JNI call
+  // which created it
+  bool global;
+};
+
+// Creates the reused buffers of a Java callback object, by calling its
+// factory method for a Java ReusedBuffer, whose field holds the direct
+// ByteBuffer.
+class ReusedBufFactory {
+ public:
+  ReusedBufFactory();
+
+  void Initialize(JavaVM* jvm, jobject jcallback_obj,
+                  jmethodID jnew_reused_buffer_mid,
+                  jfieldID jreused_buffer_fid);
+
+  // Returns a new buffer of capacity bytes, or nullptr if an exception
+  // occurred. The buffer must be global if it is used after the current JNI
+  // call returns.
+  ReusedBuf* New(JNIEnv* env, size_t capacity, bool global) const;
+
+  // Returns the buffer of the calling thread held by tl_reused_buf, which
+  // is created with initial_capacity, and grown by doubling up to
+  // max_capacity, until it has at least required bytes. Returns nullptr if
+  // an exception occurred. required must not exceed max_capacity.
+  ReusedBuf* GetThreadLocal(JNIEnv* env, ThreadLocalPtr* tl_reused_buf,
+                            size_t required, size_t initial_capacity,
+                            size_t max_capacity) const;
+
+  static void Delete(JNIEnv* env, ReusedBuf* reused_buf);
+
+  // The UnrefHandler of a ThreadLocalPtr holding buffers, which may be
+  // called on a thread which is not attached to the JVM
+  static void DeleteThreadLocal(void* ptr);
+
+ private:
+  JavaVM* m_jvm;
+  jobject m_jcallback_obj;
+  jmethodID m_jnew_reused_buffer_mid;
+  jfieldID m_jreused_buffer_fid;
+};
+
+}  // namespace ROCKSDB_NAMESPACE
+
+#endif  // JAVA_ROCKSJNI_REUSED_BUFFER_H_
@@ -734,6 +734,13 @@ void Java_org_rocksdb_RocksDB_put__JJ_3BII_3BIIJ(
   }
 }
 
+namespace {
+// the options of the natives below which are passed a zero options handle,
+// shared rather than constructed on each call
+const ROCKSDB_NAMESPACE::WriteOptions kDefaultWriteOptions;
+const ROCKSDB_NAMESPACE::ReadOptions kDefaultReadOptions;
+}  // namespace
+
 /*
  * Class:     org_rocksdb_RocksDB
  * Method:    putDirect
@@ -744,8 +751,12 @@ void Java_org_rocksdb_RocksDB_putDirect(
     jobject jkey, jint jkey_off, jint jkey_len, jobject jval, jint jval_off,
     jint jval_len, jlong jcf_handle) {
   auto* db = reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle);
-  auto* write_options =
-      reinterpret_cast<ROCKSDB_NAMESPACE::WriteOptions*>(jwrite_options_handle);
+  // a zero handle means the caller did not supply WriteOptions
+  const auto* write_options =
+      jwrite_options_handle == 0
+          ? &kDefaultWriteOptions
+          : reinterpret_cast<ROCKSDB_NAMESPACE::WriteOptions*>(
+                jwrite_options_handle);
   auto* cf_handle =
       reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(jcf_handle);
   auto put = [&env, &db, &cf_handle, &write_options](
@@ -766,6 +777,69 @@ void Java_org_rocksdb_RocksDB_putDirect(
                                            jval, jval_off, jval_len);
 }
 
+/**
+ * Encodes a 64-bit key as 8 big-endian bytes, so that non-negative keys
+ * sort numerically under the bytewise comparator.
+ */
+static inline void encode_long_key(jlong jkey, char* buf) {
+  auto v = static_cast<uint64_t>(jkey);
+  for (int i = 7; i >= 0; i--) {
+    buf[i] = static_cast<char>(v & 0xff);
+    v >>= 8;
+  }
+}
+
+/**
+ * Decodes an 8 byte big-endian value, as written by ByteBuffer#putLong.
+ */
+static inline jlong decode_long_value(const char* buf) {
+  uint64_t v = 0;
+  for (int i = 0; i < 8; i++) {
+    v = (v << 8) | static_cast<uint8_t>(buf[i]);
+  }
+  return static_cast<jlong>(v);
+}
+
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    putLongDirect
+ * Signature: (JJJLjava/nio/ByteBuffer;IIJ)V
+ */
+void Java_org_rocksdb_RocksDB_putLongDirect(JNIEnv* env, jobject /*jdb*/,
+                                            jlong jdb_handle,
+                                            jlong jwrite_options_handle,
+                                            jlong jkey, jobject jval,
+                                            jint jval_off, jint jval_len,
+                                            jlong jcf_handle) {
+  auto* db = reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle);
+  // a zero handle means the caller did not supply WriteOptions
+  const auto* write_options =
+      jwrite_options_handle == 0
+          ? &kDefaultWriteOptions
+          : reinterpret_cast<ROCKSDB_NAMESPACE::WriteOptions*>(
+                jwrite_options_handle);
+  auto* cf_handle =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(jcf_handle);
+  if (cf_handle == nullptr) {
+    cf_handle = db->DefaultColumnFamily();
+  }
+
+  char key[sizeof(jlong)];
+  encode_long_key(jkey, key);
+  ROCKSDB_NAMESPACE::Slice key_slice(key, sizeof(key));
+
+  auto put = [&env, &db, &cf_handle, &write_options,
+              &key_slice](ROCKSDB_NAMESPACE::Slice& value) {
+    ROCKSDB_NAMESPACE::Status s =
+        db->Put(*write_options, cf_handle, key_slice, value);
+    if (s.ok()) {
+      return;
+    }
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+  };
+  ROCKSDB_NAMESPACE::JniUtil::k_op_direct(put, env, jval, jval_off, jval_len);
+}
+
 //////////////////////////////////////////////////////////////////////////////
 // ROCKSDB_NAMESPACE::DB::Delete()
 
@@ -1301,9 +1375,52 @@ jint Java_org_rocksdb_RocksDB_getDirect(JNIEnv* env, jobject /*jdb*/,
       reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(jcf_handle);
   bool has_exception = false;
   return rocksdb_get_helper_direct(
-      env, db_handle,
-      ro_opt == nullptr ? ROCKSDB_NAMESPACE::ReadOptions() : *ro_opt, cf_handle,
-      jkey, jkey_off, jkey_len, jval, jval_off, jval_len, &has_exception);
+      env, db_handle, ro_opt == nullptr ? kDefaultReadOptions : *ro_opt,
+      cf_handle, jkey, jkey_off, jkey_len, jval, jval_off, jval_len,
+      &has_exception);
+}
+
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    getLongDirect
+ * Signature: (JJJLjava/nio/ByteBuffer;IIJ)I
+ */
+jint Java_org_rocksdb_RocksDB_getLongDirect(JNIEnv* env, jobject /*jdb*/,
+                                            jlong jdb_handle,
+                                            jlong jropt_handle, jlong jkey,
+                                            jobject jval, jint jval_off,
+                                            jint jval_len, jlong jcf_handle) {
+  static const int kNotFound = -1;
+  static const int kStatusError = -2;
+
+  auto* db = reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle);
+  // a zero handle means the caller did not supply ReadOptions
+  const auto* read_options =
+      jropt_handle == 0
+          ? &kDefaultReadOptions
+          : reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jropt_handle);
+  auto* cf_handle =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(jcf_handle);
+  if (cf_handle == nullptr) {
+    cf_handle = db->DefaultColumnFamily();
+  }
+
+  char key[sizeof(jlong)];
+  encode_long_key(jkey, key);
+
+  ROCKSDB_NAMESPACE::PinnableSlice pinnable_value;
+  ROCKSDB_NAMESPACE::Status s =
+      db->Get(*read_options, cf_handle,
+              ROCKSDB_NAMESPACE::Slice(key, sizeof(key)), &pinnable_value);
+  if (s.IsNotFound()) {
+    return kNotFound;
+  } else if (!s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+    return kStatusError;
+  }
+
+  return ROCKSDB_NAMESPACE::JniUtil::copyToDirect(env, pinnable_value, jval,
+                                                  jval_off, jval_len);
 }
 
 //////////////////////////////////////////////////////////////////////////////
@@ -1652,6 +1769,53 @@ jbyteArray Java_org_rocksdb_RocksDB_get__JJ_3BIIJ(
   }
 }
 
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    getPinned
+ * Signature: (JJ[BIIJ)J
+ */
+jlong Java_org_rocksdb_RocksDB_getPinned(JNIEnv* env, jobject,
+                                         jlong jdb_handle, jlong jropt_handle,
+                                         jbyteArray jkey, jint jkey_off,
+                                         jint jkey_len, jlong jcf_handle) {
+  auto* db = reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle);
+  auto& ro_opt =
+      *reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jropt_handle);
+  auto* cf_handle =
+      jcf_handle == 0
+          ? db->DefaultColumnFamily()
+          : reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(
+                jcf_handle);
+
+  jbyte* key = new jbyte[jkey_len];
+  env->GetByteArrayRegion(jkey, jkey_off, jkey_len, key);
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    delete[] key;
+    return 0;
+  }
+  ROCKSDB_NAMESPACE::Slice key_slice(reinterpret_cast<char*>(key), jkey_len);
+
+  // ownership of the pinned value is passed to the Java PinnedValue, which
+  // releases the pinned block (or owned copy) when it is closed
+  auto* pinnable_value = new ROCKSDB_NAMESPACE::PinnableSlice();
+  ROCKSDB_NAMESPACE::Status s =
+      db->Get(ro_opt, cf_handle, key_slice, pinnable_value);
+
+  // cleanup
+  delete[] key;
+
+  if (s.ok()) {
+    return GET_CPLUSPLUS_POINTER(pinnable_value);
+  }
+
+  delete pinnable_value;
+  if (!s.IsNotFound()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+  }
+  return 0;
+}
+
 jint rocksdb_get_helper(
     JNIEnv* env, ROCKSDB_NAMESPACE::DB* db,
     const ROCKSDB_NAMESPACE::ReadOptions& read_options,
@@ -2244,6 +2408,146 @@ void Java_org_rocksdb_RocksDB_multiGet__JJ_3J_3Ljava_nio_ByteBuffer_2_3I_3I_3Lja
       jcolumn_family_handles, jkeys, jkey_offsets, jkey_lengths, jvalues,
       jvalues_sizes, jstatus_objects);
 }
+
+namespace {
+/**
+ * Looks up the values of 64-bit keys, all from one column family, encoding
+ * the keys natively into one contiguous buffer.
+ *
+ * @return false if an exception was thrown
+ */
+bool multi_get_longs(JNIEnv* env, jlong jdb_handle, jlong jropt_handle,
+                     jlongArray jkeys, jlong jcf_handle,
+                     std::vector<ROCKSDB_NAMESPACE::PinnableSlice>* values,
+                     std::vector<ROCKSDB_NAMESPACE::Status>* statuses) {
+  auto* db = reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle);
+  // a zero handle means the caller did not supply ReadOptions
+  const auto* read_options =
+      jropt_handle == 0
+          ? &kDefaultReadOptions
+          : reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jropt_handle);
+  auto* cf_handle =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(jcf_handle);
+  if (cf_handle == nullptr) {
+    cf_handle = db->DefaultColumnFamily();
+  }
+
+  const jsize num_keys = env->GetArrayLength(jkeys);
+  jlong* raw_keys = env->GetLongArrayElements(jkeys, nullptr);
+  if (raw_keys == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return false;
+  }
+
+  // encode all of the keys into one contiguous buffer
+  std::vector<char> key_bytes(static_cast<size_t>(num_keys) * sizeof(jlong));
+  std::vector<ROCKSDB_NAMESPACE::Slice> keys;
+  keys.reserve(num_keys);
+  for (jsize i = 0; i < num_keys; i++) {
+    char* key = key_bytes.data() + i * sizeof(jlong);
+    encode_long_key(raw_keys[i], key);
+    keys.emplace_back(key, sizeof(jlong));
+  }
+  env->ReleaseLongArrayElements(jkeys, raw_keys, JNI_ABORT);
+
+  values->resize(num_keys);
+  statuses->resize(num_keys);
+  if (num_keys > 0) {
+    db->MultiGet(*read_options, cf_handle, num_keys, keys.data(),
+                 values->data(), statuses->data());
+  }
+  return true;
+}
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    multiGetLongs
+ * Signature: (JJ[JJ)[[B
+ */
+jobjectArray Java_org_rocksdb_RocksDB_multiGetLongs(JNIEnv* env, jobject,
+                                                    jlong jdb_handle,
+                                                    jlong jropt_handle,
+                                                    jlongArray jkeys,
+                                                    jlong jcf_handle) {
+  std::vector<ROCKSDB_NAMESPACE::PinnableSlice> values;
+  std::vector<ROCKSDB_NAMESPACE::Status> s;
+  if (!multi_get_longs(env, jdb_handle, jropt_handle, jkeys, jcf_handle,
+                       &values, &s)) {
+    return nullptr;
+  }
+  const jsize num_keys = static_cast<jsize>(values.size());
+
+  jobjectArray jresults =
+      ROCKSDB_NAMESPACE::ByteJni::new2dByteArray(env, num_keys);
+  if (jresults == nullptr) {
+    // exception thrown: OutOfMemoryError
+    return nullptr;
+  }
+
+  for (jsize i = 0; i < num_keys; i++) {
+    if (s[i].IsNotFound()) {
+      continue;
+    } else if (!s[i].ok()) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s[i]);
+      return nullptr;
+    }
+
+    jbyteArray jentry_value =
+        ROCKSDB_NAMESPACE::JniUtil::copyBytes(env, values[i]);
+    if (jentry_value == nullptr) {
+      // exception thrown: OutOfMemoryError
+      return nullptr;
+    }
+
+    env->SetObjectArrayElement(jresults, i, jentry_value);
+    env->DeleteLocalRef(jentry_value);
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      return nullptr;
+    }
+  }
+
+  return jresults;
+}
+
+/*
+ * Class:     org_rocksdb_RocksDB
+ * Method:    multiGetLongValues
+ * Signature: (JJ[J[JJJ)V
+ */
+void Java_org_rocksdb_RocksDB_multiGetLongValues(
+    JNIEnv* env, jobject, jlong jdb_handle, jlong jropt_handle,
+    jlongArray jkeys, jlongArray jvalues, jlong jnot_found_value,
+    jlong jcf_handle) {
+  std::vector<ROCKSDB_NAMESPACE::PinnableSlice> values;
+  std::vector<ROCKSDB_NAMESPACE::Status> s;
+  if (!multi_get_longs(env, jdb_handle, jropt_handle, jkeys, jcf_handle,
+                       &values, &s)) {
+    return;
+  }
+  const jsize num_keys = static_cast<jsize>(values.size());
+
+  // the values are decoded into one buffer, which is copied to jvalues once
+  std::vector<jlong> long_values(num_keys);
+  for (jsize i = 0; i < num_keys; i++) {
+    if (s[i].IsNotFound()) {
+      long_values[i] = jnot_found_value;
+      continue;
+    } else if (!s[i].ok()) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s[i]);
+      return;
+    } else if (values[i].size() != sizeof(jlong)) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+          env, "The value of a key is not an 8 byte long");
+      return;
+    }
+    long_values[i] = decode_long_value(values[i].data());
+  }
+
+  env->SetLongArrayRegion(jvalues, 0, num_keys, long_values.data());
+  // exception thrown: ArrayIndexOutOfBoundsException, if any
+}
 // private native void
 // multiGet(final long dbHandle, final long rOptHandle,
 //        final long[] columnFamilyHandles, final ByteBuffer[] keysArray,
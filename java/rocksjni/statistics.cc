@@ -12,6 +12,7 @@
 
 #include <memory>
 #include <set>
+#include <vector>
 
 #include "include/org_rocksdb_Statistics.h"
 #include "rocksjni/cplusplus_to_java_convert.h"
@@ -236,6 +237,102 @@ jstring Java_org_rocksdb_Statistics_getHistogramString(JNIEnv* env, jobject,
   return env->NewStringUTF(str.c_str());
 }
 
+/*
+ * Class:     org_rocksdb_Statistics
+ * Method:    snapshot
+ * Signature: (J[B[B[J[D[J)V
+ */
+void Java_org_rocksdb_Statistics_snapshot(JNIEnv* env, jobject, jlong jhandle,
+                                          jbyteArray jticker_types,
+                                          jbyteArray jhistogram_types,
+                                          jlongArray jtickers_out,
+                                          jdoubleArray jhistograms_out,
+                                          jlongArray jhistogram_counts_out) {
+  auto* pSptr_statistics =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Statistics>*>(
+          jhandle);
+  assert(pSptr_statistics != nullptr);
+  auto* statistics = pSptr_statistics->get();
+
+  const jsize num_tickers = env->GetArrayLength(jticker_types);
+  std::vector<jbyte> ticker_types(num_tickers);
+  env->GetByteArrayRegion(jticker_types, 0, num_tickers, ticker_types.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return;
+  }
+
+  std::vector<jlong> tickers(num_tickers);
+  for (jsize i = 0; i < num_tickers; i++) {
+    const auto ticker =
+        ROCKSDB_NAMESPACE::TickerTypeJni::toCppTickers(ticker_types[i]);
+    tickers[i] = ticker == ROCKSDB_NAMESPACE::Tickers::TICKER_ENUM_MAX
+                     ? 0
+                     : static_cast<jlong>(statistics->getTickerCount(ticker));
+  }
+  env->SetLongArrayRegion(jtickers_out, 0, num_tickers, tickers.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return;
+  }
+
+  if (jhistograms_out == nullptr && jhistogram_counts_out == nullptr) {
+    return;
+  }
+
+  const jsize num_histograms = env->GetArrayLength(jhistogram_types);
+  std::vector<jbyte> histogram_types(num_histograms);
+  env->GetByteArrayRegion(jhistogram_types, 0, num_histograms,
+                          histogram_types.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return;
+  }
+
+  // the values and counts of each histogram, in the order of the
+  // org.rocksdb.Statistics#SNAPSHOT_HISTOGRAM_* offsets
+  const size_t histogram_size = 7;
+  const size_t histogram_counts_size = 2;
+  std::vector<jdouble> histograms(num_histograms * histogram_size, 0.0);
+  std::vector<jlong> histogram_counts(num_histograms * histogram_counts_size,
+                                      0);
+  for (jsize i = 0; i < num_histograms; i++) {
+    const auto histogram =
+        ROCKSDB_NAMESPACE::HistogramTypeJni::toCppHistograms(
+            histogram_types[i]);
+    if (histogram == ROCKSDB_NAMESPACE::Histograms::HISTOGRAM_ENUM_MAX) {
+      continue;
+    }
+    ROCKSDB_NAMESPACE::HistogramData data;
+    statistics->histogramData(histogram, &data);
+    jdouble* values = histograms.data() + i * histogram_size;
+    values[0] = data.median;
+    values[1] = data.percentile95;
+    values[2] = data.percentile99;
+    values[3] = data.average;
+    values[4] = data.standard_deviation;
+    values[5] = data.max;
+    values[6] = data.min;
+    jlong* counts = histogram_counts.data() + i * histogram_counts_size;
+    counts[0] = static_cast<jlong>(data.count);
+    counts[1] = static_cast<jlong>(data.sum);
+  }
+  if (jhistograms_out != nullptr) {
+    env->SetDoubleArrayRegion(jhistograms_out, 0,
+                              static_cast<jsize>(histograms.size()),
+                              histograms.data());
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      return;
+    }
+  }
+  if (jhistogram_counts_out != nullptr) {
+    env->SetLongArrayRegion(jhistogram_counts_out, 0,
+                            static_cast<jsize>(histogram_counts.size()),
+                            histogram_counts.data());
+  }
+}
+
 /*
  * Class:     org_rocksdb_Statistics
  * Method:    reset
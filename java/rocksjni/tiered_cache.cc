@@ -0,0 +1,69 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// ROCKSDB_NAMESPACE::NewTieredCache.
+
+#include <jni.h>
+
+#include "include/org_rocksdb_TieredCache.h"
+#include "rocksdb/cache.h"
+#include "rocksjni/cplusplus_to_java_convert.h"
+#include "rocksjni/portal.h"
+
+/*
+ * Class:     org_rocksdb_TieredCache
+ * Method:    newTieredCache
+ * Signature: (JDB)J
+ */
+jlong Java_org_rocksdb_TieredCache_newTieredCache(
+    JNIEnv* /*env*/, jclass /*jcls*/, jlong jtotal_capacity,
+    jdouble jcompressed_secondary_ratio, jbyte jcompression_type) {
+  ROCKSDB_NAMESPACE::LRUCacheOptions primary_options;
+  ROCKSDB_NAMESPACE::TieredCacheOptions tiered_options;
+  tiered_options.cache_opts = &primary_options;
+  tiered_options.cache_type = ROCKSDB_NAMESPACE::PrimaryCacheType::kCacheTypeLRU;
+  tiered_options.total_capacity = static_cast<size_t>(jtotal_capacity);
+  tiered_options.compressed_secondary_ratio =
+      static_cast<double>(jcompressed_secondary_ratio);
+  tiered_options.comp_cache_opts.compression_type =
+      ROCKSDB_NAMESPACE::CompressionTypeJni::toCppCompressionType(
+          jcompression_type);
+  auto* sptr_cache = new std::shared_ptr<ROCKSDB_NAMESPACE::Cache>(
+      ROCKSDB_NAMESPACE::NewTieredCache(tiered_options));
+  return GET_CPLUSPLUS_POINTER(sptr_cache);
+}
+
+/*
+ * Class:     org_rocksdb_TieredCache
+ * Method:    updateTieredCache
+ * Signature: (JJD)V
+ */
+void Java_org_rocksdb_TieredCache_updateTieredCache(
+    JNIEnv* env, jclass /*jcls*/, jlong jhandle, jlong jtotal_capacity,
+    jdouble jcompressed_secondary_ratio) {
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(jhandle);
+  ROCKSDB_NAMESPACE::Status s = ROCKSDB_NAMESPACE::UpdateTieredCache(
+      *sptr_cache, static_cast<int64_t>(jtotal_capacity),
+      static_cast<double>(jcompressed_secondary_ratio));
+  if (!s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+  }
+}
+
+/*
+ * Class:     org_rocksdb_TieredCache
+ * Method:    disposeInternal
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_TieredCache_disposeInternal(JNIEnv* /*env*/,
+                                                  jobject /*jobj*/,
+                                                  jlong jhandle) {
+  auto* sptr_cache =
+      reinterpret_cast<std::shared_ptr<ROCKSDB_NAMESPACE::Cache>*>(jhandle);
+  delete sptr_cache;  // delete std::shared_ptr
+}
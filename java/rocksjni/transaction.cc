@@ -10,6 +10,7 @@
 
 #include <jni.h>
 
+#include <algorithm>
 #include <functional>
 
 #include "include/org_rocksdb_Transaction.h"
@@ -519,6 +520,284 @@ jobjectArray Java_org_rocksdb_Transaction_multiGetForUpdate__JJ_3_3B(
                               jread_options_handle, jkey_parts);
 }
 
+// Returns the column family of a handle passed from Java, where a handle of
+// 0 is the default column family of the db of the transaction, which spares
+// Java from creating a ColumnFamilyHandle for the default column family
+ROCKSDB_NAMESPACE::ColumnFamilyHandle* txn_column_family(
+    const jlong& jdb_handle, const jlong& jcolumn_family_handle) {
+  return jcolumn_family_handle == 0
+             ? reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle)
+                   ->DefaultColumnFamily()
+             : reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(
+                   jcolumn_family_handle);
+}
+
+typedef std::function<ROCKSDB_NAMESPACE::Status(
+    const ROCKSDB_NAMESPACE::Slice&, ROCKSDB_NAMESPACE::PinnableSlice*)>
+    FnGetPinnable;
+
+FnGetPinnable txn_get_pinnable(ROCKSDB_NAMESPACE::Transaction* txn,
+                               const jlong& jread_options_handle,
+                               const jlong& jdb_handle,
+                               const jlong& jcolumn_family_handle) {
+  auto* read_options =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jread_options_handle);
+  auto* column_family_handle =
+      txn_column_family(jdb_handle, jcolumn_family_handle);
+  return [txn, read_options, column_family_handle](
+             const ROCKSDB_NAMESPACE::Slice& key,
+             ROCKSDB_NAMESPACE::PinnableSlice* value) {
+    return txn->Get(*read_options, column_family_handle, key, value);
+  };
+}
+
+FnGetPinnable txn_get_for_update_pinnable(
+    ROCKSDB_NAMESPACE::Transaction* txn, const jlong& jread_options_handle,
+    const jlong& jdb_handle, const jlong& jcolumn_family_handle,
+    const jboolean& jexclusive, const jboolean& jdo_validate) {
+  auto* read_options =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jread_options_handle);
+  auto* column_family_handle =
+      txn_column_family(jdb_handle, jcolumn_family_handle);
+  const bool exclusive = jexclusive == JNI_TRUE;
+  const bool do_validate = jdo_validate == JNI_TRUE;
+  return [txn, read_options, column_family_handle, exclusive, do_validate](
+             const ROCKSDB_NAMESPACE::Slice& key,
+             ROCKSDB_NAMESPACE::PinnableSlice* value) {
+    return txn->GetForUpdate(*read_options, column_family_handle, key, value,
+                             exclusive, do_validate);
+  };
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    getDirect
+ * Signature: (JJLjava/nio/ByteBuffer;IILjava/nio/ByteBuffer;IIJJ)I
+ */
+jint Java_org_rocksdb_Transaction_getDirect(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jobject jkey, jint jkey_off, jint jkey_len, jobject jval, jint jval_off,
+    jint jval_len, jlong jdb_handle, jlong jcolumn_family_handle) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  return ROCKSDB_NAMESPACE::JniUtil::v_op_direct(
+      txn_get_pinnable(txn, jread_options_handle, jdb_handle,
+                       jcolumn_family_handle),
+      env, jkey, jkey_off, jkey_len, jval, jval_off, jval_len);
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    get
+ * Signature: (JJ[BII[BIIJJ)I
+ */
+jint Java_org_rocksdb_Transaction_get__JJ_3BII_3BIIJJ(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jbyteArray jkey, jint jkey_off, jint jkey_len, jbyteArray jval,
+    jint jval_off, jint jval_len, jlong jdb_handle,
+    jlong jcolumn_family_handle) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  return ROCKSDB_NAMESPACE::JniUtil::v_op_region(
+      txn_get_pinnable(txn, jread_options_handle, jdb_handle,
+                       jcolumn_family_handle),
+      env, jkey, jkey_off, jkey_len, jval, jval_off, jval_len);
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    getForUpdateDirect
+ * Signature: (JJLjava/nio/ByteBuffer;IILjava/nio/ByteBuffer;IIJJZZ)I
+ */
+jint Java_org_rocksdb_Transaction_getForUpdateDirect(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jobject jkey, jint jkey_off, jint jkey_len, jobject jval, jint jval_off,
+    jint jval_len, jlong jdb_handle, jlong jcolumn_family_handle,
+    jboolean jexclusive, jboolean jdo_validate) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  return ROCKSDB_NAMESPACE::JniUtil::v_op_direct(
+      txn_get_for_update_pinnable(txn, jread_options_handle, jdb_handle,
+                                  jcolumn_family_handle, jexclusive,
+                                  jdo_validate),
+      env, jkey, jkey_off, jkey_len, jval, jval_off, jval_len);
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    getForUpdate
+ * Signature: (JJ[BII[BIIJJZZ)I
+ */
+jint Java_org_rocksdb_Transaction_getForUpdate__JJ_3BII_3BIIJJZZ(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jbyteArray jkey, jint jkey_off, jint jkey_len, jbyteArray jval,
+    jint jval_off, jint jval_len, jlong jdb_handle, jlong jcolumn_family_handle,
+    jboolean jexclusive, jboolean jdo_validate) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  return ROCKSDB_NAMESPACE::JniUtil::v_op_region(
+      txn_get_for_update_pinnable(txn, jread_options_handle, jdb_handle,
+                                  jcolumn_family_handle, jexclusive,
+                                  jdo_validate),
+      env, jkey, jkey_off, jkey_len, jval, jval_off, jval_len);
+}
+
+// get the addresses of the regions of direct ByteBuffers, returns false if
+// an exception was thrown
+bool txn_direct_regions_helper(JNIEnv* env, jobjectArray jbuffers,
+                               jintArray joffsets, jintArray jlengths,
+                               std::vector<ROCKSDB_NAMESPACE::Slice>* regions) {
+  const jsize num_buffers = env->GetArrayLength(jbuffers);
+  std::vector<jint> offsets(num_buffers);
+  std::vector<jint> lengths(num_buffers);
+  env->GetIntArrayRegion(joffsets, 0, num_buffers, offsets.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return false;
+  }
+  env->GetIntArrayRegion(jlengths, 0, num_buffers, lengths.data());
+  if (env->ExceptionCheck()) {
+    // exception thrown: ArrayIndexOutOfBoundsException
+    return false;
+  }
+
+  regions->reserve(num_buffers);
+  for (jsize i = 0; i < num_buffers; i++) {
+    jobject jbuffer = env->GetObjectArrayElement(jbuffers, i);
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      return false;
+    }
+    char* address =
+        reinterpret_cast<char*>(env->GetDirectBufferAddress(jbuffer));
+    const jlong capacity = env->GetDirectBufferCapacity(jbuffer);
+    env->DeleteLocalRef(jbuffer);
+    if (address == nullptr || capacity < offsets[i] + lengths[i]) {
+      ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(
+          env, "Invalid argument (argument is not a valid direct ByteBuffer)");
+      return false;
+    }
+    regions->emplace_back(address + offsets[i], lengths[i]);
+  }
+  return true;
+}
+
+typedef std::function<void(const size_t, const ROCKSDB_NAMESPACE::Slice*,
+                           ROCKSDB_NAMESPACE::PinnableSlice*,
+                           ROCKSDB_NAMESPACE::Status*)>
+    FnMultiGetPinnable;
+
+void txn_multi_get_direct_helper(
+    JNIEnv* env, const FnMultiGetPinnable& fn_multi_get, jobjectArray jkeys,
+    jintArray jkey_offsets, jintArray jkey_lengths, jobjectArray jvalues,
+    jintArray jvalue_offsets, jintArray jvalue_lengths, jintArray jvalue_sizes,
+    jobjectArray jstatuses) {
+  std::vector<ROCKSDB_NAMESPACE::Slice> keys;
+  if (!txn_direct_regions_helper(env, jkeys, jkey_offsets, jkey_lengths,
+                                 &keys)) {
+    return;
+  }
+  std::vector<ROCKSDB_NAMESPACE::Slice> value_regions;
+  if (!txn_direct_regions_helper(env, jvalues, jvalue_offsets, jvalue_lengths,
+                                 &value_regions)) {
+    return;
+  }
+
+  const size_t num_keys = keys.size();
+  std::vector<ROCKSDB_NAMESPACE::PinnableSlice> values(num_keys);
+  std::vector<ROCKSDB_NAMESPACE::Status> s(num_keys);
+  if (num_keys > 0) {
+    fn_multi_get(num_keys, keys.data(), values.data(), s.data());
+  }
+
+  std::vector<jint> value_sizes(num_keys, 0);
+  for (size_t i = 0; i < num_keys; i++) {
+    jobject jstatus = ROCKSDB_NAMESPACE::StatusJni::construct(env, s[i]);
+    if (jstatus == nullptr) {
+      // exception in context
+      return;
+    }
+    env->SetObjectArrayElement(jstatuses, static_cast<jsize>(i), jstatus);
+    env->DeleteLocalRef(jstatus);
+    if (env->ExceptionCheck()) {
+      // exception thrown: ArrayIndexOutOfBoundsException
+      return;
+    }
+
+    if (s[i].ok()) {
+      // the full size of the value is returned, even if only part of it fits
+      // in the buffer
+      value_sizes[i] = static_cast<jint>(values[i].size());
+      memcpy(const_cast<char*>(value_regions[i].data()), values[i].data(),
+             std::min(value_regions[i].size(), values[i].size()));
+    }
+  }
+
+  env->SetIntArrayRegion(jvalue_sizes, 0, static_cast<jsize>(num_keys),
+                         value_sizes.data());
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    multiGetDirect
+ * Signature:
+ * (JJJJ[Ljava/nio/ByteBuffer;[I[I[Ljava/nio/ByteBuffer;[I[I[I[Lorg/rocksdb/Status;)V
+ */
+void Java_org_rocksdb_Transaction_multiGetDirect(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jlong jdb_handle, jlong jcolumn_family_handle, jobjectArray jkeys,
+    jintArray jkey_offsets, jintArray jkey_lengths, jobjectArray jvalues,
+    jintArray jvalue_offsets, jintArray jvalue_lengths, jintArray jvalue_sizes,
+    jobjectArray jstatuses) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  auto* read_options =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jread_options_handle);
+  auto* column_family_handle =
+      txn_column_family(jdb_handle, jcolumn_family_handle);
+  // reads the keys from the batch of the transaction and the db in one
+  // batched lookup, see WriteBatchWithIndex::MultiGetFromBatchAndDB
+  FnMultiGetPinnable fn_multi_get =
+      [txn, read_options, column_family_handle](
+          const size_t num_keys, const ROCKSDB_NAMESPACE::Slice* keys,
+          ROCKSDB_NAMESPACE::PinnableSlice* values,
+          ROCKSDB_NAMESPACE::Status* statuses) {
+        txn->MultiGet(*read_options, column_family_handle, num_keys, keys,
+                      values, statuses);
+      };
+  txn_multi_get_direct_helper(env, fn_multi_get, jkeys, jkey_offsets,
+                              jkey_lengths, jvalues, jvalue_offsets,
+                              jvalue_lengths, jvalue_sizes, jstatuses);
+}
+
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    multiGetForUpdateDirect
+ * Signature:
+ * (JJJJ[Ljava/nio/ByteBuffer;[I[I[Ljava/nio/ByteBuffer;[I[I[I[Lorg/rocksdb/Status;Z)V
+ */
+void Java_org_rocksdb_Transaction_multiGetForUpdateDirect(
+    JNIEnv* env, jobject /*jobj*/, jlong jhandle, jlong jread_options_handle,
+    jlong jdb_handle, jlong jcolumn_family_handle, jobjectArray jkeys,
+    jintArray jkey_offsets, jintArray jkey_lengths, jobjectArray jvalues,
+    jintArray jvalue_offsets, jintArray jvalue_lengths, jintArray jvalue_sizes,
+    jobjectArray jstatuses, jboolean jexclusive) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  auto* read_options =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ReadOptions*>(jread_options_handle);
+  auto* column_family_handle =
+      txn_column_family(jdb_handle, jcolumn_family_handle);
+  const bool exclusive = jexclusive == JNI_TRUE;
+  // locks the keys in one sorted pass, then reads them in one batched lookup
+  FnMultiGetPinnable fn_multi_get_for_update =
+      [txn, read_options, column_family_handle, exclusive](
+          const size_t num_keys, const ROCKSDB_NAMESPACE::Slice* keys,
+          ROCKSDB_NAMESPACE::PinnableSlice* values,
+          ROCKSDB_NAMESPACE::Status* statuses) {
+        txn->MultiGetForUpdate(*read_options, column_family_handle, num_keys,
+                               keys, values, statuses, exclusive);
+      };
+  txn_multi_get_direct_helper(env, fn_multi_get_for_update, jkeys,
+                              jkey_offsets, jkey_lengths, jvalues,
+                              jvalue_offsets, jvalue_lengths, jvalue_sizes,
+                              jstatuses);
+}
+
 /*
  * Class:     org_rocksdb_Transaction
  * Method:    getIterator
@@ -1462,6 +1741,35 @@ void Java_org_rocksdb_Transaction_undoGetForUpdate__J_3BI(JNIEnv* env,
   env->ReleaseByteArrayElements(jkey, key, JNI_ABORT);
 }
 
+/*
+ * Class:     org_rocksdb_Transaction
+ * Method:    getRangeLock
+ * Signature: (JJ[BZ[BZ)V
+ */
+void Java_org_rocksdb_Transaction_getRangeLock(
+    JNIEnv* env, jobject jobj, jlong jhandle, jlong jcolumn_family_handle,
+    jbyteArray jstart, jboolean jstart_inf_suffix, jbyteArray jend,
+    jboolean jend_inf_suffix) {
+  auto* txn = reinterpret_cast<ROCKSDB_NAMESPACE::Transaction*>(jhandle);
+  auto* column_family_handle =
+      reinterpret_cast<ROCKSDB_NAMESPACE::ColumnFamilyHandle*>(
+          jcolumn_family_handle);
+  auto get_range_lock = [&](ROCKSDB_NAMESPACE::Slice start,
+                            ROCKSDB_NAMESPACE::Slice end) {
+    return txn->GetRangeLock(
+        column_family_handle,
+        ROCKSDB_NAMESPACE::Endpoint(start, jstart_inf_suffix == JNI_TRUE),
+        ROCKSDB_NAMESPACE::Endpoint(end, jend_inf_suffix == JNI_TRUE));
+  };
+  std::unique_ptr<ROCKSDB_NAMESPACE::Status> status =
+      ROCKSDB_NAMESPACE::JniUtil::kv_op(get_range_lock, env, jobj, jstart,
+                                        env->GetArrayLength(jstart), jend,
+                                        env->GetArrayLength(jend));
+  if (status != nullptr && !status->ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, *status);
+  }
+}
+
 /*
  * Class:     org_rocksdb_Transaction
  * Method:    rebuildFromWriteBatch
@@ -157,6 +157,22 @@ void Java_org_rocksdb_TransactionDBOptions_setWritePolicy(JNIEnv* /*env*/,
           jwrite_policy);
 }
 
+/*
+ * Class:     org_rocksdb_TransactionDBOptions
+ * Method:    setRangeLockManager
+ * Signature: (JJ)V
+ */
+void Java_org_rocksdb_TransactionDBOptions_setRangeLockManager(
+    JNIEnv* /*env*/, jobject /*jobj*/, jlong jhandle,
+    jlong jrange_lock_mgr_handle) {
+  auto* opts =
+      reinterpret_cast<ROCKSDB_NAMESPACE::TransactionDBOptions*>(jhandle);
+  auto* sptr_range_lock_mgr = reinterpret_cast<
+      std::shared_ptr<ROCKSDB_NAMESPACE::RangeLockManagerHandle>*>(
+      jrange_lock_mgr_handle);
+  opts->lock_mgr_handle = *sptr_range_lock_mgr;
+}
+
 /*
  * Class:     org_rocksdb_TransactionDBOptions
  * Method:    disposeInternal
@@ -0,0 +1,365 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+//
+// This file implements the "bridge" between Java and C++ for
+// org.rocksdb.WalChangeStream, which decodes the records of the write
+// batches of the WAL into a direct ByteBuffer.
+
+#include <jni.h>
+
+#include <algorithm>
+#include <cstring>
+#include <memory>
+#include <unordered_set>
+
+#include "include/org_rocksdb_WalChangeStream.h"
+#include "rocksdb/db.h"
+#include "rocksdb/transaction_log.h"
+#include "rocksdb/write_batch.h"
+#include "rocksjni/cplusplus_to_java_convert.h"
+#include "rocksjni/portal.h"
+
+namespace ROCKSDB_NAMESPACE {
+
+// The state of a org.rocksdb.WalChangeStream
+//
+// next_seq is the sequence number of the first record which has not been
+// returned yet. A write batch is kept until all of its records have been
+// returned, so that a poll which fills the buffer can be resumed from the
+// middle of the batch.
+class WalChangeStreamJni {
+ public:
+  // the layout of a record in the buffer, which must match
+  // java/src/main/java/org/rocksdb/WalChangeStream.java
+  static constexpr size_t kTypeOffset = 0;
+  static constexpr size_t kColumnFamilyIdOffset = 1;
+  static constexpr size_t kSequenceNumberOffset = 5;
+  static constexpr size_t kKeyLengthOffset = 13;
+  static constexpr size_t kValueLengthOffset = 17;
+  static constexpr size_t kHeaderSize = 21;
+
+  // the types of the records, which must match WalChangeStream.ChangeType
+  static constexpr char kPut = 0x0;
+  static constexpr char kDelete = 0x1;
+  static constexpr char kSingleDelete = 0x2;
+  static constexpr char kDeleteRange = 0x3;
+  static constexpr char kMerge = 0x4;
+  static constexpr char kPutEntity = 0x5;
+
+  WalChangeStreamJni(DB* db, SequenceNumber start_seq,
+                     std::unordered_set<uint32_t>&& column_family_ids)
+      : db_(db),
+        next_seq_(start_seq),
+        column_family_ids_(std::move(column_family_ids)) {}
+
+  SequenceNumber GetNextSequenceNumber() const { return next_seq_; }
+
+  // Decodes up to max_records records into buf, and sets *count to the
+  // number of records decoded. Returns OK with no records if the stream has
+  // caught up with the writes to the DB.
+  Status Poll(char* buf, size_t capacity, size_t max_records, size_t* count) {
+    *count = 0;
+    size_t offset = 0;
+    while (*count < max_records) {
+      if (batch_ == nullptr) {
+        bool caught_up = false;
+        Status s = NextBatch(&caught_up);
+        if (!s.ok()) {
+          // return the records decoded so far, and the error on the next
+          // poll
+          return *count > 0 ? Status::OK() : s;
+        }
+        if (caught_up) {
+          break;
+        }
+      }
+
+      Decoder decoder(this, buf, capacity, max_records, offset, *count);
+      Status s = batch_->Iterate(&decoder);
+      offset = decoder.offset();
+      *count = decoder.count();
+      if (!s.ok()) {
+        // return the records decoded so far, and the error on the next
+        // poll, which decodes the batch again from next_seq_
+        return *count > 0 ? Status::OK() : s;
+      }
+      if (decoder.full()) {
+        if (*count == 0) {
+          return Status::InvalidArgument(
+              "A record is larger than the buffer of the WalChangeStream");
+        }
+        break;
+      }
+      // all records of the batch have been returned or filtered out
+      next_seq_ = std::max(next_seq_, batch_seq_ + batch_->Count());
+      batch_.reset();
+    }
+    return Status::OK();
+  }
+
+ private:
+  // Positions the stream at the write batch which contains next_seq_
+  Status NextBatch(bool* caught_up) {
+    if (iter_ != nullptr) {
+      if (iter_consumed_) {
+        iter_->Next();
+        iter_consumed_ = false;
+      }
+      if (!iter_->Valid()) {
+        Status s = iter_->status();
+        if (s.ok()) {
+          // the end of the last WAL file, which is read again by Next on
+          // the next poll
+          iter_consumed_ = true;
+          *caught_up = true;
+          return s;
+        }
+        // e.g. TryAgain when a new WAL file has been created, so a new
+        // iterator must be created to read it
+        iter_.reset();
+      }
+    }
+    if (iter_ == nullptr) {
+      if (next_seq_ > db_->GetLatestSequenceNumber()) {
+        *caught_up = true;
+        return Status::OK();
+      }
+      Status s = db_->GetUpdatesSince(next_seq_, &iter_);
+      if (!s.ok()) {
+        iter_.reset();
+        return s;
+      }
+      if (!iter_->Valid()) {
+        s = iter_->status();
+        iter_.reset();
+        *caught_up = s.ok();
+        return s;
+      }
+    }
+    BatchResult result = iter_->GetBatch();
+    iter_consumed_ = true;
+    batch_ = std::move(result.writeBatchPtr);
+    batch_seq_ = result.sequence;
+    return Status::OK();
+  }
+
+  // Writes the records of a write batch which have not been returned yet
+  // into the buffer, until it is full
+  class Decoder : public WriteBatch::Handler {
+   public:
+    Decoder(WalChangeStreamJni* stream, char* buf, size_t capacity,
+            size_t max_records, size_t offset, size_t count)
+        : stream_(stream),
+          buf_(buf),
+          capacity_(capacity),
+          max_records_(max_records),
+          offset_(offset),
+          count_(count),
+          seq_(stream->batch_seq_) {}
+
+    size_t offset() const { return offset_; }
+    size_t count() const { return count_; }
+    bool full() const { return full_; }
+
+    Status PutCF(uint32_t column_family_id, const Slice& key,
+                 const Slice& value) override {
+      return Record(kPut, column_family_id, key, value);
+    }
+
+    Status PutEntityCF(uint32_t column_family_id, const Slice& key,
+                       const Slice& entity) override {
+      return Record(kPutEntity, column_family_id, key, entity);
+    }
+
+    Status DeleteCF(uint32_t column_family_id, const Slice& key) override {
+      return Record(kDelete, column_family_id, key, Slice());
+    }
+
+    Status SingleDeleteCF(uint32_t column_family_id,
+                          const Slice& key) override {
+      return Record(kSingleDelete, column_family_id, key, Slice());
+    }
+
+    Status DeleteRangeCF(uint32_t column_family_id, const Slice& begin_key,
+                         const Slice& end_key) override {
+      return Record(kDeleteRange, column_family_id, begin_key, end_key);
+    }
+
+    Status MergeCF(uint32_t column_family_id, const Slice& key,
+                   const Slice& value) override {
+      return Record(kMerge, column_family_id, key, value);
+    }
+
+    Status PutBlobIndexCF(uint32_t /*column_family_id*/, const Slice& /*key*/,
+                          const Slice& /*value*/) override {
+      // consumes a sequence number, but has no value to return
+      Skip(seq_++);
+      return Status::OK();
+    }
+
+    Status MarkBeginPrepare(bool /*unprepared*/) override {
+      return Status::OK();
+    }
+    Status MarkEndPrepare(const Slice& /*xid*/) override {
+      return Status::OK();
+    }
+    Status MarkNoop(bool /*empty_batch*/) override { return Status::OK(); }
+    Status MarkRollback(const Slice& /*xid*/) override {
+      return Status::OK();
+    }
+    Status MarkCommit(const Slice& /*xid*/) override { return Status::OK(); }
+    Status MarkCommitWithTimestamp(const Slice& /*xid*/,
+                                   const Slice& /*commit_ts*/) override {
+      return Status::OK();
+    }
+
+    bool Continue() override { return !full_; }
+
+   private:
+    Status Record(char type, uint32_t column_family_id, const Slice& key,
+                  const Slice& value) {
+      const SequenceNumber seq = seq_++;
+      if (seq < stream_->next_seq_) {
+        // returned by a previous poll
+        return Status::OK();
+      }
+      if (!stream_->column_family_ids_.empty() &&
+          stream_->column_family_ids_.count(column_family_id) == 0) {
+        Skip(seq);
+        return Status::OK();
+      }
+      const size_t size = kHeaderSize + key.size() + value.size();
+      if (count_ >= max_records_ || size > capacity_ - offset_) {
+        full_ = true;
+        return Status::OK();
+      }
+
+      char* record = buf_ + offset_;
+      const int32_t key_length = static_cast<int32_t>(key.size());
+      const int32_t value_length = static_cast<int32_t>(value.size());
+      const int64_t sequence_number = static_cast<int64_t>(seq);
+      record[kTypeOffset] = type;
+      memcpy(record + kColumnFamilyIdOffset, &column_family_id,
+             sizeof(column_family_id));
+      memcpy(record + kSequenceNumberOffset, &sequence_number,
+             sizeof(sequence_number));
+      memcpy(record + kKeyLengthOffset, &key_length, sizeof(key_length));
+      memcpy(record + kValueLengthOffset, &value_length, sizeof(value_length));
+      memcpy(record + kHeaderSize, key.data(), key.size());
+      memcpy(record + kHeaderSize + key.size(), value.data(), value.size());
+
+      offset_ += size;
+      count_++;
+      stream_->next_seq_ = seq + 1;
+      return Status::OK();
+    }
+
+    void Skip(SequenceNumber seq) {
+      if (seq >= stream_->next_seq_) {
+        stream_->next_seq_ = seq + 1;
+      }
+    }
+
+    WalChangeStreamJni* const stream_;
+    char* const buf_;
+    const size_t capacity_;
+    const size_t max_records_;
+    size_t offset_;
+    size_t count_;
+    SequenceNumber seq_;
+    bool full_ = false;
+  };
+
+  DB* const db_;
+  SequenceNumber next_seq_;
+  const std::unordered_set<uint32_t> column_family_ids_;
+  std::unique_ptr<TransactionLogIterator> iter_;
+  // true if the batch of iter_ has been taken
+  bool iter_consumed_ = false;
+  std::unique_ptr<WriteBatch> batch_;
+  SequenceNumber batch_seq_ = 0;
+};
+
+}  // namespace ROCKSDB_NAMESPACE
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    newWalChangeStream
+ * Signature: (JJ[I)J
+ */
+jlong Java_org_rocksdb_WalChangeStream_newWalChangeStream(
+    JNIEnv* env, jclass, jlong jdb_handle, jlong jstart_sequence_number,
+    jintArray jcolumn_family_ids) {
+  auto* db = reinterpret_cast<ROCKSDB_NAMESPACE::DB*>(jdb_handle);
+  std::unordered_set<uint32_t> column_family_ids;
+  const jsize len = env->GetArrayLength(jcolumn_family_ids);
+  if (len > 0) {
+    jint* ids = env->GetIntArrayElements(jcolumn_family_ids, nullptr);
+    if (ids == nullptr) {
+      // exception thrown: OutOfMemoryError
+      return 0;
+    }
+    for (jsize i = 0; i < len; i++) {
+      column_family_ids.insert(static_cast<uint32_t>(ids[i]));
+    }
+    env->ReleaseIntArrayElements(jcolumn_family_ids, ids, JNI_ABORT);
+  }
+  auto* stream = new ROCKSDB_NAMESPACE::WalChangeStreamJni(
+      db,
+      static_cast<ROCKSDB_NAMESPACE::SequenceNumber>(jstart_sequence_number),
+      std::move(column_family_ids));
+  return GET_CPLUSPLUS_POINTER(stream);
+}
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    poll
+ * Signature: (JLjava/nio/ByteBuffer;I)I
+ */
+jint Java_org_rocksdb_WalChangeStream_poll(JNIEnv* env, jclass, jlong jhandle,
+                                           jobject jbuffer,
+                                           jint jmax_records) {
+  auto* stream =
+      reinterpret_cast<ROCKSDB_NAMESPACE::WalChangeStreamJni*>(jhandle);
+  char* buf = static_cast<char*>(env->GetDirectBufferAddress(jbuffer));
+  const jlong capacity = env->GetDirectBufferCapacity(jbuffer);
+  if (buf == nullptr || capacity < 0) {
+    ROCKSDB_NAMESPACE::IllegalArgumentExceptionJni::ThrowNew(
+        env, "Invalid buffer address or capacity");
+    return 0;
+  }
+  size_t count = 0;
+  ROCKSDB_NAMESPACE::Status s =
+      stream->Poll(buf, static_cast<size_t>(capacity),
+                   static_cast<size_t>(jmax_records), &count);
+  if (!s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+  return static_cast<jint>(count);
+}
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    getNextSequenceNumber
+ * Signature: (J)J
+ */
+jlong Java_org_rocksdb_WalChangeStream_getNextSequenceNumber(JNIEnv*, jclass,
+                                                             jlong jhandle) {
+  auto* stream =
+      reinterpret_cast<ROCKSDB_NAMESPACE::WalChangeStreamJni*>(jhandle);
+  return static_cast<jlong>(stream->GetNextSequenceNumber());
+}
+
+/*
+ * Class:     org_rocksdb_WalChangeStream
+ * Method:    disposeInternalJni
+ * Signature: (J)V
+ */
+void Java_org_rocksdb_WalChangeStream_disposeInternalJni(JNIEnv*, jclass,
+                                                         jlong jhandle) {
+  delete reinterpret_cast<ROCKSDB_NAMESPACE::WalChangeStreamJni*>(jhandle);
+}
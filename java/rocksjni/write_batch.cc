@@ -7,6 +7,7 @@
 // calling c++ ROCKSDB_NAMESPACE::WriteBatch methods from Java side.
 #include "rocksdb/write_batch.h"
 
+#include <cstring>
 #include <memory>
 
 #include "db/memtable.h"
@@ -455,6 +456,365 @@ void Java_org_rocksdb_WriteBatch_putLogData(JNIEnv* env, jobject jobj,
   }
 }
 
+namespace {
+// must be kept in sync with WriteBatch#PACKED_* in Java
+constexpr uint8_t kPackedPut = 0x1;
+constexpr uint8_t kPackedDelete = 0x2;
+constexpr uint8_t kPackedMerge = 0x3;
+constexpr uint8_t kPackedSingleDelete = 0x4;
+
+inline bool read_big_endian_32(const char** src, const char* limit,
+                               uint32_t* value) {
+  if (limit - *src < 4) {
+    return false;
+  }
+  const auto* p = reinterpret_cast<const unsigned char*>(*src);
+  *value = (static_cast<uint32_t>(p[0]) << 24) |
+           (static_cast<uint32_t>(p[1]) << 16) |
+           (static_cast<uint32_t>(p[2]) << 8) | static_cast<uint32_t>(p[3]);
+  *src += 4;
+  return true;
+}
+
+inline bool read_slice(const char** src, const char* limit,
+                       ROCKSDB_NAMESPACE::Slice* slice) {
+  uint32_t len;
+  if (!read_big_endian_32(src, limit, &len) ||
+      static_cast<size_t>(limit - *src) < len) {
+    return false;
+  }
+  *slice = ROCKSDB_NAMESPACE::Slice(*src, len);
+  *src += len;
+  return true;
+}
+
+ROCKSDB_NAMESPACE::Status append_packed(ROCKSDB_NAMESPACE::WriteBatch* wb,
+                                        const char* src, const char* limit,
+                                        jint* count) {
+  while (src < limit) {
+    const uint8_t op = static_cast<uint8_t>(*src++);
+    uint32_t cf_id;
+    ROCKSDB_NAMESPACE::Slice key;
+    if (!read_big_endian_32(&src, limit, &cf_id) ||
+        !read_slice(&src, limit, &key)) {
+      return ROCKSDB_NAMESPACE::Status::Corruption("Truncated packed record");
+    }
+
+    ROCKSDB_NAMESPACE::Slice value;
+    ROCKSDB_NAMESPACE::Status s;
+    switch (op) {
+      case kPackedPut:
+        if (!read_slice(&src, limit, &value)) {
+          return ROCKSDB_NAMESPACE::Status::Corruption(
+              "Truncated packed record");
+        }
+        s = ROCKSDB_NAMESPACE::WriteBatchInternal::Put(wb, cf_id, key, value);
+        break;
+      case kPackedDelete:
+        s = ROCKSDB_NAMESPACE::WriteBatchInternal::Delete(wb, cf_id, key);
+        break;
+      case kPackedMerge:
+        if (!read_slice(&src, limit, &value)) {
+          return ROCKSDB_NAMESPACE::Status::Corruption(
+              "Truncated packed record");
+        }
+        s = ROCKSDB_NAMESPACE::WriteBatchInternal::Merge(wb, cf_id, key,
+                                                         value);
+        break;
+      case kPackedSingleDelete:
+        s = ROCKSDB_NAMESPACE::WriteBatchInternal::SingleDelete(wb, cf_id,
+                                                                key);
+        break;
+      default:
+        return ROCKSDB_NAMESPACE::Status::InvalidArgument(
+            "Unknown packed record operation");
+    }
+    if (!s.ok()) {
+      return s;
+    }
+    (*count)++;
+  }
+  return ROCKSDB_NAMESPACE::Status::OK();
+}
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_WriteBatch
+ * Method:    appendPackedDirect
+ * Signature: (JLjava/nio/ByteBuffer;II)I
+ */
+jint Java_org_rocksdb_WriteBatch_appendPackedDirect(JNIEnv* env,
+                                                    jobject /*jobj*/,
+                                                    jlong jwb_handle,
+                                                    jobject jops,
+                                                    jint jops_offset,
+                                                    jint jops_len) {
+  auto* wb = reinterpret_cast<ROCKSDB_NAMESPACE::WriteBatch*>(jwb_handle);
+  assert(wb != nullptr);
+
+  const char* ops = reinterpret_cast<char*>(env->GetDirectBufferAddress(jops));
+  if (ops == nullptr ||
+      env->GetDirectBufferCapacity(jops) < (jops_offset + jops_len)) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env,
+                                                     "Invalid ops argument");
+    return 0;
+  }
+  ops += jops_offset;
+
+  // the save point lets us discard a partially appended buffer
+  wb->SetSavePoint();
+  jint count = 0;
+  ROCKSDB_NAMESPACE::Status s =
+      append_packed(wb, ops, ops + jops_len, &count);
+  if (s.ok()) {
+    s = wb->PopSavePoint();
+  } else {
+    wb->RollbackToSavePoint().PermitUncheckedError();
+  }
+
+  if (!s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+  return count;
+}
+
+namespace {
+// must be kept in sync with WriteBatch.DirectHandler in Java
+constexpr size_t kDirectCountOffset = 0;
+constexpr size_t kDirectDoneOffset = 4;
+constexpr size_t kDirectNextOffsetOffset = 8;
+constexpr size_t kDirectRequiredCapacityOffset = 16;
+constexpr size_t kDirectHeaderSize = 24;
+constexpr size_t kDirectRecordHeaderSize = 13;
+
+constexpr char kDirectPut = 0x0;
+constexpr char kDirectMerge = 0x1;
+constexpr char kDirectDelete = 0x2;
+constexpr char kDirectSingleDelete = 0x3;
+constexpr char kDirectDeleteRange = 0x4;
+constexpr char kDirectLogData = 0x5;
+constexpr char kDirectPutBlobIndex = 0x6;
+constexpr char kDirectMarkBeginPrepare = 0x7;
+constexpr char kDirectMarkEndPrepare = 0x8;
+constexpr char kDirectMarkNoop = 0x9;
+constexpr char kDirectMarkRollback = 0xA;
+constexpr char kDirectMarkCommit = 0xB;
+constexpr char kDirectMarkCommitWithTimestamp = 0xC;
+
+inline void write_big_endian_32(char* dst, uint32_t value) {
+  dst[0] = static_cast<char>(value >> 24);
+  dst[1] = static_cast<char>(value >> 16);
+  dst[2] = static_cast<char>(value >> 8);
+  dst[3] = static_cast<char>(value);
+}
+
+inline void write_big_endian_64(char* dst, uint64_t value) {
+  write_big_endian_32(dst, static_cast<uint32_t>(value >> 32));
+  write_big_endian_32(dst + 4, static_cast<uint32_t>(value));
+}
+
+// Copies the records of a write batch into a buffer, for dispatch to a
+// WriteBatch.DirectHandler, until the buffer is full.
+//
+// The records of a write batch are contiguous, so the end of a record is the
+// end of its last slice, or one byte past the end of the previous record for
+// the markers which consist of a tag alone. next_offset is the end of the
+// last record copied, from which the iteration is resumed.
+class DirectHandlerDecoder : public ROCKSDB_NAMESPACE::WriteBatch::Handler {
+ public:
+  DirectHandlerDecoder(char* buf, size_t capacity, size_t offset)
+      : buf_(buf),
+        capacity_(capacity),
+        buf_offset_(kDirectHeaderSize),
+        next_offset_(offset) {}
+
+  size_t count() const { return count_; }
+  size_t next_offset() const { return next_offset_; }
+  bool full() const { return full_; }
+  size_t required_capacity() const { return required_capacity_; }
+
+  ROCKSDB_NAMESPACE::Status PutCF(
+      uint32_t column_family_id, const ROCKSDB_NAMESPACE::Slice& key,
+      const ROCKSDB_NAMESPACE::Slice& value) override {
+    Record(kDirectPut, column_family_id, key, value, End(value));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status MergeCF(
+      uint32_t column_family_id, const ROCKSDB_NAMESPACE::Slice& key,
+      const ROCKSDB_NAMESPACE::Slice& value) override {
+    Record(kDirectMerge, column_family_id, key, value, End(value));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status DeleteCF(
+      uint32_t column_family_id,
+      const ROCKSDB_NAMESPACE::Slice& key) override {
+    Record(kDirectDelete, column_family_id, key, ROCKSDB_NAMESPACE::Slice(),
+           End(key));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status SingleDeleteCF(
+      uint32_t column_family_id,
+      const ROCKSDB_NAMESPACE::Slice& key) override {
+    Record(kDirectSingleDelete, column_family_id, key,
+           ROCKSDB_NAMESPACE::Slice(), End(key));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status DeleteRangeCF(
+      uint32_t column_family_id, const ROCKSDB_NAMESPACE::Slice& begin_key,
+      const ROCKSDB_NAMESPACE::Slice& end_key) override {
+    Record(kDirectDeleteRange, column_family_id, begin_key, end_key,
+           End(end_key));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status PutBlobIndexCF(
+      uint32_t column_family_id, const ROCKSDB_NAMESPACE::Slice& key,
+      const ROCKSDB_NAMESPACE::Slice& value) override {
+    Record(kDirectPutBlobIndex, column_family_id, key, value, End(value));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  void LogData(const ROCKSDB_NAMESPACE::Slice& blob) override {
+    Record(kDirectLogData, 0, blob, ROCKSDB_NAMESPACE::Slice(), End(blob));
+  }
+
+  ROCKSDB_NAMESPACE::Status MarkBeginPrepare(bool /*unprepared*/) override {
+    Record(kDirectMarkBeginPrepare, 0, ROCKSDB_NAMESPACE::Slice(),
+           ROCKSDB_NAMESPACE::Slice(), next_offset_ + 1);
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status MarkEndPrepare(
+      const ROCKSDB_NAMESPACE::Slice& xid) override {
+    Record(kDirectMarkEndPrepare, 0, xid, ROCKSDB_NAMESPACE::Slice(),
+           End(xid));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status MarkNoop(bool empty_batch) override {
+    Record(kDirectMarkNoop, empty_batch ? 1 : 0, ROCKSDB_NAMESPACE::Slice(),
+           ROCKSDB_NAMESPACE::Slice(), next_offset_ + 1);
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status MarkRollback(
+      const ROCKSDB_NAMESPACE::Slice& xid) override {
+    Record(kDirectMarkRollback, 0, xid, ROCKSDB_NAMESPACE::Slice(), End(xid));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status MarkCommit(
+      const ROCKSDB_NAMESPACE::Slice& xid) override {
+    Record(kDirectMarkCommit, 0, xid, ROCKSDB_NAMESPACE::Slice(), End(xid));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  ROCKSDB_NAMESPACE::Status MarkCommitWithTimestamp(
+      const ROCKSDB_NAMESPACE::Slice& xid,
+      const ROCKSDB_NAMESPACE::Slice& commit_ts) override {
+    // the timestamp precedes the xid in the record
+    Record(kDirectMarkCommitWithTimestamp, 0, xid, commit_ts, End(xid));
+    return ROCKSDB_NAMESPACE::Status::OK();
+  }
+
+  bool Continue() override { return !full_; }
+
+  // the offset of the record is relative to the start of the write batch
+  void SetBatchData(const char* data) { data_ = data; }
+
+ private:
+  size_t End(const ROCKSDB_NAMESPACE::Slice& slice) const {
+    return static_cast<size_t>(slice.data() + slice.size() - data_);
+  }
+
+  void Record(char type, uint32_t column_family_id,
+              const ROCKSDB_NAMESPACE::Slice& first,
+              const ROCKSDB_NAMESPACE::Slice& second, size_t end) {
+    const size_t size = kDirectRecordHeaderSize + first.size() + second.size();
+    if (size > capacity_ - buf_offset_) {
+      full_ = true;
+      if (count_ == 0) {
+        required_capacity_ = kDirectHeaderSize + size;
+      }
+      return;
+    }
+    char* record = buf_ + buf_offset_;
+    record[0] = type;
+    write_big_endian_32(record + 1, column_family_id);
+    write_big_endian_32(record + 5, static_cast<uint32_t>(first.size()));
+    write_big_endian_32(record + 9, static_cast<uint32_t>(second.size()));
+    memcpy(record + kDirectRecordHeaderSize, first.data(), first.size());
+    memcpy(record + kDirectRecordHeaderSize + first.size(), second.data(),
+           second.size());
+    buf_offset_ += size;
+    count_++;
+    next_offset_ = end;
+  }
+
+  char* const buf_;
+  const size_t capacity_;
+  size_t buf_offset_;
+  size_t next_offset_;
+  const char* data_ = nullptr;
+  size_t count_ = 0;
+  bool full_ = false;
+  size_t required_capacity_ = 0;
+};
+}  // namespace
+
+/*
+ * Class:     org_rocksdb_WriteBatch
+ * Method:    iterateDirect
+ * Signature: (JLjava/nio/ByteBuffer;J)I
+ */
+jint Java_org_rocksdb_WriteBatch_iterateDirect(JNIEnv* env, jclass,
+                                               jlong jwb_handle,
+                                               jobject jbuffer,
+                                               jlong joffset) {
+  auto* wb = reinterpret_cast<ROCKSDB_NAMESPACE::WriteBatch*>(jwb_handle);
+  assert(wb != nullptr);
+
+  char* buf = static_cast<char*>(env->GetDirectBufferAddress(jbuffer));
+  const jlong capacity = env->GetDirectBufferCapacity(jbuffer);
+  if (buf == nullptr ||
+      capacity < static_cast<jlong>(kDirectHeaderSize +
+                                    kDirectRecordHeaderSize)) {
+    ROCKSDB_NAMESPACE::IllegalArgumentExceptionJni::ThrowNew(
+        env, "Invalid buffer address or capacity");
+    return 0;
+  }
+
+  // an offset of 0 is the first record, after the header of the batch
+  const size_t begin =
+      joffset == 0 ? ROCKSDB_NAMESPACE::WriteBatchInternal::kHeader
+                   : static_cast<size_t>(joffset);
+  const size_t end = wb->GetDataSize();
+  DirectHandlerDecoder decoder(buf, static_cast<size_t>(capacity), begin);
+  decoder.SetBatchData(wb->Data().data());
+  ROCKSDB_NAMESPACE::Status s =
+      ROCKSDB_NAMESPACE::WriteBatchInternal::Iterate(wb, &decoder, begin, end);
+  if (!s.ok()) {
+    ROCKSDB_NAMESPACE::RocksDBExceptionJni::ThrowNew(env, s);
+    return 0;
+  }
+
+  const bool done = !decoder.full();
+  write_big_endian_32(buf + kDirectCountOffset,
+                      static_cast<uint32_t>(decoder.count()));
+  write_big_endian_32(buf + kDirectDoneOffset, done ? 1 : 0);
+  const size_t next_offset = done ? end : decoder.next_offset();
+  write_big_endian_64(buf + kDirectNextOffsetOffset,
+                      static_cast<uint64_t>(next_offset));
+  write_big_endian_64(buf + kDirectRequiredCapacityOffset,
+                      static_cast<uint64_t>(decoder.required_capacity()));
+  return static_cast<jint>(decoder.count());
+}
+
 /*
  * Class:     org_rocksdb_WriteBatch
  * Method:    iterate
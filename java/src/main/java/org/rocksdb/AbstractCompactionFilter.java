@@ -43,6 +43,96 @@ public abstract class AbstractCompactionFilter<T extends AbstractSlice<?>>
     }
   }
 
+  /**
+   * The type of the entry passed to a compaction filter.
+   */
+  public enum ValueType {
+    /**
+     * A plain key-value.
+     */
+    VALUE((byte) 0x0),
+
+    /**
+     * A merge operand.
+     */
+    MERGE_OPERAND((byte) 0x1);
+
+    private final byte value;
+
+    ValueType(final byte value) {
+      this.value = value;
+    }
+
+    /**
+     * Returns the byte value of the enumerations value
+     *
+     * @return byte representation
+     */
+    public byte getValue() {
+      return value;
+    }
+
+    /**
+     * Get ValueType by byte value.
+     *
+     * @param value byte representation of ValueType.
+     *
+     * @return {@link ValueType} instance.
+     * @throws java.lang.IllegalArgumentException if an invalid
+     *     value is provided.
+     */
+    public static ValueType getValueType(final byte value) {
+      for (final ValueType valueType : ValueType.values()) {
+        if (valueType.getValue() == value) {
+          return valueType;
+        }
+      }
+      throw new IllegalArgumentException("Illegal value provided for ValueType.");
+    }
+  }
+
+  /**
+   * The decision of a compaction filter about an entry.
+   */
+  public enum Decision {
+    /**
+     * Keep the entry as-is.
+     */
+    KEEP((byte) 0x0),
+
+    /**
+     * Remove the entry. A plain key-value is converted to a tombstone,
+     * whereas a merge operand is simply dropped.
+     */
+    REMOVE((byte) 0x1),
+
+    /**
+     * Change the value of the entry, keeping its type.
+     */
+    CHANGE_VALUE((byte) 0x2),
+
+    /**
+     * Remove the entry by converting it to a SingleDelete tombstone.
+     * Not supported for merge operands.
+     */
+    PURGE((byte) 0x3);
+
+    private final byte value;
+
+    Decision(final byte value) {
+      this.value = value;
+    }
+
+    /**
+     * Returns the byte value of the enumerations value
+     *
+     * @return byte representation
+     */
+    public byte getValue() {
+      return value;
+    }
+  }
+
   protected AbstractCompactionFilter(final long nativeHandle) {
     super(nativeHandle);
   }
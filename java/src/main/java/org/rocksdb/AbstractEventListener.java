@@ -7,11 +7,18 @@ package org.rocksdb;
 
 import static org.rocksdb.AbstractEventListener.EnabledEventCallback.*;
 
+import java.util.List;
+
 /**
  * Base class for Event Listeners.
  */
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public abstract class AbstractEventListener extends RocksCallbackObject implements EventListener {
+  // the maximum number of events delivered by an asynchronous listener per
+  // JNI call, and how long the dispatcher waits for events when there are none
+  private static final int DISPATCH_BATCH_SIZE = 1024;
+  private static final long DISPATCH_WAIT_MILLIS = 100;
+
   public enum EnabledEventCallback {
     ON_FLUSH_COMPLETED((byte) 0x0),
     ON_FLUSH_BEGIN((byte) 0x1),
@@ -70,6 +77,10 @@ public abstract class AbstractEventListener extends RocksCallbackObject implemen
     }
   }
 
+  /* @Nullable */ private final Thread dispatcher;
+  private boolean dispatcherStarted; // guarded by this
+  private volatile boolean dispatchStopped;
+
   /**
    * Creates an Event Listener that will
    * receive all callbacks from C++.
@@ -96,6 +107,77 @@ public abstract class AbstractEventListener extends RocksCallbackObject implemen
    */
   protected AbstractEventListener(final EnabledEventCallback... enabledEventCallbacks) {
     super(packToLong(enabledEventCallbacks));
+    this.dispatcher = null;
+  }
+
+  /**
+   * Creates an Event Listener that will receive only certain callbacks from
+   * C++, which are delivered asynchronously.
+   * <p>
+   * Rather than calling into Java on the RocksDB thread which raised an
+   * event, a copy of the event is added to a bounded native queue, and a
+   * dispatcher thread owned by this listener delivers the queued events in
+   * batches. A slow listener therefore does not stall flushes, compactions
+   * or file IO, which makes it practical to enable the file IO callbacks,
+   * such as {@link EnabledEventCallback#ON_FILE_READ_FINISH}, in production.
+   * Events which arrive while the queue is full are dropped, and counted by
+   * {@link #getDroppedEventCount()}.
+   * <p>
+   * The callbacks are all called on the dispatcher thread, in the order in
+   * which the events were queued, and after the operation which raised them
+   * has continued. The {@link RocksDB} passed to a callback must not be used
+   * if the database may have since been closed.
+   * <p>
+   * The dispatcher thread is started when the listener is registered by
+   * {@link DBOptionsInterface#setListeners(List)}, so that it never observes
+   * a partially constructed listener.
+   * <p>
+   * {@link #onBackgroundError(BackgroundErrorReason, Status)},
+   * {@link #onColumnFamilyHandleDeletionStarted(ColumnFamilyHandle)} and
+   * {@link #onErrorRecoveryBegin(BackgroundErrorReason, Status)} are still
+   * called synchronously on the RocksDB thread. The listener is notified of
+   * file IO if any of the file callbacks is enabled, without calling
+   * {@link #shouldBeNotifiedOnFileIO()}.
+   *
+   * @param asyncQueueCapacity the maximum number of queued events, which is
+   *     rounded up to a power of two.
+   * @param enabledEventCallbacks callbacks to enable in Java.
+   */
+  protected AbstractEventListener(
+      final int asyncQueueCapacity, final EnabledEventCallback... enabledEventCallbacks) {
+    super(packToLong(enabledEventCallbacks), checkQueueCapacity(asyncQueueCapacity));
+    this.dispatcher = new Thread(this::dispatch, "rocksdb-event-listener-dispatcher");
+    this.dispatcher.setDaemon(true);
+  }
+
+  /**
+   * Starts the dispatcher threads of the asynchronous listeners, as they are
+   * registered with the options of a database.
+   *
+   * @param listeners the listeners being registered, or null if there are
+   *     none
+   */
+  static void startDispatchers(final List<AbstractEventListener> listeners) {
+    if (listeners == null) {
+      return;
+    }
+    for (final AbstractEventListener listener : listeners) {
+      listener.startDispatcher();
+    }
+  }
+
+  private synchronized void startDispatcher() {
+    if (dispatcher != null && !dispatcherStarted && !dispatchStopped) {
+      dispatcher.start();
+      dispatcherStarted = true;
+    }
+  }
+
+  private static long checkQueueCapacity(final int asyncQueueCapacity) {
+    if (asyncQueueCapacity < 1) {
+      throw new IllegalArgumentException("asyncQueueCapacity must be at least 1");
+    }
+    return asyncQueueCapacity;
   }
 
   /**
@@ -324,8 +406,38 @@ public abstract class AbstractEventListener extends RocksCallbackObject implemen
     // no-op
   }
 
+  /**
+   * Get the number of events which have been dropped because the queue of
+   * an asynchronous listener was full.
+   *
+   * @return the number of dropped events, always 0 for a synchronous
+   *     listener.
+   */
+  public long getDroppedEventCount() {
+    if (dispatcher == null) {
+      return 0;
+    }
+    return getDroppedEventCount(nativeHandle_);
+  }
+
+  /**
+   * Delivers the events of an asynchronous listener, until it is closed.
+   */
+  private void dispatch() {
+    while (!dispatchStopped) {
+      dispatchEvents(nativeHandle_, DISPATCH_BATCH_SIZE, DISPATCH_WAIT_MILLIS);
+    }
+    // deliver the events queued before the listener was closed
+    while (dispatchEvents(nativeHandle_, DISPATCH_BATCH_SIZE, 0) > 0) {
+      // continue
+    }
+  }
+
   @Override
   protected long initializeNative(final long... nativeParameterHandles) {
+    if (nativeParameterHandles.length > 1) {
+      return createNewAsyncEventListener(nativeParameterHandles[0], nativeParameterHandles[1]);
+    }
     return createNewEventListener(nativeParameterHandles[0]);
   }
 
@@ -334,9 +446,34 @@ public abstract class AbstractEventListener extends RocksCallbackObject implemen
    */
   @Override
   protected void disposeInternal() {
+    if (dispatcher != null) {
+      synchronized (this) {
+        dispatchStopped = true;
+      }
+      stopDispatch(nativeHandle_);
+      if (Thread.currentThread() != dispatcher) {
+        boolean interrupted = false;
+        while (dispatcher.isAlive()) {
+          try {
+            dispatcher.join();
+          } catch (final InterruptedException e) {
+            interrupted = true;
+          }
+        }
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
     disposeInternal(nativeHandle_);
   }
 
   private native long createNewEventListener(final long enabledEventCallbackValues);
+  private native long createNewAsyncEventListener(
+      final long enabledEventCallbackValues, final long queueCapacity);
+  private native int dispatchEvents(
+      final long handle, final int maxEvents, final long timeoutMillis);
+  private native void stopDispatch(final long handle);
+  private native long getDroppedEventCount(final long handle);
   private native void disposeInternal(final long handle);
 }
@@ -0,0 +1,184 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A compaction filter implemented in Java.
+ * <p>
+ * Implementations should extend this class, and may either be set directly
+ * with {@link ColumnFamilyOptions#setCompactionFilter(AbstractCompactionFilter)},
+ * in which case they may be called concurrently by several compactions and
+ * so must be thread-safe, or be created per compaction by an
+ * {@link AbstractCompactionFilterFactory}.
+ * <p>
+ * The key and value of each entry are passed to
+ * {@link #filter(int, ByteBuffer, ValueType, ByteBuffer, NewValue)} as
+ * read-only views of a direct buffer which is reused by each compaction
+ * thread, so no Java objects are allocated per entry. The views are only
+ * valid for the duration of the callback, and must not be retained by the
+ * implementation.
+ */
+public abstract class AbstractJavaCompactionFilter extends AbstractCompactionFilter<Slice> {
+  private static final int INT_SIZE = 4;
+  private static final ValueType[] VALUE_TYPES = ValueType.values();
+
+  protected AbstractJavaCompactionFilter() {
+    super(newCompactionFilter0());
+    initialize(nativeHandle_);
+  }
+
+  /**
+   * A name which identifies this compaction filter
+   * <p>
+   * The name will be printed to the LOG file on start up for diagnosis
+   *
+   * @return name which identifies this compaction filter.
+   */
+  public abstract String name();
+
+  /**
+   * Decides what compaction should do with an entry.
+   * <p>
+   * The entry is kept if the filter throws an exception, or returns null.
+   *
+   * @param level the level of the output of the compaction
+   * @param key buffer containing the key in its remaining elements
+   * @param valueType the type of the entry
+   * @param value buffer containing the value, or the merge operand, in its
+   *     remaining elements
+   * @param newValue receives the new value when returning
+   *     {@link Decision#CHANGE_VALUE}
+   *
+   * @return the decision about the entry
+   */
+  public abstract Decision filter(final int level, final ByteBuffer key,
+      final ValueType valueType, final ByteBuffer value, final NewValue newValue);
+
+  /**
+   * Called from JNI, see compaction_filter_jnicallback.cc
+   *
+   * @param capacity the capacity of the buffer in bytes
+   *
+   * @return a new reused buffer
+   */
+  @SuppressWarnings("PMD.UnusedPrivateMethod")
+  private ReusedBuffer newReusedBuffer(final int capacity) {
+    return new ReusedBuffer(capacity);
+  }
+
+  /**
+   * Called from JNI, see compaction_filter_jnicallback.cc
+   * <p>
+   * The buffer contains the native-order ints key length and value length,
+   * followed by the key and value bytes. When the decision is
+   * {@link Decision#CHANGE_VALUE}, the position and length of the new value
+   * are written to the first two ints of the buffer.
+   *
+   * @param reused the buffer holding the entry
+   * @param level the level of the output of the compaction
+   * @param valueType the byte value of the {@link ValueType} of the entry
+   *
+   * @return the byte value of the {@link Decision}
+   */
+  @SuppressWarnings("PMD.UnusedPrivateMethod")
+  private byte filterInternal(final ReusedBuffer reused, final int level, final byte valueType) {
+    final ByteBuffer buffer = reused.buffer;
+    final int keyLength = buffer.getInt(0);
+    final int valueLength = buffer.getInt(INT_SIZE);
+
+    final int keyOffset = 2 * INT_SIZE;
+    reused.key.clear();
+    reused.key.position(keyOffset).limit(keyOffset + keyLength);
+    final int valueOffset = keyOffset + keyLength;
+    reused.value.clear();
+    reused.value.position(valueOffset).limit(valueOffset + valueLength);
+
+    reused.newValue = null;
+    reused.newValueHolder.value = null;
+    final Decision decision = filter(
+        level, reused.key, VALUE_TYPES[valueType], reused.value, reused.newValueHolder);
+    if (decision == null) {
+      throw new IllegalStateException("filter returned a null decision");
+    }
+    if (decision == Decision.CHANGE_VALUE) {
+      if (reused.newValueHolder.value == null) {
+        throw new IllegalStateException("CHANGE_VALUE decided without setting a new value");
+      }
+      reused.newValue = reused.result(reused.newValueHolder.value);
+      reused.newValueHolder.value = null;
+    }
+    return decision.getValue();
+  }
+
+  /**
+   * Receives the new value of an entry from
+   * {@link #filter(int, ByteBuffer, ValueType, ByteBuffer, NewValue)}.
+   */
+  public static final class NewValue {
+    private ByteBuffer value;
+
+    private NewValue() {}
+
+    /**
+     * Set the new value.
+     * <p>
+     * The buffer may be a direct or a heap buffer, and may be reused by the
+     * implementation across calls; its remaining bytes are copied before the
+     * filter returns to native code.
+     *
+     * @param value buffer containing the new value in its remaining elements
+     */
+    public void set(final ByteBuffer value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * A direct buffer which native code fills with an entry, together with
+   * the read-only views of it that are passed to the callback.
+   */
+  static final class ReusedBuffer {
+    // accessed from JNI
+    final ByteBuffer buffer;
+    ByteBuffer newValue;
+
+    final ByteBuffer key;
+    final ByteBuffer value;
+    private final NewValue newValueHolder = new NewValue();
+
+    ReusedBuffer(final int capacity) {
+      this.buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+      this.key = buffer.asReadOnlyBuffer();
+      this.value = buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Records the position and length of the result in the first two ints
+     * of the buffer, where native code reads them from.
+     */
+    private ByteBuffer result(final ByteBuffer result) {
+      if (result.isDirect()) {
+        buffer.putInt(0, result.position());
+      } else if (result.hasArray()) {
+        buffer.putInt(0, result.arrayOffset() + result.position());
+      } else {
+        // a read-only heap buffer does not expose its array
+        final byte[] copy = new byte[result.remaining()];
+        result.duplicate().get(copy);
+        return result(ByteBuffer.wrap(copy));
+      }
+      buffer.putInt(INT_SIZE, result.remaining());
+      return result;
+    }
+  }
+
+  private static native long newCompactionFilter0();
+  private native void initialize(final long handle);
+}
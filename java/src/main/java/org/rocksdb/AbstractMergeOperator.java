@@ -0,0 +1,259 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Merge operators are used by RocksDB to combine the operands written by
+ * {@link RocksDB#merge(byte[], byte[])} with any existing value of a key.
+ * <p>
+ * Implementations of merge operators in Java should extend this class, and
+ * may be set with {@link ColumnFamilyOptions#setMergeOperator(AbstractMergeOperator)}.
+ * <p>
+ * The key, existing value and operands are passed to the callbacks as
+ * read-only views of a reused direct buffer, so no Java objects are
+ * allocated per merge. The views are only valid for the duration of the
+ * callback, and must not be retained by the implementation.
+ * <p>
+ * Merges are performed concurrently by reads and by background compactions,
+ * so implementations must be thread-safe.
+ */
+public abstract class AbstractMergeOperator extends RocksCallbackObject {
+  private static final int INT_SIZE = 4;
+
+  /**
+   * Construct a merge operator with the default {@link MergeOperatorOptions}.
+   */
+  protected AbstractMergeOperator() {
+    this(new MergeOperatorOptions());
+  }
+
+  /**
+   * Construct a merge operator.
+   *
+   * @param mergeOperatorOptions options controlling the reuse of the buffers
+   *     which are passed to the callbacks.
+   */
+  protected AbstractMergeOperator(final MergeOperatorOptions mergeOperatorOptions) {
+    super(mergeOperatorOptions.reusedSynchronisationType().getValue(),
+        mergeOperatorOptions.maxReusedBufferSize());
+  }
+
+  @Override
+  protected long initializeNative(final long... nativeParameterHandles) {
+    return createNewMergeOperator(
+        (byte) nativeParameterHandles[0], (int) nativeParameterHandles[1]);
+  }
+
+  /**
+   * The name of the merge operator. Used to check for merge operator
+   * mismatches (i.e., a DB created with one merge operator is accessed
+   * using a different merge operator).
+   *
+   * @return The name of this merge operator implementation
+   */
+  public abstract String name();
+
+  /**
+   * Merges the operands of a key with its existing value, if any.
+   * <p>
+   * The returned buffer may be a direct or a heap buffer, and may be reused
+   * by the implementation across calls; its remaining bytes are copied
+   * before this callback returns to native code.
+   *
+   * @param key buffer containing the key in its remaining elements
+   * @param existingValue buffer containing the existing value of the key in
+   *     its remaining elements, or null if the key has no existing value.
+   * @param operands the operands to apply, in the order in which they were
+   *     written, each containing an operand in its remaining elements.
+   *
+   * @return a buffer containing the new value in its remaining elements, or
+   *     null if the merge failed, in which case RocksDB will report
+   *     corruption.
+   */
+  public abstract ByteBuffer fullMerge(
+      final ByteBuffer key, final ByteBuffer existingValue, final List<ByteBuffer> operands);
+
+  /**
+   * Combines two operands into a single operand, where possible, without
+   * knowledge of the existing value.
+   * <p>
+   * The default implementation does not combine operands; implementations
+   * which can, for example where the merge is associative, should override
+   * this to reduce the number of operands that are retained.
+   *
+   * @param key buffer containing the key in its remaining elements
+   * @param leftOperand buffer containing the earlier operand in its remaining
+   *     elements
+   * @param rightOperand buffer containing the later operand in its remaining
+   *     elements
+   *
+   * @return a buffer containing the combined operand in its remaining
+   *     elements, or null if the operands cannot be combined.
+   */
+  public ByteBuffer partialMerge(
+      final ByteBuffer key, final ByteBuffer leftOperand, final ByteBuffer rightOperand) {
+    return null;
+  }
+
+  /**
+   * Called from JNI, see merge_operator_jnicallback.cc
+   *
+   * @param capacity the capacity of the buffer in bytes
+   *
+   * @return a new reused buffer
+   */
+  @SuppressWarnings("PMD.UnusedPrivateMethod")
+  private ReusedBuffer newReusedBuffer(final int capacity) {
+    return new ReusedBuffer(capacity);
+  }
+
+  /**
+   * Called from JNI, see merge_operator_jnicallback.cc
+   * <p>
+   * The buffer contains the native-order ints key length, existing value
+   * length (or -1), operand count and each operand length, followed by the
+   * key, existing value and operand bytes.
+   *
+   * @param reused the buffer holding the merge input
+   *
+   * @return the new value, or null if the merge failed
+   */
+  @SuppressWarnings("PMD.UnusedPrivateMethod")
+  private ByteBuffer fullMergeInternal(final ReusedBuffer reused) {
+    final ByteBuffer buffer = reused.buffer;
+    final int keyLength = buffer.getInt(0);
+    final int existingValueLength = buffer.getInt(INT_SIZE);
+    final int operandCount = buffer.getInt(2 * INT_SIZE);
+
+    int offset = (3 + operandCount) * INT_SIZE;
+    final ByteBuffer key = ReusedBuffer.view(reused.key, offset, keyLength);
+    offset += keyLength;
+
+    ByteBuffer existingValue = null;
+    if (existingValueLength >= 0) {
+      existingValue = ReusedBuffer.view(reused.value, offset, existingValueLength);
+      offset += existingValueLength;
+    }
+
+    reused.operands.clear();
+    for (int i = 0; i < operandCount; i++) {
+      final int operandLength = buffer.getInt((3 + i) * INT_SIZE);
+      reused.operands.add(ReusedBuffer.view(reused.operandView(i), offset, operandLength));
+      offset += operandLength;
+    }
+
+    try {
+      return reused.result(fullMerge(key, existingValue, reused.unmodifiableOperands));
+    } finally {
+      reused.operands.clear();
+    }
+  }
+
+  /**
+   * Called from JNI, see merge_operator_jnicallback.cc
+   * <p>
+   * The buffer contains the native-order ints key length, left operand
+   * length and right operand length, followed by the key and operand bytes.
+   *
+   * @param reused the buffer holding the merge input
+   *
+   * @return the combined operand, or null if the operands were not combined
+   */
+  @SuppressWarnings("PMD.UnusedPrivateMethod")
+  private ByteBuffer partialMergeInternal(final ReusedBuffer reused) {
+    final ByteBuffer buffer = reused.buffer;
+    final int keyLength = buffer.getInt(0);
+    final int leftLength = buffer.getInt(INT_SIZE);
+    final int rightLength = buffer.getInt(2 * INT_SIZE);
+
+    int offset = 3 * INT_SIZE;
+    final ByteBuffer key = ReusedBuffer.view(reused.key, offset, keyLength);
+    offset += keyLength;
+    final ByteBuffer left = ReusedBuffer.view(reused.value, offset, leftLength);
+    offset += leftLength;
+    final ByteBuffer right = ReusedBuffer.view(reused.operandView(0), offset, rightLength);
+
+    return reused.result(partialMerge(key, left, right));
+  }
+
+  /**
+   * We override {@link RocksCallbackObject#disposeInternal()}
+   * as disposing of a rocksdb::MergeOperatorJniCallback requires
+   * a slightly different approach as it is a std::shared_ptr
+   */
+  @Override
+  protected void disposeInternal() {
+    disposeInternal(nativeHandle_);
+  }
+
+  /**
+   * A direct buffer which native code fills with the input of a merge,
+   * together with the read-only views of it that are passed to the
+   * callbacks.
+   */
+  static final class ReusedBuffer {
+    // accessed from JNI
+    final ByteBuffer buffer;
+    final ByteBuffer key;
+    final ByteBuffer value;
+    private final List<ByteBuffer> operandViews = new ArrayList<>();
+    private final List<ByteBuffer> operands = new ArrayList<>();
+    private final List<ByteBuffer> unmodifiableOperands = Collections.unmodifiableList(operands);
+
+    ReusedBuffer(final int capacity) {
+      this.buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+      this.key = buffer.asReadOnlyBuffer();
+      this.value = buffer.asReadOnlyBuffer();
+    }
+
+    private ByteBuffer operandView(final int index) {
+      while (operandViews.size() <= index) {
+        operandViews.add(buffer.asReadOnlyBuffer());
+      }
+      return operandViews.get(index);
+    }
+
+    private static ByteBuffer view(final ByteBuffer view, final int offset, final int length) {
+      view.clear();
+      view.position(offset);
+      view.limit(offset + length);
+      return view;
+    }
+
+    /**
+     * Records the position and length of the result in the first two ints
+     * of the buffer, where native code reads them from.
+     */
+    private ByteBuffer result(final ByteBuffer result) {
+      if (result == null) {
+        return null;
+      }
+      if (result.isDirect()) {
+        buffer.putInt(0, result.position());
+      } else if (result.hasArray()) {
+        buffer.putInt(0, result.arrayOffset() + result.position());
+      } else {
+        // a read-only heap buffer does not expose its array
+        final byte[] copy = new byte[result.remaining()];
+        result.duplicate().get(copy);
+        return result(ByteBuffer.wrap(copy));
+      }
+      buffer.putInt(INT_SIZE, result.remaining());
+      return result;
+    }
+  }
+
+  private native long createNewMergeOperator(
+      final byte reusedSynchronisationType, final int maxReusedBufferSize);
+  private native void disposeInternal(final long handle);
+}
@@ -0,0 +1,127 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The shared pool of daemon threads on which the asynchronous read methods
+ * of {@link RocksDB} ({@code getAsync} and {@code multiGetAsync}) issue their
+ * native reads.
+ * <p>
+ * Each read is performed with a private copy of the caller's
+ * {@link ReadOptions} that has {@link ReadOptions#setAsyncIo(boolean)}
+ * enabled, so that the caller may close its options as soon as the call
+ * returns.
+ * <p>
+ * The native reads block their pool thread for the duration of any I/O, so
+ * the pool has {@link #DEFAULT_THREADS} threads by default, rather than one
+ * per processor, to keep enough reads in flight to overlap their I/O. The
+ * number of threads can be set with the {@value #THREADS_PROPERTY} system
+ * property, which is read when the first asynchronous read is submitted.
+ * Idle threads exit after {@link #KEEP_ALIVE_SECONDS} seconds.
+ * <p>
+ * At most {@link #MAX_QUEUED_READS} reads wait for a pool thread; a read
+ * submitted while the queue is full is not performed, and its future is
+ * completed exceptionally with a {@link RejectedExecutionException}, so that
+ * callers which outpace the pool see back-pressure rather than unbounded
+ * memory growth.
+ */
+final class AsyncReadExecutor {
+  private static final String THREAD_NAME_PREFIX = "rocksdb-async-read-";
+
+  /**
+   * The maximum number of reads waiting for a pool thread.
+   */
+  static final int MAX_QUEUED_READS = 1024;
+
+  /**
+   * The system property which sets the number of pool threads.
+   */
+  static final String THREADS_PROPERTY = "rocksdb.asyncReadThreads";
+
+  /**
+   * The default number of pool threads.
+   */
+  static final int DEFAULT_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+  /**
+   * The number of seconds after which an idle pool thread exits.
+   */
+  static final long KEEP_ALIVE_SECONDS = 60L;
+
+  private AsyncReadExecutor() {}
+
+  /**
+   * A read to perform on one of the pool threads.
+   *
+   * @param <T> the type of the result of the read
+   */
+  interface Read<T> {
+    T read(final ReadOptions readOptions) throws RocksDBException;
+  }
+
+  /**
+   * Submits a read to the pool.
+   *
+   * @param <T> the type of the result of the read
+   * @param readOptions the caller's read options, which are copied before
+   *     this method returns
+   * @param read the read to perform
+   *
+   * @return a future which is completed with the result of the read, or
+   *     completed exceptionally with the {@link RocksDBException} it threw,
+   *     or with a {@link RejectedExecutionException} if the queue of the pool
+   *     is full
+   */
+  static <T> CompletableFuture<T> submit(final ReadOptions readOptions, final Read<T> read) {
+    final ReadOptions asyncReadOptions = new ReadOptions(readOptions).setAsyncIo(true);
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      Holder.EXECUTOR.execute(() -> {
+        try (final ReadOptions ro = asyncReadOptions) {
+          future.complete(read.read(ro));
+        } catch (final Throwable t) {
+          future.completeExceptionally(t);
+        }
+      });
+    } catch (final RuntimeException e) {
+      asyncReadOptions.close();
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private static final class Holder {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    static final ExecutorService EXECUTOR = newExecutor(threads());
+
+    private static int threads() {
+      final Integer threads = Integer.getInteger(THREADS_PROPERTY);
+      return threads != null && threads > 0 ? threads : DEFAULT_THREADS;
+    }
+
+    private static ExecutorService newExecutor(final int threads) {
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+          KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_READS), r -> {
+            final Thread thread =
+                new Thread(r, THREAD_NAME_PREFIX + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }, new ThreadPoolExecutor.AbortPolicy());
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
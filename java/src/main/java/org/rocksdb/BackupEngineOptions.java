@@ -122,6 +122,7 @@ public class BackupEngineOptions extends RocksObject {
   public BackupEngineOptions setInfoLog(final Logger logger) {
     assert(isOwningHandle());
     setInfoLog(nativeHandle_, logger.nativeHandle_);
+    logger.startDrainer();
     this.infoLog = logger;
     return this;
   }
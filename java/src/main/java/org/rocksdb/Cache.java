@@ -5,7 +5,21 @@
 
 package org.rocksdb;
 
+import java.nio.ByteBuffer;
 
+/**
+ * A cache of entries with a fixed total capacity, such as the block cache.
+ * <p>
+ * Besides being shared by databases, a cache can hold entries of the
+ * application, which then share the capacity of the cache with the entries of
+ * the databases. Such entries are inserted with
+ * {@link #insert(byte[], ByteBuffer, long)}, and are accessed through a
+ * {@link CacheHandle} returned by {@link #lookup(byte[])}. The keys of the
+ * application are hashed into the keys of the cache, so they may be of any
+ * length, even with a {@link HyperClockCache}.
+ * <p>
+ * The cache is sharded and safe to use from many threads concurrently.
+ */
 public abstract class Cache extends RocksObject {
   protected Cache(final long nativeHandle) {
     super(nativeHandle);
@@ -35,6 +49,112 @@ public abstract class Cache extends RocksObject {
     return getPinnedUsage(this.nativeHandle_);
   }
 
+  /**
+   * Insert a copy of a value into the cache, replacing any existing entry
+   * with the same key. Inserts of the same key from Java are serialized, but
+   * for caches which do not replace an entry on insert, such as
+   * {@link HyperClockCache}, a concurrent {@link #lookup(byte[])} may briefly
+   * find no entry for the key while it is replaced.
+   *
+   * @param key the key of the entry
+   * @param value the value of the entry, from its position to its limit.
+   *     Its position is moved to its limit.
+   * @param charge the charge of the entry against the capacity of the cache,
+   *     typically the size of the value
+   *
+   * @throws RocksDBException if the cache is full and has a strict capacity
+   *     limit
+   */
+  public void insert(final byte[] key, final ByteBuffer value, final long charge)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    checkCharge(charge);
+    if (value.isDirect()) {
+      insertDirect(nativeHandle_, key, value, value.position(), value.remaining(), charge);
+    } else if (value.hasArray()) {
+      insert(nativeHandle_, key, value.array(), value.arrayOffset() + value.position(),
+          value.remaining(), charge);
+    } else {
+      final byte[] copy = new byte[value.remaining()];
+      value.duplicate().get(copy);
+      insert(nativeHandle_, key, copy, 0, copy.length, charge);
+    }
+    value.position(value.limit());
+  }
+
+  /**
+   * Insert a copy of a value into the cache, replacing any existing entry
+   * with the same key. Inserts of the same key from Java are serialized, but
+   * for caches which do not replace an entry on insert, such as
+   * {@link HyperClockCache}, a concurrent {@link #lookup(byte[])} may briefly
+   * find no entry for the key while it is replaced.
+   *
+   * @param key the key of the entry
+   * @param value the value of the entry
+   * @param charge the charge of the entry against the capacity of the cache,
+   *     typically the size of the value
+   *
+   * @throws RocksDBException if the cache is full and has a strict capacity
+   *     limit
+   */
+  public void insert(final byte[] key, final byte[] value, final long charge)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    checkCharge(charge);
+    insert(nativeHandle_, key, value, 0, value.length, charge);
+  }
+
+  /**
+   * Look up an entry inserted by {@link #insert(byte[], ByteBuffer, long)}.
+   * <p>
+   * The entry cannot be evicted until the returned handle is released.
+   *
+   * @param key the key of the entry
+   *
+   * @return a handle to the entry, which must be released by
+   *     {@link #release(CacheHandle)} or {@link CacheHandle#close()}, or
+   *     null if the cache has no entry for the key.
+   */
+  public CacheHandle lookup(final byte[] key) {
+    assert (isOwningHandle());
+    final long handle = lookup(nativeHandle_, key);
+    return handle == 0 ? null : new CacheHandle(handle);
+  }
+
+  /**
+   * Release a handle returned by {@link #lookup(byte[])}, which is the same
+   * as closing it.
+   *
+   * @param handle the handle to release
+   */
+  public void release(final CacheHandle handle) {
+    handle.close();
+  }
+
+  /**
+   * Remove the entry with a key from the cache. An entry which is still
+   * referenced by a handle is only freed once the handle is released.
+   *
+   * @param key the key of the entry
+   */
+  public void erase(final byte[] key) {
+    assert (isOwningHandle());
+    erase(nativeHandle_, key);
+  }
+
+  private static void checkCharge(final long charge) {
+    if (charge < 0) {
+      throw new IllegalArgumentException("charge must not be negative");
+    }
+  }
+
   private static native long getUsage(final long handle);
   private static native long getPinnedUsage(final long handle);
+  private static native void insert(final long handle, final byte[] key, final byte[] value,
+      final int valueOffset, final int valueLength, final long charge) throws RocksDBException;
+  private static native void insertDirect(final long handle, final byte[] key,
+      final ByteBuffer value, final int valueOffset, final int valueLength, final long charge)
+      throws RocksDBException;
+  private static native long lookup(final long handle, final byte[] key);
+  private static native void erase(final long handle, final byte[] key);
 }
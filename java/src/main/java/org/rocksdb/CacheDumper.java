@@ -0,0 +1,70 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Dumps the blocks of databases held in a block cache to a file, so that they
+ * can be loaded into the cache by a {@link CacheLoader} when the databases are
+ * opened again, instead of the cache being refilled from disk by reads.
+ * <p>
+ * Only the data, index and filter blocks of the tables of the default column
+ * family of the given databases are dumped.
+ * <p>
+ * A dumper can be registered with {@link RocksDB#setCacheDumper(CacheDumper)}
+ * to dump the blocks of a database automatically when it is closed.
+ */
+public class CacheDumper {
+  private final Cache cache;
+  private final String path;
+
+  /**
+   * @param cache the block cache of the databases to dump
+   * @param path the path of the dump file, which is replaced by each dump
+   */
+  public CacheDumper(final Cache cache, final String path) {
+    this.cache = cache;
+    this.path = path;
+  }
+
+  /**
+   * @return the path of the dump file
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Dump the blocks of databases held in the cache.
+   * <p>
+   * The dump is written to a temporary file which then replaces the dump
+   * file, so an incomplete dump never replaces a complete one.
+   *
+   * @param dbs the databases whose blocks are dumped
+   *
+   * @throws RocksDBException if the dump cannot be written, or if the cache
+   *     or one of the databases has been closed
+   */
+  public void dump(final RocksDB... dbs) throws RocksDBException {
+    if (dbs.length == 0) {
+      throw new IllegalArgumentException("At least one database must be dumped");
+    }
+    if (!cache.isOwningHandle()) {
+      throw new RocksDBException("The cache to dump has been closed");
+    }
+    final long[] dbHandles = new long[dbs.length];
+    for (int i = 0; i < dbs.length; i++) {
+      if (!dbs[i].isOwningHandle()) {
+        throw new RocksDBException("A database to dump has been closed");
+      }
+      dbHandles[i] = dbs[i].nativeHandle_;
+    }
+    dump(cache.nativeHandle_, dbHandles, path);
+  }
+
+  private static native void dump(final long cacheHandle, final long[] dbHandles,
+      final String path) throws RocksDBException;
+}
@@ -0,0 +1,117 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * The kinds of entries of a block cache, by which its charge is broken down
+ * in a {@link MemoryUsageReport}.
+ */
+public enum CacheEntryRole {
+  /**
+   * Block-based table data block.
+   */
+  DATA_BLOCK((byte) 0x0),
+
+  /**
+   * Block-based table filter block (full or partitioned).
+   */
+  FILTER_BLOCK((byte) 0x1),
+
+  /**
+   * Block-based table metadata block for partitioned filter.
+   */
+  FILTER_META_BLOCK((byte) 0x2),
+
+  /**
+   * Obsolete block-based filter.
+   */
+  DEPRECATED_FILTER_BLOCK((byte) 0x3),
+
+  /**
+   * Block-based table index block.
+   */
+  INDEX_BLOCK((byte) 0x4),
+
+  /**
+   * Other kinds of block-based table block.
+   */
+  OTHER_BLOCK((byte) 0x5),
+
+  /**
+   * The charge of a {@link WriteBufferManager} for the memory usage of
+   * memtables.
+   */
+  WRITE_BUFFER((byte) 0x6),
+
+  /**
+   * The charge for the memory usage of compression dictionary building
+   * buffers.
+   */
+  COMPRESSION_DICTIONARY_BUILDING_BUFFER((byte) 0x7),
+
+  /**
+   * The charge for the memory usage of bloom and ribbon filter construction.
+   */
+  FILTER_CONSTRUCTION((byte) 0x8),
+
+  /**
+   * The charge for the memory usage of block-based table readers.
+   */
+  BLOCK_BASED_TABLE_READER((byte) 0x9),
+
+  /**
+   * The charge for the memory usage of file metadata.
+   */
+  FILE_METADATA((byte) 0xA),
+
+  /**
+   * Blob value, when the block cache is also the blob cache.
+   */
+  BLOB_VALUE((byte) 0xB),
+
+  /**
+   * The charge of a separate blob cache for its memory usage.
+   */
+  BLOB_CACHE((byte) 0xC),
+
+  /**
+   * Miscellaneous entries, e.g. those inserted by {@link Cache#insert}.
+   */
+  MISC((byte) 0xD);
+
+  private final byte value;
+
+  CacheEntryRole(final byte value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the byte value of the enumerations value.
+   *
+   * @return byte representation
+   */
+  public byte getValue() {
+    return value;
+  }
+
+  /**
+   * Get CacheEntryRole by byte value.
+   *
+   * @param value byte representation of CacheEntryRole.
+   *
+   * @return {@link org.rocksdb.CacheEntryRole} instance.
+   * @throws java.lang.IllegalArgumentException if an invalid
+   *     value is provided.
+   */
+  public static CacheEntryRole getCacheEntryRole(final byte value) {
+    for (final CacheEntryRole cacheEntryRole : CacheEntryRole.values()) {
+      if (cacheEntryRole.getValue() == value) {
+        return cacheEntryRole;
+      }
+    }
+    throw new IllegalArgumentException("Illegal value provided for CacheEntryRole.");
+  }
+}
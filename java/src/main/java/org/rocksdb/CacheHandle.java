@@ -0,0 +1,62 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reference to an entry of a {@link Cache}, returned by
+ * {@link Cache#lookup(byte[])}.
+ * <p>
+ * The value is exposed through {@link #getValue()} as a read-only direct
+ * {@link ByteBuffer} over the memory of the cache entry, so it must not be
+ * used once this handle has been closed.
+ * <p>
+ * The entry cannot be evicted while a handle to it is open, and its charge
+ * counts towards {@link Cache#getPinnedUsage()}, so handles should be closed
+ * as soon as the value has been consumed. A handle keeps the native cache
+ * alive, so it remains valid even if the {@link Cache} is closed first.
+ */
+public class CacheHandle extends RocksObject {
+  private final ByteBuffer value;
+
+  CacheHandle(final long nativeHandle) {
+    super(nativeHandle);
+    this.value = newValueBuffer(nativeHandle).asReadOnlyBuffer();
+  }
+
+  /**
+   * Get a read-only view of the value of the entry.
+   * <p>
+   * Each call returns a new buffer view positioned at the start of the
+   * value, so callers may freely change its position and limit.
+   * The buffer is only valid until this handle is closed.
+   *
+   * @return a read-only direct buffer over the value.
+   */
+  public ByteBuffer getValue() {
+    assert (isOwningHandle());
+    return value.duplicate();
+  }
+
+  /**
+   * Get the size of the value of the entry.
+   *
+   * @return the size of the value in bytes.
+   */
+  public int size() {
+    return value.capacity();
+  }
+
+  @Override
+  protected void disposeInternal(final long handle) {
+    disposeInternalJni(handle);
+  }
+
+  private static native ByteBuffer newValueBuffer(final long handle);
+  private static native void disposeInternalJni(final long handle);
+}
@@ -0,0 +1,63 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * Loads the blocks dumped by a {@link CacheDumper} into a
+ * {@link CompressedSecondaryCache}.
+ * <p>
+ * The blocks are compressed as they are loaded, with the compression of the
+ * secondary cache, or with a compression supported by the build if the
+ * secondary cache does not compress.
+ * <p>
+ * The blocks are promoted into the primary cache which uses the secondary
+ * cache when they are first read, so loading should happen before the
+ * databases are opened, in place of the reads from disk which would otherwise
+ * refill the cache:
+ * <pre>{@code
+ *   new CacheLoader(secondaryCache, dumpPath).load();
+ *   final RocksDB db = RocksDB.open(options, dbPath);
+ *   db.setCacheDumper(new CacheDumper(blockCache, dumpPath));
+ * }</pre>
+ */
+public class CacheLoader {
+  private final CompressedSecondaryCache secondaryCache;
+  private final String path;
+
+  /**
+   * @param secondaryCache the secondary cache of the block cache to load
+   * @param path the path of the dump file
+   */
+  public CacheLoader(final CompressedSecondaryCache secondaryCache, final String path) {
+    this.secondaryCache = secondaryCache;
+    this.path = path;
+  }
+
+  /**
+   * @return the path of the dump file
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Load the dumped blocks into the secondary cache.
+   *
+   * @return false if there is no dump file, e.g. when the databases are
+   *     opened for the first time
+   *
+   * @throws RocksDBException if the dump file cannot be read
+   */
+  public boolean load() throws RocksDBException {
+    assert (secondaryCache.isOwningHandle());
+    return load(
+        secondaryCache.nativeHandle_, secondaryCache.getCompressionType().getValue(), path);
+  }
+
+  private static native boolean load(final long secondaryCacheHandle,
+      final byte compressionType, final String path) throws RocksDBException;
+}
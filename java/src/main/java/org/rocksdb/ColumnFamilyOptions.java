@@ -49,6 +49,7 @@ public class ColumnFamilyOptions
     this.compressionOptions_ = other.compressionOptions_;
     this.compactionThreadLimiter_ = other.compactionThreadLimiter_;
     this.sstPartitionerFactory_ = other.sstPartitionerFactory_;
+    this.dedicatedRowCache_ = other.dedicatedRowCache_;
   }
 
   /**
@@ -225,6 +226,12 @@ public class ColumnFamilyOptions
     return this;
   }
 
+  @Override
+  public ColumnFamilyOptions setMergeOperator(final AbstractMergeOperator mergeOperator) {
+    setMergeOperator(nativeHandle_, mergeOperator.nativeHandle_);
+    return this;
+  }
+
   @Override
   public ColumnFamilyOptions setCompactionFilter(
         final AbstractCompactionFilter<? extends AbstractSlice<?>>
@@ -959,6 +966,29 @@ public class ColumnFamilyOptions
     return sstPartitionerFactory_;
   }
 
+  @Override
+  public ColumnFamilyOptions setRowCacheMode(final RowCacheMode rowCacheMode) {
+    setRowCacheMode(nativeHandle_, rowCacheMode.getValue());
+    return this;
+  }
+
+  @Override
+  public RowCacheMode rowCacheMode() {
+    return RowCacheMode.getRowCacheMode(rowCacheMode(nativeHandle_));
+  }
+
+  @Override
+  public ColumnFamilyOptions setDedicatedRowCache(final Cache dedicatedRowCache) {
+    setDedicatedRowCache(nativeHandle_, dedicatedRowCache.nativeHandle_);
+    this.dedicatedRowCache_ = dedicatedRowCache;
+    return this;
+  }
+
+  @Override
+  public Cache dedicatedRowCache() {
+    return this.dedicatedRowCache_;
+  }
+
   @Override
   public ColumnFamilyOptions setMemtableMaxRangeDeletions(final int count) {
     setMemtableMaxRangeDeletions(nativeHandle_, count);
@@ -1512,6 +1542,9 @@ public class ColumnFamilyOptions
     final boolean forceConsistencyChecks);
   private native boolean forceConsistencyChecks(final long handle);
   private native void setSstPartitionerFactory(long nativeHandle_, long newFactoryHandle);
+  private native void setRowCacheMode(final long handle, final byte rowCacheMode);
+  private native byte rowCacheMode(final long handle);
+  private native void setDedicatedRowCache(final long handle, final long dedicatedRowCacheHandle);
   private static native void setCompactionThreadLimiter(
       final long nativeHandle_, final long compactionThreadLimiterHandle);
   private native void setMemtableMaxRangeDeletions(final long handle, final int count);
@@ -1557,4 +1590,5 @@ public class ColumnFamilyOptions
   private CompressionOptions compressionOptions_;
   private SstPartitionerFactory sstPartitionerFactory_;
   private ConcurrentTaskLimiter compactionThreadLimiter_;
+  private Cache dedicatedRowCache_;
 }
@@ -172,6 +172,17 @@ public interface ColumnFamilyOptionsInterface<T extends ColumnFamilyOptionsInter
    */
   T setMergeOperator(MergeOperator mergeOperator);
 
+  /**
+   * <p>Set a merge operator implemented in Java to be used for merging two
+   * different key/value pairs that share the same key. The merge function
+   * is invoked during compaction and at lookup time, if multiple key/value
+   * pairs belonging to the same key are found in the database.</p>
+   *
+   * @param mergeOperator {@link AbstractMergeOperator} instance.
+   * @return the instance of the current object.
+   */
+  T setMergeOperator(AbstractMergeOperator mergeOperator);
+
   /**
    * A single CompactionFilter instance to call into during compaction.
    * Allows an application to modify/delete a key-value during background
@@ -541,6 +552,54 @@ public interface ColumnFamilyOptionsInterface<T extends ColumnFamilyOptionsInter
    */
   ConcurrentTaskLimiter compactionThreadLimiter();
 
+  /**
+   * Set how point lookups of this column family use the row cache, which
+   * is the cache set by {@link #setDedicatedRowCache(Cache)}, otherwise the
+   * one set by {@link DBOptionsInterface#setRowCache(Cache)}.
+   * <p>
+   * {@link RowCacheMode#DISABLED} keeps a column family which is mostly
+   * scanned from polluting a row cache shared with others.
+   * {@link RowCacheMode#CACHE_MISSES} also caches that a file does not
+   * contain a key. As row cache entries are per file, and new writes go to
+   * new files, such entries never hide a later write. Misses are not cached
+   * for files with range deletions.
+   * <p>
+   * The hits and misses of a column family are reported by the
+   * "rocksdb.row-cache-hits" and "rocksdb.row-cache-misses" properties.
+   * <p>
+   * Default: {@link RowCacheMode#ENABLED}
+   *
+   * @param rowCacheMode the row cache mode.
+   * @return the reference of the current options.
+   */
+  T setRowCacheMode(RowCacheMode rowCacheMode);
+
+  /**
+   * Get how point lookups of this column family use the row cache.
+   *
+   * @return the row cache mode.
+   */
+  RowCacheMode rowCacheMode();
+
+  /**
+   * Use a row cache for this column family instead of the one set by
+   * {@link DBOptionsInterface#setRowCache(Cache)}. Giving column families
+   * their own row caches bounds the share of the cached rows of each.
+   * <p>
+   * Default: null, use the row cache of the database
+   *
+   * @param dedicatedRowCache the row cache of the column family.
+   * @return the reference of the current options.
+   */
+  T setDedicatedRowCache(Cache dedicatedRowCache);
+
+  /**
+   * Get the row cache of this column family.
+   *
+   * @return the row cache, or null if the row cache of the database is used.
+   */
+  Cache dedicatedRowCache();
+
   /**
    * Default memtable memory budget used with the following methods:
    *
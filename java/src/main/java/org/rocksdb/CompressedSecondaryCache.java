@@ -0,0 +1,81 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A {@link SecondaryCache} which holds blocks compressed in memory, so that
+ * more of the blocks evicted from the uncompressed primary cache can be kept
+ * in the same memory.
+ * <p>
+ * A block is only admitted to the secondary cache on its second eviction
+ * from the primary cache within a short period, so rarely reused blocks do
+ * not pay the cost of compression.
+ */
+public class CompressedSecondaryCache extends SecondaryCache {
+  private final CompressionType compressionType;
+
+  /**
+   * Create a new compressed secondary cache, using LZ4 compression.
+   *
+   * @param capacity The fixed size capacity of the cache, of the compressed
+   *     blocks
+   */
+  public CompressedSecondaryCache(final long capacity) {
+    this(capacity, -1, false, 0.5, 0.0, CompressionType.LZ4_COMPRESSION);
+  }
+
+  /**
+   * Create a new compressed secondary cache.
+   *
+   * @param capacity The fixed size capacity of the cache, of the compressed
+   *     blocks
+   * @param compressionType the compression of the blocks
+   */
+  public CompressedSecondaryCache(final long capacity, final CompressionType compressionType) {
+    this(capacity, -1, false, 0.5, 0.0, compressionType);
+  }
+
+  /**
+   * Create a new compressed secondary cache. The cache is sharded
+   * to 2^numShardBits shards, by hash of the key. The total capacity
+   * is divided and evenly assigned to each shard.
+   * numShardBits = -1 means it is automatically determined: every shard
+   * will be at least 512KB and number of shard bits will not exceed 6.
+   *
+   * @param capacity The fixed size capacity of the cache, of the compressed
+   *     blocks
+   * @param numShardBits The cache is sharded to 2^numShardBits shards,
+   *     by hash of the key
+   * @param strictCapacityLimit insert to the cache will fail when cache is full
+   * @param highPriPoolRatio percentage of the cache reserves for high priority
+   *     entries
+   * @param lowPriPoolRatio percentage of the cache reserves for low priority
+   *     entries
+   * @param compressionType the compression of the blocks
+   */
+  public CompressedSecondaryCache(final long capacity, final int numShardBits,
+      final boolean strictCapacityLimit, final double highPriPoolRatio,
+      final double lowPriPoolRatio, final CompressionType compressionType) {
+    super(newCompressedSecondaryCache(capacity, numShardBits, strictCapacityLimit,
+        highPriPoolRatio, lowPriPoolRatio, compressionType.getValue()));
+    this.compressionType = compressionType;
+  }
+
+  /**
+   * Get the compression of the blocks.
+   *
+   * @return the compression type.
+   */
+  public CompressionType getCompressionType() {
+    return compressionType;
+  }
+
+  private static native long newCompressedSecondaryCache(final long capacity,
+      final int numShardBits, final boolean strictCapacityLimit, final double highPriPoolRatio,
+      final double lowPriPoolRatio, final byte compressionType);
+  @Override protected final native void disposeInternal(final long handle);
+}
@@ -216,6 +216,7 @@ public class DBOptions extends RocksObject
   public DBOptions setLogger(final Logger logger) {
     assert(isOwningHandle());
     setLogger(nativeHandle_, logger.nativeHandle_);
+    logger.startDrainer();
     return this;
   }
 
@@ -857,6 +858,7 @@ public class DBOptions extends RocksObject
   public DBOptions setListeners(final List<AbstractEventListener> listeners) {
     assert (isOwningHandle());
     setEventListeners(nativeHandle_, RocksCallbackObject.toNativeHandleList(listeners));
+    AbstractEventListener.startDispatchers(listeners);
     return this;
   }
 
@@ -45,7 +45,24 @@ public class HyperClockCache extends Cache {
    */
   public HyperClockCache(final long capacity, final long estimatedEntryCharge, int numShardBits,
       boolean strictCapacityLimit) {
-    super(newHyperClockCache(capacity, estimatedEntryCharge, numShardBits, strictCapacityLimit));
+    super(
+        newHyperClockCache(capacity, estimatedEntryCharge, numShardBits, strictCapacityLimit, 0));
+  }
+
+  /**
+   *
+   * @param capacity The fixed size capacity of the cache
+   * @param estimatedEntryCharge EXPERIMENTAL: the field can be set to 0 to size the table
+   *     dynamically and automatically. See C++ Api for more info.
+   * @param numShardBits The cache is sharded to 2^numShardBits shards, by hash of the key
+   * @param strictCapacityLimit insert to the cache will fail when cache is full
+   * @param secondaryCache the secondary cache, into which entries evicted from this cache are
+   *     inserted, and which may be closed once this cache has been created
+   */
+  public HyperClockCache(final long capacity, final long estimatedEntryCharge, int numShardBits,
+      boolean strictCapacityLimit, final SecondaryCache secondaryCache) {
+    super(newHyperClockCache(capacity, estimatedEntryCharge, numShardBits, strictCapacityLimit,
+        secondaryCache.nativeHandle_));
   }
 
   @Override
@@ -56,5 +73,6 @@ public class HyperClockCache extends Cache {
   private static native void disposeInternalJni(long handle);
 
   private static native long newHyperClockCache(final long capacity,
-      final long estimatedEntryCharge, int numShardBits, boolean strictCapacityLimit);
+      final long estimatedEntryCharge, int numShardBits, boolean strictCapacityLimit,
+      final long secondaryCacheHandle);
 }
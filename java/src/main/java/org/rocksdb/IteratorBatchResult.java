@@ -0,0 +1,46 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.Objects;
+
+/**
+ * The result of {@link RocksIterator#nextBatch(java.nio.ByteBuffer, int)}
+ * and {@link RocksIterator#prevBatch(java.nio.ByteBuffer, int)}.
+ */
+public class IteratorBatchResult {
+  /**
+   * The number of entries which were copied into the buffer.
+   */
+  public final int entryCount;
+
+  /**
+   * True if copying stopped because the next entry did not fit in the
+   * remaining space of the buffer.
+   */
+  public final boolean bufferFull;
+
+  public IteratorBatchResult(final int entryCount, final boolean bufferFull) {
+    this.entryCount = entryCount;
+    this.bufferFull = bufferFull;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    final IteratorBatchResult that = (IteratorBatchResult) o;
+    return (entryCount == that.entryCount && bufferFull == that.bufferFull);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(entryCount, bufferFull);
+  }
+}
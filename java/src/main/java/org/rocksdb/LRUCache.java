@@ -31,7 +31,7 @@ public class LRUCache extends Cache {
    *     by hash of the key
    */
   public LRUCache(final long capacity, final int numShardBits) {
-    super(newLRUCache(capacity, numShardBits, false, 0.0, 0.0));
+    super(newLRUCache(capacity, numShardBits, false, 0.0, 0.0, 0));
   }
 
   /**
@@ -49,7 +49,7 @@ public class LRUCache extends Cache {
    */
   public LRUCache(final long capacity, final int numShardBits,
                   final boolean strictCapacityLimit) {
-    super(newLRUCache(capacity, numShardBits, strictCapacityLimit, 0.0, 0.0));
+    super(newLRUCache(capacity, numShardBits, strictCapacityLimit, 0.0, 0.0, 0));
   }
 
   /**
@@ -71,7 +71,7 @@ public class LRUCache extends Cache {
    */
   public LRUCache(final long capacity, final int numShardBits, final boolean strictCapacityLimit,
       final double highPriPoolRatio) {
-    super(newLRUCache(capacity, numShardBits, strictCapacityLimit, highPriPoolRatio, 0.0));
+    super(newLRUCache(capacity, numShardBits, strictCapacityLimit, highPriPoolRatio, 0.0, 0));
   }
 
   /**
@@ -96,11 +96,36 @@ public class LRUCache extends Cache {
   public LRUCache(final long capacity, final int numShardBits, final boolean strictCapacityLimit,
       final double highPriPoolRatio, final double lowPriPoolRatio) {
     super(newLRUCache(
-        capacity, numShardBits, strictCapacityLimit, highPriPoolRatio, lowPriPoolRatio));
+        capacity, numShardBits, strictCapacityLimit, highPriPoolRatio, lowPriPoolRatio, 0));
+  }
+
+  /**
+   * Create a new cache with a fixed size capacity, and a secondary cache
+   * into which entries evicted from this cache are inserted, and from which
+   * they are promoted back into this cache on a hit.
+   * numShardBits = -1 means it is automatically determined: every shard
+   * will be at least 512KB and number of shard bits will not exceed 6.
+   *
+   * @param capacity The fixed size capacity of the cache
+   * @param numShardBits The cache is sharded to 2^numShardBits shards,
+   *     by hash of the key
+   * @param strictCapacityLimit insert to the cache will fail when cache is full
+   * @param highPriPoolRatio percentage of the cache reserves for high priority
+   *     entries
+   * @param lowPriPoolRatio percentage of the cache reserves for low priority
+   *     entries
+   * @param secondaryCache the secondary cache, which may be closed once this
+   *     cache has been created
+   */
+  public LRUCache(final long capacity, final int numShardBits, final boolean strictCapacityLimit,
+      final double highPriPoolRatio, final double lowPriPoolRatio,
+      final SecondaryCache secondaryCache) {
+    super(newLRUCache(capacity, numShardBits, strictCapacityLimit, highPriPoolRatio,
+        lowPriPoolRatio, secondaryCache.nativeHandle_));
   }
 
   private static native long newLRUCache(final long capacity, final int numShardBits,
       final boolean strictCapacityLimit, final double highPriPoolRatio,
-      final double lowPriPoolRatio);
+      final double lowPriPoolRatio, final long secondaryCacheHandle);
   @Override protected final native void disposeInternal(final long handle);
 }
@@ -34,11 +34,34 @@ package org.rocksdb;
  * {@link org.rocksdb.InfoLogLevel#ERROR_LEVEL} or
  * {@link org.rocksdb.InfoLogLevel#FATAL_LEVEL}.
  * </p>
+ *
+ * <p>Alternatively a buffered logger can be created with
+ * {@link #Logger(Options, int)} or {@link #Logger(DBOptions, int)}.
+ * Messages are then added to a bounded native buffer, without any
+ * native to Java transitions on the RocksDB thread which logs, and are
+ * delivered to {@link #log(InfoLogLevel, String)} in batches by a
+ * thread owned by the logger. If the buffer is full, messages are
+ * dropped, and counted by {@link #getDroppedMessageCount()}.
+ * </p>
  */
 public abstract class Logger extends RocksCallbackObject {
   private static final long WITH_OPTIONS = 0;
   private static final long WITH_DBOPTIONS = 1;
 
+  // the maximum number of messages delivered by a buffered logger per JNI
+  // call, and how long the drain thread waits for messages when there are none
+  private static final int DRAIN_BATCH_SIZE = 256;
+  private static final long DRAIN_WAIT_MILLIS = 100;
+
+  /* @Nullable */ private final Thread drainer;
+  private boolean drainerStarted; // guarded by this
+  private volatile boolean drainStopped;
+  // true if the logger was closed by log() on the drainer thread, which then
+  // disposes of the native logger once it has stopped draining
+  private volatile boolean closedByDrainer;
+  // the dropped message count of a buffered logger which has been closed
+  private volatile long finalDroppedMessageCount;
+
   /**
    * <p>AbstractLogger constructor.</p>
    *
@@ -50,7 +73,29 @@ public abstract class Logger extends RocksCallbackObject {
    */
   public Logger(final Options options) {
     super(options.nativeHandle_, WITH_OPTIONS);
+    this.drainer = null;
+  }
 
+  /**
+   * <p>Buffered logger constructor.</p>
+   *
+   * <p>Messages are delivered to {@link #log(InfoLogLevel, String)}
+   * by a thread owned by this logger, rather than by the RocksDB
+   * thread which logs. The thread is started when the logger is
+   * registered, for example by {@link Options#setLogger(Logger)}, so
+   * that it never observes a partially constructed logger.</p>
+   *
+   * <p><strong>Important:</strong> the log level set within
+   * the {@link org.rocksdb.Options} instance will be used as
+   * maximum log level of RocksDB.</p>
+   *
+   * @param options {@link org.rocksdb.Options} instance.
+   * @param bufferCapacity the maximum number of buffered messages,
+   *     which is rounded up to a power of two.
+   */
+  public Logger(final Options options, final int bufferCapacity) {
+    super(options.nativeHandle_, WITH_OPTIONS, checkBufferCapacity(bufferCapacity));
+    this.drainer = newDrainer();
   }
 
   /**
@@ -64,14 +109,66 @@ public abstract class Logger extends RocksCallbackObject {
    */
   public Logger(final DBOptions dboptions) {
     super(dboptions.nativeHandle_, WITH_DBOPTIONS);
+    this.drainer = null;
+  }
+
+  /**
+   * <p>Buffered logger constructor.</p>
+   *
+   * <p>Messages are delivered to {@link #log(InfoLogLevel, String)}
+   * by a thread owned by this logger, rather than by the RocksDB
+   * thread which logs. The thread is started when the logger is
+   * registered, for example by {@link DBOptions#setLogger(Logger)}, so
+   * that it never observes a partially constructed logger.</p>
+   *
+   * <p><strong>Important:</strong> the log level set within
+   * the {@link org.rocksdb.DBOptions} instance will be used
+   * as maximum log level of RocksDB.</p>
+   *
+   * @param dboptions {@link org.rocksdb.DBOptions} instance.
+   * @param bufferCapacity the maximum number of buffered messages,
+   *     which is rounded up to a power of two.
+   */
+  public Logger(final DBOptions dboptions, final int bufferCapacity) {
+    super(dboptions.nativeHandle_, WITH_DBOPTIONS, checkBufferCapacity(bufferCapacity));
+    this.drainer = newDrainer();
+  }
+
+  private static long checkBufferCapacity(final int bufferCapacity) {
+    if (bufferCapacity < 1) {
+      throw new IllegalArgumentException("bufferCapacity must be at least 1");
+    }
+    return bufferCapacity;
+  }
+
+  private Thread newDrainer() {
+    final Thread thread = new Thread(this::drain, "rocksdb-logger-drainer");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Starts the drainer thread of a buffered logger, as it is registered
+   * with the options of a database or another native object.
+   */
+  synchronized void startDrainer() {
+    if (drainer != null && !drainerStarted && !drainStopped) {
+      drainer.start();
+      drainerStarted = true;
+    }
   }
 
   @Override
   protected long initializeNative(final long... nativeParameterHandles) {
+    final boolean buffered = nativeParameterHandles.length > 2;
     if(nativeParameterHandles[1] == WITH_OPTIONS) {
-      return createNewLoggerOptions(nativeParameterHandles[0]);
+      return buffered
+          ? createNewBufferedLoggerOptions(nativeParameterHandles[0], nativeParameterHandles[2])
+          : createNewLoggerOptions(nativeParameterHandles[0]);
     } else if(nativeParameterHandles[1] == WITH_DBOPTIONS) {
-      return createNewLoggerDbOptions(nativeParameterHandles[0]);
+      return buffered
+          ? createNewBufferedLoggerDbOptions(nativeParameterHandles[0], nativeParameterHandles[2])
+          : createNewLoggerDbOptions(nativeParameterHandles[0]);
     } else {
       throw new IllegalArgumentException();
     }
@@ -96,9 +193,60 @@ public abstract class Logger extends RocksCallbackObject {
         infoLogLevel(nativeHandle_));
   }
 
+  /**
+   * Return the number of messages which have been dropped because
+   * the buffer of a buffered logger was full.
+   *
+   * @return the number of dropped messages, always 0 for a logger
+   *     which is not buffered.
+   */
+  public long getDroppedMessageCount() {
+    if (drainer == null) {
+      return 0;
+    }
+    if (!isOwningHandle()) {
+      return finalDroppedMessageCount;
+    }
+    return getDroppedMessageCount(nativeHandle_);
+  }
+
   protected abstract void log(InfoLogLevel infoLogLevel,
       String logMsg);
 
+  /**
+   * Delivers the messages of a buffered logger, until it is closed.
+   */
+  private void drain() {
+    final byte[] levels = new byte[DRAIN_BATCH_SIZE];
+    final String[] messages = new String[DRAIN_BATCH_SIZE];
+    while (!drainStopped) {
+      deliver(levels, messages,
+          drainMessages(nativeHandle_, levels, messages, DRAIN_WAIT_MILLIS));
+    }
+    // deliver the messages buffered before the logger was closed
+    int count;
+    while ((count = drainMessages(nativeHandle_, levels, messages, 0)) > 0) {
+      deliver(levels, messages, count);
+    }
+    if (closedByDrainer) {
+      finalDroppedMessageCount = getDroppedMessageCount(nativeHandle_);
+      disposeInternal(nativeHandle_);
+    }
+  }
+
+  private void deliver(final byte[] levels, final String[] messages, final int count) {
+    for (int i = 0; i < count; i++) {
+      try {
+        log(InfoLogLevel.getInfoLogLevel(levels[i]), messages[i]);
+      } catch (final RuntimeException e) {
+        // as for a logger which is not buffered, print out the exception
+        // to stderr and continue
+        e.printStackTrace(); // NOPMD - AvoidPrintStackTrace
+      }
+      messages[i] = null;
+    }
+  }
+
   protected native long createNewLoggerOptions(
       long options);
   protected native long createNewLoggerDbOptions(
@@ -106,6 +254,14 @@ public abstract class Logger extends RocksCallbackObject {
   protected native void setInfoLogLevel(long handle,
       byte infoLogLevel);
   protected native byte infoLogLevel(long handle);
+  private native long createNewBufferedLoggerOptions(
+      long options, long bufferCapacity);
+  private native long createNewBufferedLoggerDbOptions(
+      long dbOptions, long bufferCapacity);
+  private native int drainMessages(long handle, byte[] levels,
+      String[] messages, long timeoutMillis);
+  private native void stopDrain(long handle);
+  private native long getDroppedMessageCount(long handle);
 
   /**
    * We override {@link RocksCallbackObject#disposeInternal()}
@@ -114,6 +270,29 @@ public abstract class Logger extends RocksCallbackObject {
    */
   @Override
   protected void disposeInternal() {
+    if (drainer != null) {
+      synchronized (this) {
+        drainStopped = true;
+      }
+      stopDrain(nativeHandle_);
+      if (Thread.currentThread() == drainer) {
+        // the drainer still uses the native logger once log() returns
+        closedByDrainer = true;
+        return;
+      }
+      boolean interrupted = false;
+      while (drainer.isAlive()) {
+        try {
+          drainer.join();
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+      finalDroppedMessageCount = getDroppedMessageCount(nativeHandle_);
+    }
     disposeInternal(nativeHandle_);
   }
 
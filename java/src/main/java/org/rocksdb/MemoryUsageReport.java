@@ -0,0 +1,217 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.List;
+
+/**
+ * The approximate memory usage of a database and of each of its column
+ * families, as returned by
+ * {@link MemoryUtil#getMemoryUsageReport(RocksDB, List)}.
+ * <p>
+ * The memtables and table readers of a column family are its own. The block
+ * cache and blob cache of a column family may be shared with other column
+ * families and databases, so their usage is that of the whole cache, and
+ * must not be summed across column families.
+ * <p>
+ * All of the values are held in a single array, which is filled by one JNI
+ * call.
+ */
+public final class MemoryUsageReport {
+  // the layout of the values of the database, followed by those of each
+  // column family, which must match java/rocksjni/memory_util.cc
+  static final int WRITE_BUFFER_MANAGER_BUFFER_SIZE = 0;
+  static final int WRITE_BUFFER_MANAGER_MEMORY_USAGE = 1;
+  static final int WRITE_BUFFER_MANAGER_MUTABLE_MEMORY_USAGE = 2;
+  static final int DB_VALUES = 3;
+
+  static final int ACTIVE_MEM_TABLE = 0;
+  static final int IMMUTABLE_MEM_TABLES = 1;
+  static final int PINNED_MEM_TABLES = 2;
+  static final int TABLE_READERS = 3;
+  static final int BLOCK_CACHE_CAPACITY = 4;
+  static final int BLOCK_CACHE_USAGE = 5;
+  static final int BLOCK_CACHE_PINNED_USAGE = 6;
+  static final int BLOB_CACHE_USAGE = 7;
+  static final int BLOB_CACHE_PINNED_USAGE = 8;
+  static final int BLOCK_CACHE_CHARGES = 9;
+  static final int COLUMN_FAMILY_VALUES = BLOCK_CACHE_CHARGES + CacheEntryRole.values().length;
+
+  private final List<byte[]> columnFamilyNames;
+  private final long[] values;
+
+  MemoryUsageReport(final List<byte[]> columnFamilyNames, final long[] values) {
+    this.columnFamilyNames = columnFamilyNames;
+    this.values = values;
+  }
+
+  /**
+   * @return the size of the write buffer manager of the database, or 0 if
+   *     it has none
+   */
+  public long getWriteBufferManagerBufferSize() {
+    return values[WRITE_BUFFER_MANAGER_BUFFER_SIZE];
+  }
+
+  /**
+   * @return the memory usage of the memtables tracked by the write buffer
+   *     manager of the database, which may be shared with other databases,
+   *     or 0 if it has none
+   */
+  public long getWriteBufferManagerMemoryUsage() {
+    return values[WRITE_BUFFER_MANAGER_MEMORY_USAGE];
+  }
+
+  /**
+   * @return the memory usage of the mutable memtables tracked by the write
+   *     buffer manager of the database, or 0 if it has none
+   */
+  public long getWriteBufferManagerMutableMemoryUsage() {
+    return values[WRITE_BUFFER_MANAGER_MUTABLE_MEMORY_USAGE];
+  }
+
+  /**
+   * @return the number of column families in the report
+   */
+  public int getColumnFamilyCount() {
+    return columnFamilyNames.size();
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report, which
+   *     is its index in the list of handles the report was requested for
+   *
+   * @return the name of the column family
+   */
+  public byte[] getColumnFamilyName(final int columnFamily) {
+    return columnFamilyNames.get(columnFamily);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the memory usage of the active memtable of the column family
+   */
+  public long getActiveMemTableUsage(final int columnFamily) {
+    return value(columnFamily, ACTIVE_MEM_TABLE);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the memory usage of the immutable memtables of the column family
+   *     which have not been flushed yet
+   */
+  public long getImmutableMemTablesUsage(final int columnFamily) {
+    return value(columnFamily, IMMUTABLE_MEM_TABLES);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the memory usage of the flushed memtables of the column family
+   *     which are still pinned, e.g. by iterators
+   */
+  public long getPinnedMemTablesUsage(final int columnFamily) {
+    return value(columnFamily, PINNED_MEM_TABLES);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the memory usage of the table readers of the column family,
+   *     including the index and filter blocks which they hold outside of the
+   *     block cache
+   */
+  public long getTableReadersUsage(final int columnFamily) {
+    return value(columnFamily, TABLE_READERS);
+  }
+
+  /**
+   * The memory used by a column family alone, i.e. its memtables and table
+   * readers, excluding the caches which may be shared.
+   *
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the memory usage of the column family
+   */
+  public long getColumnFamilyUsage(final int columnFamily) {
+    return getActiveMemTableUsage(columnFamily) + getImmutableMemTablesUsage(columnFamily)
+        + getPinnedMemTablesUsage(columnFamily) + getTableReadersUsage(columnFamily);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the capacity of the block cache of the column family, or 0 if it
+   *     has none
+   */
+  public long getBlockCacheCapacity(final int columnFamily) {
+    return value(columnFamily, BLOCK_CACHE_CAPACITY);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the usage of the block cache of the column family, or 0 if it
+   *     has none
+   */
+  public long getBlockCacheUsage(final int columnFamily) {
+    return value(columnFamily, BLOCK_CACHE_USAGE);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the usage of the entries of the block cache of the column family
+   *     which are pinned, e.g. index and filter blocks, or 0 if it has none
+   */
+  public long getBlockCachePinnedUsage(final int columnFamily) {
+    return value(columnFamily, BLOCK_CACHE_PINNED_USAGE);
+  }
+
+  /**
+   * The charge of the entries of a role in the block cache of a column
+   * family, as of the last scan of the cache. The cache is scanned at most
+   * every few seconds, however often reports are requested.
+   *
+   * @param columnFamily the index of the column family in the report
+   * @param role the role of the entries
+   *
+   * @return the charge of the entries, or 0 if the column family has no
+   *     block cache
+   */
+  public long getBlockCacheCharge(final int columnFamily, final CacheEntryRole role) {
+    return value(columnFamily, BLOCK_CACHE_CHARGES + role.getValue());
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the usage of the blob cache of the column family, or 0 if it has
+   *     none
+   */
+  public long getBlobCacheUsage(final int columnFamily) {
+    return value(columnFamily, BLOB_CACHE_USAGE);
+  }
+
+  /**
+   * @param columnFamily the index of the column family in the report
+   *
+   * @return the usage of the entries of the blob cache of the column family
+   *     which are pinned, or 0 if it has none
+   */
+  public long getBlobCachePinnedUsage(final int columnFamily) {
+    return value(columnFamily, BLOB_CACHE_PINNED_USAGE);
+  }
+
+  private long value(final int columnFamily, final int index) {
+    if (columnFamily < 0 || columnFamily >= columnFamilyNames.size()) {
+      throw new IndexOutOfBoundsException("No column family at index " + columnFamily);
+    }
+    return values[DB_VALUES + columnFamily * COLUMN_FAMILY_VALUES + index];
+  }
+}
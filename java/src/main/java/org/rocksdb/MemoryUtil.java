@@ -57,6 +57,38 @@ public class MemoryUtil {
     return output;
   }
 
+  /**
+   * <p>Returns the approximate memory usage of a DB, and of each of the
+   * column families of the input list, broken down by where the memory is
+   * used: memtables, table readers, the block cache by
+   * {@link CacheEntryRole}, the blob cache and the write buffer manager.</p>
+   *
+   * <p>Unlike {@link #getApproximateMemoryUsageByType(List, Set)} this tells
+   * which column families use the memory.</p>
+   *
+   * @param db the DB to collect memory usage for.
+   * @param columnFamilyHandles the column families of the DB to collect
+   *     memory usage for.
+   * @return the memory usage of the DB and its column families.
+   *
+   * @throws RocksDBException if the name of a column family cannot be read
+   */
+  public static MemoryUsageReport getMemoryUsageReport(
+      final RocksDB db, final List<ColumnFamilyHandle> columnFamilyHandles)
+      throws RocksDBException {
+    final long[] cfHandles = new long[columnFamilyHandles.size()];
+    final List<byte[]> cfNames = new ArrayList<>(columnFamilyHandles.size());
+    for (int i = 0; i < cfHandles.length; i++) {
+      final ColumnFamilyHandle columnFamilyHandle = columnFamilyHandles.get(i);
+      cfHandles[i] = columnFamilyHandle.nativeHandle_;
+      cfNames.add(columnFamilyHandle.getName());
+    }
+    return new MemoryUsageReport(cfNames, getMemoryUsageReport(db.nativeHandle_, cfHandles));
+  }
+
   private static native Map<Byte, Long> getApproximateMemoryUsageByType(
       final long[] dbHandles, final long[] cacheHandles);
+
+  private static native long[] getMemoryUsageReport(
+      final long dbHandle, final long[] columnFamilyHandles);
 }
@@ -0,0 +1,80 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * This class controls the behaviour of Java implementations of
+ * {@link AbstractMergeOperator}.
+ * <p>
+ * The key, existing value and operands of a merge are passed to Java through
+ * a reused direct buffer. These options control how that buffer is shared
+ * between the threads which perform merges.
+ */
+public class MergeOperatorOptions {
+  private ReusedSynchronisationType reusedSynchronisationType =
+      ReusedSynchronisationType.THREAD_LOCAL;
+  private int maxReusedBufferSize = 64 * 1024;
+
+  /**
+   * Get the synchronisation type used to guard the reused buffers.
+   * Only used if {@link #maxReusedBufferSize()} &gt; 0
+   * Default: {@link ReusedSynchronisationType#THREAD_LOCAL}, as merges are
+   * performed concurrently by both reads and compactions.
+   *
+   * @return the synchronisation type
+   */
+  public ReusedSynchronisationType reusedSynchronisationType() {
+    return reusedSynchronisationType;
+  }
+
+  /**
+   * Set the synchronisation type used to guard the reused buffers.
+   * Only used if {@link #maxReusedBufferSize()} &gt; 0
+   * Default: {@link ReusedSynchronisationType#THREAD_LOCAL}
+   *
+   * @param reusedSynchronisationType the synchronisation type
+   *
+   * @return the reference to the current merge operator options.
+   */
+  public MergeOperatorOptions setReusedSynchronisationType(
+      final ReusedSynchronisationType reusedSynchronisationType) {
+    this.reusedSynchronisationType = reusedSynchronisationType;
+    return this;
+  }
+
+  /**
+   * Maximum size of a buffer (in bytes) that will be reused.
+   * A merge whose key, existing value and operands need no more than this
+   * size will use a reused buffer, else a new buffer will be allocated just
+   * for that merge. -1 to disable.
+   * <p>
+   * Default: 65536
+   *
+   * @return the maximum size of a buffer to reuse
+   */
+  public int maxReusedBufferSize() {
+    return maxReusedBufferSize;
+  }
+
+  /**
+   * Sets the maximum size of a buffer (in bytes) that will be reused.
+   * A merge whose key, existing value and operands need no more than this
+   * size will use a reused buffer, else a new buffer will be allocated just
+   * for that merge. -1 to disable.
+   * <p>
+   * Default: 65536
+   *
+   * @param maxReusedBufferSize the maximum size for a buffer to reuse, or -1
+   *     to disable buffer reuse
+   *
+   * @return the reference to the current merge operator options.
+   */
+  public MergeOperatorOptions setMaxReusedBufferSize(final int maxReusedBufferSize) {
+    this.maxReusedBufferSize = maxReusedBufferSize;
+    return this;
+  }
+}
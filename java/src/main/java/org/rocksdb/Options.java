@@ -89,6 +89,7 @@ public class Options extends RocksObject
     this.bottommostCompressionOptions_ = other.bottommostCompressionOptions_;
     this.walFilter_ = other.walFilter_;
     this.sstPartitionerFactory_ = other.sstPartitionerFactory_;
+    this.dedicatedRowCache_ = other.dedicatedRowCache_;
   }
 
   @Override
@@ -242,6 +243,12 @@ public class Options extends RocksObject
     return this;
   }
 
+  @Override
+  public Options setMergeOperator(final AbstractMergeOperator mergeOperator) {
+    setMergeOperator(nativeHandle_, mergeOperator.nativeHandle_);
+    return this;
+  }
+
   @Override
   public Options setCompactionFilter(
           final AbstractCompactionFilter<? extends AbstractSlice<?>>
@@ -942,6 +949,7 @@ public class Options extends RocksObject
   public Options setListeners(final List<AbstractEventListener> listeners) {
     assert (isOwningHandle());
     setEventListeners(nativeHandle_, RocksCallbackObject.toNativeHandleList(listeners));
+    AbstractEventListener.startDispatchers(listeners);
     return this;
   }
 
@@ -1248,6 +1256,7 @@ public class Options extends RocksObject
   public Options setLogger(final Logger logger) {
     assert(isOwningHandle());
     setLogger(nativeHandle_, logger.nativeHandle_);
+    logger.startDrainer();
     return this;
   }
 
@@ -1980,6 +1989,29 @@ public class Options extends RocksObject
     return sstPartitionerFactory_;
   }
 
+  @Override
+  public Options setRowCacheMode(final RowCacheMode rowCacheMode) {
+    setRowCacheMode(nativeHandle_, rowCacheMode.getValue());
+    return this;
+  }
+
+  @Override
+  public RowCacheMode rowCacheMode() {
+    return RowCacheMode.getRowCacheMode(rowCacheMode(nativeHandle_));
+  }
+
+  @Override
+  public Options setDedicatedRowCache(final Cache dedicatedRowCache) {
+    setDedicatedRowCache(nativeHandle_, dedicatedRowCache.nativeHandle_);
+    this.dedicatedRowCache_ = dedicatedRowCache;
+    return this;
+  }
+
+  @Override
+  public Cache dedicatedRowCache() {
+    return this.dedicatedRowCache_;
+  }
+
   @Override
   public Options setMemtableMaxRangeDeletions(final int count) {
     setMemtableMaxRangeDeletions(nativeHandle_, count);
@@ -2513,6 +2545,9 @@ public class Options extends RocksObject
       final boolean atomicFlush);
   private native boolean atomicFlush(final long handle);
   private native void setSstPartitionerFactory(long nativeHandle_, long newFactoryHandle);
+  private native void setRowCacheMode(final long handle, final byte rowCacheMode);
+  private native byte rowCacheMode(final long handle);
+  private native void setDedicatedRowCache(final long handle, final long dedicatedRowCacheHandle);
   private native void setMemtableMaxRangeDeletions(final long handle, final int count);
   private native int memtableMaxRangeDeletions(final long handle);
   private static native void setCompactionThreadLimiter(
@@ -2583,4 +2618,5 @@ public class Options extends RocksObject
   private WriteBufferManager writeBufferManager_;
   private SstPartitionerFactory sstPartitionerFactory_;
   private ConcurrentTaskLimiter compactionThreadLimiter_;
+  private Cache dedicatedRowCache_;
 }
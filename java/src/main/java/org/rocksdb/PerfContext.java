@@ -14,6 +14,35 @@ public class PerfContext extends RocksObject {
     reset(nativeHandle_);
   }
 
+  /**
+   * Reset the {@code IOStatsContext} of the calling thread, whose counters
+   * are exported together with this perf context by {@link #export(long[])}.
+   */
+  public void resetIOStats() {
+    resetIOStatsContext();
+  }
+
+  /**
+   * Export all counters of this perf context, followed by those of the
+   * {@code IOStatsContext} of the calling thread, in a single call.
+   * <p>
+   * This is much cheaper than calling each of the getters of this class, as
+   * it makes only one JNI call and allocates nothing.
+   *
+   * @param values receives the counter of each {@link PerfContextMetric} at
+   *     the index of its {@link PerfContextMetric#ordinal()}
+   *
+   * @throws IllegalArgumentException if the length of values is less than
+   *     {@link PerfContextMetric#COUNT}
+   */
+  public void export(final long[] values) {
+    if (values.length < PerfContextMetric.COUNT) {
+      throw new IllegalArgumentException(
+          "values must have a length of at least " + PerfContextMetric.COUNT);
+    }
+    exportValues(nativeHandle_, values);
+  }
+
   /**
    * @return total number of user key comparisons
    */
@@ -657,6 +686,8 @@ public class PerfContext extends RocksObject {
   }
 
   private native void reset(final long nativeHandle);
+  private native void resetIOStatsContext();
+  private native void exportValues(final long handle, final long[] values);
 
   private native long getUserKeyComparisonCount(final long handle);
   private native long getBlockCacheHitCount(final long handle);
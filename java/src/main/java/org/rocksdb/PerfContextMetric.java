@@ -0,0 +1,161 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * The counters of the {@code PerfContext} and the {@code IOStatsContext} of a
+ * thread, as exported by {@link PerfContext#export(long[])}.
+ * <p>
+ * The {@link #ordinal()} of each metric is its index in the exported array.
+ * The {@code PerfContext} counters are in the order of the fields of the C++
+ * {@code PerfContextBase} struct, and are followed by the
+ * {@code IOStatsContext} counters, which are prefixed with {@code IO_STATS_}.
+ */
+public enum PerfContextMetric {
+  USER_KEY_COMPARISON_COUNT,
+  BLOCK_CACHE_HIT_COUNT,
+  BLOCK_READ_COUNT,
+  BLOCK_READ_BYTE,
+  BLOCK_READ_TIME,
+  BLOCK_READ_CPU_TIME,
+  BLOCK_CACHE_INDEX_HIT_COUNT,
+  BLOCK_CACHE_STANDALONE_HANDLE_COUNT,
+  BLOCK_CACHE_REAL_HANDLE_COUNT,
+  INDEX_BLOCK_READ_COUNT,
+  BLOCK_CACHE_FILTER_HIT_COUNT,
+  FILTER_BLOCK_READ_COUNT,
+  COMPRESSION_DICT_BLOCK_READ_COUNT,
+  SECONDARY_CACHE_HIT_COUNT,
+  COMPRESSED_SEC_CACHE_INSERT_REAL_COUNT,
+  COMPRESSED_SEC_CACHE_INSERT_DUMMY_COUNT,
+  COMPRESSED_SEC_CACHE_UNCOMPRESSED_BYTES,
+  COMPRESSED_SEC_CACHE_COMPRESSED_BYTES,
+  BLOCK_CHECKSUM_TIME,
+  BLOCK_DECOMPRESS_TIME,
+  GET_READ_BYTES,
+  MULTIGET_READ_BYTES,
+  ITER_READ_BYTES,
+  BLOB_CACHE_HIT_COUNT,
+  BLOB_READ_COUNT,
+  BLOB_READ_BYTE,
+  BLOB_READ_TIME,
+  BLOB_CHECKSUM_TIME,
+  BLOB_DECOMPRESS_TIME,
+  INTERNAL_KEY_SKIPPED_COUNT,
+  INTERNAL_DELETE_SKIPPED_COUNT,
+  INTERNAL_RECENT_SKIPPED_COUNT,
+  INTERNAL_MERGE_COUNT,
+  INTERNAL_MERGE_POINT_LOOKUP_COUNT,
+  INTERNAL_RANGE_DEL_RESEEK_COUNT,
+  GET_SNAPSHOT_TIME,
+  GET_FROM_MEMTABLE_TIME,
+  GET_FROM_MEMTABLE_COUNT,
+  GET_POST_PROCESS_TIME,
+  GET_FROM_OUTPUT_FILES_TIME,
+  SEEK_ON_MEMTABLE_TIME,
+  SEEK_ON_MEMTABLE_COUNT,
+  NEXT_ON_MEMTABLE_COUNT,
+  PREV_ON_MEMTABLE_COUNT,
+  SEEK_CHILD_SEEK_TIME,
+  SEEK_CHILD_SEEK_COUNT,
+  SEEK_MIN_HEAP_TIME,
+  SEEK_MAX_HEAP_TIME,
+  SEEK_INTERNAL_SEEK_TIME,
+  FIND_NEXT_USER_ENTRY_TIME,
+  WRITE_WAL_TIME,
+  WRITE_MEMTABLE_TIME,
+  WRITE_DELAY_TIME,
+  WRITE_SCHEDULING_FLUSHES_COMPACTIONS_TIME,
+  WRITE_PRE_AND_POST_PROCESS_TIME,
+  WRITE_THREAD_WAIT_NANOS,
+  DB_MUTEX_LOCK_NANOS,
+  DB_CONDITION_WAIT_NANOS,
+  MERGE_OPERATOR_TIME_NANOS,
+  READ_INDEX_BLOCK_NANOS,
+  READ_FILTER_BLOCK_NANOS,
+  NEW_TABLE_BLOCK_ITER_NANOS,
+  NEW_TABLE_ITERATOR_NANOS,
+  BLOCK_SEEK_NANOS,
+  FIND_TABLE_NANOS,
+  BLOOM_MEMTABLE_HIT_COUNT,
+  BLOOM_MEMTABLE_MISS_COUNT,
+  BLOOM_SST_HIT_COUNT,
+  BLOOM_SST_MISS_COUNT,
+  KEY_LOCK_WAIT_TIME,
+  KEY_LOCK_WAIT_COUNT,
+  ENV_NEW_SEQUENTIAL_FILE_NANOS,
+  ENV_NEW_RANDOM_ACCESS_FILE_NANOS,
+  ENV_NEW_WRITABLE_FILE_NANOS,
+  ENV_REUSE_WRITABLE_FILE_NANOS,
+  ENV_NEW_RANDOM_RW_FILE_NANOS,
+  ENV_NEW_DIRECTORY_NANOS,
+  ENV_FILE_EXISTS_NANOS,
+  ENV_GET_CHILDREN_NANOS,
+  ENV_GET_CHILDREN_FILE_ATTRIBUTES_NANOS,
+  ENV_DELETE_FILE_NANOS,
+  ENV_CREATE_DIR_NANOS,
+  ENV_CREATE_DIR_IF_MISSING_NANOS,
+  ENV_DELETE_DIR_NANOS,
+  ENV_GET_FILE_SIZE_NANOS,
+  ENV_GET_FILE_MODIFICATION_TIME_NANOS,
+  ENV_RENAME_FILE_NANOS,
+  ENV_LINK_FILE_NANOS,
+  ENV_LOCK_FILE_NANOS,
+  ENV_UNLOCK_FILE_NANOS,
+  ENV_NEW_LOGGER_NANOS,
+  GET_CPU_NANOS,
+  ITER_NEXT_CPU_NANOS,
+  ITER_PREV_CPU_NANOS,
+  ITER_SEEK_CPU_NANOS,
+  ITER_NEXT_COUNT,
+  ITER_PREV_COUNT,
+  ITER_SEEK_COUNT,
+  ENCRYPT_DATA_NANOS,
+  DECRYPT_DATA_NANOS,
+  NUMBER_ASYNC_SEEK,
+  IO_STATS_BYTES_WRITTEN,
+  IO_STATS_BYTES_READ,
+  IO_STATS_OPEN_NANOS,
+  IO_STATS_ALLOCATE_NANOS,
+  IO_STATS_WRITE_NANOS,
+  IO_STATS_READ_NANOS,
+  IO_STATS_RANGE_SYNC_NANOS,
+  IO_STATS_FSYNC_NANOS,
+  IO_STATS_PREPARE_WRITE_NANOS,
+  IO_STATS_LOGGER_NANOS,
+  IO_STATS_CPU_WRITE_NANOS,
+  IO_STATS_CPU_READ_NANOS,
+  IO_STATS_HOT_FILE_BYTES_READ,
+  IO_STATS_WARM_FILE_BYTES_READ,
+  IO_STATS_COLD_FILE_BYTES_READ,
+  IO_STATS_HOT_FILE_READ_COUNT,
+  IO_STATS_WARM_FILE_READ_COUNT,
+  IO_STATS_COLD_FILE_READ_COUNT;
+
+  private static final PerfContextMetric[] VALUES = values();
+
+  /**
+   * The number of metrics, which is the length of the array filled by
+   * {@link PerfContext#export(long[])}.
+   */
+  public static final int COUNT = VALUES.length;
+
+  /**
+   * Get the metric at an index of the exported array.
+   *
+   * @param index the index in the exported array
+   *
+   * @return the metric
+   *
+   * @throws IllegalArgumentException if the index is out of range
+   */
+  public static PerfContextMetric fromIndex(final int index) {
+    if (index < 0 || index >= COUNT) {
+      throw new IllegalArgumentException("Illegal PerfContextMetric index: " + index);
+    }
+    return VALUES[index];
+  }
+}
@@ -0,0 +1,305 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Samples the {@link PerfContext} of 1 in N operations on each thread, and
+ * aggregates the sampled counters into histograms per operation type.
+ * <p>
+ * The perf level is only raised for the sampled operations, so that the cost
+ * of the perf context is not paid by every call. Each sample is exported with
+ * a single JNI call by {@link PerfContext#export(long[])} into an array which
+ * is reused by the thread. An operation is sampled by bracketing it with
+ * {@link #begin()} and {@link #end(String)} on the same thread:
+ * <pre>{@code
+ *   final boolean sampled = sampler.begin();
+ *   try {
+ *     db.get(key);
+ *   } finally {
+ *     if (sampled) {
+ *       sampler.end("get");
+ *     }
+ *   }
+ * }</pre>
+ * <p>
+ * The perf context and perf level are per native thread, so operations on
+ * virtual threads, which may move between carrier threads while an operation
+ * is in progress, are never sampled.
+ * <p>
+ * Instances are thread-safe.
+ */
+public class PerfContextSampler {
+  private final RocksDB db;
+  private final int sampleInterval;
+  private final PerfLevel perfLevel;
+  private final ThreadLocal<ThreadState> threadState = new ThreadLocal<>();
+  private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+  /**
+   * @param db the database, used to set the perf level of the calling thread
+   * @param sampleInterval the number of operations of a thread per sampled
+   *     operation, 1 samples every operation
+   * @param perfLevel the perf level of the sampled operations
+   *
+   * @throws IllegalArgumentException if the sample interval is less than 1,
+   *     or the perf level does not enable any counters
+   */
+  public PerfContextSampler(
+      final RocksDB db, final int sampleInterval, final PerfLevel perfLevel) {
+    if (sampleInterval < 1) {
+      throw new IllegalArgumentException("sampleInterval must be at least 1");
+    }
+    if (perfLevel == PerfLevel.UNINITIALIZED || perfLevel == PerfLevel.DISABLE) {
+      throw new IllegalArgumentException("perfLevel must enable counters");
+    }
+    this.db = db;
+    this.sampleInterval = sampleInterval;
+    this.perfLevel = perfLevel;
+  }
+
+  /**
+   * Called before an operation on the calling thread.
+   * <p>
+   * If the operation is sampled, the perf level of the thread is raised and
+   * its perf context is reset, and {@link #end(String)} must be called on the
+   * same thread once the operation completes.
+   *
+   * @return true if the operation is sampled, which is always false on a
+   *     virtual thread
+   */
+  public boolean begin() {
+    if (VirtualThreadOffload.isVirtualThread()) {
+      return false;
+    }
+    ThreadState state = threadState.get();
+    if (state == null) {
+      state = new ThreadState(db.getPerfContext());
+      threadState.set(state);
+    }
+    if (++state.operations < sampleInterval) {
+      return false;
+    }
+    state.operations = 0;
+    state.previousPerfLevel = db.getPerfLevel();
+    state.perfContext.reset();
+    state.perfContext.resetIOStats();
+    db.setPerfLevel(perfLevel);
+    return true;
+  }
+
+  /**
+   * Called after a sampled operation on the calling thread, to record its
+   * counters and restore the previous perf level of the thread.
+   *
+   * @param operation the type of the operation, e.g. "get"
+   *
+   * @throws IllegalStateException if {@link #begin()} did not sample an
+   *     operation on the calling thread
+   */
+  public void end(final String operation) {
+    final ThreadState state = threadState.get();
+    if (state == null || state.previousPerfLevel == null) {
+      throw new IllegalStateException("No operation is being sampled on this thread");
+    }
+    state.perfContext.export(state.values);
+    db.setPerfLevel(state.previousPerfLevel);
+    state.previousPerfLevel = null;
+
+    OperationStats stats = operations.get(operation);
+    if (stats == null) {
+      stats = operations.computeIfAbsent(operation, k -> new OperationStats());
+    }
+    stats.record(state.values);
+  }
+
+  /**
+   * @return a snapshot of the types of the operations which have been
+   *     sampled
+   */
+  public Set<String> getOperations() {
+    return new HashSet<>(operations.keySet());
+  }
+
+  /**
+   * @param operation the type of the operation
+   *
+   * @return the number of sampled operations of the type
+   */
+  public long getSampleCount(final String operation) {
+    final OperationStats stats = operations.get(operation);
+    if (stats == null) {
+      return 0;
+    }
+    synchronized (stats) {
+      return stats.samples;
+    }
+  }
+
+  /**
+   * Get a snapshot of the histogram of a metric of the sampled operations of
+   * a type.
+   *
+   * @param operation the type of the operation
+   * @param metric the metric
+   *
+   * @return the histogram, which is empty if no operations of the type have
+   *     been sampled
+   */
+  public Histogram getHistogram(final String operation, final PerfContextMetric metric) {
+    final OperationStats stats = operations.get(operation);
+    if (stats == null) {
+      return new Histogram(0, 0, 0, new long[Histogram.BUCKETS]);
+    }
+    final int index = metric.ordinal();
+    synchronized (stats) {
+      return new Histogram(stats.samples, stats.sums[index], stats.maxes[index],
+          Arrays.copyOfRange(
+              stats.buckets, index * Histogram.BUCKETS, (index + 1) * Histogram.BUCKETS));
+    }
+  }
+
+  /**
+   * Discard all samples.
+   */
+  public void reset() {
+    operations.clear();
+  }
+
+  /**
+   * A histogram of the values of a metric across the sampled operations.
+   * <p>
+   * Values are recorded into buckets of powers of two, so the percentiles are
+   * estimates whose error is at most a factor of two.
+   */
+  public static final class Histogram {
+    // bucket 0 holds zero, and bucket b holds values in [2^(b-1), 2^b)
+    static final int BUCKETS = Long.SIZE + 1;
+
+    private final long count;
+    private final long sum;
+    private final long max;
+    private final long[] buckets;
+
+    Histogram(final long count, final long sum, final long max, final long[] buckets) {
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+      this.buckets = buckets;
+    }
+
+    static int bucket(final long value) {
+      // counters are unsigned, so treat negative values as the largest
+      return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * @return the number of samples
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * @return the sum of the values of all samples
+     */
+    public long getSum() {
+      return sum;
+    }
+
+    /**
+     * @return the largest value of any sample
+     */
+    public long getMax() {
+      return max;
+    }
+
+    /**
+     * @return the average value of the samples, or 0 if there are none
+     */
+    public double getAverage() {
+      return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Estimate a percentile of the values.
+     *
+     * @param percentile the percentile, between 0 and 100
+     *
+     * @return the estimated value, or 0 if there are no samples
+     */
+    public long getPercentile(final double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("percentile must be between 0 and 100");
+      }
+      if (count == 0) {
+        return 0;
+      }
+      final double threshold = count * (percentile / 100.0);
+      long cumulative = 0;
+      for (int b = 0; b < BUCKETS; b++) {
+        final long inBucket = buckets[b];
+        if (inBucket == 0) {
+          continue;
+        }
+        if (cumulative + inBucket >= threshold) {
+          if (b == 0) {
+            return 0;
+          }
+          // interpolate linearly within the bucket, bounded by the maximum
+          final long lower = 1L << (b - 1);
+          final long upper = b == Long.SIZE ? max : Math.min(max, (1L << b) - 1);
+          final double fraction = (threshold - cumulative) / inBucket;
+          return lower + (long) ((upper - lower) * fraction);
+        }
+        cumulative += inBucket;
+      }
+      return max;
+    }
+
+    /**
+     * @return the estimated median value
+     */
+    public long getMedian() {
+      return getPercentile(50);
+    }
+  }
+
+  private static final class ThreadState {
+    private final PerfContext perfContext;
+    private final long[] values = new long[PerfContextMetric.COUNT];
+    private int operations;
+    private PerfLevel previousPerfLevel;
+
+    private ThreadState(final PerfContext perfContext) {
+      this.perfContext = perfContext;
+    }
+  }
+
+  private static final class OperationStats {
+    private long samples;
+    private final long[] sums = new long[PerfContextMetric.COUNT];
+    private final long[] maxes = new long[PerfContextMetric.COUNT];
+    private final long[] buckets = new long[PerfContextMetric.COUNT * Histogram.BUCKETS];
+
+    private synchronized void record(final long[] values) {
+      samples++;
+      for (int i = 0; i < PerfContextMetric.COUNT; i++) {
+        final long value = values[i];
+        sums[i] += value;
+        if (Long.compareUnsigned(value, maxes[i]) > 0) {
+          maxes[i] = value;
+        }
+        buckets[i * Histogram.BUCKETS + Histogram.bucket(value)]++;
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ public class PersistentCache extends RocksObject {
       throws RocksDBException {
     super(newPersistentCache(env.nativeHandle_, path, size,
         logger.nativeHandle_, optimizedForNvm));
+    logger.startDrainer();
   }
 
   private static native long newPersistentCache(final long envHandle, final String path,
@@ -0,0 +1,81 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A value read from the database which is kept pinned in native memory
+ * (typically in the block cache) rather than being copied onto the Java heap.
+ * <p>
+ * The value is exposed through {@link #getValue()} as a read-only direct
+ * {@link ByteBuffer}. That buffer addresses native memory owned by this
+ * object, so it must not be used once this object has been closed.
+ * <p>
+ * Holding a {@code PinnedValue} open prevents the underlying block from
+ * being evicted, so instances should be closed as soon as the value has
+ * been consumed.
+ *
+ * @see RocksDB#getPinned(ReadOptions, ColumnFamilyHandle, byte[])
+ */
+public class PinnedValue extends RocksObject {
+  private final ByteBuffer value;
+
+  private PinnedValue(final long nativeHandle, final ByteBuffer value) {
+    super(nativeHandle);
+    this.value = value.asReadOnlyBuffer();
+  }
+
+  /**
+   * Take ownership of a pinned value returned by the native getPinned.
+   *
+   * @param nativeHandle the handle of the pinned value
+   *
+   * @return the pinned value
+   *
+   * @throws RocksDBException if the value cannot be exposed as a direct
+   *     buffer, in which case it has been released
+   */
+  static PinnedValue fromHandle(final long nativeHandle) throws RocksDBException {
+    final ByteBuffer value = newValueBuffer(nativeHandle);
+    if (value == null) {
+      throw new RocksDBException("Failed to create a direct buffer for the pinned value");
+    }
+    return new PinnedValue(nativeHandle, value);
+  }
+
+  /**
+   * Get a read-only view of the pinned value.
+   * <p>
+   * Each call returns a new buffer view positioned at the start of the
+   * value, so callers may freely change its position and limit.
+   * The buffer is only valid until this {@code PinnedValue} is closed.
+   *
+   * @return a read-only direct buffer over the pinned value.
+   */
+  public ByteBuffer getValue() {
+    assert (isOwningHandle());
+    return value.duplicate();
+  }
+
+  /**
+   * Get the size of the pinned value.
+   *
+   * @return the size of the value in bytes.
+   */
+  public int size() {
+    return value.capacity();
+  }
+
+  @Override
+  protected void disposeInternal(final long handle) {
+    disposeInternalJni(handle);
+  }
+
+  private static native ByteBuffer newValueBuffer(final long handle);
+  private static native void disposeInternalJni(final long handle);
+}
@@ -0,0 +1,129 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A lock manager for a {@link TransactionDB} which locks ranges of keys,
+ * rather than each key individually.
+ * <p>
+ * It is enabled by passing it to
+ * {@link TransactionDBOptions#setRangeLockManager(RangeLockManager)} when
+ * opening the database, and may then be used to inspect and control the
+ * locks of the database. Ranges are locked with
+ * {@link Transaction#getRangeLock(ColumnFamilyHandle, byte[], byte[])}, and
+ * keys which are written or read for update by a transaction are locked as
+ * ranges of a single key.
+ * <p>
+ * A range lock manager must not be used by more than one database at a
+ * time.
+ */
+public class RangeLockManager extends RocksObject {
+  // the layout of the counters, which must match
+  // java/rocksjni/range_lock_manager.cc
+  static final int ESCALATION_COUNT = 0;
+  static final int LOCK_WAIT_COUNT = 1;
+  static final int CURRENT_LOCK_MEMORY = 2;
+
+  /**
+   * Create a range lock manager.
+   *
+   * @throws RocksDBException if range locking is not supported on the
+   *     platform.
+   */
+  public RangeLockManager() throws RocksDBException {
+    super(newRangeLockManager());
+  }
+
+  /**
+   * Set the maximum amount of memory used by the locks of all of the column
+   * families. Once it is reached, adjacent locks of a transaction are
+   * escalated into a single lock of the range spanning them.
+   *
+   * @param maxLockMemory the maximum amount of memory in bytes.
+   *
+   * @return this RangeLockManager instance
+   *
+   * @throws RocksDBException if the locks currently use more memory than
+   *     the maximum.
+   */
+  public RangeLockManager setMaxLockMemory(final long maxLockMemory) throws RocksDBException {
+    assert (isOwningHandle());
+    setMaxLockMemory(nativeHandle_, maxLockMemory);
+    return this;
+  }
+
+  /**
+   * Get the maximum amount of memory used by the locks of all of the column
+   * families.
+   *
+   * @return the maximum amount of memory in bytes.
+   */
+  public long getMaxLockMemory() {
+    assert (isOwningHandle());
+    return getMaxLockMemory(nativeHandle_);
+  }
+
+  /**
+   * Get the number of times that lock escalation was triggered, for all of
+   * the column families.
+   *
+   * @return the number of lock escalations.
+   */
+  public long getEscalationCount() {
+    assert (isOwningHandle());
+    return getCounters(nativeHandle_)[ESCALATION_COUNT];
+  }
+
+  /**
+   * Get the number of times that acquiring a lock had to wait for a
+   * conflicting lock to be released, whether or not the lock was acquired.
+   *
+   * @return the number of lock waits.
+   */
+  public long getLockWaitCount() {
+    assert (isOwningHandle());
+    return getCounters(nativeHandle_)[LOCK_WAIT_COUNT];
+  }
+
+  /**
+   * Get the amount of memory currently used by the locks of all of the
+   * column families.
+   *
+   * @return the amount of memory in bytes.
+   */
+  public long getCurrentLockMemory() {
+    assert (isOwningHandle());
+    return getCounters(nativeHandle_)[CURRENT_LOCK_MEMORY];
+  }
+
+  /**
+   * Get the range locks currently held, for all of the column families.
+   * A lock of a single key is returned as a range whose start and end are
+   * the key.
+   *
+   * @return the range locks.
+   */
+  public List<TransactionDB.RangeLockInfo> getRangeLockStatusData() {
+    assert (isOwningHandle());
+    return Arrays.asList(getRangeLockStatusData(nativeHandle_));
+  }
+
+  @Override
+  protected void disposeInternal(final long handle) {
+    disposeInternalJni(handle);
+  }
+
+  private static native long newRangeLockManager() throws RocksDBException;
+  private static native void disposeInternalJni(final long handle);
+  private static native void setMaxLockMemory(final long handle, final long maxLockMemory)
+      throws RocksDBException;
+  private static native long getMaxLockMemory(final long handle);
+  private static native long[] getCounters(final long handle);
+  private static native TransactionDB.RangeLockInfo[] getRangeLockStatusData(final long handle);
+}
@@ -752,6 +752,71 @@ public class ReadOptions extends RocksObject {
     return this;
   }
 
+  /**
+   * If async_io is enabled, RocksDB will prefetch some of data asynchronously.
+   * RocksDB apply it if reads are sequential and its internal automatic
+   * prefetching.
+   * <p>
+   * Default: false
+   *
+   * @return true if async IO is enabled.
+   */
+  public boolean asyncIo() {
+    assert (isOwningHandle());
+    return asyncIo(nativeHandle_);
+  }
+
+  /**
+   * If async_io is enabled, RocksDB will prefetch some of data asynchronously.
+   * RocksDB apply it if reads are sequential and its internal automatic
+   * prefetching.
+   * <p>
+   * Default: false
+   *
+   * @param asyncIo true to enable async IO
+   * @return the reference to the current ReadOptions
+   */
+  public ReadOptions setAsyncIo(final boolean asyncIo) {
+    assert (isOwningHandle());
+    setAsyncIo(nativeHandle_, asyncIo);
+    return this;
+  }
+
+  /**
+   * If async_io is set, then this flag controls whether we read SST files
+   * in multiple levels asynchronously. Enabling this flag can help reduce
+   * MultiGet latency by maximizing the number of SST files read in
+   * parallel if the keys in the MultiGet batch are in different levels. It
+   * comes at the expense of slightly higher CPU overhead.
+   * <p>
+   * Default: true
+   *
+   * @return true if MultiGet is optimized for IO.
+   */
+  public boolean optimizeMultigetForIo() {
+    assert (isOwningHandle());
+    return optimizeMultigetForIo(nativeHandle_);
+  }
+
+  /**
+   * If async_io is set, then this flag controls whether we read SST files
+   * in multiple levels asynchronously. Enabling this flag can help reduce
+   * MultiGet latency by maximizing the number of SST files read in
+   * parallel if the keys in the MultiGet batch are in different levels. It
+   * comes at the expense of slightly higher CPU overhead.
+   * <p>
+   * Default: true
+   *
+   * @param optimizeMultigetForIo true to read SST files in multiple levels
+   *     asynchronously
+   * @return the reference to the current ReadOptions
+   */
+  public ReadOptions setOptimizeMultigetForIo(final boolean optimizeMultigetForIo) {
+    assert (isOwningHandle());
+    setOptimizeMultigetForIo(nativeHandle_, optimizeMultigetForIo);
+    return this;
+  }
+
   // instance variables
   // NOTE: If you add new member variables, please update the copy constructor above!
   //
@@ -819,4 +884,9 @@ public class ReadOptions extends RocksObject {
   private native void setIoTimeout(final long handle, final long ioTimeout);
   private native long valueSizeSoftLimit(final long handle);
   private native void setValueSizeSoftLimit(final long handle, final long softLimit);
+  private native boolean asyncIo(final long handle);
+  private native void setAsyncIo(final long handle, final boolean asyncIo);
+  private native boolean optimizeMultigetForIo(final long handle);
+  private native void setOptimizeMultigetForIo(
+      final long handle, final boolean optimizeMultigetForIo);
 }
@@ -10,6 +10,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import org.rocksdb.util.Environment;
 
@@ -40,6 +41,7 @@ public class RocksDB extends RocksObject {
       "Performance optimization for a very specific workload";
 
   private final List<ColumnFamilyHandle> ownedColumnFamilyHandles = new ArrayList<>();
+  private volatile CacheDumper cacheDumper;
 
   /**
    * Loads the necessary library files.
@@ -620,6 +622,8 @@ public class RocksDB extends RocksObject {
    * @throws RocksDBException if an error occurs whilst closing.
    */
   public void closeE() throws RocksDBException {
+    final RocksDBException dumpError = runCacheDumper();
+
     for (final ColumnFamilyHandle columnFamilyHandle : // NOPMD - CloseResource
         ownedColumnFamilyHandles) {
       columnFamilyHandle.close();
@@ -629,10 +633,19 @@ public class RocksDB extends RocksObject {
     if (owningHandle_.compareAndSet(true, false)) {
       try {
         closeDatabase(nativeHandle_);
+      } catch (final RocksDBException e) {
+        if (dumpError != null) {
+          e.addSuppressed(dumpError);
+        }
+        throw e;
       } finally {
         disposeInternal();
       }
     }
+
+    if (dumpError != null) {
+      throw dumpError;
+    }
   }
 
   /**
@@ -649,6 +662,8 @@ public class RocksDB extends RocksObject {
   @SuppressWarnings("PMD.EmptyCatchBlock")
   @Override
   public void close() {
+    runCacheDumper();
+
     for (final ColumnFamilyHandle columnFamilyHandle : // NOPMD - CloseResource
         ownedColumnFamilyHandles) {
       columnFamilyHandle.close();
@@ -666,6 +681,45 @@ public class RocksDB extends RocksObject {
     }
   }
 
+  /**
+   * Set a dumper which dumps the blocks of this database held in the block
+   * cache when the database is closed, so that they can be loaded by a
+   * {@link CacheLoader} before the database is opened again.
+   * <p>
+   * The database is closed even if the dump cannot be written. An error
+   * writing the dump is thrown by {@link #closeE()} once the database has
+   * been closed, and ignored by {@link #close()}.
+   *
+   * @param cacheDumper the dumper, or null to not dump on close
+   */
+  public void setCacheDumper(final CacheDumper cacheDumper) {
+    this.cacheDumper = cacheDumper;
+  }
+
+  /**
+   * Dump the block cache with the dumper set by
+   * {@link #setCacheDumper(CacheDumper)}, if any. It must be called by each
+   * implementation of {@link #closeE()} and {@link #close()} before the
+   * database is closed. The dumper is cleared, so that the cache is dumped
+   * only once.
+   *
+   * @return the error writing the dump, which is to be thrown by
+   *     {@link #closeE()} once the database has been closed, or null if the
+   *     dump was written or there is no dumper
+   */
+  protected RocksDBException runCacheDumper() {
+    final CacheDumper dumper = cacheDumper;
+    cacheDumper = null;
+    if (dumper != null && isOwningHandle()) {
+      try {
+        dumper.dump(this);
+      } catch (final RocksDBException e) {
+        return e;
+      }
+    }
+    return null;
+  }
+
   /**
    * Static method to determine all available column families for a
    * rocksdb database identified by path
@@ -1011,6 +1065,53 @@ public class RocksDB extends RocksObject {
         0, value.length, columnFamilyHandle.nativeHandle_);
   }
 
+  /**
+   * Set the database entry for "key" to "value", using the default
+   * {@link WriteOptions}.
+   * <p>
+   * Off-heap memory owned by other native code (for instance a
+   * {@code MemorySegment} exposed through {@code asByteBuffer()}) can be
+   * passed here without being copied onto the Java heap first.
+   *
+   * @param key the specified key to be inserted. Position and limit is used.
+   *     Supports direct buffer only.
+   * @param value the value associated with the specified key. Position and limit is used.
+   *     Supports direct buffer only.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public void put(final ByteBuffer key, final ByteBuffer value) throws RocksDBException {
+    assert key.isDirect() && value.isDirect();
+    putDirect(nativeHandle_, 0, key, key.position(), key.remaining(), value, value.position(),
+        value.remaining(), 0);
+    key.position(key.limit());
+    value.position(value.limit());
+  }
+
+  /**
+   * Set the database entry for "key" to "value" for the specified
+   * column family, using the default {@link WriteOptions}.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param key the specified key to be inserted. Position and limit is used.
+   *     Supports direct buffer only.
+   * @param value the value associated with the specified key. Position and limit is used.
+   *     Supports direct buffer only.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public void put(final ColumnFamilyHandle columnFamilyHandle, final ByteBuffer key,
+      final ByteBuffer value) throws RocksDBException {
+    assert key.isDirect() && value.isDirect();
+    putDirect(nativeHandle_, 0, key, key.position(), key.remaining(), value, value.position(),
+        value.remaining(), columnFamilyHandle.nativeHandle_);
+    key.position(key.limit());
+    value.position(value.limit());
+  }
+
   /**
    * Set the database entry for "key" to "value" for the specified
    * column family.
@@ -1062,6 +1163,60 @@ public class RocksDB extends RocksObject {
     value.position(value.limit());
   }
 
+  /**
+   * Set the database entry for the 64-bit {@code key} to "value" for the
+   * specified column family, using the default {@link WriteOptions}.
+   * <p>
+   * The key is stored as its 8 byte big-endian encoding, i.e. the same bytes
+   * as written by {@link ByteBuffer#putLong(long)}, without allocating a
+   * key array. With {@link BuiltinComparator#BYTEWISE_COMPARATOR},
+   * non-negative keys are therefore ordered numerically.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param key the specified key to be inserted.
+   * @param value the value associated with the specified key. Position and limit is used.
+   *     Supports direct buffer only.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public void putLong(/* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
+      final long key, final ByteBuffer value) throws RocksDBException {
+    assert value.isDirect();
+    putLongDirect(nativeHandle_, 0, key, value, value.position(), value.remaining(),
+        columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_);
+    value.position(value.limit());
+  }
+
+  /**
+   * Set the database entry for the 64-bit {@code key} to "value" for the
+   * specified column family.
+   * <p>
+   * The key is stored as its 8 byte big-endian encoding, i.e. the same bytes
+   * as written by {@link ByteBuffer#putLong(long)}, without allocating a
+   * key array. With {@link BuiltinComparator#BYTEWISE_COMPARATOR},
+   * non-negative keys are therefore ordered numerically.
+   *
+   * @param writeOpts {@link org.rocksdb.WriteOptions} instance.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param key the specified key to be inserted.
+   * @param value the value associated with the specified key. Position and limit is used.
+   *     Supports direct buffer only.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public void putLong(final WriteOptions writeOpts,
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle, final long key,
+      final ByteBuffer value) throws RocksDBException {
+    assert value.isDirect();
+    putLongDirect(nativeHandle_, writeOpts.nativeHandle_, key, value, value.position(),
+        value.remaining(), columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_);
+    value.position(value.limit());
+  }
+
   /**
    * Set the database entry for "key" to "value" for the specified
    * column family.
@@ -1247,6 +1402,73 @@ public class RocksDB extends RocksObject {
         columnFamilyHandle.nativeHandle_);
   }
 
+  /**
+   * Get the value associated with the specified key, using the default
+   * {@link ReadOptions}.
+   * <p>
+   * Off-heap memory owned by other native code (for instance a
+   * {@code MemorySegment} exposed through {@code asByteBuffer()}) can be
+   * passed here without being copied onto the Java heap first.
+   *
+   * @param key the key to retrieve the value. It is using position and limit.
+   *     Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value.
+   *     It is using position and limit. Limit is set according to value size.
+   *     Supports direct buffer only.
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public int get(final ByteBuffer key, final ByteBuffer value) throws RocksDBException {
+    assert key.isDirect() && value.isDirect();
+    final int result = getDirect(nativeHandle_, 0, key, key.position(), key.remaining(), value,
+        value.position(), value.remaining(), 0);
+    if (result != NOT_FOUND) {
+      value.limit(Math.min(value.limit(), value.position() + result));
+    }
+    key.position(key.limit());
+    return result;
+  }
+
+  /**
+   * Get the value associated with the specified key within column family,
+   * using the default {@link ReadOptions}.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param key the key to retrieve the value. It is using position and limit.
+   *     Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value.
+   *     It is using position and limit. Limit is set according to value size.
+   *     Supports direct buffer only.
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public int get(final ColumnFamilyHandle columnFamilyHandle, final ByteBuffer key,
+      final ByteBuffer value) throws RocksDBException {
+    assert key.isDirect() && value.isDirect();
+    final int result = getDirect(nativeHandle_, 0, key, key.position(), key.remaining(), value,
+        value.position(), value.remaining(), columnFamilyHandle.nativeHandle_);
+    if (result != NOT_FOUND) {
+      value.limit(Math.min(value.limit(), value.position() + result));
+    }
+    key.position(key.limit());
+    return result;
+  }
+
   /**
    * Get the value associated with the specified key within column family.
    *
@@ -1312,6 +1534,79 @@ public class RocksDB extends RocksObject {
     return result;
   }
 
+  /**
+   * Get the value associated with the 64-bit {@code key} within the
+   * specified column family, using the default {@link ReadOptions}.
+   * <p>
+   * The key is looked up by its 8 byte big-endian encoding, as stored by
+   * {@link #putLong(ColumnFamilyHandle, long, ByteBuffer)}, without
+   * allocating a key array.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param key the key to retrieve the value.
+   * @param value the out-value to receive the retrieved value.
+   *     It is using position and limit. Limit is set according to value size.
+   *     Supports direct buffer only.
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public int getLong(/* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
+      final long key, final ByteBuffer value) throws RocksDBException {
+    assert value.isDirect();
+    final int result = getLongDirect(nativeHandle_, 0, key, value, value.position(),
+        value.remaining(), columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_);
+    if (result != NOT_FOUND) {
+      value.limit(Math.min(value.limit(), value.position() + result));
+    }
+    return result;
+  }
+
+  /**
+   * Get the value associated with the 64-bit {@code key} within the
+   * specified column family.
+   * <p>
+   * The key is looked up by its 8 byte big-endian encoding, as stored by
+   * {@link #putLong(WriteOptions, ColumnFamilyHandle, long, ByteBuffer)},
+   * without allocating a key array.
+   *
+   * @param opt {@link org.rocksdb.ReadOptions} instance.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param key the key to retrieve the value.
+   * @param value the out-value to receive the retrieved value.
+   *     It is using position and limit. Limit is set according to value size.
+   *     Supports direct buffer only.
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public int getLong(final ReadOptions opt,
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle, final long key,
+      final ByteBuffer value) throws RocksDBException {
+    assert value.isDirect();
+    final int result = getLongDirect(nativeHandle_, opt.nativeHandle_, key, value,
+        value.position(), value.remaining(),
+        columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_);
+    if (result != NOT_FOUND) {
+      value.limit(Math.min(value.limit(), value.position() + result));
+    }
+    return result;
+  }
+
   /**
    * Remove the database entry for {@code key}. Requires that the key exists
    * and was not overwritten. It is not an error if the key did not exist
@@ -2177,6 +2472,52 @@ public class RocksDB extends RocksObject {
         columnFamilyHandle.nativeHandle_);
   }
 
+  /**
+   * Get the value associated with the specified key, without copying it
+   * out of RocksDB.
+   * <p>
+   * The returned {@link PinnedValue} keeps the value pinned (for example in
+   * the block cache) and exposes it as a read-only direct
+   * {@link java.nio.ByteBuffer}. The value stays pinned, and the buffer
+   * valid, until the {@link PinnedValue} is closed.
+   *
+   * @param opt {@link org.rocksdb.ReadOptions} instance.
+   * @param key the key to retrieve the value for.
+   * @return the pinned value, or null if the specified key is not found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public PinnedValue getPinned(final ReadOptions opt, final byte[] key) throws RocksDBException {
+    final long pinnedValueHandle = getPinned(nativeHandle_, opt.nativeHandle_, key, 0, key.length, 0);
+    return pinnedValueHandle == 0 ? null : PinnedValue.fromHandle(pinnedValueHandle);
+  }
+
+  /**
+   * Get the value associated with the specified key within column family,
+   * without copying it out of RocksDB.
+   * <p>
+   * The returned {@link PinnedValue} keeps the value pinned (for example in
+   * the block cache) and exposes it as a read-only direct
+   * {@link java.nio.ByteBuffer}. The value stays pinned, and the buffer
+   * valid, until the {@link PinnedValue} is closed.
+   *
+   * @param opt {@link org.rocksdb.ReadOptions} instance.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param key the key to retrieve the value for.
+   * @return the pinned value, or null if the specified key is not found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public PinnedValue getPinned(final ReadOptions opt,
+      final ColumnFamilyHandle columnFamilyHandle, final byte[] key) throws RocksDBException {
+    final long pinnedValueHandle = getPinned(
+        nativeHandle_, opt.nativeHandle_, key, 0, key.length, columnFamilyHandle.nativeHandle_);
+    return pinnedValueHandle == 0 ? null : PinnedValue.fromHandle(pinnedValueHandle);
+  }
+
   /**
    * Takes a list of keys, and returns a list of values for the given list of
    * keys. List will contain null for keys which could not be found.
@@ -2199,8 +2540,11 @@ public class RocksDB extends RocksObject {
       keyLengths[i] = keysArray[i].length;
     }
 
-    return Arrays.asList(multiGet(nativeHandle_, keysArray, keyOffsets,
-        keyLengths));
+    final byte[][] values = VirtualThreadOffload.shouldOffload()
+        ? VirtualThreadOffload.call(
+            () -> multiGet(nativeHandle_, keysArray, keyOffsets, keyLengths))
+        : multiGet(nativeHandle_, keysArray, keyOffsets, keyLengths);
+    return Arrays.asList(values);
   }
 
   /**
@@ -2245,8 +2589,11 @@ public class RocksDB extends RocksObject {
       keyLengths[i] = keysArray[i].length;
     }
 
-    return Arrays.asList(multiGet(nativeHandle_, keysArray, keyOffsets,
-        keyLengths, cfHandles));
+    final byte[][] values = VirtualThreadOffload.shouldOffload()
+        ? VirtualThreadOffload.call(
+            () -> multiGet(nativeHandle_, keysArray, keyOffsets, keyLengths, cfHandles))
+        : multiGet(nativeHandle_, keysArray, keyOffsets, keyLengths, cfHandles);
+    return Arrays.asList(values);
   }
 
   /**
@@ -2272,8 +2619,11 @@ public class RocksDB extends RocksObject {
       keyLengths[i] = keysArray[i].length;
     }
 
-    return Arrays.asList(multiGet(nativeHandle_, opt.nativeHandle_,
-        keysArray, keyOffsets, keyLengths));
+    final byte[][] values = VirtualThreadOffload.shouldOffload()
+        ? VirtualThreadOffload.call(
+            () -> multiGet(nativeHandle_, opt.nativeHandle_, keysArray, keyOffsets, keyLengths))
+        : multiGet(nativeHandle_, opt.nativeHandle_, keysArray, keyOffsets, keyLengths);
+    return Arrays.asList(values);
   }
 
   /**
@@ -2318,8 +2668,271 @@ public class RocksDB extends RocksObject {
       keyLengths[i] = keysArray[i].length;
     }
 
-    return Arrays.asList(multiGet(nativeHandle_, opt.nativeHandle_,
-        keysArray, keyOffsets, keyLengths, cfHandles));
+    final byte[][] values = VirtualThreadOffload.shouldOffload()
+        ? VirtualThreadOffload.call(() -> multiGet(nativeHandle_,
+            opt.nativeHandle_, keysArray, keyOffsets, keyLengths, cfHandles))
+        : multiGet(nativeHandle_, opt.nativeHandle_, keysArray, keyOffsets, keyLengths,
+            cfHandles);
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Asynchronously gets the value associated with the specified key in the
+   * default column family.
+   * <p>
+   * The read is issued from a shared pool of reader threads
+   * with {@link ReadOptions#setAsyncIo(boolean)} enabled, so the calling
+   * thread is never blocked inside the native library. The database must
+   * remain open until the returned future has completed.
+   *
+   * @param opt Read options, which are copied and may be closed as soon as
+   *     this method returns.
+   * @param key the key to retrieve the value, which is copied and may be
+   *     modified as soon as this method returns.
+   * @return a future which is completed with the value, or with null if the
+   *     key is not found; or completed exceptionally with a
+   *     {@link RocksDBException} if an error happens in the underlying
+   *     native library, or with a
+   *     {@link java.util.concurrent.RejectedExecutionException} if too many
+   *     reads are already waiting for the reader threads.
+   */
+  public CompletableFuture<byte[]> getAsync(final ReadOptions opt, final byte[] key) {
+    final byte[] keyCopy = key.clone();
+    return AsyncReadExecutor.submit(opt, readOptions -> get(readOptions, keyCopy));
+  }
+
+  /**
+   * Asynchronously gets the value associated with the specified key in the
+   * given column family.
+   * <p>
+   * The read is issued from a shared pool of reader threads
+   * with {@link ReadOptions#setAsyncIo(boolean)} enabled, so the calling
+   * thread is never blocked inside the native library. The database and the
+   * column family must remain open until the returned future has completed.
+   *
+   * @param opt Read options, which are copied and may be closed as soon as
+   *     this method returns.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param key the key to retrieve the value, which is copied and may be
+   *     modified as soon as this method returns.
+   * @return a future which is completed with the value, or with null if the
+   *     key is not found; or completed exceptionally with a
+   *     {@link RocksDBException} if an error happens in the underlying
+   *     native library, or with a
+   *     {@link java.util.concurrent.RejectedExecutionException} if too many
+   *     reads are already waiting for the reader threads.
+   */
+  public CompletableFuture<byte[]> getAsync(final ReadOptions opt,
+      final ColumnFamilyHandle columnFamilyHandle, final byte[] key) {
+    final byte[] keyCopy = key.clone();
+    return AsyncReadExecutor.submit(
+        opt, readOptions -> get(columnFamilyHandle, readOptions, keyCopy));
+  }
+
+  /**
+   * Asynchronously fetches a list of values for the given list of keys, all
+   * from the default column family.
+   * <p>
+   * The batch is read with a single native MultiGet from a shared pool
+   * of reader threads with {@link ReadOptions#setAsyncIo(boolean)}
+   * enabled, so that, together with
+   * {@link ReadOptions#setOptimizeMultigetForIo(boolean)}, the SST file reads
+   * for the batch overlap. The database must remain open until the returned
+   * future has completed.
+   *
+   * @param opt Read options, which are copied and may be closed as soon as
+   *     this method returns.
+   * @param keys list of keys for which values need to be retrieved, which
+   *     are copied and may be modified as soon as this method returns.
+   * @return a future which is completed with the list of values for the
+   *     given list of keys, containing null for keys which could not be
+   *     found; or completed exceptionally with a {@link RocksDBException} if
+   *     an error happens in the underlying native library, or with a
+   *     {@link java.util.concurrent.RejectedExecutionException} if too many
+   *     reads are already waiting for the reader threads.
+   */
+  public CompletableFuture<List<byte[]>> multiGetAsync(
+      final ReadOptions opt, final List<byte[]> keys) {
+    final List<byte[]> keysCopy = copyKeys(keys);
+    return AsyncReadExecutor.submit(opt, readOptions -> multiGetAsList(readOptions, keysCopy));
+  }
+
+  /**
+   * Asynchronously fetches a list of values for the given list of keys.
+   * <p>
+   * Note: Every key needs to have a related column family name in
+   * {@code columnFamilyHandleList}.
+   * </p>
+   * <p>
+   * The batch is read with a single native MultiGet from a shared pool
+   * of reader threads with {@link ReadOptions#setAsyncIo(boolean)}
+   * enabled, so that, together with
+   * {@link ReadOptions#setOptimizeMultigetForIo(boolean)}, the SST file reads
+   * for the batch overlap. The database and the column families must remain
+   * open until the returned future has completed.
+   *
+   * @param opt Read options, which are copied and may be closed as soon as
+   *     this method returns.
+   * @param columnFamilyHandleList {@link java.util.List} containing
+   *     {@link org.rocksdb.ColumnFamilyHandle} instances.
+   * @param keys list of keys for which values need to be retrieved, which
+   *     are copied and may be modified as soon as this method returns.
+   * @return a future which is completed with the list of values for the
+   *     given list of keys, containing null for keys which could not be
+   *     found; or completed exceptionally with a {@link RocksDBException} if
+   *     an error happens in the underlying native library, or with a
+   *     {@link java.util.concurrent.RejectedExecutionException} if too many
+   *     reads are already waiting for the reader threads.
+   *
+   * @throws IllegalArgumentException thrown if the size of passed keys is not
+   *    equal to the amount of passed column family handles.
+   */
+  public CompletableFuture<List<byte[]>> multiGetAsync(final ReadOptions opt,
+      final List<ColumnFamilyHandle> columnFamilyHandleList, final List<byte[]> keys) {
+    if (keys.size() != columnFamilyHandleList.size()) {
+      throw new IllegalArgumentException("For each key there must be a ColumnFamilyHandle.");
+    }
+    final List<ColumnFamilyHandle> columnFamilyHandlesCopy =
+        new ArrayList<>(columnFamilyHandleList);
+    final List<byte[]> keysCopy = copyKeys(keys);
+    return AsyncReadExecutor.submit(opt,
+        readOptions -> multiGetAsList(readOptions, columnFamilyHandlesCopy, keysCopy));
+  }
+
+  private static List<byte[]> copyKeys(final List<byte[]> keys) {
+    final List<byte[]> copy = new ArrayList<>(keys.size());
+    for (final byte[] key : keys) {
+      copy.add(key.clone());
+    }
+    return copy;
+  }
+
+  /**
+   * Returns a list of values for the given 64-bit keys, all from the
+   * specified column family, using the default {@link ReadOptions}. List will
+   * contain null for keys which could not be found.
+   * <p>
+   * Each key is looked up by its 8 byte big-endian encoding, as stored by
+   * {@link #putLong(ColumnFamilyHandle, long, ByteBuffer)}; the keys are
+   * encoded natively into a single buffer, so no key arrays are allocated.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param keys the keys for which values need to be retrieved.
+   * @return List of values for the given list of keys. List will contain
+   * null for keys which could not be found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public List<byte[]> multiGetLongs(
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle, final long[] keys)
+      throws RocksDBException {
+    final long cfHandle = columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_;
+    final byte[][] values = VirtualThreadOffload.shouldOffload()
+        ? VirtualThreadOffload.call(() -> multiGetLongs(nativeHandle_, 0, keys, cfHandle))
+        : multiGetLongs(nativeHandle_, 0, keys, cfHandle);
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Returns a list of values for the given 64-bit keys, all from the
+   * specified column family. List will contain null for keys which could
+   * not be found.
+   * <p>
+   * Each key is looked up by its 8 byte big-endian encoding, as stored by
+   * {@link #putLong(WriteOptions, ColumnFamilyHandle, long, ByteBuffer)};
+   * the keys are encoded natively into a single buffer, so no key arrays are
+   * allocated.
+   *
+   * @param opt Read options.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param keys the keys for which values need to be retrieved.
+   * @return List of values for the given list of keys. List will contain
+   * null for keys which could not be found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   */
+  public List<byte[]> multiGetLongs(final ReadOptions opt,
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle, final long[] keys)
+      throws RocksDBException {
+    final long cfHandle = columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_;
+    final byte[][] values = VirtualThreadOffload.shouldOffload()
+        ? VirtualThreadOffload.call(
+            () -> multiGetLongs(nativeHandle_, opt.nativeHandle_, keys, cfHandle))
+        : multiGetLongs(nativeHandle_, opt.nativeHandle_, keys, cfHandle);
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Returns the values of the given 64-bit keys, all from the specified
+   * column family, where each value is a 64-bit long, using the default
+   * {@link ReadOptions}.
+   * <p>
+   * Each key is looked up as by {@link #multiGetLongs(ColumnFamilyHandle, long[])},
+   * and each value must be 8 bytes, decoded as by
+   * {@link ByteBuffer#getLong()}. The values are decoded natively into the
+   * returned array, so no array is allocated for each value.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param keys the keys for which values need to be retrieved.
+   * @param notFoundValue the value returned for keys which could not be
+   *     found.
+   * @return the values of the keys, in the order of the keys.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library, or if a value is not 8 bytes.
+   */
+  public long[] multiGetLongValues(/* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
+      final long[] keys, final long notFoundValue) throws RocksDBException {
+    final long cfHandle = columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_;
+    final long[] values = new long[keys.length];
+    if (VirtualThreadOffload.shouldOffload()) {
+      VirtualThreadOffload.run(
+          () -> multiGetLongValues(nativeHandle_, 0, keys, values, notFoundValue, cfHandle));
+    } else {
+      multiGetLongValues(nativeHandle_, 0, keys, values, notFoundValue, cfHandle);
+    }
+    return values;
+  }
+
+  /**
+   * Returns the values of the given 64-bit keys, all from the specified
+   * column family, where each value is a 64-bit long.
+   * <p>
+   * Each key is looked up as by
+   * {@link #multiGetLongs(ReadOptions, ColumnFamilyHandle, long[])}, and each
+   * value must be 8 bytes, decoded as by {@link ByteBuffer#getLong()}. The
+   * values are decoded natively into the returned array, so no array is
+   * allocated for each value.
+   *
+   * @param opt Read options.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance, or null for the default column family.
+   * @param keys the keys for which values need to be retrieved.
+   * @param notFoundValue the value returned for keys which could not be
+   *     found.
+   * @return the values of the keys, in the order of the keys.
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library, or if a value is not 8 bytes.
+   */
+  public long[] multiGetLongValues(final ReadOptions opt,
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle, final long[] keys,
+      final long notFoundValue) throws RocksDBException {
+    final long cfHandle = columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_;
+    final long[] values = new long[keys.length];
+    if (VirtualThreadOffload.shouldOffload()) {
+      VirtualThreadOffload.run(() -> multiGetLongValues(
+          nativeHandle_, opt.nativeHandle_, keys, values, notFoundValue, cfHandle));
+    } else {
+      multiGetLongValues(nativeHandle_, opt.nativeHandle_, keys, values, notFoundValue, cfHandle);
+    }
+    return values;
   }
 
   /**
@@ -3648,8 +4261,7 @@ public class RocksDB extends RocksObject {
   public void compactRange(
       /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle)
       throws RocksDBException {
-    compactRange(nativeHandle_, null, -1, null, -1, 0,
-        columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_);
+    compactRangeInternal(columnFamilyHandle, null, null, 0);
   }
 
   /**
@@ -3696,10 +4308,7 @@ public class RocksDB extends RocksObject {
   public void compactRange(
       /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
       final byte[] begin, final byte[] end) throws RocksDBException {
-    compactRange(nativeHandle_,
-        begin, begin == null ? -1 : begin.length,
-        end, end == null ? -1 : end.length,
-        0, columnFamilyHandle == null ? 0: columnFamilyHandle.nativeHandle_);
+    compactRangeInternal(columnFamilyHandle, begin, end, 0);
   }
 
   /**
@@ -3720,11 +4329,22 @@ public class RocksDB extends RocksObject {
       /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
       final byte[] begin, final byte[] end,
       final CompactRangeOptions compactRangeOptions) throws RocksDBException {
-    compactRange(nativeHandle_,
-        begin, begin == null ? -1 : begin.length,
-        end, end == null ? -1 : end.length,
-        compactRangeOptions.nativeHandle_,
-        columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_);
+    compactRangeInternal(columnFamilyHandle, begin, end, compactRangeOptions.nativeHandle_);
+  }
+
+  private void compactRangeInternal(
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
+      /* @Nullable */ final byte[] begin, /* @Nullable */ final byte[] end,
+      final long compactRangeOptHandle) throws RocksDBException {
+    final int beginLen = begin == null ? -1 : begin.length;
+    final int endLen = end == null ? -1 : end.length;
+    final long cfHandle = columnFamilyHandle == null ? 0 : columnFamilyHandle.nativeHandle_;
+    if (VirtualThreadOffload.shouldOffload()) {
+      VirtualThreadOffload.run(() -> compactRange(nativeHandle_, begin, beginLen, end, endLen,
+          compactRangeOptHandle, cfHandle));
+    } else {
+      compactRange(nativeHandle_, begin, beginLen, end, endLen, compactRangeOptHandle, cfHandle);
+    }
   }
 
   /**
@@ -4143,8 +4763,13 @@ public class RocksDB extends RocksObject {
   public void flush(final FlushOptions flushOptions,
       /* @Nullable */ final List<ColumnFamilyHandle> columnFamilyHandles)
       throws RocksDBException {
-    flush(nativeHandle_, flushOptions.nativeHandle_,
-        toNativeHandleList(columnFamilyHandles));
+    final long[] columnFamilyHandlesList = toNativeHandleList(columnFamilyHandles);
+    if (VirtualThreadOffload.shouldOffload()) {
+      VirtualThreadOffload.run(
+          () -> flush(nativeHandle_, flushOptions.nativeHandle_, columnFamilyHandlesList));
+    } else {
+      flush(nativeHandle_, flushOptions.nativeHandle_, columnFamilyHandlesList);
+    }
   }
 
   /**
@@ -4688,7 +5313,7 @@ public class RocksDB extends RocksObject {
     options_ = options;
   }
 
-  private static void checkBounds(final int offset, final int len, final int size) {
+  static void checkBounds(final int offset, final int len, final int size) {
     if ((offset | len | (offset + len) | (size - (offset + len))) < 0) {
       throw new IndexOutOfBoundsException(String.format("offset(%d), len(%d), size(%d)", offset, len, size));
     }
@@ -4863,11 +5488,18 @@ public class RocksDB extends RocksObject {
   private native byte[] get(final long handle,
       final long readOptHandle, final byte[] key, final int keyOffset,
       final int keyLength, final long cfHandle) throws RocksDBException;
+  private native long getPinned(final long handle, final long readOptHandle, final byte[] key,
+      final int keyOffset, final int keyLength, final long cfHandle) throws RocksDBException;
   private native byte[][] multiGet(final long dbHandle, final byte[][] keys,
       final int[] keyOffsets, final int[] keyLengths);
   private native byte[][] multiGet(final long dbHandle, final byte[][] keys,
       final int[] keyOffsets, final int[] keyLengths,
       final long[] columnFamilyHandles);
+  private native byte[][] multiGetLongs(final long dbHandle, final long rOptHandle,
+      final long[] keys, final long cfHandle) throws RocksDBException;
+  private native void multiGetLongValues(final long dbHandle, final long rOptHandle,
+      final long[] keys, final long[] values, final long notFoundValue, final long cfHandle)
+      throws RocksDBException;
   private native byte[][] multiGet(final long dbHandle, final long rOptHandle,
       final byte[][] keys, final int[] keyOffsets, final int[] keyLengths);
   private native byte[][] multiGet(final long dbHandle, final long rOptHandle,
@@ -4894,6 +5526,8 @@ public class RocksDB extends RocksObject {
   private native void putDirect(long handle, long writeOptHandle, ByteBuffer key, int keyOffset,
       int keyLength, ByteBuffer value, int valueOffset, int valueLength, long cfHandle)
       throws RocksDBException;
+  private native void putLongDirect(long handle, long writeOptHandle, long key, ByteBuffer value,
+      int valueOffset, int valueLength, long cfHandle) throws RocksDBException;
   private native long iterator(final long handle);
   private native long iterator(final long handle, final long readOptHandle);
   private native long iteratorCF(final long handle, final long cfHandle);
@@ -4914,6 +5548,8 @@ public class RocksDB extends RocksObject {
   private native int getDirect(long handle, long readOptHandle, ByteBuffer key, int keyOffset,
       int keyLength, ByteBuffer value, int valueOffset, int valueLength, long cfHandle)
       throws RocksDBException;
+  private native int getLongDirect(long handle, long readOptHandle, long key, ByteBuffer value,
+      int valueOffset, int valueLength, long cfHandle) throws RocksDBException;
   private native boolean keyMayExistDirect(final long handle, final long cfHhandle,
       final long readOptHandle, final ByteBuffer key, final int keyOffset, final int keyLength);
   private native int[] keyMayExistDirectFoundValue(final long handle, final long cfHhandle,
@@ -110,6 +110,68 @@ public class RocksIterator extends AbstractRocksIterator<RocksDB> {
     return result;
   }
 
+  /**
+   * <p>Copy a batch of entries, starting with the current entry, into
+   * {@code out} and advance the iterator past each entry which was copied,
+   * in a single call into the native library.</p>
+   *
+   * <p>Each entry is written as a 4 byte big-endian key length, the key,
+   * a 4 byte big-endian value length and the value. Entries are written from
+   * the position of {@code out}, which is advanced past the written data.</p>
+   *
+   * <p>Copying stops when {@code maxEntries} have been copied, the iterator
+   * becomes invalid, or the next entry does not fit in the remaining space of
+   * {@code out}. In the latter case the iterator is left positioned on that
+   * entry, so a subsequent call with more space will continue from it.</p>
+   *
+   * <p>If the iterator fails, the entries copied before the failure are
+   * returned, and the failure is thrown by the next call.</p>
+   *
+   * @param out the buffer to receive the entries. Supports direct buffer only.
+   * @param maxEntries the maximum number of entries to copy.
+   * @return the number of entries copied and whether {@code out} was full.
+   *
+   * @throws RocksDBException if the iterator has failed, see {@link #status()}
+   */
+  public IteratorBatchResult nextBatch(final ByteBuffer out, final int maxEntries)
+      throws RocksDBException {
+    assert isOwningHandle();
+    assert out.isDirect();
+    return batchResult(out,
+        nextBatchDirect0(nativeHandle_, out, out.position(), out.remaining(), maxEntries));
+  }
+
+  /**
+   * <p>Copy a batch of entries, starting with the current entry, into
+   * {@code out} and move the iterator backwards past each entry which was
+   * copied, in a single call into the native library.</p>
+   *
+   * <p>The encoding and stopping conditions are the same as for
+   * {@link #nextBatch(ByteBuffer, int)}, with entries written in reverse
+   * iteration order.</p>
+   *
+   * @param out the buffer to receive the entries. Supports direct buffer only.
+   * @param maxEntries the maximum number of entries to copy.
+   * @return the number of entries copied and whether {@code out} was full.
+   *
+   * @throws RocksDBException if the iterator has failed, see {@link #status()}
+   */
+  public IteratorBatchResult prevBatch(final ByteBuffer out, final int maxEntries)
+      throws RocksDBException {
+    assert isOwningHandle();
+    assert out.isDirect();
+    return batchResult(out,
+        prevBatchDirect0(nativeHandle_, out, out.position(), out.remaining(), maxEntries));
+  }
+
+  private static IteratorBatchResult batchResult(final ByteBuffer out, final long packedResult) {
+    // see pack_batch in rocksjni/iterator.cc for the encoding
+    final int bytesWritten = (int) (packedResult >>> 32);
+    out.position(out.position() + bytesWritten);
+    return new IteratorBatchResult(
+        (int) (packedResult & 0x7fffffffL), (packedResult & 0x80000000L) != 0);
+  }
+
   @Override protected final native void disposeInternal(final long handle);
   @Override final native boolean isValid0(long handle);
   @Override final native void seekToFirst0(long handle);
@@ -137,4 +199,8 @@ public class RocksIterator extends AbstractRocksIterator<RocksDB> {
   private native int keyByteArray0(long handle, byte[] array, int arrayOffset, int arrayLen);
   private native int valueDirect0(long handle, ByteBuffer buffer, int bufferOffset, int bufferLen);
   private native int valueByteArray0(long handle, byte[] array, int arrayOffset, int arrayLen);
+  private native long nextBatchDirect0(long handle, ByteBuffer buffer, int bufferOffset,
+      int bufferLen, int maxEntries) throws RocksDBException;
+  private native long prevBatchDirect0(long handle, ByteBuffer buffer, int bufferOffset,
+      int bufferLen, int maxEntries) throws RocksDBException;
 }
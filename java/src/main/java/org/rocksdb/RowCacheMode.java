@@ -0,0 +1,63 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * How the point lookups of a column family use the row cache.
+ *
+ * @see ColumnFamilyOptionsInterface#setRowCacheMode(RowCacheMode)
+ */
+public enum RowCacheMode {
+  /**
+   * Cache the rows found in a file.
+   */
+  ENABLED((byte) 0x0),
+
+  /**
+   * Also cache that a key is not found in a file, so that repeated lookups
+   * of absent keys do not probe the filters of the file again.
+   */
+  CACHE_MISSES((byte) 0x1),
+
+  /**
+   * Do not use the row cache, e.g. for a column family which is mostly
+   * scanned.
+   */
+  DISABLED((byte) 0x2);
+
+  private final byte value;
+
+  RowCacheMode(final byte value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the byte value of the enumerations value.
+   *
+   * @return byte representation
+   */
+  public byte getValue() {
+    return value;
+  }
+
+  /**
+   * Get RowCacheMode by byte value.
+   *
+   * @param value byte representation of RowCacheMode.
+   *
+   * @return {@link org.rocksdb.RowCacheMode} instance.
+   * @throws java.lang.IllegalArgumentException if an invalid
+   *     value is provided.
+   */
+  public static RowCacheMode getRowCacheMode(final byte value) {
+    for (final RowCacheMode rowCacheMode : RowCacheMode.values()) {
+      if (rowCacheMode.getValue() == value) {
+        return rowCacheMode;
+      }
+    }
+    throw new IllegalArgumentException("Illegal value provided for RowCacheMode.");
+  }
+}
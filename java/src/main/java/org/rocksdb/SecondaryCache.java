@@ -0,0 +1,21 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A cache tier below a primary {@link Cache}, which holds the entries
+ * evicted from the primary cache, and from which they are promoted back to
+ * the primary cache on a hit.
+ * <p>
+ * A secondary cache may be shared by several primary caches, and may be
+ * closed once the primary caches using it have been created.
+ */
+public abstract class SecondaryCache extends RocksObject {
+  protected SecondaryCache(final long nativeHandle) {
+    super(nativeHandle);
+  }
+}
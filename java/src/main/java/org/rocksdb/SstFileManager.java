@@ -121,6 +121,9 @@ public final class SstFileManager extends RocksObject {
     super(newSstFileManager(env.nativeHandle_,
         logger != null ? logger.nativeHandle_ : 0,
         rateBytesPerSec, maxTrashDbRatio, bytesMaxDeleteChunk));
+    if (logger != null) {
+      logger.startDrainer();
+    }
   }
 
   /**
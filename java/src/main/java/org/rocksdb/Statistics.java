@@ -12,6 +12,95 @@ import java.util.EnumSet;
  * is managed by Options class.
  */
 public class Statistics extends RocksObject {
+  private static final byte[] TICKER_TYPE_VALUES = tickerTypeValues();
+  private static final byte[] HISTOGRAM_TYPE_VALUES = histogramTypeValues();
+
+  /**
+   * The length of the tickers array for {@link #snapshot(long[], double[], long[])},
+   * where the count of each {@link TickerType} is at the index of its
+   * {@link TickerType#ordinal()}.
+   */
+  public static final int SNAPSHOT_TICKERS_LENGTH = TICKER_TYPE_VALUES.length;
+
+  /**
+   * The number of values of each histogram in the histograms array for
+   * {@link #snapshot(long[], double[], long[])}.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_SIZE = 7;
+
+  /**
+   * The length of the histograms array for
+   * {@link #snapshot(long[], double[], long[])}, where the values of each
+   * {@link HistogramType} start at the index of its
+   * {@link HistogramType#ordinal()} multiplied by
+   * {@link #SNAPSHOT_HISTOGRAM_SIZE}.
+   */
+  public static final int SNAPSHOT_HISTOGRAMS_LENGTH =
+      HISTOGRAM_TYPE_VALUES.length * SNAPSHOT_HISTOGRAM_SIZE;
+
+  /**
+   * The number of counts of each histogram in the histogram counts array for
+   * {@link #snapshot(long[], double[], long[])}.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_COUNTS_SIZE = 2;
+
+  /**
+   * The length of the histogram counts array for
+   * {@link #snapshot(long[], double[], long[])}, where the counts of each
+   * {@link HistogramType} start at the index of its
+   * {@link HistogramType#ordinal()} multiplied by
+   * {@link #SNAPSHOT_HISTOGRAM_COUNTS_SIZE}.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_COUNTS_LENGTH =
+      HISTOGRAM_TYPE_VALUES.length * SNAPSHOT_HISTOGRAM_COUNTS_SIZE;
+
+  /**
+   * Offset of the median within the values of a histogram in a snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_MEDIAN = 0;
+
+  /**
+   * Offset of the 95th percentile within the values of a histogram in a
+   * snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_PERCENTILE95 = 1;
+
+  /**
+   * Offset of the 99th percentile within the values of a histogram in a
+   * snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_PERCENTILE99 = 2;
+
+  /**
+   * Offset of the average within the values of a histogram in a snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_AVERAGE = 3;
+
+  /**
+   * Offset of the standard deviation within the values of a histogram in a
+   * snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_STANDARD_DEVIATION = 4;
+
+  /**
+   * Offset of the maximum within the values of a histogram in a snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_MAX = 5;
+
+  /**
+   * Offset of the minimum within the values of a histogram in a snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_MIN = 6;
+
+  /**
+   * Offset of the count within the counts of a histogram in a snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_COUNT = 0;
+
+  /**
+   * Offset of the sum within the counts of a histogram in a snapshot.
+   */
+  public static final int SNAPSHOT_HISTOGRAM_SUM = 1;
 
   public Statistics() {
     super(newStatisticsInstance());
@@ -40,6 +129,24 @@ public class Statistics extends RocksObject {
     super(existingStatisticsHandle);
   }
 
+  private static byte[] tickerTypeValues() {
+    final TickerType[] tickerTypes = TickerType.values();
+    final byte[] values = new byte[tickerTypes.length];
+    for (int i = 0; i < tickerTypes.length; i++) {
+      values[i] = tickerTypes[i].getValue();
+    }
+    return values;
+  }
+
+  private static byte[] histogramTypeValues() {
+    final HistogramType[] histogramTypes = HistogramType.values();
+    final byte[] values = new byte[histogramTypes.length];
+    for (int i = 0; i < histogramTypes.length; i++) {
+      values[i] = histogramTypes[i].getValue();
+    }
+    return values;
+  }
+
   private static byte[] toArrayValues(final EnumSet<HistogramType> histogramTypes) {
     final byte[] values = new byte[histogramTypes.size()];
     int i = 0;
@@ -103,6 +210,114 @@ public class Statistics extends RocksObject {
     return getHistogramData(nativeHandle_, histogramType.getValue());
   }
 
+  /**
+   * Gets the counts of all tickers, and optionally the data of all
+   * histograms, in a single call.
+   * <p>
+   * The count of each {@link TickerType} is written to
+   * {@code tickersOut[tickerType.ordinal()]}. The values of each
+   * {@link HistogramType} are written to {@code histogramsOut} starting at
+   * {@code histogramType.ordinal() * SNAPSHOT_HISTOGRAM_SIZE}, in the order
+   * given by the {@code SNAPSHOT_HISTOGRAM_*} value offsets. The count and
+   * sum of each {@link HistogramType} are written to
+   * {@code histogramCountsOut} starting at
+   * {@code histogramType.ordinal() * SNAPSHOT_HISTOGRAM_COUNTS_SIZE}, at the
+   * offsets {@link #SNAPSHOT_HISTOGRAM_COUNT} and
+   * {@link #SNAPSHOT_HISTOGRAM_SUM}, so that they are exact. The entries of
+   * {@link TickerType#TICKER_ENUM_MAX} and
+   * {@link HistogramType#HISTOGRAM_ENUM_MAX} are zero.
+   * <p>
+   * The arrays may be reused across calls, so that repeatedly collecting
+   * statistics does not allocate.
+   *
+   * @param tickersOut an array of at least {@link #SNAPSHOT_TICKERS_LENGTH}
+   *     elements to receive the ticker counts
+   * @param histogramsOut an array of at least
+   *     {@link #SNAPSHOT_HISTOGRAMS_LENGTH} elements to receive the histogram
+   *     values, or null to not get them
+   * @param histogramCountsOut an array of at least
+   *     {@link #SNAPSHOT_HISTOGRAM_COUNTS_LENGTH} elements to receive the
+   *     histogram counts and sums, or null to not get them
+   *
+   * @throws IllegalArgumentException if an array is too short
+   */
+  public void snapshot(final long[] tickersOut, /* @Nullable */ final double[] histogramsOut,
+      /* @Nullable */ final long[] histogramCountsOut) {
+    assert (isOwningHandle());
+    checkSnapshotArrays(tickersOut, histogramsOut, histogramCountsOut);
+    snapshot(nativeHandle_, TICKER_TYPE_VALUES, HISTOGRAM_TYPE_VALUES, tickersOut, histogramsOut,
+        histogramCountsOut);
+  }
+
+  /**
+   * Gets the changes of the ticker counts since a previous snapshot, and
+   * optionally the data of all histograms, in a single call.
+   * <p>
+   * On input {@code tickers} holds the ticker counts of the previous
+   * snapshot, for example from {@link #snapshot(long[], double[], long[])}
+   * or a previous call of this method, or all zeros for the first call. On
+   * output it holds the current counts, ready for the next call, and
+   * {@code tickerDeltasOut} holds the difference between the current and
+   * previous count of each ticker. Both are indexed by
+   * {@link TickerType#ordinal()}.
+   * <p>
+   * Histograms are not cumulative in the same way as tickers, so
+   * {@code histogramsOut} and {@code histogramCountsOut} receive their
+   * current data as for {@link #snapshot(long[], double[], long[])}.
+   *
+   * @param tickers an array of at least {@link #SNAPSHOT_TICKERS_LENGTH}
+   *     elements holding the previous ticker counts, which are replaced by
+   *     the current ticker counts
+   * @param tickerDeltasOut an array of at least
+   *     {@link #SNAPSHOT_TICKERS_LENGTH} elements to receive the changes of
+   *     the ticker counts
+   * @param histogramsOut an array of at least
+   *     {@link #SNAPSHOT_HISTOGRAMS_LENGTH} elements to receive the histogram
+   *     values, or null to not get them
+   * @param histogramCountsOut an array of at least
+   *     {@link #SNAPSHOT_HISTOGRAM_COUNTS_LENGTH} elements to receive the
+   *     histogram counts and sums, or null to not get them
+   *
+   * @return the number of tickers whose count changed
+   *
+   * @throws IllegalArgumentException if an array is too short
+   */
+  public int snapshotDelta(final long[] tickers, final long[] tickerDeltasOut,
+      /* @Nullable */ final double[] histogramsOut,
+      /* @Nullable */ final long[] histogramCountsOut) {
+    assert (isOwningHandle());
+    checkSnapshotArrays(tickers, histogramsOut, histogramCountsOut);
+    checkSnapshotArrays(tickerDeltasOut, null, null);
+    snapshot(nativeHandle_, TICKER_TYPE_VALUES, HISTOGRAM_TYPE_VALUES, tickerDeltasOut,
+        histogramsOut, histogramCountsOut);
+    int changed = 0;
+    for (int i = 0; i < SNAPSHOT_TICKERS_LENGTH; i++) {
+      final long current = tickerDeltasOut[i];
+      tickerDeltasOut[i] = current - tickers[i];
+      tickers[i] = current;
+      if (tickerDeltasOut[i] != 0) {
+        changed++;
+      }
+    }
+    return changed;
+  }
+
+  private static void checkSnapshotArrays(
+      final long[] tickers, final double[] histograms, final long[] histogramCounts) {
+    if (tickers.length < SNAPSHOT_TICKERS_LENGTH) {
+      throw new IllegalArgumentException(
+          "Tickers array must have at least " + SNAPSHOT_TICKERS_LENGTH + " elements");
+    }
+    if (histograms != null && histograms.length < SNAPSHOT_HISTOGRAMS_LENGTH) {
+      throw new IllegalArgumentException(
+          "Histograms array must have at least " + SNAPSHOT_HISTOGRAMS_LENGTH + " elements");
+    }
+    if (histogramCounts != null && histogramCounts.length < SNAPSHOT_HISTOGRAM_COUNTS_LENGTH) {
+      throw new IllegalArgumentException("Histogram counts array must have at least "
+          + SNAPSHOT_HISTOGRAM_COUNTS_LENGTH + " elements");
+    }
+  }
+
   /**
    * Gets a string representation of a particular histogram.
    *
@@ -156,6 +371,9 @@ public class Statistics extends RocksObject {
   private native long getAndResetTickerCount(final long handle, final byte tickerType);
   private native HistogramData getHistogramData(final long handle, final byte histogramType);
   private native String getHistogramString(final long handle, final byte histogramType);
+  private native void snapshot(final long handle, final byte[] tickerTypes,
+      final byte[] histogramTypes, final long[] tickersOut, final double[] histogramsOut,
+      final long[] histogramCountsOut);
   private native void reset(final long nativeHandle) throws RocksDBException;
   private native String toString(final long nativeHandle);
 }
@@ -18,8 +18,15 @@ import java.util.concurrent.TimeUnit;
  * <p>Caller should call start() to start statistics collection. Shutdown() should
  * be called to stop stats collection and should be called before statistics (
  * provided in constructor) reference has been disposed.</p>
+ *
+ * <p>The first collection reports every ticker and histogram. Later collections
+ * only report the tickers and histograms which changed since the previous
+ * collection.</p>
  */
 public class StatisticsCollector {
+  private static final TickerType[] TICKER_TYPES = TickerType.values();
+  private static final HistogramType[] HISTOGRAM_TYPES = HistogramType.values();
+
   private final List<StatsCollectorInput> _statsCollectorInputList;
   private final ExecutorService _executorService;
   private final int _statsCollectionInterval;
@@ -64,31 +71,25 @@ public class StatisticsCollector {
   @SuppressWarnings("PMD.CloseResource")
   private Runnable collectStatistics() {
     return () -> {
+      // reused by each collection, as the statistics are collected in bulk
+      final Snapshot[] snapshots = new Snapshot[_statsCollectorInputList.size()];
+      for (int i = 0; i < snapshots.length; i++) {
+        snapshots[i] = new Snapshot();
+      }
+      boolean first = true;
+
       while (_isRunning) {
         try {
           if (Thread.currentThread().isInterrupted()) {
             break;
           }
-          for (final StatsCollectorInput statsCollectorInput : _statsCollectorInputList) {
+          for (int i = 0; i < snapshots.length; i++) {
+            final StatsCollectorInput statsCollectorInput = _statsCollectorInputList.get(i);
             final Statistics statistics = statsCollectorInput.getStatistics();
             final StatisticsCollectorCallback statsCallback = statsCollectorInput.getCallback();
-
-            // Collect ticker data
-            for (final TickerType ticker : TickerType.values()) {
-              if (ticker != TickerType.TICKER_ENUM_MAX) {
-                final long tickerValue = statistics.getTickerCount(ticker);
-                statsCallback.tickerCallback(ticker, tickerValue);
-              }
-            }
-
-            // Collect histogram data
-            for (final HistogramType histogramType : HistogramType.values()) {
-              if (histogramType != HistogramType.HISTOGRAM_ENUM_MAX) {
-                final HistogramData histogramData = statistics.getHistogramData(histogramType);
-                statsCallback.histogramCallback(histogramType, histogramData);
-              }
-            }
+            snapshots[i].collect(statistics, statsCallback, first);
           }
+          first = false;
 
           Thread.sleep(_statsCollectionInterval);
         } catch (final InterruptedException e) {
@@ -100,4 +101,64 @@ public class StatisticsCollector {
       }
     };
   }
+
+  /**
+   * The statistics of one input as of the previous collection.
+   */
+  private static final class Snapshot {
+    private final long[] tickers = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+    private final long[] tickerDeltas = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+    private final double[] histograms = new double[Statistics.SNAPSHOT_HISTOGRAMS_LENGTH];
+    private final long[] histogramCounts = new long[Statistics.SNAPSHOT_HISTOGRAM_COUNTS_LENGTH];
+    private final long[] previousHistogramCounts =
+        new long[Statistics.SNAPSHOT_HISTOGRAM_COUNTS_LENGTH];
+
+    void collect(final Statistics statistics, final StatisticsCollectorCallback statsCallback,
+        final boolean all) {
+      final int changedTickers =
+          statistics.snapshotDelta(tickers, tickerDeltas, histograms, histogramCounts);
+
+      // Collect ticker data
+      if (all || changedTickers > 0) {
+        for (final TickerType ticker : TICKER_TYPES) {
+          if (ticker != TickerType.TICKER_ENUM_MAX
+              && (all || tickerDeltas[ticker.ordinal()] != 0)) {
+            statsCallback.tickerCallback(ticker, tickers[ticker.ordinal()]);
+          }
+        }
+      }
+
+      // Collect histogram data, a histogram only changes when values are added
+      // to it, which changes its count
+      for (final HistogramType histogramType : HISTOGRAM_TYPES) {
+        if (histogramType == HistogramType.HISTOGRAM_ENUM_MAX) {
+          continue;
+        }
+        final int offset = histogramType.ordinal() * Statistics.SNAPSHOT_HISTOGRAM_COUNTS_SIZE;
+        final long count = histogramCounts[offset + Statistics.SNAPSHOT_HISTOGRAM_COUNT];
+        final long sum = histogramCounts[offset + Statistics.SNAPSHOT_HISTOGRAM_SUM];
+        if (all || count != previousHistogramCounts[offset + Statistics.SNAPSHOT_HISTOGRAM_COUNT]
+            || sum != previousHistogramCounts[offset + Statistics.SNAPSHOT_HISTOGRAM_SUM]) {
+          previousHistogramCounts[offset + Statistics.SNAPSHOT_HISTOGRAM_COUNT] = count;
+          previousHistogramCounts[offset + Statistics.SNAPSHOT_HISTOGRAM_SUM] = sum;
+          statsCallback.histogramCallback(histogramType, toHistogramData(histogramType));
+        }
+      }
+    }
+
+    private HistogramData toHistogramData(final HistogramType histogramType) {
+      final int offset = histogramType.ordinal() * Statistics.SNAPSHOT_HISTOGRAM_SIZE;
+      final int countsOffset =
+          histogramType.ordinal() * Statistics.SNAPSHOT_HISTOGRAM_COUNTS_SIZE;
+      return new HistogramData(histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_MEDIAN],
+          histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_PERCENTILE95],
+          histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_PERCENTILE99],
+          histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_AVERAGE],
+          histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_STANDARD_DEVIATION],
+          histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_MAX],
+          histogramCounts[countsOffset + Statistics.SNAPSHOT_HISTOGRAM_COUNT],
+          histogramCounts[countsOffset + Statistics.SNAPSHOT_HISTOGRAM_SUM],
+          histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_MIN]);
+    }
+  }
 }
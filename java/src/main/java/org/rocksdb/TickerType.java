@@ -743,6 +743,21 @@ public enum TickerType {
      */
     BLOB_DB_CACHE_BYTES_WRITE((byte) -0x34),
 
+    /**
+     * Number of secondary cache hits of filter blocks.
+     */
+    SECONDARY_CACHE_FILTER_HITS((byte) -0x37),
+
+    /**
+     * Number of secondary cache hits of index blocks.
+     */
+    SECONDARY_CACHE_INDEX_HITS((byte) -0x38),
+
+    /**
+     * Number of secondary cache hits of data blocks.
+     */
+    SECONDARY_CACHE_DATA_HITS((byte) -0x39),
+
     /**
      * Number of lookup into the prefetched tail (see
      * `TABLE_OPEN_PREFETCH_TAIL_READ_BYTES`)
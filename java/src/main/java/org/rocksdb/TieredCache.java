@@ -0,0 +1,77 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+/**
+ * A 2-tier cache, of an uncompressed {@link LRUCache} primary cache and a
+ * {@link CompressedSecondaryCache}, which divide a single memory budget.
+ * <p>
+ * Any memory reservations charged to the cache, such as those of a
+ * {@link WriteBufferManager}, are distributed proportionally across both
+ * tiers.
+ */
+public class TieredCache extends Cache {
+  /**
+   * Create a new tiered cache, using LZ4 compression for the secondary tier.
+   *
+   * @param totalCapacity the memory budget of both tiers
+   * @param compressedSecondaryRatio the fraction of the budget given to the
+   *     compressed secondary tier, between 0 and 1
+   */
+  public TieredCache(final long totalCapacity, final double compressedSecondaryRatio) {
+    this(totalCapacity, compressedSecondaryRatio, CompressionType.LZ4_COMPRESSION);
+  }
+
+  /**
+   * Create a new tiered cache.
+   *
+   * @param totalCapacity the memory budget of both tiers
+   * @param compressedSecondaryRatio the fraction of the budget given to the
+   *     compressed secondary tier, between 0 and 1
+   * @param compressionType the compression of the secondary tier
+   *
+   * @throws IllegalArgumentException if the ratio is not between 0 and 1
+   */
+  public TieredCache(final long totalCapacity, final double compressedSecondaryRatio,
+      final CompressionType compressionType) {
+    super(newTieredCache(totalCapacity, checkRatio(compressedSecondaryRatio),
+        compressionType.getValue()));
+  }
+
+  /**
+   * Change the memory budget of the cache, and how it is divided between the
+   * tiers.
+   * <p>
+   * Once the secondary tier has been disabled by a ratio of 0, it cannot be
+   * enabled again.
+   *
+   * @param totalCapacity the memory budget of both tiers
+   * @param compressedSecondaryRatio the fraction of the budget given to the
+   *     compressed secondary tier, between 0 and 1
+   *
+   * @throws IllegalArgumentException if the ratio is not between 0 and 1
+   * @throws RocksDBException if the cache cannot be updated
+   */
+  public void update(final long totalCapacity, final double compressedSecondaryRatio)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    updateTieredCache(nativeHandle_, totalCapacity, checkRatio(compressedSecondaryRatio));
+  }
+
+  private static double checkRatio(final double compressedSecondaryRatio) {
+    if (!(compressedSecondaryRatio >= 0.0 && compressedSecondaryRatio <= 1.0)) {
+      throw new IllegalArgumentException("compressedSecondaryRatio must be between 0 and 1");
+    }
+    return compressedSecondaryRatio;
+  }
+
+  private static native long newTieredCache(
+      final long totalCapacity, final double compressedSecondaryRatio, final byte compressionType);
+  private static native void updateTieredCache(final long handle, final long totalCapacity,
+      final double compressedSecondaryRatio) throws RocksDBException;
+  @Override protected final native void disposeInternal(final long handle);
+}
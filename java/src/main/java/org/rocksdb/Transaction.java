@@ -7,6 +7,7 @@ package org.rocksdb;
 
 import static org.rocksdb.RocksDB.PERFORMANCE_OPTIMIZATION_FOR_A_VERY_SPECIFIC_WORKLOAD;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -208,7 +209,11 @@ public class Transaction extends RocksObject {
    */
   public void commit() throws RocksDBException {
     assert(isOwningHandle());
-    commit(nativeHandle_);
+    if (VirtualThreadOffload.shouldOffload()) {
+      VirtualThreadOffload.run(() -> commit(nativeHandle_));
+    } else {
+      commit(nativeHandle_);
+    }
   }
 
   /**
@@ -313,6 +318,153 @@ public class Transaction extends RocksObject {
     return get(nativeHandle_, readOptions.nativeHandle_, key, key.length);
   }
 
+  /**
+   * This function is similar to
+   * {@link RocksDB#get(ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)}
+   * except it will also read pending changes in this transaction.
+   * <p>
+   * See {@link #get(ColumnFamilyHandle, ReadOptions, byte[])}.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle} instance
+   * @param readOptions Read options.
+   * @param key the key to retrieve the value for. It is using position and
+   *     limit. Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value. It is using
+   *     position and limit. Limit is set according to value size. Supports
+   *     direct buffer only.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int get(final ColumnFamilyHandle columnFamilyHandle, final ReadOptions readOptions,
+      final ByteBuffer key, final ByteBuffer value) throws RocksDBException {
+    assert (isOwningHandle());
+    assert key.isDirect() && value.isDirect();
+    final int result = getDirect(nativeHandle_, readOptions.nativeHandle_, key, key.position(),
+        key.remaining(), value, value.position(), value.remaining(), parent.nativeHandle_,
+        columnFamilyHandle.nativeHandle_);
+    return directResult(result, key, value);
+  }
+
+  /**
+   * This function is similar to
+   * {@link RocksDB#get(ReadOptions, ByteBuffer, ByteBuffer)} except it will
+   * also read pending changes in this transaction.
+   * <p>
+   * See {@link #get(ReadOptions, byte[])}.
+   *
+   * @param readOptions Read options.
+   * @param key the key to retrieve the value for. It is using position and
+   *     limit. Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value. It is using
+   *     position and limit. Limit is set according to value size. Supports
+   *     direct buffer only.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int get(final ReadOptions readOptions, final ByteBuffer key, final ByteBuffer value)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    assert key.isDirect() && value.isDirect();
+    final int result = getDirect(nativeHandle_, readOptions.nativeHandle_, key, key.position(),
+        key.remaining(), value, value.position(), value.remaining(), parent.nativeHandle_, 0);
+    return directResult(result, key, value);
+  }
+
+  /**
+   * This function is similar to
+   * {@link RocksDB#get(ColumnFamilyHandle, ReadOptions, byte[], int, int, byte[], int, int)}
+   * except it will also read pending changes in this transaction.
+   * <p>
+   * See {@link #get(ColumnFamilyHandle, ReadOptions, byte[])}.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle} instance
+   * @param readOptions Read options.
+   * @param key the key to retrieve the value for.
+   * @param keyOffset the offset of the "key" array to be used, must be
+   *     non-negative and no larger than "key".length
+   * @param keyLength the length of the "key" array to be used, must be
+   *     non-negative and no larger than ("key".length -  offset)
+   * @param value the out-value to receive the retrieved value.
+   * @param valueOffset the offset of the "value" array to be used, must be
+   *     non-negative and no longer than "value".length
+   * @param valueLength the length of the "value" array to be used, must be
+   *     non-negative and no larger than ("value".length -  offset)
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int get(final ColumnFamilyHandle columnFamilyHandle, final ReadOptions readOptions,
+      final byte[] key, final int keyOffset, final int keyLength, final byte[] value,
+      final int valueOffset, final int valueLength) throws RocksDBException {
+    assert (isOwningHandle());
+    RocksDB.checkBounds(keyOffset, keyLength, key.length);
+    RocksDB.checkBounds(valueOffset, valueLength, value.length);
+    return get(nativeHandle_, readOptions.nativeHandle_, key, keyOffset, keyLength, value,
+        valueOffset, valueLength, parent.nativeHandle_, columnFamilyHandle.nativeHandle_);
+  }
+
+  /**
+   * This function is similar to
+   * {@link RocksDB#get(ReadOptions, byte[], int, int, byte[], int, int)}
+   * except it will also read pending changes in this transaction.
+   * <p>
+   * See {@link #get(ReadOptions, byte[])}.
+   *
+   * @param readOptions Read options.
+   * @param key the key to retrieve the value for.
+   * @param keyOffset the offset of the "key" array to be used, must be
+   *     non-negative and no larger than "key".length
+   * @param keyLength the length of the "key" array to be used, must be
+   *     non-negative and no larger than ("key".length -  offset)
+   * @param value the out-value to receive the retrieved value.
+   * @param valueOffset the offset of the "value" array to be used, must be
+   *     non-negative and no longer than "value".length
+   * @param valueLength the length of the "value" array to be used, must be
+   *     non-negative and no larger than ("value".length -  offset)
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int get(final ReadOptions readOptions, final byte[] key, final int keyOffset,
+      final int keyLength, final byte[] value, final int valueOffset, final int valueLength)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    RocksDB.checkBounds(keyOffset, keyLength, key.length);
+    RocksDB.checkBounds(valueOffset, valueLength, value.length);
+    return get(nativeHandle_, readOptions.nativeHandle_, key, keyOffset, keyLength, value,
+        valueOffset, valueLength, parent.nativeHandle_, 0);
+  }
+
   /**
    * This function is similar to
    * {@link RocksDB#multiGetAsList} except it will
@@ -485,6 +637,118 @@ public class Transaction extends RocksObject {
     return Arrays.asList(multiGet(nativeHandle_, readOptions.nativeHandle_, keysArray));
   }
 
+  /**
+   * This function is similar to
+   * {@link RocksDB#multiGetByteBuffers(ReadOptions, List, List, List)}
+   * except it will also read pending changes in this transaction, and that
+   * all of the keys are read from a single column family.
+   * <p>
+   * The keys are read from the batch of the transaction and from the
+   * database by a single batched lookup.
+   * <p>
+   * Each value is copied from the position of its buffer, and the limit of
+   * the buffer is set according to the size of the value.
+   *
+   * @param readOptions Read options.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle} instance
+   * @param keys the keys for which values need to be retrieved, using their
+   *     position and limit. Supports direct buffers only.
+   * @param values the buffers to receive the retrieved values, one for each
+   *     key. Supports direct buffers only.
+   *
+   * @return the status of each key, and for those which were found, the
+   *     size of the value
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   * @throws IllegalArgumentException thrown if the number of passed keys and
+   *     passed values do not match, or the buffers are not direct.
+   */
+  public List<ByteBufferGetStatus> multiGetByteBuffers(final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle, final List<ByteBuffer> keys,
+      final List<ByteBuffer> values) throws RocksDBException {
+    return multiGetByteBuffers(
+        readOptions, columnFamilyHandle.nativeHandle_, keys, values, false, false);
+  }
+
+  // a columnFamilyHandle of 0 is the default column family
+  private List<ByteBufferGetStatus> multiGetByteBuffers(final ReadOptions readOptions,
+      final long columnFamilyHandle, final List<ByteBuffer> keys,
+      final List<ByteBuffer> values, final boolean forUpdate, final boolean exclusive)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    if (values.size() != keys.size()) {
+      throw new IllegalArgumentException("For each key there must be a corresponding value.");
+    }
+    final int numKeys = keys.size();
+    final ByteBuffer[] keysArray = keys.toArray(new ByteBuffer[0]);
+    final ByteBuffer[] valuesArray = values.toArray(new ByteBuffer[0]);
+    final int[] keyOffsets = new int[numKeys];
+    final int[] keyLengths = new int[numKeys];
+    final int[] valueOffsets = new int[numKeys];
+    final int[] valueLengths = new int[numKeys];
+    for (int i = 0; i < numKeys; i++) {
+      if (!keysArray[i].isDirect() || !valuesArray[i].isDirect()) {
+        throw new IllegalArgumentException("All key and value buffers must be direct byte buffers");
+      }
+      keyOffsets[i] = keysArray[i].position();
+      keyLengths[i] = keysArray[i].remaining();
+      valueOffsets[i] = valuesArray[i].position();
+      valueLengths[i] = valuesArray[i].remaining();
+    }
+    final int[] valueSizes = new int[numKeys];
+    final Status[] statuses = new Status[numKeys];
+
+    if (forUpdate) {
+      multiGetForUpdateDirect(nativeHandle_, readOptions.nativeHandle_, parent.nativeHandle_,
+          columnFamilyHandle, keysArray, keyOffsets, keyLengths, valuesArray, valueOffsets,
+          valueLengths, valueSizes, statuses, exclusive);
+    } else {
+      multiGetDirect(nativeHandle_, readOptions.nativeHandle_, parent.nativeHandle_,
+          columnFamilyHandle, keysArray, keyOffsets, keyLengths, valuesArray, valueOffsets,
+          valueLengths, valueSizes, statuses);
+    }
+
+    final List<ByteBufferGetStatus> results = new ArrayList<>(numKeys);
+    for (int i = 0; i < numKeys; i++) {
+      keysArray[i].position(keysArray[i].limit());
+      if (statuses[i].getCode() == Status.Code.Ok) {
+        final ByteBuffer value = valuesArray[i];
+        value.limit(Math.min(value.limit(), value.position() + valueSizes[i]));
+        results.add(new ByteBufferGetStatus(statuses[i], valueSizes[i], value));
+      } else {
+        results.add(new ByteBufferGetStatus(statuses[i]));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * This function is similar to
+   * {@link RocksDB#multiGetByteBuffers(ReadOptions, List, List)} except it
+   * will also read pending changes in this transaction.
+   * <p>
+   * See {@link #multiGetByteBuffers(ReadOptions, ColumnFamilyHandle, List, List)}.
+   *
+   * @param readOptions Read options.
+   * @param keys the keys for which values need to be retrieved, using their
+   *     position and limit. Supports direct buffers only.
+   * @param values the buffers to receive the retrieved values, one for each
+   *     key. Supports direct buffers only.
+   *
+   * @return the status of each key, and for those which were found, the
+   *     size of the value
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   * @throws IllegalArgumentException thrown if the number of passed keys and
+   *     passed values do not match, or the buffers are not direct.
+   */
+  public List<ByteBufferGetStatus> multiGetByteBuffers(final ReadOptions readOptions,
+      final List<ByteBuffer> keys, final List<ByteBuffer> values) throws RocksDBException {
+    return multiGetByteBuffers(readOptions, 0, keys, values, false, false);
+  }
+
   /**
    * Read this key and ensure that this transaction will only
    * be able to be committed if this key is not written outside this
@@ -617,6 +881,169 @@ public class Transaction extends RocksObject {
         nativeHandle_, readOptions.nativeHandle_, key, key.length, exclusive, true /*doValidate*/);
   }
 
+  /**
+   * Same as {@link #getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], boolean)}
+   * except that the key is read from and the value is copied into direct
+   * buffers, as by
+   * {@link RocksDB#get(ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)}.
+   *
+   * @param readOptions Read options.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param key the key to retrieve the value for. It is using position and
+   *     limit. Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value. It is using
+   *     position and limit. Limit is set according to value size. Supports
+   *     direct buffer only.
+   * @param exclusive true if the transaction should have exclusive access to
+   *     the key, otherwise false for shared access.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int getForUpdate(final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle, final ByteBuffer key, final ByteBuffer value,
+      final boolean exclusive) throws RocksDBException {
+    assert (isOwningHandle());
+    assert key.isDirect() && value.isDirect();
+    final int result = getForUpdateDirect(nativeHandle_, readOptions.nativeHandle_, key,
+        key.position(), key.remaining(), value, value.position(), value.remaining(),
+        parent.nativeHandle_, columnFamilyHandle.nativeHandle_, exclusive, true /*doValidate*/);
+    return directResult(result, key, value);
+  }
+
+  /**
+   * Same as {@link #getForUpdate(ReadOptions, byte[], boolean)} except that
+   * the key is read from and the value is copied into direct buffers, as by
+   * {@link RocksDB#get(ReadOptions, ByteBuffer, ByteBuffer)}.
+   *
+   * @param readOptions Read options.
+   * @param key the key to retrieve the value for. It is using position and
+   *     limit. Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value. It is using
+   *     position and limit. Limit is set according to value size. Supports
+   *     direct buffer only.
+   * @param exclusive true if the transaction should have exclusive access to
+   *     the key, otherwise false for shared access.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int getForUpdate(final ReadOptions readOptions, final ByteBuffer key,
+      final ByteBuffer value, final boolean exclusive) throws RocksDBException {
+    assert (isOwningHandle());
+    assert key.isDirect() && value.isDirect();
+    final int result = getForUpdateDirect(nativeHandle_, readOptions.nativeHandle_, key,
+        key.position(), key.remaining(), value, value.position(), value.remaining(),
+        parent.nativeHandle_, 0, exclusive, true /*doValidate*/);
+    return directResult(result, key, value);
+  }
+
+  /**
+   * Same as {@link #getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], boolean)}
+   * except that the key is read from and the value is copied into regions of
+   * arrays, as by
+   * {@link RocksDB#get(ColumnFamilyHandle, ReadOptions, byte[], int, int, byte[], int, int)}.
+   *
+   * @param readOptions Read options.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param key the key to retrieve the value for.
+   * @param keyOffset the offset of the "key" array to be used, must be
+   *     non-negative and no larger than "key".length
+   * @param keyLength the length of the "key" array to be used, must be
+   *     non-negative and no larger than ("key".length -  offset)
+   * @param value the out-value to receive the retrieved value.
+   * @param valueOffset the offset of the "value" array to be used, must be
+   *     non-negative and no longer than "value".length
+   * @param valueLength the length of the "value" array to be used, must be
+   *     non-negative and no larger than ("value".length -  offset)
+   * @param exclusive true if the transaction should have exclusive access to
+   *     the key, otherwise false for shared access.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int getForUpdate(final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle, final byte[] key, final int keyOffset,
+      final int keyLength, final byte[] value, final int valueOffset, final int valueLength,
+      final boolean exclusive) throws RocksDBException {
+    assert (isOwningHandle());
+    RocksDB.checkBounds(keyOffset, keyLength, key.length);
+    RocksDB.checkBounds(valueOffset, valueLength, value.length);
+    return getForUpdate(nativeHandle_, readOptions.nativeHandle_, key, keyOffset, keyLength,
+        value, valueOffset, valueLength, parent.nativeHandle_, columnFamilyHandle.nativeHandle_,
+        exclusive, true /*doValidate*/);
+  }
+
+  /**
+   * Same as {@link #getForUpdate(ReadOptions, byte[], boolean)} except that
+   * the key is read from and the value is copied into regions of arrays, as
+   * by {@link RocksDB#get(ReadOptions, byte[], int, int, byte[], int, int)}.
+   *
+   * @param readOptions Read options.
+   * @param key the key to retrieve the value for.
+   * @param keyOffset the offset of the "key" array to be used, must be
+   *     non-negative and no larger than "key".length
+   * @param keyLength the length of the "key" array to be used, must be
+   *     non-negative and no larger than ("key".length -  offset)
+   * @param value the out-value to receive the retrieved value.
+   * @param valueOffset the offset of the "value" array to be used, must be
+   *     non-negative and no longer than "value".length
+   * @param valueLength the length of the "value" array to be used, must be
+   *     non-negative and no larger than ("value".length -  offset)
+   * @param exclusive true if the transaction should have exclusive access to
+   *     the key, otherwise false for shared access.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException thrown if error happens in underlying native
+   *     library.
+   */
+  public int getForUpdate(final ReadOptions readOptions, final byte[] key, final int keyOffset,
+      final int keyLength, final byte[] value, final int valueOffset, final int valueLength,
+      final boolean exclusive) throws RocksDBException {
+    assert (isOwningHandle());
+    RocksDB.checkBounds(keyOffset, keyLength, key.length);
+    RocksDB.checkBounds(valueOffset, valueLength, value.length);
+    return getForUpdate(nativeHandle_, readOptions.nativeHandle_, key, keyOffset, keyLength,
+        value, valueOffset, valueLength, parent.nativeHandle_, 0, exclusive, true /*doValidate*/);
+  }
+
+  private static int directResult(final int result, final ByteBuffer key, final ByteBuffer value) {
+    if (result != RocksDB.NOT_FOUND) {
+      value.limit(Math.min(value.limit(), value.position() + result));
+    }
+    key.position(key.limit());
+    return result;
+  }
+
   /**
    * A multi-key version of
    * {@link #getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], boolean)}.
@@ -738,6 +1165,74 @@ public class Transaction extends RocksObject {
     return Arrays.asList(multiGetForUpdate(nativeHandle_, readOptions.nativeHandle_, keysArray));
   }
 
+  /**
+   * A multi-key version of
+   * {@link #getForUpdate(ReadOptions, ColumnFamilyHandle, ByteBuffer, ByteBuffer, boolean)},
+   * which reads the keys into direct buffers like
+   * {@link #multiGetByteBuffers(ReadOptions, ColumnFamilyHandle, List, List)}.
+   * <p>
+   * The keys are locked in a single pass in key order, whatever their order
+   * in the list, so that concurrent transactions locking overlapping keys
+   * do not deadlock, and all of the locks share a single lock timeout rather
+   * than each key waiting for the timeout in turn. The keys are then read
+   * by a single batched lookup.
+   * <p>
+   * If any of the keys cannot be locked, e.g. because the lock timeout
+   * expires, none of the keys are read and the status of every key is the
+   * error, e.g. {@link Status.Code#TimedOut}. The keys which were locked
+   * before the error remain locked by the transaction.
+   *
+   * @param readOptions Read options.
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle} instance
+   * @param keys the keys for which values need to be retrieved, using their
+   *     position and limit. Supports direct buffers only.
+   * @param values the buffers to receive the retrieved values, one for each
+   *     key. Supports direct buffers only.
+   * @param exclusive true if the transaction should have exclusive access to
+   *     the keys, otherwise false for shared access.
+   *
+   * @return the status of each key, and for those which were found, the
+   *     size of the value
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   * @throws IllegalArgumentException thrown if the number of passed keys and
+   *     passed values do not match, or the buffers are not direct.
+   */
+  public List<ByteBufferGetStatus> multiGetForUpdateByteBuffers(final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle, final List<ByteBuffer> keys,
+      final List<ByteBuffer> values, final boolean exclusive) throws RocksDBException {
+    return multiGetByteBuffers(
+        readOptions, columnFamilyHandle.nativeHandle_, keys, values, true, exclusive);
+  }
+
+  /**
+   * Same as
+   * {@link #multiGetForUpdateByteBuffers(ReadOptions, ColumnFamilyHandle, List, List, boolean)}
+   * except that the keys are read from the default column family.
+   *
+   * @param readOptions Read options.
+   * @param keys the keys for which values need to be retrieved, using their
+   *     position and limit. Supports direct buffers only.
+   * @param values the buffers to receive the retrieved values, one for each
+   *     key. Supports direct buffers only.
+   * @param exclusive true if the transaction should have exclusive access to
+   *     the keys, otherwise false for shared access.
+   *
+   * @return the status of each key, and for those which were found, the
+   *     size of the value
+   *
+   * @throws RocksDBException thrown if error happens in underlying
+   *    native library.
+   * @throws IllegalArgumentException thrown if the number of passed keys and
+   *     passed values do not match, or the buffers are not direct.
+   */
+  public List<ByteBufferGetStatus> multiGetForUpdateByteBuffers(final ReadOptions readOptions,
+      final List<ByteBuffer> keys, final List<ByteBuffer> values, final boolean exclusive)
+      throws RocksDBException {
+    return multiGetByteBuffers(readOptions, 0, keys, values, true, exclusive);
+  }
+
   /**
    * Returns an iterator that will iterate on all keys in the default
    * column family including both keys in the DB and uncommitted keys in this
@@ -1803,6 +2298,68 @@ public class Transaction extends RocksObject {
     undoGetForUpdate(nativeHandle_, key, key.length);
   }
 
+  /**
+   * Lock the range of keys from {@code start} to {@code end}, both
+   * inclusive, exclusively for this transaction, which holds the lock until
+   * it is committed or rolled back.
+   * <p>
+   * Locking a range with a single lock, e.g. before scanning it and updating
+   * its keys, is cheaper than locking each of its keys, and also prevents
+   * other transactions from inserting keys into the range. The lock waits
+   * for conflicting locks for up to the lock timeout of the transaction.
+   * <p>
+   * Range locks are only supported by a {@link TransactionDB} opened with a
+   * {@link RangeLockManager}, see
+   * {@link TransactionDBOptions#setRangeLockManager(RangeLockManager)}.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param start the first key of the range.
+   * @param end the last key of the range.
+   *
+   * @throws RocksDBException if the range cannot be locked, e.g.
+   *     {@link Status.Code#TimedOut} if it was not locked in time, or
+   *     {@link Status.Code#NotSupported} if the database does not use a
+   *     {@link RangeLockManager}.
+   */
+  public void getRangeLock(final ColumnFamilyHandle columnFamilyHandle, final byte[] start,
+      final byte[] end) throws RocksDBException {
+    getRangeLock(columnFamilyHandle, start, false, end, false);
+  }
+
+  /**
+   * Lock a range of keys exclusively for this transaction, like
+   * {@link #getRangeLock(ColumnFamilyHandle, byte[], byte[])}, where each
+   * end of the range may instead be the position after all of the keys
+   * which it prefixes. E.g. all of the keys prefixed by {@code p} are locked
+   * by {@code getRangeLock(columnFamilyHandle, p, false, p, true)}.
+   * <p>
+   * Prefixes require the comparator of the column family to order the keys
+   * lexicographically, as {@link BuiltinComparator#BYTEWISE_COMPARATOR}
+   * does.
+   *
+   * @param columnFamilyHandle {@link org.rocksdb.ColumnFamilyHandle}
+   *     instance
+   * @param start the start of the range.
+   * @param startInfSuffix true if the range starts after all of the keys
+   *     prefixed by {@code start}, rather than at {@code start}.
+   * @param end the end of the range.
+   * @param endInfSuffix true if the range ends after all of the keys
+   *     prefixed by {@code end}, rather than at {@code end}.
+   *
+   * @throws RocksDBException if the range cannot be locked, e.g.
+   *     {@link Status.Code#TimedOut} if it was not locked in time, or
+   *     {@link Status.Code#NotSupported} if the database does not use a
+   *     {@link RangeLockManager}.
+   */
+  public void getRangeLock(final ColumnFamilyHandle columnFamilyHandle, final byte[] start,
+      final boolean startInfSuffix, final byte[] end, final boolean endInfSuffix)
+      throws RocksDBException {
+    assert (isOwningHandle());
+    getRangeLock(nativeHandle_, columnFamilyHandle.nativeHandle_, start, startInfSuffix, end,
+        endInfSuffix);
+  }
+
   /**
    * Adds the keys from the WriteBatch to the transaction
    *
@@ -2062,6 +2619,34 @@ public class Transaction extends RocksObject {
   private native byte[][] multiGetForUpdate(final long handle,
       final long readOptionsHandle, final byte[][] keys)
       throws RocksDBException;
+  private native int getDirect(final long handle, final long readOptionsHandle,
+      final ByteBuffer key, final int keyOffset, final int keyLength, final ByteBuffer value,
+      final int valueOffset, final int valueLength, final long dbHandle,
+      final long columnFamilyHandle) throws RocksDBException;
+  private native int get(final long handle, final long readOptionsHandle, final byte[] key,
+      final int keyOffset, final int keyLength, final byte[] value, final int valueOffset,
+      final int valueLength, final long dbHandle, final long columnFamilyHandle)
+      throws RocksDBException;
+  private native int getForUpdateDirect(final long handle, final long readOptionsHandle,
+      final ByteBuffer key, final int keyOffset, final int keyLength, final ByteBuffer value,
+      final int valueOffset, final int valueLength, final long dbHandle,
+      final long columnFamilyHandle, final boolean exclusive, final boolean doValidate)
+      throws RocksDBException;
+  private native int getForUpdate(final long handle, final long readOptionsHandle,
+      final byte[] key, final int keyOffset, final int keyLength, final byte[] value,
+      final int valueOffset, final int valueLength, final long dbHandle,
+      final long columnFamilyHandle, final boolean exclusive, final boolean doValidate)
+      throws RocksDBException;
+  private native void multiGetDirect(final long handle, final long readOptionsHandle,
+      final long dbHandle, final long columnFamilyHandle, final ByteBuffer[] keys,
+      final int[] keyOffsets, final int[] keyLengths, final ByteBuffer[] values,
+      final int[] valueOffsets, final int[] valueLengths, final int[] valueSizes,
+      final Status[] statuses) throws RocksDBException;
+  private native void multiGetForUpdateDirect(final long handle, final long readOptionsHandle,
+      final long dbHandle, final long columnFamilyHandle, final ByteBuffer[] keys,
+      final int[] keyOffsets, final int[] keyLengths, final ByteBuffer[] values,
+      final int[] valueOffsets, final int[] valueLengths, final int[] valueSizes,
+      final Status[] statuses, final boolean exclusive) throws RocksDBException;
   private native long getIterator(final long handle,
       final long readOptionsHandle);
   private native long getIterator(final long handle,
@@ -2146,6 +2731,9 @@ public class Transaction extends RocksObject {
       final int keyLength, final long columnFamilyHandle);
   private native void undoGetForUpdate(final long handle, final byte[] key,
       final int keyLength);
+  private native void getRangeLock(final long handle, final long columnFamilyHandle,
+      final byte[] start, final boolean startInfSuffix, final byte[] end,
+      final boolean endInfSuffix) throws RocksDBException;
   private native void rebuildFromWriteBatch(final long handle,
       final long writeBatchHandle) throws RocksDBException;
   private native long getCommitTimeWriteBatch(final long handle);
@@ -16,6 +16,7 @@ public class TransactionDB extends RocksDB
     implements TransactionalDB<TransactionOptions> {
   // Field is "used" to prevent GC of the
   @SuppressWarnings("PMD.UnusedPrivateField") private TransactionDBOptions transactionDbOptions_;
+  private RangeLockManager rangeLockManager_;
 
   /**
    * Private constructor.
@@ -118,13 +119,24 @@ public class TransactionDB extends RocksDB
    */
   @Override
   public void closeE() throws RocksDBException {
+    final RocksDBException dumpError = runCacheDumper();
+
     if (owningHandle_.compareAndSet(true, false)) {
       try {
         closeDatabase(nativeHandle_);
+      } catch (final RocksDBException e) {
+        if (dumpError != null) {
+          e.addSuppressed(dumpError);
+        }
+        throw e;
       } finally {
         disposeInternal();
       }
     }
+
+    if (dumpError != null) {
+      throw dumpError;
+    }
   }
 
   /**
@@ -141,6 +153,8 @@ public class TransactionDB extends RocksDB
   @SuppressWarnings("PMD.EmptyCatchBlock")
   @Override
   public void close() {
+    runCacheDumper();
+
     if (owningHandle_.compareAndSet(true, false)) {
       try {
         closeDatabase(nativeHandle_);
@@ -271,8 +285,103 @@ public class TransactionDB extends RocksDB
     }
   }
 
+  public static class RangeLockInfo {
+    private final long columnFamilyId;
+    private final byte[] start;
+    private final boolean startInfSuffix;
+    private final byte[] end;
+    private final boolean endInfSuffix;
+    private final long[] transactionIDs;
+    private final boolean exclusive;
+
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    public RangeLockInfo(final long columnFamilyId, final byte[] start,
+        final boolean startInfSuffix, final byte[] end, final boolean endInfSuffix,
+        final long[] transactionIDs, final boolean exclusive) {
+      this.columnFamilyId = columnFamilyId;
+      this.start = start;
+      this.startInfSuffix = startInfSuffix;
+      this.end = end;
+      this.endInfSuffix = endInfSuffix;
+      this.transactionIDs = transactionIDs;
+      this.exclusive = exclusive;
+    }
+
+    /**
+     * Get the Column Family ID.
+     *
+     * @return The column family ID
+     */
+    public long getColumnFamilyId() {
+      return columnFamilyId;
+    }
+
+    /**
+     * Get the start of the range.
+     *
+     * @return the start of the range
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public byte[] getStart() {
+      return start;
+    }
+
+    /**
+     * Get whether the start of the range is after any key prefixed by
+     * {@link #getStart()}, rather than {@link #getStart()} itself.
+     *
+     * @return true if the start has an infinite suffix
+     */
+    public boolean isStartInfSuffix() {
+      return startInfSuffix;
+    }
+
+    /**
+     * Get the end of the range, which is inclusive.
+     *
+     * @return the end of the range
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public byte[] getEnd() {
+      return end;
+    }
+
+    /**
+     * Get whether the end of the range is after any key prefixed by
+     * {@link #getEnd()}, rather than {@link #getEnd()} itself.
+     *
+     * @return true if the end has an infinite suffix
+     */
+    public boolean isEndInfSuffix() {
+      return endInfSuffix;
+    }
+
+    /**
+     * Get the Transaction IDs.
+     *
+     * @return the Transaction IDs.
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    public long[] getTransactionIDs() {
+      return transactionIDs;
+    }
+
+    /**
+     * Get the Lock status.
+     *
+     * @return true if the lock is exclusive, false if the lock is shared.
+     */
+    public boolean isExclusive() {
+      return exclusive;
+    }
+  }
+
   /**
    * Returns map of all locks held.
+   * <p>
+   * If the database uses a {@link RangeLockManager}, the start key of each
+   * range lock is returned, see {@link #getRangeLockStatusData()} for the
+   * whole ranges.
    *
    * @return a map of all the locks held.
    */
@@ -280,6 +389,21 @@ public class TransactionDB extends RocksDB
     return getLockStatusData(nativeHandle_);
   }
 
+  /**
+   * Returns all of the range locks held, if the database was opened with a
+   * {@link RangeLockManager}, see
+   * {@link TransactionDBOptions#setRangeLockManager(RangeLockManager)}.
+   *
+   * @return the range locks held, which are empty if the database uses the
+   *     default point lock manager.
+   */
+  public List<RangeLockInfo> getRangeLockStatusData() {
+    if (rangeLockManager_ == null) {
+      return new ArrayList<>(0);
+    }
+    return rangeLockManager_.getRangeLockStatusData();
+  }
+
   /**
    * Called from C++ native method {@link #getDeadlockInfoBuffer(long)}
    * to construct a DeadlockInfo object.
@@ -375,6 +499,7 @@ public class TransactionDB extends RocksDB
   private void storeTransactionDbOptions(
       final TransactionDBOptions transactionDbOptions) {
     this.transactionDbOptions_ = transactionDbOptions;
+    this.rangeLockManager_ = transactionDbOptions.rangeLockManager();
   }
 
   @Override protected final native void disposeInternal(final long handle);
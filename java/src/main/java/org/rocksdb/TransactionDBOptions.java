@@ -198,6 +198,42 @@ public class TransactionDBOptions extends RocksObject {
     return this;
   }
 
+  /**
+   * Use a range lock manager for the locks of the transactions, instead of
+   * the default point lock manager.
+   * <p>
+   * With a range lock manager, {@link Transaction#getRangeLock} locks a
+   * range of keys with a single lock, and adjacent locks of a transaction
+   * may be escalated into a lock of the range spanning them. This keeps the
+   * lock table small for transactions which lock many keys, e.g. those
+   * which scan a range of keys before updating them.
+   * <p>
+   * The {@link #setMaxNumLocks(long)} and {@link #setNumStripes(long)}
+   * options do not apply to a range lock manager, whose memory is bounded by
+   * {@link RangeLockManager#setMaxLockMemory(long)} instead.
+   *
+   * @param rangeLockManager the range lock manager, which may be used to
+   *     inspect and control the locks once the {@link TransactionDB} is open.
+   *
+   * @return this TransactionDBOptions instance
+   */
+  public TransactionDBOptions setRangeLockManager(final RangeLockManager rangeLockManager) {
+    assert(isOwningHandle());
+    setRangeLockManager(nativeHandle_, rangeLockManager.nativeHandle_);
+    this.rangeLockManager_ = rangeLockManager;
+    return this;
+  }
+
+  /**
+   * Get the range lock manager of the transactions, if any.
+   *
+   * @return the range lock manager, or null if the default point lock
+   *     manager is used.
+   */
+  public RangeLockManager rangeLockManager() {
+    return rangeLockManager_;
+  }
+
   private static native long newTransactionDBOptions();
   private native long getMaxNumLocks(final long handle);
   private native void setMaxNumLocks(final long handle,
@@ -212,5 +248,8 @@ public class TransactionDBOptions extends RocksObject {
       final long transactionLockTimeout);
   private native byte getWritePolicy(final long handle);
   private native void setWritePolicy(final long handle, final byte writePolicy);
+  private native void setRangeLockManager(final long handle, final long rangeLockManagerHandle);
   @Override protected final native void disposeInternal(final long handle);
+
+  private RangeLockManager rangeLockManager_;
 }
@@ -156,13 +156,24 @@ public class TtlDB extends RocksDB {
    */
   @Override
   public void closeE() throws RocksDBException {
+    final RocksDBException dumpError = runCacheDumper();
+
     if (owningHandle_.compareAndSet(true, false)) {
       try {
         closeDatabase(nativeHandle_);
+      } catch (final RocksDBException e) {
+        if (dumpError != null) {
+          e.addSuppressed(dumpError);
+        }
+        throw e;
       } finally {
         disposeInternal();
       }
     }
+
+    if (dumpError != null) {
+      throw dumpError;
+    }
   }
 
   /**
@@ -179,6 +190,8 @@ public class TtlDB extends RocksDB {
   @SuppressWarnings("PMD.EmptyCatchBlock")
   @Override
   public void close() {
+    runCacheDumper();
+
     if (owningHandle_.compareAndSet(true, false)) {
       try {
         closeDatabase(nativeHandle_);
@@ -0,0 +1,271 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An opt-in execution mode for long running blocking calls into the native
+ * library when they are made from a virtual thread.
+ * <p>
+ * A virtual thread which calls into native code cannot unmount from its
+ * carrier thread until the call returns, so long calls such as
+ * {@link RocksDB#compactRange()}, {@link RocksDB#flush(FlushOptions)},
+ * {@link RocksDB#multiGetAsList(java.util.List)} and
+ * {@link Transaction#commit()} pin the carrier thread for their whole
+ * duration. When offloading is enabled, these calls detect a virtual thread
+ * caller, run the native call on a dedicated bounded pool of platform
+ * threads, and park the virtual thread until it completes, which releases
+ * the carrier thread for other virtual threads.
+ * <p>
+ * Calls made from platform threads, and calls made while offloading is
+ * disabled, are executed directly on the calling thread. If the queue of
+ * the offload pool is full the call is also executed directly, so that
+ * offloading never fails a call which would otherwise have succeeded.
+ * <p>
+ * Virtual threads are detected at runtime, so this mode has no effect on
+ * JVMs which do not support them.
+ */
+public final class VirtualThreadOffload {
+  private static final String THREAD_NAME_PREFIX = "rocksdb-offload-";
+  private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+  private static final AtomicLong offloadedCount = new AtomicLong();
+  private static final AtomicLong inlineFallbackCount = new AtomicLong();
+  private static volatile ThreadPoolExecutor executor;
+
+  private VirtualThreadOffload() {}
+
+  /**
+   * A blocking call into the native library.
+   *
+   * @param <T> the type of the result of the call
+   */
+  interface BlockingCall<T> {
+    T call() throws RocksDBException;
+  }
+
+  /**
+   * A blocking call into the native library which has no result.
+   */
+  interface BlockingRun {
+    void run() throws RocksDBException;
+  }
+
+  /**
+   * Enables offloading of blocking native calls made from virtual threads.
+   * <p>
+   * If offloading is already enabled, the existing pool is shut down once
+   * its queued calls have completed and replaced by a new one.
+   *
+   * @param poolSize the number of platform threads in the offload pool.
+   * @param maxQueuedCalls the maximum number of calls which may wait for a
+   *     thread of the offload pool; further calls are executed directly on
+   *     the calling virtual thread.
+   *
+   * @throws IllegalArgumentException if {@code poolSize} or
+   *     {@code maxQueuedCalls} is not positive.
+   */
+  public static synchronized void enable(final int poolSize, final int maxQueuedCalls) {
+    if (poolSize <= 0) {
+      throw new IllegalArgumentException("poolSize must be positive");
+    }
+    if (maxQueuedCalls <= 0) {
+      throw new IllegalArgumentException("maxQueuedCalls must be positive");
+    }
+    final ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(maxQueuedCalls), r -> {
+          final Thread thread = new Thread(r, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    final ThreadPoolExecutor oldExecutor = executor;
+    executor = newExecutor;
+    if (oldExecutor != null) {
+      oldExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Disables offloading. Calls which have already been offloaded still
+   * complete on the offload pool.
+   */
+  public static synchronized void disable() {
+    final ThreadPoolExecutor oldExecutor = executor;
+    executor = null;
+    if (oldExecutor != null) {
+      oldExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Returns whether offloading is enabled.
+   *
+   * @return true if offloading is enabled.
+   */
+  public static boolean isEnabled() {
+    return executor != null;
+  }
+
+  /**
+   * Returns the number of offloaded calls which are waiting for a thread of
+   * the offload pool.
+   *
+   * @return the current depth of the offload queue, or 0 if offloading is
+   *     disabled.
+   */
+  public static int queueDepth() {
+    final ThreadPoolExecutor current = executor;
+    return current == null ? 0 : current.getQueue().size();
+  }
+
+  /**
+   * Returns the approximate number of offloaded calls which are currently
+   * executing on the offload pool.
+   *
+   * @return the number of executing offloaded calls.
+   */
+  public static int activeCount() {
+    final ThreadPoolExecutor current = executor;
+    return current == null ? 0 : current.getActiveCount();
+  }
+
+  /**
+   * Returns the total number of calls which have been offloaded since the
+   * library was loaded.
+   *
+   * @return the number of offloaded calls.
+   */
+  public static long offloadedCount() {
+    return offloadedCount.get();
+  }
+
+  /**
+   * Returns the total number of calls from virtual threads which were
+   * executed directly on the calling thread because the offload queue was
+   * full.
+   *
+   * @return the number of calls which could not be offloaded.
+   */
+  public static long inlineFallbackCount() {
+    return inlineFallbackCount.get();
+  }
+
+  /**
+   * Returns whether a blocking call made from the calling thread would be
+   * offloaded, so that callers on the hot path can make the call directly,
+   * without allocating a capturing lambda, when it would not be.
+   *
+   * @return true if offloading is enabled and the calling thread is a
+   *     virtual thread.
+   */
+  static boolean shouldOffload() {
+    return executor != null && isVirtualThread();
+  }
+
+  /**
+   * Executes a blocking call, offloading it if offloading is enabled and
+   * the calling thread is a virtual thread.
+   *
+   * @param <T> the type of the result of the call
+   * @param blockingCall the call to execute
+   *
+   * @return the result of the call
+   *
+   * @throws RocksDBException if the call throws a RocksDBException
+   */
+  static <T> T call(final BlockingCall<T> blockingCall) throws RocksDBException {
+    final ThreadPoolExecutor current = executor;
+    if (current == null || !isVirtualThread()) {
+      return blockingCall.call();
+    }
+
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      current.execute(() -> {
+        try {
+          future.complete(blockingCall.call());
+        } catch (final Throwable t) {
+          future.completeExceptionally(t);
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      inlineFallbackCount.incrementAndGet();
+      return blockingCall.call();
+    }
+    offloadedCount.incrementAndGet();
+
+    // join() parks the virtual thread, releasing its carrier thread. The
+    // native call cannot be abandoned part way through, so it is not
+    // interruptible.
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RocksDBException) {
+        throw (RocksDBException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Executes a blocking call which has no result, offloading it if
+   * offloading is enabled and the calling thread is a virtual thread.
+   *
+   * @param blockingRun the call to execute
+   *
+   * @throws RocksDBException if the call throws a RocksDBException
+   */
+  static void run(final BlockingRun blockingRun) throws RocksDBException {
+    call(() -> {
+      blockingRun.run();
+      return null;
+    });
+  }
+
+  /**
+   * Returns whether the calling thread is a virtual thread.
+   *
+   * @return true if the calling thread is a virtual thread.
+   */
+  static boolean isVirtualThread() {
+    if (IS_VIRTUAL == null) {
+      return false;
+    }
+    try {
+      return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+    } catch (final Throwable t) {
+      return false;
+    }
+  }
+
+  private static MethodHandle findIsVirtual() {
+    try {
+      return MethodHandles.publicLookup().findVirtual(
+          Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      // virtual threads are not supported by this JVM
+      return null;
+    }
+  }
+}
@@ -0,0 +1,331 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Tails the changes written to a database, by reading its WAL from a
+ * sequence number onwards.
+ * <p>
+ * Unlike {@link RocksDB#getUpdatesSince(long)}, which returns a
+ * {@link WriteBatch} per write to be iterated with a
+ * {@link WriteBatch.Handler}, the records of the writes are decoded natively
+ * by {@link #poll()} in batches into a direct buffer owned by the stream, and
+ * are read from there without allocating:
+ * <pre>{@code
+ *   while (running) {
+ *     if (stream.poll() == 0) {
+ *       // caught up with the writes to the database
+ *       Thread.sleep(10);
+ *       continue;
+ *     }
+ *     while (stream.next()) {
+ *       publish(stream.type(), stream.columnFamilyId(), stream.key(), stream.value());
+ *     }
+ *     checkpoint(stream.getNextSequenceNumber());
+ *   }
+ * }</pre>
+ * <p>
+ * Records are only decoded when polled, so a consumer which falls behind
+ * holds back the stream rather than buffering the changes. A stream can be
+ * resumed, e.g. after a restart, by creating a new one from the sequence
+ * number returned by {@link #getNextSequenceNumber()}, or from the
+ * {@link #sequenceNumber()} of the last record processed plus one. The WAL
+ * files must be retained until they are read, see
+ * {@link DBOptions#setWalTtlSeconds(long)} and
+ * {@link DBOptions#setWalSizeLimitMB(long)}.
+ * <p>
+ * Records of LogData and of blob indexes are not returned. A stream is not
+ * thread-safe.
+ */
+public class WalChangeStream extends RocksObject {
+  // the layout of a record in the buffer, which must match
+  // java/rocksjni/wal_change_stream.cc
+  static final int TYPE_OFFSET = 0;
+  static final int COLUMN_FAMILY_ID_OFFSET = 1;
+  static final int SEQUENCE_NUMBER_OFFSET = 5;
+  static final int KEY_LENGTH_OFFSET = 13;
+  static final int VALUE_LENGTH_OFFSET = 17;
+  static final int HEADER_SIZE = 21;
+
+  /**
+   * The type of a change.
+   */
+  public enum ChangeType {
+    /**
+     * A put of a value.
+     */
+    PUT((byte) 0x0),
+
+    /**
+     * A delete, which has no value.
+     */
+    DELETE((byte) 0x1),
+
+    /**
+     * A single delete, which has no value.
+     */
+    SINGLE_DELETE((byte) 0x2),
+
+    /**
+     * A delete of the range from the key (inclusive) to the value
+     * (exclusive).
+     */
+    DELETE_RANGE((byte) 0x3),
+
+    /**
+     * A merge operand.
+     */
+    MERGE((byte) 0x4),
+
+    /**
+     * A put of a wide-column entity, whose value is the serialized entity.
+     */
+    PUT_ENTITY((byte) 0x5);
+
+    private final byte value;
+
+    ChangeType(final byte value) {
+      this.value = value;
+    }
+
+    /**
+     * Returns the byte value of the enumerations value.
+     *
+     * @return byte representation
+     */
+    public byte getValue() {
+      return value;
+    }
+
+    /**
+     * Get ChangeType by byte value.
+     *
+     * @param value byte representation of ChangeType.
+     *
+     * @return {@link org.rocksdb.WalChangeStream.ChangeType} instance.
+     * @throws java.lang.IllegalArgumentException if an invalid
+     *     value is provided.
+     */
+    public static ChangeType getChangeType(final byte value) {
+      for (final ChangeType changeType : ChangeType.values()) {
+        if (changeType.getValue() == value) {
+          return changeType;
+        }
+      }
+      throw new IllegalArgumentException("Illegal value provided for ChangeType.");
+    }
+  }
+
+  // the db must outlive the stream
+  private final RocksDB db;
+  private final ByteBuffer buffer;
+  private final ByteBuffer key;
+  private final ByteBuffer value;
+  private int records;
+  private int record;
+  private int nextRecordOffset;
+  private ChangeType type;
+  private int columnFamilyId;
+  private long sequenceNumber;
+
+  /**
+   * Create a stream of the changes to all of the column families of a
+   * database.
+   *
+   * @param db the database.
+   * @param startSequenceNumber the sequence number of the first change to
+   *     return.
+   * @param bufferCapacity the size in bytes of the buffer the changes are
+   *     decoded into, which bounds the size of a poll, and must hold the
+   *     largest record.
+   */
+  public WalChangeStream(
+      final RocksDB db, final long startSequenceNumber, final int bufferCapacity) {
+    this(db, startSequenceNumber, bufferCapacity, null);
+  }
+
+  /**
+   * Create a stream of the changes to some of the column families of a
+   * database.
+   *
+   * @param db the database.
+   * @param startSequenceNumber the sequence number of the first change to
+   *     return.
+   * @param bufferCapacity the size in bytes of the buffer the changes are
+   *     decoded into, which bounds the size of a poll, and must hold the
+   *     largest record.
+   * @param columnFamilies the column families whose changes are returned,
+   *     or null for all of them.
+   *
+   * @throws IllegalArgumentException if the buffer capacity is smaller than
+   *     the header of a record, or the list of column families is empty.
+   */
+  public WalChangeStream(final RocksDB db, final long startSequenceNumber,
+      final int bufferCapacity, final List<ColumnFamilyHandle> columnFamilies) {
+    super(newWalChangeStream(db.nativeHandle_, startSequenceNumber, toIds(columnFamilies)));
+    if (bufferCapacity < HEADER_SIZE) {
+      close();
+      throw new IllegalArgumentException(
+          "bufferCapacity must be at least " + HEADER_SIZE + " bytes");
+    }
+    this.db = db;
+    this.buffer = ByteBuffer.allocateDirect(bufferCapacity).order(ByteOrder.nativeOrder());
+    this.key = buffer.duplicate();
+    this.value = buffer.duplicate();
+  }
+
+  /**
+   * Decode the next changes into the buffer of the stream, as many as fit.
+   * The changes of the previous poll are no longer available.
+   *
+   * @return the number of changes, which is 0 if the stream has caught up
+   *     with the writes to the database.
+   *
+   * @throws RocksDBException if the WAL cannot be read, e.g. because the
+   *     files holding the next changes have been deleted, or if the next
+   *     change does not fit in the buffer.
+   */
+  public int poll() throws RocksDBException {
+    return poll(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Decode up to a number of the next changes into the buffer of the stream.
+   * The changes of the previous poll are no longer available.
+   *
+   * @param maxRecords the maximum number of changes to decode.
+   *
+   * @return the number of changes, which is 0 if the stream has caught up
+   *     with the writes to the database.
+   *
+   * @throws RocksDBException if the WAL cannot be read, e.g. because the
+   *     files holding the next changes have been deleted, or if the next
+   *     change does not fit in the buffer.
+   */
+  public int poll(final int maxRecords) throws RocksDBException {
+    assert (isOwningHandle());
+    if (maxRecords < 1) {
+      throw new IllegalArgumentException("maxRecords must be at least 1");
+    }
+    records = 0;
+    record = 0;
+    nextRecordOffset = 0;
+    records = poll(nativeHandle_, buffer, maxRecords);
+    return records;
+  }
+
+  /**
+   * Move to the next change of the last poll.
+   *
+   * @return false if all of the changes of the last poll have been read.
+   */
+  public boolean next() {
+    if (record >= records) {
+      return false;
+    }
+    final int offset = nextRecordOffset;
+    type = ChangeType.getChangeType(buffer.get(offset + TYPE_OFFSET));
+    columnFamilyId = buffer.getInt(offset + COLUMN_FAMILY_ID_OFFSET);
+    sequenceNumber = buffer.getLong(offset + SEQUENCE_NUMBER_OFFSET);
+    final int keyLength = buffer.getInt(offset + KEY_LENGTH_OFFSET);
+    final int valueLength = buffer.getInt(offset + VALUE_LENGTH_OFFSET);
+    final int keyOffset = offset + HEADER_SIZE;
+    key.limit(keyOffset + keyLength).position(keyOffset);
+    value.limit(keyOffset + keyLength + valueLength).position(keyOffset + keyLength);
+    nextRecordOffset = keyOffset + keyLength + valueLength;
+    record++;
+    return true;
+  }
+
+  /**
+   * @return the type of the current change.
+   */
+  public ChangeType type() {
+    return type;
+  }
+
+  /**
+   * @return the id of the column family of the current change.
+   */
+  public int columnFamilyId() {
+    return columnFamilyId;
+  }
+
+  /**
+   * @return the sequence number of the current change.
+   */
+  public long sequenceNumber() {
+    return sequenceNumber;
+  }
+
+  /**
+   * The key of the current change, or the start of the range of a
+   * {@link ChangeType#DELETE_RANGE}.
+   * <p>
+   * The returned buffer is reused, and only valid until the next call to
+   * {@link #next()} or {@link #poll()}.
+   *
+   * @return the key, between the position and the limit of the buffer.
+   */
+  public ByteBuffer key() {
+    return key;
+  }
+
+  /**
+   * The value of the current change, which is empty for a delete, or the
+   * end of the range of a {@link ChangeType#DELETE_RANGE}.
+   * <p>
+   * The returned buffer is reused, and only valid until the next call to
+   * {@link #next()} or {@link #poll()}.
+   *
+   * @return the value, between the position and the limit of the buffer.
+   */
+  public ByteBuffer value() {
+    return value;
+  }
+
+  /**
+   * The sequence number to resume from once all of the changes of the last
+   * poll have been processed. This is past any changes which were filtered
+   * out, so it may be larger than the sequence number of the last change
+   * plus one.
+   *
+   * @return the sequence number of the next change to poll.
+   */
+  public long getNextSequenceNumber() {
+    assert (isOwningHandle());
+    return getNextSequenceNumber(nativeHandle_);
+  }
+
+  private static int[] toIds(final List<ColumnFamilyHandle> columnFamilies) {
+    if (columnFamilies == null) {
+      return new int[0];
+    }
+    if (columnFamilies.isEmpty()) {
+      throw new IllegalArgumentException("columnFamilies must not be empty");
+    }
+    final int[] ids = new int[columnFamilies.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = columnFamilies.get(i).getID();
+    }
+    return ids;
+  }
+
+  @Override
+  protected void disposeInternal(final long handle) {
+    disposeInternalJni(handle);
+  }
+
+  private static native long newWalChangeStream(
+      final long dbHandle, final long startSequenceNumber, final int[] columnFamilyIds);
+  private static native int poll(final long handle, final ByteBuffer buffer, final int maxRecords);
+  private static native long getNextSequenceNumber(final long handle);
+  private static native void disposeInternalJni(final long handle);
+}
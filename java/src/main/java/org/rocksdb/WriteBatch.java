@@ -51,6 +51,65 @@ public class WriteBatch extends AbstractWriteBatch {
     super(newWriteBatch(serialized, serialized.length));
   }
 
+  /**
+   * Operation code of a put record for {@link #appendPacked(ByteBuffer)}.
+   */
+  public static final byte PACKED_PUT = 0x1;
+
+  /**
+   * Operation code of a delete record for {@link #appendPacked(ByteBuffer)}.
+   */
+  public static final byte PACKED_DELETE = 0x2;
+
+  /**
+   * Operation code of a merge record for {@link #appendPacked(ByteBuffer)}.
+   */
+  public static final byte PACKED_MERGE = 0x3;
+
+  /**
+   * Operation code of a single delete record for
+   * {@link #appendPacked(ByteBuffer)}.
+   */
+  public static final byte PACKED_SINGLE_DELETE = 0x4;
+
+  /**
+   * Append many records, packed into a single buffer, to this batch in one
+   * call into the native library.
+   * <p>
+   * The buffer holds a sequence of records between its position and limit.
+   * Each record is made up of:
+   * <ol>
+   *   <li>a 1 byte operation code, one of {@link #PACKED_PUT},
+   *   {@link #PACKED_DELETE}, {@link #PACKED_MERGE} or
+   *   {@link #PACKED_SINGLE_DELETE}</li>
+   *   <li>a 4 byte column family id, as returned by
+   *   {@link ColumnFamilyHandle#getID()} (0 for the default column
+   *   family)</li>
+   *   <li>a 4 byte key length followed by the key</li>
+   *   <li>for puts and merges only, a 4 byte value length followed by the
+   *   value</li>
+   * </ol>
+   * All lengths and ids are big-endian, which is the default byte order of
+   * a {@link ByteBuffer}. Column families which use user-defined timestamps
+   * are not supported.
+   * <p>
+   * Either all of the records are appended or, if the buffer is malformed
+   * or a record cannot be added, none of them are. On success the position
+   * of {@code ops} is advanced to its limit.
+   *
+   * @param ops the packed records. Supports direct buffer only.
+   * @return the number of records appended.
+   *
+   * @throws RocksDBException if the buffer is malformed, or a record cannot
+   *     be added to the batch.
+   */
+  public int appendPacked(final ByteBuffer ops) throws RocksDBException {
+    assert ops.isDirect();
+    final int count = appendPackedDirect(nativeHandle_, ops, ops.position(), ops.remaining());
+    ops.position(ops.limit());
+    return count;
+  }
+
   /**
    * Support for iterating over the contents of a batch.
    *
@@ -63,6 +122,43 @@ public class WriteBatch extends AbstractWriteBatch {
     iterate(nativeHandle_, handler.nativeHandle_);
   }
 
+  /**
+   * Support for iterating over the contents of a batch without allocating
+   * per record.
+   * <p>
+   * The records are copied natively in chunks into the buffer of the
+   * handler, which is grown if a single record does not fit, and the
+   * handler is called back for each of them from Java.
+   *
+   * @param handler A handler that is called back for each
+   *                update present in the batch
+   *
+   * @throws RocksDBException If we cannot iterate over the batch
+   */
+  public void iterate(final DirectHandler handler) throws RocksDBException {
+    long offset = 0;
+    while (true) {
+      final ByteBuffer buffer = handler.buffer;
+      final int count = iterateDirect(nativeHandle_, buffer, offset);
+      final boolean done = buffer.getInt(DirectHandler.DONE_OFFSET) != 0;
+      if (count == 0 && !done) {
+        handler.allocate((int) buffer.getLong(DirectHandler.REQUIRED_CAPACITY_OFFSET));
+        continue;
+      }
+      int recordOffset = DirectHandler.HEADER_SIZE;
+      for (int i = 0; i < count; i++) {
+        if (!handler.shouldContinue()) {
+          return;
+        }
+        recordOffset = handler.dispatch(recordOffset);
+      }
+      if (done) {
+        return;
+      }
+      offset = buffer.getLong(DirectHandler.NEXT_OFFSET_OFFSET);
+    }
+  }
+
   /**
    * Retrieve the serialized version of this batch.
    *
@@ -262,8 +358,12 @@ public class WriteBatch extends AbstractWriteBatch {
 
   private static native long newWriteBatch(final int reserved_bytes);
   private static native long newWriteBatch(final byte[] serialized, final int serializedLength);
+  private native int appendPackedDirect(final long handle, final ByteBuffer ops,
+      final int opsOffset, final int opsLength) throws RocksDBException;
   private native void iterate(final long handle, final long handlerHandle)
       throws RocksDBException;
+  private static native int iterateDirect(final long handle, final ByteBuffer buffer,
+      final long offset) throws RocksDBException;
   private native byte[] data(final long nativeHandle) throws RocksDBException;
   private native long getDataSize(final long nativeHandle);
   private native boolean hasPut(final long nativeHandle);
@@ -339,6 +439,203 @@ public class WriteBatch extends AbstractWriteBatch {
     private native long createNewHandler0();
   }
 
+  /**
+   * Handler callback for iterating over the contents of a batch with
+   * {@link WriteBatch#iterate(DirectHandler)}, e.g. to inspect the batches
+   * passed to {@link WalFilter#logRecordFound(long, String, WriteBatch,
+   * WriteBatch)} during WAL replay.
+   * <p>
+   * Unlike {@link Handler}, which is passed new byte arrays for the keys and
+   * values of each record, the callbacks of a DirectHandler are passed
+   * read-only views of a direct buffer owned by the handler. The views are
+   * reused, and are only valid for the duration of the callback, so their
+   * contents must be copied if they are needed afterwards.
+   * <p>
+   * A DirectHandler has no native counterpart and need not be closed. It is
+   * not thread-safe, so must not be used by concurrent iterations.
+   */
+  public abstract static class DirectHandler {
+    // the layout of the buffer, which must match java/rocksjni/write_batch.cc
+    static final int COUNT_OFFSET = 0;
+    static final int DONE_OFFSET = 4;
+    static final int NEXT_OFFSET_OFFSET = 8;
+    static final int REQUIRED_CAPACITY_OFFSET = 16;
+    static final int HEADER_SIZE = 24;
+    static final int RECORD_HEADER_SIZE = 13;
+
+    static final byte PUT = 0x0;
+    static final byte MERGE = 0x1;
+    static final byte DELETE = 0x2;
+    static final byte SINGLE_DELETE = 0x3;
+    static final byte DELETE_RANGE = 0x4;
+    static final byte LOG_DATA = 0x5;
+    static final byte PUT_BLOB_INDEX = 0x6;
+    static final byte MARK_BEGIN_PREPARE = 0x7;
+    static final byte MARK_END_PREPARE = 0x8;
+    static final byte MARK_NOOP = 0x9;
+    static final byte MARK_ROLLBACK = 0xA;
+    static final byte MARK_COMMIT = 0xB;
+    static final byte MARK_COMMIT_WITH_TIMESTAMP = 0xC;
+
+    /**
+     * The default capacity of the buffer of a handler.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+
+    private ByteBuffer buffer;
+    private ByteBuffer first;
+    private ByteBuffer second;
+
+    /**
+     * Constructs a DirectHandler with a buffer of
+     * {@link #DEFAULT_BUFFER_CAPACITY}.
+     */
+    public DirectHandler() {
+      this(DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Constructs a DirectHandler.
+     *
+     * @param bufferCapacity the initial size in bytes of the buffer the
+     *     records are copied into, which bounds the number of records
+     *     copied per JNI call. The buffer is grown if a single record does
+     *     not fit.
+     */
+    public DirectHandler(final int bufferCapacity) {
+      if (bufferCapacity < HEADER_SIZE + RECORD_HEADER_SIZE) {
+        throw new IllegalArgumentException(
+            "bufferCapacity must be at least " + (HEADER_SIZE + RECORD_HEADER_SIZE) + " bytes");
+      }
+      allocate(bufferCapacity);
+    }
+
+    public abstract void put(final int columnFamilyId, final ByteBuffer key,
+        final ByteBuffer value) throws RocksDBException;
+    public abstract void merge(final int columnFamilyId, final ByteBuffer key,
+        final ByteBuffer value) throws RocksDBException;
+    public abstract void delete(final int columnFamilyId, final ByteBuffer key)
+        throws RocksDBException;
+    public abstract void singleDelete(final int columnFamilyId,
+        final ByteBuffer key) throws RocksDBException;
+    public abstract void deleteRange(final int columnFamilyId,
+        final ByteBuffer beginKey, final ByteBuffer endKey) throws RocksDBException;
+
+    public void logData(final ByteBuffer blob) {
+      // no-op
+    }
+
+    public void putBlobIndex(final int columnFamilyId, final ByteBuffer key,
+        final ByteBuffer value) throws RocksDBException {
+      // no-op
+    }
+
+    public void markBeginPrepare() throws RocksDBException {
+      // no-op
+    }
+
+    public void markEndPrepare(final ByteBuffer xid) throws RocksDBException {
+      // no-op
+    }
+
+    public void markNoop(final boolean emptyBatch) throws RocksDBException {
+      // no-op
+    }
+
+    public void markRollback(final ByteBuffer xid) throws RocksDBException {
+      // no-op
+    }
+
+    public void markCommit(final ByteBuffer xid) throws RocksDBException {
+      // no-op
+    }
+
+    public void markCommitWithTimestamp(final ByteBuffer xid, final ByteBuffer ts)
+        throws RocksDBException {
+      // no-op
+    }
+
+    /**
+     * shouldContinue is called by {@link WriteBatch#iterate(DirectHandler)}
+     * before each record. If it returns false, iteration is halted, and no
+     * further records are copied. Otherwise, it continues iterating. The
+     * default implementation always returns true.
+     *
+     * @return boolean value indicating if the
+     *     iteration is halted.
+     */
+    public boolean shouldContinue() {
+      return true;
+    }
+
+    void allocate(final int capacity) {
+      buffer = ByteBuffer.allocateDirect(capacity);
+      first = buffer.asReadOnlyBuffer();
+      second = buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Calls back for the record at an offset in the buffer.
+     *
+     * @return the offset of the next record.
+     */
+    int dispatch(final int offset) throws RocksDBException {
+      final byte type = buffer.get(offset);
+      final int columnFamilyId = buffer.getInt(offset + 1);
+      final int firstLength = buffer.getInt(offset + 5);
+      final int secondLength = buffer.getInt(offset + 9);
+      final int firstOffset = offset + RECORD_HEADER_SIZE;
+      final int secondOffset = firstOffset + firstLength;
+      final int nextOffset = secondOffset + secondLength;
+      first.limit(secondOffset).position(firstOffset);
+      second.limit(nextOffset).position(secondOffset);
+      switch (type) {
+        case PUT:
+          put(columnFamilyId, first, second);
+          break;
+        case MERGE:
+          merge(columnFamilyId, first, second);
+          break;
+        case DELETE:
+          delete(columnFamilyId, first);
+          break;
+        case SINGLE_DELETE:
+          singleDelete(columnFamilyId, first);
+          break;
+        case DELETE_RANGE:
+          deleteRange(columnFamilyId, first, second);
+          break;
+        case LOG_DATA:
+          logData(first);
+          break;
+        case PUT_BLOB_INDEX:
+          putBlobIndex(columnFamilyId, first, second);
+          break;
+        case MARK_BEGIN_PREPARE:
+          markBeginPrepare();
+          break;
+        case MARK_END_PREPARE:
+          markEndPrepare(first);
+          break;
+        case MARK_NOOP:
+          markNoop(columnFamilyId != 0);
+          break;
+        case MARK_ROLLBACK:
+          markRollback(first);
+          break;
+        case MARK_COMMIT:
+          markCommit(first);
+          break;
+        case MARK_COMMIT_WITH_TIMESTAMP:
+          markCommitWithTimestamp(first, second);
+          break;
+        default:
+          throw new IllegalStateException("Unknown record type: " + type);
+      }
+      return nextOffset;
+    }
+  }
+
   /**
    * A structure for describing the save point in the Write Batch.
    */
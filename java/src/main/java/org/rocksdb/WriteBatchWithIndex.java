@@ -292,6 +292,154 @@ public class WriteBatchWithIndex extends AbstractWriteBatch {
         options.nativeHandle_, key, key.length);
   }
 
+  /**
+   * Similar to {@link RocksDB#get(ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)}
+   * but will also read writes from this batch.
+   * <p>
+   * See {@link #getFromBatchAndDB(RocksDB, ColumnFamilyHandle, ReadOptions, byte[])}.
+   *
+   * @param db The Rocks database
+   * @param columnFamilyHandle The column family to retrieve the value from
+   * @param options The read options to use
+   * @param key the key to retrieve the value. It is using position and limit.
+   *     Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value.
+   *     It is using position and limit. Limit is set according to value size.
+   *     Supports direct buffer only.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException if the value for the key cannot be read
+   */
+  public int getFromBatchAndDB(final RocksDB db, final ColumnFamilyHandle columnFamilyHandle,
+      final ReadOptions options, final ByteBuffer key, final ByteBuffer value)
+      throws RocksDBException {
+    return getFromBatchAndDB(db, columnFamilyHandle.nativeHandle_, options, key, value);
+  }
+
+  /**
+   * Similar to {@link RocksDB#get(ReadOptions, ByteBuffer, ByteBuffer)} but
+   * will also read writes from this batch.
+   * <p>
+   * See {@link #getFromBatchAndDB(RocksDB, ReadOptions, byte[])}.
+   *
+   * @param db The Rocks database
+   * @param options The read options to use
+   * @param key the key to retrieve the value. It is using position and limit.
+   *     Supports direct buffer only.
+   * @param value the out-value to receive the retrieved value.
+   *     It is using position and limit. Limit is set according to value size.
+   *     Supports direct buffer only.
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException if the value for the key cannot be read
+   */
+  public int getFromBatchAndDB(final RocksDB db, final ReadOptions options,
+      final ByteBuffer key, final ByteBuffer value) throws RocksDBException {
+    return getFromBatchAndDB(db, 0, options, key, value);
+  }
+
+  private int getFromBatchAndDB(final RocksDB db, final long cfHandle, final ReadOptions options,
+      final ByteBuffer key, final ByteBuffer value) throws RocksDBException {
+    assert key.isDirect() && value.isDirect();
+    final int result = getFromBatchAndDBDirect(nativeHandle_, db.nativeHandle_,
+        options.nativeHandle_, key, key.position(), key.remaining(), value, value.position(),
+        value.remaining(), cfHandle);
+    if (result != RocksDB.NOT_FOUND) {
+      value.limit(Math.min(value.limit(), value.position() + result));
+    }
+    key.position(key.limit());
+    return result;
+  }
+
+  /**
+   * Similar to
+   * {@link RocksDB#get(ColumnFamilyHandle, ReadOptions, byte[], int, int, byte[], int, int)}
+   * but will also read writes from this batch.
+   * <p>
+   * See {@link #getFromBatchAndDB(RocksDB, ColumnFamilyHandle, ReadOptions, byte[])}.
+   *
+   * @param db The Rocks database
+   * @param columnFamilyHandle The column family to retrieve the value from
+   * @param options The read options to use
+   * @param key the key to retrieve the value.
+   * @param keyOffset the offset of the "key" array to be used, must be
+   *     non-negative and no larger than "key".length
+   * @param keyLength the length of the "key" array to be used, must be
+   *     non-negative and no larger than ("key".length -  offset)
+   * @param value the out-value to receive the retrieved value.
+   * @param valueOffset the offset of the "value" array to be used, must be
+   *     non-negative and no longer than "value".length
+   * @param valueLength the length of the "value" array to be used, must be
+   *     non-negative and no larger than ("value".length -  offset)
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException if the value for the key cannot be read
+   */
+  public int getFromBatchAndDB(final RocksDB db, final ColumnFamilyHandle columnFamilyHandle,
+      final ReadOptions options, final byte[] key, final int keyOffset, final int keyLength,
+      final byte[] value, final int valueOffset, final int valueLength)
+      throws RocksDBException {
+    RocksDB.checkBounds(keyOffset, keyLength, key.length);
+    RocksDB.checkBounds(valueOffset, valueLength, value.length);
+    return getFromBatchAndDB(nativeHandle_, db.nativeHandle_, options.nativeHandle_, key,
+        keyOffset, keyLength, value, valueOffset, valueLength, columnFamilyHandle.nativeHandle_);
+  }
+
+  /**
+   * Similar to {@link RocksDB#get(ReadOptions, byte[], int, int, byte[], int, int)}
+   * but will also read writes from this batch.
+   * <p>
+   * See {@link #getFromBatchAndDB(RocksDB, ReadOptions, byte[])}.
+   *
+   * @param db The Rocks database
+   * @param options The read options to use
+   * @param key the key to retrieve the value.
+   * @param keyOffset the offset of the "key" array to be used, must be
+   *     non-negative and no larger than "key".length
+   * @param keyLength the length of the "key" array to be used, must be
+   *     non-negative and no larger than ("key".length -  offset)
+   * @param value the out-value to receive the retrieved value.
+   * @param valueOffset the offset of the "value" array to be used, must be
+   *     non-negative and no longer than "value".length
+   * @param valueLength the length of the "value" array to be used, must be
+   *     non-negative and no larger than ("value".length -  offset)
+   *
+   * @return The size of the actual value that matches the specified
+   *     {@code key} in byte.  If the return value is greater than the
+   *     length of {@code value}, then it indicates that the size of the
+   *     input buffer {@code value} is insufficient and partial result will
+   *     be returned.  RocksDB.NOT_FOUND will be returned if the value not
+   *     found.
+   *
+   * @throws RocksDBException if the value for the key cannot be read
+   */
+  public int getFromBatchAndDB(final RocksDB db, final ReadOptions options, final byte[] key,
+      final int keyOffset, final int keyLength, final byte[] value, final int valueOffset,
+      final int valueLength) throws RocksDBException {
+    RocksDB.checkBounds(keyOffset, keyLength, key.length);
+    RocksDB.checkBounds(valueOffset, valueLength, value.length);
+    return getFromBatchAndDB(nativeHandle_, db.nativeHandle_, options.nativeHandle_, key,
+        keyOffset, keyLength, value, valueOffset, valueLength, 0);
+  }
+
   @Override protected final native void disposeInternal(final long handle);
   @Override final native int count0(final long handle);
   @Override final native void put(final long handle, final byte[] key,
@@ -355,4 +503,12 @@ public class WriteBatchWithIndex extends AbstractWriteBatch {
   private native byte[] getFromBatchAndDB(final long handle,
       final long dbHandle, final long readOptHandle, final byte[] key,
       final int keyLen, final long cfHandle);
+  private native int getFromBatchAndDBDirect(final long handle, final long dbHandle,
+      final long readOptHandle, final ByteBuffer key, final int keyOffset, final int keyLength,
+      final ByteBuffer value, final int valueOffset, final int valueLength, final long cfHandle)
+      throws RocksDBException;
+  private native int getFromBatchAndDB(final long handle, final long dbHandle,
+      final long readOptHandle, final byte[] key, final int keyOffset, final int keyLength,
+      final byte[] value, final int valueOffset, final int valueLength, final long cfHandle)
+      throws RocksDBException;
 }
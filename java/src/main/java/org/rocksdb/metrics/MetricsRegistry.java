@@ -0,0 +1,67 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb.metrics;
+
+import java.util.Map;
+
+/**
+ * The destination of the metrics published by {@link RocksDBMetrics}.
+ * <p>
+ * Implementations adapt a metrics library such as Micrometer or
+ * OpenTelemetry, for example by returning a {@link Counter} which calls
+ * {@code io.micrometer.core.instrument.Counter#increment(double)} or
+ * {@code io.opentelemetry.api.metrics.LongCounter#add(long)}.
+ * <p>
+ * Metrics are created once, when a source is added to
+ * {@link RocksDBMetrics}, and then updated by every scrape, so the
+ * {@link Counter} and {@link Gauge} implementations should not allocate.
+ */
+public interface MetricsRegistry {
+  /**
+   * A monotonically increasing count.
+   */
+  interface Counter {
+    /**
+     * Increment the counter.
+     *
+     * @param amount the positive amount to increment by
+     */
+    void increment(final long amount);
+  }
+
+  /**
+   * A value which may go up and down.
+   */
+  interface Gauge {
+    /**
+     * Set the current value of the gauge.
+     *
+     * @param value the value
+     */
+    void set(final double value);
+  }
+
+  /**
+   * Create, or get the existing, counter with a name and tags.
+   *
+   * @param name the name of the counter, e.g. {@code rocksdb.block_cache_miss}
+   * @param tags the tags which identify the source of the counter
+   *
+   * @return the counter
+   */
+  Counter counter(final String name, final Map<String, String> tags);
+
+  /**
+   * Create, or get the existing, gauge with a name and tags.
+   *
+   * @param name the name of the gauge, e.g. {@code rocksdb.cur_size_all_mem_tables}
+   * @param tags the tags which identify the source of the gauge
+   *
+   * @return the gauge
+   */
+  Gauge gauge(final String name, final Map<String, String> tags);
+}
@@ -0,0 +1,400 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.HistogramType;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/**
+ * Publishes the tickers and histograms of {@link Statistics}, and the values
+ * of integer properties of databases, to a {@link MetricsRegistry}.
+ * <p>
+ * Each ticker is published as a counter named {@code rocksdb.} followed by
+ * the lower-case name of the {@link TickerType}. Each histogram is published
+ * as the gauges {@code .p50}, {@code .p95}, {@code .p99}, {@code .avg} and
+ * {@code .max}, and the counters {@code .count} and {@code .sum}, appended to
+ * the lower-case name of the {@link HistogramType}. Each property is
+ * published as a gauge named after the property with '-' replaced by '_',
+ * e.g. {@code rocksdb.cur_size_all_mem_tables}.
+ * <p>
+ * The metrics are created when a source is added, and every scrape then
+ * reads the statistics in bulk into reused arrays and updates the metrics,
+ * so that scraping does not allocate. Scrapes are either made periodically
+ * by a background thread, see {@link #start(long)}, or by calling
+ * {@link #scrape()}. A background scrape which fails does not stop the later
+ * scrapes, see {@link #getLastScrapeFailure()}.
+ * <p>
+ * A source must be removed before it is closed; once a remove method has
+ * returned, the source will no longer be accessed.
+ */
+public class RocksDBMetrics implements AutoCloseable {
+  /**
+   * The properties published by {@link #addProperties(RocksDB, Map)}.
+   */
+  public static final List<String> DEFAULT_PROPERTIES =
+      Collections.unmodifiableList(Arrays.asList("rocksdb.cur-size-all-mem-tables",
+          "rocksdb.estimate-pending-compaction-bytes", "rocksdb.block-cache-usage"));
+
+  private static final TickerType[] TICKER_TYPES = TickerType.values();
+  private static final HistogramType[] HISTOGRAM_TYPES = HistogramType.values();
+  private static final String[] HISTOGRAM_GAUGE_SUFFIXES = {".p50", ".p95", ".p99", ".avg", ".max"};
+  private static final int[] HISTOGRAM_GAUGE_OFFSETS = {Statistics.SNAPSHOT_HISTOGRAM_MEDIAN,
+      Statistics.SNAPSHOT_HISTOGRAM_PERCENTILE95, Statistics.SNAPSHOT_HISTOGRAM_PERCENTILE99,
+      Statistics.SNAPSHOT_HISTOGRAM_AVERAGE, Statistics.SNAPSHOT_HISTOGRAM_MAX};
+  private static final String[] HISTOGRAM_COUNTER_SUFFIXES = {".count", ".sum"};
+  private static final int[] HISTOGRAM_COUNTER_OFFSETS = {
+      Statistics.SNAPSHOT_HISTOGRAM_COUNT, Statistics.SNAPSHOT_HISTOGRAM_SUM};
+
+  private final MetricsRegistry registry;
+  private final List<StatisticsSource> statisticsSources = new ArrayList<>();
+  private final List<PropertiesSource> propertiesSources = new ArrayList<>();
+  private ScheduledExecutorService scraper;
+  private long scrapeFailures;
+  private RuntimeException lastScrapeFailure;
+
+  /**
+   * Construct a bridge which publishes to a registry.
+   *
+   * @param registry the registry to publish the metrics to
+   */
+  public RocksDBMetrics(final MetricsRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Publish all of the tickers and histograms of a statistics object.
+   *
+   * @param statistics the statistics
+   * @param tags the tags which identify the statistics, e.g. a database name
+   *
+   * @return this
+   */
+  public RocksDBMetrics addStatistics(final Statistics statistics, final Map<String, String> tags) {
+    return addStatistics(statistics, tags, EnumSet.allOf(TickerType.class),
+        EnumSet.allOf(HistogramType.class));
+  }
+
+  /**
+   * Publish some of the tickers and histograms of a statistics object.
+   *
+   * @param statistics the statistics
+   * @param tags the tags which identify the statistics, e.g. a database name
+   * @param tickerTypes the tickers to publish
+   * @param histogramTypes the histograms to publish
+   *
+   * @return this
+   */
+  public synchronized RocksDBMetrics addStatistics(final Statistics statistics,
+      final Map<String, String> tags, final EnumSet<TickerType> tickerTypes,
+      final EnumSet<HistogramType> histogramTypes) {
+    statisticsSources.add(new StatisticsSource(statistics, tags, tickerTypes, histogramTypes));
+    return this;
+  }
+
+  /**
+   * Stop publishing a statistics object.
+   *
+   * @param statistics the statistics
+   *
+   * @return true if the statistics were being published
+   */
+  public synchronized boolean removeStatistics(final Statistics statistics) {
+    for (final Iterator<StatisticsSource> it = statisticsSources.iterator(); it.hasNext();) {
+      if (it.next().statistics == statistics) {
+        it.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Publish the {@link #DEFAULT_PROPERTIES} of the default column family of
+   * a database.
+   *
+   * @param db the database
+   * @param tags the tags which identify the database
+   *
+   * @return this
+   */
+  public RocksDBMetrics addProperties(final RocksDB db, final Map<String, String> tags) {
+    return addProperties(db, null, tags, DEFAULT_PROPERTIES);
+  }
+
+  /**
+   * Publish integer properties of a column family of a database.
+   * <p>
+   * A property which cannot be read, for example because it is not an
+   * integer property, is no longer read after the first failure.
+   *
+   * @param db the database
+   * @param columnFamilyHandle the column family, or null for the default
+   *     column family
+   * @param tags the tags which identify the database and column family
+   * @param properties the names of the properties, e.g.
+   *     {@code rocksdb.estimate-num-keys}
+   *
+   * @return this
+   */
+  public synchronized RocksDBMetrics addProperties(final RocksDB db,
+      /* @Nullable */ final ColumnFamilyHandle columnFamilyHandle,
+      final Map<String, String> tags, final List<String> properties) {
+    propertiesSources.add(new PropertiesSource(db, columnFamilyHandle, tags, properties));
+    return this;
+  }
+
+  /**
+   * Stop publishing the properties of a database, for all of its column
+   * families.
+   *
+   * @param db the database
+   *
+   * @return true if properties of the database were being published
+   */
+  public synchronized boolean removeProperties(final RocksDB db) {
+    boolean removed = false;
+    for (final Iterator<PropertiesSource> it = propertiesSources.iterator(); it.hasNext();) {
+      if (it.next().db == db) {
+        it.remove();
+        removed = true;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Read every source and update its metrics.
+   */
+  public synchronized void scrape() {
+    // indexed loops, as scraping should not allocate
+    for (int i = 0; i < statisticsSources.size(); i++) {
+      statisticsSources.get(i).scrape();
+    }
+    for (int i = 0; i < propertiesSources.size(); i++) {
+      propertiesSources.get(i).scrape();
+    }
+  }
+
+  /**
+   * Start a background thread which scrapes periodically.
+   *
+   * @param intervalMillis the period between scrapes in milliseconds
+   *
+   * @throws IllegalStateException if already started
+   */
+  public synchronized void start(final long intervalMillis) {
+    if (scraper != null) {
+      throw new IllegalStateException("RocksDBMetrics is already started");
+    }
+    scraper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "rocksdb-metrics-scraper");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scraper.scheduleAtFixedRate(
+        this::backgroundScrape, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Get the number of background scrapes which have failed.
+   *
+   * @return the number of failed scrapes
+   */
+  public synchronized long getScrapeFailures() {
+    return scrapeFailures;
+  }
+
+  /**
+   * Get the exception of the most recent background scrape which failed.
+   *
+   * @return the exception, or null if no scrape has failed
+   */
+  public synchronized RuntimeException getLastScrapeFailure() {
+    return lastScrapeFailure;
+  }
+
+  private synchronized void backgroundScrape() {
+    // an exception escaping the task would cancel the later scrapes
+    try {
+      scrape();
+    } catch (final RuntimeException e) {
+      scrapeFailures++;
+      lastScrapeFailure = e;
+    }
+  }
+
+  /**
+   * Stop the background thread, if started, waiting for any scrape in
+   * progress to finish.
+   */
+  @Override
+  public void close() {
+    final ScheduledExecutorService stopping;
+    synchronized (this) {
+      stopping = scraper;
+      scraper = null;
+    }
+    if (stopping != null) {
+      stopping.shutdownNow();
+      try {
+        stopping.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static String metricName(final Enum<?> type) {
+    return "rocksdb." + type.name().toLowerCase(Locale.ROOT);
+  }
+
+  private final class StatisticsSource {
+    final Statistics statistics;
+    private final long[] tickers = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+    private final long[] tickerDeltas = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+    private final double[] histograms;
+    private final long[] histogramCounts;
+    // indexed by ordinal, null when not published
+    private final MetricsRegistry.Counter[] tickerCounters =
+        new MetricsRegistry.Counter[TICKER_TYPES.length];
+    private final MetricsRegistry.Gauge[] histogramGauges;
+    private final MetricsRegistry.Counter[] histogramCounters;
+    private final long[] histogramCounterValues;
+
+    StatisticsSource(final Statistics statistics, final Map<String, String> tags,
+        final EnumSet<TickerType> tickerTypes, final EnumSet<HistogramType> histogramTypes) {
+      this.statistics = statistics;
+      for (final TickerType tickerType : tickerTypes) {
+        if (tickerType != TickerType.TICKER_ENUM_MAX) {
+          tickerCounters[tickerType.ordinal()] = registry.counter(metricName(tickerType), tags);
+        }
+      }
+
+      final EnumSet<HistogramType> publishedHistogramTypes = EnumSet.copyOf(histogramTypes);
+      publishedHistogramTypes.remove(HistogramType.HISTOGRAM_ENUM_MAX);
+      if (publishedHistogramTypes.isEmpty()) {
+        histograms = null;
+        histogramCounts = null;
+        histogramGauges = null;
+        histogramCounters = null;
+        histogramCounterValues = null;
+      } else {
+        histograms = new double[Statistics.SNAPSHOT_HISTOGRAMS_LENGTH];
+        histogramCounts = new long[Statistics.SNAPSHOT_HISTOGRAM_COUNTS_LENGTH];
+        histogramGauges =
+            new MetricsRegistry.Gauge[HISTOGRAM_TYPES.length * HISTOGRAM_GAUGE_SUFFIXES.length];
+        histogramCounters =
+            new MetricsRegistry.Counter[HISTOGRAM_TYPES.length * HISTOGRAM_COUNTER_SUFFIXES.length];
+        histogramCounterValues = new long[histogramCounters.length];
+        for (final HistogramType histogramType : publishedHistogramTypes) {
+          final String name = metricName(histogramType);
+          for (int i = 0; i < HISTOGRAM_GAUGE_SUFFIXES.length; i++) {
+            histogramGauges[histogramType.ordinal() * HISTOGRAM_GAUGE_SUFFIXES.length + i] =
+                registry.gauge(name + HISTOGRAM_GAUGE_SUFFIXES[i], tags);
+          }
+          for (int i = 0; i < HISTOGRAM_COUNTER_SUFFIXES.length; i++) {
+            histogramCounters[histogramType.ordinal() * HISTOGRAM_COUNTER_SUFFIXES.length + i] =
+                registry.counter(name + HISTOGRAM_COUNTER_SUFFIXES[i], tags);
+          }
+        }
+      }
+
+      // counters start from the current counts
+      statistics.snapshotDelta(tickers, tickerDeltas, histograms, histogramCounts);
+      if (histograms != null) {
+        updateHistograms(false);
+      }
+    }
+
+    void scrape() {
+      if (statistics.snapshotDelta(tickers, tickerDeltas, histograms, histogramCounts) > 0) {
+        for (int i = 0; i < tickerCounters.length; i++) {
+          final long delta = tickerDeltas[i];
+          if (delta > 0 && tickerCounters[i] != null) {
+            tickerCounters[i].increment(delta);
+          }
+        }
+      }
+      if (histograms != null) {
+        updateHistograms(true);
+      }
+    }
+
+    private void updateHistograms(final boolean publish) {
+      for (int h = 0; h < HISTOGRAM_TYPES.length; h++) {
+        final int offset = h * Statistics.SNAPSHOT_HISTOGRAM_SIZE;
+        final int countsOffset = h * Statistics.SNAPSHOT_HISTOGRAM_COUNTS_SIZE;
+        for (int i = 0; i < HISTOGRAM_GAUGE_SUFFIXES.length; i++) {
+          final MetricsRegistry.Gauge gauge =
+              histogramGauges[h * HISTOGRAM_GAUGE_SUFFIXES.length + i];
+          if (gauge != null) {
+            gauge.set(histograms[offset + HISTOGRAM_GAUGE_OFFSETS[i]]);
+          }
+        }
+        for (int i = 0; i < HISTOGRAM_COUNTER_SUFFIXES.length; i++) {
+          final int index = h * HISTOGRAM_COUNTER_SUFFIXES.length + i;
+          final MetricsRegistry.Counter counter = histogramCounters[index];
+          if (counter != null) {
+            final long value = histogramCounts[countsOffset + HISTOGRAM_COUNTER_OFFSETS[i]];
+            final long delta = value - histogramCounterValues[index];
+            histogramCounterValues[index] = value;
+            if (publish && delta > 0) {
+              counter.increment(delta);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private final class PropertiesSource {
+    final RocksDB db;
+    private final ColumnFamilyHandle columnFamilyHandle;
+    private final String[] properties;
+    // null once a property has failed to be read
+    private final MetricsRegistry.Gauge[] gauges;
+
+    PropertiesSource(final RocksDB db, final ColumnFamilyHandle columnFamilyHandle,
+        final Map<String, String> tags, final List<String> properties) {
+      this.db = db;
+      this.columnFamilyHandle = columnFamilyHandle;
+      this.properties = properties.toArray(new String[0]);
+      this.gauges = new MetricsRegistry.Gauge[this.properties.length];
+      for (int i = 0; i < this.properties.length; i++) {
+        gauges[i] = registry.gauge(this.properties[i].replace('-', '_'), tags);
+      }
+    }
+
+    void scrape() {
+      for (int i = 0; i < properties.length; i++) {
+        if (gauges[i] == null) {
+          continue;
+        }
+        try {
+          gauges[i].set(db.getLongProperty(columnFamilyHandle, properties[i]));
+        } catch (final RocksDBException e) {
+          gauges[i] = null;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,227 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.rocksdb.AbstractCompactionFilter.Decision;
+import org.rocksdb.AbstractCompactionFilter.ValueType;
+
+public class AbstractJavaCompactionFilterTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  /**
+   * Removes values with the first byte 'r', upper-cases values with the
+   * first byte 'c', and keeps everything else.
+   */
+  private static class TestCompactionFilter extends AbstractJavaCompactionFilter {
+    final AtomicInteger calls = new AtomicInteger();
+    final boolean directNewValue;
+
+    TestCompactionFilter(final boolean directNewValue) {
+      this.directNewValue = directNewValue;
+    }
+
+    @Override
+    public String name() {
+      return "test.TestCompactionFilter";
+    }
+
+    @Override
+    public Decision filter(final int level, final ByteBuffer key, final ValueType valueType,
+        final ByteBuffer value, final NewValue newValue) {
+      calls.incrementAndGet();
+      if (!value.hasRemaining()) {
+        return Decision.KEEP;
+      }
+      switch (value.get(value.position())) {
+        case 'r':
+          return Decision.REMOVE;
+        case 'c':
+          final ByteBuffer upper = directNewValue
+              ? ByteBuffer.allocateDirect(value.remaining())
+              : ByteBuffer.allocate(value.remaining());
+          while (value.hasRemaining()) {
+            upper.put((byte) Character.toUpperCase(value.get()));
+          }
+          upper.flip();
+          newValue.set(upper);
+          return Decision.CHANGE_VALUE;
+        default:
+          return Decision.KEEP;
+      }
+    }
+  }
+
+  @Test
+  public void filter() throws RocksDBException, IOException {
+    for (final boolean directNewValue : new boolean[] {true, false}) {
+      try (final TestCompactionFilter compactionFilter = new TestCompactionFilter(directNewValue);
+           final Options options =
+               new Options().setCreateIfMissing(true).setCompactionFilter(compactionFilter);
+           final RocksDB db = RocksDB.open(options, dbFolder.newFolder().getAbsolutePath())) {
+        db.put("key1".getBytes(UTF_8), "keep".getBytes(UTF_8));
+        db.put("key2".getBytes(UTF_8), "remove".getBytes(UTF_8));
+        db.put("key3".getBytes(UTF_8), "change".getBytes(UTF_8));
+        db.compactRange();
+
+        assertThat(compactionFilter.calls.get()).isEqualTo(3);
+        assertThat(db.get("key1".getBytes(UTF_8))).isEqualTo("keep".getBytes(UTF_8));
+        assertThat(db.get("key2".getBytes(UTF_8))).isNull();
+        assertThat(db.get("key3".getBytes(UTF_8))).isEqualTo("CHANGE".getBytes(UTF_8));
+      }
+    }
+  }
+
+  @Test
+  public void filterLargeValues() throws RocksDBException {
+    // larger than the initial, and then the maximum, reused buffer size
+    final byte[] value1 = new byte[64 * 1024];
+    Arrays.fill(value1, (byte) 'c');
+    final byte[] value2 = new byte[2 * 1024 * 1024];
+    Arrays.fill(value2, (byte) 'r');
+    final byte[] value3 = new byte[2 * 1024 * 1024];
+    Arrays.fill(value3, (byte) 'c');
+    final byte[] upperValue1 = new byte[value1.length];
+    Arrays.fill(upperValue1, (byte) 'C');
+    final byte[] upperValue3 = new byte[value3.length];
+    Arrays.fill(upperValue3, (byte) 'C');
+
+    try (final TestCompactionFilter compactionFilter = new TestCompactionFilter(true);
+         final Options options =
+             new Options().setCreateIfMissing(true).setCompactionFilter(compactionFilter);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key1".getBytes(UTF_8), value1);
+      db.put("key2".getBytes(UTF_8), value2);
+      db.put("key3".getBytes(UTF_8), value3);
+      db.compactRange();
+
+      assertThat(db.get("key1".getBytes(UTF_8))).isEqualTo(upperValue1);
+      assertThat(db.get("key2".getBytes(UTF_8))).isNull();
+      assertThat(db.get("key3".getBytes(UTF_8))).isEqualTo(upperValue3);
+    }
+  }
+
+  @Test
+  public void filterMergeOperands() throws RocksDBException {
+    final AtomicInteger mergeOperands = new AtomicInteger();
+    try (final AbstractJavaCompactionFilter compactionFilter = new AbstractJavaCompactionFilter() {
+           @Override
+           public String name() {
+             return "test.MergeOperandCompactionFilter";
+           }
+
+           @Override
+           public Decision filter(final int level, final ByteBuffer key, final ValueType valueType,
+               final ByteBuffer value, final NewValue newValue) {
+             if (valueType == ValueType.MERGE_OPERAND) {
+               mergeOperands.incrementAndGet();
+               // drop operands starting with 'x'
+               if (value.get(value.position()) == 'x') {
+                 return Decision.REMOVE;
+               }
+             }
+             return Decision.KEEP;
+           }
+         };
+         final StringAppendOperator stringAppendOperator = new StringAppendOperator();
+         final Options options = new Options()
+                                     .setCreateIfMissing(true)
+                                     .setMergeOperator(stringAppendOperator)
+                                     .setCompactionFilter(compactionFilter);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true);
+         final CompactRangeOptions compactRangeOptions =
+             new CompactRangeOptions().setBottommostLevelCompaction(
+                 CompactRangeOptions.BottommostLevelCompaction.kForce)) {
+      // flush each operand separately, as a flush combines the operands
+      for (final String operand : new String[] {"a", "xb", "c"}) {
+        db.merge("key".getBytes(UTF_8), operand.getBytes(UTF_8));
+        db.flush(flushOptions);
+      }
+      db.compactRange(null, null, null, compactRangeOptions);
+
+      assertThat(mergeOperands.get()).isEqualTo(3);
+      assertThat(db.get("key".getBytes(UTF_8))).isEqualTo("a,c".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void filterNullDecision() throws RocksDBException {
+    final AtomicInteger calls = new AtomicInteger();
+    try (final AbstractJavaCompactionFilter compactionFilter = new AbstractJavaCompactionFilter() {
+           @Override
+           public String name() {
+             return "test.NullDecisionCompactionFilter";
+           }
+
+           @Override
+           public Decision filter(final int level, final ByteBuffer key, final ValueType valueType,
+               final ByteBuffer value, final NewValue newValue) {
+             calls.incrementAndGet();
+             return null;
+           }
+         };
+         final Options options =
+             new Options().setCreateIfMissing(true).setCompactionFilter(compactionFilter);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key".getBytes(UTF_8), "value".getBytes(UTF_8));
+      db.compactRange();
+
+      assertThat(calls.get()).isEqualTo(1);
+      assertThat(db.get("key".getBytes(UTF_8))).isEqualTo("value".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void filterFromFactory() throws RocksDBException {
+    final AtomicInteger created = new AtomicInteger();
+    try (final AbstractCompactionFilterFactory<TestCompactionFilter> factory =
+             new AbstractCompactionFilterFactory<TestCompactionFilter>() {
+               @Override
+               public TestCompactionFilter createCompactionFilter(
+                   final AbstractCompactionFilter.Context context) {
+                 created.incrementAndGet();
+                 return new TestCompactionFilter(false);
+               }
+
+               @Override
+               public String name() {
+                 return "test.TestCompactionFilterFactory";
+               }
+             };
+         final Options options =
+             new Options().setCreateIfMissing(true).setCompactionFilterFactory(factory);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.put("key1".getBytes(UTF_8), "remove".getBytes(UTF_8));
+      db.put("key2".getBytes(UTF_8), "change".getBytes(UTF_8));
+      db.flush(flushOptions);
+      db.put("key3".getBytes(UTF_8), "keep".getBytes(UTF_8));
+      db.flush(flushOptions);
+      db.compactRange();
+
+      assertThat(created.get()).isGreaterThanOrEqualTo(1);
+      assertThat(db.get("key1".getBytes(UTF_8))).isNull();
+      assertThat(db.get("key2".getBytes(UTF_8))).isEqualTo("CHANGE".getBytes(UTF_8));
+      assertThat(db.get("key3".getBytes(UTF_8))).isEqualTo("keep".getBytes(UTF_8));
+    }
+  }
+}
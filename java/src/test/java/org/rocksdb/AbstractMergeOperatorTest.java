@@ -0,0 +1,215 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AbstractMergeOperatorTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  /**
+   * Adds big-endian 64-bit counters, returning the sum in a reused
+   * thread-local direct buffer.
+   */
+  private static class CounterMergeOperator extends AbstractMergeOperator {
+    final AtomicInteger fullMerges = new AtomicInteger();
+    final AtomicInteger partialMerges = new AtomicInteger();
+    private final ThreadLocal<ByteBuffer> result =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(Long.BYTES));
+
+    CounterMergeOperator(final MergeOperatorOptions mergeOperatorOptions) {
+      super(mergeOperatorOptions);
+    }
+
+    @Override
+    public String name() {
+      return "test.CounterMergeOperator";
+    }
+
+    @Override
+    public ByteBuffer fullMerge(
+        final ByteBuffer key, final ByteBuffer existingValue, final List<ByteBuffer> operands) {
+      fullMerges.incrementAndGet();
+      long sum = existingValue == null ? 0 : existingValue.getLong(existingValue.position());
+      for (final ByteBuffer operand : operands) {
+        sum += operand.getLong(operand.position());
+      }
+      return toBuffer(sum);
+    }
+
+    @Override
+    public ByteBuffer partialMerge(
+        final ByteBuffer key, final ByteBuffer leftOperand, final ByteBuffer rightOperand) {
+      partialMerges.incrementAndGet();
+      return toBuffer(leftOperand.getLong(leftOperand.position())
+          + rightOperand.getLong(rightOperand.position()));
+    }
+
+    private ByteBuffer toBuffer(final long value) {
+      final ByteBuffer buffer = result.get();
+      buffer.clear();
+      buffer.putLong(value).flip();
+      return buffer;
+    }
+  }
+
+  private static byte[] longToBytes(final long value) {
+    return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+  }
+
+  private static long bytesToLong(final byte[] bytes) {
+    return ByteBuffer.wrap(bytes).getLong();
+  }
+
+  @Test
+  public void counterMergeAllSynchronisationTypes() throws RocksDBException, IOException {
+    for (final ReusedSynchronisationType type : ReusedSynchronisationType.values()) {
+      for (final int maxReusedBufferSize : new int[] {-1, 16, 64 * 1024}) {
+        counterMerge(new MergeOperatorOptions()
+                         .setReusedSynchronisationType(type)
+                         .setMaxReusedBufferSize(maxReusedBufferSize));
+      }
+    }
+  }
+
+  private void counterMerge(final MergeOperatorOptions mergeOperatorOptions)
+      throws RocksDBException, IOException {
+    try (final CounterMergeOperator mergeOperator =
+             new CounterMergeOperator(mergeOperatorOptions);
+         final Options options =
+             new Options().setCreateIfMissing(true).setMergeOperator(mergeOperator);
+         final RocksDB db = RocksDB.open(options, dbFolder.newFolder().getAbsolutePath())) {
+      final byte[] key = "counter".getBytes(UTF_8);
+      for (int i = 1; i <= 10; i++) {
+        db.merge(key, longToBytes(i));
+      }
+      assertThat(bytesToLong(db.get(key))).isEqualTo(55L);
+
+      db.put(key, longToBytes(100L));
+      db.merge(key, longToBytes(1L));
+      db.merge(key, longToBytes(2L));
+      assertThat(bytesToLong(db.get(key))).isEqualTo(103L);
+      assertThat(mergeOperator.fullMerges.get()).isGreaterThanOrEqualTo(2);
+    }
+  }
+
+  @Test
+  public void mergeDuringCompaction() throws RocksDBException {
+    try (final CounterMergeOperator mergeOperator =
+             new CounterMergeOperator(new MergeOperatorOptions());
+         final ColumnFamilyOptions cfOptions =
+             new ColumnFamilyOptions().setMergeOperator(mergeOperator);
+         final Options options = new Options(new DBOptions(), cfOptions).setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true);
+         // otherwise the files may just be moved to the bottommost level
+         final CompactRangeOptions compactRangeOptions =
+             new CompactRangeOptions().setBottommostLevelCompaction(
+                 CompactRangeOptions.BottommostLevelCompaction.kForce)) {
+      final byte[] key = "counter".getBytes(UTF_8);
+      for (int i = 0; i < 3; i++) {
+        db.merge(key, longToBytes(10L));
+        db.merge(key, longToBytes(5L));
+        db.flush(flushOptions);
+      }
+      db.compactRange(null, null, null, compactRangeOptions);
+      assertThat(mergeOperator.fullMerges.get()).isGreaterThanOrEqualTo(1);
+
+      final int fullMergesAfterCompaction = mergeOperator.fullMerges.get();
+      assertThat(bytesToLong(db.get(key))).isEqualTo(45L);
+      // the value was fully merged by compaction, so reading it needs no merge
+      assertThat(mergeOperator.fullMerges.get()).isEqualTo(fullMergesAfterCompaction);
+    }
+  }
+
+  @Test
+  public void appendWithHeapResult() throws RocksDBException {
+    final AbstractMergeOperator appendOperator = new AbstractMergeOperator() {
+      @Override
+      public String name() {
+        return "test.AppendMergeOperator";
+      }
+
+      @Override
+      public ByteBuffer fullMerge(
+          final ByteBuffer key, final ByteBuffer existingValue, final List<ByteBuffer> operands) {
+        int size = existingValue == null ? 0 : existingValue.remaining();
+        for (final ByteBuffer operand : operands) {
+          size += operand.remaining();
+        }
+        // a sliced heap buffer, to check array offsets are honoured
+        final ByteBuffer result = ByteBuffer.allocate(size + 4);
+        result.position(2);
+        final ByteBuffer slice = result.slice();
+        slice.limit(size);
+        if (existingValue != null) {
+          slice.put(existingValue);
+        }
+        for (final ByteBuffer operand : operands) {
+          slice.put(operand);
+        }
+        slice.flip();
+        return slice;
+      }
+    };
+
+    try (final AbstractMergeOperator mergeOperator = appendOperator;
+         final Options options =
+             new Options().setCreateIfMissing(true).setMergeOperator(mergeOperator);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.merge("key".getBytes(UTF_8), "aa".getBytes(UTF_8));
+      db.merge("key".getBytes(UTF_8), "bb".getBytes(UTF_8));
+      assertThat(db.get("key".getBytes(UTF_8))).isEqualTo("aabb".getBytes(UTF_8));
+
+      db.put("key2".getBytes(UTF_8), "x".getBytes(UTF_8));
+      db.merge("key2".getBytes(UTF_8), "y".getBytes(UTF_8));
+      assertThat(db.get("key2".getBytes(UTF_8))).isEqualTo("xy".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void failedMerge() throws RocksDBException {
+    try (final AbstractMergeOperator mergeOperator = new AbstractMergeOperator() {
+           @Override
+           public String name() {
+             return "test.FailingMergeOperator";
+           }
+
+           @Override
+           public ByteBuffer fullMerge(final ByteBuffer key, final ByteBuffer existingValue,
+               final List<ByteBuffer> operands) {
+             return null;
+           }
+         };
+         final Options options =
+             new Options().setCreateIfMissing(true).setMergeOperator(mergeOperator);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.merge("key".getBytes(UTF_8), "aa".getBytes(UTF_8));
+      try {
+        db.get("key".getBytes(UTF_8));
+        fail("Expected RocksDBException");
+      } catch (final RocksDBException e) {
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.Corruption);
+      }
+    }
+  }
+}
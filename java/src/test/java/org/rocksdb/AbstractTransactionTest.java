@@ -8,6 +8,7 @@ package org.rocksdb;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -300,6 +301,199 @@ public abstract class AbstractTransactionTest {
     }
   }
 
+  @Test
+  public void getByteBuffers() throws RocksDBException {
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ColumnFamilyHandle testCf = dbContainer.getTestColumnFamily();
+      putCommitted(dbContainer, testCf, "key1", "value1");
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        txn.put(testCf, "key2".getBytes(UTF_8), "value2".getBytes(UTF_8));
+
+        // read from the db, and from the batch of the transaction
+        assertThat(getDirect(txn, readOptions, testCf, "key1", 16)).isEqualTo("value1");
+        assertThat(getDirect(txn, readOptions, testCf, "key2", 16)).isEqualTo("value2");
+        assertThat(getDirect(txn, readOptions, testCf, "key3", 16)).isNull();
+
+        final ByteBuffer key = ByteBuffer.allocateDirect(16);
+        final ByteBuffer value = ByteBuffer.allocateDirect(4);
+        key.put("key2".getBytes(UTF_8)).flip();
+        assertThat(txn.get(testCf, readOptions, key, value)).isEqualTo(6);
+        assertThat(key.remaining()).isEqualTo(0);
+        assertThat(bufferToString(value)).isEqualTo("valu");
+
+        // the default column family
+        txn.put("key4".getBytes(UTF_8), "value4".getBytes(UTF_8));
+        key.clear();
+        key.put("key4".getBytes(UTF_8)).flip();
+        final ByteBuffer defaultValue = ByteBuffer.allocateDirect(16);
+        assertThat(txn.get(readOptions, key, defaultValue)).isEqualTo(6);
+        assertThat(bufferToString(defaultValue)).isEqualTo("value4");
+      }
+    }
+  }
+
+  @Test
+  public void getRegion() throws RocksDBException {
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ColumnFamilyHandle testCf = dbContainer.getTestColumnFamily();
+      putCommitted(dbContainer, testCf, "key1", "value1");
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        txn.put(testCf, "key2".getBytes(UTF_8), "value2".getBytes(UTF_8));
+
+        final byte[] keys = "xkey1key2key3".getBytes(UTF_8);
+        final byte[] value = new byte[10];
+        assertThat(txn.get(testCf, readOptions, keys, 1, 4, value, 2, 8)).isEqualTo(6);
+        assertThat(new String(value, 2, 6, UTF_8)).isEqualTo("value1");
+        assertThat(txn.get(testCf, readOptions, keys, 5, 4, value, 0, 3)).isEqualTo(6);
+        assertThat(new String(value, 0, 3, UTF_8)).isEqualTo("val");
+        assertThat(txn.get(testCf, readOptions, keys, 9, 4, value, 0, 10))
+            .isEqualTo(RocksDB.NOT_FOUND);
+        assertThat(txn.get(readOptions, keys, 1, 4, value, 0, 10)).isEqualTo(RocksDB.NOT_FOUND);
+      }
+    }
+  }
+
+  @Test
+  public void getForUpdateByteBuffers() throws RocksDBException {
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ColumnFamilyHandle testCf = dbContainer.getTestColumnFamily();
+      putCommitted(dbContainer, testCf, "key1", "value1");
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        final ByteBuffer key = ByteBuffer.allocateDirect(16);
+        final ByteBuffer value = ByteBuffer.allocateDirect(16);
+        key.put("key1".getBytes(UTF_8)).flip();
+        assertThat(txn.getForUpdate(readOptions, testCf, key, value, true)).isEqualTo(6);
+        assertThat(bufferToString(value)).isEqualTo("value1");
+        assertThat(txn.getNumKeys()).isEqualTo(1);
+
+        key.clear();
+        key.put("key2".getBytes(UTF_8)).flip();
+        value.clear();
+        assertThat(txn.getForUpdate(readOptions, key, value, true)).isEqualTo(RocksDB.NOT_FOUND);
+        assertThat(txn.getNumKeys()).isEqualTo(2);
+      }
+    }
+  }
+
+  @Test
+  public void getForUpdateRegion() throws RocksDBException {
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ColumnFamilyHandle testCf = dbContainer.getTestColumnFamily();
+      putCommitted(dbContainer, testCf, "key1", "value1");
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        final byte[] key = "xkey1".getBytes(UTF_8);
+        final byte[] value = new byte[10];
+        assertThat(txn.getForUpdate(readOptions, testCf, key, 1, 4, value, 1, 6, true))
+            .isEqualTo(6);
+        assertThat(new String(value, 1, 6, UTF_8)).isEqualTo("value1");
+        assertThat(txn.getForUpdate(readOptions, key, 1, 4, value, 0, 10, false))
+            .isEqualTo(RocksDB.NOT_FOUND);
+        assertThat(txn.getNumKeys()).isEqualTo(2);
+      }
+    }
+  }
+
+  @Test
+  public void multiGetByteBuffers() throws RocksDBException {
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ColumnFamilyHandle testCf = dbContainer.getTestColumnFamily();
+      putCommitted(dbContainer, testCf, "key1", "value1");
+      putCommitted(dbContainer, testCf, "key3", "value3");
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        txn.put(testCf, "key2".getBytes(UTF_8), "value2".getBytes(UTF_8));
+        txn.delete(testCf, "key3".getBytes(UTF_8));
+
+        final List<ByteBuffer> keys = new ArrayList<>();
+        final List<ByteBuffer> values = new ArrayList<>();
+        for (final String key : new String[] {"key1", "key2", "key3", "key4"}) {
+          final ByteBuffer keyBuffer = ByteBuffer.allocateDirect(16);
+          keyBuffer.put(key.getBytes(UTF_8)).flip();
+          keys.add(keyBuffer);
+          values.add(ByteBuffer.allocateDirect(16));
+        }
+        // a value larger than its buffer is truncated
+        values.set(1, ByteBuffer.allocateDirect(3));
+
+        final List<ByteBufferGetStatus> results =
+            txn.multiGetByteBuffers(readOptions, testCf, keys, values);
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).status.getCode()).isEqualTo(Status.Code.Ok);
+        assertThat(bufferToString(results.get(0).value)).isEqualTo("value1");
+        assertThat(results.get(1).status.getCode()).isEqualTo(Status.Code.Ok);
+        assertThat(results.get(1).requiredSize).isEqualTo(6);
+        assertThat(bufferToString(results.get(1).value)).isEqualTo("val");
+        assertThat(results.get(2).status.getCode()).isEqualTo(Status.Code.NotFound);
+        assertThat(results.get(3).status.getCode()).isEqualTo(Status.Code.NotFound);
+      }
+    }
+  }
+
+  @Test
+  public void multiGetForUpdateByteBuffers() throws RocksDBException {
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ColumnFamilyHandle testCf = dbContainer.getTestColumnFamily();
+      putCommitted(dbContainer, testCf, "key1", "value1");
+      putCommitted(dbContainer, testCf, "key3", "value3");
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        txn.put(testCf, "key2".getBytes(UTF_8), "value2".getBytes(UTF_8));
+
+        // the keys are locked in key order, whatever their order in the list
+        final List<ByteBuffer> keys = new ArrayList<>();
+        final List<ByteBuffer> values = new ArrayList<>();
+        for (final String key : new String[] {"key3", "key1", "key4", "key2", "key1"}) {
+          final ByteBuffer keyBuffer = ByteBuffer.allocateDirect(16);
+          keyBuffer.put(key.getBytes(UTF_8)).flip();
+          keys.add(keyBuffer);
+          values.add(ByteBuffer.allocateDirect(16));
+        }
+
+        final List<ByteBufferGetStatus> results =
+            txn.multiGetForUpdateByteBuffers(readOptions, testCf, keys, values, true);
+        assertThat(results).hasSize(5);
+        assertThat(bufferToString(results.get(0).value)).isEqualTo("value3");
+        assertThat(bufferToString(results.get(1).value)).isEqualTo("value1");
+        assertThat(results.get(2).status.getCode()).isEqualTo(Status.Code.NotFound);
+        assertThat(bufferToString(results.get(3).value)).isEqualTo("value2");
+        assertThat(bufferToString(results.get(4).value)).isEqualTo("value1");
+        // the keys read for update are tracked by the transaction once each
+        assertThat(txn.getNumKeys()).isEqualTo(4);
+      }
+    }
+  }
+
+  private static void putCommitted(final DBContainer dbContainer,
+      final ColumnFamilyHandle columnFamilyHandle, final String key, final String value)
+      throws RocksDBException {
+    try (final Transaction txn = dbContainer.beginTransaction()) {
+      txn.put(columnFamilyHandle, key.getBytes(UTF_8), value.getBytes(UTF_8));
+      txn.commit();
+    }
+  }
+
+  private static String getDirect(final Transaction txn, final ReadOptions readOptions,
+      final ColumnFamilyHandle columnFamilyHandle, final String key, final int valueCapacity)
+      throws RocksDBException {
+    final ByteBuffer keyBuffer = ByteBuffer.allocateDirect(key.length());
+    keyBuffer.put(key.getBytes(UTF_8)).flip();
+    final ByteBuffer valueBuffer = ByteBuffer.allocateDirect(valueCapacity);
+    if (txn.get(columnFamilyHandle, readOptions, keyBuffer, valueBuffer) == RocksDB.NOT_FOUND) {
+      return null;
+    }
+    return bufferToString(valueBuffer);
+  }
+
+  private static String bufferToString(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+
   @Test
   public void multiGetForUpdate_cf() throws RocksDBException {
     final byte[][] keys = new byte[][] {"key1".getBytes(UTF_8), "key2".getBytes(UTF_8)};
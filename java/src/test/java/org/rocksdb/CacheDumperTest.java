@@ -0,0 +1,164 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.File;
+import java.util.Arrays;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDumperTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Rule public TemporaryFolder dumpFolder = new TemporaryFolder();
+
+  private static final int KEYS = 1000;
+
+  private static byte[] value() {
+    final byte[] value = new byte[1024];
+    Arrays.fill(value, (byte) 'v');
+    return value;
+  }
+
+  private static Options options(final Cache blockCache, final Statistics statistics) {
+    return new Options()
+        .setCreateIfMissing(true)
+        .setStatistics(statistics)
+        .setTableFormatConfig(new BlockBasedTableConfig().setBlockCache(blockCache));
+  }
+
+  private static void readAll(final RocksDB db) throws RocksDBException {
+    final byte[] value = value();
+    for (int i = 0; i < KEYS; i++) {
+      assertThat(db.get(("key" + i).getBytes(UTF_8))).isEqualTo(value);
+    }
+  }
+
+  @Test
+  public void dumpOnCloseAndLoad() throws RocksDBException {
+    final String dbPath = dbFolder.getRoot().getAbsolutePath();
+    final File dumpFile = new File(dumpFolder.getRoot(), "cache.dump");
+
+    try (final SecondaryCache secondaryCache =
+             new CompressedSecondaryCache(8 * 1024 * 1024, CompressionType.NO_COMPRESSION);
+         final Cache blockCache =
+             new LRUCache(8 * 1024 * 1024, -1, false, 0.5, 0.0, secondaryCache);
+         final Statistics statistics = new Statistics();
+         final Options options = options(blockCache, statistics);
+         final RocksDB db = RocksDB.open(options, dbPath)) {
+      final byte[] value = value();
+      for (int i = 0; i < KEYS; i++) {
+        db.put(("key" + i).getBytes(UTF_8), value);
+      }
+      db.compactRange();
+      readAll(db);
+
+      db.setCacheDumper(new CacheDumper(blockCache, dumpFile.getAbsolutePath()));
+      db.closeE();
+      assertThat(dumpFile).exists();
+      assertThat(new File(dumpFile.getAbsolutePath() + ".tmp")).doesNotExist();
+    }
+
+    try (final CompressedSecondaryCache secondaryCache =
+             new CompressedSecondaryCache(8 * 1024 * 1024, CompressionType.NO_COMPRESSION);
+         final Cache blockCache =
+             new LRUCache(8 * 1024 * 1024, -1, false, 0.5, 0.0, secondaryCache);
+         final Statistics statistics = new Statistics()) {
+      assertThat(new CacheLoader(secondaryCache, dumpFile.getAbsolutePath()).load()).isTrue();
+
+      try (final Options options = options(blockCache, statistics);
+           final RocksDB db = RocksDB.open(options, dbPath)) {
+        readAll(db);
+        // the blocks are promoted from the loaded secondary cache, rather
+        // than read from the table files
+        assertThat(statistics.getTickerCount(TickerType.SECONDARY_CACHE_DATA_HITS))
+            .isGreaterThan(0);
+      }
+    }
+  }
+
+  @Test
+  public void closesDatabaseWhenDumpFails() throws RocksDBException {
+    final File dumpFile = new File(new File(dumpFolder.getRoot(), "missing"), "cache.dump");
+    try (final Cache blockCache = new LRUCache(1024 * 1024);
+         final Statistics statistics = new Statistics();
+         final Options options = options(blockCache, statistics);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key".getBytes(UTF_8), value());
+      db.setCacheDumper(new CacheDumper(blockCache, dumpFile.getAbsolutePath()));
+      try {
+        db.closeE();
+        fail("Expected the dump to fail");
+      } catch (final RocksDBException e) {
+        assertThat(db.isOwningHandle()).isFalse();
+      }
+      assertThat(dumpFile).doesNotExist();
+    }
+  }
+
+  @Test
+  public void dumpOnCloseOfTransactionDB() throws RocksDBException {
+    final File dumpFile = new File(dumpFolder.getRoot(), "cache.dump");
+    try (final Cache blockCache = new LRUCache(8 * 1024 * 1024);
+         final Statistics statistics = new Statistics();
+         final Options options = options(blockCache, statistics);
+         final TransactionDBOptions txnDbOptions = new TransactionDBOptions();
+         final TransactionDB txnDb =
+             TransactionDB.open(options, txnDbOptions, dbFolder.getRoot().getAbsolutePath())) {
+      final byte[] value = value();
+      for (int i = 0; i < KEYS; i++) {
+        txnDb.put(("key" + i).getBytes(UTF_8), value);
+      }
+      txnDb.compactRange();
+      readAll(txnDb);
+
+      txnDb.setCacheDumper(new CacheDumper(blockCache, dumpFile.getAbsolutePath()));
+      txnDb.closeE();
+      assertThat(txnDb.isOwningHandle()).isFalse();
+      assertThat(dumpFile).exists();
+    }
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void dumpOfClosedCache() throws RocksDBException {
+    final Cache blockCache = new LRUCache(1024 * 1024);
+    try (final Statistics statistics = new Statistics();
+         final Options options = options(blockCache, statistics);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      blockCache.close();
+      new CacheDumper(blockCache, new File(dumpFolder.getRoot(), "cache.dump").getAbsolutePath())
+          .dump(db);
+    }
+  }
+
+  @Test
+  public void loadWithoutDump() throws RocksDBException {
+    try (final CompressedSecondaryCache secondaryCache =
+             new CompressedSecondaryCache(1024 * 1024, CompressionType.NO_COMPRESSION)) {
+      final String dumpPath = new File(dumpFolder.getRoot(), "missing.dump").getAbsolutePath();
+      assertThat(new CacheLoader(secondaryCache, dumpPath).load()).isFalse();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void dumpWithoutDatabase() throws RocksDBException {
+    try (final Cache blockCache = new LRUCache(1024 * 1024)) {
+      new CacheDumper(blockCache, new File(dumpFolder.getRoot(), "cache.dump").getAbsolutePath())
+          .dump();
+    }
+  }
+}
@@ -0,0 +1,206 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class CacheTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(
+        new Object[] {"LRUCache", (Supplier<Cache>) () -> new LRUCache(1024 * 1024)},
+        // NOTE: a fixed size table, as an entry may not be found while an
+        // automatically sized table grows. The table is charged to the
+        // capacity, so it is sized to leave room for the entries.
+        new Object[] {"HyperClockCache",
+            (Supplier<Cache>) () -> new HyperClockCache(1024 * 1024, 256, 0, false)});
+  }
+
+  @Parameterized.Parameter(0) public String name;
+
+  @Parameterized.Parameter(1) public Supplier<Cache> cacheFactory;
+
+  private static byte[] bytes(final String s) {
+    return s.getBytes(UTF_8);
+  }
+
+  private static byte[] value(final CacheHandle handle) {
+    final ByteBuffer buffer = handle.getValue();
+    final byte[] value = new byte[buffer.remaining()];
+    buffer.get(value);
+    return value;
+  }
+
+  @Test
+  public void insertLookupErase() throws RocksDBException {
+    try (final Cache cache = cacheFactory.get()) {
+      assertThat(cache.lookup(bytes("key1"))).isNull();
+
+      cache.insert(bytes("key1"), bytes("value1"), 6);
+      final ByteBuffer directValue = ByteBuffer.allocateDirect(16);
+      directValue.put(bytes("value2")).flip();
+      cache.insert(bytes("key2"), directValue, 6);
+      assertThat(directValue.hasRemaining()).isFalse();
+      final ByteBuffer heapValue = ByteBuffer.wrap(bytes("xxvalue3"));
+      heapValue.position(2);
+      cache.insert(bytes("a much longer key than the sixteen bytes of a cache key"), heapValue, 6);
+      assertThat(cache.getUsage()).isGreaterThanOrEqualTo(18);
+
+      try (final CacheHandle handle = cache.lookup(bytes("key1"))) {
+        assertThat(handle.size()).isEqualTo(6);
+        assertThat(value(handle)).isEqualTo(bytes("value1"));
+        assertThat(handle.getValue().isReadOnly()).isTrue();
+        assertThat(cache.getPinnedUsage()).isGreaterThanOrEqualTo(6);
+      }
+      final CacheHandle handle2 = cache.lookup(bytes("key2"));
+      assertThat(value(handle2)).isEqualTo(bytes("value2"));
+      cache.release(handle2);
+      try (final CacheHandle handle3 =
+               cache.lookup(bytes("a much longer key than the sixteen bytes of a cache key"))) {
+        assertThat(value(handle3)).isEqualTo(bytes("value3"));
+      }
+
+      cache.insert(bytes("key1"), bytes("replaced"), 8);
+      try (final CacheHandle handle = cache.lookup(bytes("key1"))) {
+        assertThat(value(handle)).isEqualTo(bytes("replaced"));
+      }
+
+      cache.erase(bytes("key1"));
+      assertThat(cache.lookup(bytes("key1"))).isNull();
+      try (final CacheHandle handle = cache.lookup(bytes("key2"))) {
+        assertThat(handle).isNotNull();
+      }
+    }
+  }
+
+  @Test
+  public void erasedEntryIsValidUntilReleased() throws RocksDBException {
+    try (final Cache cache = cacheFactory.get()) {
+      cache.insert(bytes("key"), bytes("value"), 5);
+      try (final CacheHandle handle = cache.lookup(bytes("key"))) {
+        cache.erase(bytes("key"));
+        assertThat(cache.lookup(bytes("key"))).isNull();
+        assertThat(value(handle)).isEqualTo(bytes("value"));
+      }
+    }
+  }
+
+  @Test
+  public void handleOutlivesCache() throws RocksDBException {
+    final CacheHandle handle;
+    try (final Cache cache = cacheFactory.get()) {
+      cache.insert(bytes("key"), bytes("value"), 5);
+      handle = cache.lookup(bytes("key"));
+    }
+    try {
+      assertThat(value(handle)).isEqualTo(bytes("value"));
+    } finally {
+      handle.close();
+    }
+  }
+
+  @Test
+  public void concurrentReplace() throws Exception {
+    final int threads = 4;
+    final int inserts = 1000;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try (final Cache cache = cacheFactory.get()) {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        final byte[] value = bytes("value" + t);
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < inserts; i++) {
+            cache.insert(bytes("key"), value, value.length);
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+      try (final CacheHandle handle = cache.lookup(bytes("key"))) {
+        assertThat(handle).isNotNull();
+      }
+      cache.erase(bytes("key"));
+      assertThat(cache.lookup(bytes("key"))).isNull();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void evictsToCapacity() throws RocksDBException {
+    try (final Cache cache = cacheFactory.get()) {
+      final byte[] value = new byte[1024];
+      for (int i = 0; i < 4096; i++) {
+        cache.insert(bytes("key" + i), value, value.length);
+      }
+      assertThat(cache.getUsage()).isLessThanOrEqualTo(2 * 1024 * 1024);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeCharge() throws RocksDBException {
+    try (final Cache cache = cacheFactory.get()) {
+      cache.insert(bytes("key"), bytes("value"), -1);
+    }
+  }
+
+  @Test
+  public void concurrentAccess() throws Exception {
+    final int threads = 4;
+    final int keys = 1000;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try (final Cache cache = cacheFactory.get()) {
+      final List<Future<Integer>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        final int thread = t;
+        futures.add(executor.submit(() -> {
+          int hits = 0;
+          for (int i = 0; i < keys; i++) {
+            final byte[] key = bytes("key" + thread + "-" + i);
+            cache.insert(key, key, key.length);
+            try (final CacheHandle handle = cache.lookup(key)) {
+              if (handle != null) {
+                assertThat(value(handle)).isEqualTo(key);
+                hits++;
+              }
+            }
+          }
+          return hits;
+        }));
+      }
+      int hits = 0;
+      for (final Future<Integer> future : futures) {
+        hits += future.get();
+      }
+      assertThat(hits).isEqualTo(threads * keys);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -719,4 +719,28 @@ public class ColumnFamilyOptionsTest {
       assertThat(options.memtableMaxRangeDeletions()).isEqualTo(val);
     }
   }
+
+  @Test
+  public void rowCacheMode() {
+    try (final ColumnFamilyOptions options = new ColumnFamilyOptions()) {
+      assertThat(options.rowCacheMode()).isEqualTo(RowCacheMode.ENABLED);
+      for (final RowCacheMode rowCacheMode : RowCacheMode.values()) {
+        assertThat(options.setRowCacheMode(rowCacheMode)).isEqualTo(options);
+        assertThat(options.rowCacheMode()).isEqualTo(rowCacheMode);
+      }
+    }
+  }
+
+  @Test
+  public void dedicatedRowCache() {
+    try (final ColumnFamilyOptions options = new ColumnFamilyOptions();
+         final Cache rowCache = new LRUCache(1000)) {
+      assertThat(options.dedicatedRowCache()).isNull();
+      assertThat(options.setDedicatedRowCache(rowCache)).isEqualTo(options);
+      assertThat(options.dedicatedRowCache()).isEqualTo(rowCache);
+      try (final ColumnFamilyOptions copy = new ColumnFamilyOptions(options)) {
+        assertThat(copy.dedicatedRowCache()).isEqualTo(rowCache);
+      }
+    }
+  }
 }
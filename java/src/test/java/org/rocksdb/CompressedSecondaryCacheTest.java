@@ -0,0 +1,85 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CompressedSecondaryCacheTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void newCompressedSecondaryCache() throws RocksDBException {
+    try (final CompressedSecondaryCache defaultSecondaryCache =
+             new CompressedSecondaryCache(1024 * 1024)) {
+      assertThat(defaultSecondaryCache.getCompressionType())
+          .isEqualTo(CompressionType.LZ4_COMPRESSION);
+    }
+
+    final byte[] value = new byte[1024];
+    try (final CompressedSecondaryCache secondaryCache =
+             new CompressedSecondaryCache(1024 * 1024, CompressionType.NO_COMPRESSION);
+         final Cache lruCache = new LRUCache(64 * 1024, 0, false, 0.5, 0.0, secondaryCache);
+         final Cache hyperClockCache =
+             new HyperClockCache(64 * 1024, 1024, 0, false, secondaryCache)) {
+      assertThat(secondaryCache.getCompressionType()).isEqualTo(CompressionType.NO_COMPRESSION);
+
+      // the primary caches charge their entries as configured
+      for (final Cache cache : new Cache[] {lruCache, hyperClockCache}) {
+        final long usage = cache.getUsage();
+        cache.insert("key".getBytes(UTF_8), value, value.length);
+        assertThat(cache.getUsage()).isGreaterThanOrEqualTo(usage + value.length);
+        try (final CacheHandle handle = cache.lookup("key".getBytes(UTF_8))) {
+          assertThat(handle).isNotNull();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void secondaryCacheHits() throws RocksDBException {
+    final byte[] value = new byte[1024];
+    Arrays.fill(value, (byte) 'v');
+    try (final SecondaryCache secondaryCache =
+             new CompressedSecondaryCache(4 * 1024 * 1024, CompressionType.NO_COMPRESSION);
+         final Cache blockCache = new LRUCache(64 * 1024, 0, false, 0.5, 0.0, secondaryCache);
+         final Statistics statistics = new Statistics();
+         final Options options =
+             new Options()
+                 .setCreateIfMissing(true)
+                 .setStatistics(statistics)
+                 .setTableFormatConfig(new BlockBasedTableConfig().setBlockCache(blockCache));
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < 1000; i++) {
+        db.put(("key" + i).getBytes(UTF_8), value);
+      }
+      db.compactRange();
+
+      // blocks are admitted to the secondary cache on their second eviction
+      // from the primary cache
+      for (int pass = 0; pass < 3; pass++) {
+        for (int i = 0; i < 1000; i++) {
+          assertThat(db.get(("key" + i).getBytes(UTF_8))).isEqualTo(value);
+        }
+      }
+
+      assertThat(statistics.getTickerCount(TickerType.SECONDARY_CACHE_HITS)).isGreaterThan(0);
+      assertThat(statistics.getTickerCount(TickerType.SECONDARY_CACHE_DATA_HITS))
+          .isGreaterThan(0);
+    }
+  }
+}
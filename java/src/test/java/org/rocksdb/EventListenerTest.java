@@ -10,7 +10,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.AbstractObjectAssert;
 import org.assertj.core.api.ObjectAssert;
 import org.junit.ClassRule;
@@ -534,6 +537,81 @@ public class EventListenerTest {
         .isEqualTo(expected.contains(EnabledEventCallback.ON_ERROR_RECOVERY_COMPLETED));
   }
 
+  @Test
+  public void asyncDelivery() throws RocksDBException, InterruptedException {
+    final CountDownLatch flushCompleted = new CountDownLatch(1);
+    final Set<String> callbackThreads = Collections.synchronizedSet(new HashSet<>());
+    final AtomicInteger fileWrites = new AtomicInteger();
+    try (final AbstractEventListener listener =
+             new AbstractEventListener(1024, EnabledEventCallback.ON_FLUSH_COMPLETED,
+                 EnabledEventCallback.ON_FILE_WRITE_FINISH) {
+               @Override
+               public void onFlushCompleted(final RocksDB db, final FlushJobInfo flushJobInfo) {
+                 assertThat(flushJobInfo.getColumnFamilyName()).isNotNull();
+                 assertThat(flushJobInfo.getFlushReason()).isEqualTo(FlushReason.MANUAL_FLUSH);
+                 callbackThreads.add(Thread.currentThread().getName());
+                 flushCompleted.countDown();
+               }
+
+               @Override
+               public void onFileWriteFinish(final FileOperationInfo fileOperationInfo) {
+                 assertThat(fileOperationInfo.getPath()).isNotEmpty();
+                 assertThat(fileOperationInfo.getStatus().getCode()).isEqualTo(Status.Code.Ok);
+                 callbackThreads.add(Thread.currentThread().getName());
+                 fileWrites.incrementAndGet();
+               }
+             };
+         final Options opt = new Options().setCreateIfMissing(true).setListeners(
+             Collections.singletonList(listener));
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions = new FlushOptions()) {
+      db.put("testKey".getBytes(), "testValue".getBytes());
+      db.flush(flushOptions);
+      assertThat(flushCompleted.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(fileWrites.get()).isGreaterThan(0);
+      assertThat(callbackThreads).containsOnly("rocksdb-event-listener-dispatcher");
+      assertThat(listener.getDroppedEventCount()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void asyncDeliveryDropsEventsWhenFull() throws RocksDBException, InterruptedException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger fileWrites = new AtomicInteger();
+    try (final AbstractEventListener listener =
+             new AbstractEventListener(2, EnabledEventCallback.ON_FILE_WRITE_FINISH) {
+               @Override
+               public void onFileWriteFinish(final FileOperationInfo fileOperationInfo) {
+                 try {
+                   release.await();
+                 } catch (final InterruptedException e) {
+                   Thread.currentThread().interrupt();
+                 }
+                 fileWrites.incrementAndGet();
+               }
+             }) {
+      try (final Options opt = new Options().setCreateIfMissing(true).setListeners(
+               Collections.singletonList(listener));
+           final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath())) {
+        // the blocked listener must not block writes
+        for (int i = 0; i < 100; i++) {
+          db.put(("testKey" + i).getBytes(), "testValue".getBytes());
+        }
+        assertThat(listener.getDroppedEventCount()).isGreaterThan(0);
+      }
+      release.countDown();
+    }
+    // closing the listener delivers the queued events
+    assertThat(fileWrites.get()).isBetween(1, 3);
+  }
+
+  @Test
+  public void synchronousListenerHasNoDroppedEvents() {
+    try (final AbstractEventListener listener = new AbstractEventListener() {}) {
+      assertThat(listener.getDroppedEventCount()).isEqualTo(0);
+    }
+  }
+
   /**
    * Members are volatile as they may be written
    * and read by different threads.
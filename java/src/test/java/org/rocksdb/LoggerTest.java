@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -232,4 +236,154 @@ public class LoggerTest {
       }
     }
   }
+
+  @Test
+  public void bufferedLogger() throws RocksDBException {
+    final AtomicInteger logMessageCounter = new AtomicInteger();
+    final Set<String> logThreads = Collections.synchronizedSet(new HashSet<>());
+    final Logger logger;
+    try (final Options options =
+             new Options().setInfoLogLevel(InfoLogLevel.DEBUG_LEVEL).setCreateIfMissing(true)) {
+      logger = new Logger(options, 64 * 1024) {
+        @Override
+        protected void log(final InfoLogLevel infoLogLevel, final String logMsg) {
+          assertThat(infoLogLevel).isNotNull();
+          assertThat(logMsg).isNotNull();
+          assertThat(logMsg.length()).isGreaterThan(0);
+          logThreads.add(Thread.currentThread().getName());
+          logMessageCounter.incrementAndGet();
+        }
+      };
+      options.setLogger(logger);
+
+      try (final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        assertThat(db).isNotNull();
+      }
+    }
+
+    // closing the logger delivers the buffered messages
+    logger.close();
+    assertThat(logMessageCounter.get()).isGreaterThan(0);
+    assertThat(logThreads).containsOnly("rocksdb-logger-drainer");
+  }
+
+  @Test
+  public void bufferedLoggerSubclassFieldsInitialized() throws RocksDBException {
+    final Logger logger;
+    try (final Options options =
+             new Options().setInfoLogLevel(InfoLogLevel.DEBUG_LEVEL).setCreateIfMissing(true)) {
+      logger = new Logger(options, 64 * 1024) {
+        // the drainer must not call log() before this is initialized
+        private final AtomicInteger logMessageCounter = new AtomicInteger();
+
+        @Override
+        protected void log(final InfoLogLevel infoLogLevel, final String logMsg) {
+          logMessageCounter.incrementAndGet();
+        }
+      };
+      options.setLogger(logger);
+
+      try (final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        assertThat(db).isNotNull();
+      }
+    }
+    logger.close();
+  }
+
+  @Test
+  public void bufferedLoggerClosedByDrainer() throws RocksDBException, InterruptedException {
+    final CountDownLatch closed = new CountDownLatch(1);
+    final Logger[] logger = new Logger[1];
+    try (final Options options =
+             new Options().setInfoLogLevel(InfoLogLevel.DEBUG_LEVEL).setCreateIfMissing(true)) {
+      logger[0] = new Logger(options, 64 * 1024) {
+        @Override
+        protected void log(final InfoLogLevel infoLogLevel, final String logMsg) {
+          close();
+          closed.countDown();
+        }
+      };
+      options.setLogger(logger[0]);
+
+      try (final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        db.put("key".getBytes(), "value".getBytes());
+        assertThat(closed.await(10, TimeUnit.SECONDS)).isTrue();
+      }
+    }
+    assertThat(logger[0].isOwningHandle()).isFalse();
+  }
+
+  @Test
+  public void bufferedLoggerFiltersLevel() throws RocksDBException {
+    final AtomicInteger logMessageCounter = new AtomicInteger();
+    final Logger logger;
+    try (final DBOptions options =
+             new DBOptions().setInfoLogLevel(InfoLogLevel.WARN_LEVEL).setCreateIfMissing(true)) {
+      logger = new Logger(options, 1024) {
+        @Override
+        protected void log(final InfoLogLevel infoLogLevel, final String logMsg) {
+          logMessageCounter.incrementAndGet();
+        }
+      };
+      options.setLogger(logger);
+
+      final List<ColumnFamilyDescriptor> cfDescriptors =
+          Collections.singletonList(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY));
+      final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+      try (final RocksDB db = RocksDB.open(
+               options, dbFolder.getRoot().getAbsolutePath(), cfDescriptors, cfHandles)) {
+        for (final ColumnFamilyHandle cfHandle : cfHandles) {
+          cfHandle.close();
+        }
+      }
+    }
+
+    logger.close();
+    assertThat(logMessageCounter.get()).isEqualTo(0);
+    assertThat(logger.getDroppedMessageCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void bufferedLoggerDropsMessagesWhenFull() throws RocksDBException {
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger logMessageCounter = new AtomicInteger();
+    final Logger logger;
+    try (final Options options =
+             new Options().setInfoLogLevel(InfoLogLevel.DEBUG_LEVEL).setCreateIfMissing(true)) {
+      logger = new Logger(options, 2) {
+        @Override
+        protected void log(final InfoLogLevel infoLogLevel, final String logMsg) {
+          try {
+            release.await();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          logMessageCounter.incrementAndGet();
+        }
+      };
+      options.setLogger(logger);
+
+      // the blocked logger must not block opening the database
+      try (final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+        assertThat(logger.getDroppedMessageCount()).isGreaterThan(0);
+      }
+    }
+
+    release.countDown();
+    logger.close();
+    // at most a drained batch of the queue capacity, and a full queue
+    assertThat(logMessageCounter.get()).isBetween(1, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void bufferedLoggerCapacity() {
+    try (final Options options = new Options()) {
+      new Logger(options, 0) {
+        @Override
+        protected void log(final InfoLogLevel infoLogLevel, final String logMsg) {
+          // no-op
+        }
+      };
+    }
+  }
 }
@@ -133,4 +133,81 @@ public class MemoryUtilTest {
     }
   }
 
+  /**
+   * Test MemoryUtil.getMemoryUsageReport with a column family which is used,
+   * and one which is not
+   */
+  @Test
+  public void getMemoryUsageReport() throws RocksDBException {
+    try (final Cache cache = new LRUCache(8 * 1024 * 1024);
+         final WriteBufferManager writeBufferManager = new WriteBufferManager(1024 * 1024, cache);
+         final DBOptions options = new DBOptions()
+                                       .setCreateIfMissing(true)
+                                       .setCreateMissingColumnFamilies(true)
+                                       .setWriteBufferManager(writeBufferManager);
+         final ColumnFamilyOptions cfOptions = new ColumnFamilyOptions().setTableFormatConfig(
+             new BlockBasedTableConfig().setBlockCache(cache));
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      final List<ColumnFamilyDescriptor> cfDescriptors =
+          Arrays.asList(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, cfOptions),
+              new ColumnFamilyDescriptor("busy".getBytes(StandardCharsets.UTF_8), cfOptions));
+      final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+      try (final RocksDB db = RocksDB.open(
+               options, dbFolder1.getRoot().getAbsolutePath(), cfDescriptors, cfHandles)) {
+        try {
+          final ColumnFamilyHandle busy = cfHandles.get(1);
+          for (int i = 0; i < 100; i++) {
+            db.put(busy, ("key" + i).getBytes(StandardCharsets.UTF_8), value);
+          }
+          db.flush(flushOptions, busy);
+          assertThat(db.get(busy, "key1".getBytes(StandardCharsets.UTF_8))).isEqualTo(value);
+          db.put(busy, key, value);
+
+          final MemoryUsageReport report = MemoryUtil.getMemoryUsageReport(db, cfHandles);
+          assertThat(report.getWriteBufferManagerBufferSize()).isEqualTo(1024 * 1024);
+          assertThat(report.getWriteBufferManagerMemoryUsage()).isGreaterThan(0);
+
+          assertThat(report.getColumnFamilyCount()).isEqualTo(2);
+          assertThat(report.getColumnFamilyName(0)).isEqualTo(RocksDB.DEFAULT_COLUMN_FAMILY);
+          assertThat(report.getColumnFamilyName(1)).isEqualTo("busy".getBytes(StandardCharsets.UTF_8));
+
+          for (int cf = 0; cf < 2; cf++) {
+            final ColumnFamilyHandle cfHandle = cfHandles.get(cf);
+            assertThat(report.getActiveMemTableUsage(cf))
+                .isEqualTo(db.getLongProperty(cfHandle, "rocksdb.cur-size-active-mem-table"));
+            assertThat(report.getImmutableMemTablesUsage(cf)).isEqualTo(0);
+            assertThat(report.getTableReadersUsage(cf))
+                .isEqualTo(db.getLongProperty(cfHandle, TABLE_READERS));
+            assertThat(report.getBlockCacheCapacity(cf)).isEqualTo(8 * 1024 * 1024);
+            assertThat(report.getBlockCacheUsage(cf)).isGreaterThan(0);
+            assertThat(report.getBlobCacheUsage(cf)).isEqualTo(0);
+          }
+          assertThat(report.getTableReadersUsage(0)).isEqualTo(0);
+          assertThat(report.getTableReadersUsage(1)).isGreaterThan(0);
+          assertThat(report.getColumnFamilyUsage(1)).isGreaterThan(report.getColumnFamilyUsage(0));
+
+          // the block cache is shared, and holds the reservations of the
+          // write buffer manager
+          assertThat(report.getBlockCacheCharge(1, CacheEntryRole.DATA_BLOCK)).isGreaterThan(0);
+          assertThat(report.getBlockCacheCharge(0, CacheEntryRole.WRITE_BUFFER)).isGreaterThan(0);
+          assertThat(report.getBlockCacheCharge(0, CacheEntryRole.DATA_BLOCK))
+              .isEqualTo(report.getBlockCacheCharge(1, CacheEntryRole.DATA_BLOCK));
+        } finally {
+          for (final ColumnFamilyHandle cfHandle : cfHandles) {
+            cfHandle.close();
+          }
+        }
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void getMemoryUsageReportUnknownColumnFamily() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder1.getRoot().getAbsolutePath())) {
+      final MemoryUsageReport report =
+          MemoryUtil.getMemoryUsageReport(db, Collections.singletonList(db.getDefaultColumnFamily()));
+      report.getActiveMemTableUsage(1);
+    }
+  }
 }
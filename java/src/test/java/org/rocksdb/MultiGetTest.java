@@ -10,7 +10,10 @@ import static org.assertj.core.api.Assertions.fail;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
@@ -527,4 +530,103 @@ public class MultiGetTest {
       }
     }
   }
+
+  @Test
+  public void getAsync() throws RocksDBException, InterruptedException, ExecutionException {
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key1".getBytes(), "value1ForKey1".getBytes());
+
+      final CompletableFuture<byte[]> value1;
+      final CompletableFuture<byte[]> missing;
+      try (final ReadOptions readOptions = new ReadOptions()) {
+        value1 = db.getAsync(readOptions, "key1".getBytes());
+        missing = db.getAsync(readOptions, "keyX".getBytes());
+      }
+      assertThat(value1.get()).isEqualTo("value1ForKey1".getBytes());
+      assertThat(missing.get()).isNull();
+    }
+  }
+
+  @Test
+  public void getAsyncCopiesKeys()
+      throws RocksDBException, InterruptedException, ExecutionException {
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key1".getBytes(), "value1ForKey1".getBytes());
+
+      final byte[] key = "key1".getBytes();
+      final List<byte[]> keys = new ArrayList<>(Collections.singletonList("key1".getBytes()));
+      final CompletableFuture<byte[]> value;
+      final CompletableFuture<List<byte[]>> values;
+      try (final ReadOptions readOptions = new ReadOptions()) {
+        value = db.getAsync(readOptions, key);
+        values = db.multiGetAsync(readOptions, keys);
+      }
+      // modifying the keys does not change the pending reads
+      Arrays.fill(key, (byte) 'X');
+      Arrays.fill(keys.get(0), (byte) 'X');
+      keys.clear();
+
+      assertThat(value.get()).isEqualTo("value1ForKey1".getBytes());
+      assertThat(values.get()).containsExactly("value1ForKey1".getBytes());
+    }
+  }
+
+  @Test
+  public void putNThenMultiGetAsync()
+      throws RocksDBException, InterruptedException, ExecutionException {
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath())) {
+      db.put("key1".getBytes(), "value1ForKey1".getBytes());
+      db.put("key2".getBytes(), "value2ForKey2".getBytes());
+      try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      db.put("key3".getBytes(), "value3ForKey3".getBytes());
+      final List<byte[]> keys = Arrays.asList(
+          "key1".getBytes(), "key2".getBytes(), "key3".getBytes(), "keyX".getBytes());
+
+      try (final ReadOptions readOptions = new ReadOptions().setOptimizeMultigetForIo(true)) {
+        final List<byte[]> values = db.multiGetAsync(readOptions, keys).get();
+        assertThat(values.size()).isEqualTo(keys.size());
+        assertThat(values.get(0)).isEqualTo("value1ForKey1".getBytes());
+        assertThat(values.get(1)).isEqualTo("value2ForKey2".getBytes());
+        assertThat(values.get(2)).isEqualTo("value3ForKey3".getBytes());
+        assertThat(values.get(3)).isNull();
+      }
+    }
+  }
+
+  @Test
+  public void putNThenMultiGetAsyncWithCF()
+      throws RocksDBException, InterruptedException, ExecutionException {
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("cf0".getBytes()))) {
+      db.put(cf, "key1".getBytes(), "value1ForKey1".getBytes());
+      db.put(cf, "key2".getBytes(), "value2ForKey2".getBytes());
+      final List<byte[]> keys = Arrays.asList("key1".getBytes(), "key2".getBytes());
+      final List<ColumnFamilyHandle> cfs = Arrays.asList(cf, cf);
+
+      try (final ReadOptions readOptions = new ReadOptions()) {
+        final List<byte[]> values = db.multiGetAsync(readOptions, cfs, keys).get();
+        assertThat(values.get(0)).isEqualTo("value1ForKey1".getBytes());
+        assertThat(values.get(1)).isEqualTo("value2ForKey2".getBytes());
+        assertThat(db.getAsync(readOptions, cf, "key2".getBytes()).get())
+            .isEqualTo("value2ForKey2".getBytes());
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void multiGetAsyncMismatchedColumnFamilies() throws RocksDBException {
+    try (final Options opt = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt, dbFolder.getRoot().getAbsolutePath());
+         final ReadOptions readOptions = new ReadOptions()) {
+      db.multiGetAsync(readOptions, Arrays.asList(db.getDefaultColumnFamily()),
+          Arrays.asList("key1".getBytes(), "key2".getBytes()));
+    }
+  }
 }
@@ -889,6 +889,29 @@ public class OptionsTest {
     }
   }
 
+  @Test
+  public void rowCacheMode() {
+    try (final Options opt = new Options()) {
+      assertThat(opt.rowCacheMode()).isEqualTo(RowCacheMode.ENABLED);
+      for (final RowCacheMode rowCacheMode : RowCacheMode.values()) {
+        opt.setRowCacheMode(rowCacheMode);
+        assertThat(opt.rowCacheMode()).isEqualTo(rowCacheMode);
+      }
+    }
+  }
+
+  @Test
+  public void dedicatedRowCache() {
+    try (final Options opt = new Options()) {
+      assertThat(opt.dedicatedRowCache()).isNull();
+
+      try (final Cache lruCache = new LRUCache(1000)) {
+        opt.setDedicatedRowCache(lruCache);
+        assertThat(opt.dedicatedRowCache()).isEqualTo(lruCache);
+      }
+    }
+  }
+
   @Test
   public void walFilter() {
     try (final Options opt = new Options()) {
@@ -0,0 +1,125 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PerfContextSamplerTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void sample() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      final PerfContextSampler sampler =
+          new PerfContextSampler(db, 4, PerfLevel.ENABLE_TIME_EXCEPT_FOR_MUTEX);
+      db.setPerfLevel(PerfLevel.DISABLE);
+
+      for (int i = 0; i < 100; i++) {
+        final boolean sampled = sampler.begin();
+        try {
+          db.put(("key" + i).getBytes(UTF_8), ("value" + i).getBytes(UTF_8));
+        } finally {
+          if (sampled) {
+            assertThat(db.getPerfLevel()).isEqualTo(PerfLevel.ENABLE_TIME_EXCEPT_FOR_MUTEX);
+            sampler.end("put");
+          }
+        }
+        assertThat(db.getPerfLevel()).isEqualTo(PerfLevel.DISABLE);
+      }
+      db.compactRange();
+      for (int i = 0; i < 100; i++) {
+        final boolean sampled = sampler.begin();
+        try {
+          assertThat(db.get(("key" + i).getBytes(UTF_8))).isNotNull();
+        } finally {
+          if (sampled) {
+            sampler.end("get");
+          }
+        }
+      }
+
+      assertThat(sampler.getOperations()).containsOnly("put", "get");
+      // the sampler counts operations from the first call to begin() on a thread
+      assertThat(sampler.getSampleCount("put")).isEqualTo(25);
+      assertThat(sampler.getSampleCount("get")).isEqualTo(25);
+      assertThat(sampler.getSampleCount("delete")).isEqualTo(0);
+
+      final PerfContextSampler.Histogram writeMemtableTime =
+          sampler.getHistogram("put", PerfContextMetric.WRITE_MEMTABLE_TIME);
+      assertThat(writeMemtableTime.getCount()).isEqualTo(25);
+      assertThat(writeMemtableTime.getSum()).isGreaterThan(0);
+      assertThat(writeMemtableTime.getMax()).isGreaterThan(0);
+      assertThat(writeMemtableTime.getAverage()).isGreaterThan(0);
+      assertThat(writeMemtableTime.getMedian())
+          .isGreaterThan(0)
+          .isLessThanOrEqualTo(writeMemtableTime.getMax());
+      assertThat(writeMemtableTime.getPercentile(100)).isEqualTo(writeMemtableTime.getMax());
+
+      final PerfContextSampler.Histogram getWriteMemtableTime =
+          sampler.getHistogram("get", PerfContextMetric.WRITE_MEMTABLE_TIME);
+      assertThat(getWriteMemtableTime.getSum()).isEqualTo(0);
+      assertThat(getWriteMemtableTime.getMedian()).isEqualTo(0);
+
+      final PerfContextSampler.Histogram getFromOutputFiles =
+          sampler.getHistogram("get", PerfContextMetric.GET_FROM_OUTPUT_FILES_TIME);
+      assertThat(getFromOutputFiles.getSum()).isGreaterThan(0);
+
+      final Set<String> operations = sampler.getOperations();
+      sampler.reset();
+      assertThat(sampler.getOperations()).isEmpty();
+      assertThat(operations).containsOnly("put", "get");
+      assertThat(sampler.getHistogram("get", PerfContextMetric.GET_FROM_OUTPUT_FILES_TIME)
+                     .getCount())
+          .isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void histogramPercentiles() {
+    final long[] buckets = new long[PerfContextSampler.Histogram.BUCKETS];
+    long sum = 0;
+    for (long value = 1; value <= 1000; value++) {
+      buckets[PerfContextSampler.Histogram.bucket(value)]++;
+      sum += value;
+    }
+    final PerfContextSampler.Histogram histogram =
+        new PerfContextSampler.Histogram(1000, sum, 1000, buckets);
+    assertThat(histogram.getAverage()).isEqualTo(500.5);
+    // estimates are within a factor of two
+    assertThat(histogram.getMedian()).isBetween(250L, 1000L);
+    assertThat(histogram.getPercentile(99)).isBetween(495L, 1000L);
+    assertThat(histogram.getPercentile(0)).isEqualTo(1);
+    assertThat(histogram.getPercentile(100)).isEqualTo(1000);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void endWithoutBegin() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      new PerfContextSampler(db, 1, PerfLevel.ENABLE_COUNT).end("get");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void disabledPerfLevel() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      new PerfContextSampler(db, 1, PerfLevel.DISABLE);
+    }
+  }
+}
@@ -99,4 +99,38 @@ public class PerfContextTest {
     assertThat(ctx).isNotNull();
     assertThat(ctx.getPostProcessTime()).isGreaterThan(0);
   }
+
+  @Test
+  public void testExport() throws RocksDBException {
+    db.setPerfLevel(PerfLevel.ENABLE_TIME_AND_CPU_TIME_EXCEPT_FOR_MUTEX);
+    db.put("key".getBytes(), "value".getBytes());
+    db.compactRange();
+    PerfContext ctx = db.getPerfContext();
+    ctx.reset();
+    ctx.resetIOStats();
+    db.get("key".getBytes());
+
+    final long[] values = new long[PerfContextMetric.COUNT];
+    ctx.export(values);
+    assertThat(values[PerfContextMetric.BLOCK_READ_COUNT.ordinal()])
+        .isEqualTo(ctx.getBlockReadCount());
+    assertThat(values[PerfContextMetric.BLOCK_READ_CPU_TIME.ordinal()])
+        .isEqualTo(ctx.getBlockReadCpuTime());
+    assertThat(values[PerfContextMetric.GET_POST_PROCESS_TIME.ordinal()])
+        .isEqualTo(ctx.getPostProcessTime())
+        .isGreaterThan(0);
+    assertThat(values[PerfContextMetric.NUMBER_ASYNC_SEEK.ordinal()])
+        .isEqualTo(ctx.getNumberAsyncSeek());
+    assertThat(values[PerfContextMetric.IO_STATS_BYTES_READ.ordinal()]).isGreaterThan(0);
+
+    ctx.reset();
+    ctx.resetIOStats();
+    ctx.export(values);
+    assertThat(values).containsOnly(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testExportTooShort() {
+    db.getPerfContext().export(new long[PerfContextMetric.COUNT - 1]);
+  }
 }
@@ -0,0 +1,95 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PinnedValueTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void getPinnedFromMemtable() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ReadOptions readOptions = new ReadOptions()) {
+      db.put("key1".getBytes(UTF_8), "value1".getBytes(UTF_8));
+
+      try (final PinnedValue pinnedValue = db.getPinned(readOptions, "key1".getBytes(UTF_8))) {
+        assertThat(pinnedValue).isNotNull();
+        assertThat(pinnedValue.size()).isEqualTo(6);
+        assertThat(toArray(pinnedValue.getValue())).isEqualTo("value1".getBytes(UTF_8));
+      }
+    }
+  }
+
+  @Test
+  public void getPinnedFromBlockCache() throws RocksDBException {
+    final byte[] largeValue = new byte[32 * 1024];
+    Arrays.fill(largeValue, (byte) 'x');
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ReadOptions readOptions = new ReadOptions();
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.put("key1".getBytes(UTF_8), largeValue);
+      db.flush(flushOptions);
+
+      try (final PinnedValue pinnedValue = db.getPinned(readOptions, "key1".getBytes(UTF_8))) {
+        assertThat(pinnedValue).isNotNull();
+        final ByteBuffer value = pinnedValue.getValue();
+        assertThat(value.isDirect()).isTrue();
+        assertThat(value.isReadOnly()).isTrue();
+        assertThat(toArray(value)).isEqualTo(largeValue);
+        // each view is independent
+        assertThat(pinnedValue.getValue().remaining()).isEqualTo(largeValue.length);
+      }
+    }
+  }
+
+  @Test
+  public void getPinnedColumnFamily() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("cf1".getBytes(UTF_8)));
+         final ReadOptions readOptions = new ReadOptions()) {
+      db.put(cf, "key1".getBytes(UTF_8), "value1".getBytes(UTF_8));
+
+      assertThat(db.getPinned(readOptions, "key1".getBytes(UTF_8))).isNull();
+      try (final PinnedValue pinnedValue =
+               db.getPinned(readOptions, cf, "key1".getBytes(UTF_8))) {
+        assertThat(toArray(pinnedValue.getValue())).isEqualTo("value1".getBytes(UTF_8));
+      }
+    }
+  }
+
+  @Test
+  public void getPinnedNotFound() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ReadOptions readOptions = new ReadOptions()) {
+      assertThat(db.getPinned(readOptions, "missing".getBytes(UTF_8))).isNull();
+    }
+  }
+
+  private static byte[] toArray(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+}
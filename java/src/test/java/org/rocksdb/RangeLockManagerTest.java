@@ -0,0 +1,127 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RangeLockManagerTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void maxLockMemory() throws RocksDBException {
+    try (final RangeLockManager rangeLockManager = new RangeLockManager()) {
+      rangeLockManager.setMaxLockMemory(1024 * 1024);
+      assertThat(rangeLockManager.getMaxLockMemory()).isEqualTo(1024 * 1024);
+    }
+  }
+
+  @Test
+  public void rangeLock() throws RocksDBException {
+    try (final RangeLockManager rangeLockManager = new RangeLockManager();
+         final Options options = new Options().setCreateIfMissing(true);
+         final TransactionDBOptions txnDbOptions =
+             new TransactionDBOptions().setRangeLockManager(rangeLockManager);
+         final TransactionDB txnDb =
+             TransactionDB.open(options, txnDbOptions, dbFolder.getRoot().getAbsolutePath());
+         final WriteOptions writeOptions = new WriteOptions()) {
+      final ColumnFamilyHandle defaultCf = txnDb.getDefaultColumnFamily();
+      try (final Transaction txn1 = txnDb.beginTransaction(writeOptions);
+           final Transaction txn2 = txnDb.beginTransaction(writeOptions)) {
+        txn1.getRangeLock(defaultCf, bytes("a"), bytes("c"));
+
+        final List<TransactionDB.RangeLockInfo> rangeLocks = txnDb.getRangeLockStatusData();
+        assertThat(rangeLocks).hasSize(1);
+        final TransactionDB.RangeLockInfo rangeLock = rangeLocks.get(0);
+        assertThat(rangeLock.getColumnFamilyId()).isEqualTo(defaultCf.getID());
+        assertThat(rangeLock.getStart()).isEqualTo(bytes("a"));
+        assertThat(rangeLock.isStartInfSuffix()).isFalse();
+        assertThat(rangeLock.getEnd()).isEqualTo(bytes("c"));
+        assertThat(rangeLock.isEndInfSuffix()).isFalse();
+        assertThat(rangeLock.getTransactionIDs()).containsExactly(txn1.getID());
+        assertThat(rangeLock.isExclusive()).isTrue();
+
+        // NOTE: the keys of the range are locked by txn1
+        txn2.setLockTimeout(10);
+        try {
+          txn2.put(bytes("b"), bytes("value"));
+          fail("Expected a lock timeout for a key in a locked range");
+        } catch (final RocksDBException e) {
+          assertThat(e.getStatus().getCode()).isSameAs(Status.Code.TimedOut);
+        }
+        assertThat(rangeLockManager.getLockWaitCount()).isGreaterThan(0);
+        txn2.put(bytes("d"), bytes("value"));
+        assertThat(txnDb.getRangeLockStatusData()).hasSize(2);
+        assertThat(rangeLockManager.getCurrentLockMemory()).isGreaterThan(0);
+
+        txn1.commit();
+        txn2.put(bytes("b"), bytes("value"));
+        txn2.commit();
+      }
+      assertThat(txnDb.getRangeLockStatusData()).isEmpty();
+    }
+  }
+
+  @Test
+  public void prefixRangeLock() throws RocksDBException {
+    try (final RangeLockManager rangeLockManager = new RangeLockManager();
+         final Options options = new Options().setCreateIfMissing(true);
+         final TransactionDBOptions txnDbOptions =
+             new TransactionDBOptions().setRangeLockManager(rangeLockManager);
+         final TransactionDB txnDb =
+             TransactionDB.open(options, txnDbOptions, dbFolder.getRoot().getAbsolutePath());
+         final WriteOptions writeOptions = new WriteOptions()) {
+      final ColumnFamilyHandle defaultCf = txnDb.getDefaultColumnFamily();
+      try (final Transaction txn1 = txnDb.beginTransaction(writeOptions);
+           final Transaction txn2 = txnDb.beginTransaction(writeOptions)) {
+        // all of the keys prefixed by "p"
+        txn1.getRangeLock(defaultCf, bytes("p"), false, bytes("p"), true);
+
+        txn2.setLockTimeout(10);
+        try {
+          txn2.put(bytes("pq"), bytes("value"));
+          fail("Expected a lock timeout for a key in a locked prefix");
+        } catch (final RocksDBException e) {
+          assertThat(e.getStatus().getCode()).isSameAs(Status.Code.TimedOut);
+        }
+        txn2.put(bytes("q"), bytes("value"));
+      }
+    }
+  }
+
+  @Test
+  public void rangeLockNotSupportedByPointLockManager() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final TransactionDBOptions txnDbOptions = new TransactionDBOptions();
+         final TransactionDB txnDb =
+             TransactionDB.open(options, txnDbOptions, dbFolder.getRoot().getAbsolutePath());
+         final WriteOptions writeOptions = new WriteOptions();
+         final Transaction txn = txnDb.beginTransaction(writeOptions)) {
+      try {
+        txn.getRangeLock(txnDb.getDefaultColumnFamily(), bytes("a"), bytes("c"));
+        fail("Expected range locks to be unsupported");
+      } catch (final RocksDBException e) {
+        assertThat(e.getStatus().getCode()).isSameAs(Status.Code.NotSupported);
+      }
+      assertThat(txnDb.getRangeLockStatusData()).isEmpty();
+    }
+  }
+
+  private static byte[] bytes(final String s) {
+    return s.getBytes(UTF_8);
+  }
+}
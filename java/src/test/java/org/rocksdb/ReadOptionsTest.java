@@ -255,6 +255,24 @@ public class ReadOptionsTest {
     }
   }
 
+  @Test
+  public void asyncIo() {
+    try (final ReadOptions opt = new ReadOptions()) {
+      assertThat(opt.asyncIo()).isFalse();
+      opt.setAsyncIo(true);
+      assertThat(opt.asyncIo()).isTrue();
+    }
+  }
+
+  @Test
+  public void optimizeMultigetForIo() {
+    try (final ReadOptions opt = new ReadOptions()) {
+      assertThat(opt.optimizeMultigetForIo()).isTrue();
+      opt.setOptimizeMultigetForIo(false);
+      assertThat(opt.optimizeMultigetForIo()).isFalse();
+    }
+  }
+
   @Test
   public void failSetVerifyChecksumUninitialized() {
     try (final ReadOptions readOptions =
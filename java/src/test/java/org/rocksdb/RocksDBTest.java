@@ -245,6 +245,166 @@ public class RocksDBTest {
     }
   }
 
+  @Test
+  public void putGetByteBufferDefaultOptions() throws RocksDBException {
+    try (final ColumnFamilyOptions cfOpts = new ColumnFamilyOptions();
+         final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("new_cf".getBytes(), cfOpts))) {
+      final ByteBuffer key = ByteBuffer.allocateDirect(12);
+      final ByteBuffer value = ByteBuffer.allocateDirect(12);
+      key.put("key1".getBytes()).flip();
+      value.put("value1".getBytes()).flip();
+
+      db.put(key, value);
+      assertThat(key.position()).isEqualTo(4);
+      assertThat(value.position()).isEqualTo(6);
+
+      key.flip();
+      value.clear();
+      assertThat(db.get(key, value)).isEqualTo(6);
+      assertThat(value.limit()).isEqualTo(6);
+      final byte[] tmp = new byte[6];
+      value.get(tmp);
+      assertThat(tmp).isEqualTo("value1".getBytes());
+      assertThat(db.get("key1".getBytes())).isEqualTo("value1".getBytes());
+
+      key.clear();
+      key.put("key2".getBytes()).flip();
+      value.clear();
+      value.put("value2".getBytes()).flip();
+      db.put(cf, key, value);
+
+      key.flip();
+      value.clear();
+      assertThat(db.get(cf, key, value)).isEqualTo(6);
+      value.get(tmp);
+      assertThat(tmp).isEqualTo("value2".getBytes());
+
+      key.flip();
+      value.clear();
+      assertThat(db.get(key, value)).isEqualTo(RocksDB.NOT_FOUND);
+    }
+  }
+
+  @Test
+  public void putGetLong() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("new_cf".getBytes()));
+         final ReadOptions readOptions = new ReadOptions();
+         final WriteOptions writeOptions = new WriteOptions()) {
+      final ByteBuffer value = ByteBuffer.allocateDirect(12);
+      value.put("value1".getBytes()).flip();
+      db.putLong(cf, 42L, value);
+      assertThat(value.position()).isEqualTo(6);
+
+      value.clear();
+      value.put("value2".getBytes()).flip();
+      db.putLong(writeOptions, null, -1L, value);
+
+      value.clear();
+      assertThat(db.getLong(cf, 42L, value)).isEqualTo(6);
+      assertThat(value.limit()).isEqualTo(6);
+      final byte[] tmp = new byte[6];
+      value.get(tmp);
+      assertThat(tmp).isEqualTo("value1".getBytes());
+
+      value.clear();
+      assertThat(db.getLong(readOptions, null, -1L, value)).isEqualTo(6);
+      value.get(tmp);
+      assertThat(tmp).isEqualTo("value2".getBytes());
+
+      value.clear();
+      assertThat(db.getLong(null, 42L, value)).isEqualTo(RocksDB.NOT_FOUND);
+
+      // keys are stored big-endian, as by ByteBuffer#putLong
+      final byte[] encodedKey = ByteBuffer.allocate(8).putLong(42L).array();
+      assertThat(db.get(cf, encodedKey)).isEqualTo("value1".getBytes());
+    }
+  }
+
+  @Test
+  public void putLongBytewiseOrder() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      final long[] keys = {1L << 40, 255L, 0L, 256L, 1L};
+      final ByteBuffer value = ByteBuffer.allocateDirect(8);
+      for (final long key : keys) {
+        value.clear();
+        value.putLong(key).flip();
+        db.putLong(null, key, value);
+      }
+
+      final List<Long> iterated = new ArrayList<>();
+      try (final RocksIterator iterator = db.newIterator()) {
+        for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+          iterated.add(ByteBuffer.wrap(iterator.key()).getLong());
+        }
+      }
+      assertThat(iterated).containsExactly(0L, 1L, 255L, 256L, 1L << 40);
+    }
+  }
+
+  @Test
+  public void multiGetLongs() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("new_cf".getBytes()));
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ByteBuffer value = ByteBuffer.allocateDirect(12);
+      for (long key = 0; key < 10; key += 2) {
+        value.clear();
+        value.put(("value" + key).getBytes()).flip();
+        db.putLong(cf, key, value);
+      }
+
+      final List<byte[]> values = db.multiGetLongs(readOptions, cf, new long[] {0L, 1L, 4L, 8L});
+      assertThat(values.size()).isEqualTo(4);
+      assertThat(values.get(0)).isEqualTo("value0".getBytes());
+      assertThat(values.get(1)).isNull();
+      assertThat(values.get(2)).isEqualTo("value4".getBytes());
+      assertThat(values.get(3)).isEqualTo("value8".getBytes());
+
+      assertThat(db.multiGetLongs(null, new long[] {0L})).containsExactly((byte[]) null);
+      assertThat(db.multiGetLongs(cf, new long[0])).isEmpty();
+    }
+  }
+
+  @Test
+  public void multiGetLongValues() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("new_cf".getBytes()));
+         final ReadOptions readOptions = new ReadOptions()) {
+      final ByteBuffer value = ByteBuffer.allocateDirect(8);
+      for (long key = 0; key < 10; key += 2) {
+        value.clear();
+        value.putLong(-key * 1000).flip();
+        db.putLong(cf, key, value);
+      }
+
+      assertThat(db.multiGetLongValues(readOptions, cf, new long[] {0L, 1L, 4L, 8L}, 7L))
+          .containsExactly(0L, 7L, -4000L, -8000L);
+      assertThat(db.multiGetLongValues(null, new long[] {0L}, -1L)).containsExactly(-1L);
+      assertThat(db.multiGetLongValues(cf, new long[0], -1L)).isEmpty();
+
+      value.clear();
+      value.putInt(1).flip();
+      db.putLong(cf, 1L, value);
+      try {
+        db.multiGetLongValues(cf, new long[] {0L, 1L}, -1L);
+        fail("multiGetLongValues should throw for a value which is not 8 bytes");
+      } catch (final RocksDBException e) {
+        assertThat(e.getMessage()).contains("not an 8 byte long");
+      }
+    }
+  }
+
   private static Segment sliceSegment(final String key) {
     final ByteBuffer rawKey = ByteBuffer.allocate(key.length() + 4);
     rawKey.put((byte)0);
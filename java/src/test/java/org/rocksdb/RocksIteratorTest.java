@@ -5,6 +5,7 @@
 package org.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -236,6 +237,110 @@ public class RocksIteratorTest {
     }
   }
 
+  @Test
+  public void rocksIteratorNextBatch() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < 10; i++) {
+        db.put(("key" + i).getBytes(), ("value" + i).getBytes());
+      }
+
+      try (final RocksIterator iterator = db.newIterator()) {
+        // each entry is 4 + 4 + 4 + 6 bytes
+        final ByteBuffer out = ByteBuffer.allocateDirect(18 * 4);
+
+        iterator.seekToFirst();
+        IteratorBatchResult result = iterator.nextBatch(out, 3);
+        assertThat(result).isEqualTo(new IteratorBatchResult(3, false));
+        assertThat(out.position()).isEqualTo(18 * 3);
+        out.flip();
+        validateBatch(out, 0, 1, 2);
+        assertThat(iterator.key()).isEqualTo("key3".getBytes());
+
+        out.clear();
+        result = iterator.nextBatch(out, 100);
+        assertThat(result).isEqualTo(new IteratorBatchResult(4, true));
+        out.flip();
+        validateBatch(out, 3, 4, 5, 6);
+        assertThat(iterator.key()).isEqualTo("key7".getBytes());
+
+        out.clear();
+        result = iterator.nextBatch(out, 100);
+        assertThat(result).isEqualTo(new IteratorBatchResult(3, false));
+        out.flip();
+        validateBatch(out, 7, 8, 9);
+        assertThat(iterator.isValid()).isFalse();
+
+        out.clear();
+        assertThat(iterator.nextBatch(out, 100)).isEqualTo(new IteratorBatchResult(0, false));
+        assertThat(out.position()).isEqualTo(0);
+      }
+    }
+  }
+
+  @Test
+  public void rocksIteratorNextBatchFailure() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ReadOptions readOptions =
+             new ReadOptions().setReadTier(ReadTier.BLOCK_CACHE_TIER)) {
+      db.put("key0".getBytes(), "value0".getBytes());
+      db.compactRange();
+
+      // the blocks of the table file are not in the block cache
+      try (final RocksIterator iterator = db.newIterator(readOptions)) {
+        final ByteBuffer out = ByteBuffer.allocateDirect(1024);
+        iterator.seekToFirst();
+        assertThat(iterator.isValid()).isFalse();
+        try {
+          iterator.nextBatch(out, 100);
+          fail("nextBatch should throw for a failed iterator");
+        } catch (final RocksDBException e) {
+          assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.Incomplete);
+        }
+        assertThat(out.position()).isEqualTo(0);
+      }
+    }
+  }
+
+  @Test
+  public void rocksIteratorPrevBatch() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < 5; i++) {
+        db.put(("key" + i).getBytes(), ("value" + i).getBytes());
+      }
+
+      try (final RocksIterator iterator = db.newIterator()) {
+        final ByteBuffer out = ByteBuffer.allocateDirect(17);
+
+        iterator.seekToLast();
+        // too small for a single entry
+        assertThat(iterator.prevBatch(out, 10)).isEqualTo(new IteratorBatchResult(0, true));
+        assertThat(out.position()).isEqualTo(0);
+        assertThat(iterator.key()).isEqualTo("key4".getBytes());
+
+        final ByteBuffer bigOut = ByteBuffer.allocateDirect(1024);
+        assertThat(iterator.prevBatch(bigOut, 10)).isEqualTo(new IteratorBatchResult(5, false));
+        bigOut.flip();
+        validateBatch(bigOut, 4, 3, 2, 1, 0);
+        assertThat(iterator.isValid()).isFalse();
+      }
+    }
+  }
+
+  private static void validateBatch(final ByteBuffer batch, final int... expectedIndexes) {
+    for (final int i : expectedIndexes) {
+      final byte[] key = new byte[batch.getInt()];
+      batch.get(key);
+      assertThat(key).isEqualTo(("key" + i).getBytes());
+      final byte[] value = new byte[batch.getInt()];
+      batch.get(value);
+      assertThat(value).isEqualTo(("value" + i).getBytes());
+    }
+    assertThat(batch.hasRemaining()).isFalse();
+  }
+
   @Test
   public void rocksIteratorReleaseAfterCfClose() throws RocksDBException {
     try (final Options options = new Options()
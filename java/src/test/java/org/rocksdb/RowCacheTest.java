@@ -0,0 +1,130 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RowCacheTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  private static final String HITS = "rocksdb.row-cache-hits";
+  private static final String MISSES = "rocksdb.row-cache-misses";
+
+  @Test
+  public void rowCacheModePerColumnFamily() throws RocksDBException {
+    try (final Cache rowCache = new LRUCache(1 << 20);
+         final DBOptions options = new DBOptions()
+                                       .setCreateIfMissing(true)
+                                       .setCreateMissingColumnFamilies(true)
+                                       .setRowCache(rowCache);
+         final ColumnFamilyOptions enabledOptions = new ColumnFamilyOptions();
+         final ColumnFamilyOptions missesOptions =
+             new ColumnFamilyOptions().setRowCacheMode(RowCacheMode.CACHE_MISSES);
+         final ColumnFamilyOptions disabledOptions =
+             new ColumnFamilyOptions().setRowCacheMode(RowCacheMode.DISABLED)) {
+      final List<ColumnFamilyDescriptor> descriptors =
+          Arrays.asList(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, enabledOptions),
+              new ColumnFamilyDescriptor("misses".getBytes(UTF_8), missesOptions),
+              new ColumnFamilyDescriptor("disabled".getBytes(UTF_8), disabledOptions));
+      final List<ColumnFamilyHandle> handles = new ArrayList<>();
+      try (final RocksDB db =
+               RocksDB.open(options, dbFolder.getRoot().getAbsolutePath(), descriptors, handles)) {
+        try {
+          for (final ColumnFamilyHandle handle : handles) {
+            loadAndFlush(db, handle);
+          }
+          final ColumnFamilyHandle enabled = handles.get(0);
+          final ColumnFamilyHandle misses = handles.get(1);
+          final ColumnFamilyHandle disabled = handles.get(2);
+
+          for (final ColumnFamilyHandle handle : handles) {
+            for (int i = 0; i < 2; i++) {
+              assertThat(db.get(handle, "a".getBytes(UTF_8))).isEqualTo("va".getBytes(UTF_8));
+              assertThat(db.get(handle, "m".getBytes(UTF_8))).isNull();
+            }
+          }
+
+          // the absent key is only cached by the column family caching misses
+          assertThat(db.getLongProperty(enabled, HITS)).isEqualTo(1);
+          assertThat(db.getLongProperty(enabled, MISSES)).isEqualTo(3);
+          assertThat(db.getLongProperty(misses, HITS)).isEqualTo(2);
+          assertThat(db.getLongProperty(misses, MISSES)).isEqualTo(2);
+          assertThat(db.getLongProperty(disabled, HITS)).isEqualTo(0);
+          assertThat(db.getLongProperty(disabled, MISSES)).isEqualTo(0);
+        } finally {
+          for (final ColumnFamilyHandle handle : handles) {
+            handle.close();
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void cachedMissDoesNotHideLaterWrite() throws RocksDBException {
+    try (final Cache rowCache = new LRUCache(1 << 20);
+         final Options options = new Options()
+                                     .setCreateIfMissing(true)
+                                     .setRowCache(rowCache)
+                                     .setRowCacheMode(RowCacheMode.CACHE_MISSES);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      loadAndFlush(db, db.getDefaultColumnFamily());
+      final byte[] key = "m".getBytes(UTF_8);
+      assertThat(db.get(key)).isNull();
+      assertThat(db.get(key)).isNull();
+      assertThat(db.getLongProperty(HITS)).isEqualTo(1);
+
+      db.put(key, "vm".getBytes(UTF_8));
+      assertThat(db.get(key)).isEqualTo("vm".getBytes(UTF_8));
+      try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      assertThat(db.get(key)).isEqualTo("vm".getBytes(UTF_8));
+      assertThat(db.get(key)).isEqualTo("vm".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void dedicatedRowCache() throws RocksDBException {
+    try (final Cache rowCache = new LRUCache(1 << 20);
+         final Cache dedicatedRowCache = new LRUCache(1 << 20);
+         final Options options = new Options()
+                                     .setCreateIfMissing(true)
+                                     .setRowCache(rowCache)
+                                     .setDedicatedRowCache(dedicatedRowCache);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      loadAndFlush(db, db.getDefaultColumnFamily());
+      assertThat(db.get("a".getBytes(UTF_8))).isEqualTo("va".getBytes(UTF_8));
+      assertThat(db.get("a".getBytes(UTF_8))).isEqualTo("va".getBytes(UTF_8));
+
+      assertThat(db.getLongProperty(HITS)).isEqualTo(1);
+      assertThat(dedicatedRowCache.getUsage()).isGreaterThan(0);
+      assertThat(rowCache.getUsage()).isEqualTo(0);
+    }
+  }
+
+  private static void loadAndFlush(final RocksDB db, final ColumnFamilyHandle handle)
+      throws RocksDBException {
+    db.put(handle, "a".getBytes(UTF_8), "va".getBytes(UTF_8));
+    db.put(handle, "z".getBytes(UTF_8), "vz".getBytes(UTF_8));
+    try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions, handle);
+    }
+  }
+}
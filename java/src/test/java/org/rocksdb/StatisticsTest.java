@@ -111,6 +111,94 @@ public class StatisticsTest {
     }
   }
 
+  @Test
+  public void snapshot() throws RocksDBException {
+    try (final Statistics statistics = new Statistics();
+         final Options opt = new Options()
+             .setStatistics(statistics)
+             .setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt,
+             dbFolder.getRoot().getAbsolutePath())) {
+
+      final byte[] key = "some-key".getBytes(StandardCharsets.UTF_8);
+      final byte[] value = "some-value".getBytes(StandardCharsets.UTF_8);
+
+      db.put(key, value);
+      for(int i = 0; i < 10; i++) {
+        db.get(key);
+      }
+
+      final long[] tickers = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+      final double[] histograms = new double[Statistics.SNAPSHOT_HISTOGRAMS_LENGTH];
+      final long[] histogramCounts = new long[Statistics.SNAPSHOT_HISTOGRAM_COUNTS_LENGTH];
+      statistics.snapshot(tickers, histograms, histogramCounts);
+
+      assertThat(tickers[TickerType.BYTES_READ.ordinal()])
+          .isEqualTo(statistics.getTickerCount(TickerType.BYTES_READ));
+      assertThat(tickers[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(1);
+      assertThat(tickers[TickerType.TICKER_ENUM_MAX.ordinal()]).isEqualTo(0);
+
+      final HistogramData histogramData = statistics.getHistogramData(HistogramType.BYTES_PER_READ);
+      final int offset = HistogramType.BYTES_PER_READ.ordinal() * Statistics.SNAPSHOT_HISTOGRAM_SIZE;
+      final int countsOffset =
+          HistogramType.BYTES_PER_READ.ordinal() * Statistics.SNAPSHOT_HISTOGRAM_COUNTS_SIZE;
+      assertThat(histogramCounts[countsOffset + Statistics.SNAPSHOT_HISTOGRAM_COUNT])
+          .isEqualTo(histogramData.getCount());
+      assertThat(histogramCounts[countsOffset + Statistics.SNAPSHOT_HISTOGRAM_SUM])
+          .isEqualTo(histogramData.getSum());
+      assertThat(histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_MAX])
+          .isEqualTo(histogramData.getMax());
+      assertThat(histograms[offset + Statistics.SNAPSHOT_HISTOGRAM_MEDIAN])
+          .isEqualTo(histogramData.getMedian());
+
+      // only tickers
+      final long[] tickersOnly = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+      statistics.snapshot(tickersOnly, null, null);
+      assertThat(tickersOnly[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void snapshotDelta() throws RocksDBException {
+    try (final Statistics statistics = new Statistics();
+         final Options opt = new Options()
+             .setStatistics(statistics)
+             .setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(opt,
+             dbFolder.getRoot().getAbsolutePath())) {
+
+      final byte[] key = "some-key".getBytes(StandardCharsets.UTF_8);
+      final byte[] value = "some-value".getBytes(StandardCharsets.UTF_8);
+
+      final long[] tickers = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+      final long[] deltas = new long[Statistics.SNAPSHOT_TICKERS_LENGTH];
+      statistics.snapshotDelta(tickers, deltas, null, null);
+
+      for(int i = 0; i < 3; i++) {
+        db.put(key, value);
+      }
+      assertThat(statistics.snapshotDelta(tickers, deltas, null, null)).isGreaterThan(0);
+      assertThat(deltas[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(3);
+      assertThat(tickers[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(3);
+
+      db.put(key, value);
+      statistics.snapshotDelta(tickers, deltas, null, null);
+      assertThat(deltas[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(1);
+      assertThat(tickers[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(4);
+
+      // nothing changed
+      assertThat(statistics.snapshotDelta(tickers, deltas, null, null)).isEqualTo(0);
+      assertThat(deltas[TickerType.NUMBER_KEYS_WRITTEN.ordinal()]).isEqualTo(0);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void snapshotArrayTooShort() {
+    try (final Statistics statistics = new Statistics()) {
+      statistics.snapshot(new long[1], null, null);
+    }
+  }
+
   @Test
   public void getHistogramString() throws RocksDBException {
     try (final Statistics statistics = new Statistics();
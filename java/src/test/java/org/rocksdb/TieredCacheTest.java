@@ -0,0 +1,58 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TieredCacheTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void tieredCache() throws RocksDBException {
+    final byte[] value = new byte[1024];
+    Arrays.fill(value, (byte) 'v');
+    try (final TieredCache blockCache =
+             new TieredCache(1024 * 1024, 0.5, CompressionType.NO_COMPRESSION);
+         final Options options =
+             new Options()
+                 .setCreateIfMissing(true)
+                 .setTableFormatConfig(new BlockBasedTableConfig().setBlockCache(blockCache));
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      for (int i = 0; i < 100; i++) {
+        db.put(("key" + i).getBytes(UTF_8), value);
+      }
+      db.compactRange();
+      for (int i = 0; i < 100; i++) {
+        assertThat(db.get(("key" + i).getBytes(UTF_8))).isEqualTo(value);
+      }
+      assertThat(blockCache.getUsage()).isGreaterThan(0);
+
+      blockCache.update(2 * 1024 * 1024, 0.25);
+      for (int i = 0; i < 100; i++) {
+        assertThat(db.get(("key" + i).getBytes(UTF_8))).isEqualTo(value);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidRatio() {
+    try (final TieredCache ignored = new TieredCache(1024 * 1024, 1.5)) {
+      // no-op
+    }
+  }
+}
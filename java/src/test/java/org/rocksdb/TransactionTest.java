@@ -7,6 +7,7 @@ package org.rocksdb;
 
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -51,6 +52,40 @@ public class TransactionTest extends AbstractTransactionTest {
     }
   }
 
+  @Test
+  public void multiGetForUpdateByteBuffers_conflict() throws RocksDBException {
+    final byte[] k1 = "key1".getBytes(UTF_8);
+    final byte[] v1 = "value1".getBytes(UTF_8);
+    try (final DBContainer dbContainer = startDb();
+         final ReadOptions readOptions = new ReadOptions()) {
+      try (final Transaction txn = dbContainer.beginTransaction()) {
+        txn.put(k1, v1);
+        txn.commit();
+      }
+
+      try (final Transaction txn2 = dbContainer.beginTransaction();
+           final Transaction txn3 = dbContainer.beginTransaction()) {
+        assertThat(txn3.getForUpdate(readOptions, k1, true)).isEqualTo(v1);
+
+        // NOTE: key1 is locked by txn3, so none of the keys are read by txn2
+        txn2.setLockTimeout(10);
+        final List<ByteBuffer> keys = new ArrayList<>();
+        final List<ByteBuffer> values = new ArrayList<>();
+        for (final String key : new String[] {"key0", "key1"}) {
+          final ByteBuffer keyBuffer = ByteBuffer.allocateDirect(16);
+          keyBuffer.put(key.getBytes(UTF_8)).flip();
+          keys.add(keyBuffer);
+          values.add(ByteBuffer.allocateDirect(16));
+        }
+        final List<ByteBufferGetStatus> results =
+            txn2.multiGetForUpdateByteBuffers(readOptions, keys, values, true);
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).status.getCode()).isSameAs(Status.Code.TimedOut);
+        assertThat(results.get(1).status.getCode()).isSameAs(Status.Code.TimedOut);
+      }
+    }
+  }
+
   @Test
   public void prepare_commit() throws RocksDBException {
     final byte[] k1 = "key1".getBytes(UTF_8);
@@ -0,0 +1,114 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class VirtualThreadOffloadTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @After
+  public void disableOffload() {
+    VirtualThreadOffload.disable();
+  }
+
+  @Test
+  public void enableDisable() {
+    assertThat(VirtualThreadOffload.isEnabled()).isFalse();
+    VirtualThreadOffload.enable(2, 16);
+    assertThat(VirtualThreadOffload.isEnabled()).isTrue();
+    assertThat(VirtualThreadOffload.queueDepth()).isEqualTo(0);
+    assertThat(VirtualThreadOffload.activeCount()).isEqualTo(0);
+    VirtualThreadOffload.disable();
+    assertThat(VirtualThreadOffload.isEnabled()).isFalse();
+    assertThat(VirtualThreadOffload.queueDepth()).isEqualTo(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void enableInvalidPoolSize() {
+    VirtualThreadOffload.enable(0, 16);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void enableInvalidQueueSize() {
+    VirtualThreadOffload.enable(2, 0);
+  }
+
+  @Test
+  public void platformThreadCallsAreNotOffloaded() throws RocksDBException {
+    VirtualThreadOffload.enable(2, 16);
+    final long offloadedBefore = VirtualThreadOffload.offloadedCount();
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.put("key1".getBytes(UTF_8), "value1".getBytes(UTF_8));
+      db.flush(flushOptions);
+      db.compactRange();
+      final List<byte[]> values = db.multiGetAsList(Arrays.asList("key1".getBytes(UTF_8)));
+      assertThat(values.get(0)).isEqualTo("value1".getBytes(UTF_8));
+    }
+    assertThat(VirtualThreadOffload.offloadedCount()).isEqualTo(offloadedBefore);
+  }
+
+  @Test
+  public void virtualThreadCallsAreOffloaded() throws Exception {
+    final Method ofVirtual = virtualThreadBuilderFactory();
+    assumeTrue("virtual threads are not supported by this JVM", ofVirtual != null);
+
+    VirtualThreadOffload.enable(2, 16);
+    final long offloadedBefore = VirtualThreadOffload.offloadedCount();
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.put("key1".getBytes(UTF_8), "value1".getBytes(UTF_8));
+
+      final AtomicReference<List<byte[]>> values = new AtomicReference<>();
+      final AtomicReference<Throwable> error = new AtomicReference<>();
+      final Runnable task = () -> {
+        try {
+          db.flush(flushOptions);
+          values.set(db.multiGetAsList(Arrays.asList("key1".getBytes(UTF_8))));
+        } catch (final Throwable t) {
+          error.set(t);
+        }
+      };
+      final Object builder = ofVirtual.invoke(null);
+      final Thread thread = (Thread) Class.forName("java.lang.Thread$Builder")
+                                .getMethod("start", Runnable.class)
+                                .invoke(builder, task);
+      thread.join();
+
+      assertThat(error.get()).isNull();
+      assertThat(values.get().get(0)).isEqualTo("value1".getBytes(UTF_8));
+    }
+    assertThat(VirtualThreadOffload.offloadedCount()).isEqualTo(offloadedBefore + 2);
+  }
+
+  private static Method virtualThreadBuilderFactory() {
+    try {
+      return Thread.class.getMethod("ofVirtual");
+    } catch (final NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,194 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WalChangeStreamTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  @Test
+  public void changeTypes() throws RocksDBException {
+    try (final Options options = new Options()
+                                     .setCreateIfMissing(true)
+                                     .setMergeOperator(new StringAppendOperator());
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final WriteBatch batch = new WriteBatch();
+         final WriteOptions writeOptions = new WriteOptions()) {
+      db.put(bytes("k1"), bytes("v1"));
+      batch.delete(bytes("k1"));
+      batch.singleDelete(bytes("k2"));
+      batch.merge(bytes("k3"), bytes("m3"));
+      batch.deleteRange(bytes("a"), bytes("b"));
+      batch.putLogData(bytes("log data"));
+      db.write(writeOptions, batch);
+
+      try (final WalChangeStream stream = new WalChangeStream(db, 1, 1024)) {
+        assertThat(stream.poll()).isEqualTo(5);
+        assertNext(stream, WalChangeStream.ChangeType.PUT, 1, "k1", "v1");
+        assertNext(stream, WalChangeStream.ChangeType.DELETE, 2, "k1", "");
+        assertNext(stream, WalChangeStream.ChangeType.SINGLE_DELETE, 3, "k2", "");
+        assertNext(stream, WalChangeStream.ChangeType.MERGE, 4, "k3", "m3");
+        assertNext(stream, WalChangeStream.ChangeType.DELETE_RANGE, 5, "a", "b");
+        assertThat(stream.next()).isFalse();
+        assertThat(stream.getNextSequenceNumber()).isEqualTo(6);
+
+        assertThat(stream.poll()).isEqualTo(0);
+        assertThat(stream.next()).isFalse();
+      }
+    }
+  }
+
+  @Test
+  public void tailAndResume() throws RocksDBException {
+    // the WAL files are archived rather than deleted once flushed
+    try (final Options options = new Options()
+                                     .setCreateIfMissing(true)
+                                     .setWalTtlSeconds(1000)
+                                     .setWalSizeLimitMB(10);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      final long nextSequenceNumber;
+      try (final WalChangeStream stream = new WalChangeStream(db, 1, 1024)) {
+        assertThat(stream.poll()).isEqualTo(0);
+        for (int i = 0; i < 10; i++) {
+          db.put(bytes("key" + i), bytes("value" + i));
+        }
+        assertThat(stream.poll(4)).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+          assertNext(stream, WalChangeStream.ChangeType.PUT, i + 1, "key" + i, "value" + i);
+        }
+        assertThat(stream.next()).isFalse();
+        nextSequenceNumber = stream.getNextSequenceNumber();
+        assertThat(nextSequenceNumber).isEqualTo(5);
+      }
+
+      // the WAL file is switched by the flush
+      try (final FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+        db.flush(flushOptions);
+      }
+      db.put(bytes("key10"), bytes("value10"));
+
+      try (final WalChangeStream stream = new WalChangeStream(db, nextSequenceNumber, 1024)) {
+        assertThat(stream.poll()).isEqualTo(7);
+        for (int i = 4; i < 11; i++) {
+          assertNext(stream, WalChangeStream.ChangeType.PUT, i + 1, "key" + i, "value" + i);
+        }
+        assertThat(stream.poll()).isEqualTo(0);
+        db.put(bytes("key11"), bytes("value11"));
+        assertThat(stream.poll()).isEqualTo(1);
+        assertNext(stream, WalChangeStream.ChangeType.PUT, 12, "key11", "value11");
+      }
+    }
+  }
+
+  @Test
+  public void resumeWithinWriteBatch() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final WriteBatch batch = new WriteBatch();
+         final WriteOptions writeOptions = new WriteOptions()) {
+      for (int i = 0; i < 10; i++) {
+        batch.put(bytes("key" + i), bytes("value" + i));
+      }
+      db.write(writeOptions, batch);
+
+      // each record takes the header, a 4 byte key and a 6 byte value
+      final int recordSize = WalChangeStream.HEADER_SIZE + 10;
+      try (final WalChangeStream stream = new WalChangeStream(db, 1, recordSize * 3)) {
+        final List<String> keys = new ArrayList<>();
+        int records;
+        while ((records = stream.poll()) > 0) {
+          assertThat(records).isLessThanOrEqualTo(3);
+          while (stream.next()) {
+            keys.add(string(stream.key()));
+          }
+        }
+        assertThat(keys).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+          assertThat(keys.get(i)).isEqualTo("key" + i);
+        }
+      }
+
+      try (final WalChangeStream stream = new WalChangeStream(db, 8, 1024)) {
+        assertThat(stream.poll()).isEqualTo(3);
+        assertNext(stream, WalChangeStream.ChangeType.PUT, 8, "key7", "value7");
+      }
+    }
+  }
+
+  @Test
+  public void filterColumnFamilies() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf1 =
+             db.createColumnFamily(new ColumnFamilyDescriptor(bytes("cf1")));
+         final ColumnFamilyHandle cf2 =
+             db.createColumnFamily(new ColumnFamilyDescriptor(bytes("cf2")))) {
+      db.put(cf1, bytes("k1"), bytes("v1"));
+      db.put(cf2, bytes("k2"), bytes("v2"));
+      db.put(bytes("k3"), bytes("v3"));
+      db.put(cf1, bytes("k4"), bytes("v4"));
+      db.put(cf2, bytes("k5"), bytes("v5"));
+
+      try (final WalChangeStream stream =
+               new WalChangeStream(db, 1, 1024, Collections.singletonList(cf1))) {
+        assertThat(stream.poll()).isEqualTo(2);
+        assertNext(stream, WalChangeStream.ChangeType.PUT, 1, "k1", "v1");
+        assertThat(stream.columnFamilyId()).isEqualTo(cf1.getID());
+        assertNext(stream, WalChangeStream.ChangeType.PUT, 4, "k4", "v4");
+        assertThat(stream.next()).isFalse();
+        // past the filtered out change
+        assertThat(stream.getNextSequenceNumber()).isEqualTo(6);
+        assertThat(stream.poll()).isEqualTo(0);
+      }
+    }
+  }
+
+  @Test(expected = RocksDBException.class)
+  public void recordLargerThanBuffer() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      db.put(bytes("key"), new byte[100]);
+      try (final WalChangeStream stream = new WalChangeStream(db, 1, 64)) {
+        stream.poll();
+      }
+    }
+  }
+
+  private static void assertNext(final WalChangeStream stream,
+      final WalChangeStream.ChangeType type, final long sequenceNumber, final String key,
+      final String value) {
+    assertThat(stream.next()).isTrue();
+    assertThat(stream.type()).isEqualTo(type);
+    assertThat(stream.sequenceNumber()).isEqualTo(sequenceNumber);
+    assertThat(string(stream.key())).isEqualTo(key);
+    assertThat(string(stream.value())).isEqualTo(value);
+  }
+
+  private static byte[] bytes(final String s) {
+    return s.getBytes(UTF_8);
+  }
+
+  private static String string(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return new String(bytes, UTF_8);
+  }
+}
@@ -5,12 +5,16 @@
 
 package org.rocksdb;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.rocksdb.util.CapturingWriteBatchHandler;
+import org.rocksdb.util.CapturingWriteBatchHandler.Action;
 import org.rocksdb.util.CapturingWriteBatchHandler.Event;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -73,4 +77,193 @@ public class WriteBatchHandlerTest {
       }
     }
   }
+
+  @Test
+  public void directHandler() throws RocksDBException {
+    try (final WriteBatch batch = new WriteBatch()) {
+      batch.delete("k0".getBytes());
+      batch.put("k1".getBytes(), "v1".getBytes());
+      batch.putLogData("log1".getBytes());
+      batch.merge("k2".getBytes(), "v22".getBytes());
+      batch.singleDelete("k3".getBytes());
+      batch.deleteRange("k4".getBytes(), "k5".getBytes());
+
+      final CapturingDirectHandler handler = new CapturingDirectHandler(1024);
+      batch.iterate(handler);
+
+      assertThat(handler.events)
+          .containsExactly(new Event(DELETE, "k0".getBytes(), null),
+              new Event(PUT, "k1".getBytes(), "v1".getBytes()),
+              new Event(LOG, null, "log1".getBytes()),
+              new Event(MERGE, "k2".getBytes(), "v22".getBytes()),
+              new Event(SINGLE_DELETE, "k3".getBytes(), null),
+              new Event(DELETE_RANGE, "k4".getBytes(), "k5".getBytes()));
+    }
+  }
+
+  @Test
+  public void directHandlerMarkers() throws RocksDBException {
+    final ByteArrayOutputStream rep = new ByteArrayOutputStream();
+    // the header, of the sequence number and the count of 1
+    rep.write(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0}, 0, 12);
+    rep.write(0x9); // kTypeBeginPrepareXID
+    rep.write(0x1); // kTypeValue
+    writeLengthPrefixed(rep, "k1");
+    writeLengthPrefixed(rep, "v1");
+    rep.write(0xA); // kTypeEndPrepareXID
+    writeLengthPrefixed(rep, "xid1");
+    rep.write(0xD); // kTypeNoop
+    rep.write(0xB); // kTypeCommitXID
+    writeLengthPrefixed(rep, "xid1");
+    rep.write(0xC); // kTypeRollbackXID
+    writeLengthPrefixed(rep, "xid2");
+    rep.write(0x15); // kTypeCommitXIDAndTimestamp
+    writeLengthPrefixed(rep, "ts");
+    writeLengthPrefixed(rep, "xid3");
+
+    try (final WriteBatch batch = new WriteBatch(rep.toByteArray())) {
+      // room for a single record per chunk, so the iteration is resumed
+      // after each of the markers
+      final CapturingDirectHandler handler = new CapturingDirectHandler(
+          WriteBatch.DirectHandler.HEADER_SIZE + WriteBatch.DirectHandler.RECORD_HEADER_SIZE + 4);
+      batch.iterate(handler);
+
+      assertThat(handler.events)
+          .containsExactly(new Event(MARK_BEGIN_PREPARE, null, null),
+              new Event(PUT, "k1".getBytes(), "v1".getBytes()),
+              new Event(MARK_END_PREPARE, "xid1".getBytes(), null),
+              new Event(MARK_NOOP, null, null), new Event(MARK_COMMIT, "xid1".getBytes(), null),
+              new Event(MARK_ROLLBACK, "xid2".getBytes(), null),
+              new Event(MARK_COMMIT_WITH_TIMESTAMP, "xid3".getBytes(), "ts".getBytes()));
+    }
+  }
+
+  @Test
+  public void directHandlerGrowsBuffer() throws RocksDBException {
+    final byte[] largeValue = new byte[1000];
+    Arrays.fill(largeValue, (byte) 'v');
+    try (final WriteBatch batch = new WriteBatch()) {
+      for (int i = 0; i < 10; i++) {
+        batch.put(("k" + i).getBytes(), ("v" + i).getBytes());
+      }
+      batch.put("large".getBytes(), largeValue);
+      batch.put("k10".getBytes(), "v10".getBytes());
+
+      final CapturingDirectHandler handler = new CapturingDirectHandler(64);
+      batch.iterate(handler);
+
+      assertThat(handler.events).hasSize(12);
+      for (int i = 0; i < 10; i++) {
+        assertThat(handler.events.get(i))
+            .isEqualTo(new Event(PUT, ("k" + i).getBytes(), ("v" + i).getBytes()));
+      }
+      assertThat(handler.events.get(10))
+          .isEqualTo(new Event(PUT, "large".getBytes(), largeValue));
+      assertThat(handler.events.get(11))
+          .isEqualTo(new Event(PUT, "k10".getBytes(), "v10".getBytes()));
+    }
+  }
+
+  @Test
+  public void directHandlerShouldContinue() throws RocksDBException {
+    try (final WriteBatch batch = new WriteBatch()) {
+      for (int i = 0; i < 10; i++) {
+        batch.put(("k" + i).getBytes(), ("v" + i).getBytes());
+      }
+
+      final CapturingDirectHandler handler = new CapturingDirectHandler(1024) {
+        @Override
+        public boolean shouldContinue() {
+          return events.size() < 3;
+        }
+      };
+      batch.iterate(handler);
+
+      assertThat(handler.events)
+          .containsExactly(new Event(PUT, "k0".getBytes(), "v0".getBytes()),
+              new Event(PUT, "k1".getBytes(), "v1".getBytes()),
+              new Event(PUT, "k2".getBytes(), "v2".getBytes()));
+    }
+  }
+
+  private static void writeLengthPrefixed(final ByteArrayOutputStream out, final String s) {
+    // the lengths are less than 128, so fit in a single byte varint
+    out.write(s.length());
+    out.write(s.getBytes(), 0, s.length());
+  }
+
+  private static byte[] bytes(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private static class CapturingDirectHandler extends WriteBatch.DirectHandler {
+    final List<Event> events = new ArrayList<>();
+
+    CapturingDirectHandler(final int bufferCapacity) {
+      super(bufferCapacity);
+    }
+
+    @Override
+    public void put(final int columnFamilyId, final ByteBuffer key, final ByteBuffer value) {
+      events.add(new Event(Action.PUT, columnFamilyId, bytes(key), bytes(value)));
+    }
+
+    @Override
+    public void merge(final int columnFamilyId, final ByteBuffer key, final ByteBuffer value) {
+      events.add(new Event(Action.MERGE, columnFamilyId, bytes(key), bytes(value)));
+    }
+
+    @Override
+    public void delete(final int columnFamilyId, final ByteBuffer key) {
+      events.add(new Event(Action.DELETE, columnFamilyId, bytes(key), null));
+    }
+
+    @Override
+    public void singleDelete(final int columnFamilyId, final ByteBuffer key) {
+      events.add(new Event(Action.SINGLE_DELETE, columnFamilyId, bytes(key), null));
+    }
+
+    @Override
+    public void deleteRange(
+        final int columnFamilyId, final ByteBuffer beginKey, final ByteBuffer endKey) {
+      events.add(new Event(Action.DELETE_RANGE, columnFamilyId, bytes(beginKey), bytes(endKey)));
+    }
+
+    @Override
+    public void logData(final ByteBuffer blob) {
+      events.add(new Event(Action.LOG, null, bytes(blob)));
+    }
+
+    @Override
+    public void markBeginPrepare() {
+      events.add(new Event(Action.MARK_BEGIN_PREPARE, null, null));
+    }
+
+    @Override
+    public void markEndPrepare(final ByteBuffer xid) {
+      events.add(new Event(Action.MARK_END_PREPARE, bytes(xid), null));
+    }
+
+    @Override
+    public void markNoop(final boolean emptyBatch) {
+      events.add(new Event(Action.MARK_NOOP, null, null));
+    }
+
+    @Override
+    public void markRollback(final ByteBuffer xid) {
+      events.add(new Event(Action.MARK_ROLLBACK, bytes(xid), null));
+    }
+
+    @Override
+    public void markCommit(final ByteBuffer xid) {
+      events.add(new Event(Action.MARK_COMMIT, bytes(xid), null));
+    }
+
+    @Override
+    public void markCommitWithTimestamp(final ByteBuffer xid, final ByteBuffer ts) {
+      events.add(new Event(Action.MARK_COMMIT_WITH_TIMESTAMP, bytes(xid), bytes(ts)));
+    }
+  }
 }
@@ -10,6 +10,7 @@ package org.rocksdb;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 import static org.rocksdb.util.CapturingWriteBatchHandler.Action.DELETE;
 import static org.rocksdb.util.CapturingWriteBatchHandler.Action.DELETE_RANGE;
 import static org.rocksdb.util.CapturingWriteBatchHandler.Action.LOG;
@@ -116,6 +117,101 @@ public class WriteBatchTest {
     }
   }
 
+  @Test
+  public void appendPacked() throws RocksDBException {
+    final byte[] foo = "foo".getBytes(UTF_8);
+    final byte[] bar = "bar".getBytes(UTF_8);
+    final byte[] box = "box".getBytes(UTF_8);
+    final byte[] baz = "baz".getBytes(UTF_8);
+    final byte[] hoo = "hoo".getBytes(UTF_8);
+
+    try (final WriteBatch batch = new WriteBatch()) {
+      final ByteBuffer ops = ByteBuffer.allocateDirect(256);
+      packRecord(ops, WriteBatch.PACKED_PUT, 0, foo, bar);
+      packRecord(ops, WriteBatch.PACKED_DELETE, 0, box, null);
+      packRecord(ops, WriteBatch.PACKED_MERGE, 0, baz, hoo);
+      packRecord(ops, WriteBatch.PACKED_SINGLE_DELETE, 0, foo, null);
+      ops.flip();
+
+      assertThat(batch.appendPacked(ops)).isEqualTo(4);
+      assertThat(ops.hasRemaining()).isFalse();
+      assertThat(batch.count()).isEqualTo(4);
+
+      try (final CapturingWriteBatchHandler handler = new CapturingWriteBatchHandler()) {
+        batch.iterate(handler);
+
+        assertThat(handler.getEvents()).containsExactly(new Event(PUT, foo, bar),
+            new Event(DELETE, box, null), new Event(MERGE, baz, hoo),
+            new Event(SINGLE_DELETE, foo, null));
+      }
+    }
+  }
+
+  @Test
+  public void appendPackedColumnFamilies() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf =
+             db.createColumnFamily(new ColumnFamilyDescriptor("cf1".getBytes(UTF_8)));
+         final WriteBatch batch = new WriteBatch();
+         final WriteOptions writeOptions = new WriteOptions()) {
+      final ByteBuffer ops = ByteBuffer.allocateDirect(256);
+      packRecord(ops, WriteBatch.PACKED_PUT, 0, "k1".getBytes(UTF_8), "v1".getBytes(UTF_8));
+      packRecord(ops, WriteBatch.PACKED_PUT, cf.getID(), "k2".getBytes(UTF_8),
+          "v2".getBytes(UTF_8));
+      ops.flip();
+
+      batch.appendPacked(ops);
+      db.write(writeOptions, batch);
+
+      assertThat(db.get("k1".getBytes(UTF_8))).isEqualTo("v1".getBytes(UTF_8));
+      assertThat(db.get("k2".getBytes(UTF_8))).isNull();
+      assertThat(db.get(cf, "k2".getBytes(UTF_8))).isEqualTo("v2".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void appendPackedMalformed() throws RocksDBException {
+    try (final WriteBatch batch = new WriteBatch()) {
+      batch.put("existing".getBytes(UTF_8), "value".getBytes(UTF_8));
+
+      final ByteBuffer ops = ByteBuffer.allocateDirect(256);
+      packRecord(ops, WriteBatch.PACKED_PUT, 0, "k1".getBytes(UTF_8), "v1".getBytes(UTF_8));
+      // truncated record: key length without the key
+      ops.put(WriteBatch.PACKED_DELETE).putInt(0).putInt(10);
+      ops.flip();
+
+      try {
+        batch.appendPacked(ops);
+        fail("Expected RocksDBException");
+      } catch (final RocksDBException e) {
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.Corruption);
+      }
+
+      // nothing from the packed buffer was appended
+      assertThat(batch.count()).isEqualTo(1);
+
+      ops.clear();
+      ops.put((byte) 0x7f).putInt(0).putInt(1).put((byte) 'k');
+      ops.flip();
+      try {
+        batch.appendPacked(ops);
+        fail("Expected RocksDBException");
+      } catch (final RocksDBException e) {
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.InvalidArgument);
+      }
+      assertThat(batch.count()).isEqualTo(1);
+    }
+  }
+
+  private static void packRecord(final ByteBuffer ops, final byte op, final int columnFamilyId,
+      final byte[] key, final byte[] value) {
+    ops.put(op).putInt(columnFamilyId).putInt(key.length).put(key);
+    if (value != null) {
+      ops.putInt(value.length).put(value);
+    }
+  }
+
   @Test
   public void testAppendOperation()
       throws RocksDBException {
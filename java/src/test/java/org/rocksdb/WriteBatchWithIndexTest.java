@@ -934,6 +934,71 @@ public class WriteBatchWithIndexTest {
       }
     }
   }
+
+  @Test
+  public void getFromBatchAndDBByteBuffers() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf = db.createColumnFamily(
+             new ColumnFamilyDescriptor("cf".getBytes(UTF_8)));
+         final WriteBatchWithIndex wbwi = new WriteBatchWithIndex(true);
+         final ReadOptions readOptions = new ReadOptions()) {
+      db.put("k1".getBytes(UTF_8), "v1".getBytes(UTF_8));
+      db.put(cf, "k2".getBytes(UTF_8), "value2".getBytes(UTF_8));
+      wbwi.put("k3".getBytes(UTF_8), "v3".getBytes(UTF_8));
+      wbwi.delete(cf, "k2".getBytes(UTF_8));
+      wbwi.put(cf, "k4".getBytes(UTF_8), "value4".getBytes(UTF_8));
+
+      final ByteBuffer key = ByteBuffer.allocateDirect(16);
+      final ByteBuffer value = ByteBuffer.allocateDirect(16);
+      key.put("k1".getBytes(UTF_8)).flip();
+      assertThat(wbwi.getFromBatchAndDB(db, readOptions, key, value)).isEqualTo(2);
+      assertThat(key.remaining()).isEqualTo(0);
+      assertThat(toArray(value)).isEqualTo("v1".getBytes(UTF_8));
+
+      key.clear();
+      key.put("k3".getBytes(UTF_8)).flip();
+      value.clear();
+      assertThat(wbwi.getFromBatchAndDB(db, readOptions, key, value)).isEqualTo(2);
+      assertThat(toArray(value)).isEqualTo("v3".getBytes(UTF_8));
+
+      key.clear();
+      key.put("k2".getBytes(UTF_8)).flip();
+      value.clear();
+      assertThat(wbwi.getFromBatchAndDB(db, cf, readOptions, key, value))
+          .isEqualTo(RocksDB.NOT_FOUND);
+
+      // a value larger than the buffer is truncated
+      key.clear();
+      key.put("k4".getBytes(UTF_8)).flip();
+      value.clear().limit(3);
+      assertThat(wbwi.getFromBatchAndDB(db, cf, readOptions, key, value)).isEqualTo(6);
+      assertThat(toArray(value)).isEqualTo("val".getBytes(UTF_8));
+    }
+  }
+
+  @Test
+  public void getFromBatchAndDBRegion() throws RocksDBException {
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final ColumnFamilyHandle cf = db.createColumnFamily(
+             new ColumnFamilyDescriptor("cf".getBytes(UTF_8)));
+         final WriteBatchWithIndex wbwi = new WriteBatchWithIndex(true);
+         final ReadOptions readOptions = new ReadOptions()) {
+      db.put("k1".getBytes(UTF_8), "v1".getBytes(UTF_8));
+      wbwi.put(cf, "k2".getBytes(UTF_8), "value2".getBytes(UTF_8));
+
+      final byte[] keys = "xk1k2".getBytes(UTF_8);
+      final byte[] value = new byte[8];
+      assertThat(wbwi.getFromBatchAndDB(db, readOptions, keys, 1, 2, value, 6, 2)).isEqualTo(2);
+      assertThat(Arrays.copyOfRange(value, 6, 8)).isEqualTo("v1".getBytes(UTF_8));
+      assertThat(wbwi.getFromBatchAndDB(db, readOptions, keys, 3, 2, value, 0, 8))
+          .isEqualTo(RocksDB.NOT_FOUND);
+      assertThat(wbwi.getFromBatchAndDB(db, cf, readOptions, keys, 3, 2, value, 0, 4))
+          .isEqualTo(6);
+      assertThat(Arrays.copyOfRange(value, 0, 4)).isEqualTo("valu".getBytes(UTF_8));
+    }
+  }
   private byte[] toArray(final ByteBuffer buf) {
     final byte[] ary = new byte[buf.remaining()];
     buf.get(ary);
@@ -0,0 +1,184 @@
+//  Copyright (c) Meta Platforms, Inc. and affiliates.
+//
+//  This source code is licensed under both the GPLv2 (found in the
+//  COPYING file in the root directory) and Apache 2.0 License
+//  (found in the LICENSE.Apache file in the root directory).
+
+package org.rocksdb.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.rocksdb.*;
+
+public class RocksDBMetricsTest {
+  @ClassRule
+  public static final RocksNativeLibraryResource ROCKS_NATIVE_LIBRARY_RESOURCE =
+      new RocksNativeLibraryResource();
+
+  @Rule public TemporaryFolder dbFolder = new TemporaryFolder();
+
+  private static final Map<String, String> TAGS = Collections.singletonMap("db", "test");
+
+  /**
+   * Keeps the values of the metrics in maps, keyed by name.
+   */
+  private static class MapMetricsRegistry implements MetricsRegistry {
+    final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    final Map<String, Double> gauges = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(final String name, final Map<String, String> tags) {
+      assertThat(tags).isEqualTo(TAGS);
+      final AtomicLong counter = counters.computeIfAbsent(name, k -> new AtomicLong());
+      return counter::addAndGet;
+    }
+
+    @Override
+    public Gauge gauge(final String name, final Map<String, String> tags) {
+      assertThat(tags).isEqualTo(TAGS);
+      gauges.put(name, Double.NaN);
+      return value -> gauges.put(name, value);
+    }
+  }
+
+  @Test
+  public void scrapeStatistics() throws RocksDBException {
+    final MapMetricsRegistry registry = new MapMetricsRegistry();
+    try (final Statistics statistics = new Statistics();
+         final Options options = new Options().setCreateIfMissing(true).setStatistics(statistics);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final RocksDBMetrics metrics = new RocksDBMetrics(registry)) {
+      db.put("key0".getBytes(UTF_8), "value0".getBytes(UTF_8));
+      metrics.addStatistics(statistics, TAGS);
+      assertThat(registry.counters).containsKey("rocksdb.number_keys_written");
+      assertThat(registry.counters).doesNotContainKey("rocksdb.ticker_enum_max");
+      assertThat(registry.gauges).containsKey("rocksdb.db_write.p99");
+      assertThat(registry.counters).containsKey("rocksdb.db_write.count");
+
+      // counters start from the counts when the statistics were added
+      for (int i = 1; i <= 10; i++) {
+        db.put(("key" + i).getBytes(UTF_8), ("value" + i).getBytes(UTF_8));
+      }
+      metrics.scrape();
+      assertThat(registry.counters.get("rocksdb.number_keys_written").get()).isEqualTo(10);
+      assertThat(registry.counters.get("rocksdb.db_write.count").get()).isEqualTo(10);
+      assertThat(registry.gauges.get("rocksdb.db_write.max")).isGreaterThan(0.0);
+
+      db.put("key11".getBytes(UTF_8), "value11".getBytes(UTF_8));
+      metrics.scrape();
+      assertThat(registry.counters.get("rocksdb.number_keys_written").get()).isEqualTo(11);
+
+      assertThat(metrics.removeStatistics(statistics)).isTrue();
+      db.put("key12".getBytes(UTF_8), "value12".getBytes(UTF_8));
+      metrics.scrape();
+      assertThat(registry.counters.get("rocksdb.number_keys_written").get()).isEqualTo(11);
+      assertThat(metrics.removeStatistics(statistics)).isFalse();
+    }
+  }
+
+  @Test
+  public void scrapeSomeStatistics() {
+    final MapMetricsRegistry registry = new MapMetricsRegistry();
+    try (final Statistics statistics = new Statistics();
+         final RocksDBMetrics metrics = new RocksDBMetrics(registry)) {
+      metrics.addStatistics(statistics, TAGS, EnumSet.of(TickerType.BYTES_WRITTEN),
+          EnumSet.noneOf(HistogramType.class));
+      metrics.scrape();
+      assertThat(registry.counters.keySet()).containsExactly("rocksdb.bytes_written");
+      assertThat(registry.gauges).isEmpty();
+    }
+  }
+
+  @Test
+  public void scrapeProperties() throws RocksDBException {
+    final MapMetricsRegistry registry = new MapMetricsRegistry();
+    try (final Options options = new Options().setCreateIfMissing(true);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath());
+         final RocksDBMetrics metrics = new RocksDBMetrics(registry)) {
+      db.put("key".getBytes(UTF_8), "value".getBytes(UTF_8));
+      metrics.addProperties(db, TAGS);
+      metrics.addProperties(db, null, TAGS,
+          Arrays.asList("rocksdb.estimate-num-keys", "rocksdb.stats"));
+      metrics.scrape();
+
+      assertThat(registry.gauges.get("rocksdb.cur_size_all_mem_tables")).isGreaterThan(0.0);
+      assertThat(registry.gauges.get("rocksdb.estimate_pending_compaction_bytes")).isEqualTo(0.0);
+      assertThat(registry.gauges.get("rocksdb.estimate_num_keys")).isEqualTo(1.0);
+      // not an integer property
+      assertThat(registry.gauges.get("rocksdb.stats")).isNaN();
+
+      assertThat(metrics.removeProperties(db)).isTrue();
+      assertThat(metrics.removeProperties(db)).isFalse();
+    }
+  }
+
+  @Test
+  public void backgroundScrape() throws RocksDBException, InterruptedException {
+    final MapMetricsRegistry registry = new MapMetricsRegistry();
+    try (final Statistics statistics = new Statistics();
+         final Options options = new Options().setCreateIfMissing(true).setStatistics(statistics);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      try (final RocksDBMetrics metrics = new RocksDBMetrics(registry)) {
+        metrics.addStatistics(statistics, TAGS);
+        metrics.start(10);
+        db.put("key".getBytes(UTF_8), "value".getBytes(UTF_8));
+
+        final AtomicLong keysWritten = registry.counters.get("rocksdb.number_keys_written");
+        for (int i = 0; i < 500 && keysWritten.get() == 0; i++) {
+          Thread.sleep(10);
+        }
+        assertThat(keysWritten.get()).isEqualTo(1);
+        metrics.removeStatistics(statistics);
+      }
+    }
+  }
+
+  @Test
+  public void backgroundScrapeAfterFailure() throws RocksDBException, InterruptedException {
+    // a registry whose gauges fail, so that every scrape of the properties fails
+    final MapMetricsRegistry registry = new MapMetricsRegistry() {
+      @Override
+      public Gauge gauge(final String name, final Map<String, String> tags) {
+        return value -> {
+          throw new IllegalStateException("failed to set " + name);
+        };
+      }
+    };
+    try (final Statistics statistics = new Statistics();
+         final Options options = new Options().setCreateIfMissing(true).setStatistics(statistics);
+         final RocksDB db = RocksDB.open(options, dbFolder.getRoot().getAbsolutePath())) {
+      try (final RocksDBMetrics metrics = new RocksDBMetrics(registry)) {
+        metrics.addStatistics(statistics, TAGS, EnumSet.of(TickerType.NUMBER_KEYS_WRITTEN),
+            EnumSet.noneOf(HistogramType.class));
+        metrics.addProperties(db, TAGS);
+        metrics.start(10);
+        for (int i = 0; i < 500 && metrics.getScrapeFailures() == 0; i++) {
+          Thread.sleep(10);
+        }
+        assertThat(metrics.getScrapeFailures()).isGreaterThan(0);
+        assertThat(metrics.getLastScrapeFailure()).isInstanceOf(IllegalStateException.class);
+
+        // the scrapes continue after a failure
+        db.put("key".getBytes(UTF_8), "value".getBytes(UTF_8));
+        final AtomicLong keysWritten = registry.counters.get("rocksdb.number_keys_written");
+        for (int i = 0; i < 500 && keysWritten.get() == 0; i++) {
+          Thread.sleep(10);
+        }
+        assertThat(keysWritten.get()).isEqualTo(1);
+        metrics.removeProperties(db);
+        metrics.removeStatistics(statistics);
+      }
+    }
+  }
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.rocksdb","c":"Status.Code","l":"Aborted"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"AbsoluteConsistency"},{"p":"org.rocksdb","c":"AbstractCompactionFilter","l":"AbstractCompactionFilter(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"AbstractCompactionFilterFactory","l":"AbstractCompactionFilterFactory()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractComparator","l":"AbstractComparator(ComparatorOptions)","u":"%3Cinit%3E(org.rocksdb.ComparatorOptions)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"AbstractEventListener()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"AbstractEventListener(AbstractEventListener.EnabledEventCallback...)","u":"%3Cinit%3E(org.rocksdb.AbstractEventListener.EnabledEventCallback...)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"AbstractEventListener(int, AbstractEventListener.EnabledEventCallback...)","u":"%3Cinit%3E(int,org.rocksdb.AbstractEventListener.EnabledEventCallback...)"},{"p":"org.rocksdb","c":"AbstractImmutableNativeReference","l":"AbstractImmutableNativeReference(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"org.rocksdb","c":"AbstractJavaCompactionFilter","l":"AbstractJavaCompactionFilter()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"AbstractMergeOperator()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"AbstractMergeOperator(MergeOperatorOptions)","u":"%3Cinit%3E(org.rocksdb.MergeOperatorOptions)"},{"p":"org.rocksdb","c":"AbstractMutableOptions","l":"AbstractMutableOptions(String[], String[])","u":"%3Cinit%3E(java.lang.String[],java.lang.String[])"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"AbstractMutableOptionsBuilder()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractNativeReference","l":"AbstractNativeReference()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"AbstractRocksIterator(P, long)","u":"%3Cinit%3E(P,long)"},{"p":"org.rocksdb","c":"AbstractSlice","l":"AbstractSlice()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"AbstractSlice(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"AbstractTableFilter","l":"AbstractTableFilter()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractTraceWriter","l":"AbstractTraceWriter()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractTransactionNotifier","l":"AbstractTransactionNotifier()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractWalFilter","l":"AbstractWalFilter()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"AbstractWriteBatch(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"accessHintOnCompactionStart()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"accessHintOnCompactionStart()"},{"p":"org.rocksdb","c":"Options","l":"accessHintOnCompactionStart()"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"activeCount()"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"ADAPTIVE_MUTEX"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"add(CompactionJobStats)","u":"add(org.rocksdb.CompactionJobStats)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"addProperties(RocksDB, ColumnFamilyHandle, Map<String, String>, List<String>)","u":"addProperties(org.rocksdb.RocksDB,org.rocksdb.ColumnFamilyHandle,java.util.Map,java.util.List)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"addProperties(RocksDB, Map<String, String>)","u":"addProperties(org.rocksdb.RocksDB,java.util.Map)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"addStatistics(Statistics, Map<String, String>)","u":"addStatistics(org.rocksdb.Statistics,java.util.Map)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"addStatistics(Statistics, Map<String, String>, EnumSet<TickerType>, EnumSet<HistogramType>)","u":"addStatistics(org.rocksdb.Statistics,java.util.Map,java.util.EnumSet,java.util.EnumSet)"},{"p":"org.rocksdb","c":"DBOptions","l":"adviseRandomOnOpen()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"adviseRandomOnOpen()"},{"p":"org.rocksdb","c":"Options","l":"adviseRandomOnOpen()"},{"p":"org.rocksdb","c":"StatsLevel","l":"ALL"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"ALL_IO"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"allKeys()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"allKeys()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"allKeys()"},{"p":"org.rocksdb","c":"DBOptions","l":"allow2pc()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"allow2pc()"},{"p":"org.rocksdb","c":"Options","l":"allow2pc()"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"allowBlockingFlush()"},{"p":"org.rocksdb","c":"CompactionOptionsFIFO","l":"allowCompaction()"},{"p":"org.rocksdb","c":"DBOptions","l":"allowConcurrentMemtableWrite()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"allowConcurrentMemtableWrite()"},{"p":"org.rocksdb","c":"Options","l":"allowConcurrentMemtableWrite()"},{"p":"org.rocksdb","c":"EnvOptions","l":"allowFallocate()"},{"p":"org.rocksdb","c":"DBOptions","l":"allowFAllocate()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"allowFAllocate()"},{"p":"org.rocksdb","c":"Options","l":"allowFAllocate()"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"allowGlobalSeqNo()"},{"p":"org.rocksdb","c":"DBOptions","l":"allowIngestBehind()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"allowIngestBehind()"},{"p":"org.rocksdb","c":"Options","l":"allowIngestBehind()"},{"p":"org.rocksdb","c":"DBOptions","l":"allowMmapReads()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"allowMmapReads()"},{"p":"org.rocksdb","c":"Options","l":"allowMmapReads()"},{"p":"org.rocksdb","c":"DBOptions","l":"allowMmapWrites()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"allowMmapWrites()"},{"p":"org.rocksdb","c":"Options","l":"allowMmapWrites()"},{"p":"org.rocksdb","c":"WriteBufferManager","l":"allowStall()"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"allowTrivialMove()"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"allowWriteStall()"},{"p":"org.rocksdb","c":"FlushOptions","l":"allowWriteStall()"},{"p":"org.rocksdb","c":"WriteBatch","l":"appendPacked(ByteBuffer)","u":"appendPacked(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"BackupInfo","l":"appMetadata()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"arena_block_size"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"arenaBlockSize()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"arenaBlockSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"arenaBlockSize()"},{"p":"org.rocksdb","c":"Options","l":"arenaBlockSize()"},{"p":"org.rocksdb","c":"HistogramType","l":"ASYNC_READ_BYTES"},{"p":"org.rocksdb","c":"ReadOptions","l":"asyncIo()"},{"p":"org.rocksdb","c":"DBOptions","l":"atomicFlush()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"atomicFlush()"},{"p":"org.rocksdb","c":"Options","l":"atomicFlush()"},{"p":"org.rocksdb","c":"FlushReason","l":"AUTO_COMPACTION"},{"p":"org.rocksdb","c":"ReadOptions","l":"autoPrefixMode()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"avoid_flush_during_shutdown"},{"p":"org.rocksdb","c":"DBOptions","l":"avoidFlushDuringRecovery()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"avoidFlushDuringRecovery()"},{"p":"org.rocksdb","c":"Options","l":"avoidFlushDuringRecovery()"},{"p":"org.rocksdb","c":"DBOptions","l":"avoidFlushDuringShutdown()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"avoidFlushDuringShutdown()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"avoidFlushDuringShutdown()"},{"p":"org.rocksdb","c":"Options","l":"avoidFlushDuringShutdown()"},{"p":"org.rocksdb","c":"DBOptions","l":"avoidUnnecessaryBlockingIO()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"avoidUnnecessaryBlockingIO()"},{"p":"org.rocksdb","c":"Options","l":"avoidUnnecessaryBlockingIO()"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"AWAITING_COMMIT"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"AWAITING_PREPARE"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"AWAITING_ROLLBACK"},{"p":"org.rocksdb","c":"ReadOptions","l":"backgroundPurgeOnIteratorCleanup()"},{"p":"org.rocksdb","c":"TickerType","l":"BACKUP_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"BACKUP_WRITE_BYTES"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"backupDir()"},{"p":"org.rocksdb","c":"BackupEngine","l":"BackupEngine(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"BackupEngineOptions(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"backupEnv()"},{"p":"org.rocksdb","c":"BackupInfo","l":"backupId()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"backupLogFiles()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"backupRateLimit()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"backupRateLimiter()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"baseInputLevel()"},{"p":"org.rocksdb","c":"TransactionLogIterator.BatchResult","l":"BatchResult(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"begin()"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"beginTransaction(WriteOptions)","u":"beginTransaction(org.rocksdb.WriteOptions)"},{"p":"org.rocksdb","c":"TransactionDB","l":"beginTransaction(WriteOptions)","u":"beginTransaction(org.rocksdb.WriteOptions)"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"beginTransaction(WriteOptions, OptimisticTransactionOptions)","u":"beginTransaction(org.rocksdb.WriteOptions,org.rocksdb.OptimisticTransactionOptions)"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"beginTransaction(WriteOptions, OptimisticTransactionOptions, Transaction)","u":"beginTransaction(org.rocksdb.WriteOptions,org.rocksdb.OptimisticTransactionOptions,org.rocksdb.Transaction)"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"beginTransaction(WriteOptions, Transaction)","u":"beginTransaction(org.rocksdb.WriteOptions,org.rocksdb.Transaction)"},{"p":"org.rocksdb","c":"TransactionDB","l":"beginTransaction(WriteOptions, Transaction)","u":"beginTransaction(org.rocksdb.WriteOptions,org.rocksdb.Transaction)"},{"p":"org.rocksdb","c":"TransactionDB","l":"beginTransaction(WriteOptions, TransactionOptions)","u":"beginTransaction(org.rocksdb.WriteOptions,org.rocksdb.TransactionOptions)"},{"p":"org.rocksdb","c":"TransactionDB","l":"beginTransaction(WriteOptions, TransactionOptions, Transaction)","u":"beginTransaction(org.rocksdb.WriteOptions,org.rocksdb.TransactionOptions,org.rocksdb.Transaction)"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"beingCompacted()"},{"p":"org.rocksdb","c":"DBOptions","l":"bestEffortsRecovery()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"bestEffortsRecovery()"},{"p":"org.rocksdb","c":"Options","l":"bestEffortsRecovery()"},{"p":"org.rocksdb","c":"DBOptions","l":"bgerrorResumeRetryInterval()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"bgerrorResumeRetryInterval()"},{"p":"org.rocksdb","c":"Options","l":"bgerrorResumeRetryInterval()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"BLOB_CACHE"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOB_CACHE_HIT_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOB_CHECKSUM_TIME"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"blob_compaction_readahead_size"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"blob_compression_type"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_FILE_BYTES_READ"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_FILE_BYTES_WRITTEN"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_BLOB_FILE_READ_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_BLOB_FILE_SYNC_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_FILE_SYNCED"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_BLOB_FILE_WRITE_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_INDEX_EVICTED_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_INDEX_EVICTED_SIZE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_INDEX_EXPIRED_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BLOB_INDEX_EXPIRED_SIZE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BYTES_READ"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_BYTES_WRITTEN"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_CACHE_ADD"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_CACHE_ADD_FAILURES"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_CACHE_BYTES_READ"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_CACHE_BYTES_WRITE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_CACHE_HIT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_CACHE_MISS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_COMPRESSION_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_DECOMPRESSION_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_FIFO_BYTES_EVICTED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_FIFO_NUM_FILES_EVICTED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_FIFO_NUM_KEYS_EVICTED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_GC_BYTES_RELOCATED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_GC_FAILURES"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_GC_NUM_FILES"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_GC_NUM_KEYS_RELOCATED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_GC_NUM_NEW_FILES"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_GET_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_KEY_SIZE"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_MULTIGET_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_NEXT_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_GET"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_KEYS_READ"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_KEYS_WRITTEN"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_MULTIGET"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_NEXT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_PREV"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_PUT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_SEEK"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_NUM_WRITE"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_PREV_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_SEEK_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_VALUE_SIZE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_WRITE_BLOB"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_WRITE_BLOB_TTL"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_WRITE_INLINED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOB_DB_WRITE_INLINED_TTL"},{"p":"org.rocksdb","c":"HistogramType","l":"BLOB_DB_WRITE_MICROS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOB_DECOMPRESS_TIME"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"blob_file_size"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"blob_file_starting_level"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"blob_garbage_collection_age_cutoff"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"blob_garbage_collection_force_threshold"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOB_READ_BYTE"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOB_READ_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOB_READ_TIME"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"BLOB_VALUE"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"blobCompactionReadaheadSize()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"blobCompactionReadaheadSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"blobCompactionReadaheadSize()"},{"p":"org.rocksdb","c":"Options","l":"blobCompactionReadaheadSize()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"blobCompressionType()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"blobCompressionType()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"blobCompressionType()"},{"p":"org.rocksdb","c":"Options","l":"blobCompressionType()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"blobFileSize()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"blobFileSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"blobFileSize()"},{"p":"org.rocksdb","c":"Options","l":"blobFileSize()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"blobFileStartingLevel()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"blobFileStartingLevel()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"blobFileStartingLevel()"},{"p":"org.rocksdb","c":"Options","l":"blobFileStartingLevel()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"blobGarbageCollectionAgeCutoff()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"blobGarbageCollectionAgeCutoff()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"blobGarbageCollectionAgeCutoff()"},{"p":"org.rocksdb","c":"Options","l":"blobGarbageCollectionAgeCutoff()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"blobGarbageCollectionForceThreshold()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"blobGarbageCollectionForceThreshold()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"blobGarbageCollectionForceThreshold()"},{"p":"org.rocksdb","c":"Options","l":"blobGarbageCollectionForceThreshold()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"BLOCK_BASED_TABLE_READER"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_ADD"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_ADD_FAILURES"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_BYTES_READ"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_BYTES_WRITE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_DATA_ADD"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_DATA_BYTES_INSERT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_DATA_HIT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_DATA_MISS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_FILTER_ADD"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_FILTER_BYTES_INSERT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_FILTER_HIT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_CACHE_FILTER_HIT_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_FILTER_MISS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_HIT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_CACHE_HIT_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_INDEX_ADD"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_INDEX_BYTES_INSERT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_INDEX_HIT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_CACHE_INDEX_HIT_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_INDEX_MISS"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CACHE_MISS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_CACHE_REAL_HANDLE_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_CACHE_STANDALONE_HANDLE_COUNT"},{"p":"org.rocksdb","c":"ReadTier","l":"BLOCK_CACHE_TIER"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CHECKSUM_COMPUTE_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"BLOCK_CHECKSUM_MISMATCH_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_CHECKSUM_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_DECOMPRESS_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_READ_BYTE"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_READ_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_READ_CPU_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_READ_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOCK_SEEK_NANOS"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"blockAlign()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"BlockBasedTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"blockCacheSize()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"blockRestartInterval()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"blockSize()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"blockSizeDeviation()"},{"p":"org.rocksdb","c":"TickerType","l":"BLOOM_FILTER_FULL_POSITIVE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOOM_FILTER_FULL_TRUE_POSITIVE"},{"p":"org.rocksdb","c":"TickerType","l":"BLOOM_FILTER_PREFIX_CHECKED"},{"p":"org.rocksdb","c":"TickerType","l":"BLOOM_FILTER_PREFIX_USEFUL"},{"p":"org.rocksdb","c":"TickerType","l":"BLOOM_FILTER_USEFUL"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOOM_MEMTABLE_HIT_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOOM_MEMTABLE_MISS_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOOM_SST_HIT_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"BLOOM_SST_MISS_COUNT"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"bloomBitsPerKey()"},{"p":"org.rocksdb","c":"BloomFilter","l":"BloomFilter()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"BloomFilter","l":"BloomFilter(double)","u":"%3Cinit%3E(double)"},{"p":"org.rocksdb","c":"BloomFilter","l":"BloomFilter(double, boolean)","u":"%3Cinit%3E(double,boolean)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"bloomLocality()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"bloomLocality()"},{"p":"org.rocksdb","c":"Options","l":"bloomLocality()"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"BOOLEAN"},{"p":"org.rocksdb","c":"Priority","l":"BOTTOM"},{"p":"org.rocksdb","c":"ThreadType","l":"BOTTOM_PRIORITY"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"bottommostCompressionOptions()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"bottommostCompressionOptions()"},{"p":"org.rocksdb","c":"Options","l":"bottommostCompressionOptions()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"bottommostCompressionType()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"bottommostCompressionType()"},{"p":"org.rocksdb","c":"Options","l":"bottommostCompressionType()"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"bottommostLevelCompaction()"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"branchingFactor()"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"bucketCount()"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"bucketCount()"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"bucketEntriesLoggingThreshold()"},{"p":"org.rocksdb","c":"IteratorBatchResult","l":"bufferFull"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"build()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"build(String[], String[])","u":"build(java.lang.String[],java.lang.String[])"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"build(String[], String[])","u":"build(java.lang.String[],java.lang.String[])"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"build(String[], String[])","u":"build(java.lang.String[],java.lang.String[])"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions","l":"builder()"},{"p":"org.rocksdb","c":"MutableDBOptions","l":"builder()"},{"p":"org.rocksdb","c":"Status.Code","l":"Busy"},{"p":"org.rocksdb","c":"CompactionPriority","l":"ByCompensatedSize"},{"p":"org.rocksdb","c":"HistogramType","l":"BYTES_COMPRESSED"},{"p":"org.rocksdb","c":"HistogramType","l":"BYTES_DECOMPRESSED"},{"p":"org.rocksdb","c":"SstFileManager","l":"BYTES_MAX_DELETE_CHUNK_DEFAULT"},{"p":"org.rocksdb","c":"HistogramType","l":"BYTES_PER_MULTIGET"},{"p":"org.rocksdb","c":"HistogramType","l":"BYTES_PER_READ"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"bytes_per_sync"},{"p":"org.rocksdb","c":"HistogramType","l":"BYTES_PER_WRITE"},{"p":"org.rocksdb","c":"TickerType","l":"BYTES_READ"},{"p":"org.rocksdb","c":"TickerType","l":"BYTES_WRITTEN"},{"p":"org.rocksdb.util","c":"ByteUtil","l":"bytes(String)","u":"bytes(java.lang.String)"},{"p":"org.rocksdb","c":"DBOptions","l":"bytesPerSync()"},{"p":"org.rocksdb","c":"EnvOptions","l":"bytesPerSync()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"bytesPerSync()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"bytesPerSync()"},{"p":"org.rocksdb","c":"Options","l":"bytesPerSync()"},{"p":"org.rocksdb.util","c":"ByteUtil","l":"ByteUtil()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"BuiltinComparator","l":"BYTEWISE_COMPARATOR"},{"p":"org.rocksdb.util","c":"BytewiseComparator","l":"BytewiseComparator(ComparatorOptions)","u":"%3Cinit%3E(org.rocksdb.ComparatorOptions)"},{"p":"org.rocksdb","c":"CompressionType","l":"BZLIB2_COMPRESSION"},{"p":"org.rocksdb","c":"RowCacheMode","l":"CACHE_MISSES"},{"p":"org.rocksdb","c":"Cache","l":"Cache(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"CacheDumper","l":"CacheDumper(Cache, String)","u":"%3Cinit%3E(org.rocksdb.Cache,java.lang.String)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"cacheIndexAndFilterBlocks()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"cacheIndexAndFilterBlocksWithHighPriority()"},{"p":"org.rocksdb","c":"CacheLoader","l":"CacheLoader(CompressedSecondaryCache, String)","u":"%3Cinit%3E(org.rocksdb.CompressedSecondaryCache,java.lang.String)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"cacheNumShardBits()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"callbackTriggerIntervalSize()"},{"p":"org.rocksdb","c":"RocksDB","l":"cancelAllBackgroundWork(boolean)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"canceled()"},{"p":"org.rocksdb","c":"CassandraCompactionFilter","l":"CassandraCompactionFilter(boolean, int)","u":"%3Cinit%3E(boolean,int)"},{"p":"org.rocksdb","c":"CassandraValueMergeOperator","l":"CassandraValueMergeOperator(int)","u":"%3Cinit%3E(int)"},{"p":"org.rocksdb","c":"CassandraValueMergeOperator","l":"CassandraValueMergeOperator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"cfPaths()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"cfPaths()"},{"p":"org.rocksdb","c":"Options","l":"cfPaths()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"CHANGE_VALUE"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"changeLevel()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"checksumType()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"clear()"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"clear()"},{"p":"org.rocksdb","c":"DirectSlice","l":"clear()"},{"p":"org.rocksdb","c":"Slice","l":"clear()"},{"p":"org.rocksdb","c":"WriteBatch.SavePoint","l":"clear()"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"clear()"},{"p":"org.rocksdb","c":"Transaction","l":"clearSnapshot()"},{"p":"org.rocksdb","c":"RocksDB","l":"clipColumnFamily(ColumnFamilyHandle, byte[], byte[])","u":"clipColumnFamily(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"ClockCache","l":"ClockCache(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"ClockCache","l":"ClockCache(long, int)","u":"%3Cinit%3E(long,int)"},{"p":"org.rocksdb","c":"ClockCache","l":"ClockCache(long, int, boolean)","u":"%3Cinit%3E(long,int,boolean)"},{"p":"org.rocksdb","c":"AbstractImmutableNativeReference","l":"close()"},{"p":"org.rocksdb","c":"AbstractNativeReference","l":"close()"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"close()"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"close()"},{"p":"org.rocksdb","c":"RocksDB","l":"close()"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"close()"},{"p":"org.rocksdb","c":"TransactionDB","l":"close()"},{"p":"org.rocksdb","c":"TtlDB","l":"close()"},{"p":"org.rocksdb","c":"WBWIRocksIterator","l":"close()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"close()"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"closeE()"},{"p":"org.rocksdb","c":"RocksDB","l":"closeE()"},{"p":"org.rocksdb","c":"TransactionDB","l":"closeE()"},{"p":"org.rocksdb","c":"TtlDB","l":"closeE()"},{"p":"org.rocksdb","c":"TraceWriter","l":"closeWriter()"},{"p":"org.rocksdb","c":"TickerType","l":"COLD_FILE_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"COLD_FILE_READ_COUNT"},{"p":"org.rocksdb","c":"ColumnFamilyDescriptor","l":"ColumnFamilyDescriptor(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"org.rocksdb","c":"ColumnFamilyDescriptor","l":"ColumnFamilyDescriptor(byte[], ColumnFamilyOptions)","u":"%3Cinit%3E(byte[],org.rocksdb.ColumnFamilyOptions)"},{"p":"org.rocksdb","c":"WalChangeStream","l":"columnFamilyId()"},{"p":"org.rocksdb","c":"WalFilter","l":"columnFamilyLogNumberMap(Map<Integer, Long>, Map<String, Integer>)","u":"columnFamilyLogNumberMap(java.util.Map,java.util.Map)"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"columnFamilyName()"},{"p":"org.rocksdb","c":"LiveFileMetaData","l":"columnFamilyName()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"ColumnFamilyOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"ColumnFamilyOptions(ColumnFamilyOptions)","u":"%3Cinit%3E(org.rocksdb.ColumnFamilyOptions)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"ColumnFamilyOptions(Options)","u":"%3Cinit%3E(org.rocksdb.Options)"},{"p":"org.rocksdb","c":"Transaction","l":"commit()"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"COMMITED"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"COMMITTED"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_READ_BYTES_MARKED"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_READ_BYTES_PERIODIC"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_READ_BYTES_TTL"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_WRITE_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_WRITE_BYTES_MARKED"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_WRITE_BYTES_PERIODIC"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACT_WRITE_BYTES_TTL"},{"p":"org.rocksdb","c":"RocksDB","l":"compactFiles(CompactionOptions, ColumnFamilyHandle, List<String>, int, int, CompactionJobInfo)","u":"compactFiles(org.rocksdb.CompactionOptions,org.rocksdb.ColumnFamilyHandle,java.util.List,int,int,org.rocksdb.CompactionJobInfo)"},{"p":"org.rocksdb","c":"RocksDB","l":"compactFiles(CompactionOptions, List<String>, int, int, CompactionJobInfo)","u":"compactFiles(org.rocksdb.CompactionOptions,java.util.List,int,int,org.rocksdb.CompactionJobInfo)"},{"p":"org.rocksdb","c":"BackgroundErrorReason","l":"COMPACTION"},{"p":"org.rocksdb","c":"TableFileCreationReason","l":"COMPACTION"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_CANCELLED"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_KEY_DROP_NEWER_ENTRY"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_KEY_DROP_OBSOLETE"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_KEY_DROP_RANGE_DEL"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_KEY_DROP_USER"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_OPTIMIZED_DEL_DROP_OBSOLETE"},{"p":"org.rocksdb","c":"HistogramType","l":"COMPACTION_OUTFILE_SYNC_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"COMPACTION_RANGE_DEL_DROP_OBSOLETE"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"compaction_readahead_size"},{"p":"org.rocksdb","c":"HistogramType","l":"COMPACTION_TIME"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionFilter()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"compactionFilter()"},{"p":"org.rocksdb","c":"Options","l":"compactionFilter()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionFilterFactory()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"compactionFilterFactory()"},{"p":"org.rocksdb","c":"Options","l":"compactionFilterFactory()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"CompactionJobInfo()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"CompactionJobStats()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"CompactionOptions","l":"CompactionOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"compactionOptionsFIFO()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionOptionsFIFO()"},{"p":"org.rocksdb","c":"Options","l":"compactionOptionsFIFO()"},{"p":"org.rocksdb","c":"CompactionOptionsFIFO","l":"CompactionOptionsFIFO()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"compactionOptionsUniversal()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionOptionsUniversal()"},{"p":"org.rocksdb","c":"Options","l":"compactionOptionsUniversal()"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"CompactionOptionsUniversal()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"compactionPriority()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionPriority()"},{"p":"org.rocksdb","c":"Options","l":"compactionPriority()"},{"p":"org.rocksdb","c":"DBOptions","l":"compactionReadaheadSize()"},{"p":"org.rocksdb","c":"EnvOptions","l":"compactionReadaheadSize()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"compactionReadaheadSize()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"compactionReadaheadSize()"},{"p":"org.rocksdb","c":"Options","l":"compactionReadaheadSize()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"compactionReason()"},{"p":"org.rocksdb","c":"CompactionStopStyle","l":"CompactionStopStyleSimilarSize"},{"p":"org.rocksdb","c":"CompactionStopStyle","l":"CompactionStopStyleTotalSize"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"compactionStyle()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionStyle()"},{"p":"org.rocksdb","c":"Options","l":"compactionStyle()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compactionThreadLimiter()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"compactionThreadLimiter()"},{"p":"org.rocksdb","c":"Options","l":"compactionThreadLimiter()"},{"p":"org.rocksdb","c":"RocksDB","l":"compactRange()"},{"p":"org.rocksdb","c":"RocksDB","l":"compactRange(byte[], byte[])","u":"compactRange(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"compactRange(ColumnFamilyHandle)","u":"compactRange(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"RocksDB","l":"compactRange(ColumnFamilyHandle, byte[], byte[])","u":"compactRange(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"compactRange(ColumnFamilyHandle, byte[], byte[], CompactRangeOptions)","u":"compactRange(org.rocksdb.ColumnFamilyHandle,byte[],byte[],org.rocksdb.CompactRangeOptions)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"CompactRangeOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"ComparatorOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"compare(AbstractSlice<?>)","u":"compare(org.rocksdb.AbstractSlice)"},{"p":"org.rocksdb","c":"AbstractComparator","l":"compare(ByteBuffer, ByteBuffer)","u":"compare(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"NativeComparatorWrapper","l":"compare(ByteBuffer, ByteBuffer)","u":"compare(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb.util","c":"BytewiseComparator","l":"compare(ByteBuffer, ByteBuffer)","u":"compare(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb.util","c":"IntComparator","l":"compare(ByteBuffer, ByteBuffer)","u":"compare(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb.util","c":"ReverseBytewiseComparator","l":"compare(ByteBuffer, ByteBuffer)","u":"compare(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"COMPRESSED_SEC_CACHE_COMPRESSED_BYTES"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"COMPRESSED_SEC_CACHE_INSERT_DUMMY_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"COMPRESSED_SEC_CACHE_INSERT_REAL_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"COMPRESSED_SEC_CACHE_UNCOMPRESSED_BYTES"},{"p":"org.rocksdb","c":"CompressedSecondaryCache","l":"CompressedSecondaryCache(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"CompressedSecondaryCache","l":"CompressedSecondaryCache(long, CompressionType)","u":"%3Cinit%3E(long,org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"CompressedSecondaryCache","l":"CompressedSecondaryCache(long, int, boolean, double, double, CompressionType)","u":"%3Cinit%3E(long,int,boolean,double,double,org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"compression"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"COMPRESSION_DICT_BLOCK_READ_COUNT"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"COMPRESSION_DICTIONARY_BUILDING_BUFFER"},{"p":"org.rocksdb","c":"HistogramType","l":"COMPRESSION_TIMES_NANOS"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"compression()"},{"p":"org.rocksdb","c":"CompactionOptions","l":"compression()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compressionOptions()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"compressionOptions()"},{"p":"org.rocksdb","c":"Options","l":"compressionOptions()"},{"p":"org.rocksdb","c":"CompressionOptions","l":"CompressionOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"compressionPerLevel()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compressionPerLevel()"},{"p":"org.rocksdb","c":"Options","l":"compressionPerLevel()"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"compressionSizePercent()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"compressionType()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"compressionType()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"compressionType()"},{"p":"org.rocksdb","c":"Options","l":"compressionType()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiter","l":"ConcurrentTaskLimiter(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiterImpl","l":"ConcurrentTaskLimiterImpl(String, int)","u":"%3Cinit%3E(java.lang.String,int)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"ConfigOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Context","l":"Context(boolean, boolean)","u":"%3Cinit%3E(boolean,boolean)"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"CONTINUE_PROCESSING"},{"p":"org.rocksdb","c":"WalFilter.LogRecordFoundResult","l":"CONTINUE_UNCHANGED"},{"p":"org.rocksdb","c":"RocksDB","l":"continueBackgroundWork()"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"CORRUPTED_RECORD"},{"p":"org.rocksdb","c":"Status.Code","l":"Corruption"},{"p":"org.rocksdb","c":"RocksDB.CountAndSize","l":"count"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"COUNT"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"count()"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"count()"},{"p":"org.rocksdb","c":"RocksDB.CountAndSize","l":"CountAndSize(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"org.rocksdb.metrics","c":"MetricsRegistry","l":"counter(String, Map<String, String>)","u":"counter(java.lang.String,java.util.Map)"},{"p":"org.rocksdb","c":"Checkpoint","l":"create(RocksDB)","u":"create(org.rocksdb.RocksDB)"},{"p":"org.rocksdb","c":"Checkpoint","l":"createCheckpoint(String)","u":"createCheckpoint(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"createColumnFamilies(ColumnFamilyOptions, List<byte[]>)","u":"createColumnFamilies(org.rocksdb.ColumnFamilyOptions,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"createColumnFamilies(List<ColumnFamilyDescriptor>)","u":"createColumnFamilies(java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"createColumnFamily(ColumnFamilyDescriptor)","u":"createColumnFamily(org.rocksdb.ColumnFamilyDescriptor)"},{"p":"org.rocksdb","c":"RocksDB","l":"createColumnFamilyWithImport(ColumnFamilyDescriptor, ImportColumnFamilyOptions, ExportImportFilesMetaData)","u":"createColumnFamilyWithImport(org.rocksdb.ColumnFamilyDescriptor,org.rocksdb.ImportColumnFamilyOptions,org.rocksdb.ExportImportFilesMetaData)"},{"p":"org.rocksdb","c":"RocksDB","l":"createColumnFamilyWithImport(ColumnFamilyDescriptor, ImportColumnFamilyOptions, List<ExportImportFilesMetaData>)","u":"createColumnFamilyWithImport(org.rocksdb.ColumnFamilyDescriptor,org.rocksdb.ImportColumnFamilyOptions,java.util.List)"},{"p":"org.rocksdb","c":"TtlDB","l":"createColumnFamilyWithTtl(ColumnFamilyDescriptor, int)","u":"createColumnFamilyWithTtl(org.rocksdb.ColumnFamilyDescriptor,int)"},{"p":"org.rocksdb","c":"AbstractCompactionFilterFactory","l":"createCompactionFilter(AbstractCompactionFilter.Context)","u":"createCompactionFilter(org.rocksdb.AbstractCompactionFilter.Context)"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"createFilter(long, double)","u":"createFilter(long,double)"},{"p":"org.rocksdb","c":"DBOptions","l":"createIfMissing()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"createIfMissing()"},{"p":"org.rocksdb","c":"Options","l":"createIfMissing()"},{"p":"org.rocksdb","c":"DBOptions","l":"createMissingColumnFamilies()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"createMissingColumnFamilies()"},{"p":"org.rocksdb","c":"Options","l":"createMissingColumnFamilies()"},{"p":"org.rocksdb","c":"BackupEngine","l":"createNewBackup(RocksDB)","u":"createNewBackup(org.rocksdb.RocksDB)"},{"p":"org.rocksdb","c":"BackupEngine","l":"createNewBackup(RocksDB, boolean)","u":"createNewBackup(org.rocksdb.RocksDB,boolean)"},{"p":"org.rocksdb","c":"BackupEngine","l":"createNewBackupWithMetadata(RocksDB, String, boolean)","u":"createNewBackupWithMetadata(org.rocksdb.RocksDB,java.lang.String,boolean)"},{"p":"org.rocksdb","c":"Logger","l":"createNewLoggerDbOptions(long)"},{"p":"org.rocksdb","c":"Logger","l":"createNewLoggerOptions(long)"},{"p":"org.rocksdb","c":"AbstractSlice","l":"createNewSliceFromString(String)","u":"createNewSliceFromString(java.lang.String)"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"DATA_BLOCK"},{"p":"org.rocksdb","c":"AbstractSlice","l":"data()"},{"p":"org.rocksdb","c":"WriteBatch","l":"data()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"data0(long)"},{"p":"org.rocksdb","c":"DirectSlice","l":"data0(long)"},{"p":"org.rocksdb","c":"Slice","l":"data0(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"dataBlockHashTableUtilRatio()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"dataBlockIndexType()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"DB_CONDITION_WAIT_NANOS"},{"p":"org.rocksdb","c":"HistogramType","l":"DB_GET"},{"p":"org.rocksdb","c":"HistogramType","l":"DB_MULTIGET"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"DB_MUTEX_LOCK_NANOS"},{"p":"org.rocksdb","c":"TickerType","l":"DB_MUTEX_WAIT_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"DB_SEEK"},{"p":"org.rocksdb","c":"HistogramType","l":"DB_WRITE"},{"p":"org.rocksdb","c":"DBOptions","l":"dbLogDir()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"dbLogDir()"},{"p":"org.rocksdb","c":"Options","l":"dbLogDir()"},{"p":"org.rocksdb","c":"DBOptions","l":"DBOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"DBOptions","l":"DBOptions(DBOptions)","u":"%3Cinit%3E(org.rocksdb.DBOptions)"},{"p":"org.rocksdb","c":"DBOptions","l":"DBOptions(Options)","u":"%3Cinit%3E(org.rocksdb.Options)"},{"p":"org.rocksdb","c":"DbPath","l":"DbPath(Path, long)","u":"%3Cinit%3E(java.nio.file.Path,long)"},{"p":"org.rocksdb","c":"DBOptions","l":"dbPaths()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"dbPaths()"},{"p":"org.rocksdb","c":"Options","l":"dbPaths()"},{"p":"org.rocksdb","c":"DBOptions","l":"dbWriteBufferSize()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"dbWriteBufferSize()"},{"p":"org.rocksdb","c":"Options","l":"dbWriteBufferSize()"},{"p":"org.rocksdb","c":"ReadOptions","l":"deadline()"},{"p":"org.rocksdb","c":"Status.SubCode","l":"Deadlock"},{"p":"org.rocksdb","c":"TransactionDB.DeadlockPath","l":"DeadlockPath(TransactionDB.DeadlockInfo[], boolean)","u":"%3Cinit%3E(org.rocksdb.TransactionDB.DeadlockInfo[],boolean)"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"DEBUG_LEVEL"},{"p":"org.rocksdb","c":"HistogramType","l":"DECOMPRESSION_TIMES_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"DECRYPT_DATA_NANOS"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"dedicatedRowCache()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"dedicatedRowCache()"},{"p":"org.rocksdb","c":"Options","l":"dedicatedRowCache()"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"DEFAUL_THRESHOLD_USE_SKIPLIST"},{"p":"org.rocksdb","c":"RateLimiter","l":"DEFAULT_AUTOTUNE"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_BLOOM_BITS_PER_KEY"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"DEFAULT_BRANCHING_FACTOR"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"DEFAULT_BUCKET_COUNT"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"DEFAULT_BUCKET_COUNT"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"DEFAULT_BUCKET_ENTRIES_LOG_THRES"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"DEFAULT_BUFFER_CAPACITY"},{"p":"org.rocksdb","c":"RocksDB","l":"DEFAULT_COLUMN_FAMILY"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"DEFAULT_COMPACTION_MEMTABLE_MEMORY_BUDGET"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_ENCODING_TYPE"},{"p":"org.rocksdb","c":"RateLimiter","l":"DEFAULT_FAIRNESS"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_FULL_SCAN_MODE"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_HASH_TABLE_RATIO"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"DEFAULT_HEIGHT"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"DEFAULT_HUGE_PAGE_TLB_SIZE"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_HUGE_TLB_SIZE"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"DEFAULT_IF_LOG_BUCKET_DIST_WHEN_FLUSH"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_INDEX_SPARSENESS"},{"p":"org.rocksdb","c":"SkipListMemTableConfig","l":"DEFAULT_LOOKAHEAD"},{"p":"org.rocksdb","c":"RateLimiter","l":"DEFAULT_MODE"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"DEFAULT_PROPERTIES"},{"p":"org.rocksdb","c":"RateLimiter","l":"DEFAULT_REFILL_PERIOD_MICROS"},{"p":"org.rocksdb","c":"VectorMemTableConfig","l":"DEFAULT_RESERVED_SIZE"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"DEFAULT_STORE_INDEX_IN_FILE"},{"p":"org.rocksdb","c":"WriteStallCondition","l":"DELAYED"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"delayed_write_rate"},{"p":"org.rocksdb","c":"DBOptions","l":"delayedWriteRate()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"delayedWriteRate()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"delayedWriteRate()"},{"p":"org.rocksdb","c":"Options","l":"delayedWriteRate()"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"DELETE"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"DELETE"},{"p":"org.rocksdb","c":"SstFileManager","l":"DELETE_EXISTING_TRASH_DEFAULT"},{"p":"org.rocksdb","c":"FlushReason","l":"DELETE_FILES"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"delete_obsolete_files_period_micros"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"DELETE_RANGE"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"DELETE_RANGE"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"delete(byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(byte[])"},{"p":"org.rocksdb","c":"SstFileWriter","l":"delete(byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"delete(byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"delete(byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"delete(byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(byte[], int, int)","u":"delete(byte[],int,int)"},{"p":"org.rocksdb","c":"Transaction","l":"delete(byte[][])"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"delete(ByteBuffer)","u":"delete(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"delete(ByteBuffer)","u":"delete(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"delete(ColumnFamilyHandle, byte[])","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(ColumnFamilyHandle, byte[])","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"delete(ColumnFamilyHandle, byte[])","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"delete(ColumnFamilyHandle, byte[])","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"delete(ColumnFamilyHandle, byte[], boolean)","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[],boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(ColumnFamilyHandle, byte[], int, int)","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[],int,int)"},{"p":"org.rocksdb","c":"Transaction","l":"delete(ColumnFamilyHandle, byte[][])","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"delete(ColumnFamilyHandle, byte[][], boolean)","u":"delete(org.rocksdb.ColumnFamilyHandle,byte[][],boolean)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"delete(ColumnFamilyHandle, ByteBuffer)","u":"delete(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"delete(ColumnFamilyHandle, ByteBuffer)","u":"delete(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(ColumnFamilyHandle, WriteOptions, byte[])","u":"delete(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(ColumnFamilyHandle, WriteOptions, byte[], int, int)","u":"delete(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(ColumnFamilyHandle, WriteOptions, ByteBuffer)","u":"delete(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"delete(DirectSlice)","u":"delete(org.rocksdb.DirectSlice)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"delete(int, byte[])","u":"delete(int,byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"delete(int, ByteBuffer)","u":"delete(int,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"delete(Slice)","u":"delete(org.rocksdb.Slice)"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(WriteOptions, byte[])","u":"delete(org.rocksdb.WriteOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(WriteOptions, byte[], int, int)","u":"delete(org.rocksdb.WriteOptions,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"delete(WriteOptions, ByteBuffer)","u":"delete(org.rocksdb.WriteOptions,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"BackupEngine","l":"deleteBackup(int)"},{"p":"org.rocksdb","c":"RocksDB","l":"deleteFile(String)","u":"deleteFile(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"deleteFilesInRanges(ColumnFamilyHandle, List<byte[]>, boolean)","u":"deleteFilesInRanges(org.rocksdb.ColumnFamilyHandle,java.util.List,boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"deleteObsoleteFilesPeriodMicros()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"deleteObsoleteFilesPeriodMicros()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"deleteObsoleteFilesPeriodMicros()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"deleteObsoleteFilesPeriodMicros()"},{"p":"org.rocksdb","c":"Options","l":"deleteObsoleteFilesPeriodMicros()"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"deleteRange(byte[], byte[])","u":"deleteRange(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"deleteRange(byte[], byte[])","u":"deleteRange(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"deleteRange(byte[], byte[])","u":"deleteRange(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"deleteRange(byte[], byte[])","u":"deleteRange(byte[],byte[])"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"deleteRange(ColumnFamilyHandle, byte[], byte[])","u":"deleteRange(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"deleteRange(ColumnFamilyHandle, byte[], byte[])","u":"deleteRange(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"deleteRange(ColumnFamilyHandle, byte[], byte[])","u":"deleteRange(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"deleteRange(ColumnFamilyHandle, WriteOptions, byte[], byte[])","u":"deleteRange(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"deleteRange(int, byte[], byte[])","u":"deleteRange(int,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"deleteRange(int, ByteBuffer, ByteBuffer)","u":"deleteRange(int,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"deleteRange(WriteOptions, byte[], byte[])","u":"deleteRange(org.rocksdb.WriteOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"deleteUntracked(byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"deleteUntracked(byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"deleteUntracked(ColumnFamilyHandle, byte[])","u":"deleteUntracked(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"deleteUntracked(ColumnFamilyHandle, byte[][])","u":"deleteUntracked(org.rocksdb.ColumnFamilyHandle,byte[][])"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"DEPRECATED_FILTER_BLOCK"},{"p":"org.rocksdb","c":"RocksDB","l":"destroyColumnFamilyHandle(ColumnFamilyHandle)","u":"destroyColumnFamilyHandle(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"RocksDB","l":"destroyDB(String, Options)","u":"destroyDB(java.lang.String,org.rocksdb.Options)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"destroyOldData()"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"DirectHandler()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"DirectHandler(int)","u":"%3Cinit%3E(int)"},{"p":"org.rocksdb","c":"DirectSlice","l":"DirectSlice(ByteBuffer)","u":"%3Cinit%3E(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"DirectSlice","l":"DirectSlice(ByteBuffer, int)","u":"%3Cinit%3E(java.nio.ByteBuffer,int)"},{"p":"org.rocksdb","c":"DirectSlice","l":"DirectSlice(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.rocksdb","c":"PerfLevel","l":"DISABLE"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"disable_auto_compactions"},{"p":"org.rocksdb","c":"CompressionType","l":"DISABLE_COMPRESSION_OPTION"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"disable()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"disableAutoCompactions()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"disableAutoCompactions()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"disableAutoCompactions()"},{"p":"org.rocksdb","c":"Options","l":"disableAutoCompactions()"},{"p":"org.rocksdb","c":"RowCacheMode","l":"DISABLED"},{"p":"org.rocksdb","c":"RocksDB","l":"disableFileDeletions()"},{"p":"org.rocksdb","c":"Transaction","l":"disableIndexing()"},{"p":"org.rocksdb","c":"WriteOptions","l":"disableWAL()"},{"p":"org.rocksdb","c":"AbstractImmutableNativeReference","l":"disOwnNativeHandle()"},{"p":"org.rocksdb","c":"AbstractCompactionFilterFactory","l":"disposeInternal()"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"disposeInternal()"},{"p":"org.rocksdb","c":"AbstractImmutableNativeReference","l":"disposeInternal()"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"disposeInternal()"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"disposeInternal()"},{"p":"org.rocksdb","c":"AbstractTransactionNotifier","l":"disposeInternal()"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"disposeInternal()"},{"p":"org.rocksdb","c":"DirectSlice","l":"disposeInternal()"},{"p":"org.rocksdb","c":"Filter","l":"disposeInternal()"},{"p":"org.rocksdb","c":"Logger","l":"disposeInternal()"},{"p":"org.rocksdb","c":"NativeComparatorWrapper","l":"disposeInternal()"},{"p":"org.rocksdb","c":"RocksCallbackObject","l":"disposeInternal()"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"disposeInternal()"},{"p":"org.rocksdb","c":"RocksObject","l":"disposeInternal()"},{"p":"org.rocksdb","c":"Slice","l":"disposeInternal()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"AbstractSlice","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"AbstractTransactionNotifier","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"BackupEngine","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CacheHandle","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CassandraValueMergeOperator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"Checkpoint","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ClockCache","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompactionOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompactionOptionsFIFO","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompressedSecondaryCache","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiterImpl","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"EnvOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ExportImportFilesMetaData","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"Filter","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"FlushOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"HyperClockCache","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ImportColumnFamilyOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"LRUCache","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"OptimisticTransactionOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"Options","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"PerfContext","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"PersistentCache","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"PinnedValue","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RangeLockManager","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RateLimiter","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"ReadOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RestoreOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RocksDB","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RocksEnv","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RocksIterator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RocksMemEnv","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"RocksObject","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"Snapshot","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"SstFileManager","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"SstFileReader","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"SstFileReaderIterator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"SstPartitionerFixedPrefixFactory","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"Statistics","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"StringAppendOperator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TieredCache","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TimedEnv","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"Transaction","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TransactionDB","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TransactionLogIterator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"TtlDB","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"UInt64AddOperator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"WalChangeStream","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"WBWIRocksIterator","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"WriteBatch","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"WriteBufferManager","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"WriteOptions","l":"disposeInternal(long)"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"DOUBLE"},{"p":"org.rocksdb","c":"RocksDB","l":"dropColumnFamilies(List<ColumnFamilyHandle>)","u":"dropColumnFamilies(java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"dropColumnFamily(ColumnFamilyHandle)","u":"dropColumnFamily(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"CacheDumper","l":"dump(RocksDB...)","u":"dump(org.rocksdb.RocksDB...)"},{"p":"org.rocksdb","c":"DBOptions","l":"dumpMallocStats()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"dumpMallocStats()"},{"p":"org.rocksdb","c":"Options","l":"dumpMallocStats()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"elapsedMicros()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"empty()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"enable_blob_files"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"enable_blob_garbage_collection"},{"p":"org.rocksdb","c":"PerfLevel","l":"ENABLE_COUNT"},{"p":"org.rocksdb","c":"PerfLevel","l":"ENABLE_TIME"},{"p":"org.rocksdb","c":"PerfLevel","l":"ENABLE_TIME_AND_CPU_TIME_EXCEPT_FOR_MUTEX"},{"p":"org.rocksdb","c":"PerfLevel","l":"ENABLE_TIME_EXCEPT_FOR_MUTEX"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"enable(int, int)","u":"enable(int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"enableAutoCompaction(List<ColumnFamilyHandle>)","u":"enableAutoCompaction(java.util.List)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"enableBlobFiles()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"enableBlobFiles()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"enableBlobFiles()"},{"p":"org.rocksdb","c":"Options","l":"enableBlobFiles()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"enableBlobGarbageCollection()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"enableBlobGarbageCollection()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"enableBlobGarbageCollection()"},{"p":"org.rocksdb","c":"Options","l":"enableBlobGarbageCollection()"},{"p":"org.rocksdb","c":"RowCacheMode","l":"ENABLED"},{"p":"org.rocksdb","c":"CompressionOptions","l":"enabled()"},{"p":"org.rocksdb","c":"RocksDB","l":"enableFileDeletions(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"enableIndexCompression()"},{"p":"org.rocksdb","c":"Transaction","l":"enableIndexing()"},{"p":"org.rocksdb","c":"DBOptions","l":"enablePipelinedWrite()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"enablePipelinedWrite()"},{"p":"org.rocksdb","c":"Options","l":"enablePipelinedWrite()"},{"p":"org.rocksdb","c":"DBOptions","l":"enableThreadTracking()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"enableThreadTracking()"},{"p":"org.rocksdb","c":"Options","l":"enableThreadTracking()"},{"p":"org.rocksdb","c":"DBOptions","l":"enableWriteThreadAdaptiveYield()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"enableWriteThreadAdaptiveYield()"},{"p":"org.rocksdb","c":"Options","l":"enableWriteThreadAdaptiveYield()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"encodingType()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENCRYPT_DATA_NANOS"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"end(String)","u":"end(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"endTrace()"},{"p":"org.rocksdb","c":"WBWIRocksIterator","l":"entry()"},{"p":"org.rocksdb","c":"IteratorBatchResult","l":"entryCount"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"ENUM"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_CREATE_DIR_IF_MISSING_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_CREATE_DIR_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_DELETE_DIR_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_DELETE_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_FILE_EXISTS_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_GET_CHILDREN_FILE_ATTRIBUTES_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_GET_CHILDREN_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_GET_FILE_MODIFICATION_TIME_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_GET_FILE_SIZE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_LINK_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_LOCK_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_NEW_DIRECTORY_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_NEW_LOGGER_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_NEW_RANDOM_ACCESS_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_NEW_RANDOM_RW_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_NEW_SEQUENTIAL_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_NEW_WRITABLE_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_RENAME_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_REUSE_WRITABLE_FILE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ENV_UNLOCK_FILE_NANOS"},{"p":"org.rocksdb.util","c":"Environment","l":"Environment()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"EnvOptions","l":"EnvOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"EnvOptions","l":"EnvOptions(DBOptions)","u":"%3Cinit%3E(org.rocksdb.DBOptions)"},{"p":"org.rocksdb","c":"AbstractSlice","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"BloomFilter","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"ColumnFamilyDescriptor","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"CompactRangeOptions.Timestamp","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"DbPath","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"IteratorBatchResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"KeyMayExist","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"MemTableInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"Status","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"TableProperties","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"WriteStallInfo","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.rocksdb","c":"Cache","l":"erase(byte[])"},{"p":"org.rocksdb","c":"TickerType","l":"ERROR_HANDLER_AUTORESUME_COUNT"},{"p":"org.rocksdb","c":"HistogramType","l":"ERROR_HANDLER_AUTORESUME_RETRY_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"ERROR_HANDLER_AUTORESUME_RETRY_TOTAL_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"ERROR_HANDLER_AUTORESUME_SUCCESS_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"ERROR_HANDLER_BG_ERROR_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"ERROR_HANDLER_BG_IO_ERROR_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"ERROR_HANDLER_BG_RETRYABLE_IO_ERROR_COUNT"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"ERROR_LEVEL"},{"p":"org.rocksdb","c":"FlushReason","l":"ERROR_RECOVERY"},{"p":"org.rocksdb","c":"DBOptions","l":"errorIfExists()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"errorIfExists()"},{"p":"org.rocksdb","c":"Options","l":"errorIfExists()"},{"p":"org.rocksdb","c":"SanityLevel","l":"EXACT_MATCH"},{"p":"org.rocksdb","c":"StatsLevel","l":"EXCEPT_DETAILED_TIMERS"},{"p":"org.rocksdb","c":"StatsLevel","l":"EXCEPT_TIME_FOR_MUTEX"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"exclusiveManualCompaction()"},{"p":"org.rocksdb","c":"KeyMayExist","l":"exists"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"experimental_mempurge_threshold"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"experimentalMempurgeThreshold()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"experimentalMempurgeThreshold()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"experimentalMempurgeThreshold()"},{"p":"org.rocksdb","c":"Options","l":"experimentalMempurgeThreshold()"},{"p":"org.rocksdb","c":"Status.Code","l":"Expired"},{"p":"org.rocksdb","c":"PerfContext","l":"export(long[])"},{"p":"org.rocksdb","c":"Checkpoint","l":"exportColumnFamily(ColumnFamilyHandle, String)","u":"exportColumnFamily(org.rocksdb.ColumnFamilyHandle,java.lang.String)"},{"p":"org.rocksdb","c":"FlushReason","l":"EXTERNAL_FILE_INGESTION"},{"p":"org.rocksdb","c":"DBOptions","l":"failIfOptionsFileError()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"failIfOptionsFileError()"},{"p":"org.rocksdb","c":"Options","l":"failIfOptionsFileError()"},{"p":"org.rocksdb","c":"EnvOptions","l":"fallocateWithKeepSize()"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"FATAL_LEVEL"},{"p":"org.rocksdb","c":"CompactionStyle","l":"FIFO"},{"p":"org.rocksdb","c":"TickerType","l":"FIFO_MAX_SIZE_COMPACTIONS"},{"p":"org.rocksdb","c":"TickerType","l":"FIFO_TTL_COMPACTIONS"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"FILE_METADATA"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_COMPACTION_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_DB_ITERATOR_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_DB_OPEN_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_FLUSH_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_GET_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_MULTIGET_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_VERIFY_DB_CHECKSUM_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"FILE_READ_VERIFY_FILE_CHECKSUMS_MICROS"},{"p":"org.rocksdb","c":"ColumnFamilyMetaData","l":"fileCount()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"fileFsyncNanos()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"fileName()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"filePrepareWriteNanos()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"fileRangeSyncNanos()"},{"p":"org.rocksdb","c":"RocksDB.LiveFiles","l":"files"},{"p":"org.rocksdb","c":"TickerType","l":"FILES_DELETED_IMMEDIATELY"},{"p":"org.rocksdb","c":"TickerType","l":"FILES_MARKED_TRASH"},{"p":"org.rocksdb","c":"LevelMetaData","l":"files()"},{"p":"org.rocksdb","c":"SstFileWriter","l":"fileSize()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"fileWriteNanos()"},{"p":"org.rocksdb","c":"ReadOptions","l":"fillCache()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"FILTER_BLOCK"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"FILTER_BLOCK_READ_COUNT"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"FILTER_CONSTRUCTION"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"filter_deletes"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"FILTER_META_BLOCK"},{"p":"org.rocksdb","c":"TickerType","l":"FILTER_OPERATION_TOTAL_TIME"},{"p":"org.rocksdb","c":"AbstractJavaCompactionFilter","l":"filter(int, ByteBuffer, AbstractCompactionFilter.ValueType, ByteBuffer, AbstractJavaCompactionFilter.NewValue)","u":"filter(int,java.nio.ByteBuffer,org.rocksdb.AbstractCompactionFilter.ValueType,java.nio.ByteBuffer,org.rocksdb.AbstractJavaCompactionFilter.NewValue)"},{"p":"org.rocksdb","c":"Filter","l":"Filter(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"TableFilter","l":"filter(TableProperties)","u":"filter(org.rocksdb.TableProperties)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"filterPolicy()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"FIND_NEXT_USER_ENTRY_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"FIND_TABLE_NANOS"},{"p":"org.rocksdb","c":"AbstractComparator","l":"findShortestSeparator(ByteBuffer, ByteBuffer)","u":"findShortestSeparator(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"NativeComparatorWrapper","l":"findShortestSeparator(ByteBuffer, ByteBuffer)","u":"findShortestSeparator(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb.util","c":"BytewiseComparator","l":"findShortestSeparator(ByteBuffer, ByteBuffer)","u":"findShortestSeparator(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb.util","c":"ReverseBytewiseComparator","l":"findShortestSeparator(ByteBuffer, ByteBuffer)","u":"findShortestSeparator(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractComparator","l":"findShortSuccessor(ByteBuffer)","u":"findShortSuccessor(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"NativeComparatorWrapper","l":"findShortSuccessor(ByteBuffer)","u":"findShortSuccessor(java.nio.ByteBuffer)"},{"p":"org.rocksdb.util","c":"BytewiseComparator","l":"findShortSuccessor(ByteBuffer)","u":"findShortSuccessor(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"finish()"},{"p":"org.rocksdb","c":"BackgroundErrorReason","l":"FLUSH"},{"p":"org.rocksdb","c":"TableFileCreationReason","l":"FLUSH"},{"p":"org.rocksdb","c":"HistogramType","l":"FLUSH_TIME"},{"p":"org.rocksdb","c":"TickerType","l":"FLUSH_WRITE_BYTES"},{"p":"org.rocksdb","c":"RocksDB","l":"flush(FlushOptions)","u":"flush(org.rocksdb.FlushOptions)"},{"p":"org.rocksdb","c":"RocksDB","l":"flush(FlushOptions, ColumnFamilyHandle)","u":"flush(org.rocksdb.FlushOptions,org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"RocksDB","l":"flush(FlushOptions, List<ColumnFamilyHandle>)","u":"flush(org.rocksdb.FlushOptions,java.util.List)"},{"p":"org.rocksdb","c":"FlushOptions","l":"FlushOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"RocksDB","l":"flushWal(boolean)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"forceConsistencyChecks()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"forceConsistencyChecks()"},{"p":"org.rocksdb","c":"Options","l":"forceConsistencyChecks()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"formatVersion()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"fromId(byte)"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"fromIndex(int)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"fromParsed(List<OptionString.Entry>, boolean)","u":"fromParsed(java.util.List,boolean)"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"fromRocksId(int)"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"fromValue(byte)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"fullHistoryTSLow()"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"fullMerge(ByteBuffer, ByteBuffer, List<ByteBuffer>)","u":"fullMerge(java.nio.ByteBuffer,java.nio.ByteBuffer,java.util.List)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"fullScanMode()"},{"p":"org.rocksdb","c":"BackupEngine","l":"garbageCollect()"},{"p":"org.rocksdb.metrics","c":"MetricsRegistry","l":"gauge(String, Map<String, String>)","u":"gauge(java.lang.String,java.util.Map)"},{"p":"org.rocksdb.util","c":"SizeUnit","l":"GB"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_CPU_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_FROM_MEMTABLE_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_FROM_MEMTABLE_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_FROM_OUTPUT_FILES_TIME"},{"p":"org.rocksdb","c":"TickerType","l":"GET_HIT_L0"},{"p":"org.rocksdb","c":"TickerType","l":"GET_HIT_L1"},{"p":"org.rocksdb","c":"TickerType","l":"GET_HIT_L2_AND_UP"},{"p":"org.rocksdb","c":"FlushReason","l":"GET_LIVE_FILES"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_POST_PROCESS_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_READ_BYTES"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"GET_SNAPSHOT_TIME"},{"p":"org.rocksdb","c":"TickerType","l":"GET_UPDATES_SINCE_CALLS"},{"p":"org.rocksdb","c":"RocksDB","l":"get(byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(byte[], byte[])","u":"get(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(byte[], int, int)","u":"get(byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(byte[], int, int, byte[], int, int)","u":"get(byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ByteBuffer, ByteBuffer)","u":"get(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, byte[])","u":"get(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, byte[], byte[])","u":"get(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, byte[], int, int)","u":"get(org.rocksdb.ColumnFamilyHandle,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, byte[], int, int, byte[], int, int)","u":"get(org.rocksdb.ColumnFamilyHandle,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, ByteBuffer, ByteBuffer)","u":"get(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, ReadOptions, byte[])","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"get(ColumnFamilyHandle, ReadOptions, byte[])","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, ReadOptions, byte[], byte[])","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, ReadOptions, byte[], int, int)","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, ReadOptions, byte[], int, int, byte[], int, int)","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"Transaction","l":"get(ColumnFamilyHandle, ReadOptions, byte[], int, int, byte[], int, int)","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"Transaction","l":"get(ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)","u":"get(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"DirectSlice","l":"get(int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ReadOptions, byte[])","u":"get(org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"get(ReadOptions, byte[])","u":"get(org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ReadOptions, byte[], byte[])","u":"get(org.rocksdb.ReadOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ReadOptions, byte[], int, int)","u":"get(org.rocksdb.ReadOptions,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ReadOptions, byte[], int, int, byte[], int, int)","u":"get(org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"Transaction","l":"get(ReadOptions, byte[], int, int, byte[], int, int)","u":"get(org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"get(ReadOptions, ByteBuffer, ByteBuffer)","u":"get(org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"Transaction","l":"get(ReadOptions, ByteBuffer, ByteBuffer)","u":"get(org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AccessHint","l":"getAccessHint(byte)"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getActiveMemTableUsage(int)"},{"p":"org.rocksdb","c":"RocksDB","l":"getAggregatedLongProperty(String)","u":"getAggregatedLongProperty(java.lang.String)"},{"p":"org.rocksdb","c":"TransactionDB","l":"getAllPreparedTransactions()"},{"p":"org.rocksdb","c":"Statistics","l":"getAndResetTickerCount(TickerType)","u":"getAndResetTickerCount(org.rocksdb.TickerType)"},{"p":"org.rocksdb","c":"MemoryUtil","l":"getApproximateMemoryUsageByType(List<RocksDB>, Set<Cache>)","u":"getApproximateMemoryUsageByType(java.util.List,java.util.Set)"},{"p":"org.rocksdb","c":"RocksDB","l":"getApproximateMemTableStats(ColumnFamilyHandle, Range)","u":"getApproximateMemTableStats(org.rocksdb.ColumnFamilyHandle,org.rocksdb.Range)"},{"p":"org.rocksdb","c":"RocksDB","l":"getApproximateMemTableStats(Range)","u":"getApproximateMemTableStats(org.rocksdb.Range)"},{"p":"org.rocksdb","c":"RocksDB","l":"getApproximateSizes(ColumnFamilyHandle, List<Range>, SizeApproximationFlag...)","u":"getApproximateSizes(org.rocksdb.ColumnFamilyHandle,java.util.List,org.rocksdb.SizeApproximationFlag...)"},{"p":"org.rocksdb","c":"RocksDB","l":"getApproximateSizes(List<Range>, SizeApproximationFlag...)","u":"getApproximateSizes(java.util.List,org.rocksdb.SizeApproximationFlag...)"},{"p":"org.rocksdb","c":"RocksDB","l":"getAsync(ReadOptions, byte[])","u":"getAsync(org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"getAsync(ReadOptions, ColumnFamilyHandle, byte[])","u":"getAsync(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"HistogramData","l":"getAverage()"},{"p":"org.rocksdb","c":"PerfContextSampler.Histogram","l":"getAverage()"},{"p":"org.rocksdb","c":"Env","l":"getBackgroundThreads(Priority)","u":"getBackgroundThreads(org.rocksdb.Priority)"},{"p":"org.rocksdb","c":"BackupEngine","l":"getBackupInfo()"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"getBaseDB()"},{"p":"org.rocksdb","c":"TransactionLogIterator","l":"getBatch()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlobCacheHitCount()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getBlobCachePinnedUsage(int)"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getBlobCacheUsage(int)"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlobChecksumTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlobDecompressTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlobReadByte()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlobReadCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlobReadTime()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getBlockCacheCapacity(int)"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getBlockCacheCharge(int, CacheEntryRole)","u":"getBlockCacheCharge(int,org.rocksdb.CacheEntryRole)"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockCacheFilterHitCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockCacheHitCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockCacheIndexHitCount()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getBlockCachePinnedUsage(int)"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockCacheRealHandleCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockCacheStandaloneHandleCount()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getBlockCacheUsage(int)"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockChecksumTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockDecompressTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockReadByte()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockReadCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockReadCpuTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockReadTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBlockSeekNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBloomMemtableHitCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBloomMemtableMissCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBloomSstHitCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getBloomSstMissCount()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getBoolean(K)"},{"p":"org.rocksdb","c":"RateLimiter","l":"getBytesPerSecond()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"getCacheEntryRole(byte)"},{"p":"org.rocksdb","c":"StatsCollectorInput","l":"getCallback()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getCfName()"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"getChangeType(byte)"},{"p":"org.rocksdb","c":"Status","l":"getCode()"},{"p":"org.rocksdb","c":"Status.Code","l":"getCode(byte)"},{"p":"org.rocksdb","c":"Status","l":"getCodeString()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getColumnFamilyCount()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getColumnFamilyId()"},{"p":"org.rocksdb","c":"TableProperties","l":"getColumnFamilyId()"},{"p":"org.rocksdb","c":"Transaction.WaitingTransactions","l":"getColumnFamilyId()"},{"p":"org.rocksdb","c":"TransactionDB.DeadlockInfo","l":"getColumnFamilyId()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"getColumnFamilyId()"},{"p":"org.rocksdb","c":"RocksDB","l":"getColumnFamilyMetaData()"},{"p":"org.rocksdb","c":"RocksDB","l":"getColumnFamilyMetaData(ColumnFamilyHandle)","u":"getColumnFamilyMetaData(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"getColumnFamilyName()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getColumnFamilyName()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"getColumnFamilyName()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"getColumnFamilyName()"},{"p":"org.rocksdb","c":"TableProperties","l":"getColumnFamilyName()"},{"p":"org.rocksdb","c":"WriteStallInfo","l":"getColumnFamilyName()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getColumnFamilyName(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"getColumnFamilyOptionsFromProps(ConfigOptions, Properties)","u":"getColumnFamilyOptionsFromProps(org.rocksdb.ConfigOptions,java.util.Properties)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"getColumnFamilyOptionsFromProps(Properties)","u":"getColumnFamilyOptionsFromProps(java.util.Properties)"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getColumnFamilyUsage(int)"},{"p":"org.rocksdb","c":"Transaction","l":"getCommitTimeWriteBatch()"},{"p":"org.rocksdb","c":"CompactionPriority","l":"getCompactionPriority(byte)"},{"p":"org.rocksdb","c":"CompactionStopStyle","l":"getCompactionStopStyle(byte)"},{"p":"org.rocksdb","c":"TableProperties","l":"getComparatorName()"},{"p":"org.rocksdb","c":"PerfContext","l":"getCompressedSecCacheCompressedBytes()"},{"p":"org.rocksdb","c":"PerfContext","l":"getCompressedSecCacheInsertDummyCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getCompressedSecCacheInsertRealCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getCompressedSecCacheUncompressedBytes()"},{"p":"org.rocksdb","c":"PerfContext","l":"getCompressionDictBlockReadCount()"},{"p":"org.rocksdb","c":"TableProperties","l":"getCompressionName()"},{"p":"org.rocksdb","c":"CompressedSecondaryCache","l":"getCompressionType()"},{"p":"org.rocksdb","c":"CompressionType","l":"getCompressionType(byte)"},{"p":"org.rocksdb","c":"CompressionType","l":"getCompressionType(String)","u":"getCompressionType(java.lang.String)"},{"p":"org.rocksdb","c":"WriteBatch.SavePoint","l":"getContentFlags()"},{"p":"org.rocksdb","c":"BackupEngine","l":"getCorruptedBackups()"},{"p":"org.rocksdb","c":"HistogramData","l":"getCount()"},{"p":"org.rocksdb","c":"PerfContextSampler.Histogram","l":"getCount()"},{"p":"org.rocksdb","c":"WriteBatch.SavePoint","l":"getCount()"},{"p":"org.rocksdb","c":"TableProperties","l":"getCreationTime()"},{"p":"org.rocksdb","c":"WriteStallInfo","l":"getCurrentCondition()"},{"p":"org.rocksdb","c":"RangeLockManager","l":"getCurrentLockMemory()"},{"p":"org.rocksdb","c":"TableProperties","l":"getDataSize()"},{"p":"org.rocksdb","c":"WriteBatch","l":"getDataSize()"},{"p":"org.rocksdb","c":"PerfContext","l":"getDbConditionWaitNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getDbMutexLockNanos()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"getDbName()"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"getDbName()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getDbName()"},{"p":"org.rocksdb","c":"RocksDB","l":"getDBOptions()"},{"p":"org.rocksdb","c":"DBOptions","l":"getDBOptionsFromProps(ConfigOptions, Properties)","u":"getDBOptionsFromProps(org.rocksdb.ConfigOptions,java.util.Properties)"},{"p":"org.rocksdb","c":"DBOptions","l":"getDBOptionsFromProps(Properties)","u":"getDBOptionsFromProps(java.util.Properties)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"getDeadlockDetectDepth()"},{"p":"org.rocksdb","c":"TransactionDB","l":"getDeadlockInfoBuffer()"},{"p":"org.rocksdb","c":"PerfContext","l":"getDecryptDataNanos()"},{"p":"org.rocksdb","c":"Env","l":"getDefault()"},{"p":"org.rocksdb","c":"RocksDB","l":"getDefaultColumnFamily()"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"getDefaultLockTimeout()"},{"p":"org.rocksdb","c":"SstFileManager","l":"getDeleteRateBytesPerSecond()"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"getDescriptor()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getDouble(K)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"getDroppedEventCount()"},{"p":"org.rocksdb","c":"Logger","l":"getDroppedMessageCount()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"getDuration()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"getEarliestSeqno()"},{"p":"org.rocksdb","c":"Transaction","l":"getElapsedTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEncryptDataNanos()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"getEnd()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getEnum(K)"},{"p":"org.rocksdb","c":"DBOptions","l":"getEnv()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"getEnv()"},{"p":"org.rocksdb","c":"Options","l":"getEnv()"},{"p":"org.rocksdb","c":"RocksDB","l":"getEnv()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvCreateDirIfMissingNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvCreateDirNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvDeleteDirNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvDeleteFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvFileExistsNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvGetChildrenFileAttributesNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvGetChildrenNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvGetFileModificationTimeNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvGetFileSizeNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvLinkFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvLockFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvNewDirectoryNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvNewLoggerNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvNewRandomAccessFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvNewRandomRwFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvNewSequentialFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvNewWritableFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvRenameFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvReuseWritableFileNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getEnvUnlockFileNanos()"},{"p":"org.rocksdb","c":"RangeLockManager","l":"getEscalationCount()"},{"p":"org.rocksdb","c":"TransactionOptions","l":"getExpiration()"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"getExternalFilePath()"},{"p":"org.rocksdb.util","c":"Environment","l":"getFallbackJniLibraryFileName(String)","u":"getFallbackJniLibraryFileName(java.lang.String)"},{"p":"org.rocksdb.util","c":"Environment","l":"getFallbackJniLibraryName(String)","u":"getFallbackJniLibraryName(java.lang.String)"},{"p":"org.rocksdb","c":"TableProperties","l":"getFastCompressionEstimatedDataSize()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getFilePath()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"getFilePath()"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"getFilePath()"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"getFileSize()"},{"p":"org.rocksdb","c":"TraceWriter","l":"getFileSize()"},{"p":"org.rocksdb","c":"PerfContext","l":"getFilterBlockReadCount()"},{"p":"org.rocksdb","c":"TableProperties","l":"getFilterPolicyName()"},{"p":"org.rocksdb","c":"TableProperties","l":"getFilterSize()"},{"p":"org.rocksdb","c":"PerfContext","l":"getFindNextUserEntryTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getFindTableNanos()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"getFirstSeqno()"},{"p":"org.rocksdb","c":"TableProperties","l":"getFixedKeyLen()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getFlushReason()"},{"p":"org.rocksdb","c":"TableProperties","l":"getFormatVersion()"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, byte[], boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,byte[],boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, byte[], int, int, byte[], int, int, boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int,boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, ByteBuffer, ByteBuffer, boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer,boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,byte[],boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], boolean, boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,byte[],boolean,boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, ColumnFamilyHandle, byte[], int, int, byte[], int, int, boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,byte[],int,int,byte[],int,int,boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getForUpdate(ReadOptions, ColumnFamilyHandle, ByteBuffer, ByteBuffer, boolean)","u":"getForUpdate(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer,java.nio.ByteBuffer,boolean)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatch(ColumnFamilyHandle, DBOptions, byte[])","u":"getFromBatch(org.rocksdb.ColumnFamilyHandle,org.rocksdb.DBOptions,byte[])"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatch(DBOptions, byte[])","u":"getFromBatch(org.rocksdb.DBOptions,byte[])"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatchAndDB(RocksDB, ColumnFamilyHandle, ReadOptions, byte[])","u":"getFromBatchAndDB(org.rocksdb.RocksDB,org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatchAndDB(RocksDB, ColumnFamilyHandle, ReadOptions, byte[], int, int, byte[], int, int)","u":"getFromBatchAndDB(org.rocksdb.RocksDB,org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatchAndDB(RocksDB, ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)","u":"getFromBatchAndDB(org.rocksdb.RocksDB,org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatchAndDB(RocksDB, ReadOptions, byte[])","u":"getFromBatchAndDB(org.rocksdb.RocksDB,org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatchAndDB(RocksDB, ReadOptions, byte[], int, int, byte[], int, int)","u":"getFromBatchAndDB(org.rocksdb.RocksDB,org.rocksdb.ReadOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"getFromBatchAndDB(RocksDB, ReadOptions, ByteBuffer, ByteBuffer)","u":"getFromBatchAndDB(org.rocksdb.RocksDB,org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"PerfContext","l":"getFromMemtableCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getFromMemtableTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getFromOutputFilesTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getGetCpuNanos()"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"getGlobalSeqno()"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"getHistogram(String, PerfContextMetric)","u":"getHistogram(java.lang.String,org.rocksdb.PerfContextMetric)"},{"p":"org.rocksdb","c":"Statistics","l":"getHistogramData(HistogramType)","u":"getHistogramData(org.rocksdb.HistogramType)"},{"p":"org.rocksdb","c":"Statistics","l":"getHistogramString(HistogramType)","u":"getHistogramString(org.rocksdb.HistogramType)"},{"p":"org.rocksdb","c":"HistogramType","l":"getHistogramType(byte)"},{"p":"org.rocksdb","c":"Transaction","l":"getId()"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"getID()"},{"p":"org.rocksdb","c":"Transaction","l":"getID()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getImmutableMemTablesUsage(int)"},{"p":"org.rocksdb","c":"PerfContext","l":"getIndexBlockReadCount()"},{"p":"org.rocksdb","c":"TableProperties","l":"getIndexKeyIsUserKey()"},{"p":"org.rocksdb","c":"TableProperties","l":"getIndexPartitions()"},{"p":"org.rocksdb","c":"TableProperties","l":"getIndexSize()"},{"p":"org.rocksdb","c":"TableProperties","l":"getIndexValueIsDeltaEncoded()"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"getInfoLogLevel(byte)"},{"p":"org.rocksdb","c":"NativeLibraryLoader","l":"getInstance()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getInt(K)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getIntArray(K)"},{"p":"org.rocksdb","c":"PerfContext","l":"getInternalDeleteSkippedCount()"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"getInternalFilePath()"},{"p":"org.rocksdb","c":"PerfContext","l":"getInternalKeySkippedCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getInternalMergeCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getInternalMergePointLookupCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getInternalRangeDelReseekCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getInternalRecentSkippedCount()"},{"p":"org.rocksdb","c":"Transaction","l":"getIterator(ReadOptions)","u":"getIterator(org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"Transaction","l":"getIterator(ReadOptions, ColumnFamilyHandle)","u":"getIterator(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"PerfContext","l":"getIterNextCpuNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getIterPrevCpuNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getIterReadBytes()"},{"p":"org.rocksdb","c":"PerfContext","l":"getIterSeekCpuNanos()"},{"p":"org.rocksdb.util","c":"Environment","l":"getJniLibraryExtension()"},{"p":"org.rocksdb.util","c":"Environment","l":"getJniLibraryFileName(String)","u":"getJniLibraryFileName(java.lang.String)"},{"p":"org.rocksdb.util","c":"Environment","l":"getJniLibraryName(String)","u":"getJniLibraryName(java.lang.String)"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getJobId()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"getJobId()"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"getJobId()"},{"p":"org.rocksdb","c":"Transaction.WaitingTransactions","l":"getKey()"},{"p":"org.rocksdb","c":"TransactionDB.KeyLockInfo","l":"getKey()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"getKey()"},{"p":"org.rocksdb","c":"PerfContext","l":"getKeyLockWaitCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getKeyLockWaitTime()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getLargestSeqno()"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"getLastScrapeFailure()"},{"p":"org.rocksdb","c":"OptionsUtil","l":"getLatestOptionsFileName(String, Env)","u":"getLatestOptionsFileName(java.lang.String,org.rocksdb.Env)"},{"p":"org.rocksdb","c":"RocksDB","l":"getLatestSequenceNumber()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"getLength()"},{"p":"org.rocksdb.util","c":"Environment","l":"getLibcName()"},{"p":"org.rocksdb","c":"CompressionType","l":"getLibraryName()"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"getLibraryName()"},{"p":"org.rocksdb","c":"RocksDB","l":"getLiveFiles()"},{"p":"org.rocksdb","c":"RocksDB","l":"getLiveFiles(boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"getLiveFilesMetaData()"},{"p":"org.rocksdb","c":"TransactionDB","l":"getLockStatusData()"},{"p":"org.rocksdb","c":"TransactionOptions","l":"getLockTimeout()"},{"p":"org.rocksdb","c":"RangeLockManager","l":"getLockWaitCount()"},{"p":"org.rocksdb","c":"Transaction","l":"getLogNumber()"},{"p":"org.rocksdb","c":"RocksDB","l":"getLong(ColumnFamilyHandle, long, ByteBuffer)","u":"getLong(org.rocksdb.ColumnFamilyHandle,long,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getLong(K)"},{"p":"org.rocksdb","c":"RocksDB","l":"getLong(ReadOptions, ColumnFamilyHandle, long, ByteBuffer)","u":"getLong(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,long,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"getLongProperty(ColumnFamilyHandle, String)","u":"getLongProperty(org.rocksdb.ColumnFamilyHandle,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"getLongProperty(String)","u":"getLongProperty(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB.Version","l":"getMajor()"},{"p":"org.rocksdb","c":"RocksDB","l":"getMapProperty(ColumnFamilyHandle, String)","u":"getMapProperty(org.rocksdb.ColumnFamilyHandle,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"getMapProperty(String)","u":"getMapProperty(java.lang.String)"},{"p":"org.rocksdb","c":"HistogramData","l":"getMax()"},{"p":"org.rocksdb","c":"PerfContextSampler.Histogram","l":"getMax()"},{"p":"org.rocksdb","c":"RangeLockManager","l":"getMaxLockMemory()"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"getMaxNumLocks()"},{"p":"org.rocksdb","c":"TraceOptions","l":"getMaxTraceFileSize()"},{"p":"org.rocksdb","c":"SstFileManager","l":"getMaxTrashDBRatio()"},{"p":"org.rocksdb","c":"TransactionOptions","l":"getMaxWriteBatchSize()"},{"p":"org.rocksdb","c":"HistogramData","l":"getMedian()"},{"p":"org.rocksdb","c":"PerfContextSampler.Histogram","l":"getMedian()"},{"p":"org.rocksdb","c":"MemoryUtil","l":"getMemoryUsageReport(RocksDB, List<ColumnFamilyHandle>)","u":"getMemoryUsageReport(org.rocksdb.RocksDB,java.util.List)"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"getMemoryUsageType(byte)"},{"p":"org.rocksdb","c":"TableProperties","l":"getMergeOperatorName()"},{"p":"org.rocksdb","c":"PerfContext","l":"getMergeOperatorTimeNanos()"},{"p":"org.rocksdb","c":"HistogramData","l":"getMin()"},{"p":"org.rocksdb","c":"RocksDB.Version","l":"getMinor()"},{"p":"org.rocksdb","c":"PerfContext","l":"getMultigetReadBytes()"},{"p":"org.rocksdb","c":"ColumnFamilyDescriptor","l":"getName()"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"getName()"},{"p":"org.rocksdb","c":"RocksDB","l":"getName()"},{"p":"org.rocksdb","c":"Transaction","l":"getName()"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"getNativeHandle()"},{"p":"org.rocksdb","c":"RocksObject","l":"getNativeHandle()"},{"p":"org.rocksdb","c":"PerfContext","l":"getNewTableBlockIterNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getNewTableIteratorNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getNextOnMemtableCount()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"getNextSequenceNumber()"},{"p":"org.rocksdb","c":"PerfContext","l":"getNumberAsyncSeek()"},{"p":"org.rocksdb","c":"TableProperties","l":"getNumDataBlocks()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"getNumDeletes()"},{"p":"org.rocksdb","c":"Transaction","l":"getNumDeletes()"},{"p":"org.rocksdb","c":"TableProperties","l":"getNumDeletions()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"getNumEntries()"},{"p":"org.rocksdb","c":"TableProperties","l":"getNumEntries()"},{"p":"org.rocksdb","c":"Transaction","l":"getNumKeys()"},{"p":"org.rocksdb","c":"TableProperties","l":"getNumMergeOperands()"},{"p":"org.rocksdb","c":"Transaction","l":"getNumMerges()"},{"p":"org.rocksdb","c":"Transaction","l":"getNumPuts()"},{"p":"org.rocksdb","c":"TableProperties","l":"getNumRangeDeletions()"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"getNumStripes()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"getOffset()"},{"p":"org.rocksdb","c":"TableProperties","l":"getOldestKeyTime()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationElapsedTime()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationName(OperationType)","u":"getOperationName(org.rocksdb.OperationType)"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationProperties()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationPropertyName(OperationType, int)","u":"getOperationPropertyName(org.rocksdb.OperationType,int)"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"getOperations()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationStage()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationStageName(OperationStage)","u":"getOperationStageName(org.rocksdb.OperationStage)"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getOperationType()"},{"p":"org.rocksdb","c":"ColumnFamilyDescriptor","l":"getOptions()"},{"p":"org.rocksdb","c":"RocksDB","l":"getOptions()"},{"p":"org.rocksdb","c":"RocksDB","l":"getOptions(ColumnFamilyHandle)","u":"getOptions(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"Options","l":"getOptionStringFromProps(Properties)","u":"getOptionStringFromProps(java.util.Properties)"},{"p":"org.rocksdb","c":"RocksDB.Version","l":"getPatch()"},{"p":"org.rocksdb","c":"CacheDumper","l":"getPath()"},{"p":"org.rocksdb","c":"CacheLoader","l":"getPath()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"getPath()"},{"p":"org.rocksdb","c":"PerfContextSampler.Histogram","l":"getPercentile(double)"},{"p":"org.rocksdb","c":"HistogramData","l":"getPercentile95()"},{"p":"org.rocksdb","c":"HistogramData","l":"getPercentile99()"},{"p":"org.rocksdb","c":"RocksDB","l":"getPerfContext()"},{"p":"org.rocksdb","c":"RocksDB","l":"getPerfLevel()"},{"p":"org.rocksdb","c":"PerfLevel","l":"getPerfLevel(byte)"},{"p":"org.rocksdb","c":"RocksDB","l":"getPinned(ReadOptions, byte[])","u":"getPinned(org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"getPinned(ReadOptions, ColumnFamilyHandle, byte[])","u":"getPinned(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getPinnedMemTablesUsage(int)"},{"p":"org.rocksdb","c":"Cache","l":"getPinnedUsage()"},{"p":"org.rocksdb","c":"PerfContext","l":"getPostProcessTime()"},{"p":"org.rocksdb","c":"TableProperties","l":"getPrefixExtractorName()"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"getPrepopulateBlobCache(byte)"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"getPrepopulateBlobCache(String)","u":"getPrepopulateBlobCache(java.lang.String)"},{"p":"org.rocksdb","c":"WriteStallInfo","l":"getPreviousCondition()"},{"p":"org.rocksdb","c":"PerfContext","l":"getPrevOnMemtableCount()"},{"p":"org.rocksdb","c":"RocksDB","l":"getPropertiesOfAllTables()"},{"p":"org.rocksdb","c":"RocksDB","l":"getPropertiesOfAllTables(ColumnFamilyHandle)","u":"getPropertiesOfAllTables(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"RocksDB","l":"getPropertiesOfTablesInRange(ColumnFamilyHandle, List<Range>)","u":"getPropertiesOfTablesInRange(org.rocksdb.ColumnFamilyHandle,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"getPropertiesOfTablesInRange(List<Range>)","u":"getPropertiesOfTablesInRange(java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"getProperty(ColumnFamilyHandle, String)","u":"getProperty(org.rocksdb.ColumnFamilyHandle,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"getProperty(String)","u":"getProperty(java.lang.String)"},{"p":"org.rocksdb","c":"TableProperties","l":"getPropertyCollectorsNames()"},{"p":"org.rocksdb","c":"Transaction","l":"getRangeLock(ColumnFamilyHandle, byte[], boolean, byte[], boolean)","u":"getRangeLock(org.rocksdb.ColumnFamilyHandle,byte[],boolean,byte[],boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"getRangeLock(ColumnFamilyHandle, byte[], byte[])","u":"getRangeLock(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RangeLockManager","l":"getRangeLockStatusData()"},{"p":"org.rocksdb","c":"TransactionDB","l":"getRangeLockStatusData()"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"getRateLimiterMode(byte)"},{"p":"org.rocksdb","c":"TableProperties","l":"getRawKeySize()"},{"p":"org.rocksdb","c":"TableProperties","l":"getRawValueSize()"},{"p":"org.rocksdb","c":"TableProperties","l":"getReadableProperties()"},{"p":"org.rocksdb","c":"PerfContext","l":"getReadBytes()"},{"p":"org.rocksdb","c":"PerfContext","l":"getReadFilterBlockNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getReadIndexBlockNanos()"},{"p":"org.rocksdb","c":"ReadTier","l":"getReadTier(byte)"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"getReason()"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"getReusedSynchronisationType(byte)"},{"p":"org.rocksdb","c":"RowCacheMode","l":"getRowCacheMode(byte)"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"getSampleCount(String)","u":"getSampleCount(java.lang.String)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"getScrapeFailures()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSecondaryCacheHitCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekChildSeekCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekChildSeekTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekInternalSeekTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekMaxHeapTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekMinHeapTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekOnMemtableCount()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSeekOnMemtableTime()"},{"p":"org.rocksdb","c":"Snapshot","l":"getSequenceNumber()"},{"p":"org.rocksdb.util","c":"Environment","l":"getSharedLibraryFileName(String)","u":"getSharedLibraryFileName(java.lang.String)"},{"p":"org.rocksdb.util","c":"Environment","l":"getSharedLibraryName(String)","u":"getSharedLibraryName(java.lang.String)"},{"p":"org.rocksdb","c":"RateLimiter","l":"getSingleBurstBytes()"},{"p":"org.rocksdb","c":"WriteBatch.SavePoint","l":"getSize()"},{"p":"org.rocksdb","c":"TableProperties","l":"getSlowCompressionEstimatedDataSize()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getSmallestSeqno()"},{"p":"org.rocksdb","c":"RocksDB","l":"getSnapshot()"},{"p":"org.rocksdb","c":"Transaction","l":"getSnapshot()"},{"p":"org.rocksdb","c":"PerfContext","l":"getSnapshotTime()"},{"p":"org.rocksdb","c":"RocksDB","l":"getSortedWalFiles()"},{"p":"org.rocksdb","c":"HistogramData","l":"getStandardDeviation()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"getStart()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"getStartTimestamp()"},{"p":"org.rocksdb","c":"Status","l":"getState()"},{"p":"org.rocksdb","c":"Transaction","l":"getState()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getStateName(StateType)","u":"getStateName(org.rocksdb.StateType)"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getStateType()"},{"p":"org.rocksdb","c":"StatsCollectorInput","l":"getStatistics()"},{"p":"org.rocksdb","c":"StatsLevel","l":"getStatsLevel(byte)"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"getStatus()"},{"p":"org.rocksdb","c":"RocksDBException","l":"getStatus()"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"getStatus()"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"getStatus()"},{"p":"org.rocksdb","c":"Status","l":"getSubCode()"},{"p":"org.rocksdb","c":"Status.SubCode","l":"getSubCode(byte)"},{"p":"org.rocksdb","c":"HistogramData","l":"getSum()"},{"p":"org.rocksdb","c":"PerfContextSampler.Histogram","l":"getSum()"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"getTableProperties()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getTableProperties()"},{"p":"org.rocksdb","c":"SstFileReader","l":"getTableProperties()"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"getTableProperties()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getTableReadersUsage(int)"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"getThreadId()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getThreadId()"},{"p":"org.rocksdb","c":"Env","l":"getThreadList()"},{"p":"org.rocksdb","c":"Env","l":"getThreadPoolQueueLen(Priority)","u":"getThreadPoolQueueLen(org.rocksdb.Priority)"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getThreadType()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"getThreadTypeName(ThreadType)","u":"getThreadTypeName(org.rocksdb.ThreadType)"},{"p":"org.rocksdb","c":"Statistics","l":"getTickerCount(TickerType)","u":"getTickerCount(org.rocksdb.TickerType)"},{"p":"org.rocksdb","c":"TickerType","l":"getTickerType(byte)"},{"p":"org.rocksdb","c":"TableProperties","l":"getTopLevelIndexSize()"},{"p":"org.rocksdb","c":"RateLimiter","l":"getTotalBytesThrough()"},{"p":"org.rocksdb","c":"RateLimiter","l":"getTotalRequests()"},{"p":"org.rocksdb","c":"SstFileManager","l":"getTotalSize()"},{"p":"org.rocksdb","c":"SstFileManager","l":"getTrackedFiles()"},{"p":"org.rocksdb","c":"TransactionDB","l":"getTransactionByName(String)","u":"getTransactionByName(java.lang.String)"},{"p":"org.rocksdb","c":"TransactionDB.DeadlockInfo","l":"getTransactionID()"},{"p":"org.rocksdb","c":"Transaction.WaitingTransactions","l":"getTransactionIds()"},{"p":"org.rocksdb","c":"TransactionDB.KeyLockInfo","l":"getTransactionIDs()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"getTransactionIDs()"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"getTransactionLockTimeout()"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"getTransactionState(byte)"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"getTxnDBWritePolicy(byte)"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"getType()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"getUnknown()"},{"p":"org.rocksdb","c":"RocksDB","l":"getUpdatesSince(long)"},{"p":"org.rocksdb","c":"Cache","l":"getUsage()"},{"p":"org.rocksdb","c":"TableProperties","l":"getUserCollectedProperties()"},{"p":"org.rocksdb","c":"PerfContext","l":"getUserKeyComparisonCount()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"getValue()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.ValueType","l":"getValue()"},{"p":"org.rocksdb","c":"AccessHint","l":"getValue()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"getValue()"},{"p":"org.rocksdb","c":"CacheHandle","l":"getValue()"},{"p":"org.rocksdb","c":"ChecksumType","l":"getValue()"},{"p":"org.rocksdb","c":"CompactionPriority","l":"getValue()"},{"p":"org.rocksdb","c":"CompactionStopStyle","l":"getValue()"},{"p":"org.rocksdb","c":"CompactionStyle","l":"getValue()"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"getValue()"},{"p":"org.rocksdb","c":"CompressionType","l":"getValue()"},{"p":"org.rocksdb","c":"EncodingType","l":"getValue()"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"getValue()"},{"p":"org.rocksdb","c":"HistogramType","l":"getValue()"},{"p":"org.rocksdb","c":"Holder","l":"getValue()"},{"p":"org.rocksdb","c":"IndexType","l":"getValue()"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"getValue()"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"getValue()"},{"p":"org.rocksdb","c":"PerfLevel","l":"getValue()"},{"p":"org.rocksdb","c":"PinnedValue","l":"getValue()"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"getValue()"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"getValue()"},{"p":"org.rocksdb","c":"ReadTier","l":"getValue()"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"getValue()"},{"p":"org.rocksdb","c":"RowCacheMode","l":"getValue()"},{"p":"org.rocksdb","c":"StatsLevel","l":"getValue()"},{"p":"org.rocksdb","c":"Status.Code","l":"getValue()"},{"p":"org.rocksdb","c":"Status.SubCode","l":"getValue()"},{"p":"org.rocksdb","c":"TickerType","l":"getValue()"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"getValue()"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"getValue()"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"getValue()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"getValue()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"getValueType()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"getValueType()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"getValueType()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"getValueType()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"getValueType()"},{"p":"org.rocksdb","c":"MutableOptionKey","l":"getValueType()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.ValueType","l":"getValueType(byte)"},{"p":"org.rocksdb","c":"TransactionDB.DeadlockInfo","l":"getWaitingKey()"},{"p":"org.rocksdb","c":"Transaction","l":"getWaitingTxns()"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"getWALRecoveryMode(byte)"},{"p":"org.rocksdb","c":"WriteBatch","l":"getWalTerminationPoint()"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"getWriteBatch()"},{"p":"org.rocksdb","c":"Transaction","l":"getWriteBatch()"},{"p":"org.rocksdb","c":"WriteBatch","l":"getWriteBatch()"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"getWriteBatch()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getWriteBufferManagerBufferSize()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getWriteBufferManagerMemoryUsage()"},{"p":"org.rocksdb","c":"MemoryUsageReport","l":"getWriteBufferManagerMutableMemoryUsage()"},{"p":"org.rocksdb","c":"PerfContext","l":"getWriteDelayTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getWriteMemtableTime()"},{"p":"org.rocksdb","c":"Transaction","l":"getWriteOptions()"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"getWritePolicy()"},{"p":"org.rocksdb","c":"PerfContext","l":"getWritePreAndPostProcessTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getWriteSchedulingFlushesCompactionsTime()"},{"p":"org.rocksdb","c":"PerfContext","l":"getWriteThreadWaitNanos()"},{"p":"org.rocksdb","c":"PerfContext","l":"getWriteWalTime()"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"Handler()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"hard_pending_compaction_bytes_limit"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"hardPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"hardPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"hardPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"Options","l":"hardPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasBeginPrepare()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasCommit()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasDelete()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasDeleteRange()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasEndPrepare()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"hashCode()"},{"p":"org.rocksdb","c":"BloomFilter","l":"hashCode()"},{"p":"org.rocksdb","c":"ColumnFamilyDescriptor","l":"hashCode()"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"hashCode()"},{"p":"org.rocksdb","c":"CompactRangeOptions.Timestamp","l":"hashCode()"},{"p":"org.rocksdb","c":"DbPath","l":"hashCode()"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"IteratorBatchResult","l":"hashCode()"},{"p":"org.rocksdb","c":"KeyMayExist","l":"hashCode()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"Status","l":"hashCode()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"TableProperties","l":"hashCode()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"hashCode()"},{"p":"org.rocksdb","c":"WriteStallInfo","l":"hashCode()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"hashIndexAllowCollision()"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"HashLinkedListMemTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"HashSkipListMemTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"hashTableRatio()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasMerge()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasPut()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasRollback()"},{"p":"org.rocksdb","c":"WriteBatch","l":"hasSingleDelete()"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"HEADER_LEVEL"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"height()"},{"p":"org.rocksdb","c":"Priority","l":"HIGH"},{"p":"org.rocksdb","c":"ThreadType","l":"HIGH_PRIORITY"},{"p":"org.rocksdb","c":"HistogramType","l":"HISTOGRAM_ENUM_MAX"},{"p":"org.rocksdb","c":"StatisticsCollectorCallback","l":"histogramCallback(HistogramType, HistogramData)","u":"histogramCallback(org.rocksdb.HistogramType,org.rocksdb.HistogramData)"},{"p":"org.rocksdb","c":"HistogramData","l":"HistogramData(double, double, double, double, double)","u":"%3Cinit%3E(double,double,double,double,double)"},{"p":"org.rocksdb","c":"HistogramData","l":"HistogramData(double, double, double, double, double, double, long, long, double)","u":"%3Cinit%3E(double,double,double,double,double,double,long,long,double)"},{"p":"org.rocksdb","c":"Holder","l":"Holder()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Holder","l":"Holder(T)","u":"%3Cinit%3E(T)"},{"p":"org.rocksdb","c":"TickerType","l":"HOT_FILE_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"HOT_FILE_READ_COUNT"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"hugePageTlbSize()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"hugePageTlbSize()"},{"p":"org.rocksdb","c":"HyperClockCache","l":"HyperClockCache(long, long, int, boolean)","u":"%3Cinit%3E(long,long,int,boolean)"},{"p":"org.rocksdb","c":"HyperClockCache","l":"HyperClockCache(long, long, int, boolean, SecondaryCache)","u":"%3Cinit%3E(long,long,int,boolean,org.rocksdb.SecondaryCache)"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"ifLogBucketDistWhenFlush()"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"IGNORE_CURRENT_RECORD"},{"p":"org.rocksdb","c":"WriteOptions","l":"ignoreMissingColumnFamilies()"},{"p":"org.rocksdb","c":"ReadOptions","l":"ignoreRangeDeletions()"},{"p":"org.rocksdb","c":"ImportColumnFamilyOptions","l":"ImportColumnFamilyOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Env","l":"incBackgroundThreadsIfNeeded(int, Priority)","u":"incBackgroundThreadsIfNeeded(int,org.rocksdb.Priority)"},{"p":"org.rocksdb","c":"SizeApproximationFlag","l":"INCLUDE_FILES"},{"p":"org.rocksdb","c":"SizeApproximationFlag","l":"INCLUDE_MEMTABLES"},{"p":"org.rocksdb","c":"Status.Code","l":"Incomplete"},{"p":"org.rocksdb.metrics","c":"MetricsRegistry.Counter","l":"increment(long)"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"INDEX_BLOCK"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INDEX_BLOCK_READ_COUNT"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"indexBlockRestartInterval()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"indexShortening()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"indexSparseness()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"indexType()"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"INFO_LEVEL"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"infoLog()"},{"p":"org.rocksdb","c":"DBOptions","l":"infoLogLevel()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"infoLogLevel()"},{"p":"org.rocksdb","c":"Logger","l":"infoLogLevel()"},{"p":"org.rocksdb","c":"Options","l":"infoLogLevel()"},{"p":"org.rocksdb","c":"Logger","l":"infoLogLevel(long)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"ingestBehind()"},{"p":"org.rocksdb","c":"RocksDB","l":"ingestExternalFile(ColumnFamilyHandle, List<String>, IngestExternalFileOptions)","u":"ingestExternalFile(org.rocksdb.ColumnFamilyHandle,java.util.List,org.rocksdb.IngestExternalFileOptions)"},{"p":"org.rocksdb","c":"RocksDB","l":"ingestExternalFile(List<String>, IngestExternalFileOptions)","u":"ingestExternalFile(java.util.List,org.rocksdb.IngestExternalFileOptions)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"IngestExternalFileOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"IngestExternalFileOptions(boolean, boolean, boolean, boolean)","u":"%3Cinit%3E(boolean,boolean,boolean,boolean)"},{"p":"org.rocksdb","c":"AbstractCompactionFilterFactory","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractComparator","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractTableFilter","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractTraceWriter","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractTransactionNotifier","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"AbstractWalFilter","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"Logger","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"RocksCallbackObject","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"initializeNative(long...)"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"inlineFallbackCount()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"inplace_update_num_locks"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"inplaceUpdateNumLocks()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"inplaceUpdateNumLocks()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"inplaceUpdateNumLocks()"},{"p":"org.rocksdb","c":"Options","l":"inplaceUpdateNumLocks()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"inplaceUpdateSupport()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"inplaceUpdateSupport()"},{"p":"org.rocksdb","c":"Options","l":"inplaceUpdateSupport()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"inputFiles()"},{"p":"org.rocksdb","c":"Cache","l":"insert(byte[], byte[], long)","u":"insert(byte[],byte[],long)"},{"p":"org.rocksdb","c":"Cache","l":"insert(byte[], ByteBuffer, long)","u":"insert(byte[],java.nio.ByteBuffer,long)"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"INT"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"INT_ARRAY"},{"p":"org.rocksdb.util","c":"IntComparator","l":"IntComparator(ComparatorOptions)","u":"%3Cinit%3E(org.rocksdb.ComparatorOptions)"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INTERNAL_DELETE_SKIPPED_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INTERNAL_KEY_SKIPPED_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INTERNAL_MERGE_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INTERNAL_MERGE_POINT_LOOKUP_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INTERNAL_RANGE_DEL_RESEEK_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"INTERNAL_RECENT_SKIPPED_COUNT"},{"p":"org.rocksdb","c":"ThreadStatus","l":"interpretOperationProperties(OperationType, long[])","u":"interpretOperationProperties(org.rocksdb.OperationType,long[])"},{"p":"org.rocksdb","c":"Status.Code","l":"InvalidArgument"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_ALLOCATE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_BYTES_READ"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_BYTES_WRITTEN"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_COLD_FILE_BYTES_READ"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_COLD_FILE_READ_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_CPU_READ_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_CPU_WRITE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_FSYNC_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_HOT_FILE_BYTES_READ"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_HOT_FILE_READ_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_LOGGER_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_OPEN_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_PREPARE_WRITE_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_RANGE_SYNC_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_READ_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_WARM_FILE_BYTES_READ"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_WARM_FILE_READ_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"IO_STATS_WRITE_NANOS"},{"p":"org.rocksdb","c":"Status.Code","l":"IOError"},{"p":"org.rocksdb","c":"ReadOptions","l":"ioTimeout()"},{"p":"org.rocksdb.util","c":"Environment","l":"is64Bit()"},{"p":"org.rocksdb.util","c":"Environment","l":"isAarch64()"},{"p":"org.rocksdb.util","c":"Environment","l":"isAix()"},{"p":"org.rocksdb","c":"WriteBatch.SavePoint","l":"isCleared()"},{"p":"org.rocksdb","c":"Transaction","l":"isDeadlockDetect()"},{"p":"org.rocksdb","c":"TransactionOptions","l":"isDeadlockDetect()"},{"p":"org.rocksdb","c":"ColumnFamilyHandle","l":"isDefaultColumnFamily()"},{"p":"org.rocksdb","c":"TransactionDB.DeadlockPath","l":"isEmpty()"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"isEnabled()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"isEndInfSuffix()"},{"p":"org.rocksdb","c":"TransactionDB.DeadlockInfo","l":"isExclusive()"},{"p":"org.rocksdb","c":"TransactionDB.KeyLockInfo","l":"isExclusive()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"isExclusive()"},{"p":"org.rocksdb","c":"DBOptions","l":"isFdCloseOnExec()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"isFdCloseOnExec()"},{"p":"org.rocksdb","c":"Options","l":"isFdCloseOnExec()"},{"p":"org.rocksdb.util","c":"Environment","l":"isFreeBSD()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Context","l":"isFullCompaction()"},{"p":"org.rocksdb.util","c":"Environment","l":"isMac()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Context","l":"isManualCompaction()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"isManualCompaction()"},{"p":"org.rocksdb","c":"SstFileManager","l":"isMaxAllowedSpaceReached()"},{"p":"org.rocksdb","c":"SstFileManager","l":"isMaxAllowedSpaceReachedIncludingCompactions()"},{"p":"org.rocksdb.util","c":"Environment","l":"isMuslLibc()"},{"p":"org.rocksdb.util","c":"Environment","l":"isOpenBSD()"},{"p":"org.rocksdb","c":"AbstractImmutableNativeReference","l":"isOwningHandle()"},{"p":"org.rocksdb","c":"AbstractNativeReference","l":"isOwningHandle()"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"isOwningHandle()"},{"p":"org.rocksdb.util","c":"Environment","l":"isPowerPC()"},{"p":"org.rocksdb.util","c":"Environment","l":"isS390x()"},{"p":"org.rocksdb","c":"OptimisticTransactionOptions","l":"isSetSnapshot()"},{"p":"org.rocksdb","c":"TransactionOptions","l":"isSetSnapshot()"},{"p":"org.rocksdb.util","c":"Environment","l":"isSolaris()"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"isStartInfSuffix()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"isTriggeredWritesSlowdown()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"isTriggeredWritesStop()"},{"p":"org.rocksdb.util","c":"Environment","l":"isUnix()"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"isValid()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"isValid()"},{"p":"org.rocksdb","c":"TransactionLogIterator","l":"isValid()"},{"p":"org.rocksdb.util","c":"Environment","l":"isWindows()"},{"p":"org.rocksdb","c":"TickerType","l":"ITER_BYTES_READ"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_NEXT_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_NEXT_CPU_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_PREV_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_PREV_CPU_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_READ_BYTES"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_SEEK_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"ITER_SEEK_CPU_NANOS"},{"p":"org.rocksdb","c":"WriteBatch","l":"iterate(WriteBatch.DirectHandler)","u":"iterate(org.rocksdb.WriteBatch.DirectHandler)"},{"p":"org.rocksdb","c":"WriteBatch","l":"iterate(WriteBatch.Handler)","u":"iterate(org.rocksdb.WriteBatch.Handler)"},{"p":"org.rocksdb","c":"ReadOptions","l":"iterateLowerBound()"},{"p":"org.rocksdb","c":"ReadOptions","l":"iterateUpperBound()"},{"p":"org.rocksdb","c":"IteratorBatchResult","l":"IteratorBatchResult(int, boolean)","u":"%3Cinit%3E(int,boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"iterStartTs()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"jobId()"},{"p":"org.rocksdb","c":"WalFileType","l":"kAliveLogFile"},{"p":"org.rocksdb","c":"WalFileType","l":"kArchivedLogFile"},{"p":"org.rocksdb.util","c":"SizeUnit","l":"KB"},{"p":"org.rocksdb","c":"IndexType","l":"kBinarySearch"},{"p":"org.rocksdb","c":"IndexType","l":"kBinarySearchWithFirstKey"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"kBloomFilterPolicy"},{"p":"org.rocksdb","c":"CompactionReason","l":"kBottommostFiles"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"kCacheTotal"},{"p":"org.rocksdb","c":"CompactionReason","l":"kChangeTemperature"},{"p":"org.rocksdb","c":"ChecksumType","l":"kCRC32c"},{"p":"org.rocksdb","c":"DataBlockIndexType","l":"kDataBlockBinaryAndHash"},{"p":"org.rocksdb","c":"DataBlockIndexType","l":"kDataBlockBinarySearch"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"KEEP"},{"p":"org.rocksdb","c":"DBOptions","l":"keepLogFileNum()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"keepLogFileNum()"},{"p":"org.rocksdb","c":"Options","l":"keepLogFileNum()"},{"p":"org.rocksdb","c":"KeyMayExist.KeyMayExistEnum","l":"kExistsWithoutValue"},{"p":"org.rocksdb","c":"KeyMayExist.KeyMayExistEnum","l":"kExistsWithValue"},{"p":"org.rocksdb","c":"CompactionReason","l":"kExternalSstIngestion"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"KEY_LOCK_WAIT_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"KEY_LOCK_WAIT_TIME"},{"p":"org.rocksdb","c":"AbstractMutableOptions","l":"KEY_VALUE_PAIR_SEPARATOR"},{"p":"org.rocksdb","c":"AbstractMutableOptions","l":"KEY_VALUE_SEPARATOR"},{"p":"org.rocksdb","c":"RocksIterator","l":"key()"},{"p":"org.rocksdb","c":"SstFileReaderIterator","l":"key()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"key()"},{"p":"org.rocksdb","c":"RocksIterator","l":"key(ByteBuffer)","u":"key(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileReaderIterator","l":"key(ByteBuffer)","u":"key(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(byte[], int, int)","u":"keyExists(byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ByteBuffer)","u":"keyExists(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ColumnFamilyHandle, byte[])","u":"keyExists(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ColumnFamilyHandle, byte[], int, int)","u":"keyExists(org.rocksdb.ColumnFamilyHandle,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ColumnFamilyHandle, ByteBuffer)","u":"keyExists(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ColumnFamilyHandle, ReadOptions, byte[])","u":"keyExists(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ColumnFamilyHandle, ReadOptions, byte[], int, int)","u":"keyExists(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ColumnFamilyHandle, ReadOptions, ByteBuffer)","u":"keyExists(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ReadOptions, byte[])","u":"keyExists(org.rocksdb.ReadOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ReadOptions, byte[], int, int)","u":"keyExists(org.rocksdb.ReadOptions,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyExists(ReadOptions, ByteBuffer)","u":"keyExists(org.rocksdb.ReadOptions,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"TransactionDB.KeyLockInfo","l":"KeyLockInfo(String, long[], boolean)","u":"%3Cinit%3E(java.lang.String,long[],boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(byte[], Holder<byte[]>)","u":"keyMayExist(byte[],org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(byte[], int, int, Holder<byte[]>)","u":"keyMayExist(byte[],int,int,org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ByteBuffer)","u":"keyMayExist(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ByteBuffer, ByteBuffer)","u":"keyMayExist(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, byte[], Holder<byte[]>)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,byte[],org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, byte[], int, int, Holder<byte[]>)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,byte[],int,int,org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, ByteBuffer)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, ByteBuffer, ByteBuffer)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, ReadOptions, byte[], Holder<byte[]>)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, ReadOptions, byte[], int, int, Holder<byte[]>)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,byte[],int,int,org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, ReadOptions, ByteBuffer)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ColumnFamilyHandle, ReadOptions, ByteBuffer, ByteBuffer)","u":"keyMayExist(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"KeyMayExist","l":"KeyMayExist(KeyMayExist.KeyMayExistEnum, int)","u":"%3Cinit%3E(org.rocksdb.KeyMayExist.KeyMayExistEnum,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ReadOptions, byte[], Holder<byte[]>)","u":"keyMayExist(org.rocksdb.ReadOptions,byte[],org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ReadOptions, byte[], int, int, Holder<byte[]>)","u":"keyMayExist(org.rocksdb.ReadOptions,byte[],int,int,org.rocksdb.Holder)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ReadOptions, ByteBuffer)","u":"keyMayExist(org.rocksdb.ReadOptions,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"keyMayExist(ReadOptions, ByteBuffer, ByteBuffer)","u":"keyMayExist(org.rocksdb.ReadOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractMutableOptions","l":"keys"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"keySize()"},{"p":"org.rocksdb","c":"CompactionReason","l":"kFIFOMaxSize"},{"p":"org.rocksdb","c":"CompactionReason","l":"kFIFOReduceNumFiles"},{"p":"org.rocksdb","c":"CompactionReason","l":"kFIFOTtl"},{"p":"org.rocksdb","c":"CompactionReason","l":"kFilesMarkedForCompaction"},{"p":"org.rocksdb","c":"CompactionReason","l":"kFlush"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"kForce"},{"p":"org.rocksdb","c":"CompactionReason","l":"kForcedBlobGC"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"kForceOptimized"},{"p":"org.rocksdb","c":"IndexType","l":"kHashSearch"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"kIfHaveCompactionFilter"},{"p":"org.rocksdb","c":"CompactionReason","l":"kLevelL0FilesNum"},{"p":"org.rocksdb","c":"CompactionReason","l":"kLevelMaxLevelSize"},{"p":"org.rocksdb","c":"CompactionReason","l":"kManualCompaction"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"kMemTableTotal"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"kMemTableUnFlushed"},{"p":"org.rocksdb","c":"ChecksumType","l":"kNoChecksum"},{"p":"org.rocksdb","c":"IndexShorteningMode","l":"kNoShortening"},{"p":"org.rocksdb","c":"KeyMayExist.KeyMayExistEnum","l":"kNotExist"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"kNumUsageTypes"},{"p":"org.rocksdb","c":"CompactionReason","l":"kPeriodicCompaction"},{"p":"org.rocksdb","c":"EncodingType","l":"kPlain"},{"p":"org.rocksdb","c":"EncodingType","l":"kPrefix"},{"p":"org.rocksdb","c":"CompactionReason","l":"kRefitLevel"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"kRibbonFilterPolicy"},{"p":"org.rocksdb","c":"CompactionReason","l":"kRoundRobinTtl"},{"p":"org.rocksdb","c":"IndexShorteningMode","l":"kShortenSeparators"},{"p":"org.rocksdb","c":"IndexShorteningMode","l":"kShortenSeparatorsAndSuccessor"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"kSkip"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"kTableReadersTotal"},{"p":"org.rocksdb","c":"CompactionReason","l":"kTtl"},{"p":"org.rocksdb","c":"IndexType","l":"kTwoLevelIndexSearch"},{"p":"org.rocksdb","c":"CompactionReason","l":"kUniversalSizeAmplification"},{"p":"org.rocksdb","c":"CompactionReason","l":"kUniversalSizeRatio"},{"p":"org.rocksdb","c":"CompactionReason","l":"kUniversalSortedRunNum"},{"p":"org.rocksdb","c":"CompactionReason","l":"kUnknown"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"kUnknownFilterPolicy"},{"p":"org.rocksdb","c":"ChecksumType","l":"kXXH3"},{"p":"org.rocksdb","c":"ChecksumType","l":"kxxHash"},{"p":"org.rocksdb","c":"ChecksumType","l":"kxxHash64"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"largestKey()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"largestOutputKeyPrefix()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"largestSeqno()"},{"p":"org.rocksdb","c":"TickerType","l":"LAST_LEVEL_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"LAST_LEVEL_READ_COUNT"},{"p":"org.rocksdb","c":"CompactionStyle","l":"LEVEL"},{"p":"org.rocksdb","c":"CompressionOptions","l":"level()"},{"p":"org.rocksdb","c":"LevelMetaData","l":"level()"},{"p":"org.rocksdb","c":"LiveFileMetaData","l":"level()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"level0_file_num_compaction_trigger"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"level0_slowdown_writes_trigger"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"level0_stop_writes_trigger"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"level0FileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"level0FileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"level0FileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"Options","l":"level0FileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"level0SlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"level0SlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"level0SlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"Options","l":"level0SlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"level0StopWritesTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"level0StopWritesTrigger()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"level0StopWritesTrigger()"},{"p":"org.rocksdb","c":"Options","l":"level0StopWritesTrigger()"},{"p":"org.rocksdb","c":"RocksDB","l":"level0StopWriteTrigger()"},{"p":"org.rocksdb","c":"RocksDB","l":"level0StopWriteTrigger(ColumnFamilyHandle)","u":"level0StopWriteTrigger(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"levelCompactionDynamicLevelBytes()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"levelCompactionDynamicLevelBytes()"},{"p":"org.rocksdb","c":"Options","l":"levelCompactionDynamicLevelBytes()"},{"p":"org.rocksdb","c":"ColumnFamilyMetaData","l":"levels()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"levelZeroFileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"levelZeroFileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"Options","l":"levelZeroFileNumCompactionTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"levelZeroSlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"levelZeroSlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"Options","l":"levelZeroSlowdownWritesTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"levelZeroStopWritesTrigger()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"levelZeroStopWritesTrigger()"},{"p":"org.rocksdb","c":"Options","l":"levelZeroStopWritesTrigger()"},{"p":"org.rocksdb","c":"RocksDB","l":"listColumnFamilies(Options, String)","u":"listColumnFamilies(org.rocksdb.Options,java.lang.String)"},{"p":"org.rocksdb","c":"DBOptions","l":"listeners()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"listeners()"},{"p":"org.rocksdb","c":"Options","l":"listeners()"},{"p":"org.rocksdb","c":"CacheLoader","l":"load()"},{"p":"org.rocksdb","c":"OptionsUtil","l":"loadLatestOptions(ConfigOptions, String, DBOptions, List<ColumnFamilyDescriptor>)","u":"loadLatestOptions(org.rocksdb.ConfigOptions,java.lang.String,org.rocksdb.DBOptions,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"loadLibrary()"},{"p":"org.rocksdb","c":"RocksDB","l":"loadLibrary(List<String>)","u":"loadLibrary(java.util.List)"},{"p":"org.rocksdb","c":"NativeLibraryLoader","l":"loadLibrary(String)","u":"loadLibrary(java.lang.String)"},{"p":"org.rocksdb","c":"OptionsUtil","l":"loadOptionsFromFile(ConfigOptions, String, DBOptions, List<ColumnFamilyDescriptor>)","u":"loadOptionsFromFile(org.rocksdb.ConfigOptions,java.lang.String,org.rocksdb.DBOptions,java.util.List)"},{"p":"org.rocksdb","c":"Status.SubCode","l":"LockLimit"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"LOCKS_STOLEN"},{"p":"org.rocksdb","c":"Status.SubCode","l":"LockTimeout"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"LOG"},{"p":"org.rocksdb","c":"Logger","l":"log(InfoLogLevel, String)","u":"log(org.rocksdb.InfoLogLevel,java.lang.String)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"logData(byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"logData(ByteBuffer)","u":"logData(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"DBOptions","l":"logFileTimeToRoll()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"logFileTimeToRoll()"},{"p":"org.rocksdb","c":"Options","l":"logFileTimeToRoll()"},{"p":"org.rocksdb","c":"Logger","l":"Logger(DBOptions)","u":"%3Cinit%3E(org.rocksdb.DBOptions)"},{"p":"org.rocksdb","c":"Logger","l":"Logger(DBOptions, int)","u":"%3Cinit%3E(org.rocksdb.DBOptions,int)"},{"p":"org.rocksdb","c":"Logger","l":"Logger(Options)","u":"%3Cinit%3E(org.rocksdb.Options)"},{"p":"org.rocksdb","c":"Logger","l":"Logger(Options, int)","u":"%3Cinit%3E(org.rocksdb.Options,int)"},{"p":"org.rocksdb","c":"LogFile","l":"logNumber()"},{"p":"org.rocksdb","c":"DBOptions","l":"logReadaheadSize()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"logReadaheadSize()"},{"p":"org.rocksdb","c":"Options","l":"logReadaheadSize()"},{"p":"org.rocksdb","c":"WalFilter","l":"logRecordFound(long, String, WriteBatch, WriteBatch)","u":"logRecordFound(long,java.lang.String,org.rocksdb.WriteBatch,org.rocksdb.WriteBatch)"},{"p":"org.rocksdb","c":"WalFilter.LogRecordFoundResult","l":"LogRecordFoundResult(WalProcessingOption, boolean)","u":"%3Cinit%3E(org.rocksdb.WalProcessingOption,boolean)"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"LONG"},{"p":"org.rocksdb","c":"SkipListMemTableConfig","l":"lookahead()"},{"p":"org.rocksdb","c":"Cache","l":"lookup(byte[])"},{"p":"org.rocksdb","c":"SanityLevel","l":"LOOSELY_COMPATIBLE"},{"p":"org.rocksdb","c":"Priority","l":"LOW"},{"p":"org.rocksdb","c":"ThreadType","l":"LOW_PRIORITY"},{"p":"org.rocksdb","c":"Env","l":"lowerThreadPoolCPUPriority(Priority)","u":"lowerThreadPoolCPUPriority(org.rocksdb.Priority)"},{"p":"org.rocksdb","c":"Env","l":"lowerThreadPoolIOPriority(Priority)","u":"lowerThreadPoolIOPriority(org.rocksdb.Priority)"},{"p":"org.rocksdb","c":"WriteOptions","l":"lowPri()"},{"p":"org.rocksdb","c":"LRUCache","l":"LRUCache(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"LRUCache","l":"LRUCache(long, int)","u":"%3Cinit%3E(long,int)"},{"p":"org.rocksdb","c":"LRUCache","l":"LRUCache(long, int, boolean)","u":"%3Cinit%3E(long,int,boolean)"},{"p":"org.rocksdb","c":"LRUCache","l":"LRUCache(long, int, boolean, double)","u":"%3Cinit%3E(long,int,boolean,double)"},{"p":"org.rocksdb","c":"LRUCache","l":"LRUCache(long, int, boolean, double, double)","u":"%3Cinit%3E(long,int,boolean,double,double)"},{"p":"org.rocksdb","c":"LRUCache","l":"LRUCache(long, int, boolean, double, double, SecondaryCache)","u":"%3Cinit%3E(long,int,boolean,double,double,org.rocksdb.SecondaryCache)"},{"p":"org.rocksdb","c":"CompressionType","l":"LZ4_COMPRESSION"},{"p":"org.rocksdb","c":"CompressionType","l":"LZ4HC_COMPRESSION"},{"p":"org.rocksdb","c":"ReadOptions","l":"managed()"},{"p":"org.rocksdb","c":"HistogramType","l":"MANIFEST_FILE_SYNC_MICROS"},{"p":"org.rocksdb","c":"RocksDB.LiveFiles","l":"manifestFileSize"},{"p":"org.rocksdb","c":"DBOptions","l":"manifestPreallocationSize()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"manifestPreallocationSize()"},{"p":"org.rocksdb","c":"Options","l":"manifestPreallocationSize()"},{"p":"org.rocksdb","c":"FlushReason","l":"MANUAL_COMPACTION"},{"p":"org.rocksdb","c":"FlushReason","l":"MANUAL_FLUSH"},{"p":"org.rocksdb","c":"DBOptions","l":"manualWalFlush()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"manualWalFlush()"},{"p":"org.rocksdb","c":"Options","l":"manualWalFlush()"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"markBeginPrepare()"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"markBeginPrepare()"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"markCommit(byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"markCommit(ByteBuffer)","u":"markCommit(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"markCommitWithTimestamp(byte[], byte[])","u":"markCommitWithTimestamp(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"markCommitWithTimestamp(ByteBuffer, ByteBuffer)","u":"markCommitWithTimestamp(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"markEndPrepare(byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"markEndPrepare(ByteBuffer)","u":"markEndPrepare(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"markNoop(boolean)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"markNoop(boolean)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"markRollback(byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"markRollback(ByteBuffer)","u":"markRollback(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatch","l":"markWalTerminationPoint()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"max_background_compactions"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"max_background_jobs"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"max_bytes_for_level_base"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"max_bytes_for_level_multiplier"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"max_bytes_for_level_multiplier_additional"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"max_compaction_bytes"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"max_open_files"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"max_sequential_skip_in_iterations"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"max_successive_merges"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"max_total_wal_size"},{"p":"org.rocksdb","c":"SstFileManager","l":"MAX_TRASH_DB_RATION_DEFAULT"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"max_write_buffer_number"},{"p":"org.rocksdb","c":"DBOptions","l":"maxBackgroundCompactions()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"maxBackgroundCompactions()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"maxBackgroundCompactions()"},{"p":"org.rocksdb","c":"Options","l":"maxBackgroundCompactions()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxBackgroundFlushes()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxBackgroundFlushes()"},{"p":"org.rocksdb","c":"Options","l":"maxBackgroundFlushes()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxBackgroundJobs()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"maxBackgroundJobs()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"maxBackgroundJobs()"},{"p":"org.rocksdb","c":"Options","l":"maxBackgroundJobs()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"maxBackgroundOperations()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxBgerrorResumeCount()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxBgerrorResumeCount()"},{"p":"org.rocksdb","c":"Options","l":"maxBgerrorResumeCount()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxBytesForLevelBase()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxBytesForLevelBase()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"maxBytesForLevelBase()"},{"p":"org.rocksdb","c":"Options","l":"maxBytesForLevelBase()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"maxBytesForLevelMultiplier()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxBytesForLevelMultiplier()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"maxBytesForLevelMultiplier()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxBytesForLevelMultiplier()"},{"p":"org.rocksdb","c":"Options","l":"maxBytesForLevelMultiplier()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"maxBytesForLevelMultiplierAdditional()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxBytesForLevelMultiplierAdditional()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxBytesForLevelMultiplierAdditional()"},{"p":"org.rocksdb","c":"Options","l":"maxBytesForLevelMultiplierAdditional()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"maxCompactionBytes()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxCompactionBytes()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxCompactionBytes()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"maxCompactionBytes()"},{"p":"org.rocksdb","c":"Options","l":"maxCompactionBytes()"},{"p":"org.rocksdb","c":"CompressionOptions","l":"maxDictBytes()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxFileOpeningThreads()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxFileOpeningThreads()"},{"p":"org.rocksdb","c":"Options","l":"maxFileOpeningThreads()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxLogFileSize()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxLogFileSize()"},{"p":"org.rocksdb","c":"Options","l":"maxLogFileSize()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxManifestFileSize()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxManifestFileSize()"},{"p":"org.rocksdb","c":"Options","l":"maxManifestFileSize()"},{"p":"org.rocksdb","c":"RocksDB","l":"maxMemCompactionLevel()"},{"p":"org.rocksdb","c":"RocksDB","l":"maxMemCompactionLevel(ColumnFamilyHandle)","u":"maxMemCompactionLevel(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"maxMergeWidth()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxOpenFiles()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"maxOpenFiles()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"maxOpenFiles()"},{"p":"org.rocksdb","c":"Options","l":"maxOpenFiles()"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"maxReusedBufferSize()"},{"p":"org.rocksdb","c":"MergeOperatorOptions","l":"maxReusedBufferSize()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"maxSequentialSkipInIterations()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxSequentialSkipInIterations()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxSequentialSkipInIterations()"},{"p":"org.rocksdb","c":"Options","l":"maxSequentialSkipInIterations()"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"maxSizeAmplificationPercent()"},{"p":"org.rocksdb","c":"ReadOptions","l":"maxSkippableInternalKeys()"},{"p":"org.rocksdb","c":"CompactionOptions","l":"maxSubcompactions()"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"maxSubcompactions()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxSubcompactions()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxSubcompactions()"},{"p":"org.rocksdb","c":"Options","l":"maxSubcompactions()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"maxSuccessiveMerges()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxSuccessiveMerges()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxSuccessiveMerges()"},{"p":"org.rocksdb","c":"Options","l":"maxSuccessiveMerges()"},{"p":"org.rocksdb","c":"CompactionOptionsFIFO","l":"maxTableFilesSize()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxTableFilesSizeFIFO()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"maxTableFilesSizeFIFO()"},{"p":"org.rocksdb","c":"Options","l":"maxTableFilesSizeFIFO()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxTotalWalSize()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"maxTotalWalSize()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"maxTotalWalSize()"},{"p":"org.rocksdb","c":"Options","l":"maxTotalWalSize()"},{"p":"org.rocksdb","c":"DBOptions","l":"maxWriteBatchGroupSizeBytes()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"maxWriteBatchGroupSizeBytes()"},{"p":"org.rocksdb","c":"Options","l":"maxWriteBatchGroupSizeBytes()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"maxWriteBufferNumber()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxWriteBufferNumber()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"maxWriteBufferNumber()"},{"p":"org.rocksdb","c":"Options","l":"maxWriteBufferNumber()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"maxWriteBufferNumberToMaintain()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"maxWriteBufferNumberToMaintain()"},{"p":"org.rocksdb","c":"Options","l":"maxWriteBufferNumberToMaintain()"},{"p":"org.rocksdb.util","c":"SizeUnit","l":"MB"},{"p":"org.rocksdb.util","c":"ByteUtil","l":"memcmp(ByteBuffer, ByteBuffer, int)","u":"memcmp(java.nio.ByteBuffer,java.nio.ByteBuffer,int)"},{"p":"org.rocksdb","c":"Status.SubCode","l":"MemoryLimit"},{"p":"org.rocksdb","c":"MemoryUtil","l":"MemoryUtil()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"BackgroundErrorReason","l":"MEMTABLE"},{"p":"org.rocksdb","c":"TickerType","l":"MEMTABLE_GARBAGE_BYTES_AT_FLUSH"},{"p":"org.rocksdb","c":"TickerType","l":"MEMTABLE_HIT"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"memtable_huge_page_size"},{"p":"org.rocksdb","c":"TickerType","l":"MEMTABLE_MISS"},{"p":"org.rocksdb","c":"TickerType","l":"MEMTABLE_PAYLOAD_BYTES_AT_FLUSH"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"memtable_prefix_bloom_bits"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"memtable_prefix_bloom_probes"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"memtable_prefix_bloom_size_ratio"},{"p":"org.rocksdb","c":"ReadTier","l":"MEMTABLE_TIER"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"memtable_whole_key_filtering"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"memTableConfig()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"memTableConfig()"},{"p":"org.rocksdb","c":"Options","l":"memTableConfig()"},{"p":"org.rocksdb","c":"MemTableConfig","l":"MemTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"memTableFactoryName()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"memTableFactoryName()"},{"p":"org.rocksdb","c":"Options","l":"memTableFactoryName()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"memtableHugePageSize()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"memtableHugePageSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"memtableHugePageSize()"},{"p":"org.rocksdb","c":"Options","l":"memtableHugePageSize()"},{"p":"org.rocksdb","c":"WriteOptions","l":"memtableInsertHintPerBatch()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"memtableMaxRangeDeletions()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"memtableMaxRangeDeletions()"},{"p":"org.rocksdb","c":"Options","l":"memtableMaxRangeDeletions()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"memtablePrefixBloomSizeRatio()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"memtablePrefixBloomSizeRatio()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"memtablePrefixBloomSizeRatio()"},{"p":"org.rocksdb","c":"Options","l":"memtablePrefixBloomSizeRatio()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"memtableWholeKeyFiltering()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"memtableWholeKeyFiltering()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"memtableWholeKeyFiltering()"},{"p":"org.rocksdb","c":"Options","l":"memtableWholeKeyFiltering()"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"MERGE"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"MERGE"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.ValueType","l":"MERGE_OPERAND"},{"p":"org.rocksdb","c":"TickerType","l":"MERGE_OPERATION_TOTAL_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"MERGE_OPERATOR_TIME_NANOS"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"merge(byte[], byte[])","u":"merge(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(byte[], byte[])","u":"merge(byte[],byte[])"},{"p":"org.rocksdb","c":"SstFileWriter","l":"merge(byte[], byte[])","u":"merge(byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"merge(byte[], byte[])","u":"merge(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"merge(byte[], byte[])","u":"merge(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"merge(byte[], byte[])","u":"merge(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(byte[], int, int, byte[], int, int)","u":"merge(byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"merge(ColumnFamilyHandle, byte[], byte[])","u":"merge(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(ColumnFamilyHandle, byte[], byte[])","u":"merge(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"merge(ColumnFamilyHandle, byte[], byte[])","u":"merge(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"merge(ColumnFamilyHandle, byte[], byte[])","u":"merge(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"merge(ColumnFamilyHandle, byte[], byte[], boolean)","u":"merge(org.rocksdb.ColumnFamilyHandle,byte[],byte[],boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(ColumnFamilyHandle, byte[], int, int, byte[], int, int)","u":"merge(org.rocksdb.ColumnFamilyHandle,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(ColumnFamilyHandle, WriteOptions, byte[], byte[])","u":"merge(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(ColumnFamilyHandle, WriteOptions, byte[], int, int, byte[], int, int)","u":"merge(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"merge(DirectSlice, DirectSlice)","u":"merge(org.rocksdb.DirectSlice,org.rocksdb.DirectSlice)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"merge(int, byte[], byte[])","u":"merge(int,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"merge(int, ByteBuffer, ByteBuffer)","u":"merge(int,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"merge(Slice, Slice)","u":"merge(org.rocksdb.Slice,org.rocksdb.Slice)"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(WriteOptions, byte[], byte[])","u":"merge(org.rocksdb.WriteOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"merge(WriteOptions, byte[], int, int, byte[], int, int)","u":"merge(org.rocksdb.WriteOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"Status.Code","l":"MergeInProgress"},{"p":"org.rocksdb","c":"MergeOperator","l":"MergeOperator(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"MergeOperatorOptions","l":"MergeOperatorOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Transaction","l":"mergeUntracked(byte[], byte[])","u":"mergeUntracked(byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"mergeUntracked(ColumnFamilyHandle, byte[], byte[])","u":"mergeUntracked(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"metadataBlockSize()"},{"p":"org.rocksdb","c":"ThreadStatus","l":"microsToString(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"min_blob_size"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"minBlobSize()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"minBlobSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"minBlobSize()"},{"p":"org.rocksdb","c":"Options","l":"minBlobSize()"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"minMergeWidth()"},{"p":"org.rocksdb","c":"CompactionPriority","l":"MinOverlappingRatio"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"minWriteBufferNumberToMerge()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"minWriteBufferNumberToMerge()"},{"p":"org.rocksdb","c":"Options","l":"minWriteBufferNumberToMerge()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"MISC"},{"p":"org.rocksdb","c":"TableFileCreationReason","l":"MISC"},{"p":"org.rocksdb","c":"ImportColumnFamilyOptions","l":"moveFiles()"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"moveFiles()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"MULTIGET_READ_BYTES"},{"p":"org.rocksdb","c":"Transaction","l":"multiGet(ReadOptions, byte[][])","u":"multiGet(org.rocksdb.ReadOptions,byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"multiGet(ReadOptions, List<ColumnFamilyHandle>, byte[][])","u":"multiGet(org.rocksdb.ReadOptions,java.util.List,byte[][])"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetAsList(List<byte[]>)","u":"multiGetAsList(java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetAsList(List<ColumnFamilyHandle>, List<byte[]>)","u":"multiGetAsList(java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetAsList(ReadOptions, List<byte[]>)","u":"multiGetAsList(org.rocksdb.ReadOptions,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetAsList(ReadOptions, List<byte[]>)","u":"multiGetAsList(org.rocksdb.ReadOptions,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetAsList(ReadOptions, List<ColumnFamilyHandle>, List<byte[]>)","u":"multiGetAsList(org.rocksdb.ReadOptions,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetAsList(ReadOptions, List<ColumnFamilyHandle>, List<byte[]>)","u":"multiGetAsList(org.rocksdb.ReadOptions,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetAsync(ReadOptions, List<byte[]>)","u":"multiGetAsync(org.rocksdb.ReadOptions,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetAsync(ReadOptions, List<ColumnFamilyHandle>, List<byte[]>)","u":"multiGetAsync(org.rocksdb.ReadOptions,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetByteBuffers(List<ByteBuffer>, List<ByteBuffer>)","u":"multiGetByteBuffers(java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetByteBuffers(List<ColumnFamilyHandle>, List<ByteBuffer>, List<ByteBuffer>)","u":"multiGetByteBuffers(java.util.List,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetByteBuffers(ReadOptions, ColumnFamilyHandle, List<ByteBuffer>, List<ByteBuffer>)","u":"multiGetByteBuffers(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetByteBuffers(ReadOptions, List<ByteBuffer>, List<ByteBuffer>)","u":"multiGetByteBuffers(org.rocksdb.ReadOptions,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetByteBuffers(ReadOptions, List<ByteBuffer>, List<ByteBuffer>)","u":"multiGetByteBuffers(org.rocksdb.ReadOptions,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetByteBuffers(ReadOptions, List<ColumnFamilyHandle>, List<ByteBuffer>, List<ByteBuffer>)","u":"multiGetByteBuffers(org.rocksdb.ReadOptions,java.util.List,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetForUpdate(ReadOptions, byte[][])","u":"multiGetForUpdate(org.rocksdb.ReadOptions,byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetForUpdate(ReadOptions, List<ColumnFamilyHandle>, byte[][])","u":"multiGetForUpdate(org.rocksdb.ReadOptions,java.util.List,byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetForUpdateAsList(ReadOptions, List<byte[]>)","u":"multiGetForUpdateAsList(org.rocksdb.ReadOptions,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetForUpdateAsList(ReadOptions, List<ColumnFamilyHandle>, List<byte[]>)","u":"multiGetForUpdateAsList(org.rocksdb.ReadOptions,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetForUpdateByteBuffers(ReadOptions, ColumnFamilyHandle, List<ByteBuffer>, List<ByteBuffer>, boolean)","u":"multiGetForUpdateByteBuffers(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,java.util.List,java.util.List,boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"multiGetForUpdateByteBuffers(ReadOptions, List<ByteBuffer>, List<ByteBuffer>, boolean)","u":"multiGetForUpdateByteBuffers(org.rocksdb.ReadOptions,java.util.List,java.util.List,boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetLongs(ColumnFamilyHandle, long[])","u":"multiGetLongs(org.rocksdb.ColumnFamilyHandle,long[])"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetLongs(ReadOptions, ColumnFamilyHandle, long[])","u":"multiGetLongs(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,long[])"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetLongValues(ColumnFamilyHandle, long[], long)","u":"multiGetLongValues(org.rocksdb.ColumnFamilyHandle,long[],long)"},{"p":"org.rocksdb","c":"RocksDB","l":"multiGetLongValues(ReadOptions, ColumnFamilyHandle, long[], long)","u":"multiGetLongValues(org.rocksdb.ReadOptions,org.rocksdb.ColumnFamilyHandle,long[],long)"},{"p":"org.rocksdb","c":"MutableOptionValue","l":"MutableOptionValue()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"MUTEX"},{"p":"org.rocksdb","c":"Status.SubCode","l":"MutexTimeout"},{"p":"org.rocksdb","c":"AbstractCompactionFilterFactory","l":"name()"},{"p":"org.rocksdb","c":"AbstractComparator","l":"name()"},{"p":"org.rocksdb","c":"AbstractJavaCompactionFilter","l":"name()"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"name()"},{"p":"org.rocksdb","c":"ColumnFamilyMetaData","l":"name()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiter","l":"name()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiterImpl","l":"name()"},{"p":"org.rocksdb","c":"MutableOptionKey","l":"name()"},{"p":"org.rocksdb","c":"NativeComparatorWrapper","l":"name()"},{"p":"org.rocksdb.util","c":"BytewiseComparator","l":"name()"},{"p":"org.rocksdb.util","c":"IntComparator","l":"name()"},{"p":"org.rocksdb.util","c":"ReverseBytewiseComparator","l":"name()"},{"p":"org.rocksdb","c":"WalFilter","l":"name()"},{"p":"org.rocksdb","c":"NativeComparatorWrapper","l":"NativeComparatorWrapper()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"RocksCallbackObject","l":"nativeHandle_"},{"p":"org.rocksdb","c":"RocksObject","l":"nativeHandle_"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"NEW_TABLE_BLOCK_ITER_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"NEW_TABLE_ITERATOR_NANOS"},{"p":"org.rocksdb","c":"RocksDB","l":"newIterator()"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"newIterator()"},{"p":"org.rocksdb","c":"RocksDB","l":"newIterator(ColumnFamilyHandle)","u":"newIterator(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"newIterator(ColumnFamilyHandle)","u":"newIterator(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"RocksDB","l":"newIterator(ColumnFamilyHandle, ReadOptions)","u":"newIterator(org.rocksdb.ColumnFamilyHandle,org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"RocksDB","l":"newIterator(ReadOptions)","u":"newIterator(org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"SstFileReader","l":"newIterator(ReadOptions)","u":"newIterator(org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"RocksDB","l":"newIterators(List<ColumnFamilyHandle>)","u":"newIterators(java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"newIterators(List<ColumnFamilyHandle>, ReadOptions)","u":"newIterators(java.util.List,org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"newIteratorWithBase(ColumnFamilyHandle, RocksIterator)","u":"newIteratorWithBase(org.rocksdb.ColumnFamilyHandle,org.rocksdb.RocksIterator)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"newIteratorWithBase(ColumnFamilyHandle, RocksIterator, ReadOptions)","u":"newIteratorWithBase(org.rocksdb.ColumnFamilyHandle,org.rocksdb.RocksIterator,org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"newIteratorWithBase(RocksIterator)","u":"newIteratorWithBase(org.rocksdb.RocksIterator)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"newIteratorWithBase(RocksIterator, ReadOptions)","u":"newIteratorWithBase(org.rocksdb.RocksIterator,org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"LiveFileMetaData","l":"newLiveFileMetaDataHandle()"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"newMemTableFactoryHandle()"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"newMemTableFactoryHandle()"},{"p":"org.rocksdb","c":"MemTableConfig","l":"newMemTableFactoryHandle()"},{"p":"org.rocksdb","c":"SkipListMemTableConfig","l":"newMemTableFactoryHandle()"},{"p":"org.rocksdb","c":"VectorMemTableConfig","l":"newMemTableFactoryHandle()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"newTableFactoryHandle()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"newTableFactoryHandle()"},{"p":"org.rocksdb","c":"TableFormatConfig","l":"newTableFactoryHandle()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"NEXT_ON_MEMTABLE_COUNT"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"next()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"next()"},{"p":"org.rocksdb","c":"TransactionLogIterator","l":"next()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"next()"},{"p":"org.rocksdb","c":"RocksIterator","l":"nextBatch(ByteBuffer, int)","u":"nextBatch(java.nio.ByteBuffer,int)"},{"p":"org.rocksdb","c":"CompressionType","l":"NO_COMPRESSION"},{"p":"org.rocksdb","c":"TickerType","l":"NO_FILE_ERRORS"},{"p":"org.rocksdb","c":"TickerType","l":"NO_FILE_OPENS"},{"p":"org.rocksdb","c":"TickerType","l":"NO_ITERATOR_CREATED"},{"p":"org.rocksdb","c":"TickerType","l":"NO_ITERATOR_DELETED"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"noBlockCache()"},{"p":"org.rocksdb","c":"TickerType","l":"NON_LAST_LEVEL_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"NON_LAST_LEVEL_READ_COUNT"},{"p":"org.rocksdb","c":"Status.SubCode","l":"None"},{"p":"org.rocksdb","c":"AccessHint","l":"NONE"},{"p":"org.rocksdb","c":"CompactionStyle","l":"NONE"},{"p":"org.rocksdb","c":"SanityLevel","l":"NONE"},{"p":"org.rocksdb","c":"SizeApproximationFlag","l":"NONE"},{"p":"org.rocksdb","c":"DirectSlice","l":"NONE"},{"p":"org.rocksdb","c":"AccessHint","l":"NORMAL"},{"p":"org.rocksdb","c":"WriteStallCondition","l":"NORMAL"},{"p":"org.rocksdb","c":"WriteOptions","l":"noSlowdown()"},{"p":"org.rocksdb","c":"Status.SubCode","l":"NoSpace"},{"p":"org.rocksdb","c":"RocksDB","l":"NOT_FOUND"},{"p":"org.rocksdb","c":"Status.Code","l":"NotFound"},{"p":"org.rocksdb","c":"Status.Code","l":"NotSupported"},{"p":"org.rocksdb","c":"HistogramType","l":"NUM_FILES_IN_SINGLE_COMPACTION"},{"p":"org.rocksdb","c":"HistogramType","l":"NUM_INDEX_AND_FILTER_BLOCKS_READ_PER_LEVEL"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"NUM_INFO_LOG_LEVELS"},{"p":"org.rocksdb","c":"HistogramType","l":"NUM_SST_READ_PER_LEVEL"},{"p":"org.rocksdb","c":"HistogramType","l":"NUM_SUBCOMPACTIONS_SCHEDULED"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"NUMBER_ASYNC_SEEK"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_BLOCK_COMPRESSED"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_BLOCK_DECOMPRESSED"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_BLOCK_NOT_COMPRESSED"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DB_NEXT"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DB_NEXT_FOUND"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DB_PREV"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DB_PREV_FOUND"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DB_SEEK"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DB_SEEK_FOUND"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_DIRECT_LOAD_TABLE_PROPERTIES"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_ITER_SKIP"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_KEYS_READ"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_KEYS_UPDATED"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_KEYS_WRITTEN"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_MERGE_FAILURES"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_MULTIGET_BYTES_READ"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_MULTIGET_CALLS"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_MULTIGET_KEYS_FOUND"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_MULTIGET_KEYS_READ"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_OF_RESEEKS_IN_ITERATION"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_RATE_LIMITER_DRAINS"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_SUPERVERSION_ACQUIRES"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_SUPERVERSION_CLEANUPS"},{"p":"org.rocksdb","c":"TickerType","l":"NUMBER_SUPERVERSION_RELEASES"},{"p":"org.rocksdb","c":"BackupInfo","l":"numberFiles()"},{"p":"org.rocksdb","c":"RocksDB","l":"numberLevels()"},{"p":"org.rocksdb","c":"RocksDB","l":"numberLevels(ColumnFamilyHandle)","u":"numberLevels(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numCorruptKeys()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"numDeletions()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"numEntries()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numExpiredDeletionRecords()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numInputDeletionRecords()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numInputFiles()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numInputFilesAtOutputLevel()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numInputRecords()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"numLevels()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"numLevels()"},{"p":"org.rocksdb","c":"Options","l":"numLevels()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numOutputFiles()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numOutputRecords()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"numReadsSampled()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numRecordsReplaced()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numSingleDelFallthru()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"numSingleDelMismatch()"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"offloadedCount()"},{"p":"org.rocksdb","c":"Status.Code","l":"Ok"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"oldDefaults(int, int)","u":"oldDefaults(int,int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"oldDefaults(int, int)","u":"oldDefaults(int,int)"},{"p":"org.rocksdb","c":"Options","l":"oldDefaults(int, int)","u":"oldDefaults(int,int)"},{"p":"org.rocksdb","c":"CompactionPriority","l":"OldestLargestSeqFirst"},{"p":"org.rocksdb","c":"CompactionPriority","l":"OldestSmallestSeqFirst"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_BACKGROUND_ERROR"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_COLUMN_FAMILY_HANDLE_DELETION_STARTED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_COMPACTION_BEGIN"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_COMPACTION_COMPLETED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_ERROR_RECOVERY_BEGIN"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_ERROR_RECOVERY_COMPLETED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_EXTERNAL_FILE_INGESTED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_CLOSE_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_FLUSH_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_RANGE_SYNC_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_READ_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_SYNC_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_TRUNCATE_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FILE_WRITE_FINISH"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FLUSH_BEGIN"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_FLUSH_COMPLETED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_MEMTABLE_SEALED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_STALL_CONDITIONS_CHANGED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_TABLE_FILE_CREATED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_TABLE_FILE_CREATION_STARTED"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"ON_TABLE_FILE_DELETED"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onBackgroundError(BackgroundErrorReason, Status)","u":"onBackgroundError(org.rocksdb.BackgroundErrorReason,org.rocksdb.Status)"},{"p":"org.rocksdb","c":"EventListener","l":"onBackgroundError(BackgroundErrorReason, Status)","u":"onBackgroundError(org.rocksdb.BackgroundErrorReason,org.rocksdb.Status)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onColumnFamilyHandleDeletionStarted(ColumnFamilyHandle)","u":"onColumnFamilyHandleDeletionStarted(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"EventListener","l":"onColumnFamilyHandleDeletionStarted(ColumnFamilyHandle)","u":"onColumnFamilyHandleDeletionStarted(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onCompactionBegin(RocksDB, CompactionJobInfo)","u":"onCompactionBegin(org.rocksdb.RocksDB,org.rocksdb.CompactionJobInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onCompactionBegin(RocksDB, CompactionJobInfo)","u":"onCompactionBegin(org.rocksdb.RocksDB,org.rocksdb.CompactionJobInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onCompactionCompleted(RocksDB, CompactionJobInfo)","u":"onCompactionCompleted(org.rocksdb.RocksDB,org.rocksdb.CompactionJobInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onCompactionCompleted(RocksDB, CompactionJobInfo)","u":"onCompactionCompleted(org.rocksdb.RocksDB,org.rocksdb.CompactionJobInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onErrorRecoveryBegin(BackgroundErrorReason, Status)","u":"onErrorRecoveryBegin(org.rocksdb.BackgroundErrorReason,org.rocksdb.Status)"},{"p":"org.rocksdb","c":"EventListener","l":"onErrorRecoveryBegin(BackgroundErrorReason, Status)","u":"onErrorRecoveryBegin(org.rocksdb.BackgroundErrorReason,org.rocksdb.Status)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onErrorRecoveryCompleted(Status)","u":"onErrorRecoveryCompleted(org.rocksdb.Status)"},{"p":"org.rocksdb","c":"EventListener","l":"onErrorRecoveryCompleted(Status)","u":"onErrorRecoveryCompleted(org.rocksdb.Status)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onExternalFileIngested(RocksDB, ExternalFileIngestionInfo)","u":"onExternalFileIngested(org.rocksdb.RocksDB,org.rocksdb.ExternalFileIngestionInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onExternalFileIngested(RocksDB, ExternalFileIngestionInfo)","u":"onExternalFileIngested(org.rocksdb.RocksDB,org.rocksdb.ExternalFileIngestionInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileCloseFinish(FileOperationInfo)","u":"onFileCloseFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileCloseFinish(FileOperationInfo)","u":"onFileCloseFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileFlushFinish(FileOperationInfo)","u":"onFileFlushFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileFlushFinish(FileOperationInfo)","u":"onFileFlushFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileRangeSyncFinish(FileOperationInfo)","u":"onFileRangeSyncFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileRangeSyncFinish(FileOperationInfo)","u":"onFileRangeSyncFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileReadFinish(FileOperationInfo)","u":"onFileReadFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileReadFinish(FileOperationInfo)","u":"onFileReadFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileSyncFinish(FileOperationInfo)","u":"onFileSyncFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileSyncFinish(FileOperationInfo)","u":"onFileSyncFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileTruncateFinish(FileOperationInfo)","u":"onFileTruncateFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileTruncateFinish(FileOperationInfo)","u":"onFileTruncateFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFileWriteFinish(FileOperationInfo)","u":"onFileWriteFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFileWriteFinish(FileOperationInfo)","u":"onFileWriteFinish(org.rocksdb.FileOperationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFlushBegin(RocksDB, FlushJobInfo)","u":"onFlushBegin(org.rocksdb.RocksDB,org.rocksdb.FlushJobInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFlushBegin(RocksDB, FlushJobInfo)","u":"onFlushBegin(org.rocksdb.RocksDB,org.rocksdb.FlushJobInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onFlushCompleted(RocksDB, FlushJobInfo)","u":"onFlushCompleted(org.rocksdb.RocksDB,org.rocksdb.FlushJobInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onFlushCompleted(RocksDB, FlushJobInfo)","u":"onFlushCompleted(org.rocksdb.RocksDB,org.rocksdb.FlushJobInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onMemTableSealed(MemTableInfo)","u":"onMemTableSealed(org.rocksdb.MemTableInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onMemTableSealed(MemTableInfo)","u":"onMemTableSealed(org.rocksdb.MemTableInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onStallConditionsChanged(WriteStallInfo)","u":"onStallConditionsChanged(org.rocksdb.WriteStallInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onStallConditionsChanged(WriteStallInfo)","u":"onStallConditionsChanged(org.rocksdb.WriteStallInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onTableFileCreated(TableFileCreationInfo)","u":"onTableFileCreated(org.rocksdb.TableFileCreationInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onTableFileCreated(TableFileCreationInfo)","u":"onTableFileCreated(org.rocksdb.TableFileCreationInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onTableFileCreationStarted(TableFileCreationBriefInfo)","u":"onTableFileCreationStarted(org.rocksdb.TableFileCreationBriefInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onTableFileCreationStarted(TableFileCreationBriefInfo)","u":"onTableFileCreationStarted(org.rocksdb.TableFileCreationBriefInfo)"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"onTableFileDeleted(TableFileDeletionInfo)","u":"onTableFileDeleted(org.rocksdb.TableFileDeletionInfo)"},{"p":"org.rocksdb","c":"EventListener","l":"onTableFileDeleted(TableFileDeletionInfo)","u":"onTableFileDeleted(org.rocksdb.TableFileDeletionInfo)"},{"p":"org.rocksdb","c":"OperationType","l":"OP_COMPACTION"},{"p":"org.rocksdb","c":"OperationType","l":"OP_DBOPEN"},{"p":"org.rocksdb","c":"OperationType","l":"OP_FLUSH"},{"p":"org.rocksdb","c":"OperationType","l":"OP_UNKNOWN"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"open(DBOptions, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"open(org.rocksdb.DBOptions,java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"open(DBOptions, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"open(org.rocksdb.DBOptions,java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"TtlDB","l":"open(DBOptions, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>, List<Integer>, boolean)","u":"open(org.rocksdb.DBOptions,java.lang.String,java.util.List,java.util.List,java.util.List,boolean)"},{"p":"org.rocksdb","c":"TransactionDB","l":"open(DBOptions, TransactionDBOptions, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"open(org.rocksdb.DBOptions,org.rocksdb.TransactionDBOptions,java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"BackupEngine","l":"open(Env, BackupEngineOptions)","u":"open(org.rocksdb.Env,org.rocksdb.BackupEngineOptions)"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"open(long, String)","u":"open(long,java.lang.String)"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"open(long, String, byte[][], long[])","u":"open(long,java.lang.String,byte[][],long[])"},{"p":"org.rocksdb","c":"OptimisticTransactionDB","l":"open(Options, String)","u":"open(org.rocksdb.Options,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"open(Options, String)","u":"open(org.rocksdb.Options,java.lang.String)"},{"p":"org.rocksdb","c":"TtlDB","l":"open(Options, String)","u":"open(org.rocksdb.Options,java.lang.String)"},{"p":"org.rocksdb","c":"TtlDB","l":"open(Options, String, int, boolean)","u":"open(org.rocksdb.Options,java.lang.String,int,boolean)"},{"p":"org.rocksdb","c":"TransactionDB","l":"open(Options, TransactionDBOptions, String)","u":"open(org.rocksdb.Options,org.rocksdb.TransactionDBOptions,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"open(String)","u":"open(java.lang.String)"},{"p":"org.rocksdb","c":"SstFileReader","l":"open(String)","u":"open(java.lang.String)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"open(String)","u":"open(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"open(String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"open(java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"openAsSecondary(DBOptions, String, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"openAsSecondary(org.rocksdb.DBOptions,java.lang.String,java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"openAsSecondary(Options, String, String)","u":"openAsSecondary(org.rocksdb.Options,java.lang.String,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"openReadOnly(DBOptions, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"openReadOnly(org.rocksdb.DBOptions,java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"RocksDB","l":"openReadOnly(DBOptions, String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>, boolean)","u":"openReadOnly(org.rocksdb.DBOptions,java.lang.String,java.util.List,java.util.List,boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"openReadOnly(Options, String)","u":"openReadOnly(org.rocksdb.Options,java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"openReadOnly(Options, String, boolean)","u":"openReadOnly(org.rocksdb.Options,java.lang.String,boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"openReadOnly(String)","u":"openReadOnly(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"openReadOnly(String, List<ColumnFamilyDescriptor>, List<ColumnFamilyHandle>)","u":"openReadOnly(java.lang.String,java.util.List,java.util.List)"},{"p":"org.rocksdb","c":"OptimisticTransactionOptions","l":"OptimisticTransactionOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"optimizeFiltersForHits()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeFiltersForHits()"},{"p":"org.rocksdb","c":"Options","l":"optimizeFiltersForHits()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"optimizeFiltersForMemory()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeForPointLookup(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeForPointLookup(long)"},{"p":"org.rocksdb","c":"Options","l":"optimizeForPointLookup(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeForSmallDb()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeForSmallDb()"},{"p":"org.rocksdb","c":"DBOptions","l":"optimizeForSmallDb()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"optimizeForSmallDb()"},{"p":"org.rocksdb","c":"Options","l":"optimizeForSmallDb()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeForSmallDb(Cache)","u":"optimizeForSmallDb(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeForSmallDb(Cache)","u":"optimizeForSmallDb(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"Options","l":"optimizeForSmallDb(Cache)","u":"optimizeForSmallDb(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeLevelStyleCompaction()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeLevelStyleCompaction()"},{"p":"org.rocksdb","c":"Options","l":"optimizeLevelStyleCompaction()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeLevelStyleCompaction(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeLevelStyleCompaction(long)"},{"p":"org.rocksdb","c":"Options","l":"optimizeLevelStyleCompaction(long)"},{"p":"org.rocksdb","c":"ReadOptions","l":"optimizeMultigetForIo()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeUniversalStyleCompaction()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeUniversalStyleCompaction()"},{"p":"org.rocksdb","c":"Options","l":"optimizeUniversalStyleCompaction()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"optimizeUniversalStyleCompaction(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"optimizeUniversalStyleCompaction(long)"},{"p":"org.rocksdb","c":"Options","l":"optimizeUniversalStyleCompaction(long)"},{"p":"org.rocksdb","c":"RocksDB","l":"options_"},{"p":"org.rocksdb","c":"Options","l":"Options()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Options","l":"Options(DBOptions, ColumnFamilyOptions)","u":"%3Cinit%3E(org.rocksdb.DBOptions,org.rocksdb.ColumnFamilyOptions)"},{"p":"org.rocksdb","c":"Options","l":"Options(Options)","u":"%3Cinit%3E(org.rocksdb.Options)"},{"p":"org.rocksdb","c":"OptionString","l":"OptionString()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"OTHER_BLOCK"},{"p":"org.rocksdb","c":"FlushReason","l":"OTHERS"},{"p":"org.rocksdb","c":"PerfLevel","l":"OUT_OF_BOUNDS"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"outputFiles()"},{"p":"org.rocksdb","c":"CompactionOptions","l":"outputFileSizeLimit()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"outputLevel()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiter","l":"outstandingTask()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiterImpl","l":"outstandingTask()"},{"p":"org.rocksdb","c":"AbstractImmutableNativeReference","l":"owningHandle_"},{"p":"org.rocksdb","c":"WriteBatch","l":"PACKED_DELETE"},{"p":"org.rocksdb","c":"WriteBatch","l":"PACKED_MERGE"},{"p":"org.rocksdb","c":"WriteBatch","l":"PACKED_PUT"},{"p":"org.rocksdb","c":"WriteBatch","l":"PACKED_SINGLE_DELETE"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"paranoid_file_checks"},{"p":"org.rocksdb","c":"DBOptions","l":"paranoidChecks()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"paranoidChecks()"},{"p":"org.rocksdb","c":"Options","l":"paranoidChecks()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"paranoidFileChecks()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"paranoidFileChecks()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"paranoidFileChecks()"},{"p":"org.rocksdb","c":"Options","l":"paranoidFileChecks()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.rocksdb","c":"MutableDBOptions","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions","l":"parse(String, boolean)","u":"parse(java.lang.String,boolean)"},{"p":"org.rocksdb","c":"MutableDBOptions","l":"parse(String, boolean)","u":"parse(java.lang.String,boolean)"},{"p":"org.rocksdb","c":"AbstractMergeOperator","l":"partialMerge(ByteBuffer, ByteBuffer, ByteBuffer)","u":"partialMerge(java.nio.ByteBuffer,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"partitionFilters()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"path()"},{"p":"org.rocksdb","c":"LogFile","l":"pathName()"},{"p":"org.rocksdb","c":"RocksDB","l":"pauseBackgroundWork()"},{"p":"org.rocksdb.util","c":"SizeUnit","l":"PB"},{"p":"org.rocksdb","c":"PerfContext","l":"PerfContext(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"PerfContextSampler(RocksDB, int, PerfLevel)","u":"%3Cinit%3E(org.rocksdb.RocksDB,int,org.rocksdb.PerfLevel)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"periodic_compaction_seconds"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"periodicCompactionSeconds()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"periodicCompactionSeconds()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"periodicCompactionSeconds()"},{"p":"org.rocksdb","c":"Options","l":"periodicCompactionSeconds()"},{"p":"org.rocksdb","c":"ReadTier","l":"PERSISTED_TIER"},{"p":"org.rocksdb","c":"TickerType","l":"PERSISTENT_CACHE_HIT"},{"p":"org.rocksdb","c":"TickerType","l":"PERSISTENT_CACHE_MISS"},{"p":"org.rocksdb","c":"PersistentCache","l":"PersistentCache(Env, String, long, Logger, boolean)","u":"%3Cinit%3E(org.rocksdb.Env,java.lang.String,long,org.rocksdb.Logger,boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"persistStatsToDisk()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"persistStatsToDisk()"},{"p":"org.rocksdb","c":"Options","l":"persistStatsToDisk()"},{"p":"org.rocksdb","c":"ReadOptions","l":"pinData()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"pinL0FilterAndIndexBlocksInCache()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"pinTopLevelIndexAndFilter()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"PlainTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"PointInTimeRecovery"},{"p":"org.rocksdb","c":"WalChangeStream","l":"poll()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"poll(int)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"popSavePoint()"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"popSavePoint()"},{"p":"org.rocksdb","c":"TickerType","l":"PREFETCH_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"PREFETCH_BYTES_USEFUL"},{"p":"org.rocksdb","c":"TickerType","l":"PREFETCH_HITS"},{"p":"org.rocksdb","c":"ReadOptions","l":"prefixSameAsStart()"},{"p":"org.rocksdb","c":"Transaction","l":"prepare()"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"PREPARED"},{"p":"org.rocksdb","c":"Options","l":"prepareForBulkLoad()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"prepopulate_blob_cache"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"PREPOPULATE_BLOB_DISABLE"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"PREPOPULATE_BLOB_FLUSH_ONLY"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"prepopulateBlobCache()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"prepopulateBlobCache()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"prepopulateBlobCache()"},{"p":"org.rocksdb","c":"Options","l":"prepopulateBlobCache()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"PREV_ON_MEMTABLE_COUNT"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"prev()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"prev()"},{"p":"org.rocksdb","c":"RocksIterator","l":"prevBatch(ByteBuffer, int)","u":"prevBatch(java.nio.ByteBuffer,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"promoteL0(ColumnFamilyHandle, int)","u":"promoteL0(org.rocksdb.ColumnFamilyHandle,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"promoteL0(int)"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"PURGE"},{"p":"org.rocksdb","c":"BackupEngine","l":"purgeOldBackups(int)"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"PUT"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"PUT"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"PUT_ENTITY"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"put(byte[], byte[])","u":"put(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"put(byte[], byte[])","u":"put(byte[],byte[])"},{"p":"org.rocksdb","c":"SstFileWriter","l":"put(byte[], byte[])","u":"put(byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"put(byte[], byte[])","u":"put(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"put(byte[], byte[])","u":"put(byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"put(byte[], byte[])","u":"put(byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"put(byte[], int, int, byte[], int, int)","u":"put(byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"Transaction","l":"put(byte[][], byte[][])","u":"put(byte[][],byte[][])"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"put(ByteBuffer, ByteBuffer)","u":"put(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ByteBuffer, ByteBuffer)","u":"put(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"put(ByteBuffer, ByteBuffer)","u":"put(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"put(ByteBuffer, ByteBuffer)","u":"put(java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"put(ColumnFamilyHandle, byte[], byte[])","u":"put(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ColumnFamilyHandle, byte[], byte[])","u":"put(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"put(ColumnFamilyHandle, byte[], byte[])","u":"put(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"put(ColumnFamilyHandle, byte[], byte[])","u":"put(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"put(ColumnFamilyHandle, byte[], byte[], boolean)","u":"put(org.rocksdb.ColumnFamilyHandle,byte[],byte[],boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ColumnFamilyHandle, byte[], int, int, byte[], int, int)","u":"put(org.rocksdb.ColumnFamilyHandle,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"Transaction","l":"put(ColumnFamilyHandle, byte[][], byte[][])","u":"put(org.rocksdb.ColumnFamilyHandle,byte[][],byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"put(ColumnFamilyHandle, byte[][], byte[][], boolean)","u":"put(org.rocksdb.ColumnFamilyHandle,byte[][],byte[][],boolean)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"put(ColumnFamilyHandle, ByteBuffer, ByteBuffer)","u":"put(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ColumnFamilyHandle, ByteBuffer, ByteBuffer)","u":"put(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"put(ColumnFamilyHandle, ByteBuffer, ByteBuffer)","u":"put(org.rocksdb.ColumnFamilyHandle,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ColumnFamilyHandle, WriteOptions, byte[], byte[])","u":"put(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ColumnFamilyHandle, WriteOptions, byte[], int, int, byte[], int, int)","u":"put(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(ColumnFamilyHandle, WriteOptions, ByteBuffer, ByteBuffer)","u":"put(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"put(DirectSlice, DirectSlice)","u":"put(org.rocksdb.DirectSlice,org.rocksdb.DirectSlice)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"put(int, byte[], byte[])","u":"put(int,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"put(int, ByteBuffer, ByteBuffer)","u":"put(int,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"put(Slice, Slice)","u":"put(org.rocksdb.Slice,org.rocksdb.Slice)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(WriteOptions, byte[], byte[])","u":"put(org.rocksdb.WriteOptions,byte[],byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"put(WriteOptions, byte[], int, int, byte[], int, int)","u":"put(org.rocksdb.WriteOptions,byte[],int,int,byte[],int,int)"},{"p":"org.rocksdb","c":"RocksDB","l":"put(WriteOptions, ByteBuffer, ByteBuffer)","u":"put(org.rocksdb.WriteOptions,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"putBlobIndex(int, byte[], byte[])","u":"putBlobIndex(int,byte[],byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"putBlobIndex(int, ByteBuffer, ByteBuffer)","u":"putBlobIndex(int,java.nio.ByteBuffer,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"putLogData(byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"putLogData(byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"putLogData(byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"putLong(ColumnFamilyHandle, long, ByteBuffer)","u":"putLong(org.rocksdb.ColumnFamilyHandle,long,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"putLong(WriteOptions, ColumnFamilyHandle, long, ByteBuffer)","u":"putLong(org.rocksdb.WriteOptions,org.rocksdb.ColumnFamilyHandle,long,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"Transaction","l":"putUntracked(byte[], byte[])","u":"putUntracked(byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"putUntracked(byte[][], byte[][])","u":"putUntracked(byte[][],byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"putUntracked(ColumnFamilyHandle, byte[], byte[])","u":"putUntracked(org.rocksdb.ColumnFamilyHandle,byte[],byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"putUntracked(ColumnFamilyHandle, byte[][], byte[][])","u":"putUntracked(org.rocksdb.ColumnFamilyHandle,byte[][],byte[][])"},{"p":"org.rocksdb","c":"VirtualThreadOffload","l":"queueDepth()"},{"p":"org.rocksdb","c":"DBOptions","l":"randomAccessMaxBufferSize()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"randomAccessMaxBufferSize()"},{"p":"org.rocksdb","c":"EnvOptions","l":"randomAccessMaxBufferSize()"},{"p":"org.rocksdb","c":"Options","l":"randomAccessMaxBufferSize()"},{"p":"org.rocksdb","c":"CompactRangeOptions.Timestamp","l":"range"},{"p":"org.rocksdb","c":"Range","l":"Range(Slice, Slice)","u":"%3Cinit%3E(org.rocksdb.Slice,org.rocksdb.Slice)"},{"p":"org.rocksdb","c":"TransactionDB.RangeLockInfo","l":"RangeLockInfo(long, byte[], boolean, byte[], boolean, long[], boolean)","u":"%3Cinit%3E(long,byte[],boolean,byte[],boolean,long[],boolean)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"rangeLockManager()"},{"p":"org.rocksdb","c":"RangeLockManager","l":"RangeLockManager()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"SstFileManager","l":"RATE_BYTES_PER_SEC_DEFAULT"},{"p":"org.rocksdb","c":"EnvOptions","l":"rateLimiter()"},{"p":"org.rocksdb","c":"RateLimiter","l":"RateLimiter(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"RateLimiter","l":"RateLimiter(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"org.rocksdb","c":"RateLimiter","l":"RateLimiter(long, long, int)","u":"%3Cinit%3E(long,long,int)"},{"p":"org.rocksdb","c":"RateLimiter","l":"RateLimiter(long, long, int, RateLimiterMode)","u":"%3Cinit%3E(long,long,int,org.rocksdb.RateLimiterMode)"},{"p":"org.rocksdb","c":"RateLimiter","l":"RateLimiter(long, long, int, RateLimiterMode, boolean)","u":"%3Cinit%3E(long,long,int,org.rocksdb.RateLimiterMode,boolean)"},{"p":"org.rocksdb","c":"ReadTier","l":"READ_ALL_TIER"},{"p":"org.rocksdb","c":"TickerType","l":"READ_AMP_ESTIMATE_USEFUL_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"READ_AMP_TOTAL_READ_BYTES"},{"p":"org.rocksdb","c":"HistogramType","l":"READ_BLOCK_COMPACTION_MICROS"},{"p":"org.rocksdb","c":"HistogramType","l":"READ_BLOCK_GET_MICROS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"READ_FILTER_BLOCK_NANOS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"READ_INDEX_BLOCK_NANOS"},{"p":"org.rocksdb","c":"HistogramType","l":"READ_NUM_MERGE_OPERANDS"},{"p":"org.rocksdb","c":"TickerType","l":"READAHEAD_TRIMMED"},{"p":"org.rocksdb","c":"ReadOptions","l":"readaheadSize()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"readAmpBytesPerBit()"},{"p":"org.rocksdb","c":"ReadOptions","l":"ReadOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"ReadOptions","l":"ReadOptions(boolean, boolean)","u":"%3Cinit%3E(boolean,boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"ReadOptions(ReadOptions)","u":"%3Cinit%3E(org.rocksdb.ReadOptions)"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"READS_ONLY"},{"p":"org.rocksdb","c":"ReadOptions","l":"readTier()"},{"p":"org.rocksdb","c":"Transaction","l":"rebuildFromWriteBatch(WriteBatch)","u":"rebuildFromWriteBatch(org.rocksdb.WriteBatch)"},{"p":"org.rocksdb","c":"TableFileCreationReason","l":"RECOVERY"},{"p":"org.rocksdb","c":"DBOptions","l":"recycleLogFileNum()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"recycleLogFileNum()"},{"p":"org.rocksdb","c":"Options","l":"recycleLogFileNum()"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"refresh()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"refresh()"},{"p":"org.rocksdb","c":"Cache","l":"release(CacheHandle)","u":"release(org.rocksdb.CacheHandle)"},{"p":"org.rocksdb","c":"RocksDB","l":"releaseSnapshot(Snapshot)","u":"releaseSnapshot(org.rocksdb.Snapshot)"},{"p":"org.rocksdb","c":"TickerType","l":"REMOTE_COMPACT_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"REMOTE_COMPACT_WRITE_BYTES"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"REMOVE"},{"p":"org.rocksdb","c":"RemoveEmptyValueCompactionFilter","l":"RemoveEmptyValueCompactionFilter()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"removePrefix(int)"},{"p":"org.rocksdb","c":"DirectSlice","l":"removePrefix(int)"},{"p":"org.rocksdb","c":"Slice","l":"removePrefix(int)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"removeProperties(RocksDB)","u":"removeProperties(org.rocksdb.RocksDB)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"removeStatistics(Statistics)","u":"removeStatistics(org.rocksdb.Statistics)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"report_bg_io_stats"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"reportBgIoStats()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"reportBgIoStats()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"reportBgIoStats()"},{"p":"org.rocksdb","c":"Options","l":"reportBgIoStats()"},{"p":"org.rocksdb","c":"RateLimiter","l":"request(long)"},{"p":"org.rocksdb","c":"ByteBufferGetStatus","l":"requiredSize"},{"p":"org.rocksdb","c":"VectorMemTableConfig","l":"reservedSize()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"reset()"},{"p":"org.rocksdb","c":"PerfContext","l":"reset()"},{"p":"org.rocksdb","c":"PerfContextSampler","l":"reset()"},{"p":"org.rocksdb","c":"Statistics","l":"reset()"},{"p":"org.rocksdb","c":"PerfContext","l":"resetIOStats()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiter","l":"resetMaxOutstandingTask()"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiterImpl","l":"resetMaxOutstandingTask()"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"resetNativeHandle(long, boolean)","u":"resetNativeHandle(long,boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"resetStats()"},{"p":"org.rocksdb","c":"BackupEngine","l":"restoreDbFromBackup(int, String, String, RestoreOptions)","u":"restoreDbFromBackup(int,java.lang.String,java.lang.String,org.rocksdb.RestoreOptions)"},{"p":"org.rocksdb","c":"BackupEngine","l":"restoreDbFromLatestBackup(String, String, RestoreOptions)","u":"restoreDbFromLatestBackup(java.lang.String,java.lang.String,org.rocksdb.RestoreOptions)"},{"p":"org.rocksdb","c":"RestoreOptions","l":"RestoreOptions(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"restoreRateLimit()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"restoreRateLimiter()"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"reusedSynchronisationType()"},{"p":"org.rocksdb","c":"MergeOperatorOptions","l":"reusedSynchronisationType()"},{"p":"org.rocksdb","c":"BuiltinComparator","l":"REVERSE_BYTEWISE_COMPARATOR"},{"p":"org.rocksdb.util","c":"ReverseBytewiseComparator","l":"ReverseBytewiseComparator(ComparatorOptions)","u":"%3Cinit%3E(org.rocksdb.ComparatorOptions)"},{"p":"org.rocksdb","c":"RocksCallbackObject","l":"RocksCallbackObject(long...)","u":"%3Cinit%3E(long...)"},{"p":"org.rocksdb","c":"RocksDB","l":"RocksDB(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"RocksDBException","l":"RocksDBException(Status)","u":"%3Cinit%3E(org.rocksdb.Status)"},{"p":"org.rocksdb","c":"RocksDBException","l":"RocksDBException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDBException","l":"RocksDBException(String, Status)","u":"%3Cinit%3E(java.lang.String,org.rocksdb.Status)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"RocksDBMetrics(MetricsRegistry)","u":"%3Cinit%3E(org.rocksdb.metrics.MetricsRegistry)"},{"p":"org.rocksdb","c":"RocksDB","l":"rocksdbVersion()"},{"p":"org.rocksdb","c":"RocksIterator","l":"RocksIterator(RocksDB, long)","u":"%3Cinit%3E(org.rocksdb.RocksDB,long)"},{"p":"org.rocksdb","c":"RocksMemEnv","l":"RocksMemEnv(Env)","u":"%3Cinit%3E(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"RocksMutableObject()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"RocksMutableObject(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"RocksObject","l":"RocksObject(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"Transaction","l":"rollback()"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"rollbackToSavePoint()"},{"p":"org.rocksdb","c":"Transaction","l":"rollbackToSavePoint()"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"rollbackToSavePoint()"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"ROLLEDBACK"},{"p":"org.rocksdb","c":"CompactionPriority","l":"RoundRobin"},{"p":"org.rocksdb","c":"TickerType","l":"ROW_CACHE_HIT"},{"p":"org.rocksdb","c":"TickerType","l":"ROW_CACHE_MISS"},{"p":"org.rocksdb","c":"DBOptions","l":"rowCache()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"rowCache()"},{"p":"org.rocksdb","c":"Options","l":"rowCache()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"rowCacheMode()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"rowCacheMode()"},{"p":"org.rocksdb","c":"Options","l":"rowCacheMode()"},{"p":"org.rocksdb","c":"RocksDB","l":"runCacheDumper()"},{"p":"org.rocksdb","c":"WriteBatch.SavePoint","l":"SavePoint(long, long, long)","u":"%3Cinit%3E(long,long,long)"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"scrape()"},{"p":"org.rocksdb","c":"TickerType","l":"SECONDARY_CACHE_DATA_HITS"},{"p":"org.rocksdb","c":"TickerType","l":"SECONDARY_CACHE_FILTER_HITS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SECONDARY_CACHE_HIT_COUNT"},{"p":"org.rocksdb","c":"TickerType","l":"SECONDARY_CACHE_HITS"},{"p":"org.rocksdb","c":"TickerType","l":"SECONDARY_CACHE_INDEX_HITS"},{"p":"org.rocksdb","c":"SecondaryCache","l":"SecondaryCache(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_CHILD_SEEK_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_CHILD_SEEK_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_INTERNAL_SEEK_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_MAX_HEAP_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_MIN_HEAP_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_ON_MEMTABLE_COUNT"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"SEEK_ON_MEMTABLE_TIME"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"seek(byte[])"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"seek(byte[])"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"seek(ByteBuffer)","u":"seek(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"seek(ByteBuffer)","u":"seek(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"seekForPrev(byte[])"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"seekForPrev(byte[])"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"seekForPrev(ByteBuffer)","u":"seekForPrev(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"seekForPrev(ByteBuffer)","u":"seekForPrev(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"seekToFirst()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"seekToFirst()"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"seekToLast()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"seekToLast()"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"self()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"self()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"self()"},{"p":"org.rocksdb","c":"TransactionLogIterator.BatchResult","l":"sequenceNumber()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"sequenceNumber()"},{"p":"org.rocksdb","c":"AccessHint","l":"SEQUENTIAL"},{"p":"org.rocksdb","c":"AbstractJavaCompactionFilter.NewValue","l":"set(ByteBuffer)","u":"set(java.nio.ByteBuffer)"},{"p":"org.rocksdb.metrics","c":"MetricsRegistry.Gauge","l":"set(double)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAccessHintOnCompactionStart(AccessHint)","u":"setAccessHintOnCompactionStart(org.rocksdb.AccessHint)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAccessHintOnCompactionStart(AccessHint)","u":"setAccessHintOnCompactionStart(org.rocksdb.AccessHint)"},{"p":"org.rocksdb","c":"Options","l":"setAccessHintOnCompactionStart(AccessHint)","u":"setAccessHintOnCompactionStart(org.rocksdb.AccessHint)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAdviseRandomOnOpen(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAdviseRandomOnOpen(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAdviseRandomOnOpen(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAllow2pc(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAllow2pc(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAllow2pc(boolean)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"setAllowBlockingFlush(boolean)"},{"p":"org.rocksdb","c":"CompactionOptionsFIFO","l":"setAllowCompaction(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAllowConcurrentMemtableWrite(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAllowConcurrentMemtableWrite(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAllowConcurrentMemtableWrite(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setAllowFallocate(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAllowFAllocate(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAllowFAllocate(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAllowFAllocate(boolean)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"setAllowGlobalSeqNo(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAllowIngestBehind(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAllowIngestBehind(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAllowIngestBehind(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAllowMmapReads(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAllowMmapReads(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAllowMmapReads(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAllowMmapWrites(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAllowMmapWrites(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAllowMmapWrites(boolean)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setAllowTrivialMove(boolean)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setAllowWriteStall(boolean)"},{"p":"org.rocksdb","c":"FlushOptions","l":"setAllowWriteStall(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setArenaBlockSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setArenaBlockSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setArenaBlockSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setArenaBlockSize(long)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setAsyncIo(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAtomicFlush(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAtomicFlush(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAtomicFlush(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setAutoPrefixMode(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAvoidFlushDuringRecovery(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAvoidFlushDuringRecovery(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAvoidFlushDuringRecovery(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAvoidFlushDuringShutdown(boolean)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setAvoidFlushDuringShutdown(boolean)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setAvoidFlushDuringShutdown(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAvoidFlushDuringShutdown(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setAvoidUnnecessaryBlockingIO(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setAvoidUnnecessaryBlockingIO(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setAvoidUnnecessaryBlockingIO(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setBackgroundPurgeOnIteratorCleanup(boolean)"},{"p":"org.rocksdb","c":"Env","l":"setBackgroundThreads(int)"},{"p":"org.rocksdb","c":"Env","l":"setBackgroundThreads(int, Priority)","u":"setBackgroundThreads(int,org.rocksdb.Priority)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setBackupEnv(Env)","u":"setBackupEnv(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setBackupLogFiles(boolean)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setBackupRateLimit(long)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setBackupRateLimiter(RateLimiter)","u":"setBackupRateLimiter(org.rocksdb.RateLimiter)"},{"p":"org.rocksdb","c":"DBOptions","l":"setBestEffortsRecovery(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setBestEffortsRecovery(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setBestEffortsRecovery(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setBgerrorResumeRetryInterval(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setBgerrorResumeRetryInterval(long)"},{"p":"org.rocksdb","c":"Options","l":"setBgerrorResumeRetryInterval(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setBlobCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBlobCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setBlobCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setBlobCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setBlobCompressionType(CompressionType)","u":"setBlobCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBlobCompressionType(CompressionType)","u":"setBlobCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setBlobCompressionType(CompressionType)","u":"setBlobCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"Options","l":"setBlobCompressionType(CompressionType)","u":"setBlobCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setBlobFileSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBlobFileSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setBlobFileSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setBlobFileSize(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setBlobFileStartingLevel(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBlobFileStartingLevel(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setBlobFileStartingLevel(int)"},{"p":"org.rocksdb","c":"Options","l":"setBlobFileStartingLevel(int)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setBlobGarbageCollectionAgeCutoff(double)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBlobGarbageCollectionAgeCutoff(double)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setBlobGarbageCollectionAgeCutoff(double)"},{"p":"org.rocksdb","c":"Options","l":"setBlobGarbageCollectionAgeCutoff(double)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setBlobGarbageCollectionForceThreshold(double)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBlobGarbageCollectionForceThreshold(double)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setBlobGarbageCollectionForceThreshold(double)"},{"p":"org.rocksdb","c":"Options","l":"setBlobGarbageCollectionForceThreshold(double)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setBlockAlign(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setBlockCache(Cache)","u":"setBlockCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setBlockCacheSize(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setBlockRestartInterval(int)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setBlockSize(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setBlockSizeDeviation(int)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setBloomBitsPerKey(int)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setBloomLocality(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBloomLocality(int)"},{"p":"org.rocksdb","c":"Options","l":"setBloomLocality(int)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"setBoolean(K, boolean)","u":"setBoolean(K,boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBottommostCompressionOptions(CompressionOptions)","u":"setBottommostCompressionOptions(org.rocksdb.CompressionOptions)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setBottommostCompressionOptions(CompressionOptions)","u":"setBottommostCompressionOptions(org.rocksdb.CompressionOptions)"},{"p":"org.rocksdb","c":"Options","l":"setBottommostCompressionOptions(CompressionOptions)","u":"setBottommostCompressionOptions(org.rocksdb.CompressionOptions)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setBottommostCompressionType(CompressionType)","u":"setBottommostCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setBottommostCompressionType(CompressionType)","u":"setBottommostCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"Options","l":"setBottommostCompressionType(CompressionType)","u":"setBottommostCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setBottommostLevelCompaction(CompactRangeOptions.BottommostLevelCompaction)","u":"setBottommostLevelCompaction(org.rocksdb.CompactRangeOptions.BottommostLevelCompaction)"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"setBranchingFactor(int)"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"setBucketCount(long)"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"setBucketCount(long)"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"setBucketEntriesLoggingThreshold(int)"},{"p":"org.rocksdb","c":"RateLimiter","l":"setBytesPerSecond(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setBytesPerSync(long)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setBytesPerSync(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setBytesPerSync(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setBytesPerSync(long)"},{"p":"org.rocksdb","c":"Options","l":"setBytesPerSync(long)"},{"p":"org.rocksdb","c":"RocksDB","l":"setCacheDumper(CacheDumper)","u":"setCacheDumper(org.rocksdb.CacheDumper)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setCacheIndexAndFilterBlocks(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setCacheIndexAndFilterBlocksWithHighPriority(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setCacheNumShardBits(int)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setCallbackTriggerIntervalSize(long)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setCanceled(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCfPaths(Collection<DbPath>)","u":"setCfPaths(java.util.Collection)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setCfPaths(Collection<DbPath>)","u":"setCfPaths(java.util.Collection)"},{"p":"org.rocksdb","c":"Options","l":"setCfPaths(Collection<DbPath>)","u":"setCfPaths(java.util.Collection)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setChangeLevel(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setChecksumType(ChecksumType)","u":"setChecksumType(org.rocksdb.ChecksumType)"},{"p":"org.rocksdb","c":"SstFileManager","l":"setCompactionBufferSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionFilter(AbstractCompactionFilter<? extends AbstractSlice<?>>)","u":"setCompactionFilter(org.rocksdb.AbstractCompactionFilter)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setCompactionFilter(AbstractCompactionFilter<? extends AbstractSlice<?>>)","u":"setCompactionFilter(org.rocksdb.AbstractCompactionFilter)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionFilter(AbstractCompactionFilter<? extends AbstractSlice<?>>)","u":"setCompactionFilter(org.rocksdb.AbstractCompactionFilter)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionFilterFactory(AbstractCompactionFilterFactory<? extends AbstractCompactionFilter<?>>)","u":"setCompactionFilterFactory(org.rocksdb.AbstractCompactionFilterFactory)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setCompactionFilterFactory(AbstractCompactionFilterFactory<? extends AbstractCompactionFilter<?>>)","u":"setCompactionFilterFactory(org.rocksdb.AbstractCompactionFilterFactory)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionFilterFactory(AbstractCompactionFilterFactory<? extends AbstractCompactionFilter<?>>)","u":"setCompactionFilterFactory(org.rocksdb.AbstractCompactionFilterFactory)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setCompactionOptionsFIFO(CompactionOptionsFIFO)","u":"setCompactionOptionsFIFO(org.rocksdb.CompactionOptionsFIFO)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionOptionsFIFO(CompactionOptionsFIFO)","u":"setCompactionOptionsFIFO(org.rocksdb.CompactionOptionsFIFO)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionOptionsFIFO(CompactionOptionsFIFO)","u":"setCompactionOptionsFIFO(org.rocksdb.CompactionOptionsFIFO)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setCompactionOptionsUniversal(CompactionOptionsUniversal)","u":"setCompactionOptionsUniversal(org.rocksdb.CompactionOptionsUniversal)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionOptionsUniversal(CompactionOptionsUniversal)","u":"setCompactionOptionsUniversal(org.rocksdb.CompactionOptionsUniversal)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionOptionsUniversal(CompactionOptionsUniversal)","u":"setCompactionOptionsUniversal(org.rocksdb.CompactionOptionsUniversal)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setCompactionPriority(CompactionPriority)","u":"setCompactionPriority(org.rocksdb.CompactionPriority)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionPriority(CompactionPriority)","u":"setCompactionPriority(org.rocksdb.CompactionPriority)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionPriority(CompactionPriority)","u":"setCompactionPriority(org.rocksdb.CompactionPriority)"},{"p":"org.rocksdb","c":"DBOptions","l":"setCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionReadaheadSize(long)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setCompactionStyle(CompactionStyle)","u":"setCompactionStyle(org.rocksdb.CompactionStyle)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionStyle(CompactionStyle)","u":"setCompactionStyle(org.rocksdb.CompactionStyle)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionStyle(CompactionStyle)","u":"setCompactionStyle(org.rocksdb.CompactionStyle)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompactionThreadLimiter(ConcurrentTaskLimiter)","u":"setCompactionThreadLimiter(org.rocksdb.ConcurrentTaskLimiter)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setCompactionThreadLimiter(ConcurrentTaskLimiter)","u":"setCompactionThreadLimiter(org.rocksdb.ConcurrentTaskLimiter)"},{"p":"org.rocksdb","c":"Options","l":"setCompactionThreadLimiter(ConcurrentTaskLimiter)","u":"setCompactionThreadLimiter(org.rocksdb.ConcurrentTaskLimiter)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setComparator(AbstractComparator)","u":"setComparator(org.rocksdb.AbstractComparator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setComparator(AbstractComparator)","u":"setComparator(org.rocksdb.AbstractComparator)"},{"p":"org.rocksdb","c":"OptimisticTransactionOptions","l":"setComparator(AbstractComparator)","u":"setComparator(org.rocksdb.AbstractComparator)"},{"p":"org.rocksdb","c":"Options","l":"setComparator(AbstractComparator)","u":"setComparator(org.rocksdb.AbstractComparator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setComparator(BuiltinComparator)","u":"setComparator(org.rocksdb.BuiltinComparator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setComparator(BuiltinComparator)","u":"setComparator(org.rocksdb.BuiltinComparator)"},{"p":"org.rocksdb","c":"Options","l":"setComparator(BuiltinComparator)","u":"setComparator(org.rocksdb.BuiltinComparator)"},{"p":"org.rocksdb","c":"CompactionOptions","l":"setCompression(CompressionType)","u":"setCompression(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompressionOptions(CompressionOptions)","u":"setCompressionOptions(org.rocksdb.CompressionOptions)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setCompressionOptions(CompressionOptions)","u":"setCompressionOptions(org.rocksdb.CompressionOptions)"},{"p":"org.rocksdb","c":"Options","l":"setCompressionOptions(CompressionOptions)","u":"setCompressionOptions(org.rocksdb.CompressionOptions)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setCompressionPerLevel(List<CompressionType>)","u":"setCompressionPerLevel(java.util.List)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompressionPerLevel(List<CompressionType>)","u":"setCompressionPerLevel(java.util.List)"},{"p":"org.rocksdb","c":"Options","l":"setCompressionPerLevel(List<CompressionType>)","u":"setCompressionPerLevel(java.util.List)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setCompressionSizePercent(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setCompressionType(CompressionType)","u":"setCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setCompressionType(CompressionType)","u":"setCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"setCompressionType(CompressionType)","u":"setCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"Options","l":"setCompressionType(CompressionType)","u":"setCompressionType(org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"DBOptions","l":"setCreateIfMissing(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setCreateIfMissing(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setCreateIfMissing(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setCreateMissingColumnFamilies(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setCreateMissingColumnFamilies(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setCreateMissingColumnFamilies(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setDataBlockHashTableUtilRatio(double)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setDataBlockIndexType(DataBlockIndexType)","u":"setDataBlockIndexType(org.rocksdb.DataBlockIndexType)"},{"p":"org.rocksdb","c":"DBOptions","l":"setDbLogDir(String)","u":"setDbLogDir(java.lang.String)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setDbLogDir(String)","u":"setDbLogDir(java.lang.String)"},{"p":"org.rocksdb","c":"Options","l":"setDbLogDir(String)","u":"setDbLogDir(java.lang.String)"},{"p":"org.rocksdb","c":"RocksDB","l":"setDBOptions(MutableDBOptions)","u":"setDBOptions(org.rocksdb.MutableDBOptions)"},{"p":"org.rocksdb","c":"DBOptions","l":"setDbPaths(Collection<DbPath>)","u":"setDbPaths(java.util.Collection)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setDbPaths(Collection<DbPath>)","u":"setDbPaths(java.util.Collection)"},{"p":"org.rocksdb","c":"Options","l":"setDbPaths(Collection<DbPath>)","u":"setDbPaths(java.util.Collection)"},{"p":"org.rocksdb","c":"DBOptions","l":"setDbWriteBufferSize(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setDbWriteBufferSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setDbWriteBufferSize(long)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setDeadline(long)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"setDeadlockDetect(boolean)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"setDeadlockDetectDepth(long)"},{"p":"org.rocksdb","c":"TransactionDB","l":"setDeadlockInfoBufferSize(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setDedicatedRowCache(Cache)","u":"setDedicatedRowCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setDedicatedRowCache(Cache)","u":"setDedicatedRowCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"Options","l":"setDedicatedRowCache(Cache)","u":"setDedicatedRowCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"setDefaultLockTimeout(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setDelayedWriteRate(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setDelayedWriteRate(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setDelayedWriteRate(long)"},{"p":"org.rocksdb","c":"Options","l":"setDelayedWriteRate(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setDeleteObsoleteFilesPeriodMicros(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setDeleteObsoleteFilesPeriodMicros(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setDeleteObsoleteFilesPeriodMicros(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setDeleteObsoleteFilesPeriodMicros(long)"},{"p":"org.rocksdb","c":"Options","l":"setDeleteObsoleteFilesPeriodMicros(long)"},{"p":"org.rocksdb","c":"SstFileManager","l":"setDeleteRateBytesPerSecond(long)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"setDelimiter(String)","u":"setDelimiter(java.lang.String)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setDestroyOldData(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setDisableAutoCompactions(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setDisableAutoCompactions(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"setDisableAutoCompactions(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setDisableAutoCompactions(boolean)"},{"p":"org.rocksdb","c":"WriteOptions","l":"setDisableWAL(boolean)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"setDouble(K, double)","u":"setDouble(K,double)"},{"p":"org.rocksdb","c":"DBOptions","l":"setDumpMallocStats(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setDumpMallocStats(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setDumpMallocStats(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setEnableBlobFiles(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setEnableBlobFiles(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setEnableBlobFiles(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setEnableBlobFiles(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setEnableBlobGarbageCollection(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setEnableBlobGarbageCollection(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setEnableBlobGarbageCollection(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setEnableBlobGarbageCollection(boolean)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"setEnabled(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setEnableIndexCompression(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setEnablePipelinedWrite(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setEnablePipelinedWrite(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setEnablePipelinedWrite(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setEnableThreadTracking(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setEnableThreadTracking(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setEnableThreadTracking(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setEnableWriteThreadAdaptiveYield(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setEnableWriteThreadAdaptiveYield(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setEnableWriteThreadAdaptiveYield(boolean)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setEncodingType(EncodingType)","u":"setEncodingType(org.rocksdb.EncodingType)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"setEnum(K, N)","u":"setEnum(K,N)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"setEnv(Env)","u":"setEnv(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"DBOptions","l":"setEnv(Env)","u":"setEnv(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setEnv(Env)","u":"setEnv(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"Options","l":"setEnv(Env)","u":"setEnv(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"DBOptions","l":"setErrorIfExists(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setErrorIfExists(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setErrorIfExists(boolean)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setExclusiveManualCompaction(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setExperimentalMempurgeThreshold(double)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setExperimentalMempurgeThreshold(double)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setExperimentalMempurgeThreshold(double)"},{"p":"org.rocksdb","c":"Options","l":"setExperimentalMempurgeThreshold(double)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"setExpiration(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setFailIfOptionsFileError(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setFailIfOptionsFileError(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setFailIfOptionsFileError(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setFallocateWithKeepSize(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setFdCloexec()"},{"p":"org.rocksdb","c":"ReadOptions","l":"setFillCache(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setFilter(Filter)","u":"setFilter(org.rocksdb.Filter)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setFilterPolicy(Filter)","u":"setFilterPolicy(org.rocksdb.Filter)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setForceConsistencyChecks(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setForceConsistencyChecks(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setForceConsistencyChecks(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setFormatVersion(int)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setFullHistoryTSLow(CompactRangeOptions.Timestamp)","u":"setFullHistoryTSLow(org.rocksdb.CompactRangeOptions.Timestamp)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setFullScanMode(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setHardPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setHardPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setHardPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"Options","l":"setHardPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setHashIndexAllowCollision(boolean)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setHashTableRatio(double)"},{"p":"org.rocksdb","c":"HashSkipListMemTableConfig","l":"setHeight(int)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setHugePageTlbSize(int)"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"setHugePageTlbSize(long)"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"setIfLogBucketDistWhenFlush(boolean)"},{"p":"org.rocksdb","c":"WriteOptions","l":"setIgnoreMissingColumnFamilies(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setIgnoreRangeDeletions(boolean)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"setIgnoreUnknownOptions(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setIncreaseParallelism(int)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setIncreaseParallelism(int)"},{"p":"org.rocksdb","c":"Options","l":"setIncreaseParallelism(int)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setIndexBlockRestartInterval(int)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setIndexShortening(IndexShorteningMode)","u":"setIndexShortening(org.rocksdb.IndexShorteningMode)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setIndexSparseness(int)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setIndexType(IndexType)","u":"setIndexType(org.rocksdb.IndexType)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setInfoLog(Logger)","u":"setInfoLog(org.rocksdb.Logger)"},{"p":"org.rocksdb","c":"DBOptions","l":"setInfoLogLevel(InfoLogLevel)","u":"setInfoLogLevel(org.rocksdb.InfoLogLevel)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setInfoLogLevel(InfoLogLevel)","u":"setInfoLogLevel(org.rocksdb.InfoLogLevel)"},{"p":"org.rocksdb","c":"Logger","l":"setInfoLogLevel(InfoLogLevel)","u":"setInfoLogLevel(org.rocksdb.InfoLogLevel)"},{"p":"org.rocksdb","c":"Options","l":"setInfoLogLevel(InfoLogLevel)","u":"setInfoLogLevel(org.rocksdb.InfoLogLevel)"},{"p":"org.rocksdb","c":"Logger","l":"setInfoLogLevel(long, byte)","u":"setInfoLogLevel(long,byte)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"setIngestBehind(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setInplaceUpdateNumLocks(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setInplaceUpdateNumLocks(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setInplaceUpdateNumLocks(long)"},{"p":"org.rocksdb","c":"Options","l":"setInplaceUpdateNumLocks(long)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setInplaceUpdateSupport(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setInplaceUpdateSupport(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setInplaceUpdateSupport(boolean)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"setInputStringsEscaped(boolean)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"setInt(K, int)","u":"setInt(K,int)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"setIntArray(K, int[])","u":"setIntArray(K,int[])"},{"p":"org.rocksdb","c":"ReadOptions","l":"setIoTimeout(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setIsFdCloseOnExec(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setIsFdCloseOnExec(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setIsFdCloseOnExec(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setIterateLowerBound(AbstractSlice<?>)","u":"setIterateLowerBound(org.rocksdb.AbstractSlice)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setIterateUpperBound(AbstractSlice<?>)","u":"setIterateUpperBound(org.rocksdb.AbstractSlice)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setIterStartTs(AbstractSlice<?>)","u":"setIterStartTs(org.rocksdb.AbstractSlice)"},{"p":"org.rocksdb","c":"DBOptions","l":"setKeepLogFileNum(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setKeepLogFileNum(long)"},{"p":"org.rocksdb","c":"Options","l":"setKeepLogFileNum(long)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setKeySize(int)"},{"p":"org.rocksdb","c":"DirectSlice","l":"setLength(int)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"setLevel(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevel0FileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setLevel0FileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"setLevel0FileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"Options","l":"setLevel0FileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setLevel0SlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevel0SlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setLevel0SlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"Options","l":"setLevel0SlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setLevel0StopWritesTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevel0StopWritesTrigger(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setLevel0StopWritesTrigger(int)"},{"p":"org.rocksdb","c":"Options","l":"setLevel0StopWritesTrigger(int)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setLevelCompactionDynamicLevelBytes(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevelCompactionDynamicLevelBytes(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setLevelCompactionDynamicLevelBytes(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevelZeroFileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setLevelZeroFileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"Options","l":"setLevelZeroFileNumCompactionTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevelZeroSlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setLevelZeroSlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"Options","l":"setLevelZeroSlowdownWritesTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setLevelZeroStopWritesTrigger(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setLevelZeroStopWritesTrigger(int)"},{"p":"org.rocksdb","c":"Options","l":"setLevelZeroStopWritesTrigger(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setListeners(List<AbstractEventListener>)","u":"setListeners(java.util.List)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setListeners(List<AbstractEventListener>)","u":"setListeners(java.util.List)"},{"p":"org.rocksdb","c":"Options","l":"setListeners(List<AbstractEventListener>)","u":"setListeners(java.util.List)"},{"p":"org.rocksdb","c":"Transaction","l":"setLockTimeout(long)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"setLockTimeout(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setLogFileTimeToRoll(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setLogFileTimeToRoll(long)"},{"p":"org.rocksdb","c":"Options","l":"setLogFileTimeToRoll(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setLogger(Logger)","u":"setLogger(org.rocksdb.Logger)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setLogger(Logger)","u":"setLogger(org.rocksdb.Logger)"},{"p":"org.rocksdb","c":"Options","l":"setLogger(Logger)","u":"setLogger(org.rocksdb.Logger)"},{"p":"org.rocksdb","c":"Transaction","l":"setLogNumber(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setLogReadaheadSize(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setLogReadaheadSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setLogReadaheadSize(long)"},{"p":"org.rocksdb","c":"AbstractMutableOptions.AbstractMutableOptionsBuilder","l":"setLong(K, long)","u":"setLong(K,long)"},{"p":"org.rocksdb","c":"SkipListMemTableConfig","l":"setLookahead(long)"},{"p":"org.rocksdb","c":"WriteOptions","l":"setLowPri(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setManaged(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setManifestPreallocationSize(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setManifestPreallocationSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setManifestPreallocationSize(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setManualWalFlush(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setManualWalFlush(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setManualWalFlush(boolean)"},{"p":"org.rocksdb","c":"SstFileManager","l":"setMaxAllowedSpaceUsage(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxBackgroundCompactions(int)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setMaxBackgroundCompactions(int)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setMaxBackgroundCompactions(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxBackgroundCompactions(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxBackgroundFlushes(int)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxBackgroundFlushes(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxBackgroundFlushes(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxBackgroundJobs(int)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setMaxBackgroundJobs(int)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setMaxBackgroundJobs(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxBackgroundJobs(int)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setMaxBackgroundOperations(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxBgErrorResumeCount(int)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxBgErrorResumeCount(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxBgErrorResumeCount(int)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"setMaxBytes(long)"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"setMaxBytes(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxBytesForLevelBase(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxBytesForLevelBase(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"setMaxBytesForLevelBase(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxBytesForLevelBase(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMaxBytesForLevelMultiplier(double)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxBytesForLevelMultiplier(double)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMaxBytesForLevelMultiplier(double)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxBytesForLevelMultiplier(double)"},{"p":"org.rocksdb","c":"Options","l":"setMaxBytesForLevelMultiplier(double)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMaxBytesForLevelMultiplierAdditional(int[])"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxBytesForLevelMultiplierAdditional(int[])"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxBytesForLevelMultiplierAdditional(int[])"},{"p":"org.rocksdb","c":"Options","l":"setMaxBytesForLevelMultiplierAdditional(int[])"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setMaxCompactionBytes(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxCompactionBytes(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxCompactionBytes(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"setMaxCompactionBytes(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxCompactionBytes(long)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"setMaxDictBytes(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxFileOpeningThreads(int)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxFileOpeningThreads(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxFileOpeningThreads(int)"},{"p":"org.rocksdb","c":"RangeLockManager","l":"setMaxLockMemory(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxLogFileSize(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxLogFileSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxLogFileSize(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxManifestFileSize(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxManifestFileSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxManifestFileSize(long)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setMaxMergeWidth(int)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"setMaxNumLocks(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxOpenFiles(int)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setMaxOpenFiles(int)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setMaxOpenFiles(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxOpenFiles(int)"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiter","l":"setMaxOutstandingTask(int)"},{"p":"org.rocksdb","c":"ConcurrentTaskLimiterImpl","l":"setMaxOutstandingTask(int)"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"setMaxReusedBufferSize(int)"},{"p":"org.rocksdb","c":"MergeOperatorOptions","l":"setMaxReusedBufferSize(int)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMaxSequentialSkipInIterations(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxSequentialSkipInIterations(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxSequentialSkipInIterations(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxSequentialSkipInIterations(long)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setMaxSizeAmplificationPercent(int)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setMaxSkippableInternalKeys(long)"},{"p":"org.rocksdb","c":"CompactionOptions","l":"setMaxSubcompactions(int)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setMaxSubcompactions(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxSubcompactions(int)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxSubcompactions(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxSubcompactions(int)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMaxSuccessiveMerges(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxSuccessiveMerges(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxSuccessiveMerges(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxSuccessiveMerges(long)"},{"p":"org.rocksdb","c":"CompactionOptionsFIFO","l":"setMaxTableFilesSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxTableFilesSizeFIFO(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMaxTableFilesSizeFIFO(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxTableFilesSizeFIFO(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxTotalWalSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setMaxTotalWalSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setMaxTotalWalSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxTotalWalSize(long)"},{"p":"org.rocksdb","c":"SstFileManager","l":"setMaxTrashDBRatio(double)"},{"p":"org.rocksdb","c":"DBOptions","l":"setMaxWriteBatchGroupSizeBytes(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setMaxWriteBatchGroupSizeBytes(long)"},{"p":"org.rocksdb","c":"Options","l":"setMaxWriteBatchGroupSizeBytes(long)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"setMaxWriteBatchSize(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMaxWriteBufferNumber(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxWriteBufferNumber(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMaxWriteBufferNumber(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxWriteBufferNumber(int)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setMaxWriteBufferNumberToMaintain(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMaxWriteBufferNumberToMaintain(int)"},{"p":"org.rocksdb","c":"Options","l":"setMaxWriteBufferNumberToMaintain(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMemTableConfig(MemTableConfig)","u":"setMemTableConfig(org.rocksdb.MemTableConfig)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMemTableConfig(MemTableConfig)","u":"setMemTableConfig(org.rocksdb.MemTableConfig)"},{"p":"org.rocksdb","c":"Options","l":"setMemTableConfig(MemTableConfig)","u":"setMemTableConfig(org.rocksdb.MemTableConfig)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMemtableHugePageSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMemtableHugePageSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMemtableHugePageSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setMemtableHugePageSize(long)"},{"p":"org.rocksdb","c":"WriteOptions","l":"setMemtableInsertHintPerBatch(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMemtableMaxRangeDeletions(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMemtableMaxRangeDeletions(int)"},{"p":"org.rocksdb","c":"Options","l":"setMemtableMaxRangeDeletions(int)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMemtablePrefixBloomSizeRatio(double)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMemtablePrefixBloomSizeRatio(double)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMemtablePrefixBloomSizeRatio(double)"},{"p":"org.rocksdb","c":"Options","l":"setMemtablePrefixBloomSizeRatio(double)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMemtableWholeKeyFiltering(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMemtableWholeKeyFiltering(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMemtableWholeKeyFiltering(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setMemtableWholeKeyFiltering(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMergeOperator(AbstractMergeOperator)","u":"setMergeOperator(org.rocksdb.AbstractMergeOperator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMergeOperator(AbstractMergeOperator)","u":"setMergeOperator(org.rocksdb.AbstractMergeOperator)"},{"p":"org.rocksdb","c":"Options","l":"setMergeOperator(AbstractMergeOperator)","u":"setMergeOperator(org.rocksdb.AbstractMergeOperator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMergeOperator(MergeOperator)","u":"setMergeOperator(org.rocksdb.MergeOperator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMergeOperator(MergeOperator)","u":"setMergeOperator(org.rocksdb.MergeOperator)"},{"p":"org.rocksdb","c":"Options","l":"setMergeOperator(MergeOperator)","u":"setMergeOperator(org.rocksdb.MergeOperator)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMergeOperatorName(String)","u":"setMergeOperatorName(java.lang.String)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setMergeOperatorName(String)","u":"setMergeOperatorName(java.lang.String)"},{"p":"org.rocksdb","c":"Options","l":"setMergeOperatorName(String)","u":"setMergeOperatorName(java.lang.String)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setMetadataBlockSize(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setMinBlobSize(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMinBlobSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setMinBlobSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setMinBlobSize(long)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setMinMergeWidth(int)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setMinWriteBufferNumberToMerge(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setMinWriteBufferNumberToMerge(int)"},{"p":"org.rocksdb","c":"Options","l":"setMinWriteBufferNumberToMerge(int)"},{"p":"org.rocksdb","c":"ImportColumnFamilyOptions","l":"setMoveFiles(boolean)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"setMoveFiles(boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"setName(String)","u":"setName(java.lang.String)"},{"p":"org.rocksdb","c":"RocksMutableObject","l":"setNativeHandle(long, boolean)","u":"setNativeHandle(long,boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setNoBlockCache(boolean)"},{"p":"org.rocksdb","c":"WriteOptions","l":"setNoSlowdown(boolean)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setNumLevels(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setNumLevels(int)"},{"p":"org.rocksdb","c":"Options","l":"setNumLevels(int)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"setNumStripes(long)"},{"p":"org.rocksdb","c":"AdvancedColumnFamilyOptionsInterface","l":"setOptimizeFiltersForHits(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setOptimizeFiltersForHits(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setOptimizeFiltersForHits(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setOptimizeFiltersForMemory(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setOptimizeMultigetForIo(boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"setOptions(ColumnFamilyHandle, MutableColumnFamilyOptions)","u":"setOptions(org.rocksdb.ColumnFamilyHandle,org.rocksdb.MutableColumnFamilyOptions)"},{"p":"org.rocksdb","c":"RocksDB","l":"setOptions(MutableColumnFamilyOptions)","u":"setOptions(org.rocksdb.MutableColumnFamilyOptions)"},{"p":"org.rocksdb","c":"CompactionOptions","l":"setOutputFileSizeLimit(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setParanoidChecks(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setParanoidChecks(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setParanoidChecks(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setParanoidFileChecks(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setParanoidFileChecks(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setParanoidFileChecks(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setParanoidFileChecks(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setPartitionFilters(boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"setPerfLevel(PerfLevel)","u":"setPerfLevel(org.rocksdb.PerfLevel)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setPeriodicCompactionSeconds(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setPeriodicCompactionSeconds(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setPeriodicCompactionSeconds(long)"},{"p":"org.rocksdb","c":"Options","l":"setPeriodicCompactionSeconds(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setPersistentCache(PersistentCache)","u":"setPersistentCache(org.rocksdb.PersistentCache)"},{"p":"org.rocksdb","c":"DBOptions","l":"setPersistStatsToDisk(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setPersistStatsToDisk(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setPersistStatsToDisk(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setPinData(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setPinL0FilterAndIndexBlocksInCache(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setPinTopLevelIndexAndFilter(boolean)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setPrefixSameAsStart(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setPrepopulateBlobCache(PrepopulateBlobCache)","u":"setPrepopulateBlobCache(org.rocksdb.PrepopulateBlobCache)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setPrepopulateBlobCache(PrepopulateBlobCache)","u":"setPrepopulateBlobCache(org.rocksdb.PrepopulateBlobCache)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setPrepopulateBlobCache(PrepopulateBlobCache)","u":"setPrepopulateBlobCache(org.rocksdb.PrepopulateBlobCache)"},{"p":"org.rocksdb","c":"Options","l":"setPrepopulateBlobCache(PrepopulateBlobCache)","u":"setPrepopulateBlobCache(org.rocksdb.PrepopulateBlobCache)"},{"p":"org.rocksdb","c":"DBOptions","l":"setRandomAccessMaxBufferSize(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setRandomAccessMaxBufferSize(long)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setRandomAccessMaxBufferSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setRandomAccessMaxBufferSize(long)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"setRangeLockManager(RangeLockManager)","u":"setRangeLockManager(org.rocksdb.RangeLockManager)"},{"p":"org.rocksdb","c":"DBOptions","l":"setRateLimiter(RateLimiter)","u":"setRateLimiter(org.rocksdb.RateLimiter)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setRateLimiter(RateLimiter)","u":"setRateLimiter(org.rocksdb.RateLimiter)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setRateLimiter(RateLimiter)","u":"setRateLimiter(org.rocksdb.RateLimiter)"},{"p":"org.rocksdb","c":"Options","l":"setRateLimiter(RateLimiter)","u":"setRateLimiter(org.rocksdb.RateLimiter)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setReadaheadSize(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setReadAmpBytesPerBit(int)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setReadTier(ReadTier)","u":"setReadTier(org.rocksdb.ReadTier)"},{"p":"org.rocksdb","c":"DBOptions","l":"setRecycleLogFileNum(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setRecycleLogFileNum(long)"},{"p":"org.rocksdb","c":"Options","l":"setRecycleLogFileNum(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setReportBgIoStats(boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setReportBgIoStats(boolean)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setReportBgIoStats(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setReportBgIoStats(boolean)"},{"p":"org.rocksdb","c":"VectorMemTableConfig","l":"setReservedSize(int)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setRestoreRateLimit(long)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setRestoreRateLimiter(RateLimiter)","u":"setRestoreRateLimiter(org.rocksdb.RateLimiter)"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"setReusedSynchronisationType(ReusedSynchronisationType)","u":"setReusedSynchronisationType(org.rocksdb.ReusedSynchronisationType)"},{"p":"org.rocksdb","c":"MergeOperatorOptions","l":"setReusedSynchronisationType(ReusedSynchronisationType)","u":"setReusedSynchronisationType(org.rocksdb.ReusedSynchronisationType)"},{"p":"org.rocksdb","c":"DBOptions","l":"setRowCache(Cache)","u":"setRowCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setRowCache(Cache)","u":"setRowCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"Options","l":"setRowCache(Cache)","u":"setRowCache(org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setRowCacheMode(RowCacheMode)","u":"setRowCacheMode(org.rocksdb.RowCacheMode)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setRowCacheMode(RowCacheMode)","u":"setRowCacheMode(org.rocksdb.RowCacheMode)"},{"p":"org.rocksdb","c":"Options","l":"setRowCacheMode(RowCacheMode)","u":"setRowCacheMode(org.rocksdb.RowCacheMode)"},{"p":"org.rocksdb","c":"ConfigOptions","l":"setSanityLevel(SanityLevel)","u":"setSanityLevel(org.rocksdb.SanityLevel)"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"setSavePoint()"},{"p":"org.rocksdb","c":"Transaction","l":"setSavePoint()"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"setSavePoint()"},{"p":"org.rocksdb","c":"EnvOptions","l":"setSetFdCloexec(boolean)"},{"p":"org.rocksdb","c":"OptimisticTransactionOptions","l":"setSetSnapshot(boolean)"},{"p":"org.rocksdb","c":"TransactionOptions","l":"setSetSnapshot(boolean)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setShareFilesWithChecksum(boolean)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setShareTableFiles(boolean)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setSizeRatio(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setSkipCheckingSstFileSizesOnDbOpen(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setSkipCheckingSstFileSizesOnDbOpen(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setSkipCheckingSstFileSizesOnDbOpen(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setSkipStatsUpdateOnDbOpen(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setSkipStatsUpdateOnDbOpen(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setSkipStatsUpdateOnDbOpen(boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"setSnapshot()"},{"p":"org.rocksdb","c":"ReadOptions","l":"setSnapshot(Snapshot)","u":"setSnapshot(org.rocksdb.Snapshot)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"setSnapshotConsistency(boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"setSnapshotOnNextOperation()"},{"p":"org.rocksdb","c":"Transaction","l":"setSnapshotOnNextOperation(AbstractTransactionNotifier)","u":"setSnapshotOnNextOperation(org.rocksdb.AbstractTransactionNotifier)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setSoftPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setSoftPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setSoftPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"Options","l":"setSoftPendingCompactionBytesLimit(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setSstFileManager(SstFileManager)","u":"setSstFileManager(org.rocksdb.SstFileManager)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setSstFileManager(SstFileManager)","u":"setSstFileManager(org.rocksdb.SstFileManager)"},{"p":"org.rocksdb","c":"Options","l":"setSstFileManager(SstFileManager)","u":"setSstFileManager(org.rocksdb.SstFileManager)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setSstPartitionerFactory(SstPartitionerFactory)","u":"setSstPartitionerFactory(org.rocksdb.SstPartitionerFactory)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setSstPartitionerFactory(SstPartitionerFactory)","u":"setSstPartitionerFactory(org.rocksdb.SstPartitionerFactory)"},{"p":"org.rocksdb","c":"Options","l":"setSstPartitionerFactory(SstPartitionerFactory)","u":"setSstPartitionerFactory(org.rocksdb.SstPartitionerFactory)"},{"p":"org.rocksdb","c":"DBOptions","l":"setStatistics(Statistics)","u":"setStatistics(org.rocksdb.Statistics)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setStatistics(Statistics)","u":"setStatistics(org.rocksdb.Statistics)"},{"p":"org.rocksdb","c":"Options","l":"setStatistics(Statistics)","u":"setStatistics(org.rocksdb.Statistics)"},{"p":"org.rocksdb","c":"DBOptions","l":"setStatsDumpPeriodSec(int)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setStatsDumpPeriodSec(int)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setStatsDumpPeriodSec(int)"},{"p":"org.rocksdb","c":"Options","l":"setStatsDumpPeriodSec(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setStatsHistoryBufferSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setStatsHistoryBufferSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setStatsHistoryBufferSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setStatsHistoryBufferSize(long)"},{"p":"org.rocksdb","c":"Statistics","l":"setStatsLevel(StatsLevel)","u":"setStatsLevel(org.rocksdb.StatsLevel)"},{"p":"org.rocksdb","c":"DBOptions","l":"setStatsPersistPeriodSec(int)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setStatsPersistPeriodSec(int)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setStatsPersistPeriodSec(int)"},{"p":"org.rocksdb","c":"Options","l":"setStatsPersistPeriodSec(int)"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"setStopStyle(CompactionStopStyle)","u":"setStopStyle(org.rocksdb.CompactionStopStyle)"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"setStoreIndexInFile(boolean)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"setStrategy(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setStrictBytesPerSync(boolean)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setStrictBytesPerSync(boolean)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setStrictBytesPerSync(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setStrictBytesPerSync(boolean)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"setSync(boolean)"},{"p":"org.rocksdb","c":"WriteOptions","l":"setSync(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setTableCacheNumshardbits(int)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setTableCacheNumshardbits(int)"},{"p":"org.rocksdb","c":"Options","l":"setTableCacheNumshardbits(int)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setTableFilter(AbstractTableFilter)","u":"setTableFilter(org.rocksdb.AbstractTableFilter)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setTableFormatConfig(TableFormatConfig)","u":"setTableFormatConfig(org.rocksdb.TableFormatConfig)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"setTableFormatConfig(TableFormatConfig)","u":"setTableFormatConfig(org.rocksdb.TableFormatConfig)"},{"p":"org.rocksdb","c":"Options","l":"setTableFormatConfig(TableFormatConfig)","u":"setTableFormatConfig(org.rocksdb.TableFormatConfig)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setTailing(boolean)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setTargetFileSizeBase(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setTargetFileSizeBase(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setTargetFileSizeBase(long)"},{"p":"org.rocksdb","c":"Options","l":"setTargetFileSizeBase(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setTargetFileSizeMultiplier(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setTargetFileSizeMultiplier(int)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setTargetFileSizeMultiplier(int)"},{"p":"org.rocksdb","c":"Options","l":"setTargetFileSizeMultiplier(int)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setTargetLevel(int)"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"setTargetPathId(int)"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"setThresholdUseSkiplist(int)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setTimestamp(AbstractSlice<?>)","u":"setTimestamp(org.rocksdb.AbstractSlice)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setTotalOrderSeek(boolean)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"setTransactionLockTimeout(long)"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"setTtl(long)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setTtl(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setTtl(long)"},{"p":"org.rocksdb","c":"Options","l":"setTtl(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setTwoWriteQueues(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setTwoWriteQueues(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setTwoWriteQueues(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setUnorderedWrite(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setUnorderedWrite(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setUnorderedWrite(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setUseAdaptiveMutex(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setUseAdaptiveMutex(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setUseAdaptiveMutex(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setUseDeltaEncoding(boolean)"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"setUseDirectBuffer(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setUseDirectIoForFlushAndCompaction(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setUseDirectIoForFlushAndCompaction(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setUseDirectIoForFlushAndCompaction(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setUseDirectReads(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setUseDirectReads(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setUseDirectReads(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setUseDirectReads(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setUseDirectWrites(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setUseFsync(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setUseFsync(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setUseFsync(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setUseMmapReads(boolean)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setUseMmapWrites(boolean)"},{"p":"org.rocksdb","c":"Holder","l":"setValue(T)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setValueSizeSoftLimit(long)"},{"p":"org.rocksdb","c":"ReadOptions","l":"setVerifyChecksums(boolean)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setVerifyCompression(boolean)"},{"p":"org.rocksdb","c":"FlushOptions","l":"setWaitForFlush(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWalBytesPerSync(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setWalBytesPerSync(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setWalBytesPerSync(long)"},{"p":"org.rocksdb","c":"Options","l":"setWalBytesPerSync(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWalDir(String)","u":"setWalDir(java.lang.String)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWalDir(String)","u":"setWalDir(java.lang.String)"},{"p":"org.rocksdb","c":"Options","l":"setWalDir(String)","u":"setWalDir(java.lang.String)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWalFilter(AbstractWalFilter)","u":"setWalFilter(org.rocksdb.AbstractWalFilter)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWalFilter(AbstractWalFilter)","u":"setWalFilter(org.rocksdb.AbstractWalFilter)"},{"p":"org.rocksdb","c":"Options","l":"setWalFilter(AbstractWalFilter)","u":"setWalFilter(org.rocksdb.AbstractWalFilter)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWalRecoveryMode(WALRecoveryMode)","u":"setWalRecoveryMode(org.rocksdb.WALRecoveryMode)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWalRecoveryMode(WALRecoveryMode)","u":"setWalRecoveryMode(org.rocksdb.WALRecoveryMode)"},{"p":"org.rocksdb","c":"Options","l":"setWalRecoveryMode(WALRecoveryMode)","u":"setWalRecoveryMode(org.rocksdb.WALRecoveryMode)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWalSizeLimitMB(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWalSizeLimitMB(long)"},{"p":"org.rocksdb","c":"Options","l":"setWalSizeLimitMB(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWalTtlSeconds(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWalTtlSeconds(long)"},{"p":"org.rocksdb","c":"Options","l":"setWalTtlSeconds(long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"setWholeKeyFiltering(boolean)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"setWindowBits(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWritableFileMaxBufferSize(long)"},{"p":"org.rocksdb","c":"EnvOptions","l":"setWritableFileMaxBufferSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"setWritableFileMaxBufferSize(long)"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"setWritableFileMaxBufferSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setWritableFileMaxBufferSize(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWriteBufferManager(WriteBufferManager)","u":"setWriteBufferManager(org.rocksdb.WriteBufferManager)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWriteBufferManager(WriteBufferManager)","u":"setWriteBufferManager(org.rocksdb.WriteBufferManager)"},{"p":"org.rocksdb","c":"Options","l":"setWriteBufferManager(WriteBufferManager)","u":"setWriteBufferManager(org.rocksdb.WriteBufferManager)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"setWriteBufferSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"setWriteBufferSize(long)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"setWriteBufferSize(long)"},{"p":"org.rocksdb","c":"Options","l":"setWriteBufferSize(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWriteDbidToManifest(boolean)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWriteDbidToManifest(boolean)"},{"p":"org.rocksdb","c":"Options","l":"setWriteDbidToManifest(boolean)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"setWriteGlobalSeqno(boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"setWriteOptions(WriteOptions)","u":"setWriteOptions(org.rocksdb.WriteOptions)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"setWritePolicy(TxnDBWritePolicy)","u":"setWritePolicy(org.rocksdb.TxnDBWritePolicy)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWriteThreadMaxYieldUsec(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWriteThreadMaxYieldUsec(long)"},{"p":"org.rocksdb","c":"Options","l":"setWriteThreadMaxYieldUsec(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"setWriteThreadSlowYieldUsec(long)"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"setWriteThreadSlowYieldUsec(long)"},{"p":"org.rocksdb","c":"Options","l":"setWriteThreadSlowYieldUsec(long)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"setZStdMaxTrainBytes(int)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"shareFilesWithChecksum()"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"shareTableFiles()"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"SHOULD_BE_NOTIFIED_ON_FILE_IO"},{"p":"org.rocksdb","c":"AbstractEventListener","l":"shouldBeNotifiedOnFileIO()"},{"p":"org.rocksdb","c":"EventListener","l":"shouldBeNotifiedOnFileIO()"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"shouldContinue()"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"shouldContinue()"},{"p":"org.rocksdb","c":"FlushReason","l":"SHUTDOWN"},{"p":"org.rocksdb","c":"StatisticsCollector","l":"shutDown(int)"},{"p":"org.rocksdb","c":"Status.Code","l":"ShutdownInProgress"},{"p":"org.rocksdb","c":"TickerType","l":"SIM_BLOCK_CACHE_HIT"},{"p":"org.rocksdb","c":"TickerType","l":"SIM_BLOCK_CACHE_MISS"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"SINGLE_DELETE"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"SINGLE_DELETE"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"singleDelete(byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"singleDelete(byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"singleDelete(byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"singleDelete(byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"singleDelete(byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"singleDelete(byte[][])"},{"p":"org.rocksdb","c":"AbstractWriteBatch","l":"singleDelete(ColumnFamilyHandle, byte[])","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"RocksDB","l":"singleDelete(ColumnFamilyHandle, byte[])","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"singleDelete(ColumnFamilyHandle, byte[])","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"WriteBatchInterface","l":"singleDelete(ColumnFamilyHandle, byte[])","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"singleDelete(ColumnFamilyHandle, byte[], boolean)","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[],boolean)"},{"p":"org.rocksdb","c":"Transaction","l":"singleDelete(ColumnFamilyHandle, byte[][])","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[][])"},{"p":"org.rocksdb","c":"Transaction","l":"singleDelete(ColumnFamilyHandle, byte[][], boolean)","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,byte[][],boolean)"},{"p":"org.rocksdb","c":"RocksDB","l":"singleDelete(ColumnFamilyHandle, WriteOptions, byte[])","u":"singleDelete(org.rocksdb.ColumnFamilyHandle,org.rocksdb.WriteOptions,byte[])"},{"p":"org.rocksdb","c":"WriteBatch.Handler","l":"singleDelete(int, byte[])","u":"singleDelete(int,byte[])"},{"p":"org.rocksdb","c":"WriteBatch.DirectHandler","l":"singleDelete(int, ByteBuffer)","u":"singleDelete(int,java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"RocksDB","l":"singleDelete(WriteOptions, byte[])","u":"singleDelete(org.rocksdb.WriteOptions,byte[])"},{"p":"org.rocksdb","c":"RocksDB.CountAndSize","l":"size"},{"p":"org.rocksdb","c":"AbstractSlice","l":"size()"},{"p":"org.rocksdb","c":"BackupInfo","l":"size()"},{"p":"org.rocksdb","c":"CacheHandle","l":"size()"},{"p":"org.rocksdb","c":"ColumnFamilyMetaData","l":"size()"},{"p":"org.rocksdb","c":"LevelMetaData","l":"size()"},{"p":"org.rocksdb","c":"PinnedValue","l":"size()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"size()"},{"p":"org.rocksdb","c":"LogFile","l":"sizeFileBytes()"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"sizeRatio()"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"SkipAnyCorruptedRecords"},{"p":"org.rocksdb","c":"DBOptions","l":"skipCheckingSstFileSizesOnDbOpen()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"skipCheckingSstFileSizesOnDbOpen()"},{"p":"org.rocksdb","c":"Options","l":"skipCheckingSstFileSizesOnDbOpen()"},{"p":"org.rocksdb","c":"SkipListMemTableConfig","l":"SkipListMemTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"DBOptions","l":"skipStatsUpdateOnDbOpen()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"skipStatsUpdateOnDbOpen()"},{"p":"org.rocksdb","c":"Options","l":"skipStatsUpdateOnDbOpen()"},{"p":"org.rocksdb","c":"Slice","l":"Slice(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"org.rocksdb","c":"Slice","l":"Slice(byte[], int)","u":"%3Cinit%3E(byte[],int)"},{"p":"org.rocksdb","c":"Slice","l":"Slice(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"smallestKey()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"smallestOutputKeyPrefix()"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"smallestSeqno()"},{"p":"org.rocksdb","c":"CompressionType","l":"SNAPPY_COMPRESSION"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_AVERAGE"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_COUNT"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_COUNTS_LENGTH"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_COUNTS_SIZE"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_MAX"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_MEDIAN"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_MIN"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_PERCENTILE95"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_PERCENTILE99"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_SIZE"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_STANDARD_DEVIATION"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAM_SUM"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_HISTOGRAMS_LENGTH"},{"p":"org.rocksdb","c":"Statistics","l":"SNAPSHOT_TICKERS_LENGTH"},{"p":"org.rocksdb","c":"ReadOptions","l":"snapshot()"},{"p":"org.rocksdb","c":"Statistics","l":"snapshot(long[], double[], long[])","u":"snapshot(long[],double[],long[])"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"snapshotConsistency()"},{"p":"org.rocksdb","c":"AbstractTransactionNotifier","l":"snapshotCreated(Snapshot)","u":"snapshotCreated(org.rocksdb.Snapshot)"},{"p":"org.rocksdb","c":"Statistics","l":"snapshotDelta(long[], long[], double[], long[])","u":"snapshotDelta(long[],long[],double[],long[])"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"soft_pending_compaction_bytes_limit"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"softPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"softPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"softPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"Options","l":"softPendingCompactionBytesLimit()"},{"p":"org.rocksdb","c":"HistogramType","l":"SST_READ_MICROS"},{"p":"org.rocksdb","c":"SstFileManager","l":"SstFileManager(Env)","u":"%3Cinit%3E(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"SstFileManager","l":"SstFileManager(Env, Logger)","u":"%3Cinit%3E(org.rocksdb.Env,org.rocksdb.Logger)"},{"p":"org.rocksdb","c":"SstFileManager","l":"SstFileManager(Env, Logger, long)","u":"%3Cinit%3E(org.rocksdb.Env,org.rocksdb.Logger,long)"},{"p":"org.rocksdb","c":"SstFileManager","l":"SstFileManager(Env, Logger, long, double)","u":"%3Cinit%3E(org.rocksdb.Env,org.rocksdb.Logger,long,double)"},{"p":"org.rocksdb","c":"SstFileManager","l":"SstFileManager(Env, Logger, long, double, long)","u":"%3Cinit%3E(org.rocksdb.Env,org.rocksdb.Logger,long,double,long)"},{"p":"org.rocksdb","c":"SstFileMetaData","l":"SstFileMetaData(String, String, long, long, long, byte[], byte[], long, boolean, long, long)","u":"%3Cinit%3E(java.lang.String,java.lang.String,long,long,long,byte[],byte[],long,boolean,long,long)"},{"p":"org.rocksdb","c":"SstFileReader","l":"SstFileReader(Options)","u":"%3Cinit%3E(org.rocksdb.Options)"},{"p":"org.rocksdb","c":"SstFileReaderIterator","l":"SstFileReaderIterator(SstFileReader, long)","u":"%3Cinit%3E(org.rocksdb.SstFileReader,long)"},{"p":"org.rocksdb","c":"SstFileWriter","l":"SstFileWriter(EnvOptions, Options)","u":"%3Cinit%3E(org.rocksdb.EnvOptions,org.rocksdb.Options)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"sstPartitionerFactory()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"sstPartitionerFactory()"},{"p":"org.rocksdb","c":"Options","l":"sstPartitionerFactory()"},{"p":"org.rocksdb","c":"SstPartitionerFactory","l":"SstPartitionerFactory(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"SstPartitionerFixedPrefixFactory","l":"SstPartitionerFixedPrefixFactory(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_COMPACTION_INSTALL"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_COMPACTION_PREPARE"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_COMPACTION_PROCESS_KV"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_COMPACTION_RUN"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_COMPACTION_SYNC_FILE"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_FLUSH_RUN"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_FLUSH_WRITE_L0"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_MEMTABLE_INSTALL_FLUSH_RESULTS"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_MEMTABLE_ROLLBACK"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_PICK_MEMTABLES_TO_FLUSH"},{"p":"org.rocksdb","c":"OperationStage","l":"STAGE_UNKNOWN"},{"p":"org.rocksdb","c":"Status.SubCode","l":"StaleFile"},{"p":"org.rocksdb","c":"TickerType","l":"STALL_MICROS"},{"p":"org.rocksdb","c":"CompactRangeOptions.Timestamp","l":"start"},{"p":"org.rocksdb","c":"StatisticsCollector","l":"start()"},{"p":"org.rocksdb.metrics","c":"RocksDBMetrics","l":"start(long)"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"STARTED"},{"p":"org.rocksdb","c":"LogFile","l":"startSequence()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"startsWith(AbstractSlice<?>)","u":"startsWith(org.rocksdb.AbstractSlice)"},{"p":"org.rocksdb","c":"RocksDB","l":"startTrace(TraceOptions, AbstractTraceWriter)","u":"startTrace(org.rocksdb.TraceOptions,org.rocksdb.AbstractTraceWriter)"},{"p":"org.rocksdb","c":"StateType","l":"STATE_MUTEX_WAIT"},{"p":"org.rocksdb","c":"StateType","l":"STATE_UNKNOWN"},{"p":"org.rocksdb","c":"DBOptions","l":"statistics()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"statistics()"},{"p":"org.rocksdb","c":"Options","l":"statistics()"},{"p":"org.rocksdb","c":"Statistics","l":"Statistics()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Statistics","l":"Statistics(EnumSet<HistogramType>)","u":"%3Cinit%3E(java.util.EnumSet)"},{"p":"org.rocksdb","c":"Statistics","l":"Statistics(EnumSet<HistogramType>, Statistics)","u":"%3Cinit%3E(java.util.EnumSet,org.rocksdb.Statistics)"},{"p":"org.rocksdb","c":"Statistics","l":"Statistics(Statistics)","u":"%3Cinit%3E(org.rocksdb.Statistics)"},{"p":"org.rocksdb","c":"StatisticsCollector","l":"StatisticsCollector(List<StatsCollectorInput>, int)","u":"%3Cinit%3E(java.util.List,int)"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"stats_dump_period_sec"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"stats_history_buffer_size"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"stats_persist_period_sec"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"stats()"},{"p":"org.rocksdb","c":"StatsCollectorInput","l":"StatsCollectorInput(Statistics, StatisticsCollectorCallback)","u":"%3Cinit%3E(org.rocksdb.Statistics,org.rocksdb.StatisticsCollectorCallback)"},{"p":"org.rocksdb","c":"DBOptions","l":"statsDumpPeriodSec()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"statsDumpPeriodSec()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"statsDumpPeriodSec()"},{"p":"org.rocksdb","c":"Options","l":"statsDumpPeriodSec()"},{"p":"org.rocksdb","c":"DBOptions","l":"statsHistoryBufferSize()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"statsHistoryBufferSize()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"statsHistoryBufferSize()"},{"p":"org.rocksdb","c":"Options","l":"statsHistoryBufferSize()"},{"p":"org.rocksdb","c":"Statistics","l":"statsLevel()"},{"p":"org.rocksdb","c":"DBOptions","l":"statsPersistPeriodSec()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"statsPersistPeriodSec()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"statsPersistPeriodSec()"},{"p":"org.rocksdb","c":"Options","l":"statsPersistPeriodSec()"},{"p":"org.rocksdb","c":"ByteBufferGetStatus","l":"status"},{"p":"org.rocksdb","c":"AbstractRocksIterator","l":"status()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"status()"},{"p":"org.rocksdb","c":"RocksIteratorInterface","l":"status()"},{"p":"org.rocksdb","c":"TransactionLogIterator","l":"status()"},{"p":"org.rocksdb","c":"Status","l":"Status(Status.Code, Status.SubCode, String)","u":"%3Cinit%3E(org.rocksdb.Status.Code,org.rocksdb.Status.SubCode,java.lang.String)"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"STOP_REPLAY"},{"p":"org.rocksdb","c":"WriteStallCondition","l":"STOPPED"},{"p":"org.rocksdb","c":"CompactionOptionsUniversal","l":"stopStyle()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"storeIndexInFile()"},{"p":"org.rocksdb","c":"RocksDB","l":"storeOptionsInstance(DBOptionsInterface<?>)","u":"storeOptionsInstance(org.rocksdb.DBOptionsInterface)"},{"p":"org.rocksdb","c":"CompressionOptions","l":"strategy()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"strict_bytes_per_sync"},{"p":"org.rocksdb","c":"DBOptions","l":"strictBytesPerSync()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"strictBytesPerSync()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"strictBytesPerSync()"},{"p":"org.rocksdb","c":"Options","l":"strictBytesPerSync()"},{"p":"org.rocksdb","c":"StringAppendOperator","l":"StringAppendOperator()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"StringAppendOperator","l":"StringAppendOperator(char)","u":"%3Cinit%3E(char)"},{"p":"org.rocksdb","c":"StringAppendOperator","l":"StringAppendOperator(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.rocksdb","c":"HistogramType","l":"SUBCOMPACTION_SETUP_TIME"},{"p":"org.rocksdb","c":"RocksDB","l":"suggestCompactRange()"},{"p":"org.rocksdb","c":"RocksDB","l":"suggestCompactRange(ColumnFamilyHandle)","u":"suggestCompactRange(org.rocksdb.ColumnFamilyHandle)"},{"p":"org.rocksdb","c":"BackupEngineOptions","l":"sync()"},{"p":"org.rocksdb","c":"WriteOptions","l":"sync()"},{"p":"org.rocksdb","c":"RocksDB","l":"syncWal()"},{"p":"org.rocksdb","c":"HistogramType","l":"TABLE_OPEN_IO_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"TABLE_OPEN_PREFETCH_TAIL_HIT"},{"p":"org.rocksdb","c":"TickerType","l":"TABLE_OPEN_PREFETCH_TAIL_MISS"},{"p":"org.rocksdb","c":"HistogramType","l":"TABLE_OPEN_PREFETCH_TAIL_READ_BYTES"},{"p":"org.rocksdb","c":"HistogramType","l":"TABLE_SYNC_MICROS"},{"p":"org.rocksdb","c":"DBOptions","l":"tableCacheNumshardbits()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"tableCacheNumshardbits()"},{"p":"org.rocksdb","c":"Options","l":"tableCacheNumshardbits()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"tableFactoryName()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"tableFactoryName()"},{"p":"org.rocksdb","c":"Options","l":"tableFactoryName()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"TableFileCreationBriefInfo(String, String, String, int, byte)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,int,byte)"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"TableFileCreationInfo(long, TableProperties, Status, String, String, String, int, byte)","u":"%3Cinit%3E(long,org.rocksdb.TableProperties,org.rocksdb.Status,java.lang.String,java.lang.String,java.lang.String,int,byte)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"tableFormatConfig()"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"tableFormatConfig()"},{"p":"org.rocksdb","c":"Options","l":"tableFormatConfig()"},{"p":"org.rocksdb","c":"TableFormatConfig","l":"TableFormatConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"tableProperties()"},{"p":"org.rocksdb","c":"ReadOptions","l":"tailing()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"target_file_size_base"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"target_file_size_multiplier"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"targetFileSizeBase()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"targetFileSizeBase()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"targetFileSizeBase()"},{"p":"org.rocksdb","c":"Options","l":"targetFileSizeBase()"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"targetFileSizeMultiplier()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"targetFileSizeMultiplier()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"targetFileSizeMultiplier()"},{"p":"org.rocksdb","c":"Options","l":"targetFileSizeMultiplier()"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"targetLevel()"},{"p":"org.rocksdb","c":"CompactRangeOptions","l":"targetPathId()"},{"p":"org.rocksdb.util","c":"SizeUnit","l":"TB"},{"p":"org.rocksdb","c":"FlushReason","l":"TEST"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"THREAD_LOCAL"},{"p":"org.rocksdb","c":"CompactionJobInfo","l":"threadId()"},{"p":"org.rocksdb","c":"HashLinkedListMemTableConfig","l":"thresholdUseSkiplist()"},{"p":"org.rocksdb","c":"TickerType","l":"TICKER_ENUM_MAX"},{"p":"org.rocksdb","c":"StatisticsCollectorCallback","l":"tickerCallback(TickerType, long)","u":"tickerCallback(org.rocksdb.TickerType,long)"},{"p":"org.rocksdb","c":"TieredCache","l":"TieredCache(long, double)","u":"%3Cinit%3E(long,double)"},{"p":"org.rocksdb","c":"TieredCache","l":"TieredCache(long, double, CompressionType)","u":"%3Cinit%3E(long,double,org.rocksdb.CompressionType)"},{"p":"org.rocksdb","c":"TimedEnv","l":"TimedEnv(Env)","u":"%3Cinit%3E(org.rocksdb.Env)"},{"p":"org.rocksdb","c":"Status.Code","l":"TimedOut"},{"p":"org.rocksdb","c":"BackupInfo","l":"timestamp()"},{"p":"org.rocksdb","c":"ReadOptions","l":"timestamp()"},{"p":"org.rocksdb","c":"CompactRangeOptions.Timestamp","l":"Timestamp()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"CompactRangeOptions.Timestamp","l":"Timestamp(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"TolerateCorruptedTailRecords"},{"p":"org.rocksdb","c":"AbstractMutableOptions","l":"toString()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"toString()"},{"p":"org.rocksdb","c":"ExternalFileIngestionInfo","l":"toString()"},{"p":"org.rocksdb","c":"FileOperationInfo","l":"toString()"},{"p":"org.rocksdb","c":"FlushJobInfo","l":"toString()"},{"p":"org.rocksdb","c":"MemTableInfo","l":"toString()"},{"p":"org.rocksdb","c":"RocksDB.Version","l":"toString()"},{"p":"org.rocksdb","c":"Statistics","l":"toString()"},{"p":"org.rocksdb","c":"TableFileCreationBriefInfo","l":"toString()"},{"p":"org.rocksdb","c":"TableFileCreationInfo","l":"toString()"},{"p":"org.rocksdb","c":"TableFileDeletionInfo","l":"toString()"},{"p":"org.rocksdb","c":"WriteStallInfo","l":"toString()"},{"p":"org.rocksdb","c":"AbstractSlice","l":"toString(boolean)"},{"p":"org.rocksdb","c":"Priority","l":"TOTAL"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"totalInputBytes()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"totalInputRawKeyBytes()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"totalInputRawValueBytes()"},{"p":"org.rocksdb","c":"ReadOptions","l":"totalOrderSeek()"},{"p":"org.rocksdb","c":"CompactionJobStats","l":"totalOutputBytes()"},{"p":"org.rocksdb","c":"TraceOptions","l":"TraceOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"TraceOptions","l":"TraceOptions(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"TransactionDBOptions","l":"TransactionDBOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"TransactionOptions","l":"TransactionOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Status.Code","l":"TryAgain"},{"p":"org.rocksdb","c":"RocksDB","l":"tryCatchUpWithPrimary()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"ttl"},{"p":"org.rocksdb","c":"AdvancedMutableColumnFamilyOptionsInterface","l":"ttl()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"ttl()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"ttl()"},{"p":"org.rocksdb","c":"Options","l":"ttl()"},{"p":"org.rocksdb","c":"TtlDB","l":"TtlDB(long)","u":"%3Cinit%3E(long)"},{"p":"org.rocksdb","c":"DBOptions","l":"twoWriteQueues()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"twoWriteQueues()"},{"p":"org.rocksdb","c":"Options","l":"twoWriteQueues()"},{"p":"org.rocksdb","c":"TickerType","l":"TXN_DUPLICATE_KEY_OVERHEAD"},{"p":"org.rocksdb","c":"TickerType","l":"TXN_GET_TRY_AGAIN"},{"p":"org.rocksdb","c":"TickerType","l":"TXN_OLD_COMMIT_MAP_MUTEX_OVERHEAD"},{"p":"org.rocksdb","c":"TickerType","l":"TXN_PREPARE_MUTEX_OVERHEAD"},{"p":"org.rocksdb","c":"TickerType","l":"TXN_SNAPSHOT_MUTEX_OVERHEAD"},{"p":"org.rocksdb","c":"LogFile","l":"type()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"type()"},{"p":"org.rocksdb","c":"UInt64AddOperator","l":"UInt64AddOperator()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"Status.Code","l":"Undefined"},{"p":"org.rocksdb","c":"Status.SubCode","l":"Undefined"},{"p":"org.rocksdb","c":"Transaction","l":"undoGetForUpdate(byte[])"},{"p":"org.rocksdb","c":"Transaction","l":"undoGetForUpdate(ColumnFamilyHandle, byte[])","u":"undoGetForUpdate(org.rocksdb.ColumnFamilyHandle,byte[])"},{"p":"org.rocksdb","c":"PerfLevel","l":"UNINITIALIZED"},{"p":"org.rocksdb","c":"CompactionStyle","l":"UNIVERSAL"},{"p":"org.rocksdb","c":"DBOptions","l":"unorderedWrite()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"unorderedWrite()"},{"p":"org.rocksdb","c":"Options","l":"unorderedWrite()"},{"p":"org.rocksdb","c":"TieredCache","l":"update(long, double)","u":"update(long,double)"},{"p":"org.rocksdb","c":"DBOptions","l":"useAdaptiveMutex()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"useAdaptiveMutex()"},{"p":"org.rocksdb","c":"Options","l":"useAdaptiveMutex()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"useCappedPrefixExtractor(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"useCappedPrefixExtractor(int)"},{"p":"org.rocksdb","c":"Options","l":"useCappedPrefixExtractor(int)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"useDeltaEncoding()"},{"p":"org.rocksdb","c":"ComparatorOptions","l":"useDirectBuffer()"},{"p":"org.rocksdb","c":"DBOptions","l":"useDirectIoForFlushAndCompaction()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"useDirectIoForFlushAndCompaction()"},{"p":"org.rocksdb","c":"Options","l":"useDirectIoForFlushAndCompaction()"},{"p":"org.rocksdb","c":"DBOptions","l":"useDirectReads()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"useDirectReads()"},{"p":"org.rocksdb","c":"EnvOptions","l":"useDirectReads()"},{"p":"org.rocksdb","c":"Options","l":"useDirectReads()"},{"p":"org.rocksdb","c":"EnvOptions","l":"useDirectWrites()"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"useFixedLengthPrefixExtractor(int)"},{"p":"org.rocksdb","c":"ColumnFamilyOptionsInterface","l":"useFixedLengthPrefixExtractor(int)"},{"p":"org.rocksdb","c":"Options","l":"useFixedLengthPrefixExtractor(int)"},{"p":"org.rocksdb","c":"DBOptions","l":"useFsync()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"useFsync()"},{"p":"org.rocksdb","c":"Options","l":"useFsync()"},{"p":"org.rocksdb","c":"EnvOptions","l":"useMmapReads()"},{"p":"org.rocksdb","c":"EnvOptions","l":"useMmapWrites()"},{"p":"org.rocksdb","c":"ThreadType","l":"USER"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"USER_KEY_COMPARISON_COUNT"},{"p":"org.rocksdb","c":"AbstractComparator","l":"usingDirectBuffers()"},{"p":"org.rocksdb","c":"ByteBufferGetStatus","l":"value"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.ValueType","l":"VALUE"},{"p":"org.rocksdb","c":"Experimental","l":"value()"},{"p":"org.rocksdb","c":"RocksIterator","l":"value()"},{"p":"org.rocksdb","c":"SstFileReaderIterator","l":"value()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"value()"},{"p":"org.rocksdb","c":"RocksIterator","l":"value(ByteBuffer)","u":"value(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"SstFileReaderIterator","l":"value(ByteBuffer)","u":"value(java.nio.ByteBuffer)"},{"p":"org.rocksdb","c":"KeyMayExist","l":"valueLength"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.ValueType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"AccessHint","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"BackgroundErrorReason","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"BuiltinComparator","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"ChecksumType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CompactionPriority","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CompactionReason","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CompactionStopStyle","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CompactionStyle","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"CompressionType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"DataBlockIndexType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"EncodingType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"FlushReason","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"HistogramType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"IndexShorteningMode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"IndexType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"KeyMayExist.KeyMayExistEnum","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"OperationStage","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"OperationType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"PerfLevel","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"Priority","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"ReadTier","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"RowCacheMode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"SanityLevel","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"SizeApproximationFlag","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"StateType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"StatsLevel","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"Status.Code","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"Status.SubCode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"TableFileCreationReason","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"ThreadType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"TickerType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"WalFileType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"WriteStallCondition","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.Decision","l":"values()"},{"p":"org.rocksdb","c":"AbstractCompactionFilter.ValueType","l":"values()"},{"p":"org.rocksdb","c":"AbstractEventListener.EnabledEventCallback","l":"values()"},{"p":"org.rocksdb","c":"AccessHint","l":"values()"},{"p":"org.rocksdb","c":"BackgroundErrorReason","l":"values()"},{"p":"org.rocksdb","c":"BuiltinComparator","l":"values()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"values()"},{"p":"org.rocksdb","c":"ChecksumType","l":"values()"},{"p":"org.rocksdb","c":"CompactionPriority","l":"values()"},{"p":"org.rocksdb","c":"CompactionReason","l":"values()"},{"p":"org.rocksdb","c":"CompactionStopStyle","l":"values()"},{"p":"org.rocksdb","c":"CompactionStyle","l":"values()"},{"p":"org.rocksdb","c":"CompactRangeOptions.BottommostLevelCompaction","l":"values()"},{"p":"org.rocksdb","c":"CompressionType","l":"values()"},{"p":"org.rocksdb","c":"DataBlockIndexType","l":"values()"},{"p":"org.rocksdb","c":"EncodingType","l":"values()"},{"p":"org.rocksdb","c":"FilterPolicyType","l":"values()"},{"p":"org.rocksdb","c":"FlushReason","l":"values()"},{"p":"org.rocksdb","c":"HistogramType","l":"values()"},{"p":"org.rocksdb","c":"IndexShorteningMode","l":"values()"},{"p":"org.rocksdb","c":"IndexType","l":"values()"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"values()"},{"p":"org.rocksdb","c":"KeyMayExist.KeyMayExistEnum","l":"values()"},{"p":"org.rocksdb","c":"MemoryUsageType","l":"values()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.BlobOption","l":"values()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.CompactionOption","l":"values()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"values()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MiscOption","l":"values()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"values()"},{"p":"org.rocksdb","c":"MutableOptionKey.ValueType","l":"values()"},{"p":"org.rocksdb","c":"OperationStage","l":"values()"},{"p":"org.rocksdb","c":"OperationType","l":"values()"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"values()"},{"p":"org.rocksdb","c":"PerfLevel","l":"values()"},{"p":"org.rocksdb","c":"PrepopulateBlobCache","l":"values()"},{"p":"org.rocksdb","c":"Priority","l":"values()"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"values()"},{"p":"org.rocksdb","c":"ReadTier","l":"values()"},{"p":"org.rocksdb","c":"ReusedSynchronisationType","l":"values()"},{"p":"org.rocksdb","c":"RowCacheMode","l":"values()"},{"p":"org.rocksdb","c":"SanityLevel","l":"values()"},{"p":"org.rocksdb","c":"SizeApproximationFlag","l":"values()"},{"p":"org.rocksdb","c":"StateType","l":"values()"},{"p":"org.rocksdb","c":"StatsLevel","l":"values()"},{"p":"org.rocksdb","c":"Status.Code","l":"values()"},{"p":"org.rocksdb","c":"Status.SubCode","l":"values()"},{"p":"org.rocksdb","c":"TableFileCreationReason","l":"values()"},{"p":"org.rocksdb","c":"ThreadType","l":"values()"},{"p":"org.rocksdb","c":"TickerType","l":"values()"},{"p":"org.rocksdb","c":"Transaction.TransactionState","l":"values()"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"values()"},{"p":"org.rocksdb","c":"WalChangeStream.ChangeType","l":"values()"},{"p":"org.rocksdb","c":"WalFileType","l":"values()"},{"p":"org.rocksdb","c":"WalProcessingOption","l":"values()"},{"p":"org.rocksdb","c":"WALRecoveryMode","l":"values()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"values()"},{"p":"org.rocksdb","c":"WriteStallCondition","l":"values()"},{"p":"org.rocksdb","c":"ReadOptions","l":"valueSizeSoftLimit()"},{"p":"org.rocksdb","c":"PlainTableConfig","l":"VARIABLE_LENGTH"},{"p":"org.rocksdb","c":"VectorMemTableConfig","l":"VectorMemTableConfig()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"TickerType","l":"VERIFY_CHECKSUM_READ_BYTES"},{"p":"org.rocksdb","c":"RocksDB","l":"verifyChecksum()"},{"p":"org.rocksdb","c":"SstFileReader","l":"verifyChecksum()"},{"p":"org.rocksdb","c":"ReadOptions","l":"verifyChecksums()"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"verifyCompression()"},{"p":"org.rocksdb","c":"RocksDB.Version","l":"Version(byte, byte, byte)","u":"%3Cinit%3E(byte,byte,byte)"},{"p":"org.rocksdb","c":"FlushOptions","l":"waitForFlush()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"wal_bytes_per_sync"},{"p":"org.rocksdb","c":"TickerType","l":"WAL_FILE_BYTES"},{"p":"org.rocksdb","c":"HistogramType","l":"WAL_FILE_SYNC_MICROS"},{"p":"org.rocksdb","c":"TickerType","l":"WAL_FILE_SYNCED"},{"p":"org.rocksdb","c":"DBOptions","l":"walBytesPerSync()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"walBytesPerSync()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"walBytesPerSync()"},{"p":"org.rocksdb","c":"Options","l":"walBytesPerSync()"},{"p":"org.rocksdb","c":"WalChangeStream","l":"WalChangeStream(RocksDB, long, int)","u":"%3Cinit%3E(org.rocksdb.RocksDB,long,int)"},{"p":"org.rocksdb","c":"WalChangeStream","l":"WalChangeStream(RocksDB, long, int, List<ColumnFamilyHandle>)","u":"%3Cinit%3E(org.rocksdb.RocksDB,long,int,java.util.List)"},{"p":"org.rocksdb","c":"DBOptions","l":"walDir()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"walDir()"},{"p":"org.rocksdb","c":"Options","l":"walDir()"},{"p":"org.rocksdb","c":"DBOptions","l":"walFilter()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"walFilter()"},{"p":"org.rocksdb","c":"Options","l":"walFilter()"},{"p":"org.rocksdb","c":"DBOptions","l":"walRecoveryMode()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"walRecoveryMode()"},{"p":"org.rocksdb","c":"Options","l":"walRecoveryMode()"},{"p":"org.rocksdb","c":"DBOptions","l":"walSizeLimitMB()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"walSizeLimitMB()"},{"p":"org.rocksdb","c":"Options","l":"walSizeLimitMB()"},{"p":"org.rocksdb","c":"DBOptions","l":"walTtlSeconds()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"walTtlSeconds()"},{"p":"org.rocksdb","c":"Options","l":"walTtlSeconds()"},{"p":"org.rocksdb","c":"TickerType","l":"WARM_FILE_READ_BYTES"},{"p":"org.rocksdb","c":"TickerType","l":"WARM_FILE_READ_COUNT"},{"p":"org.rocksdb","c":"InfoLogLevel","l":"WARN_LEVEL"},{"p":"org.rocksdb","c":"WBWIRocksIterator","l":"WBWIRocksIterator(WriteBatchWithIndex, long)","u":"%3Cinit%3E(org.rocksdb.WriteBatchWithIndex,long)"},{"p":"org.rocksdb","c":"BlockBasedTableConfig","l":"wholeKeyFiltering()"},{"p":"org.rocksdb","c":"AccessHint","l":"WILLNEED"},{"p":"org.rocksdb","c":"CompressionOptions","l":"windowBits()"},{"p":"org.rocksdb","c":"MutableDBOptions.DBOption","l":"writable_file_max_buffer_size"},{"p":"org.rocksdb","c":"DBOptions","l":"writableFileMaxBufferSize()"},{"p":"org.rocksdb","c":"EnvOptions","l":"writableFileMaxBufferSize()"},{"p":"org.rocksdb","c":"MutableDBOptions.MutableDBOptionsBuilder","l":"writableFileMaxBufferSize()"},{"p":"org.rocksdb","c":"MutableDBOptionsInterface","l":"writableFileMaxBufferSize()"},{"p":"org.rocksdb","c":"Options","l":"writableFileMaxBufferSize()"},{"p":"org.rocksdb","c":"CacheEntryRole","l":"WRITE_BUFFER"},{"p":"org.rocksdb","c":"FlushReason","l":"WRITE_BUFFER_FULL"},{"p":"org.rocksdb","c":"FlushReason","l":"WRITE_BUFFER_MANAGER"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MemtableOption","l":"write_buffer_size"},{"p":"org.rocksdb","c":"BackgroundErrorReason","l":"WRITE_CALLBACK"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"WRITE_COMMITTED"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"WRITE_DELAY_TIME"},{"p":"org.rocksdb","c":"TickerType","l":"WRITE_DONE_BY_OTHER"},{"p":"org.rocksdb","c":"TickerType","l":"WRITE_DONE_BY_SELF"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"WRITE_MEMTABLE_TIME"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"WRITE_PRE_AND_POST_PROCESS_TIME"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"WRITE_PREPARED"},{"p":"org.rocksdb","c":"HistogramType","l":"WRITE_RAW_BLOCK_MICROS"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"WRITE_SCHEDULING_FLUSHES_COMPACTIONS_TIME"},{"p":"org.rocksdb","c":"HistogramType","l":"WRITE_STALL"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"WRITE_THREAD_WAIT_NANOS"},{"p":"org.rocksdb","c":"TxnDBWritePolicy","l":"WRITE_UNPREPARED"},{"p":"org.rocksdb","c":"PerfContextMetric","l":"WRITE_WAL_TIME"},{"p":"org.rocksdb","c":"TickerType","l":"WRITE_WITH_WAL"},{"p":"org.rocksdb","c":"TraceWriter","l":"write(Slice)","u":"write(org.rocksdb.Slice)"},{"p":"org.rocksdb","c":"RocksDB","l":"write(WriteOptions, WriteBatch)","u":"write(org.rocksdb.WriteOptions,org.rocksdb.WriteBatch)"},{"p":"org.rocksdb","c":"RocksDB","l":"write(WriteOptions, WriteBatchWithIndex)","u":"write(org.rocksdb.WriteOptions,org.rocksdb.WriteBatchWithIndex)"},{"p":"org.rocksdb","c":"TransactionLogIterator.BatchResult","l":"writeBatch()"},{"p":"org.rocksdb","c":"WriteBatch","l":"WriteBatch()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"WriteBatch","l":"WriteBatch(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"org.rocksdb","c":"WriteBatch","l":"WriteBatch(int)","u":"%3Cinit%3E(int)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"WriteBatchWithIndex()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"WriteBatchWithIndex(AbstractComparator, int, boolean)","u":"%3Cinit%3E(org.rocksdb.AbstractComparator,int,boolean)"},{"p":"org.rocksdb","c":"WriteBatchWithIndex","l":"WriteBatchWithIndex(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"org.rocksdb","c":"DBOptions","l":"writeBufferManager()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"writeBufferManager()"},{"p":"org.rocksdb","c":"Options","l":"writeBufferManager()"},{"p":"org.rocksdb","c":"WriteBufferManager","l":"WriteBufferManager(long, Cache)","u":"%3Cinit%3E(long,org.rocksdb.Cache)"},{"p":"org.rocksdb","c":"WriteBufferManager","l":"WriteBufferManager(long, Cache, boolean)","u":"%3Cinit%3E(long,org.rocksdb.Cache,boolean)"},{"p":"org.rocksdb","c":"ColumnFamilyOptions","l":"writeBufferSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptions.MutableColumnFamilyOptionsBuilder","l":"writeBufferSize()"},{"p":"org.rocksdb","c":"MutableColumnFamilyOptionsInterface","l":"writeBufferSize()"},{"p":"org.rocksdb","c":"Options","l":"writeBufferSize()"},{"p":"org.rocksdb","c":"DBOptions","l":"writeDbidToManifest()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"writeDbidToManifest()"},{"p":"org.rocksdb","c":"Options","l":"writeDbidToManifest()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteEntry","l":"WriteEntry(WBWIRocksIterator.WriteType, DirectSlice, DirectSlice)","u":"%3Cinit%3E(org.rocksdb.WBWIRocksIterator.WriteType,org.rocksdb.DirectSlice,org.rocksdb.DirectSlice)"},{"p":"org.rocksdb","c":"IngestExternalFileOptions","l":"writeGlobalSeqno()"},{"p":"org.rocksdb","c":"WriteOptions","l":"WriteOptions()","u":"%3Cinit%3E()"},{"p":"org.rocksdb","c":"WriteOptions","l":"WriteOptions(WriteOptions)","u":"%3Cinit%3E(org.rocksdb.WriteOptions)"},{"p":"org.rocksdb","c":"RateLimiterMode","l":"WRITES_ONLY"},{"p":"org.rocksdb","c":"DBOptions","l":"writeThreadMaxYieldUsec()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"writeThreadMaxYieldUsec()"},{"p":"org.rocksdb","c":"Options","l":"writeThreadMaxYieldUsec()"},{"p":"org.rocksdb","c":"DBOptions","l":"writeThreadSlowYieldUsec()"},{"p":"org.rocksdb","c":"DBOptionsInterface","l":"writeThreadSlowYieldUsec()"},{"p":"org.rocksdb","c":"Options","l":"writeThreadSlowYieldUsec()"},{"p":"org.rocksdb","c":"WBWIRocksIterator.WriteType","l":"XID"},{"p":"org.rocksdb","c":"CompressionType","l":"XPRESS_COMPRESSION"},{"p":"org.rocksdb","c":"CompressionType","l":"ZLIB_COMPRESSION"},{"p":"org.rocksdb","c":"CompressionType","l":"ZSTD_COMPRESSION"},{"p":"org.rocksdb","c":"CompressionOptions","l":"zstdMaxTrainBytes()"}];updateSearchResults();
\ No newline at end of file
@@ -90,6 +90,10 @@ struct ImmutableCFOptions {
   std::shared_ptr<Cache> blob_cache;
 
   bool persist_user_defined_timestamps;
+
+  RowCacheMode row_cache_mode;
+
+  std::shared_ptr<Cache> dedicated_row_cache;
 };
 
 struct ImmutableOptions : public ImmutableDBOptions, public ImmutableCFOptions {
@@ -111,7 +111,9 @@ AdvancedColumnFamilyOptions::AdvancedColumnFamilyOptions(const Options& options)
       blob_file_starting_level(options.blob_file_starting_level),
       blob_cache(options.blob_cache),
       prepopulate_blob_cache(options.prepopulate_blob_cache),
-      persist_user_defined_timestamps(options.persist_user_defined_timestamps) {
+      persist_user_defined_timestamps(options.persist_user_defined_timestamps),
+      row_cache_mode(options.row_cache_mode),
+      dedicated_row_cache(options.dedicated_row_cache) {
   assert(memtable_factory.get() != nullptr);
   if (max_bytes_for_level_multiplier_additional.size() <
       static_cast<unsigned int>(num_levels)) {
@@ -460,6 +462,16 @@ void ColumnFamilyOptions::Dump(Logger* log) const {
               ? "flush only"
               : "disabled");
     }
+    ROCKS_LOG_HEADER(log, "                         Options.row_cache_mode: %s",
+                     row_cache_mode == RowCacheMode::kDisabled ? "disabled"
+                     : row_cache_mode == RowCacheMode::kCacheMisses
+                         ? "cache misses"
+                         : "enabled");
+    if (dedicated_row_cache) {
+      ROCKS_LOG_HEADER(
+          log, "                    Options.dedicated_row_cache: %" ROCKSDB_PRIszt,
+          dedicated_row_cache->GetCapacity());
+    }
     ROCKS_LOG_HEADER(log, "        Options.experimental_mempurge_threshold: %f",
                      experimental_mempurge_threshold);
     ROCKS_LOG_HEADER(log, "           Options.memtable_max_range_deletions: %d",
@@ -320,6 +320,8 @@ void UpdateColumnFamilyOptions(const ImmutableCFOptions& ioptions,
   cf_opts->persist_user_defined_timestamps =
       ioptions.persist_user_defined_timestamps;
   cf_opts->default_temperature = ioptions.default_temperature;
+  cf_opts->row_cache_mode = ioptions.row_cache_mode;
+  cf_opts->dedicated_row_cache = ioptions.dedicated_row_cache;
 
   // TODO(yhchiang): find some way to handle the following derived options
   // * max_file_size
@@ -828,6 +830,12 @@ std::unordered_map<std::string, PrepopulateBlobCache>
         {"kDisable", PrepopulateBlobCache::kDisable},
         {"kFlushOnly", PrepopulateBlobCache::kFlushOnly}};
 
+std::unordered_map<std::string, RowCacheMode>
+    OptionsHelper::row_cache_mode_string_map = {
+        {"kEnabled", RowCacheMode::kEnabled},
+        {"kCacheMisses", RowCacheMode::kCacheMisses},
+        {"kDisabled", RowCacheMode::kDisabled}};
+
 Status OptionTypeInfo::NextToken(const std::string& opts, char delimiter,
                                  size_t pos, size_t* end, std::string* token) {
   while (pos < opts.size() && isspace(opts[pos])) {
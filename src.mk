@@ -652,6 +652,7 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/compaction_filter.cc                          \
   java/rocksjni/compaction_filter_factory.cc                  \
   java/rocksjni/compaction_filter_factory_jnicallback.cc      \
+  java/rocksjni/compaction_filter_jnicallback.cc              \
   java/rocksjni/compaction_job_info.cc                        \
   java/rocksjni/compaction_job_stats.cc                       \
   java/rocksjni/compaction_options.cc                         \
@@ -659,6 +660,7 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/compaction_options_universal.cc               \
   java/rocksjni/comparator.cc                                 \
   java/rocksjni/comparatorjnicallback.cc                      \
+  java/rocksjni/compressed_secondary_cache.cc                 \
   java/rocksjni/compression_options.cc                        \
   java/rocksjni/concurrent_task_limiter.cc                    \
   java/rocksjni/config_options.cc                             \
@@ -679,17 +681,22 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/memtablejni.cc                                \
   java/rocksjni/memory_util.cc                                \
   java/rocksjni/merge_operator.cc                             \
+  java/rocksjni/merge_operator_jnicallback.cc                 \
   java/rocksjni/native_comparator_wrapper_test.cc             \
   java/rocksjni/optimistic_transaction_db.cc                  \
   java/rocksjni/optimistic_transaction_options.cc             \
   java/rocksjni/options.cc                                    \
   java/rocksjni/options_util.cc                               \
   java/rocksjni/persistent_cache.cc                           \
+  java/rocksjni/pinned_value.cc                               \
+  java/rocksjni/range_lock_manager.cc                         \
   java/rocksjni/ratelimiterjni.cc                             \
   java/rocksjni/remove_emptyvalue_compactionfilterjni.cc      \
+  java/rocksjni/cache_dump_load.cc                            \
   java/rocksjni/cassandra_compactionfilterjni.cc              \
   java/rocksjni/cassandra_value_operator.cc                   \
   java/rocksjni/restorejni.cc                                 \
+  java/rocksjni/reused_buffer.cc                              \
   java/rocksjni/rocks_callback_object.cc                      \
   java/rocksjni/rocksjni.cc                                   \
   java/rocksjni/rocksdb_exception_test.cc                     \
@@ -706,6 +713,7 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/table_filter.cc                               \
   java/rocksjni/table_filter_jnicallback.cc                   \
   java/rocksjni/thread_status.cc                              \
+  java/rocksjni/tiered_cache.cc                               \
   java/rocksjni/trace_writer.cc                               \
   java/rocksjni/trace_writer_jnicallback.cc                   \
   java/rocksjni/transaction.cc                                \
@@ -717,6 +725,7 @@ JNI_NATIVE_SOURCES =                                          \
   java/rocksjni/transaction_notifier_jnicallback.cc           \
   java/rocksjni/ttl.cc                                        \
   java/rocksjni/testable_event_listener.cc                    \
+  java/rocksjni/wal_change_stream.cc                          \
   java/rocksjni/wal_filter.cc                                 \
   java/rocksjni/wal_filter_jnicallback.cc                     \
   java/rocksjni/write_batch.cc                                \
@@ -42,6 +42,15 @@ class LockManager {
   virtual Status TryLock(PessimisticTransaction* txn,
                          ColumnFamilyId column_family_id,
                          const std::string& key, Env* env, bool exclusive) = 0;
+  // Same as above, but waits at most timeout microseconds for the key rather
+  // than the lock timeout of the transaction. Lock managers which cannot bound
+  // the wait of a single call wait for the lock timeout of the transaction.
+  virtual Status TryLock(PessimisticTransaction* txn,
+                         ColumnFamilyId column_family_id,
+                         const std::string& key, Env* env, bool exclusive,
+                         int64_t /*timeout*/) {
+    return TryLock(txn, column_family_id, key, env, exclusive);
+  }
   // The range [start, end] are inclusive at both sides.
   virtual Status TryLock(PessimisticTransaction* txn,
                          ColumnFamilyId column_family_id, const Endpoint& start,
@@ -218,6 +218,67 @@ inline Status WriteCommittedTxn::GetForUpdateImpl(
                                            value, exclusive, do_validate);
 }
 
+void WriteCommittedTxn::MultiGetForUpdate(
+    const ReadOptions& read_options, ColumnFamilyHandle* column_family,
+    const size_t num_keys, const Slice* keys, PinnableSlice* values,
+    Status* statuses, bool exclusive, const bool do_validate) {
+  column_family =
+      column_family ? column_family : db_impl_->DefaultColumnFamily();
+  assert(column_family);
+  Status s;
+  if (!read_options.timestamp) {
+    const Comparator* const ucmp = column_family->GetComparator();
+    assert(ucmp);
+    size_t ts_sz = ucmp->timestamp_size();
+    if (0 == ts_sz) {
+      TransactionBaseImpl::MultiGetForUpdate(read_options, column_family,
+                                             num_keys, keys, values, statuses,
+                                             exclusive, do_validate);
+      return;
+    }
+  } else {
+    s = db_impl_->FailIfTsMismatchCf(column_family, *(read_options.timestamp));
+  }
+
+  // The same checks as GetForUpdateImpl(), applied to the whole batch
+  if (!s.ok()) {
+    // the timestamp does not match the column family
+  } else if (!do_validate) {
+    s = Status::InvalidArgument(
+        "If do_validate is false then MultiGetForUpdate with read_timestamp "
+        "is not defined.");
+  } else if (kMaxTxnTimestamp == read_timestamp_) {
+    s = Status::InvalidArgument("read_timestamp must be set for validation");
+  } else if (read_options.timestamp) {
+    assert(read_options.timestamp->size() == sizeof(kMaxTxnTimestamp));
+    TxnTimestamp ts = DecodeFixed64(read_options.timestamp->data());
+    if (ts != read_timestamp_) {
+      s = Status::InvalidArgument("Must read from the same read_timestamp");
+    }
+  }
+  if (!s.ok()) {
+    for (size_t i = 0; i < num_keys; ++i) {
+      statuses[i] = s;
+    }
+    return;
+  }
+
+  if (!read_options.timestamp) {
+    ReadOptions read_opts_copy = read_options;
+    char ts_buf[sizeof(kMaxTxnTimestamp)];
+    EncodeFixed64(ts_buf, read_timestamp_);
+    Slice ts(ts_buf, sizeof(ts_buf));
+    read_opts_copy.timestamp = &ts;
+    TransactionBaseImpl::MultiGetForUpdate(read_opts_copy, column_family,
+                                           num_keys, keys, values, statuses,
+                                           exclusive, do_validate);
+    return;
+  }
+  TransactionBaseImpl::MultiGetForUpdate(read_options, column_family,
+                                         num_keys, keys, values, statuses,
+                                         exclusive, do_validate);
+}
+
 Status WriteCommittedTxn::Put(ColumnFamilyHandle* column_family,
                               const Slice& key, const Slice& value,
                               const bool assume_tracked) {
@@ -957,6 +1018,15 @@ Status PessimisticTransaction::TryLock(ColumnFamilyHandle* column_family,
                                        const Slice& key, bool read_only,
                                        bool exclusive, const bool do_validate,
                                        const bool assume_tracked) {
+  return TryLock(column_family, key, read_only, exclusive, do_validate,
+                 assume_tracked, lock_timeout_);
+}
+
+Status PessimisticTransaction::TryLock(ColumnFamilyHandle* column_family,
+                                       const Slice& key, bool read_only,
+                                       bool exclusive, const bool do_validate,
+                                       const bool assume_tracked,
+                                       int64_t timeout) {
   assert(!assume_tracked || !do_validate);
   Status s;
   if (UNLIKELY(skip_concurrency_control_)) {
@@ -982,7 +1052,7 @@ Status PessimisticTransaction::TryLock(ColumnFamilyHandle* column_family,
   // Lock this key if this transactions hasn't already locked it or we require
   // an upgrade.
   if (!previously_locked || lock_upgrade) {
-    s = txn_db_impl_->TryLock(this, cfh_id, key_str, exclusive);
+    s = txn_db_impl_->TryLock(this, cfh_id, key_str, exclusive, timeout);
   }
 
   const ColumnFamilyHandle* const cfh =
@@ -1072,6 +1142,36 @@ Status PessimisticTransaction::TryLock(ColumnFamilyHandle* column_family,
   return s;
 }
 
+// Lock the keys in order, with a single deadline for all of them rather than
+// the lock timeout for each of them.
+Status PessimisticTransaction::TryLockKeys(ColumnFamilyHandle* column_family,
+                                           const std::vector<Slice>& keys,
+                                           bool exclusive,
+                                           const bool do_validate) {
+  const int64_t lock_timeout = lock_timeout_;
+  if (lock_timeout <= 0) {
+    // no timeout, or no waiting
+    return TransactionBaseImpl::TryLockKeys(column_family, keys, exclusive,
+                                            do_validate);
+  }
+
+  SystemClock* clock = dbimpl_->GetSystemClock();
+  const uint64_t deadline = clock->NowMicros() + lock_timeout;
+  Status s;
+  for (const Slice& key : keys) {
+    // once the deadline has passed, each key is only locked if it is free
+    const uint64_t now = clock->NowMicros();
+    const int64_t timeout =
+        now < deadline ? static_cast<int64_t>(deadline - now) : 0;
+    s = TryLock(column_family, key, true /* read_only */, exclusive,
+                do_validate, false /* assume_tracked */, timeout);
+    if (!s.ok()) {
+      break;
+    }
+  }
+  return s;
+}
+
 Status PessimisticTransaction::GetRangeLock(ColumnFamilyHandle* column_family,
                                             const Endpoint& start_endp,
                                             const Endpoint& end_endp) {
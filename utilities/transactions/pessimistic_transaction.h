@@ -152,6 +152,16 @@ class PessimisticTransaction : public TransactionBaseImpl {
                  bool read_only, bool exclusive, const bool do_validate = true,
                  const bool assume_tracked = false) override;
 
+  // Same as above, but waits at most timeout microseconds for the key rather
+  // than the lock timeout of the transaction
+  Status TryLock(ColumnFamilyHandle* column_family, const Slice& key,
+                 bool read_only, bool exclusive, const bool do_validate,
+                 const bool assume_tracked, int64_t timeout);
+
+  Status TryLockKeys(ColumnFamilyHandle* column_family,
+                     const std::vector<Slice>& keys, bool exclusive,
+                     const bool do_validate) override;
+
   void Clear() override;
 
   PessimisticTransactionDB* txn_db_impl_;
@@ -236,6 +246,13 @@ class WriteCommittedTxn : public PessimisticTransaction {
                       PinnableSlice* pinnable_val, bool exclusive,
                       const bool do_validate) override;
 
+  using TransactionBaseImpl::MultiGetForUpdate;
+  void MultiGetForUpdate(const ReadOptions& read_options,
+                         ColumnFamilyHandle* column_family,
+                         const size_t num_keys, const Slice* keys,
+                         PinnableSlice* values, Status* statuses,
+                         bool exclusive, const bool do_validate) override;
+
   using TransactionBaseImpl::Put;
   // `key` does NOT include timestamp even when it's enabled.
   Status Put(ColumnFamilyHandle* column_family, const Slice& key,
@@ -6,6 +6,7 @@
 
 #include "utilities/transactions/transaction_base.h"
 
+#include <algorithm>
 #include <cinttypes>
 
 #include "db/column_family.h"
@@ -434,6 +435,69 @@ std::vector<Status> TransactionBaseImpl::MultiGetForUpdate(
   return stat_list;
 }
 
+void TransactionBaseImpl::MultiGetForUpdate(
+    const ReadOptions& read_options, ColumnFamilyHandle* column_family,
+    const size_t num_keys, const Slice* keys, PinnableSlice* values,
+    Status* statuses, bool exclusive, const bool do_validate) {
+  Status s;
+  if (!do_validate && read_options.snapshot != nullptr) {
+    s = Status::InvalidArgument(
+        "If do_validate is false then MultiGetForUpdate with snapshot is not "
+        "defined.");
+  } else if (read_options.io_activity != Env::IOActivity::kUnknown) {
+    s = Status::InvalidArgument(
+        "Cannot call MultiGetForUpdate with `ReadOptions::io_activity` != "
+        "`Env::IOActivity::kUnknown`");
+  } else {
+    if (column_family == nullptr) {
+      column_family = db_->DefaultColumnFamily();
+    }
+
+    // Lock the keys in a consistent order, and each of them only once. The
+    // keys do not include the timestamp, even when it is enabled.
+    const Comparator* ucmp = column_family->GetComparator();
+    std::vector<Slice> sorted_keys(keys, keys + num_keys);
+    std::sort(sorted_keys.begin(), sorted_keys.end(),
+              [ucmp](const Slice& a, const Slice& b) {
+                return ucmp->CompareWithoutTimestamp(a, /*a_has_ts=*/false, b,
+                                                     /*b_has_ts=*/false) < 0;
+              });
+    sorted_keys.erase(
+        std::unique(sorted_keys.begin(), sorted_keys.end(),
+                    [ucmp](const Slice& a, const Slice& b) {
+                      return ucmp->CompareWithoutTimestamp(
+                                 a, /*a_has_ts=*/false, b,
+                                 /*b_has_ts=*/false) == 0;
+                    }),
+        sorted_keys.end());
+
+    s = TryLockKeys(column_family, sorted_keys, exclusive, do_validate);
+    if (s.ok()) {
+      MultiGet(read_options, column_family, num_keys, keys, values, statuses);
+      return;
+    }
+  }
+
+  // Fail entire multiget if we cannot lock all keys
+  for (size_t i = 0; i < num_keys; ++i) {
+    statuses[i] = s;
+  }
+}
+
+Status TransactionBaseImpl::TryLockKeys(ColumnFamilyHandle* column_family,
+                                        const std::vector<Slice>& keys,
+                                        bool exclusive,
+                                        const bool do_validate) {
+  for (const Slice& key : keys) {
+    Status s = TryLock(column_family, key, true /* read_only */, exclusive,
+                       do_validate);
+    if (!s.ok()) {
+      return s;
+    }
+  }
+  return Status::OK();
+}
+
 Iterator* TransactionBaseImpl::GetIterator(const ReadOptions& read_options) {
   Iterator* db_iter = db_->NewIterator(read_options);
   assert(db_iter);
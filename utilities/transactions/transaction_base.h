@@ -46,6 +46,12 @@ class TransactionBaseImpl : public Transaction {
                          const bool do_validate = true,
                          const bool assume_tracked = false) = 0;
 
+  // Called by MultiGetForUpdate() with its keys sorted and deduplicated, to
+  // lock them in order. Stops at the first key which cannot be locked.
+  virtual Status TryLockKeys(ColumnFamilyHandle* column_family,
+                             const std::vector<Slice>& keys, bool exclusive,
+                             const bool do_validate);
+
   void SetSavePoint() override;
 
   Status RollbackToSavePoint() override;
@@ -121,6 +127,12 @@ class TransactionBaseImpl : public Transaction {
                              keys, values);
   }
 
+  void MultiGetForUpdate(const ReadOptions& read_options,
+                         ColumnFamilyHandle* column_family,
+                         const size_t num_keys, const Slice* keys,
+                         PinnableSlice* values, Status* statuses,
+                         bool exclusive, const bool do_validate) override;
+
   Iterator* GetIterator(const ReadOptions& read_options) override;
   Iterator* GetIterator(const ReadOptions& read_options,
                         ColumnFamilyHandle* column_family) override;
@@ -3154,6 +3154,68 @@ TEST_P(TransactionTest, MultiGetSnapshot) {
   db->ReleaseSnapshot(s1);
 }
 
+TEST_P(TransactionTest, BatchedMultiGetForUpdate) {
+  WriteOptions write_options;
+  ReadOptions read_options;
+  TransactionOptions txn_options;
+  txn_options.lock_timeout = 10;
+
+  ASSERT_OK(db->Put(write_options, "a", "a0"));
+  ASSERT_OK(db->Put(write_options, "b", "b0"));
+
+  Transaction* txn1 = db->BeginTransaction(write_options, txn_options);
+  ASSERT_OK(txn1->Put("c", "c1"));
+
+  // unsorted, with a duplicate
+  std::vector<Slice> keys{"c", "a", "d", "a"};
+  std::vector<PinnableSlice> values(keys.size());
+  std::vector<Status> statuses(keys.size());
+  txn1->MultiGetForUpdate(read_options, db->DefaultColumnFamily(), keys.size(),
+                          keys.data(), values.data(), statuses.data());
+  ASSERT_OK(statuses[0]);
+  ASSERT_EQ("c1", values[0].ToString());
+  ASSERT_OK(statuses[1]);
+  ASSERT_EQ("a0", values[1].ToString());
+  ASSERT_TRUE(statuses[2].IsNotFound());
+  ASSERT_OK(statuses[3]);
+  ASSERT_EQ("a0", values[3].ToString());
+
+  // "a" is locked by txn1, so no key is read
+  Transaction* txn2 = db->BeginTransaction(write_options, txn_options);
+  std::vector<Slice> keys2{"b", "a"};
+  std::vector<PinnableSlice> values2(keys2.size());
+  std::vector<Status> statuses2(keys2.size());
+  txn2->MultiGetForUpdate(read_options, db->DefaultColumnFamily(),
+                          keys2.size(), keys2.data(), values2.data(),
+                          statuses2.data());
+  ASSERT_TRUE(statuses2[0].IsTimedOut());
+  ASSERT_TRUE(statuses2[1].IsTimedOut());
+
+  // the keys are locked in order, so "b" was not locked either
+  Transaction* txn3 = db->BeginTransaction(write_options, txn_options);
+  std::string value;
+  ASSERT_OK(txn3->GetForUpdate(read_options, "b", &value));
+  ASSERT_EQ("b0", value);
+  ASSERT_OK(txn3->Rollback());
+  delete txn3;
+
+  ASSERT_OK(txn1->Commit());
+  delete txn1;
+
+  for (auto& v : values2) {
+    v.Reset();
+  }
+  txn2->MultiGetForUpdate(read_options, db->DefaultColumnFamily(),
+                          keys2.size(), keys2.data(), values2.data(),
+                          statuses2.data());
+  ASSERT_OK(statuses2[0]);
+  ASSERT_EQ("b0", values2[0].ToString());
+  ASSERT_OK(statuses2[1]);
+  ASSERT_EQ("a0", values2[1].ToString());
+  ASSERT_OK(txn2->Commit());
+  delete txn2;
+}
+
 TEST_P(TransactionTest, ColumnFamiliesTest2) {
   WriteOptions write_options;
   ReadOptions read_options, snapshot_read_options;
@@ -476,6 +476,86 @@ TEST_P(WriteCommittedTxnWithTsTest, GetForUpdate) {
   txn2.reset();
 }
 
+TEST_P(WriteCommittedTxnWithTsTest, BatchedMultiGetForUpdate) {
+  ASSERT_OK(ReOpenNoDelete());
+
+  ColumnFamilyOptions cf_options;
+  cf_options.comparator = test::BytewiseComparatorWithU64TsWrapper();
+  const std::string test_cf_name = "test_cf";
+  ColumnFamilyHandle* cfh = nullptr;
+  assert(db);
+  ASSERT_OK(db->CreateColumnFamily(cf_options, test_cf_name, &cfh));
+  delete cfh;
+  cfh = nullptr;
+
+  std::vector<ColumnFamilyDescriptor> cf_descs;
+  cf_descs.emplace_back(kDefaultColumnFamilyName, options);
+  cf_descs.emplace_back(test_cf_name, Options(DBOptions(), cf_options));
+  options.avoid_flush_during_shutdown = true;
+
+  ASSERT_OK(ReOpenNoDelete(cf_descs, &handles_));
+
+  std::unique_ptr<Transaction> txn0(
+      NewTxn(WriteOptions(), TransactionOptions()));
+  ASSERT_OK(txn0->Put(handles_[1], "key", "value1"));
+  ASSERT_OK(txn0->SetCommitTimestamp(24));
+  ASSERT_OK(txn0->Commit());
+  txn0.reset();
+
+  const std::vector<Slice> keys = {"key", "other"};
+  std::vector<PinnableSlice> values(keys.size());
+  std::vector<Status> statuses(keys.size());
+
+  std::unique_ptr<Transaction> txn1(
+      NewTxn(WriteOptions(), TransactionOptions()));
+  // read_timestamp is not set
+  txn1->MultiGetForUpdate(ReadOptions(), handles_[1], keys.size(),
+                          keys.data(), values.data(), statuses.data());
+  for (const Status& s : statuses) {
+    ASSERT_TRUE(s.IsInvalidArgument());
+  }
+
+  // the read is validated at read_timestamp
+  ASSERT_OK(txn1->SetReadTimestampForValidation(23));
+  txn1->MultiGetForUpdate(ReadOptions(), handles_[1], keys.size(),
+                          keys.data(), values.data(), statuses.data());
+  for (const Status& s : statuses) {
+    ASSERT_TRUE(s.IsBusy());
+  }
+  ASSERT_OK(txn1->Rollback());
+  txn1.reset();
+
+  std::unique_ptr<Transaction> txn2(
+      NewTxn(WriteOptions(), TransactionOptions()));
+  ASSERT_OK(txn2->SetReadTimestampForValidation(25));
+  txn2->MultiGetForUpdate(ReadOptions(), handles_[1], keys.size(),
+                          keys.data(), values.data(), statuses.data(),
+                          /*exclusive=*/true, /*do_validate=*/false);
+  for (const Status& s : statuses) {
+    ASSERT_TRUE(s.IsInvalidArgument());
+  }
+
+  std::string ts_str;
+  PutFixed64(&ts_str, 24);
+  Slice ts = ts_str;
+  ReadOptions read_opts;
+  read_opts.timestamp = &ts;
+  txn2->MultiGetForUpdate(read_opts, handles_[1], keys.size(), keys.data(),
+                          values.data(), statuses.data());
+  for (const Status& s : statuses) {
+    ASSERT_TRUE(s.IsInvalidArgument());
+  }
+
+  txn2->MultiGetForUpdate(ReadOptions(), handles_[1], keys.size(),
+                          keys.data(), values.data(), statuses.data());
+  ASSERT_OK(statuses[0]);
+  ASSERT_EQ("value1", values[0]);
+  ASSERT_TRUE(statuses[1].IsNotFound());
+  ASSERT_OK(txn2->SetCommitTimestamp(26));
+  ASSERT_OK(txn2->Commit());
+  txn2.reset();
+}
+
 TEST_P(WriteCommittedTxnWithTsTest, BlindWrite) {
   ASSERT_OK(ReOpenNoDelete());
 